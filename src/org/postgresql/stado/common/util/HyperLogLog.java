@@ -0,0 +1,194 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.common.util;
+
+/**
+ * HyperLogLog sketch to estimate number of distinct values of 32-bit hashes.
+ * Low bits of the hash select a register, the register keeps the greatest
+ * rank, i.e. position of the leftmost 1-bit, of the rest of the hash bits.
+ * Sketches built from different parts of the data are merged by taking the
+ * maximum of every register, so the estimate of the union does not count
+ * values repeating in the parts twice.
+ */
+public class HyperLogLog {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private static final double TWO_POW_32 = 4294967296.0;
+
+    private final int precision;
+
+    private final byte[] registers;
+
+    /**
+     * @param precision
+     *            number of hash bits selecting a register, from 4 to 16
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("Invalid precision: "
+                    + precision);
+        }
+        this.precision = precision;
+        registers = new byte[1 << precision];
+    }
+
+    /**
+     * @return number of hash bits selecting a register
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return number of registers
+     */
+    public int getRegisterCount() {
+        return registers.length;
+    }
+
+    /**
+     * @return greatest rank a register may have
+     */
+    public int getMaxRank() {
+        return 32 - precision + 1;
+    }
+
+    /**
+     * Account a hash value
+     *
+     * @param hash
+     */
+    public void add(int hash) {
+        int index = hash & (registers.length - 1);
+        int rest = hash >>> precision;
+        int rank = rest == 0 ? getMaxRank() : Integer.numberOfLeadingZeros(rest)
+                - precision + 1;
+        update(index, rank);
+    }
+
+    /**
+     * Set register to the rank if it is greater than current value
+     *
+     * @param index
+     * @param rank
+     */
+    public void update(int index, int rank) {
+        if (rank > getMaxRank()) {
+            rank = getMaxRank();
+        }
+        if (registers[index] < rank) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merge other sketch into this one
+     *
+     * @param other
+     *            sketch of the same precision
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Precisions do not match");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * @return estimated number of distinct hashes
+     */
+    public double estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha;
+        switch (m) {
+        case 16:
+            alpha = 0.673;
+            break;
+        case 32:
+            alpha = 0.697;
+            break;
+        case 64:
+            alpha = 0.709;
+            break;
+        default:
+            alpha = 0.7213 / (1 + 1.079 / m);
+        }
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m) {
+            if (zeros > 0) {
+                // linear counting is more accurate for small cardinalities
+                estimate = m * Math.log((double) m / zeros);
+            }
+        } else if (estimate > TWO_POW_32 / 30) {
+            estimate = -TWO_POW_32 * Math.log(1 - estimate / TWO_POW_32);
+        }
+        return estimate;
+    }
+
+    /**
+     * @return registers encoded as a string, one character per register
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(registers.length);
+        for (byte register : registers) {
+            sb.append(DIGITS.charAt(register));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Restore the sketch from the result of {@link #toString()}
+     *
+     * @param encoded
+     * @return the sketch
+     */
+    public static HyperLogLog valueOf(String encoded) {
+        int precision = Integer.numberOfTrailingZeros(encoded.length());
+        if (encoded.length() != 1 << precision) {
+            throw new IllegalArgumentException("Invalid sketch: " + encoded);
+        }
+        HyperLogLog hll = new HyperLogLog(precision);
+        for (int i = 0; i < encoded.length(); i++) {
+            int rank = DIGITS.indexOf(encoded.charAt(i));
+            if (rank < 0) {
+                throw new IllegalArgumentException("Invalid sketch: "
+                        + encoded);
+            }
+            hll.update(i, rank);
+        }
+        return hll;
+    }
+}
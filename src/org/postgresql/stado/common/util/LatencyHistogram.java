@@ -0,0 +1,119 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.common.util;
+
+/**
+ * Histogram of durations with power of two buckets. Bucket i counts
+ * durations shorter than 2^i ms, the last one counts all longer durations.
+ * Class is thread-safe.
+ */
+public class LatencyHistogram {
+    public static final int DEFAULT_SIZE = 18;
+
+    private final long[] counts;
+
+    private long count = 0;
+
+    private long total = 0;
+
+    private long max = 0;
+
+    public LatencyHistogram() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size
+     *                number of buckets
+     */
+    public LatencyHistogram(int size) {
+        counts = new long[size];
+    }
+
+    /**
+     * Account duration
+     *
+     * @param millis
+     */
+    public synchronized void add(long millis) {
+        if (millis < 0) {
+            millis = 0;
+        }
+        int bucket = Math.min(64 - Long.numberOfLeadingZeros(millis),
+                counts.length - 1);
+        counts[bucket]++;
+        count++;
+        total += millis;
+        if (millis > max) {
+            max = millis;
+        }
+    }
+
+    /**
+     * @return copy of bucket counters
+     */
+    public synchronized long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * @return number of accounted durations
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return average duration, ms
+     */
+    public synchronized long getAverage() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * @return longest duration, ms
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * @return human readable representation, like
+     *         "count 10, avg 3 ms, max 9 ms, <4ms:6 <16ms:4"
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("count ").append(count).append(", avg ").append(
+                getAverage()).append(" ms, max ").append(max).append(" ms,");
+        int last = counts.length - 1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                sb.append(i == last ? " >=" : " <").append(
+                        1L << (i == last ? i - 1 : i)).append("ms:").append(
+                        counts[i]);
+            }
+        }
+        return sb.toString();
+    }
+}
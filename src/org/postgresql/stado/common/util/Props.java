@@ -133,6 +133,46 @@ public class Props {
     public static final boolean XDB_SQLCOMMAND_UPDATESTATISTICS_ROWCOUNT_QUOTED = Property.getBoolean(
             "xdb.sqlcommand.updatestatistics.rowcount.quoted", false);
 
+    /** Collect distribution statistics of columns (xsyscolstats) on ANALYZE */
+    public static final boolean XDB_ANALYZE_COLUMN_STATISTICS = Property.getBoolean(
+            "xdb.analyze.columnstatistics", true);
+
+    /** Number of tables ANALYZE processes concurrently */
+    public static final int XDB_ANALYZE_PARALLELISM = Property.getInt(
+            "xdb.analyze.parallelism", 4);
+
+    /** Max rate REBALANCE moves data at, KB per second, 0 - unlimited */
+    public static final int XDB_REBALANCE_BANDWIDTH = Property.getInt(
+            "xdb.rebalance.bandwidth", 0);
+
+    /** Number of moved rows REBALANCE deletes from source node at once */
+    public static final int XDB_REBALANCE_DELETE_BATCH = Property.getInt(
+            "xdb.rebalance.deletebatch", 1000);
+
+    /** Interval between REBALANCE progress reports, seconds */
+    public static final int XDB_REBALANCE_PROGRESS_INTERVAL = Property.getInt(
+            "xdb.rebalance.progressinterval", 10);
+
+    /** Threads dispatching incoming messages of a connector, by session */
+    public static final int XDB_CONNECTOR_DISPATCH_THREADS = Property.getInt(
+            "xdb.connector.dispatchthreads", 4);
+
+    /** Interval between connector dispatch statistics reports, seconds, 0 - off */
+    public static final int XDB_CONNECTOR_STATS_INTERVAL = Property.getInt(
+            "xdb.connector.statsinterval", 0);
+
+    /** Directory for catalog snapshot files loaded on startup, empty - off */
+    public static final String XDB_METADATA_SNAPSHOT_DIR = Property.get(
+            "xdb.metadata.snapshotdir", "");
+
+    /** Max number of parent keys cached by distributed foreign key checks, 0 - off */
+    public static final int XDB_FKCHECK_CACHE_SIZE = Property.getInt(
+            "xdb.fkcheck.cachesize", 0);
+
+    /** Max number of parent keys looked up by one batched foreign key check */
+    public static final int XDB_FKCHECK_BATCH_SIZE = Property.getInt(
+            "xdb.fkcheck.batchsize", 500);
+
     public static final String XDB_SQLCOMMAND_DROP_INDEX = Property.get(
             "xdb.sqlcommand.dropindex", "drop index {index_list}");
 
@@ -371,6 +411,13 @@ public class Props {
     public static final int XDB_LOADER_DATAPROCESSOR_BUFFER = Property.getInt(
             "xdb.loader.dataprocessor.buffer", 2048);
 
+    /**
+     * Size of data portions the loader reads from text and CSV sources and
+     * hands over to data processors
+     */
+    public static final int XDB_LOADER_CHUNK_SIZE = Property.getInt(
+            "xdb.loader.chunk.size", 0x40000); // 256K
+
     /**
      * Use extended copy API provided by JDBC driver
      */
@@ -404,6 +451,22 @@ public class Props {
     public static final int XDB_COMBINED_RESULTSET_BUFFER = Property.getInt(
             "xdb.combined.resultset.buffer", 1000);
 
+    /** Max number of result set packets a node may send ahead to the
+     * coordinator before they are requested */
+    public static final int XDB_RESULTSET_PREFETCH_PACKETS = Property.getInt(
+            "xdb.resultset.prefetch.packets", 4);
+
+    /** Approximate amount of memory in bytes the coordinator may use to
+     * aggregate input of the final aggregation step, the combiner temp table
+     * is used if it is exceeded. 0 disables coordinator aggregation */
+    public static final long XDB_COMBINER_HASH_AGGREGATE_MEMORY = Property.getLong(
+            "xdb.combiner.hashaggregate.memory", 8 * 1024 * 1024);
+
+    /** How Balancer picks a node to read replicated tables from:
+     * roundrobin, leastloaded, twochoices or IBalancerPolicy class name */
+    public static final String XDB_BALANCER_POLICY = Property.get(
+            "xdb.balancer.policy", "twochoices");
+
     // How to sort nulls (should match to backend)
     public static final int SORT_NULLS_AT_START = 0;
 
@@ -584,6 +647,11 @@ public class Props {
     public static final boolean XDB_ALLOW_MULTISTATEMENT_QUERY = Property.getBoolean(
             "xdb.allow.multistatement.query", true);
 
+    /** Max number of parsed and planned statements kept for reuse,
+     * 0 disables the plan cache */
+    public static final int XDB_PLAN_CACHE_SIZE = Property.getInt(
+            "xdb.plan_cache.size", 1000);
+
     /** Creates a new instance of Properties */
     public Props() {
 
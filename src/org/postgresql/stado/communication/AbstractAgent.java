@@ -26,9 +26,9 @@
 package org.postgresql.stado.communication;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.communication.message.NodeMessage;
@@ -50,9 +50,16 @@ public abstract class AbstractAgent implements IMessageListener {
 
     /**
      * Running processes needed to communicate to processes running on other
-     * nodes
+     * nodes. Messages are dispatched concurrently, so look up the target
+     * process without locking.
      */
-    private Map<Integer, ProcessContext> processes = new HashMap<Integer, ProcessContext>();
+    private Map<Integer, ProcessContext> processes = new ConcurrentHashMap<Integer, ProcessContext>();
+
+    /**
+     * Process registered without session ID, it receives messages without
+     * session. Kept apart since ConcurrentHashMap does not allow null keys.
+     */
+    private volatile ProcessContext sessionlessProcess = null;
 
     /**
      * Initializes Connector to CoordinatorAgent. Adds itself as listener to it.
@@ -166,9 +173,11 @@ public abstract class AbstractAgent implements IMessageListener {
         ProcessContext out = null;
         try {
 
-            synchronized (processes) {
-                out = processes.put(sessionID,
-                        new ProcessContext(listener));
+            if (sessionID == null) {
+                out = sessionlessProcess;
+                sessionlessProcess = new ProcessContext(listener);
+            } else {
+                out = processes.put(sessionID, new ProcessContext(listener));
             }
             return (out == null ? null : out.getListener());
 
@@ -190,7 +199,10 @@ public abstract class AbstractAgent implements IMessageListener {
         ProcessContext out = null;
         try {
 
-            synchronized (processes) {
+            if (sessionID == null) {
+                out = sessionlessProcess;
+                sessionlessProcess = null;
+            } else {
                 out = processes.remove(sessionID);
             }
             return (out == null ? null : out.getListener());
@@ -284,10 +296,9 @@ public abstract class AbstractAgent implements IMessageListener {
      * @return 
      */
     protected boolean dispatchMessage(NodeMessage message) {
-        ProcessContext target = null;
-        synchronized (processes) {
-            target = processes.get(message.getSessionID());
-        }
+        Integer sessionID = message.getSessionID();
+        ProcessContext target = sessionID == null ? sessionlessProcess
+                : processes.get(sessionID);
 
         if (target != null) {
             return target.incomingMessage(message);
@@ -348,27 +359,25 @@ public abstract class AbstractAgent implements IMessageListener {
 
     protected class ProcessAnalizer implements Runnable {
         public void run() {
-            synchronized (processes) {
-                for (Iterator<Map.Entry<Integer, ProcessContext>> it = processes
-                        .entrySet().iterator(); it.hasNext();) {
-                    Map.Entry<Integer, ProcessContext> entry = it.next();
-                    ProcessContext context = entry.getValue();
-                    if (context.getIdleTime() > MAX_PROCESS_IDLE) {
-                        if (getNodeID() == 0 || context.pinged) {
-                            NodeMessage message = NodeMessage
-                                    .getNodeMessage(NodeMessage.MSG_CONNECTION_END);
-                            message.setSourceNodeID(getNodeID());
-                            message.setTargetNodeID(new Integer(getNodeID()));
-                            message.setSessionID(entry.getKey());
-                            sendMessage(message);
-                        } else {
-                            NodeMessage message = NodeMessage
-                                    .getNodeMessage(NodeMessage.MSG_PING);
-                            message.setSourceNodeID(getNodeID());
-                            message.setTargetNodeID(new Integer(0));
-                            message.setSessionID(entry.getKey());
-                            sendMessage(message);
-                        }
+            for (Iterator<Map.Entry<Integer, ProcessContext>> it = processes
+                    .entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Integer, ProcessContext> entry = it.next();
+                ProcessContext context = entry.getValue();
+                if (context.getIdleTime() > MAX_PROCESS_IDLE) {
+                    if (getNodeID() == 0 || context.pinged) {
+                        NodeMessage message = NodeMessage
+                                .getNodeMessage(NodeMessage.MSG_CONNECTION_END);
+                        message.setSourceNodeID(getNodeID());
+                        message.setTargetNodeID(new Integer(getNodeID()));
+                        message.setSessionID(entry.getKey());
+                        sendMessage(message);
+                    } else {
+                        NodeMessage message = NodeMessage
+                                .getNodeMessage(NodeMessage.MSG_PING);
+                        message.setSourceNodeID(getNodeID());
+                        message.setTargetNodeID(new Integer(0));
+                        message.setSessionID(entry.getKey());
+                        sendMessage(message);
                     }
                 }
             }
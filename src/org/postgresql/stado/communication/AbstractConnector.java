@@ -24,8 +24,12 @@ package org.postgresql.stado.communication;
 
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.communication.message.NodeMessage;
 import org.postgresql.stado.exception.XDBBaseException;
@@ -38,6 +42,10 @@ import org.postgresql.stado.exception.XDBWrappedException;
  * and outgoing messages, message listeners and processes to serve actual
  * connections. Changes in 2.0: Use more effective queues from
  * java.util.concurrent package.
+ * Incoming messages are dispatched to the listeners by several threads, each
+ * serving its own subset of sessions, so messages of the same session are
+ * processed in order they have arrived, while sessions do not wait for each
+ * other.
  * 
  *  
  * @version 2.0
@@ -54,6 +62,29 @@ public abstract class AbstractConnector implements Runnable {
      */
     private Collection<IMessageListener> messageListeners;
 
+    /**
+     * Queues of the threads dispatching incoming messages, message goes to
+     * the queue selected by session ID. Null if messages are dispatched by
+     * the connector's thread.
+     */
+    private BlockingQueue<NodeMessage>[] dispatchQueues = null;
+
+    /**
+     * Queue of the thread dispatching messages without session, so they are
+     * processed one by one in order they have arrived. Null if messages are
+     * dispatched by the connector's thread.
+     */
+    private BlockingQueue<NodeMessage> sessionlessQueue = null;
+
+    // Dispatch statistics
+    private final AtomicLong dispatchCount = new AtomicLong();
+
+    private final AtomicLong dispatchTime = new AtomicLong();
+
+    private final AtomicLong maxDispatchTime = new AtomicLong();
+
+    private volatile int maxQueueDepth = 0;
+
     /**
      * Queue for incoming messages
      */
@@ -79,9 +110,10 @@ public abstract class AbstractConnector implements Runnable {
         logger.entering(method);
         try {
 
-            // Use HashSet because one instance of the connector may be shared
-            // to access different nodes, end for every node owner will register
-            messageListeners = new HashSet<IMessageListener>();
+            // Use Set because one instance of the connector may be shared
+            // to access different nodes, end for every node owner will register.
+            // Listeners are rarely changed, so iterate without locking
+            messageListeners = new CopyOnWriteArraySet<IMessageListener>();
             inQueue = new LinkedBlockingQueue<NodeMessage>();
             outQueue = new LinkedBlockingQueue<NodeMessage>();
 
@@ -99,9 +131,7 @@ public abstract class AbstractConnector implements Runnable {
         logger.entering(method, new Object[] { listener });
         try {
 
-            synchronized (messageListeners) {
-                messageListeners.add(listener);
-            }
+            messageListeners.add(listener);
 
         } finally {
             logger.exiting(method);
@@ -117,9 +147,7 @@ public abstract class AbstractConnector implements Runnable {
         logger.entering(method, new Object[] { listener });
         try {
 
-            synchronized (messageListeners) {
-                messageListeners.remove(listener);
-            }
+            messageListeners.remove(listener);
 
         } finally {
             logger.exiting(method);
@@ -135,16 +163,10 @@ public abstract class AbstractConnector implements Runnable {
         logger.entering(method, new Object[] { message });
         try {
 
-            IMessageListener[] copy = null;
-            synchronized (messageListeners) {
-                copy = messageListeners
-                        .toArray(new IMessageListener[messageListeners.size()]);
-            }
-
             boolean consumed = false;
 
-            for (int i = 0; i < copy.length; i++) {
-                consumed |= copy[i].processMessage(message);
+            for (IMessageListener listener : messageListeners) {
+                consumed |= listener.processMessage(message);
             }
 
             if (!consumed) {
@@ -215,15 +237,66 @@ public abstract class AbstractConnector implements Runnable {
         NodeMessage message = inQueue.poll(5,
                 java.util.concurrent.TimeUnit.SECONDS);
         if (message != null) {
+            if (message.getReceiveTime() == 0) {
+                message.setReceiveTime(System.nanoTime());
+            }
+            if (dispatchQueues == null) {
+                dispatch(message);
+            } else {
+                Integer sessionID = message.getSessionID();
+                int depth = inQueue.size();
+                BlockingQueue<NodeMessage> queue = sessionID == null ? sessionlessQueue
+                        : dispatchQueues[(sessionID.hashCode() & Integer.MAX_VALUE)
+                                % dispatchQueues.length];
+                queue.offer(message);
+                depth += queue.size();
+                if (depth > maxQueueDepth) {
+                    maxQueueDepth = depth;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pass the message to the listeners and update statistics
+     *
+     * @param message
+     */
+    private void dispatch(NodeMessage message) {
+        try {
             processMessage(message);
+        } finally {
+            long elapsed = System.nanoTime() - message.getReceiveTime();
+            dispatchCount.incrementAndGet();
+            dispatchTime.addAndGet(elapsed);
+            long max = maxDispatchTime.get();
+            while (elapsed > max
+                    && !maxDispatchTime.compareAndSet(max, elapsed)) {
+                max = maxDispatchTime.get();
+            }
         }
     }
 
     /**
      * When connector is running in separate thread processes messages from
-     * incoming queue until destroyed.
+     * incoming queue until destroyed. If configured, starts threads
+     * dispatching the messages, and just routes messages to them.
      */
+    @SuppressWarnings("unchecked")
     public void run() {
+        int threadCount = Props.XDB_CONNECTOR_DISPATCH_THREADS;
+        if (threadCount > 1 && dispatchQueues == null) {
+            BlockingQueue<NodeMessage>[] queues = new BlockingQueue[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                queues[i] = new LinkedBlockingQueue<NodeMessage>();
+                addWorkerThread(new DispatchingThread(queues[i]));
+            }
+            sessionlessQueue = new LinkedBlockingQueue<NodeMessage>();
+            addWorkerThread(new DispatchingThread(sessionlessQueue));
+            dispatchQueues = queues;
+        }
+        long statsInterval = Props.XDB_CONNECTOR_STATS_INTERVAL * 1000L;
+        long lastStats = System.currentTimeMillis();
         while (true) {
             try {
                 processIncomingMessage();
@@ -234,6 +307,73 @@ public abstract class AbstractConnector implements Runnable {
                 // Try and catch everything that may happen
                 logger.catching(t);
             }
+            if (statsInterval > 0
+                    && System.currentTimeMillis() - lastStats >= statsInterval) {
+                lastStats = System.currentTimeMillis();
+                logger.info(getStatistics());
+            }
+        }
+    }
+
+    /**
+     * @return number of messages dispatched, average and max time from
+     *         receiving a message until its listener returns, and max depth
+     *         of the incoming queues
+     */
+    public String getStatistics() {
+        long count = dispatchCount.get();
+        return getClass().getSimpleName() + " has dispatched " + count
+                + " messages"
+                + (dispatchQueues == null ? "" : " by "
+                        + (dispatchQueues.length + 1) + " threads")
+                + ", average latency "
+                + (count == 0 ? 0 : dispatchTime.get() / count / 1000)
+                + " us, max latency " + maxDispatchTime.get() / 1000
+                + " us, max queue depth " + maxQueueDepth
+                + ", current queue depth " + getQueueDepth();
+    }
+
+    /**
+     * @return number of incoming messages waiting to be dispatched
+     */
+    public int getQueueDepth() {
+        int depth = inQueue.size();
+        BlockingQueue<NodeMessage>[] queues = dispatchQueues;
+        if (queues != null) {
+            for (BlockingQueue<NodeMessage> queue : queues) {
+                depth += queue.size();
+            }
+            depth += sessionlessQueue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * Dispatches messages of a subset of sessions, or messages without
+     * session, in order they have arrived
+     */
+    private class DispatchingThread implements Runnable {
+        private BlockingQueue<NodeMessage> queue;
+
+        private DispatchingThread(BlockingQueue<NodeMessage> queue) {
+            this.queue = queue;
+        }
+
+        public void run() {
+            while (true) {
+                try {
+                    NodeMessage message = queue.poll(5, TimeUnit.SECONDS);
+                    if (message != null) {
+                        dispatch(message);
+                    }
+                } catch (InterruptedException ie) {
+                    // Normal shutdown
+                    break;
+                } catch (Throwable t) {
+                    // Try and catch everything that may happen
+                    logger.catching(t);
+                }
+            }
         }
     }
 
@@ -364,6 +504,7 @@ public abstract class AbstractConnector implements Runnable {
                             NodeMessage.CATEGORY_MESSAGE.info(getClass()
                                     .getName()
                                     + ": Received message: " + messages[i]);
+                            messages[i].setReceiveTime(System.nanoTime());
                             inQueue.offer(messages[i]);
                         }
                     }
@@ -0,0 +1,125 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.communication;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.postgresql.stado.common.util.Property;
+
+/**
+ * Pool of direct ByteBuffers of fixed size, used to encode messages before
+ * they are written to a channel. Direct buffers are expensive to allocate, so
+ * they are reused. Buffers of non-standard size are never pooled. Class is
+ * thread-safe.
+ */
+public class BufferPool {
+    public static final int DEFAULT_BUFFER_SIZE = Property.getInt(
+            "xdb.message.buffer.size", 65536);
+
+    public static final int DEFAULT_MAX_POOLED = Property.getInt(
+            "xdb.message.buffer.poolsize", 32);
+
+    private static final BufferPool defaultPool = new BufferPool(
+            DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED);
+
+    private final int bufferSize;
+
+    private final int maxPooled;
+
+    private final ConcurrentLinkedQueue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<ByteBuffer>();
+
+    private final AtomicInteger pooledCount = new AtomicInteger();
+
+    /**
+     * @return the pool shared by the connectors
+     */
+    public static BufferPool getDefault() {
+        return defaultPool;
+    }
+
+    /**
+     * @param bufferSize
+     *                size of the pooled buffers
+     * @param maxPooled
+     *                max number of free buffers kept in the pool
+     */
+    public BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * @return size of the pooled buffers
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Get cleared buffer of standard size
+     *
+     * @return the buffer
+     */
+    public ByteBuffer get() {
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        pooledCount.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Get cleared buffer at least of specified size
+     *
+     * @param minSize
+     * @return the buffer
+     */
+    public ByteBuffer get(int minSize) {
+        if (minSize <= bufferSize) {
+            return get();
+        }
+        return ByteBuffer.allocateDirect(minSize);
+    }
+
+    /**
+     * Return buffer to the pool. Caller must not access the buffer after it is
+     * released.
+     *
+     * @param buffer
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()
+                || buffer.capacity() != bufferSize) {
+            return;
+        }
+        if (pooledCount.incrementAndGet() <= maxPooled) {
+            freeBuffers.offer(buffer);
+        } else {
+            pooledCount.decrementAndGet();
+        }
+    }
+}
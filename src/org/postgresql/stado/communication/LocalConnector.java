@@ -104,6 +104,7 @@ public class LocalConnector extends AbstractConnector {
 
                 BlockingQueue<NodeMessage> destination = msgQTable.get(message
                         .getTargetNodeID());
+                message.setReceiveTime(System.nanoTime());
                 destination.offer(message);
 
             } finally {
@@ -28,6 +28,7 @@ package org.postgresql.stado.communication;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
@@ -43,6 +44,7 @@ import java.util.Map;
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.communication.message.MessageCodec;
 import org.postgresql.stado.communication.message.NodeMessage;
 import org.postgresql.stado.exception.XDBServerException;
 
@@ -88,6 +90,11 @@ public class SocketConnector extends AbstractConnector {
 
     private Selector serverSelector = null;
 
+    /**
+     * Buffers to encode outgoing messages
+     */
+    private BufferPool bufferPool = BufferPool.getDefault();
+
     /**
      *
      * @param nodeID
@@ -517,14 +524,71 @@ public class SocketConnector extends AbstractConnector {
             try {
 
                 logger.debug("Writing " + msg + " to " + ch);
-                byte[] msgBytes = NodeMessage.getBytes(msg);
-                byte[] buf = new byte[4 + msgBytes.length];
-                buf[0] = (byte) ((msgBytes.length >> 24) & 0xFF);
-                buf[1] = (byte) ((msgBytes.length >> 16) & 0xFF);
-                buf[2] = (byte) ((msgBytes.length >> 8) & 0xFF);
-                buf[3] = (byte) (msgBytes.length & 0xFF);
-                System.arraycopy(msgBytes, 0, buf, 4, msgBytes.length);
-                ByteBuffer bb = ByteBuffer.wrap(buf);
+                if (!MessageCodec.ENABLED) {
+                    byte[] msgBytes = NodeMessage.getBytes(msg);
+                    byte[] buf = new byte[4 + msgBytes.length];
+                    buf[0] = (byte) ((msgBytes.length >> 24) & 0xFF);
+                    buf[1] = (byte) ((msgBytes.length >> 16) & 0xFF);
+                    buf[2] = (byte) ((msgBytes.length >> 8) & 0xFF);
+                    buf[3] = (byte) (msgBytes.length & 0xFF);
+                    System.arraycopy(msgBytes, 0, buf, 4, msgBytes.length);
+                    writeFully(ch, ByteBuffer.wrap(buf));
+                    return;
+                }
+                // Encode directly into pooled buffer, leaving room for size.
+                // Bulk data, like result set packets, is not copied into the
+                // buffer, it is written from where it is with gathering write.
+                // The pooled buffer is owned by this method and is released
+                // once written, message data is owned by the message.
+                ByteBuffer[] trailingData = MessageCodec.getTrailingData(msg);
+                ByteBuffer bb = bufferPool.get();
+                try {
+                    while (true) {
+                        try {
+                            bb.position(4);
+                            MessageCodec.encodeHead(msg, bb);
+                            break;
+                        } catch (BufferOverflowException e) {
+                            int size = bb.capacity() * 2;
+                            bufferPool.release(bb);
+                            bb = null;
+                            bb = bufferPool.get(size);
+                        }
+                    }
+                    bb.putInt(0, bb.position() - 4
+                            + MessageCodec.getLength(trailingData));
+                    bb.flip();
+                    if (trailingData == null) {
+                        writeFully(ch, bb);
+                    } else {
+                        ByteBuffer[] buffers = new ByteBuffer[trailingData.length + 1];
+                        buffers[0] = bb;
+                        for (int i = 0; i < trailingData.length; i++) {
+                            buffers[i + 1] = trailingData[i].duplicate();
+                        }
+                        writeFully(ch, buffers);
+                    }
+                } finally {
+                    bufferPool.release(bb);
+                }
+
+            } finally {
+                logger.exiting(method);
+            }
+        }
+
+        /**
+         *
+         * @param ch
+         * @param bb
+         * @throws IOException
+         */
+        private void writeFully(SocketChannel ch, ByteBuffer bb)
+                throws IOException {
+            final String method = "writeFully";
+            logger.entering(method, new Object[] { ch });
+            try {
+
                 ch.write(bb);
                 while (bb.hasRemaining()) {
                     ch.write(bb);
@@ -535,6 +599,30 @@ public class SocketConnector extends AbstractConnector {
             }
         }
 
+        /**
+         * Gathering write of the buffers
+         *
+         * @param ch
+         * @param buffers
+         * @throws IOException
+         */
+        private void writeFully(SocketChannel ch, ByteBuffer[] buffers)
+                throws IOException {
+            final String method = "writeFully";
+            logger.entering(method, new Object[] { ch });
+            try {
+
+                ByteBuffer last = buffers[buffers.length - 1];
+                ch.write(buffers);
+                while (last.hasRemaining()) {
+                    ch.write(buffers);
+                }
+
+            } finally {
+                logger.exiting(method);
+            }
+        }
+
         /**
          *
          * @param message
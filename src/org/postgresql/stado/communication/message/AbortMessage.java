@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import org.postgresql.stado.exception.XDBBaseException;
 
 /**
@@ -60,4 +63,14 @@ public class AbortMessage extends NodeMessage {
     public void setCause(XDBBaseException ex) {
         this.ex = ex;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        MessageCodec.putObject(buffer, ex);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        ex = (XDBBaseException) MessageCodec.getObject(buffer);
+    }
 }
@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * 
  * 
@@ -55,4 +58,27 @@ public class BatchResultMessage extends NodeMessage {
     public int[] getBatchResult() {
         return batchResult == null ? new int[0] : batchResult;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        if (batchResult == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(batchResult.length);
+            for (int result : batchResult) {
+                buffer.putInt(result);
+            }
+        }
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count >= 0) {
+            batchResult = new int[count];
+            for (int i = 0; i < count; i++) {
+                batchResult[i] = buffer.getInt();
+            }
+        }
+    }
 }
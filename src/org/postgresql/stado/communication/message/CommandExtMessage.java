@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * 
  * 
@@ -54,4 +57,16 @@ public class CommandExtMessage extends CommandMessage {
     public void setAutocommit(boolean autocommit) {
         this.autocommit = autocommit;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        super.writeBody(buffer);
+        buffer.put((byte) (autocommit ? 1 : 0));
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        super.readBody(buffer);
+        autocommit = buffer.get() != 0;
+    }
 }
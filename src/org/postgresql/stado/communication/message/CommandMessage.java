@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * 
  * 
@@ -78,4 +81,14 @@ public class CommandMessage extends NodeMessage {
     public String getTargetTable() {
         return command;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        MessageCodec.putString(buffer, command);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        command = MessageCodec.getString(buffer);
+    }
 }
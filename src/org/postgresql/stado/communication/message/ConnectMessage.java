@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * 
  * 
@@ -186,4 +189,30 @@ public class ConnectMessage extends CommandMessage {
     public void setTimeOut(long timeOut) {
         this.timeOut = timeOut;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        super.writeBody(buffer);
+        MessageCodec.putString(buffer, database);
+        MessageCodec.putString(buffer, jdbcDriver);
+        MessageCodec.putString(buffer, jdbcString);
+        MessageCodec.putString(buffer, jdbcUser);
+        MessageCodec.putString(buffer, jdbcPassword);
+        buffer.putInt(maxConns);
+        buffer.putInt(minConns);
+        buffer.putLong(timeOut);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        super.readBody(buffer);
+        database = MessageCodec.getString(buffer);
+        jdbcDriver = MessageCodec.getString(buffer);
+        jdbcString = MessageCodec.getString(buffer);
+        jdbcUser = MessageCodec.getString(buffer);
+        jdbcPassword = MessageCodec.getString(buffer);
+        maxConns = buffer.getInt();
+        minConns = buffer.getInt();
+        timeOut = buffer.getLong();
+    }
 }
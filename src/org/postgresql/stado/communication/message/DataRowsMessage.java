@@ -25,6 +25,8 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -140,4 +142,42 @@ public class DataRowsMessage extends NodeMessage {
         }
         return message;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        buffer.putLong(dataSeqNo);
+        buffer.putInt(rowCount);
+        buffer.putInt(rowSize);
+        buffer.put((byte) (autocommit ? 1 : 0));
+        if (rowData == null) {
+            buffer.putInt(-1);
+        } else {
+            // Array is preallocated, do not send trailing empty slots
+            int used = rowData.length;
+            while (used > 0 && rowData[used - 1] == null) {
+                used--;
+            }
+            buffer.putInt(rowData.length);
+            buffer.putInt(used);
+            for (int i = 0; i < used; i++) {
+                MessageCodec.putString(buffer, rowData[i]);
+            }
+        }
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        dataSeqNo = buffer.getLong();
+        rowCount = buffer.getInt();
+        rowSize = buffer.getInt();
+        autocommit = buffer.get() != 0;
+        int length = buffer.getInt();
+        if (length >= 0) {
+            rowData = new String[length];
+            int used = buffer.getInt();
+            for (int i = 0; i < used; i++) {
+                rowData[i] = MessageCodec.getString(buffer);
+            }
+        }
+    }
 }
@@ -0,0 +1,469 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.communication.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.postgresql.stado.common.util.Property;
+import org.postgresql.stado.common.util.XLogger;
+
+/**
+ * Compact binary encoding of NodeMessages. Message header is written here,
+ * message specific fields are written by NodeMessage.writeBody() and read by
+ * NodeMessage.readBody() overridden in the subclasses, so no class
+ * descriptors are sent over the wire. Complex object graphs (StepDetail,
+ * exceptions) are still embedded as serialized objects.
+ * <p>
+ * Layout: format (1 byte), version (1 byte), class tag (1 byte), message type,
+ * source node, request id (4 bytes each), session id (1 byte null flag + 4
+ * bytes), target count (4 bytes, -1 for null) and targets, then the body.
+ *
+ * @see NodeMessage#getBytes(NodeMessage)
+ * @see NodeMessage#decodeBytes(byte[], int, int)
+ */
+public final class MessageCodec {
+    private static final XLogger logger = XLogger.getLogger(MessageCodec.class);
+
+    /**
+     * First byte of the encoded message. Values 0 and 1 are used by plain and
+     * compressed Java serialization.
+     */
+    public static final byte FORMAT_BINARY = 2;
+
+    /**
+     * Version of binary layout, increment on incompatible changes
+     */
+    public static final byte VERSION = 2;
+
+    /**
+     * If false messages are sent using Java serialization, as before. Both
+     * formats are always accepted on receive.
+     */
+    public static final boolean ENABLED = Property.getBoolean(
+            "xdb.message.binary", true);
+
+    /**
+     * Initial size of the buffer to encode into, doubled while message does
+     * not fit
+     */
+    public static final int INITIAL_SIZE = 8192;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final byte TAG_NODE = 0;
+
+    private static final byte TAG_ABORT = 1;
+
+    private static final byte TAG_BATCH_RESULT = 2;
+
+    private static final byte TAG_COMMAND = 3;
+
+    private static final byte TAG_COMMAND_EXT = 4;
+
+    private static final byte TAG_CONNECT = 5;
+
+    private static final byte TAG_DATA_ROWS = 6;
+
+    private static final byte TAG_RESULT_SET = 7;
+
+    private static final byte TAG_SEND_ROWS = 8;
+
+    private static final byte TAG_STEP_DETAIL = 9;
+
+    private static final byte TAG_UPDATE_RESULT = 10;
+
+    private MessageCodec() {
+    }
+
+    private static byte getTag(NodeMessage message) throws IOException {
+        Class<?> clazz = message.getClass();
+        if (clazz == NodeMessage.class) {
+            return TAG_NODE;
+        } else if (clazz == DataRowsMessage.class) {
+            return TAG_DATA_ROWS;
+        } else if (clazz == ResultSetMessage.class) {
+            return TAG_RESULT_SET;
+        } else if (clazz == StepDetailMessage.class) {
+            return TAG_STEP_DETAIL;
+        } else if (clazz == CommandMessage.class) {
+            return TAG_COMMAND;
+        } else if (clazz == CommandExtMessage.class) {
+            return TAG_COMMAND_EXT;
+        } else if (clazz == UpdateResultMessage.class) {
+            return TAG_UPDATE_RESULT;
+        } else if (clazz == BatchResultMessage.class) {
+            return TAG_BATCH_RESULT;
+        } else if (clazz == AbortMessage.class) {
+            return TAG_ABORT;
+        } else if (clazz == ConnectMessage.class) {
+            return TAG_CONNECT;
+        } else if (clazz == SendRowsMessage.class) {
+            return TAG_SEND_ROWS;
+        }
+        throw new IOException("Can not encode message " + message);
+    }
+
+    private static NodeMessage createMessage(byte tag, int messageType)
+            throws IOException {
+        switch (tag) {
+        case TAG_NODE:
+            return new NodeMessage(messageType);
+        case TAG_ABORT:
+            return new AbortMessage(messageType);
+        case TAG_BATCH_RESULT:
+            return new BatchResultMessage(messageType);
+        case TAG_COMMAND:
+            return new CommandMessage(messageType);
+        case TAG_COMMAND_EXT:
+            return new CommandExtMessage(messageType);
+        case TAG_CONNECT:
+            return new ConnectMessage(messageType);
+        case TAG_DATA_ROWS:
+            return new DataRowsMessage(messageType);
+        case TAG_RESULT_SET:
+            return new ResultSetMessage(messageType);
+        case TAG_SEND_ROWS:
+            return new SendRowsMessage(messageType);
+        case TAG_STEP_DETAIL:
+            return new StepDetailMessage(messageType);
+        case TAG_UPDATE_RESULT:
+            return new UpdateResultMessage(messageType);
+        default:
+            throw new IOException("Unknown message class tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes the message to the buffer starting from current position.
+     * Trailing data of the message is copied into the buffer.
+     *
+     * @param message
+     *                the message to encode
+     * @param buffer
+     *                the target buffer
+     * @throws java.nio.BufferOverflowException
+     *                 if message does not fit into the buffer, caller may
+     *                 retry with larger buffer
+     * @throws IOException
+     *                 if the message can not be encoded
+     */
+    public static void encode(NodeMessage message, ByteBuffer buffer)
+            throws IOException {
+        encodeHead(message, buffer);
+        ByteBuffer[] trailingData = message.getTrailingData();
+        if (trailingData != null) {
+            for (ByteBuffer data : trailingData) {
+                buffer.put(data.duplicate());
+            }
+        }
+    }
+
+    /**
+     * Writes the message to the buffer starting from current position,
+     * except for the trailing data. Caller is responsible for sending the
+     * trailing data right after the buffer content.
+     *
+     * @param message
+     *                the message to encode
+     * @param buffer
+     *                the target buffer
+     * @throws java.nio.BufferOverflowException
+     *                 if message does not fit into the buffer, caller may
+     *                 retry with larger buffer
+     * @throws IOException
+     *                 if the message can not be encoded
+     * @see #getTrailingData(NodeMessage)
+     */
+    public static void encodeHead(NodeMessage message, ByteBuffer buffer)
+            throws IOException {
+        buffer.put(FORMAT_BINARY);
+        buffer.put(VERSION);
+        buffer.put(getTag(message));
+        buffer.putInt(message.getMessageType());
+        buffer.putInt(message.getSourceNodeID());
+        buffer.putInt(message.getRequestId());
+        Integer sessionID = message.getSessionID();
+        if (sessionID == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1);
+            buffer.putInt(sessionID.intValue());
+        }
+        Integer[] targets = message.targetNodeIDs;
+        if (targets == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(targets.length);
+            for (Integer target : targets) {
+                buffer.putInt(target.intValue());
+            }
+        }
+        message.writeBody(buffer);
+    }
+
+    /**
+     * Returns bulk data the message carries after the fields written by
+     * encodeHead(). Buffers are owned by the message, caller should write
+     * their duplicates.
+     *
+     * @param message
+     * @return the buffers or null
+     */
+    public static ByteBuffer[] getTrailingData(NodeMessage message) {
+        return message.getTrailingData();
+    }
+
+    /**
+     * @param buffers
+     * @return total number of bytes remaining in the buffers, 0 if the array
+     *         is null
+     */
+    public static int getLength(ByteBuffer[] buffers) {
+        int length = 0;
+        if (buffers != null) {
+            for (ByteBuffer buffer : buffers) {
+                length += buffer.remaining();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Reads the message from the buffer starting from current position.
+     * Decoded message may refer the backing array of the buffer, so the
+     * array must not be reused.
+     *
+     * @param buffer
+     *                the buffer holding encoded message
+     * @return the message
+     * @throws IOException
+     *                 if buffer does not contain valid message
+     */
+    public static NodeMessage decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.get() != FORMAT_BINARY) {
+                throw new IOException("Invalid message format");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported message version: "
+                        + version);
+            }
+            byte tag = buffer.get();
+            NodeMessage message = createMessage(tag, buffer.getInt());
+            message.setSourceNodeID(buffer.getInt());
+            message.setRequestId(buffer.getInt());
+            if (buffer.get() != 0) {
+                message.setSessionID(buffer.getInt());
+            }
+            int count = buffer.getInt();
+            if (count != NULL_LENGTH) {
+                Integer[] targets = new Integer[count];
+                for (int i = 0; i < count; i++) {
+                    targets[i] = buffer.getInt();
+                }
+                message.targetNodeIDs = targets;
+            }
+            message.readBody(buffer);
+            return message;
+        } catch (BufferUnderflowException e) {
+            logger.catching(e);
+            throw new IOException("Truncated message");
+        }
+    }
+
+    /**
+     * Encodes the message into a new byte array
+     *
+     * @param message
+     * @return the encoded message
+     * @throws IOException
+     */
+    public static byte[] toBytes(NodeMessage message) throws IOException {
+        int size = INITIAL_SIZE + getLength(message.getTrailingData());
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            try {
+                encode(message, buffer);
+                byte[] result = new byte[buffer.position()];
+                System.arraycopy(buffer.array(), 0, result, 0, result.length);
+                return result;
+            } catch (java.nio.BufferOverflowException e) {
+                size *= 2;
+            }
+        }
+    }
+
+    /**
+     * Writes string as length in bytes followed by the characters encoded
+     * like in DataOutput.writeUTF(), but without length limit. No intermediate
+     * arrays are allocated.
+     *
+     * @param buffer
+     * @param value
+     */
+    public static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        int lengthPos = buffer.position();
+        buffer.putInt(0);
+        int len = value.length();
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c > 0 && c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        buffer.putInt(lengthPos, buffer.position() - lengthPos - 4);
+    }
+
+    /**
+     * Reads string written by putString()
+     *
+     * @param buffer
+     * @return the string
+     * @throws IOException
+     */
+    public static String getString(ByteBuffer buffer) throws IOException {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        char[] chars = new char[size];
+        int count = 0;
+        int end = buffer.position() + size;
+        while (buffer.position() < end) {
+            int b = buffer.get() & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get() & 0x3F));
+            } else if ((b & 0xF0) == 0xE0) {
+                chars[count++] = (char) (((b & 0x0F) << 12)
+                        | ((buffer.get() & 0x3F) << 6) | (buffer.get() & 0x3F));
+            } else {
+                throw new IOException("Malformed string in message");
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Writes byte array as length followed by the bytes
+     *
+     * @param buffer
+     * @param value
+     */
+    public static void putBytes(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    /**
+     * Reads byte array written by putBytes()
+     *
+     * @param buffer
+     * @return the bytes
+     */
+    public static byte[] getBytes(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[size];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Writes object using Java serialization. Intended for rare messages
+     * carrying complex object graphs, like StepDetail or exceptions.
+     *
+     * @param buffer
+     * @param value
+     * @throws IOException
+     */
+    public static void putObject(ByteBuffer buffer, Object value)
+            throws IOException {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        try {
+            oos.writeObject(value);
+        } catch (NotSerializableException e) {
+            logger.catching(e);
+            throw new IOException("Can not serialize " + value);
+        } finally {
+            oos.close();
+        }
+        putBytes(buffer, baos.toByteArray());
+    }
+
+    /**
+     * Reads object written by putObject()
+     *
+     * @param buffer
+     * @return the object
+     * @throws IOException
+     */
+    public static Object getObject(ByteBuffer buffer) throws IOException {
+        byte[] data = getBytes(buffer);
+        if (data == null) {
+            return null;
+        }
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(
+                data));
+        try {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            logger.catching(e);
+            throw new IOException("Can not deserialize object: "
+                    + e.getMessage());
+        } finally {
+            ois.close();
+        }
+    }
+}
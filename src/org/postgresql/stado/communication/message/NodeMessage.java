@@ -29,6 +29,7 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +39,7 @@ import java.util.zip.ZipOutputStream;
 
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.NodeResultSetImpl;
+import org.postgresql.stado.engine.io.XMessage;
 import org.postgresql.stado.exception.XDBBaseException;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.planner.StepDetail;
@@ -287,6 +289,9 @@ public class NodeMessage implements Serializable, Cloneable {
 
     public static final byte[] getBytes(NodeMessage message,
             int compressThreshold) throws IOException {
+        if (MessageCodec.ENABLED) {
+            return MessageCodec.toBytes(message);
+        }
         byte[] aMessage = null;
         // TODO find out good initial size
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -345,6 +350,9 @@ public class NodeMessage implements Serializable, Cloneable {
     public static final NodeMessage decodeBytes(byte[] bytes, int offset,
             int length)
             throws IOException, ClassNotFoundException {
+        if (bytes[offset] == MessageCodec.FORMAT_BINARY) {
+            return MessageCodec.decode(ByteBuffer.wrap(bytes, offset, length));
+        }
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes, offset + 1,
                 length - 1);
         try {
@@ -674,6 +682,43 @@ public class NodeMessage implements Serializable, Cloneable {
         return this.requestId;
     }
 
+    /**
+     * Writes message specific fields in binary form. Common header is
+     * written by MessageCodec, subclasses override to add their own fields.
+     *
+     * @param buffer
+     *                the target buffer
+     * @throws IOException
+     * @see MessageCodec#encode(NodeMessage, ByteBuffer)
+     */
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+    }
+
+    /**
+     * Returns bulk data to be written right after the fields written by
+     * writeBody(). Connectors may send these buffers as is, with gathering
+     * write, instead of copying them into the message buffer. Returned
+     * buffers are owned by the message, callers must use duplicates to
+     * change position.
+     *
+     * @return the buffers or null if message does not have trailing data
+     * @see MessageCodec#getTrailingData(NodeMessage)
+     */
+    protected ByteBuffer[] getTrailingData() {
+        return null;
+    }
+
+    /**
+     * Reads message specific fields written by writeBody()
+     *
+     * @param buffer
+     *                the source buffer
+     * @throws IOException
+     * @see MessageCodec#decode(ByteBuffer)
+     */
+    protected void readBody(ByteBuffer buffer) throws IOException {
+    }
+
     /*
      * To track message status in a Connector
      */
@@ -683,6 +728,20 @@ public class NodeMessage implements Serializable, Cloneable {
         return ++sendAttempt;
     }
 
+    /*
+     * When the message was put to incoming queue of a Connector, to measure
+     * dispatch latency
+     */
+    private transient long receiveTime = 0;
+
+    public long getReceiveTime() {
+        return receiveTime;
+    }
+
+    public void setReceiveTime(long receiveTime) {
+        this.receiveTime = receiveTime;
+    }
+
     /*
      * Methods for message carrying result set MSG_EXEC_QUERY_RESULT
      * MSG_EXECUTE_STEP_SENT
@@ -713,6 +772,16 @@ public class NodeMessage implements Serializable, Cloneable {
                 "Method is not implemented: setResultSetData(byte[])");
     }
 
+    public void setResultSetPacket(XMessage packet) {
+        throw new XDBServerException(
+                "Method is not implemented: setResultSetPacket(XMessage)");
+    }
+
+    public void readResultSetPacket(XMessage packet) {
+        throw new XDBServerException(
+                "Method is not implemented: readResultSetPacket(XMessage)");
+    }
+
     public boolean isResultSetHasMoreRows() {
         throw new XDBServerException(
                 "Method is not implemented: isResultSetHasMoreRows()");
@@ -723,6 +792,16 @@ public class NodeMessage implements Serializable, Cloneable {
                 "Method is not implemented: setResultSetHasMoreRows(boolean)");
     }
 
+    public int getResultSetCredit() {
+        throw new XDBServerException(
+                "Method is not implemented: getResultSetCredit()");
+    }
+
+    public void setResultSetCredit(int credit) {
+        throw new XDBServerException(
+                "Method is not implemented: setResultSetCredit(int)");
+    }
+
     /*
      * Methods for message carrying step detail MSG_SEND_DATA
      * MSG_EXECUTE_STEP_RUN MSG_EXECUTE_STEP_INIT
@@ -25,10 +25,13 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.SQLException;
 
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.NodeResultSetImpl;
+import org.postgresql.stado.engine.io.XMessage;
 
 
 /**
@@ -47,7 +50,27 @@ public class ResultSetMessage extends NodeMessage {
 
     private boolean resultSetHasMoreRows;
 
-    private byte[] resultSetData = null;
+    /**
+     * Number of packets the receiver is ready to accept, set in
+     * MSG_RESULT_ROWS_REQUEST
+     */
+    private int resultSetCredit = 0;
+
+    /**
+     * Header of the result set packet, null if message does not have packet
+     */
+    private byte[] packetHeader = null;
+
+    /**
+     * Array holding body of the result set packet. The array is shared with
+     * the XMessage the packet came from, or with the buffer the message has
+     * been decoded from, and is never modified.
+     */
+    private byte[] packetBody = null;
+
+    private int packetOffset = 0;
+
+    private int packetLength = 0;
 
     /** Parameterless constructor required for serialization */
     public ResultSetMessage() {
@@ -100,13 +123,114 @@ public class ResultSetMessage extends NodeMessage {
         resultSetHasMoreRows = value;
     }
 
+    @Override
+    public int getResultSetCredit() {
+        return resultSetCredit;
+    }
+
+    @Override
+    public void setResultSetCredit(int credit) {
+        resultSetCredit = credit;
+    }
+
+    /**
+     * @return result set packet, header followed by body, in newly allocated
+     *         array
+     */
     @Override
     public byte[] getResultSetData() {
+        if (packetHeader == null) {
+            return null;
+        }
+        byte[] resultSetData = new byte[XMessage.HEADER_SIZE + packetLength];
+        System.arraycopy(packetHeader, 0, resultSetData, 0,
+                XMessage.HEADER_SIZE);
+        System.arraycopy(packetBody, packetOffset, resultSetData,
+                XMessage.HEADER_SIZE, packetLength);
         return resultSetData;
     }
 
     @Override
     public void setResultSetData(byte[] resultSetData) {
-        this.resultSetData = resultSetData;
+        if (resultSetData == null) {
+            packetHeader = null;
+            packetBody = null;
+            packetOffset = 0;
+            packetLength = 0;
+        } else {
+            packetHeader = new byte[XMessage.HEADER_SIZE];
+            System.arraycopy(resultSetData, 0, packetHeader, 0,
+                    XMessage.HEADER_SIZE);
+            packetBody = resultSetData;
+            packetOffset = XMessage.HEADER_SIZE;
+            packetLength = resultSetData.length - XMessage.HEADER_SIZE;
+        }
+    }
+
+    /**
+     * Takes over result set packet without copying. The message becomes the
+     * owner of the packet body, caller must not modify the packet afterwards.
+     */
+    @Override
+    public void setResultSetPacket(XMessage packet) {
+        packetHeader = packet.getHeaderBytes();
+        packetBody = packet.getMessage();
+        packetOffset = 0;
+        packetLength = packet.getPacketLength() - XMessage.HEADER_SIZE;
+    }
+
+    /**
+     * Sets up the target to read the result set packet. Body is not copied,
+     * the target reads it from the array held by this message.
+     */
+    @Override
+    public void readResultSetPacket(XMessage packet) {
+        packet.setHeaderBytes(packetHeader);
+        packet.setMessage(packetBody, packetOffset);
+    }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        MessageCodec.putString(buffer, resultSetID);
+        buffer.put((byte) (resultSetHasMoreRows ? 1 : 0));
+        buffer.putInt(resultSetCredit);
+        // Same layout as MessageCodec.putBytes(), packet itself is appended
+        // as trailing data
+        buffer.putInt(packetHeader == null ? -1 : XMessage.HEADER_SIZE
+                + packetLength);
+    }
+
+    @Override
+    protected ByteBuffer[] getTrailingData() {
+        if (packetHeader == null) {
+            return null;
+        }
+        return new ByteBuffer[] { ByteBuffer.wrap(packetHeader),
+                ByteBuffer.wrap(packetBody, packetOffset, packetLength) };
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        resultSetID = MessageCodec.getString(buffer);
+        resultSetHasMoreRows = buffer.get() != 0;
+        resultSetCredit = buffer.getInt();
+        int size = buffer.getInt();
+        if (size < 0) {
+            setResultSetData(null);
+            return;
+        }
+        packetHeader = new byte[XMessage.HEADER_SIZE];
+        buffer.get(packetHeader);
+        packetLength = size - XMessage.HEADER_SIZE;
+        if (buffer.hasArray()) {
+            // Refer the packet in place, decoded buffer is not reused
+            packetBody = buffer.array();
+            packetOffset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + packetLength);
+        } else {
+            packetBody = new byte[packetLength];
+            packetOffset = 0;
+            buffer.get(packetBody);
+        }
     }
 }
@@ -27,6 +27,9 @@
 
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  *
  * 
@@ -82,5 +85,18 @@ public class SendRowsMessage extends NodeMessage {
     {
         return destNodeForRows;
     }      
-}
 
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        buffer.put((byte) (isStartMessage ? 1 : 0));
+        buffer.putLong(numRowsSent);
+        buffer.putInt(destNodeForRows);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        isStartMessage = buffer.get() != 0;
+        numRowsSent = buffer.getLong();
+        destNodeForRows = buffer.getInt();
+    }
+}
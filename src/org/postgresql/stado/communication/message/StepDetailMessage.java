@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import org.postgresql.stado.planner.StepDetail;
 
 /**
@@ -97,4 +100,16 @@ public class StepDetailMessage extends NodeMessage {
             }
         }
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        // StepDetail is a complex object graph, it is not worth to encode it
+        // manually. It is sent once per step, so it is not critical.
+        MessageCodec.putObject(buffer, aStepDetail);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        aStepDetail = (StepDetail) MessageCodec.getObject(buffer);
+    }
 }
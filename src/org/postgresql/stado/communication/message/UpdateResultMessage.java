@@ -25,6 +25,9 @@
  */
 package org.postgresql.stado.communication.message;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * 
  * 
@@ -57,4 +60,14 @@ public class UpdateResultMessage extends NodeMessage {
     public int getNumRowsResult() {
         return numRowsResult;
     }
+
+    @Override
+    protected void writeBody(ByteBuffer buffer) throws IOException {
+        buffer.putInt(numRowsResult);
+    }
+
+    @Override
+    protected void readBody(ByteBuffer buffer) throws IOException {
+        numRowsResult = buffer.getInt();
+    }
 }
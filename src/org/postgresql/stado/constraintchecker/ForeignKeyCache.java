@@ -0,0 +1,271 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * ForeignKeyCache.java
+ * 
+ *  
+ */
+package org.postgresql.stado.constraintchecker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.metadata.SysTable;
+
+
+/**
+ * Bounded LRU cache of parent keys recently found by distributed foreign key
+ * checks. Every parent table has a generation number, which is incremented
+ * when rows of the table are deleted or referenced keys are updated, and
+ * again when the modifying transaction ends. Entries of previous generations
+ * are never hit and eventually evicted. While a table has uncommitted
+ * modifications no keys of it are cached, since other sessions may still
+ * see rows which are being deleted.
+ * Keys found inside a transaction are held per session until the transaction
+ * is committed, since they may be inserted by that transaction.
+ */
+public final class ForeignKeyCache {
+    private static final int CACHE_SIZE = Props.XDB_FKCHECK_CACHE_SIZE;
+
+    private static final Map<String, Long> generations = new HashMap<String, Long>();
+
+    private static final Map<List<Object>, Boolean> cache = new LinkedHashMap<List<Object>, Boolean>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<List<Object>, Boolean> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private static final Map<XDBSessionContext, List<List<Object>>> pending = new HashMap<XDBSessionContext, List<List<Object>>>();
+
+    /**
+     * Parent tables modified by the session in current transaction
+     */
+    private static final Map<XDBSessionContext, Set<String>> modifiedTables = new HashMap<XDBSessionContext, Set<String>>();
+
+    /**
+     * Number of sessions having uncommitted modifications of the table
+     */
+    private static final Map<String, Integer> modifiers = new HashMap<String, Integer>();
+
+    private ForeignKeyCache() {
+    }
+
+    /**
+     * 
+     * @return true if caching of parent keys is configured
+     */
+    public static boolean isEnabled() {
+        return CACHE_SIZE > 0;
+    }
+
+    private static String getTableKey(SysTable table) {
+        return table.getSysDatabase().getDbname() + "." + table.getTableId();
+    }
+
+    private static List<Object> getEntry(String tableKey, long generation,
+            List<String> key) {
+        List<Object> entry = new ArrayList<Object>(key.size() + 2);
+        entry.add(tableKey);
+        entry.add(generation);
+        entry.addAll(key);
+        return entry;
+    }
+
+    /**
+     * Should be called before parent table is queried, and passed to
+     * {@link #add(XDBSessionContext, SysTable, List, long)} afterwards,
+     * so keys are not cached if the table was modified meanwhile.
+     * 
+     * @param table
+     *                parent table
+     * @return current generation of the table
+     */
+    public static synchronized long getGeneration(SysTable table) {
+        return getGeneration(getTableKey(table));
+    }
+
+    private static long getGeneration(String tableKey) {
+        Long generation = generations.get(tableKey);
+        return generation == null ? 0 : generation;
+    }
+
+    private static void nextGeneration(String tableKey) {
+        generations.put(tableKey, getGeneration(tableKey) + 1);
+    }
+
+    /**
+     * 
+     * @param client
+     * @param table
+     *                parent table
+     * @param key
+     *                values of referenced columns, as they appear in SQL
+     * @return true if the key is known to exist in the parent table
+     */
+    public static synchronized boolean contains(XDBSessionContext client,
+            SysTable table, List<String> key) {
+        if (!isEnabled()) {
+            return false;
+        }
+        List<Object> entry = getEntry(getTableKey(table), getGeneration(table),
+                key);
+        boolean found = cache.get(entry) != null;
+        if (!found) {
+            List<List<Object>> sessionEntries = pending.get(client);
+            found = sessionEntries != null && sessionEntries.contains(entry);
+        }
+        return found;
+    }
+
+    /**
+     * Remember the key found in the parent table
+     * 
+     * @param client
+     * @param table
+     *                parent table
+     * @param key
+     *                values of referenced columns, as they appear in SQL
+     * @param generation
+     *                generation of the table before it was queried
+     */
+    public static synchronized void add(XDBSessionContext client,
+            SysTable table, List<String> key, long generation) {
+        if (!isEnabled()) {
+            return;
+        }
+        String tableKey = getTableKey(table);
+        if (generation != getGeneration(tableKey)
+                || modifiers.containsKey(tableKey)) {
+            return;
+        }
+        List<Object> entry = getEntry(tableKey, generation, key);
+        if (client.isInTransaction()) {
+            List<List<Object>> sessionEntries = pending.get(client);
+            if (sessionEntries == null) {
+                sessionEntries = new ArrayList<List<Object>>();
+                pending.put(client, sessionEntries);
+            }
+            if (sessionEntries.size() < CACHE_SIZE) {
+                sessionEntries.add(entry);
+            }
+        } else {
+            cache.put(entry, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Invalidate all cached keys of the table and stop caching them until
+     * the session's transaction ends. Called when rows are deleted from the
+     * table or referenced keys are updated.
+     * 
+     * @param client
+     *                the modifying session
+     * @param table
+     *                parent table
+     */
+    public static synchronized void invalidate(XDBSessionContext client,
+            SysTable table) {
+        if (isEnabled()) {
+            String tableKey = getTableKey(table);
+            nextGeneration(tableKey);
+            Set<String> tables = modifiedTables.get(client);
+            if (tables == null) {
+                tables = new HashSet<String>();
+                modifiedTables.put(client, tables);
+            }
+            if (tables.add(tableKey)) {
+                Integer count = modifiers.get(tableKey);
+                modifiers.put(tableKey, count == null ? 1 : count + 1);
+            }
+        }
+    }
+
+    /**
+     * Modifications of the session are committed or rolled back, keys
+     * cached meanwhile are invalidated and caching is resumed.
+     */
+    private static void endModifications(XDBSessionContext client) {
+        Set<String> tables = modifiedTables.remove(client);
+        if (tables != null) {
+            for (String tableKey : tables) {
+                nextGeneration(tableKey);
+                Integer count = modifiers.remove(tableKey);
+                if (count != null && count > 1) {
+                    modifiers.put(tableKey, count - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish keys found by the session during the committed transaction.
+     * Entries of modified tables are not hit anymore, so they are not
+     * filtered out here.
+     * 
+     * @param client
+     */
+    public static synchronized void commit(XDBSessionContext client) {
+        List<List<Object>> sessionEntries = pending.remove(client);
+        if (sessionEntries != null) {
+            for (List<Object> entry : sessionEntries) {
+                cache.put(entry, Boolean.TRUE);
+            }
+        }
+        endModifications(client);
+    }
+
+    /**
+     * Discard keys found by the session during the transaction.
+     * 
+     * @param client
+     */
+    public static synchronized void rollback(XDBSessionContext client) {
+        pending.remove(client);
+        endModifications(client);
+    }
+
+    /**
+     * Called when a request of the session is completed. If the session is
+     * not in a transaction its modifications are committed by now.
+     * 
+     * @param client
+     */
+    public static synchronized void endRequest(XDBSessionContext client) {
+        if (!client.isInTransaction() && !client.isInSubTransaction()) {
+            pending.remove(client);
+            endModifications(client);
+        }
+    }
+}
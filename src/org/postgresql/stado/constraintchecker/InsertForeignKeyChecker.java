@@ -27,13 +27,22 @@
  */
 package org.postgresql.stado.constraintchecker;
 
+import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.Engine;
 import org.postgresql.stado.engine.IExecutable;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.metadata.SysColumn;
@@ -54,6 +63,8 @@ public class InsertForeignKeyChecker extends AbstractConstraintChecker {
 
     private Tuple tuple;
 
+    private Map<IExecutable, SysReference> queryReferences = new HashMap<IExecutable, SysReference>();
+
     /**
      * 
      * @param tuple 
@@ -137,7 +148,6 @@ public class InsertForeignKeyChecker extends AbstractConstraintChecker {
                 criteria.violationType = VIOLATE_IF_NOT_EMPTY;
                 sbSelect.append(tempTable.getTableName()).append(" LEFT JOIN ");
                 sbSelect.append(foreignTable.getTableName()).append(" ON (");
-                StringBuffer sbColumns = new StringBuffer();
                 Collection fks = ((SysReference) constraint).getForeignKeys();
                 for (Iterator iter = fks.iterator(); iter.hasNext();) {
                     SysForeignKey fk = (SysForeignKey) iter.next();
@@ -147,11 +157,11 @@ public class InsertForeignKeyChecker extends AbstractConstraintChecker {
                     sbSelect.append(tempTable.getTableName()).append(".");
                     sbSelect.append(col.getColName()).append("=");
                     sbSelect.append(foreignTable.getTableName()).append(".");
-                    sbSelect.append(refCol.getColName()).append(", ");
+                    sbSelect.append(refCol.getColName()).append(" AND ");
                 }
-                sbSelect.append(sbColumns.substring(0, sbColumns.length() - 2));
+                sbSelect.setLength(sbSelect.length() - 5);
                 sbSelect.append(") WHERE ");
-                for (Iterator<SysColumn> it = targetTable.getRowID().iterator(); it
+                for (Iterator<SysColumn> it = foreignTable.getRowID().iterator(); it
                         .hasNext();) {
                     SysColumn column = it.next();
                     sbSelect.append(foreignTable.getTableName()).append(".")
@@ -185,6 +195,7 @@ public class InsertForeignKeyChecker extends AbstractConstraintChecker {
             select.addSkipPermissionCheck(targetTable.getTableName());
             select.addSkipPermissionCheck(foreignTable.getTableName());
             select.prepare();
+            queryReferences.put(select, (SysReference) constraint);
             return Collections.singletonMap((IExecutable) select, criteria);
 
         } finally {
@@ -192,4 +203,200 @@ public class InsertForeignKeyChecker extends AbstractConstraintChecker {
         }
     }
 
+    /**
+     * Values of the referencing columns of the inserted tuple
+     * 
+     * @param reference
+     * @return the key, or null if there is no tuple or some value is NULL
+     */
+    private List<String> getKey(SysReference reference) {
+        if (tuple == null) {
+            return null;
+        }
+        List<String> key = new ArrayList<String>();
+        Collection fks = reference.getForeignKeys();
+        for (Iterator iter = fks.iterator(); iter.hasNext();) {
+            SysForeignKey fk = (SysForeignKey) iter.next();
+            String value = tuple.getValue(targetTable.getSysColumn(fk
+                    .getColid()));
+            if (value == null || "null".equalsIgnoreCase(value)) {
+                return null;
+            }
+            key.add(value);
+        }
+        return key;
+    }
+
+    /**
+     * Skip the lookup if the parent key is cached, and cache it if found.
+     * 
+     * @see org.postgresql.stado.constraintchecker.AbstractConstraintChecker#checkViolation(org.postgresql.stado.engine.Engine,
+     *      org.postgresql.stado.engine.IExecutable,
+     *      org.postgresql.stado.constraintchecker.AbstractConstraintChecker.ViolationCriteria)
+     */
+    @Override
+    protected void checkViolation(Engine engine, IExecutable query,
+            ViolationCriteria criteria) throws Exception {
+        SysReference reference = queryReferences.get(query);
+        List<String> key = null;
+        if (reference != null && ForeignKeyCache.isEnabled()) {
+            key = getKey(reference);
+        }
+        if (key == null) {
+            super.checkViolation(engine, query, criteria);
+        } else {
+            SysTable foreignTable = targetTable.getSysDatabase().getSysTable(
+                    reference.getRefTableID());
+            if (!ForeignKeyCache.contains(client, foreignTable, key)) {
+                long generation = ForeignKeyCache.getGeneration(foreignTable);
+                super.checkViolation(engine, query, criteria);
+                ForeignKeyCache.add(client, foreignTable, key, generation);
+            }
+        }
+    }
+
+    /**
+     * Validate foreign keys of tuples inserted by a batch. Distinct keys
+     * which are not cached are looked up with one query per reference
+     * (SELECT COUNT(*) FROM <foreign> WHERE <key_col> IN (<value1>, <value2>,
+     * ...), or OR-ed conditions if key has multiple columns), that is
+     * executed on the nodes of the foreign table. If the count does not match
+     * (a key is missing) checkers are executed one by one to report the
+     * violation. Checkers without a tuple, or with NULL key values, are
+     * executed one by one as well.
+     * 
+     * @param checkers
+     *                foreign key checkers of the batch members
+     * @param engine
+     * @throws java.lang.Exception
+     */
+    public static void checkBatch(Collection<InsertForeignKeyChecker> checkers,
+            Engine engine) throws Exception {
+        final String method = "checkBatch";
+        logger.entering(method, new Object[] {});
+        try {
+
+            Set<InsertForeignKeyChecker> individual = new LinkedHashSet<InsertForeignKeyChecker>();
+            Map<SysReference, Set<List<String>>> keys = new LinkedHashMap<SysReference, Set<List<String>>>();
+            Map<SysReference, List<InsertForeignKeyChecker>> owners = new HashMap<SysReference, List<InsertForeignKeyChecker>>();
+            for (InsertForeignKeyChecker checker : checkers) {
+                if (!checker.isPrepared()) {
+                    checker.prepare();
+                }
+                for (SysReference reference : checker.queryReferences.values()) {
+                    List<String> key = checker.getKey(reference);
+                    if (key == null) {
+                        individual.add(checker);
+                        continue;
+                    }
+                    SysTable foreignTable = checker.targetTable
+                            .getSysDatabase().getSysTable(
+                                    reference.getRefTableID());
+                    if (ForeignKeyCache.contains(checker.client, foreignTable,
+                            key)) {
+                        continue;
+                    }
+                    Set<List<String>> refKeys = keys.get(reference);
+                    if (refKeys == null) {
+                        refKeys = new LinkedHashSet<List<String>>();
+                        keys.put(reference, refKeys);
+                        owners.put(reference,
+                                new ArrayList<InsertForeignKeyChecker>());
+                    }
+                    refKeys.add(key);
+                    owners.get(reference).add(checker);
+                }
+            }
+            int batchSize = Math.max(Props.XDB_FKCHECK_BATCH_SIZE, 1);
+            for (Map.Entry<SysReference, Set<List<String>>> entry : keys
+                    .entrySet()) {
+                InsertForeignKeyChecker owner = owners.get(entry.getKey())
+                        .get(0);
+                List<List<String>> chunk = new ArrayList<List<String>>();
+                for (Iterator<List<String>> it = entry.getValue().iterator(); it
+                        .hasNext();) {
+                    chunk.add(it.next());
+                    if (chunk.size() == batchSize || !it.hasNext()) {
+                        if (!owner.checkKeys(engine, entry.getKey(), chunk)) {
+                            individual.addAll(owners.get(entry.getKey()));
+                            break;
+                        }
+                        chunk.clear();
+                    }
+                }
+            }
+            for (InsertForeignKeyChecker checker : individual) {
+                checker.execute(engine);
+            }
+
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Look up the keys in the foreign table with single query
+     * 
+     * @param engine
+     * @param reference
+     * @param keys
+     *                distinct keys
+     * @return true if all keys are found
+     * @throws java.lang.Exception
+     */
+    private boolean checkKeys(Engine engine, SysReference reference,
+            List<List<String>> keys) throws Exception {
+        SysTable foreignTable = targetTable.getSysDatabase().getSysTable(
+                reference.getRefTableID());
+        List<SysColumn> refCols = new ArrayList<SysColumn>();
+        Collection fks = reference.getForeignKeys();
+        for (Iterator iter = fks.iterator(); iter.hasNext();) {
+            SysForeignKey fk = (SysForeignKey) iter.next();
+            refCols.add(foreignTable.getSysColumn(fk.getRefcolid()));
+        }
+        StringBuffer sbSelect = new StringBuffer("SELECT COUNT(*) FROM ");
+        sbSelect.append(foreignTable.getTableName()).append(" WHERE ");
+        if (refCols.size() == 1) {
+            sbSelect.append(refCols.get(0).getColName()).append(" IN (");
+            for (List<String> key : keys) {
+                sbSelect.append(key.get(0)).append(", ");
+            }
+            sbSelect.setLength(sbSelect.length() - 2);
+            sbSelect.append(")");
+        } else {
+            for (List<String> key : keys) {
+                sbSelect.append("(");
+                for (int i = 0; i < refCols.size(); i++) {
+                    sbSelect.append(refCols.get(i).getColName()).append("=")
+                            .append(key.get(i)).append(" AND ");
+                }
+                sbSelect.setLength(sbSelect.length() - 5);
+                sbSelect.append(") OR ");
+            }
+            sbSelect.setLength(sbSelect.length() - 4);
+        }
+        long generation = ForeignKeyCache.getGeneration(foreignTable);
+        Parser parser = new Parser(client);
+        parser.parseStatement(sbSelect.toString());
+        SqlSelect select = (SqlSelect) parser.getSqlObject();
+        select.addSkipPermissionCheck(foreignTable.getTableName());
+        select.prepare();
+        long count;
+        ResultSet rs = select.execute(engine).getResultSet();
+        try {
+            count = rs.next() ? rs.getLong(1) : 0;
+        } finally {
+            rs.close();
+        }
+        // Referenced columns are unique, so if some key is missing
+        // count is less then number of keys
+        if (count < keys.size()) {
+            return false;
+        }
+        for (List<String> key : keys) {
+            ForeignKeyCache.add(client, foreignTable, key, generation);
+        }
+        return true;
+    }
+
 }
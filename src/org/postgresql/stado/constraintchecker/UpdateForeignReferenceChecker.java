@@ -29,6 +29,8 @@ import java.util.Iterator;
 import java.util.Map;
 
 import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
 import org.postgresql.stado.engine.IExecutable;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.metadata.SysColumn;
@@ -186,4 +188,17 @@ public class UpdateForeignReferenceChecker extends AbstractConstraintChecker {
             logger.exiting(method);
         }
     }
+
+    /**
+     * Parent keys cached by foreign key checks may be gone with the updated
+     * keys, so cache of the table is invalidated until the transaction ends.
+     * 
+     * @see org.postgresql.stado.constraintchecker.AbstractConstraintChecker#execute(org.postgresql.stado.engine.Engine)
+     */
+    @Override
+    public ExecutionResult execute(Engine engine) throws Exception {
+        ForeignKeyCache.invalidate(client, targetTable);
+        return super.execute(engine);
+    }
+
 }
@@ -235,6 +235,13 @@ public class BatchHandler {
         return requestId;
     }
 
+    /**
+     * @return IDs of the nodes the batch is going to be sent to
+     */
+    public Collection<Integer> getNodeIds() {
+        return nodeMsgTable.keySet();
+    }
+
     /**
      * Execute the batch
      * @param strict
@@ -36,6 +36,7 @@ import java.util.Map;
 import org.postgresql.stado.common.CommandLog;
 import org.postgresql.stado.common.util.XLevel;
 import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.constraintchecker.ForeignKeyCache;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.scheduler.BatchCost;
@@ -88,6 +89,8 @@ public class ExecutableRequest {
 
     private volatile char status = STATUS_QUEUED;
 
+    private String planCacheKey = null;
+
     private static long nextStatementId = 0;
 
     private synchronized static long getNextStatementId() {
@@ -166,6 +169,22 @@ public class ExecutableRequest {
         this.fetchSize = fetchSize;
     }
 
+    /**
+     * @return key of the request in the PlanCache, null if request is not
+     *         cacheable
+     */
+    public String getPlanCacheKey() {
+        return planCacheKey;
+    }
+
+    /**
+     * @param planCacheKey
+     *                key of the request in the PlanCache
+     */
+    public void setPlanCacheKey(String planCacheKey) {
+        this.planCacheKey = planCacheKey;
+    }
+
     /**
      *
      * @param sqlObject
@@ -360,6 +379,7 @@ public class ExecutableRequest {
                 return ExecutionResult.createErrorResult(ex);
             }
         } finally {
+            ForeignKeyCache.endRequest(client);
             status = STATUS_PREPARED;
         }
     }
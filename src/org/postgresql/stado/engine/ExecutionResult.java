@@ -144,6 +144,8 @@ public class ExecutionResult {
     public static final int COMMAND_DECLARE_CURSOR = 51;
     
     public static final int COMMAND_CLOSE_CURSOR = 52;
+
+    public static final int COMMAND_REBALANCE = 53;
     
     public static final int CONTENT_TYPE_EMPTY = 0;
 
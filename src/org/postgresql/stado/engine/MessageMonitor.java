@@ -37,6 +37,7 @@ import org.postgresql.stado.exception.XDBBaseException;
 import org.postgresql.stado.exception.XDBMessageMonitorException;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.scheduler.NodeLoad;
 
 
 
@@ -69,6 +70,9 @@ public class MessageMonitor {
 
     private NodeMessage abort = null;
 
+    // When requests to the sources were sent, for NodeLoad
+    private long sentTime;
+
     private int currentRequestId;
 
     private XDBSessionContext client;
@@ -101,6 +105,7 @@ public class MessageMonitor {
                 abort = null;
                 timeout = 0;
                 this.currentRequestId = requestId;
+                clearSources();
                 sourceList = new ArrayList<Integer>(sources.size());
 
                 for (Iterator it = sources.iterator(); it.hasNext();) {
@@ -110,6 +115,7 @@ public class MessageMonitor {
                 }
 
                 messages = new ArrayList<NodeMessage>(sourceList.size());
+                sentTime = NodeLoad.requestsSent(sourceList);
             } else {
                 XDBServerException ex = new XDBServerException(
                         "Monitor already tracks messages");
@@ -221,7 +227,7 @@ public class MessageMonitor {
 
                 return messages.toArray(new NodeMessage[messages.size()]);
             } finally {
-                sourceList = null;
+                clearSources();
                 messages = null;
                 startWaiting = 0;
                 timeout = 0;
@@ -272,7 +278,7 @@ public class MessageMonitor {
                 if (sourceList.isEmpty()) {
                     NodeMessage[] out = messages
                             .toArray(new NodeMessage[messages.size()]);
-                    sourceList = null;
+                    clearSources();
                     messages = null;
                     startWaiting = 0;
                     timeout = 0;
@@ -300,7 +306,7 @@ public class MessageMonitor {
                     return null;
                 }
             } catch (Exception e) {
-                sourceList = null;
+                clearSources();
                 messages = null;
                 startWaiting = 0;
                 timeout = 0;
@@ -345,6 +351,8 @@ public class MessageMonitor {
                             ((SendRowsMessage) msg).getNumRowsSent());                        
                 }                              
                 else if (sourceList.remove(new Integer(msg.getSourceNodeID()))) {
+                    NodeLoad.getNodeLoad(msg.getSourceNodeID()).requestDone(
+                            sentTime);
                     logger.debug("Getting closer: " + sourceList);
                     messages.add(msg);
                     notify();
@@ -356,6 +364,17 @@ public class MessageMonitor {
         }
     }
 
+    /**
+     * Stop tracking messages, requests to nodes that have not answered are
+     * not considered outstanding any more
+     */
+    private void clearSources() {
+        if (sourceList != null && !sourceList.isEmpty()) {
+            NodeLoad.requestsCancelled(sourceList);
+        }
+        sourceList = null;
+    }
+
     /**
      * Cleanup monitor and release waiting thread
      * @param aNodeMessage 
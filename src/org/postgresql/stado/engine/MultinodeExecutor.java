@@ -35,6 +35,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.postgresql.stado.common.ActivityLog;
+import org.postgresql.stado.common.util.LatencyHistogram;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
@@ -43,6 +44,7 @@ import org.postgresql.stado.communication.IMessageListener;
 import org.postgresql.stado.communication.SendMessageHelper;
 import org.postgresql.stado.communication.message.NodeMessage;
 import org.postgresql.stado.communication.message.SendRowsMessage;
+import org.postgresql.stado.constraintchecker.ForeignKeyCache;
 import org.postgresql.stado.exception.XDBMessageMonitorException;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.DBNode;
@@ -128,6 +130,30 @@ public class MultinodeExecutor implements IMessageListener {
             "xdb.messagemonitor.timeout.connection.millis",
             Props.XDB_DEFAULT_THREADS_POOL_TIMEOUT);
 
+    /**
+     * Send COMMIT and ROLLBACK only to the nodes that have been doing
+     * something since end of previous transaction
+     */
+    private static final boolean END_PARTICIPANTS_ONLY = Property.getBoolean(
+            "xdb.commit.participants_only", true);
+
+    /**
+     * Ping participating nodes before sending COMMIT to them, so transaction
+     * is not committed on some nodes if other ones are not reachable
+     */
+    private static final boolean CHECK_CONNECTIONS_ON_COMMIT = Property.getBoolean(
+            "xdb.commit.check_connections", true);
+
+    private static final LatencyHistogram commitLatency = new LatencyHistogram();
+
+    private static final LatencyHistogram rollbackLatency = new LatencyHistogram();
+
+    /**
+     * IDs of nodes that have been requested to do some work since the
+     * transaction was ended last time
+     */
+    private final HashSet<Integer> participants = new HashSet<Integer>();
+
 
     /**
      *
@@ -277,15 +303,75 @@ public class MultinodeExecutor implements IMessageListener {
 
     // make sure that connections are still alive
     // ------------------------------------------------------------------
+    /**
+     * Remember the nodes are involved into current transaction
+     *
+     * @param nodes
+     *                DBNodes or node IDs
+     */
+    private void addParticipants(Collection<?> nodes) {
+        for (Object node : nodes) {
+            participants.add(node instanceof DBNode ? ((DBNode) node)
+                    .getNodeId() : (Integer) node);
+        }
+    }
+
+    /**
+     * Set up monitor to track responses from nodes requested to do some work
+     * within current transaction
+     *
+     * @param requestId
+     * @param nodes
+     *                DBNodes or node IDs
+     * @throws org.postgresql.stado.exception.XDBServerException
+     */
+    private void setWorkMonitor(int requestId, Collection<?> nodes)
+            throws XDBServerException {
+        addParticipants(nodes);
+        monitor.setMonitor(requestId, nodes);
+    }
+
+    /**
+     * @return nodes where transaction should be ended
+     */
+    private Collection<DBNode> getParticipants() {
+        if (!END_PARTICIPANTS_ONLY) {
+            return nodeList;
+        }
+        Collection<DBNode> result = new ArrayList<DBNode>(participants.size());
+        for (DBNode dbNode : nodeList) {
+            if (participants.contains(dbNode.getNodeId())) {
+                result.add(dbNode);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return histogram of time taken by distributed commits
+     */
+    public static LatencyHistogram getCommitLatency() {
+        return commitLatency;
+    }
+
+    /**
+     * @return histogram of time taken by distributed rollbacks
+     */
+    public static LatencyHistogram getRollbackLatency() {
+        return rollbackLatency;
+    }
+
     /**
      *
+     * @param checkList
      * @throws org.postgresql.stado.exception.XDBServerException
      */
-    private void checkConnections() throws XDBServerException {
+    private void checkConnections(Collection<DBNode> checkList)
+            throws XDBServerException {
         int requestId = client.getRequestId();
-        monitor.setMonitor(requestId, nodeList);
+        monitor.setMonitor(requestId, checkList);
         try {
-            sendHelper.sendMessageToList(nodeList, NodeMessage.MSG_PING,
+            sendHelper.sendMessageToList(checkList, NodeMessage.MSG_PING,
                     requestId);
         } finally {
             monitor.waitForMessages(SHORT_TIMEOUT);
@@ -308,7 +394,7 @@ public class MultinodeExecutor implements IMessageListener {
 
             int requestId = client.getRequestId();
 
-            monitor.setMonitor(requestId, nodeList);
+            setWorkMonitor(requestId, nodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -338,11 +424,11 @@ public class MultinodeExecutor implements IMessageListener {
         logger.entering(method, new Object[] { savepointName });
         try {
 
-            checkConnections();
+            checkConnections(nodeList);
 
             int requestId = client.getRequestId();
 
-            monitor.setMonitor(requestId, nodeList);
+            setWorkMonitor(requestId, nodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -395,7 +481,7 @@ public class MultinodeExecutor implements IMessageListener {
         try {
 
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, execNodeList);
+            setWorkMonitor(requestId, execNodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -437,7 +523,7 @@ public class MultinodeExecutor implements IMessageListener {
         try {
 
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, execNodeList);
+            setWorkMonitor(requestId, execNodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -503,7 +589,7 @@ public class MultinodeExecutor implements IMessageListener {
         try {
 
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, commands.keySet());
+            setWorkMonitor(requestId, commands.keySet());
 
             try {
                 for (Map.Entry<DBNode,String> entry : commands.entrySet()) {
@@ -542,22 +628,36 @@ public class MultinodeExecutor implements IMessageListener {
         try {
 
             try {
-                if (nodeList.size() > 1) {
-                    checkConnections();
+                // COMMIT is sent to all participants at once, so the time
+                // is bounded by the slowest node rather than by their count
+                Collection<DBNode> commitList = getParticipants();
+                if (CHECK_CONNECTIONS_ON_COMMIT && commitList.size() > 1) {
+                    checkConnections(commitList);
                 }
 
                 LockManager lm = client.getSysDatabase().getLm();
                 lm.beforeCommit(client);
-                int requestId = client.getRequestId();
-                monitor.setMonitor(requestId, nodeList);
-
-                try {
-                    sendHelper.sendMessageToList(nodeList,
-                            NodeMessage.MSG_TRAN_COMMIT, requestId);
-                } finally {
-                    monitor.waitForMessages();
+                if (!commitList.isEmpty()) {
+                    long startTime = System.currentTimeMillis();
+                    int requestId = client.getRequestId();
+                    monitor.setMonitor(requestId, commitList);
+
+                    try {
+                        sendHelper.sendMessageToList(commitList,
+                                NodeMessage.MSG_TRAN_COMMIT, requestId);
+                    } finally {
+                        try {
+                            monitor.waitForMessages();
+                        } finally {
+                            commitLatency.add(System.currentTimeMillis()
+                                    - startTime);
+                        }
+                    }
                 }
+                ForeignKeyCache.commit(client);
             } finally {
+                ForeignKeyCache.rollback(client);
+                participants.clear();
                 client.setInTransaction(false);
             }
 
@@ -577,23 +677,33 @@ public class MultinodeExecutor implements IMessageListener {
         final String method = "rollback";
         logger.entering(method);
         try {
-            int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, nodeList);
+            Collection<DBNode> rollbackList = getParticipants();
 
             // If single-node statement is executed in autocommit mode
             // backend connection is switched to autocommit mode too to
             // avoid transaction handling overhead in the driver.
             // So we do not have to send explicit rollback to the node
             if (client.isInTransaction() || nodeList.size() > 1) {
-                try {
-                    sendHelper.sendMessageToList(nodeList,
-                            NodeMessage.MSG_TRAN_ROLLBACK, requestId);
-
-                    client.setInTransaction(false);
-                } finally {
-                    monitor.waitForMessages();
+                if (!rollbackList.isEmpty()) {
+                    long startTime = System.currentTimeMillis();
+                    int requestId = client.getRequestId();
+                    monitor.setMonitor(requestId, rollbackList);
+                    try {
+                        sendHelper.sendMessageToList(rollbackList,
+                                NodeMessage.MSG_TRAN_ROLLBACK, requestId);
+                    } finally {
+                        try {
+                            monitor.waitForMessages();
+                        } finally {
+                            rollbackLatency.add(System.currentTimeMillis()
+                                    - startTime);
+                        }
+                    }
                 }
+                client.setInTransaction(false);
             }
+            ForeignKeyCache.rollback(client);
+            participants.clear();
         } finally {
             logger.exiting(method);
         }
@@ -612,7 +722,7 @@ public class MultinodeExecutor implements IMessageListener {
         try {
             int requestId = client.getRequestId();
 
-            monitor.setMonitor(requestId, nodeList);
+            setWorkMonitor(requestId, nodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -653,7 +763,7 @@ public class MultinodeExecutor implements IMessageListener {
         logger.entering(method, new Object[] { dropList });
         try {
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, nodeList);
+            setWorkMonitor(requestId, nodeList);
             try {
 
                 NodeMessage aNodeMessage = NodeMessage
@@ -748,7 +858,7 @@ public class MultinodeExecutor implements IMessageListener {
 
             if (currentStepProcesses != null) {
                 int requestId = client.getRequestId();
-                monitor.setMonitor(requestId, currentStepProcesses);
+                setWorkMonitor(requestId, currentStepProcesses);
 
                 try {
                     sendHelper.sendMessageToList(currentStepProcesses,
@@ -906,7 +1016,7 @@ public class MultinodeExecutor implements IMessageListener {
             // Only bother doing the INIT step if we are a
             // consumer and need to create a temp table
             if (aStepDetail.isConsumer) {
-                monitor.setMonitor(requestId, initMessages.keySet());
+                setWorkMonitor(requestId, initMessages.keySet());
 
                 try {
                     for (Entry<Integer, NodeMessage> entry : initMessages
@@ -922,7 +1032,8 @@ public class MultinodeExecutor implements IMessageListener {
             }
 
             // Set up execution monitor
-            monitor.setMonitor(requestId, producers);
+            addParticipants(initMessages.keySet());
+            setWorkMonitor(requestId, producers);
 
             for (Entry<Integer, NodeMessage> entry : initMessages.entrySet()) {
                 NodeMessage nodeMessage = entry.getValue();
@@ -1199,7 +1310,10 @@ public class MultinodeExecutor implements IMessageListener {
                 if (rs != null) {
                     return rs.processMessage(message);
                 }
-                return false;
+                // Packet was sent ahead before the result set was closed
+                logger.debug("Dropping packet of closed result set "
+                        + message.getResultSetID());
+                return true;
             case NodeMessage.MSG_RESULT_CLOSE:
                 synchronized (finalRSs) {
                     HashMap<Integer,NodeResultSetImpl> nodeResults = finalRSs.get(message.getResultSetID());
@@ -1323,6 +1437,7 @@ public class MultinodeExecutor implements IMessageListener {
                 return new int[0];
             }
 
+            addParticipants(aBatchHandler.getNodeIds());
             try {
                 batchResults = aBatchHandler.executeBatch(strict);
             } catch (XDBServerException xe) {
@@ -1398,7 +1513,7 @@ public class MultinodeExecutor implements IMessageListener {
             startLoadersMsg.setTargetTable(tableName);
             startLoadersMsg.setSqlCommand(address);
             startLoadersMsg.setRequestId(requestId);
-            monitor.setMonitor(requestId, getNodeList());
+            setWorkMonitor(requestId, getNodeList());
             try {
                 for (Object element : nodeList) {
                     DBNode dbNode = (DBNode) element;
@@ -1441,7 +1556,7 @@ public class MultinodeExecutor implements IMessageListener {
             try {
 
                 int requestId = client.getRequestId();
-                monitor.setMonitor(requestId, execNodeList);
+                setWorkMonitor(requestId, execNodeList);
                 try {
                     NodeMessage aNodeMessage = NodeMessage
                             .getNodeMessage(NodeMessage.MSG_PREPARE_COMMAND);
@@ -1497,7 +1612,7 @@ public class MultinodeExecutor implements IMessageListener {
                         "Prepared statement does not exist on requested node(s)");
             }
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, execNodeList);
+            setWorkMonitor(requestId, execNodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
@@ -1565,7 +1680,7 @@ public class MultinodeExecutor implements IMessageListener {
             }
 
             int requestId = client.getRequestId();
-            monitor.setMonitor(requestId, execNodeList);
+            setWorkMonitor(requestId, execNodeList);
 
             try {
                 NodeMessage aNodeMessage = NodeMessage
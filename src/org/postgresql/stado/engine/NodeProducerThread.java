@@ -33,7 +33,6 @@ import org.postgresql.stado.engine.copy.CopyOut;
 import org.postgresql.stado.engine.io.DataTypes;
 import org.postgresql.stado.engine.io.ResponseMessage;
 import org.postgresql.stado.engine.io.ResultSetResponse;
-import org.postgresql.stado.engine.io.XMessage;
 import org.postgresql.stado.exception.*;
 import org.postgresql.stado.misc.Timer;
 import org.postgresql.stado.parser.handler.IdentifierHandler;
@@ -43,6 +42,8 @@ import java.sql.*;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
 /**
@@ -58,6 +59,11 @@ public class NodeProducerThread implements Runnable {
     public static final XLogger CATEGORY_NODEQUERYTIME = XLogger
     .getLogger("nodequerytime");
 
+    /**
+     * How many IDs of finished result sets are remembered
+     */
+    private static final int MAX_FINISHED_RESULTS = 256;
+
     /*
      * For supporting multiple ResultSets
      */
@@ -68,6 +74,11 @@ public class NodeProducerThread implements Runnable {
 
         NodeMessage nextMessage = null;
 
+        /**
+         * Number of packets coordinator is ready to accept
+         */
+        int credit = 0;
+
         /**
          *
          * @param rsResponse
@@ -95,21 +106,17 @@ public class NodeProducerThread implements Runnable {
                         + ": Packing results");
                 ResponseMessage rm = rsResponse.nextResults(rsResponse
                         .getFetchSize());
-                byte[] resultSetData = new byte[rm.getPacketLength()];
-                System.arraycopy(rm.getHeaderBytes(), 0, resultSetData, 0,
-                        XMessage.HEADER_SIZE);
-                System.arraycopy(rm.getMessage(), 0, resultSetData,
-                        XMessage.HEADER_SIZE, rm.getPacketLength()
-                        - XMessage.HEADER_SIZE);
+                // Message takes over the packet, it is not copied until
+                // written to the socket
                 nextMessage = NodeMessage.getNodeMessage(msgType);
-                nextMessage.setResultSetData(resultSetData);
+                nextMessage.setResultSetPacket(rm);
                 boolean lastPacket = rm.getMessage()[0] == ResultSetResponse.LAST_PACKET_TRUE;
                 logger
                 .log(
                         Level.INFO,
                         "Node %0% sends new ResultSet packet, size: %1%, last: %2%",
                         new Object[] { new Integer(nodeId),
-                                new Integer(resultSetData.length),
+                                new Integer(rm.getPacketLength()),
                                 new Boolean(lastPacket) });
                 if (lastPacket) {
                     closeResultSet(aResultSet);
@@ -154,6 +161,19 @@ public class NodeProducerThread implements Runnable {
 
     private HashMap<String, QueryResult> resultTable = new HashMap<String, QueryResult>();
 
+    /**
+     * IDs of result sets recently completed or closed. Coordinator grants
+     * credit ahead, so requests for them may still be in flight.
+     */
+    private Map<String, Boolean> finishedResults = new LinkedHashMap<String, Boolean>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_FINISHED_RESULTS;
+        }
+    };
+
     /** For tracking prepared statements */
     private HashMap<String, PreparedStatementEx> preparedStatementTable = new HashMap<String, PreparedStatementEx>();
 
@@ -420,6 +440,16 @@ public class NodeProducerThread implements Runnable {
                             String resultSetId = aNodeMessage.getResultSetID();
                             QueryResult aQueryResult = resultTable
                             .get(resultSetId);
+                            if ((aQueryResult == null || aQueryResult.nextMessage == null)
+                                    && finishedResults.containsKey(resultSetId)) {
+                                // Coordinator grants credit ahead, so the
+                                // request may come after the last packet is
+                                // sent or result set is closed
+                                logger.debug("Node " + nodeId
+                                        + ": credit for finished result set "
+                                        + resultSetId + " is ignored");
+                                break;
+                            }
                             if (aQueryResult == null
                                     || aQueryResult.nextMessage == null) {
                                 XDBBaseException ex = new XDBUnexpectedMessageException(
@@ -437,29 +467,38 @@ public class NodeProducerThread implements Runnable {
                                     msg.setRequestId(requestIDtoAbort);
                                     sendHelper.sendReplyMessage(aNodeMessage,
                                             msg);
-                                    break;
                                 }
                                 resultTable.remove(resultSetId);
+                                break;
                             }
-                            if (!aQueryResult.nextMessage
-                                    .isResultSetHasMoreRows()) {
-                                // Be sure to close the statement, otherwise
-                                // it may still be locking the table.
-                                closeResultSet(aQueryResult.aResultSet);
-                            }
-                            aQueryResult.nextMessage
-                            .setResultSetID(resultSetId);
-                            // send results that we previously prepared
-                            sendHelper.sendReplyMessage(aNodeMessage,
-                                    aQueryResult.nextMessage);
+                            aQueryResult.credit += Math.max(1, aNodeMessage
+                                    .getResultSetCredit());
+                            // Push packets while there is credit
+                            while (aQueryResult.credit > 0) {
+                                aQueryResult.credit--;
+                                if (!aQueryResult.nextMessage
+                                        .isResultSetHasMoreRows()) {
+                                    // Be sure to close the statement,
+                                    // otherwise it may still be locking the
+                                    // table.
+                                    closeResultSet(aQueryResult.aResultSet);
+                                }
+                                aQueryResult.nextMessage
+                                .setResultSetID(resultSetId);
+                                // send results that we previously prepared
+                                sendHelper.sendReplyMessage(aNodeMessage,
+                                        aQueryResult.nextMessage);
 
-                            // try and prepare next set of data
-                            if (aQueryResult.nextMessage
-                                    .isResultSetHasMoreRows()) {
-                                aQueryResult
-                                .packNextResultRows(NodeMessage.MSG_RESULT_ROWS);
-                            } else {
-                                resultTable.remove(resultSetId);
+                                // try and prepare next set of data
+                                if (aQueryResult.nextMessage
+                                        .isResultSetHasMoreRows()) {
+                                    aQueryResult
+                                    .packNextResultRows(NodeMessage.MSG_RESULT_ROWS);
+                                } else {
+                                    resultTable.remove(resultSetId);
+                                    finishedResults.put(resultSetId, Boolean.TRUE);
+                                    break;
+                                }
                             }
                         } finally {
                             setState(STATEWAIT);
@@ -474,6 +513,7 @@ public class NodeProducerThread implements Runnable {
                             if (query != null) {
                                 closeResultSet(query.aResultSet);
                             }
+                            finishedResults.put(resultSetId, Boolean.TRUE);
                         } finally {
                             setState(STATEWAIT);
                         }
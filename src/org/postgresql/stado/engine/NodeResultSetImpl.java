@@ -28,9 +28,11 @@
 package org.postgresql.stado.engine;
 
 import java.sql.SQLException;
+import java.util.LinkedList;
 
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.communication.AbstractAgent;
 import org.postgresql.stado.communication.CoordinatorAgent;
@@ -39,13 +41,15 @@ import org.postgresql.stado.communication.NodeAgent;
 import org.postgresql.stado.communication.SendMessageHelper;
 import org.postgresql.stado.communication.message.NodeMessage;
 import org.postgresql.stado.engine.io.ResultSetResponse;
-import org.postgresql.stado.engine.io.XMessage;
 import org.postgresql.stado.exception.XDBBaseException;
 import org.postgresql.stado.exception.XDBServerException;
 
 
 /**
- *  
+ * Rows of the ResultSet produced on remote node. Packets are fetched with
+ * credit based flow control: node is allowed to send up to prefetch window
+ * packets ahead, they are queued here and credit is granted again as soon as
+ * half of the window is consumed.
  */
 public class NodeResultSetImpl extends ResultSetImpl implements
         IMessageListener {
@@ -60,7 +64,31 @@ public class NodeResultSetImpl extends ResultSetImpl implements
 
     private Integer sessionID = null;
 
-    private NodeMessage nextMessage = null;
+    /**
+     * Max number of packets requested or queued at a time
+     */
+    private final int window = Math.max(1,
+            Props.XDB_RESULTSET_PREFETCH_PACKETS);
+
+    /**
+     * Received packets not yet consumed
+     */
+    private final LinkedList<NodeMessage> nextMessages = new LinkedList<NodeMessage>();
+
+    /**
+     * Number of packets requested but not yet received
+     */
+    private int requested = 0;
+
+    /**
+     * Last packet or abort message is received, no more packets are coming
+     */
+    private boolean finished = false;
+
+    /**
+     * Result set is closed, packets still in flight are dropped
+     */
+    private boolean closed = false;
 
     /**
      * 
@@ -79,6 +107,9 @@ public class NodeResultSetImpl extends ResultSetImpl implements
 
         resetRawRows();
         this.columnMeta = responseMessage.getColumnMetaData();
+        finished = responseMessage.isLastPacket();
+        // Start prefetching right away
+        requestMore();
     }
 
     /**
@@ -89,19 +120,31 @@ public class NodeResultSetImpl extends ResultSetImpl implements
      * @return
      */
     public synchronized boolean processMessage(NodeMessage message) {
-        if (nextMessage != null) {
-            // Development error
-            XDBServerException ex = new XDBServerException(
-                    "Previous message has not been consumed");
-            logger.throwing(ex);
-            throw ex;
-
-        }
         if ((message.getMessageType() == NodeMessage.MSG_RESULT_ROWS || message
                 .getMessageType() == NodeMessage.MSG_ABORT)
                 && nodeMessage.getSourceNodeID() == message.getSourceNodeID()
                 && nodeMessage.getRequestId() == message.getRequestId()) {
-            nextMessage = message;
+            if (closed) {
+                // Late packet of closed result set, nobody is going to
+                // consume it
+                return true;
+            }
+            if (message.getMessageType() == NodeMessage.MSG_RESULT_ROWS) {
+                if (requested == 0) {
+                    // Development error
+                    XDBServerException ex = new XDBServerException(
+                            "Node has sent more packets than requested");
+                    logger.throwing(ex);
+                    throw ex;
+                }
+                requested--;
+                if (!message.isResultSetHasMoreRows()) {
+                    finished = true;
+                }
+            } else {
+                finished = true;
+            }
+            nextMessages.add(message);
             notify();
             return true;
         }
@@ -109,24 +152,54 @@ public class NodeResultSetImpl extends ResultSetImpl implements
     }
 
     /**
-     * 
-     * @throws java.sql.SQLException
+     * Grant node credit for more packets if less than half of the window is
+     * requested or queued.
      */
-    @Override
-    protected synchronized void setNextResultSet() throws SQLException {
-        logger.log(Level.INFO, "Asking node %0% for more rows",
-                new Object[] { new Integer(nodeMessage.getSourceNodeID()) });
+    private void requestMore() {
+        int credit;
+        synchronized (this) {
+            if (finished || requested + nextMessages.size() > window / 2) {
+                return;
+            }
+            credit = window - requested - nextMessages.size();
+            requested += credit;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Asking node " + nodeMessage.getSourceNodeID()
+                    + " for " + credit + " more packets");
+        }
         NodeMessage requestNM = NodeMessage
                 .getNodeMessage(NodeMessage.MSG_RESULT_ROWS_REQUEST);
         requestNM.setResultSetID(nodeMessage.getResultSetID());
+        requestNM.setResultSetCredit(credit);
         sendHelper.sendReplyMessage(nodeMessage, requestNM);
-        // TODO wait timeout ?
-        while (nextMessage == null) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                throw new SQLException("Result set is closed");
+    }
+
+    /**
+     * 
+     * @throws java.sql.SQLException
+     */
+    @Override
+    protected void setNextResultSet() throws SQLException {
+        NodeMessage nextMessage;
+        synchronized (this) {
+            if (nextMessages.isEmpty()) {
+                logger.log(Level.INFO, "Waiting node %0% for more rows",
+                        new Object[] { new Integer(nodeMessage.getSourceNodeID()) });
             }
+            // TODO wait timeout ?
+            while (nextMessages.isEmpty()) {
+                if (requested == 0) {
+                    // Development error
+                    throw new SQLException("No more rows requested");
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    throw new SQLException("Result set is closed");
+                }
+            }
+            nextMessage = nextMessages.removeFirst();
         }
         if (nextMessage.getMessageType() == NodeMessage.MSG_ABORT) {
             XDBBaseException ex = nextMessage.getCause();
@@ -134,13 +207,13 @@ public class NodeResultSetImpl extends ResultSetImpl implements
                 logger.catching(ex);
             }
             SQLException se = new SQLException(
-                    "Can not fetch more rows: " + ex == null ? "reason unknown"
-                            : ex.getMessage());
+                    "Can not fetch more rows: "
+                            + (ex == null ? "reason unknown" : ex.getMessage()));
             logger.throwing(se);
             throw se;
         }
         responseMessage = getNextResponse(nextMessage, responseMessage);
-        nextMessage = null;
+        requestMore();
     }
 
     /**
@@ -155,22 +228,21 @@ public class NodeResultSetImpl extends ResultSetImpl implements
         if (response == null) {
             response = new ResultSetResponse();
         }
-        byte[] resultSetData = message.getResultSetData();
-        // reading response
-        byte[] header = new byte[XMessage.HEADER_SIZE];
-        System.arraycopy(resultSetData, 0, header, 0, XMessage.HEADER_SIZE);
-        response.setHeaderBytes(header);
-        int len = response.getPacketLength() - XMessage.HEADER_SIZE;
-        byte[] inputBytes = new byte[len];
-        System.arraycopy(resultSetData, XMessage.HEADER_SIZE, inputBytes, 0,
-                len);
-        response.setMessage(inputBytes);
+        // reading response, packet body is not copied
+        message.readResultSetPacket(response);
         return response;
     }
 
     @Override
     public void close() throws SQLException {
-        if (!responseMessage.isLastPacket()) {
+        boolean closeOnNode;
+        synchronized (this) {
+            closeOnNode = !finished;
+            finished = true;
+            closed = true;
+            nextMessages.clear();
+        }
+        if (closeOnNode) {
             // Close RS on node
             NodeMessage closeMsg = NodeMessage
                     .getNodeMessage(NodeMessage.MSG_RESULT_CLOSE);
@@ -49,6 +49,7 @@ import org.postgresql.stado.exception.XDBUnexpectedMessageException;
 import org.postgresql.stado.exception.XDBUnexpectedStateException;
 import org.postgresql.stado.exception.XDBWrappedException;
 import org.postgresql.stado.exception.XDBWrappedSQLException;
+import org.postgresql.stado.metadata.scheduler.NodeLoad;
 import org.postgresql.stado.parser.handler.IdentifierHandler;
 import org.postgresql.stado.planner.StepDetail;
 
@@ -1465,9 +1466,11 @@ public class NodeThread implements Runnable, IMessageListener {
                     case NodeMessage.MSG_EXEC_COMMAND:
                     case NodeMessage.MSG_EXEC_QUERY:
                         checkCurrentState(new int[] { STATEWAIT }, STATECOMMAND);
+                        NodeLoad.getNodeLoad(nodeId).executionStarted();
                         try {
                             processQuery(aNodeMessage);
                         } finally {
+                            NodeLoad.getNodeLoad(nodeId).executionDone();
                             setState(STATEWAIT);
                         }
 
@@ -1496,9 +1499,11 @@ public class NodeThread implements Runnable, IMessageListener {
 
                         aStepDetail = aNodeMessage.getStepDetail();
 
+                        NodeLoad.getNodeLoad(nodeId).executionStarted();
                         try {
                             processStep(aNodeMessage);
                         } finally {
+                            NodeLoad.getNodeLoad(nodeId).executionDone();
                             setState(aState);
                         }
                         break;
@@ -0,0 +1,312 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.scheduler.ILockCost;
+import org.postgresql.stado.parser.SqlSelect;
+
+
+/**
+ * Server wide, size limited cache of parsed and planned statements.
+ * Parameterized SELECTs which are parsed again and again with the same text
+ * are taken from here instead of going through the parser and optimizer.
+ * <p>
+ * Prepared plan refers to the session it was built for, so key includes
+ * session along with database, user, parameter types, normalized statement
+ * text and metadata version. Once metadata version changes all cached entries
+ * become stale. Cached request is taken out of the cache while it is in use
+ * and put back when the statement is closed, so it is never shared by two
+ * statements at a time.
+ */
+public class PlanCache {
+    private static final XLogger logger = XLogger.getLogger(PlanCache.class);
+
+    private static final PlanCache planCache = new PlanCache(
+            Props.XDB_PLAN_CACHE_SIZE);
+
+    private final int maxSize;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long version;
+
+    private long hits = 0;
+
+    private long misses = 0;
+
+    private static class Entry {
+        private final int sessionID;
+
+        private final ExecutableRequest request;
+
+        private Entry(int sessionID, ExecutableRequest request) {
+            this.sessionID = sessionID;
+            this.request = request;
+        }
+    }
+
+    /**
+     * @return the server wide plan cache
+     */
+    public static PlanCache getPlanCache() {
+        return planCache;
+    }
+
+    /**
+     * @param maxSize
+     *            max number of cached plans, 0 disables caching
+     */
+    PlanCache(final int maxSize) {
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return true if plans are cached
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Build cache key for the statement
+     *
+     * @param client
+     *            session the statement is parsed for
+     * @param statement
+     *            the statement text
+     * @param paramTypes
+     *            types of the parameters, null if not specified
+     * @return the key, or null if statement can not be cached
+     */
+    public String getKey(XDBSessionContext client, String statement,
+            int[] paramTypes) {
+        if (!isEnabled() || statement == null) {
+            return null;
+        }
+        String normalized = normalize(statement);
+        // only queries are cached
+        if (!normalized.regionMatches(true, 0, "SELECT", 0, 6)) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(normalized.length() + 64);
+        key.append(MetaData.getMetaData().getVersion()).append(':');
+        key.append(client.getSessionID()).append(':');
+        key.append(client.getDBName()).append(':');
+        key.append(client.getCurrentUser().getName()).append(':');
+        if (paramTypes != null) {
+            for (int paramType : paramTypes) {
+                key.append(paramType).append(',');
+            }
+        }
+        key.append(':').append(normalized);
+        return key.toString();
+    }
+
+    /**
+     * Removes comments, collapses runs of white spaces outside of quotes and
+     * removes trailing semicolons, so differently formatted copies of a
+     * statement match. Statements with backslashes or dollar quotes are
+     * returned as is, since their quoting is not tracked here.
+     *
+     * @param statement
+     * @return normalized statement text
+     */
+    static String normalize(String statement) {
+        StringBuilder sb = new StringBuilder(statement.length());
+        char quote = 0;
+        boolean space = false;
+        int length = statement.length();
+        for (int i = 0; i < length; i++) {
+            char ch = statement.charAt(i);
+            char next = i + 1 < length ? statement.charAt(i + 1) : 0;
+            if (ch == '\\' || (ch == '$' && !Character.isDigit(next))) {
+                return statement;
+            }
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(ch)) {
+                space = true;
+                continue;
+            } else if (ch == '-' && next == '-') {
+                // comment ends with the line
+                while (i < length && statement.charAt(i) != '\n') {
+                    i++;
+                }
+                space = true;
+                continue;
+            } else if (ch == '/' && next == '*') {
+                // block comments may be nested
+                int depth = 1;
+                for (i += 2; i < length && depth > 0; i++) {
+                    if (statement.startsWith("/*", i)) {
+                        depth++;
+                        i++;
+                    } else if (statement.startsWith("*/", i)) {
+                        depth--;
+                        i++;
+                    }
+                }
+                i--;
+                space = true;
+                continue;
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            }
+            if (space) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                space = false;
+            }
+            sb.append(ch);
+        }
+        int len = sb.length();
+        while (quote == 0 && len > 0
+                && (sb.charAt(len - 1) == ';' || sb.charAt(len - 1) == ' ')) {
+            len--;
+        }
+        sb.setLength(len);
+        return sb.toString();
+    }
+
+    /**
+     * Take cached request out of the cache. The request should be returned
+     * with {@link #release(ExecutableRequest, XDBSessionContext)} when it is
+     * no longer in use.
+     *
+     * @param key
+     *            the key built by {@link #getKey(XDBSessionContext, String, int[])}
+     * @return the request or null if there is no valid cached request
+     */
+    public synchronized ExecutableRequest take(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.request;
+    }
+
+    /**
+     * Put the request into the cache if it can be reused
+     *
+     * @param request
+     * @param client
+     *            session the request belongs to
+     */
+    public void release(ExecutableRequest request, XDBSessionContext client) {
+        String key = request.getPlanCacheKey();
+        if (key == null) {
+            return;
+        }
+        ILockCost sqlObject = request.getCost().getSqlObject();
+        if (!(sqlObject instanceof SqlSelect)
+                || !((SqlSelect) sqlObject).isReusable()) {
+            return;
+        }
+        long currentVersion = MetaData.getMetaData().getVersion();
+        // Version is a prefix of the key
+        if (!key.startsWith(currentVersion + ":")) {
+            return;
+        }
+        synchronized (this) {
+            if (version != currentVersion) {
+                // Metadata has changed, drop everything
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Metadata version changed, dropping "
+                            + entries.size() + " cached plans");
+                }
+                entries.clear();
+                version = currentVersion;
+            }
+            entries.put(key, new Entry(client.getSessionID(), request));
+        }
+    }
+
+    /**
+     * Remove cached plans of the session. Called when the session is closed
+     * or its temporary tables are changed.
+     *
+     * @param client
+     */
+    public synchronized void removeSession(XDBSessionContext client) {
+        int sessionID = client.getSessionID();
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            if (it.next().sessionID == sessionID) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop all cached plans
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of requests found in the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of requests not found in the cache
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of cached plans
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "PlanCache: size=" + entries.size() + ", hits=" + hits
+                + ", misses=" + misses;
+    }
+}
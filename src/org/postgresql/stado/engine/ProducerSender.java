@@ -151,7 +151,9 @@ public class ProducerSender {
         }
     }
     /**
-     * Sends ResultSet to nodes.
+     * Sends output of COPY OUT to nodes. Raw text lines are routed to the
+     * consumer nodes as they arrive and loaded into the step's temp table
+     * with COPY FROM STDIN.
      * @param copyOut
      * @param aStepDetail
      * @param jdbcLock
@@ -161,13 +163,31 @@ public class ProducerSender {
     public void sendToNodes(CopyOut copyOut, StepDetail aStepDetail,
             Object jdbcLock, int sourceNodeId, int requestId)
     throws SQLException, XDBServerException {
+        final String method = "sendToNodes";
+        logger.entering(method, new Object[] { copyOut, aStepDetail,
+                jdbcLock });
+        try {
+            runLoader(new Loader(copyOut, aStepDetail.getInsertColumnString()),
+                    aStepDetail, requestId);
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Sets up Loader to send rows to the step's consumer nodes and runs it.
+     * @param loader
+     * @param aStepDetail
+     * @param requestId
+     * @throws org.postgresql.stado.exception.XDBServerException
+     */
+    private void runLoader(Loader loader, StepDetail aStepDetail, int requestId)
+    throws XDBServerException {
         IntermediateSerialGeneratorClient aSerialGenerator = null;
         if (aStepDetail.getSerialColumnPosition() > 0) {
             // TODO generator ID will be taken from StepDetail
             aSerialGenerator = new IntermediateSerialGeneratorClient();
         }
-        Loader loader = new Loader(copyOut,
-                aStepDetail.getInsertColumnString());
         Collection<Integer> nodeList = aStepDetail.consumerNodeList;
 
         // Send messages if we are using the grid monitor
@@ -211,7 +231,6 @@ public class ProducerSender {
                 hashPosition = aStepDetail.getHashColumnPosition() - 1;
             }
         }
-
         PartitionMap partMap = aStepDetail.getPartitionMap();
         if (partMap == null) {
             // Force rebuild PartitionMap
@@ -226,7 +245,7 @@ public class ProducerSender {
                 aStepDetail.getDestType() == StepDetail.DEST_TYPE_NODEID,
                 aStepDetail.suppressSendingNodeId,
                 aStepDetail.nodeInfos);
-                currentLoader.set(loader);
+        currentLoader.set(loader);
         try {
             // loader.setVerbose(logger.isDebugEnabled());
             loader.prepareLoad();
@@ -258,18 +277,17 @@ public class ProducerSender {
                     }
                 }
             }
-            return;
         } catch (Exception e) {
             logger.catching(e);
-            XDBServerException ex = new XDBServerException(e.getMessage());
+            XDBServerException ex = new XDBServerException(
+                    "Can not send data to Nodes", e);
             logger.throwing(ex);
             throw ex;
         } finally {
             currentLoader.set(null);
         }
-    	
     }
-    
+
     /**
      * Sends ResultSet to nodes.
      * @param aResultSet
@@ -287,114 +305,17 @@ public class ProducerSender {
         try {
 
             currentResultSet.set(aResultSet);
+            if (Props.XDB_USE_LOAD_FOR_STEP) {
+                runLoader(new Loader(aResultSet,
+                        aStepDetail.getInsertColumnString()), aStepDetail,
+                        requestId);
+                return;
+            }
             IntermediateSerialGeneratorClient aSerialGenerator = null;
             if (aStepDetail.getSerialColumnPosition() > 0) {
                 // TODO generator ID will be taken from StepDetail
                 aSerialGenerator = new IntermediateSerialGeneratorClient();
             }
-            if (Props.XDB_USE_LOAD_FOR_STEP) {
-                Loader loader = new Loader(aResultSet,
-                        aStepDetail.getInsertColumnString());
-                Collection<Integer> nodeList = aStepDetail.consumerNodeList;
-
-                // Send messages if we are using the grid monitor
-                if (Props.XDB_ENABLE_ACTIVITY_LOG) {
-                    if (aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD
-                            || aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL) {
-                        SendRowsMessage beginSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_BEGIN_SEND_ROWS);
-                        beginSendRowsMessage.setRequestId(requestId);
-                        beginSendRowsMessage.setDestNodeForRows(1);
-                        sendHelper.sendMessage(new Integer(0),
-                                beginSendRowsMessage);
-                    } else {
-                        for (Object element : aStepDetail.consumerNodeList) {
-                            Integer destNodeInt = (Integer) element;
-
-                            SendRowsMessage beginSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_BEGIN_SEND_ROWS);
-                            beginSendRowsMessage.setRequestId(requestId);
-                            beginSendRowsMessage.setDestNodeForRows(destNodeInt.intValue());
-                            sendHelper.sendMessage(new Integer(0),
-                                    beginSendRowsMessage);
-                        }
-                    }
-                }
-
-                if (aStepDetail.getDestType() == StepDetail.DEST_TYPE_BROADCAST_AND_COORD
-                        || aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD
-                        || aStepDetail.getDestType() == StepDetail.DEST_TYPE_COORD_FINAL
-                        || aStepDetail.combineOnCoordFirst) {
-                    if (nodeList == null) {
-                        nodeList = Collections.singleton(aStepDetail.getDestNode());
-                    } else if (!nodeList.contains(aStepDetail.getDestNode())) {
-                        nodeList = new HashSet<Integer>(nodeList);
-                        nodeList.add(aStepDetail.getDestNode());
-                    }
-                }
-                NodeProducerThread.CATEGORY_NODEQUERYTIME.debug("Sending results to Nodes:"
-                        + nodeList);
-                int hashPosition = -1;
-                if (aStepDetail.getDestType() == StepDetail.DEST_TYPE_HASH) {
-                    if (aStepDetail.getHashColumnPosition() > 0) {
-                        hashPosition = aStepDetail.getHashColumnPosition() - 1;
-                    }
-                }
-                PartitionMap partMap = aStepDetail.getPartitionMap();
-                if (partMap == null) {
-                    // Force rebuild PartitionMap
-                    partMap = new ReplicatedPartitionMap();
-                    partMap.generateDistribution(nodeList);
-                }
-                loader.setTargetTableInfoExt(aStepDetail.targetTable,
-                        hashPosition, aStepDetail.getGroupHashColumns(), partMap,
-                        aStepDetail.getHashDataType(),
-                        aStepDetail.getSerialColumnPosition(),
-                        aSerialGenerator,
-                        aStepDetail.getDestType() == StepDetail.DEST_TYPE_NODEID,
-                        aStepDetail.suppressSendingNodeId,
-                        aStepDetail.nodeInfos);
-                        currentLoader.set(loader);
-                try {
-                    // loader.setVerbose(logger.isDebugEnabled());
-                    loader.prepareLoad();
-                    boolean success = false;
-                    try {
-                        NodeProducerThread.CATEGORY_NODEQUERYTIME.debug("Run Writers");
-                        loader.runWriters();
-                        success = true;
-                    } finally {
-                        NodeProducerThread.CATEGORY_NODEQUERYTIME.debug("Finish load");
-                        loader.finishLoad(success);
-
-                        if (Props.XDB_ENABLE_ACTIVITY_LOG) {
-                            HashMap<Integer, Long> writerMap = loader.getRowCountMap();
-
-                            if (writerMap != null) {
-                                for (Object element : writerMap.keySet()) {
-                                    Integer destNodeInt = (Integer) element;
-
-                                    SendRowsMessage endSendRowsMessage = (SendRowsMessage) NodeMessage.getNodeMessage(NodeMessage.MSG_END_SEND_ROWS);
-
-                                    endSendRowsMessage.setRequestId(requestId);
-                                    endSendRowsMessage.setDestNodeForRows(destNodeInt.intValue());
-                                    endSendRowsMessage.setNumRowsSent(writerMap.get(destNodeInt));
-
-                                    sendHelper.sendMessage(new Integer(0),
-                                            endSendRowsMessage);
-                                }
-                            }
-                        }
-                    }
-                    return;
-                } catch (Exception e) {
-                    logger.catching(e);
-                    XDBServerException ex = new XDBServerException(
-                            "Can not send data to Nodes", e);
-                    logger.throwing(ex);
-                    throw ex;
-                } finally {
-                    currentLoader.set(null);
-                }
-            }
             // Use batches to send intermediate results
             int iColumnCount = 0;
             int iPartitionedNode;
@@ -259,6 +259,17 @@ public class ServerStatement {
         }
     }
 
+    /**
+     * Returns the request to the PlanCache, for reuse by subsequent
+     * statements with the same text. Should be called when the statement is
+     * closed and no longer referenced by the session.
+     */
+    void release() {
+        if (request != null && request.getPlanCacheKey() != null) {
+            PlanCache.getPlanCache().release(request, client);
+        }
+    }
+
     private void close(ResultSet rs) {
         try {
             new SqlDropTempTables(rs, client).execute(Engine.getInstance());
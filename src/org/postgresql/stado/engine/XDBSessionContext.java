@@ -171,6 +171,10 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
             }
         }
         XLogger.getLogger("Server").info("*** Server is going down");
+        XLogger.getLogger("Server").info("Commit latency: "
+                + MultinodeExecutor.getCommitLatency());
+        XLogger.getLogger("Server").info("Rollback latency: "
+                + MultinodeExecutor.getRollbackLatency());
         for (SysDatabase database : MetaData.getMetaData().getSysDatabases()) {
             // Zahid: We want to proceed with the shutdown process if the virtual xdb admin db is running
             if (database.isStarted() && !database.getDbname().equalsIgnoreCase(Props.XDB_ADMIN_DATABASE)) {
@@ -241,6 +245,9 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         logger.debug("Batch Execution Time: "
                 + ExecutableRequest.batchTimer.getDuration());
         // BUILD_CUT_END
+        if (logger.isDebugEnabled()) {
+            logger.debug(PlanCache.getPlanCache().toString());
+        }
         return ExecutionResult
                 .createSuccessResult(ExecutionResult.COMMAND_LOGOUT);
     }
@@ -492,6 +499,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
             }
         } finally {
             sessions.remove(this);
+            PlanCache.getPlanCache().removeSession(this);
             clearCoordinatorConnection();
             releaseExecutor();
             currentUser = null;
@@ -820,6 +828,8 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
     public void registerTempTableWithSession(String referenceName,
             String tableName) {
         tempTableMap.put(referenceName.toUpperCase(), tableName);
+        // Cached plans may refer to the table the temp table hides
+        PlanCache.getPlanCache().removeSession(this);
     }
 
     /**
@@ -827,6 +837,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
      */
     public void deregisterTempTableWithSession(String referenceName) {
         tempTableMap.remove(referenceName.toUpperCase());
+        PlanCache.getPlanCache().removeSession(this);
     }
 
     /**
@@ -918,6 +929,10 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         ServerStatement previous = cursors.put(cursorID, statement);
         if (previous != null) {
             previous.close();
+            if (previous != statement
+                    && previous != statements.get(previous.getStatementID())) {
+                previous.release();
+            }
         }
         statement.bind(cursorID, paramValues);
         statement.setBindStepComplete(true);
@@ -977,6 +992,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         ServerStatement statement = statements.remove(statementID);
         if (statement != null && statement != cursors.get(statement.getCursorID())) {
             statement.close();
+            statement.release();
         }
     }
 
@@ -984,6 +1000,7 @@ public class XDBSessionContext implements MessageTypes, ITransaction {
         ServerStatement statement = cursors.remove(cursorID);
         if (statement != null && statement != statements.get(statement.getStatementID())) {
             statement.close();
+            statement.release();
         }
         tryToReleaseConnections();
     }
@@ -82,6 +82,16 @@ public class TimeType implements XData {
     public void setObject(Object o) throws SQLException {
     }
 
+    /** returns the time value without the time zone */
+    public Time getTime() {
+        return val;
+    }
+
+    /** returns the time zone suffix, empty string if not specified */
+    public String getTimezone() {
+        return timezone;
+    }
+
     /** convert the value to string with the specified charset encoding */
     public String toString(String encoding)
             throws java.io.UnsupportedEncodingException {
@@ -83,6 +83,16 @@ public class TimestampType implements XData {
     public void setObject(Object o) throws SQLException {
     }
 
+    /** returns the timestamp value without the time zone */
+    public Timestamp getTimestamp() {
+        return val;
+    }
+
+    /** returns the time zone suffix, empty string if not specified */
+    public String getTimezone() {
+        return timezone;
+    }
+
     /** convert the value to string with the specified charset encoding */
     public String toString(String encoding)
             throws java.io.UnsupportedEncodingException {
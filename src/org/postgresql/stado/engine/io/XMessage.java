@@ -79,6 +79,9 @@ public abstract class XMessage {
 
     protected int readPos = 0;
 
+    // index in message[] where the message body starts
+    protected int readOffset = 0;
+
     // header info
     // 1. 3 bytes
     protected int packetLength = HEADER_SIZE;// minimum is the header size
@@ -144,8 +147,17 @@ public abstract class XMessage {
 
     // now for the details
     public void setMessage(byte[] message) {
+        setMessage(message, 0);
+    }
+
+    /**
+     * Set message body located in the array starting from specified offset.
+     * The array is used as is, without copying
+     */
+    public void setMessage(byte[] message, int offset) {
         this.message = message;
-        readPos = 0;
+        readOffset = offset;
+        readPos = offset;
     }
 
     public byte[] getMessage() {
@@ -161,14 +173,11 @@ public abstract class XMessage {
         if (message == null) {
             message = new byte[size];
         } else if ((currentPos + size) > message.length) {
-            // Grab a extra to save on array copying and extra allocs
-            if (size < 8192) {
-                size = 8192;
-            }
-
-            int newSize = currentPos + size;
+            // Grow at least twice to keep number of array copies low
+            // when big packets are built
+            int newSize = Math.max(currentPos + size, message.length * 2);
             byte[] tmp = new byte[newSize];
-            System.arraycopy(message, 0, tmp, 0, message.length);
+            System.arraycopy(message, 0, tmp, 0, currentPos);
             message = tmp;
         }
     }
@@ -292,7 +301,7 @@ public abstract class XMessage {
 
     // any more data on message[]
     public boolean hasMoreDataToRead() {
-        return readPos < packetLength - XMessage.HEADER_SIZE;
+        return readPos - readOffset < packetLength - XMessage.HEADER_SIZE;
     }
 
     // readPos marks where last byte read
@@ -0,0 +1,555 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/**
+ *
+ */
+package org.postgresql.stado.engine.loader;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.ParseCmdLine;
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.copy.CopyManager;
+import org.postgresql.stado.engine.copy.CopyOut;
+import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+import org.postgresql.stado.metadata.SysColumn;
+import org.postgresql.stado.metadata.SysDatabase;
+import org.postgresql.stado.metadata.SysIndex;
+import org.postgresql.stado.metadata.SysIndexKey;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.parser.ExpressionType;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+
+
+/**
+ * Moves rows of hash partitioned table to the nodes where new partition map
+ * places them. Every node of current map is scanned with COPY TO, the rows
+ * are routed by new map, those belonging to other node are streamed to that
+ * node with COPY FROM and deleted from the source by ctid. Nothing is
+ * committed on the nodes until commitTargets() and commitSources() are
+ * called, so concurrent queries see the table as it has been before.
+ * Concurrent writes to the table should be blocked while rows are moving.
+ * Target nodes which do not have the table yet get it created in the same
+ * transaction.
+ */
+public class BucketMover {
+    private static final XLogger logger = XLogger.getLogger(BucketMover.class);
+
+    private SysTable table;
+
+    private SysDatabase database;
+
+    private HashPartitionMap newMap;
+
+    private List<String> createStatements;
+
+    private PartitionRouter router;
+
+    /**
+     * COPY parameters for the target nodes
+     */
+    private HashMap<String, String> params;
+
+    private String copyOutCommand;
+
+    /**
+     * Position of partitioning column in the COPY row
+     */
+    private int partColumn;
+
+    /**
+     * Writers by node index of the router
+     */
+    private PostgresWriter[] writers;
+
+    /**
+     * Connections deleting moved rows from the source nodes, by node id
+     */
+    private Map<Integer, Connection> sources = new HashMap<Integer, Connection>();
+
+    private long rowsScanned = 0;
+
+    private long rowsMoved = 0;
+
+    private long bytesMoved = 0;
+
+    private long startTime = 0;
+
+    private long lastReport = 0;
+
+    /**
+     * @param table
+     *                the table to move
+     * @param newMap
+     *                new partition map of the table
+     */
+    public BucketMover(SysTable table, HashPartitionMap newMap) {
+        this.table = table;
+        this.newMap = newMap;
+        database = table.getSysDatabase();
+        List<SysColumn> columns = table.getColumns();
+        partColumn = columns.indexOf(table.getPartitionedColumn());
+        StringBuffer columnList = new StringBuffer();
+        for (SysColumn column : columns) {
+            columnList.append(IdentifierHandler.quote(column.getColName())).append(", ");
+        }
+        columnList.setLength(columnList.length() - 2);
+        copyOutCommand = "COPY (SELECT " + columnList + ", ctid FROM "
+                + IdentifierHandler.quote(table.getTableName())
+                + ") TO STDOUT";
+        params = new HashMap<String, String>();
+        params.put("table", IdentifierHandler.quote(table.getTableName()));
+        params.put("columninfo", "(" + columnList + ")");
+        params.put("delimiter", ParseCmdLine.escape("\t", -1, false));
+        params.put("null", ParseCmdLine.escape("\\N", -1, false));
+        router = new PartitionRouter(newMap, new ExpressionType(
+                table.getPartitionedColumn()), new ArrayList<Integer>(
+                newMap.allPartitions()));
+        writers = new PostgresWriter[router.getNodeCount()];
+        createStatements = getCreateStatements(table);
+    }
+
+    /**
+     * Statements to create the table and its indexes on a new node
+     */
+    private static List<String> getCreateStatements(SysTable table) {
+        List<String> statements = new ArrayList<String>();
+        statements.add(table.getTableDef(false));
+        for (SysIndex index : table.getSysIndexList()) {
+            StringBuffer sbIndex = new StringBuffer("CREATE ");
+            if (index.idxtype == 'U' || index.idxtype == 'P') {
+                sbIndex.append("UNIQUE ");
+            }
+            sbIndex.append("INDEX ").append(IdentifierHandler.quote(index.idxname));
+            sbIndex.append(" ON ").append(IdentifierHandler.quote(table.getTableName()));
+            if (index.usingtype != null) {
+                sbIndex.append(" USING ").append(index.usingtype);
+            }
+            sbIndex.append(" (");
+            for (SysIndexKey key : index.getIndexKeys()) {
+                SysColumn column = key.sysColumn == null ? table
+                        .getSysColumn(key.colid) : key.sysColumn;
+                sbIndex.append(IdentifierHandler.quote(column.getColName()));
+                if (key.coloperator != null) {
+                    sbIndex.append(" ").append(key.coloperator);
+                }
+                if (key.idxascdesc != 0) {
+                    sbIndex.append(" DESC");
+                }
+                sbIndex.append(", ");
+            }
+            sbIndex.setLength(sbIndex.length() - 2);
+            sbIndex.append(")");
+            if (index.wherepred != null) {
+                sbIndex.append(" WHERE ").append(index.wherepred);
+            }
+            statements.add(sbIndex.toString());
+        }
+        return statements;
+    }
+
+    /**
+     * Move the rows from all the nodes of current map. Changes are left
+     * uncommitted.
+     *
+     * @throws Exception
+     */
+    public void move() throws Exception {
+        startTime = System.currentTimeMillis();
+        lastReport = startTime;
+        for (Integer nodeId : table.getPartitionMap().allPartitions()) {
+            moveFrom(nodeId);
+        }
+        for (PostgresWriter writer : writers) {
+            if (writer != null) {
+                writer.finish(true);
+                logger.debug(writer.getStatistics());
+            }
+        }
+        logger.info(getStatistics());
+    }
+
+    /**
+     * Scan the source node and stream rows which do not belong there any
+     * more to their new nodes
+     */
+    private void moveFrom(int sourceId) throws Exception {
+        NodeDBConnectionInfo connectionInfo = database.getDBNode(sourceId)
+                .getNodeDBConnectionInfo();
+        LoaderConnectionPool pool = LoaderConnectionPool.getConnectionPool();
+        Connection deleteConn = pool.getConnection(connectionInfo);
+        sources.put(sourceId, deleteConn);
+        deleteConn.createStatement().executeUpdate("BEGIN");
+        Connection conn = pool.getConnection(connectionInfo);
+        try {
+            conn.createStatement().executeUpdate("BEGIN");
+            CopyOut copyOut = CopyManager.getCopyManager(conn).copyOut(
+                    copyOutCommand);
+            try {
+                int[] target = new int[1];
+                List<String> ctids = new ArrayList<String>();
+                byte[] row;
+                while ((row = copyOut.readFromCopy()) != null) {
+                    int length = row.length;
+                    while (length > 0 && (row[length - 1] == '\n'
+                            || row[length - 1] == '\r')) {
+                        length--;
+                    }
+                    // ctid is the last field
+                    int ctidStart = length;
+                    while (row[ctidStart - 1] != '\t') {
+                        ctidStart--;
+                    }
+                    rowsScanned++;
+                    router.route(getValue(row, partColumn), target);
+                    if (router.getNodeId(target[0]) == sourceId) {
+                        continue;
+                    }
+                    getWriter(target[0]).writeRow(row, 0, ctidStart - 1);
+                    ctids.add(new String(row, ctidStart, length - ctidStart));
+                    if (ctids.size() >= Props.XDB_REBALANCE_DELETE_BATCH) {
+                        deleteRows(deleteConn, ctids);
+                    }
+                    rowsMoved++;
+                    bytesMoved += ctidStart;
+                    throttle();
+                }
+                deleteRows(deleteConn, ctids);
+            } catch (Exception e) {
+                try {
+                    copyOut.cancelCopy();
+                } catch (SQLException se) {
+                    logger.catching(se);
+                }
+                throw e;
+            }
+            conn.createStatement().executeUpdate("COMMIT");
+        } finally {
+            pool.releaseConnection(connectionInfo, conn);
+        }
+    }
+
+    /**
+     * @return value of the field in COPY text row with escapes decoded, null
+     *         if it is NULL
+     */
+    private static String getValue(byte[] row, int field) {
+        int start = 0;
+        for (int i = 0; i < field; i++) {
+            while (row[start] != '\t') {
+                start++;
+            }
+            start++;
+        }
+        int end = start;
+        while (row[end] != '\t') {
+            end++;
+        }
+        if (end - start == 2 && row[start] == '\\' && row[start + 1] == 'N') {
+            return null;
+        }
+        byte[] value = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = row[i];
+            if (b == '\\' && i + 1 < end) {
+                b = row[++i];
+                switch (b) {
+                case 'b':
+                    b = '\b';
+                    break;
+                case 'f':
+                    b = '\f';
+                    break;
+                case 'n':
+                    b = '\n';
+                    break;
+                case 'r':
+                    b = '\r';
+                    break;
+                case 't':
+                    b = '\t';
+                    break;
+                case 'v':
+                    b = 0x0b;
+                    break;
+                case 'x':
+                    if (i + 1 < end && Character.digit(row[i + 1], 16) >= 0) {
+                        int code = Character.digit(row[++i], 16);
+                        if (i + 1 < end && Character.digit(row[i + 1], 16) >= 0) {
+                            code = code * 16 + Character.digit(row[++i], 16);
+                        }
+                        b = (byte) code;
+                    }
+                    break;
+                default:
+                    if (b >= '0' && b <= '7') {
+                        int code = b - '0';
+                        for (int j = 0; j < 2 && i + 1 < end
+                                && row[i + 1] >= '0' && row[i + 1] <= '7'; j++) {
+                            code = code * 8 + row[++i] - '0';
+                        }
+                        b = (byte) code;
+                    }
+                    // other escaped characters stand for themselves
+                }
+            }
+            value[length++] = b;
+        }
+        return new String(value, 0, length);
+    }
+
+    /**
+     * Get writer to the node, starting it if needed. If the table does not
+     * exist on the node it is created.
+     */
+    private PostgresWriter getWriter(int index) throws IOException,
+            SQLException {
+        if (writers[index] == null) {
+            int nodeId = router.getNodeId(index);
+            PostgresWriter writer = new PostgresWriter(database.getDBNode(
+                    nodeId).getNodeDBConnectionInfo(),
+                    Props.XDB_LOADER_PGWRITER_TEMPLATE,
+                    new HashMap<String, String>(params));
+            writers[index] = writer;
+            writer.start();
+            if (!table.getPartitionMap().allPartitions().contains(nodeId)) {
+                for (String statement : createStatements) {
+                    writer.execute(statement);
+                }
+            }
+        }
+        return writers[index];
+    }
+
+    private void deleteRows(Connection conn, List<String> ctids)
+            throws SQLException {
+        if (ctids.isEmpty()) {
+            return;
+        }
+        StringBuffer sbDelete = new StringBuffer("DELETE FROM ");
+        sbDelete.append(IdentifierHandler.quote(table.getTableName()));
+        sbDelete.append(" WHERE ctid = ANY ('{");
+        for (String ctid : ctids) {
+            sbDelete.append('"').append(ctid).append("\",");
+        }
+        sbDelete.setLength(sbDelete.length() - 1);
+        sbDelete.append("}'::tid[])");
+        conn.createStatement().executeUpdate(sbDelete.toString());
+        ctids.clear();
+    }
+
+    /**
+     * Sleep if data are moving faster than xdb.rebalance.bandwidth allows,
+     * and report progress periodically
+     */
+    private void throttle() {
+        long now = System.currentTimeMillis();
+        if (Props.XDB_REBALANCE_BANDWIDTH > 0) {
+            long ahead = bytesMoved * 1000 / (Props.XDB_REBALANCE_BANDWIDTH * 1024L)
+                    - (now - startTime);
+            if (ahead > 0) {
+                try {
+                    Thread.sleep(ahead);
+                } catch (InterruptedException e) {
+                    // go on moving
+                }
+                now = System.currentTimeMillis();
+            }
+        }
+        if (now - lastReport >= Props.XDB_REBALANCE_PROGRESS_INTERVAL * 1000L) {
+            lastReport = now;
+            logger.info(getStatistics());
+        }
+    }
+
+    /**
+     * Make moved rows visible on the target nodes
+     *
+     * @throws SQLException
+     */
+    public void commitTargets() throws SQLException {
+        for (PostgresWriter writer : writers) {
+            if (writer != null) {
+                writer.commit();
+            }
+        }
+    }
+
+    /**
+     * Delete moved rows from the source nodes. All the nodes are tried even
+     * if some of them fail.
+     *
+     * @return ids of the nodes where commit has failed
+     */
+    public List<Integer> commitSources() {
+        List<Integer> failed = new ArrayList<Integer>();
+        for (Map.Entry<Integer, Connection> entry : sources.entrySet()) {
+            try {
+                entry.getValue().createStatement().executeUpdate("COMMIT");
+            } catch (SQLException e) {
+                logger.catching(e);
+                failed.add(entry.getKey());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Delete rows which do not belong to the source node according to new
+     * partition map, and commit. Used if the node has failed to commit
+     * after the partition map has been switched.
+     *
+     * @param sourceId
+     * @throws Exception
+     */
+    public void purgeSource(int sourceId) throws Exception {
+        NodeDBConnectionInfo connectionInfo = database.getDBNode(sourceId)
+                .getNodeDBConnectionInfo();
+        LoaderConnectionPool pool = LoaderConnectionPool.getConnectionPool();
+        Connection deleteConn = pool.getConnection(connectionInfo);
+        Connection conn = pool.getConnection(connectionInfo);
+        try {
+            deleteConn.createStatement().executeUpdate("BEGIN");
+            conn.createStatement().executeUpdate("BEGIN");
+            CopyOut copyOut = CopyManager.getCopyManager(conn).copyOut(
+                    "COPY (SELECT "
+                            + IdentifierHandler.quote(table.getPartitionedColumn().getColName())
+                            + ", ctid FROM "
+                            + IdentifierHandler.quote(table.getTableName())
+                            + ") TO STDOUT");
+            int[] target = new int[1];
+            List<String> ctids = new ArrayList<String>();
+            long purged = 0;
+            byte[] row;
+            while ((row = copyOut.readFromCopy()) != null) {
+                int length = row.length;
+                while (length > 0 && (row[length - 1] == '\n'
+                        || row[length - 1] == '\r')) {
+                    length--;
+                }
+                router.route(getValue(row, 0), target);
+                if (router.getNodeId(target[0]) == sourceId) {
+                    continue;
+                }
+                int ctidStart = length;
+                while (row[ctidStart - 1] != '\t') {
+                    ctidStart--;
+                }
+                ctids.add(new String(row, ctidStart, length - ctidStart));
+                if (ctids.size() >= Props.XDB_REBALANCE_DELETE_BATCH) {
+                    purged += ctids.size();
+                    deleteRows(deleteConn, ctids);
+                }
+            }
+            purged += ctids.size();
+            deleteRows(deleteConn, ctids);
+            conn.createStatement().executeUpdate("COMMIT");
+            deleteConn.createStatement().executeUpdate("COMMIT");
+            logger.info("Deleted " + purged + " moved rows of table "
+                    + table.getTableName() + " from node " + sourceId);
+        } catch (Exception e) {
+            try {
+                deleteConn.createStatement().executeUpdate("ROLLBACK");
+                conn.createStatement().executeUpdate("ROLLBACK");
+            } catch (SQLException se) {
+                logger.catching(se);
+            }
+            throw e;
+        } finally {
+            pool.releaseConnection(connectionInfo, conn);
+            pool.releaseConnection(connectionInfo, deleteConn);
+        }
+    }
+
+    /**
+     * Discard changes which have not been committed yet
+     */
+    public void rollback() {
+        for (PostgresWriter writer : writers) {
+            if (writer != null) {
+                try {
+                    writer.finish(false);
+                    writer.rollback();
+                } catch (Exception e) {
+                    logger.catching(e);
+                }
+            }
+        }
+        for (Connection conn : sources.values()) {
+            try {
+                conn.createStatement().executeUpdate("ROLLBACK");
+            } catch (SQLException e) {
+                logger.catching(e);
+            }
+        }
+    }
+
+    /**
+     * Release node connections
+     */
+    public void close() {
+        for (PostgresWriter writer : writers) {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (SQLException e) {
+                    logger.catching(e);
+                }
+            }
+        }
+        LoaderConnectionPool pool = LoaderConnectionPool.getConnectionPool();
+        for (Map.Entry<Integer, Connection> entry : sources.entrySet()) {
+            pool.releaseConnection(database.getDBNode(entry.getKey())
+                    .getNodeDBConnectionInfo(), entry.getValue());
+        }
+        sources.clear();
+    }
+
+    /**
+     * @return number of rows moved to other nodes
+     */
+    public long getRowsMoved() {
+        return rowsMoved;
+    }
+
+    /**
+     * @return progress and throughput of the move
+     */
+    public String getStatistics() {
+        long elapsed = System.currentTimeMillis() - startTime;
+        return "Rebalancing table " + table.getTableName() + ": scanned "
+                + rowsScanned + " rows, moved " + rowsMoved + " rows, "
+                + bytesMoved / 1024 + " KB in " + elapsed / 1000 + " s"
+                + (elapsed > 0 ? ", " + bytesMoved * 1000 / 1024 / elapsed
+                        + " KB/s" : "");
+    }
+}
@@ -82,18 +82,17 @@ public class CopyOutReaderThread implements Callable<Boolean> {
         byte[] rowColsValue;
         try {
             while ((rowColsValue = copyOut.readFromCopy()) != null) {
-            	// Remove possible trailing EOL characters
-            	int i = rowColsValue.length - 1;
-            	// Find index of last non-EOL char
-            	while (i-- > 0 && (rowColsValue[i] == '\n' || rowColsValue[i] == '\r')) /*NOOP*/;
-            	int newLen = i + 1;
-            	if (newLen < rowColsValue.length) {
-            		byte[] newBuf = new byte[newLen];
-            		if (newLen > 0) {
-            			System.arraycopy(rowColsValue, 0, newBuf, 0, newLen);
-            		}
-            		rowColsValue = newBuf;
-            	}
+                // Remove trailing EOL characters
+                int newLen = rowColsValue.length;
+                while (newLen > 0 && (rowColsValue[newLen - 1] == '\n'
+                        || rowColsValue[newLen - 1] == '\r')) {
+                    newLen--;
+                }
+                if (newLen < rowColsValue.length) {
+                    byte[] newBuf = new byte[newLen];
+                    System.arraycopy(rowColsValue, 0, newBuf, 0, newLen);
+                    rowColsValue = newBuf;
+                }
                 loadBuffer.putRowValue(rowColsValue, null);
             }
             return true;
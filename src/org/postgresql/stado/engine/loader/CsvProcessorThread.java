@@ -46,6 +46,37 @@ public class CsvProcessorThread extends TextProcessorThread {
         nullValueTemplate = NULLValue.getBytes();
     }
 
+    /**
+     * Create new processor instance
+     * @param loader
+     * @param id
+     * @param b
+     * @param chunked true if buffer is filled by StreamReaderThread with
+     * chunks of records
+     * @throws Exception
+     */
+    public CsvProcessorThread(ILoaderConfigInformation loader, int id,
+            DataReaderAndProcessorBuffer<byte[]> b, boolean chunked) throws Exception{
+        super(loader, id, b, chunked);
+        nullValueTemplate = NULLValue.getBytes();
+    }
+
+    /* (non-Javadoc)
+     * @see org.postgresql.stado.engine.loader.TextProcessorThread#createRecordScanner()
+     */
+    @Override
+    protected RecordScanner createRecordScanner() {
+        return new RecordScanner(separator, getQuoteChar(), getQuoteEscape());
+    }
+
+    /* (non-Javadoc)
+     * @see org.postgresql.stado.engine.loader.TextProcessorThread#preserveLineEnd()
+     */
+    @Override
+    protected boolean preserveLineEnd() {
+        return true;
+    }
+
     private StringBuilder strBuilder = new StringBuilder();
     /* (non-Javadoc)
      * @see org.postgresql.stado.engine.loader.TextProcessorThread#encodeValue(java.lang.String)
@@ -83,7 +114,7 @@ public class CsvProcessorThread extends TextProcessorThread {
      */
     @Override
     protected boolean parseRow() throws Exception {
-        outputRow = getNextRowValue();
+        outputRow = getNextRecord();
         if (outputRow == null) {
             return false;
         }
@@ -97,7 +128,7 @@ public class CsvProcessorThread extends TextProcessorThread {
                 nextPos = find(outputRow, (byte) getQuoteChar(), pos);
                 if (nextPos == -1) {
                     // Not completed quoted value, append next row
-                    byte[] nextRow = getNextRowValue();
+                    byte[] nextRow = getNextRecord();
                     if (nextRow == null) {
                         throw new Exception("Closing quote not found");
                     }
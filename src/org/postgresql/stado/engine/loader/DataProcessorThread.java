@@ -23,7 +23,7 @@
 package org.postgresql.stado.engine.loader;
 
 import java.io.IOException;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -62,6 +62,18 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
 
     protected HashMap<Integer, INodeWriter> writerThreadsList;
 
+    /**
+     * Writers by node index of the partitionRouter
+     */
+    private INodeWriter[] writers;
+
+    private PartitionRouter partitionRouter;
+
+    /**
+     * Indexes of the nodes where current row goes
+     */
+    private int[] targetNodes;
+
     private final DataReaderAndProcessorBuffer<T> loadBuffer;
 
     protected long maxSuppliedRowIDValue;
@@ -190,6 +202,23 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
             }
             newWriter.start();
         }
+        partitionRouter = new PartitionRouter(gridPartitionMap, hashDataType,
+                new ArrayList<Integer>(writerThreadsList.keySet()));
+        writers = new INodeWriter[partitionRouter.getNodeCount()];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = writerThreadsList.get(partitionRouter.getNodeId(i));
+        }
+        targetNodes = new int[writers.length];
+    }
+
+    /**
+     * @param index
+     *                node index returned by the partitionRouter
+     * @return writer for the node, or null if row can not be written to the
+     *         node
+     */
+    private INodeWriter getWriter(int index) {
+        return index < 0 ? null : writers[index];
     }
 
     /**
@@ -201,8 +230,12 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
         Exception error = null;
         Iterator<INodeWriter> it = writerThreadsList.values().iterator();
         while (it.hasNext()) {
+            INodeWriter writer = it.next();
             try {
-                it.next().finish(success);
+                writer.finish(success);
+                if (logger.isDebugEnabled()) {
+                    logger.debug(writer.getStatistics());
+                }
             } catch (Exception e) {
                 if (success) {
                     success = false;
@@ -285,23 +318,16 @@ public abstract class DataProcessorThread<T> implements Callable<Integer> {
             // See if we need to send data based on XNODEID
             if (isDestTypeNodeId) {
                 String nodeId = getValue(getColumnCount());
-                INodeWriter aWriter = writerThreadsList.get(new Integer(nodeId));
-                outputRow(aWriter);
+                outputRow(getWriter(partitionRouter.getNodeIndex(Integer.parseInt(nodeId))));
             } else {
                 String groupByHashString = getNextGroupByHashString();
                 if (groupByHashString != null) {
-                    Collection<Integer> nodeIdList = gridPartitionMap.getPartitions(
-                            SqlExpression.createConstantExpression(
-                                    groupByHashString, hashDataType).getNormalizedValue());
-                    Integer[] nodeArray = (Integer[]) nodeIdList.toArray();
-                    INodeWriter aWriter = writerThreadsList.get(new Integer(nodeArray[0]));
-                    outputRow(aWriter);
+                    partitionRouter.route(groupByHashString, targetNodes);
+                    outputRow(getWriter(targetNodes[0]));
                 } else {
-                    for (int nodeId : gridPartitionMap.getPartitions(partValue == null ? null
-                            : SqlExpression.createConstantExpression(
-                                    partValue, hashDataType).getNormalizedValue())) {
-                        INodeWriter aWriter = writerThreadsList.get(new Integer(nodeId));
-                        outputRow(aWriter);
+                    int count = partitionRouter.route(partValue, targetNodes);
+                    for (int i = 0; i < count; i++) {
+                        outputRow(getWriter(targetNodes[i]));
                     }
                 }
             }
@@ -33,7 +33,8 @@ import org.postgresql.stado.exception.XDBDataReaderException;
  * The main purpose of this class instance is to act as thread-safe data-buffer for
  * the data-reader thread and data-processor threads so that they can easily act as
  * producer-consumer against some data-source (e.g. file, result set, and socket).
- *
+ * Waiting party is notified only if there is one, so a put or get does not
+ * have to wake up other threads when the buffer is neither empty nor full.
  *
  */
 public class DataReaderAndProcessorBuffer<T> {
@@ -54,6 +55,10 @@ public class DataReaderAndProcessorBuffer<T> {
 
     private boolean hasFinished ;
 
+    private int waitingProducers ;
+
+    private int waitingConsumers ;
+
     /**
      * Creates a new instance of PCBuffer
      */
@@ -83,7 +88,7 @@ public class DataReaderAndProcessorBuffer<T> {
      */
     public synchronized void markFinished() {
         hasFinished = true ;
-        notify() ;
+        notifyAll() ;
         if (waitForFullBuffer > 0) {
             logger.debug("Wait for full buffer: " + waitForFullBuffer);
         }
@@ -97,26 +102,30 @@ public class DataReaderAndProcessorBuffer<T> {
      */
     public synchronized void putRowValue(T value, String hashString)
     throws XDBDataReaderException {
-        try {
-            while ( !hasFinished && currentSize == bufferLimit ) {
+        while ( !hasFinished && currentSize == bufferLimit ) {
+            try {
+                long curTime = System.currentTimeMillis();
+                waitingProducers++ ;
                 try {
-                    long curTime = System.currentTimeMillis();
                     wait() ;
-                    waitForFullBuffer += System.currentTimeMillis() - curTime;
                 }
-                catch (InterruptedException ex) {
-                    // keep waiting till our buffer has any free space.
+                finally {
+                    waitingProducers-- ;
                 }
+                waitForFullBuffer += System.currentTimeMillis() - curTime;
             }
-            if (hasFinished) {
-                throw new XDBDataReaderException("Cancelled by user");
+            catch (InterruptedException ex) {
+                // keep waiting till our buffer has any free space.
             }
-            if ( in==bufferLimit ) { in = 0 ; }
-            currentSize++ ;
-            groupByHashBuffer[in] = hashString;
-            rowsBuffer[in++] = value ;
         }
-        finally {
+        if (hasFinished) {
+            throw new XDBDataReaderException("Cancelled by user");
+        }
+        if ( in==bufferLimit ) { in = 0 ; }
+        currentSize++ ;
+        groupByHashBuffer[in] = hashString;
+        rowsBuffer[in++] = value ;
+        if ( waitingConsumers > 0 ) {
             notify() ;
         }
     }
@@ -125,43 +134,46 @@ public class DataReaderAndProcessorBuffer<T> {
      * Put row value in the rowsBuffer.
      */
     public synchronized void putRowValue(T value) throws XDBDataReaderException {
-        try {
-            putRowValue(value, null);
-        }
-        finally {
-            notify() ;
-        }
+        putRowValue(value, null);
     }
     
     /**
      * Fetch the buffered row value.
      */
     public synchronized T getNextRowValue() {
-        try {
-            while ( currentSize==0 ) {
-                if ( hasFinished ) {
-                    return null ;
-                }
-                else {
+        while ( currentSize==0 ) {
+            if ( hasFinished ) {
+                return null ;
+            }
+            else {
+                try {
+                    long curTime = System.currentTimeMillis();
+                    waitingConsumers++ ;
                     try {
-                        long curTime = System.currentTimeMillis();
                         wait() ;
-                        waitForEmptyBuffer += System.currentTimeMillis() - curTime;
                     }
-                    catch (InterruptedException ex) {
-                        // keep waiting till our buffer has got some data.
+                    finally {
+                        waitingConsumers-- ;
                     }
+                    waitForEmptyBuffer += System.currentTimeMillis() - curTime;
+                }
+                catch (InterruptedException ex) {
+                    // keep waiting till our buffer has got some data.
                 }
             }
-            if ( out==bufferLimit ) { out = 0 ; }
-            currentSize-- ;
-            // set this so it can be obtained via getNextGroupByHashString
-            currentGroupByHashString = groupByHashBuffer[out];
-            return rowsBuffer[out++] ;
         }
-        finally {
+        if ( out==bufferLimit ) { out = 0 ; }
+        currentSize-- ;
+        // set this so it can be obtained via getNextGroupByHashString
+        currentGroupByHashString = groupByHashBuffer[out];
+        T value = rowsBuffer[out] ;
+        // release references to consumed data
+        rowsBuffer[out] = null ;
+        groupByHashBuffer[out++] = null ;
+        if ( waitingProducers > 0 ) {
             notify() ;
         }
+        return value ;
     }
     
     /**
@@ -169,12 +181,7 @@ public class DataReaderAndProcessorBuffer<T> {
      * called before this one.
      *
      */
-    public synchronized String getNextGroupByHashString() {        
-        try {
-            return currentGroupByHashString;            
-        }
-        finally {
-            notify() ;
-        }
-    }    
+    public synchronized String getNextGroupByHashString() {
+        return currentGroupByHashString;
+    }
 }
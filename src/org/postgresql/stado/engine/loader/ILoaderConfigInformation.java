@@ -63,6 +63,7 @@ public interface ILoaderConfigInformation {
     public int getSerialColumnPosition() ;
     public int getSerialColumnSequence() ;
     public int getPartitionColumnSequence() ;
+    public int[] getGroupHashColumns() ;
     public ExpressionType getHashDataType() ;
     public int getXRowidColumnSequence() ;
 
@@ -640,6 +640,14 @@ public class Loader implements ILoaderConfigInformation {
         return partColumn;
     }
 
+    /**
+     * @return one-based positions of columns to hash rows on for GROUP BY
+     *         processing, or null
+     */
+    public int[] getGroupHashColumns() {
+        return groupHashList;
+    }
+
     public int getXRowidColumnSequence() {
         return xrowidColumn;
     }
@@ -662,7 +670,7 @@ public class Loader implements ILoaderConfigInformation {
         }
 
         Future<Boolean> drHandle;
-        int dataProcCount = dataSource == DATA_SOURCE.CSV ? 1 : Props.XDB_LOADER_DATAPROCESSORS_COUNT;
+        int dataProcCount = Props.XDB_LOADER_DATAPROCESSORS_COUNT;
         dpThreads = new DataProcessorThread[dataProcCount];
         Future<Integer>[] dpHandles = new Future[dataProcCount];
         /*
@@ -717,19 +725,31 @@ public class Loader implements ILoaderConfigInformation {
              * Note: (re)check whether the buffer size (=Math.max(100,
              * PARALLEL_PROCESSOR_COUNT*20)) is OK?
              */
+            /*
+             * Buffer holds chunks of records rather then single records,
+             * few per data-processors-thread are enough to keep them busy.
+             */
             DataReaderAndProcessorBuffer<byte[]> buffer = new DataReaderAndProcessorBuffer<byte[]>(
-                    Props.XDB_LOADER_DATAPROCESSOR_BUFFER, dataSource);
+                    2 * dataProcCount + 1, dataSource);
             /*
              * When the data source is file, determine the number of
              * data-processors-threads from the configuration file.
+             * Reader cuts CSV data on record boundaries, taking quoted
+             * line ends into account, so CSV records may be parsed in
+             * parallel as well.
              */
-            StreamReaderThread drThread = new StreamReaderThread(inputStream, buffer, dataSource == DATA_SOURCE.CSV);
+            RecordScanner scanner = dataSource == DATA_SOURCE.CSV ? new RecordScanner(
+                    separator, quoteChar, quoteEscape)
+                    : new RecordScanner();
+            StreamReaderThread drThread = new StreamReaderThread(inputStream,
+                    buffer, scanner, dataSource == DATA_SOURCE.CSV,
+                    Props.XDB_LOADER_CHUNK_SIZE);
             drHandle = executorService.submit(drThread);
             for (int i = 0; i < dpThreads.length; i++) {
                 if (dataSource == DATA_SOURCE.CSV) {
-                    dpThreads[i] = new CsvProcessorThread(this, i + 1, buffer);
+                    dpThreads[i] = new CsvProcessorThread(this, i + 1, buffer, true);
                 } else {
-                    dpThreads[i] = new TextProcessorThread(this, i + 1, buffer);
+                    dpThreads[i] = new TextProcessorThread(this, i + 1, buffer, true);
                 }
                 dpThreads[i].initializeDataWriters();
                 dpHandles[i] = executorService.submit(dpThreads[i]);
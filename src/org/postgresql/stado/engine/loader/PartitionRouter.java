@@ -0,0 +1,307 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.metadata.partitions.PartitionMap;
+import org.postgresql.stado.optimizer.SqlExpression;
+import org.postgresql.stado.parser.ExpressionType;
+
+
+/**
+ * Routes loaded rows to node writers. Router is built once per load for the
+ * partitioning key type and the partition map, and refers to the writers by
+ * index, so routing a row does not create collections or box node IDs.
+ * Common key values, like integers or plain strings, are recognized as
+ * already normalized and hashed as is. Other values are normalized the same
+ * way as SqlExpression.getNormalizedValue() does, so rows are placed where
+ * queries expect them.
+ */
+class PartitionRouter {
+    private static final int KIND_GENERIC = 0;
+
+    private static final int KIND_INTEGER = 1;
+
+    private static final int KIND_DECIMAL = 2;
+
+    private static final int KIND_STRING = 3;
+
+    private final PartitionMap partitionMap;
+
+    private final ExpressionType keyType;
+
+    private final int kind;
+
+    /**
+     * Node IDs, position in the array is the node index
+     */
+    private final int[] nodeIds;
+
+    /**
+     * Node index by node ID, -1 if node is not a target
+     */
+    private final int[] indexByNodeId;
+
+    /**
+     * Node index by hash bucket, set if map is a HashPartitionMap
+     */
+    private final int[] indexByBucket;
+
+    /**
+     * Row goes to all the nodes
+     */
+    private final boolean toAll;
+
+    /**
+     * @param partitionMap
+     *                partition map of the target table
+     * @param keyType
+     *                type of partitioning key, may be null if table is not
+     *                partitioned by value
+     * @param nodeIdList
+     *                target nodes, position in the list is the node index
+     */
+    PartitionRouter(PartitionMap partitionMap, ExpressionType keyType,
+            List<Integer> nodeIdList) {
+        this.partitionMap = partitionMap;
+        this.keyType = keyType;
+        kind = getKind(keyType);
+        nodeIds = new int[nodeIdList.size()];
+        int maxNodeId = 0;
+        for (int i = 0; i < nodeIds.length; i++) {
+            nodeIds[i] = nodeIdList.get(i);
+            maxNodeId = Math.max(maxNodeId, nodeIds[i]);
+        }
+        indexByNodeId = new int[maxNodeId + 1];
+        for (int i = 0; i < indexByNodeId.length; i++) {
+            indexByNodeId[i] = -1;
+        }
+        for (int i = 0; i < nodeIds.length; i++) {
+            indexByNodeId[nodeIds[i]] = i;
+        }
+        toAll = partitionMap.getRedundancyLevel() == 0;
+        if (partitionMap instanceof HashPartitionMap) {
+            HashPartitionMap hashMap = (HashPartitionMap) partitionMap;
+            indexByBucket = new int[hashMap.getBucketCount()];
+            for (int i = 0; i < indexByBucket.length; i++) {
+                Integer nodeId = hashMap.getBucketNode(i);
+                indexByBucket[i] = nodeId == null ? -1 : getNodeIndex(nodeId);
+            }
+        } else {
+            indexByBucket = null;
+        }
+    }
+
+    private static int getKind(ExpressionType keyType) {
+        if (keyType == null) {
+            return KIND_GENERIC;
+        }
+        switch (keyType.type) {
+        case Types.BIGINT:
+        case Types.INTEGER:
+        case Types.SMALLINT:
+        case Types.TINYINT:
+            return KIND_INTEGER;
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+        case Types.DOUBLE:
+        case Types.FLOAT:
+        case Types.REAL:
+            return KIND_DECIMAL;
+        case Types.CHAR:
+        case Types.VARCHAR:
+            return KIND_STRING;
+        default:
+            return KIND_GENERIC;
+        }
+    }
+
+    /**
+     * @return number of target nodes
+     */
+    int getNodeCount() {
+        return nodeIds.length;
+    }
+
+    /**
+     * @param index
+     * @return ID of the node with specified index
+     */
+    int getNodeId(int index) {
+        return nodeIds[index];
+    }
+
+    /**
+     * @param nodeId
+     * @return index of the node, -1 if node is not a target
+     */
+    int getNodeIndex(int nodeId) {
+        return nodeId >= 0 && nodeId < indexByNodeId.length ? indexByNodeId[nodeId]
+                : -1;
+    }
+
+    /**
+     * Find out nodes where row with specified partitioning key value should
+     * be written.
+     *
+     * @param value
+     *                the key value as it comes from the source, null if table
+     *                is not partitioned by value
+     * @param target
+     *                array to put indexes of the nodes to, should be at least
+     *                getNodeCount() long
+     * @return number of the nodes
+     */
+    int route(String value, int[] target) {
+        if (toAll) {
+            for (int i = 0; i < nodeIds.length; i++) {
+                target[i] = i;
+            }
+            return nodeIds.length;
+        }
+        String key = value == null ? null : normalize(value);
+        if (indexByBucket != null) {
+            int index = indexByBucket[((HashPartitionMap) partitionMap).getBucket(key)];
+            if (index >= 0) {
+                target[0] = index;
+                return 1;
+            }
+        }
+        int count = 0;
+        for (int nodeId : partitionMap.getPartitions(key)) {
+            target[count++] = getNodeIndex(nodeId);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value in normalized form. If the value is already
+     * normalized it is returned as is.
+     *
+     * @param value
+     * @return the normalized value
+     */
+    String normalize(String value) {
+        switch (kind) {
+        case KIND_INTEGER:
+            if (isNormalizedNumber(value, 0)) {
+                return value;
+            }
+            break;
+        case KIND_DECIMAL:
+            if (isNormalizedNumber(value, keyType.scale)) {
+                return value;
+            }
+            break;
+        case KIND_STRING:
+            if (isNormalizedString(value, keyType.length)) {
+                return value;
+            }
+            break;
+        }
+        return SqlExpression.createConstantExpression(value, keyType)
+                .getNormalizedValue();
+    }
+
+    /**
+     * Checks if the number would not be changed by normalization: optional
+     * minus sign, integer part without leading zeros, optional fractional
+     * part not longer than scale without trailing zeros. Negative zero and
+     * fractions less than one are not accepted, normalization changes or
+     * formats them in scientific notation.
+     *
+     * @param value
+     * @param scale
+     * @return true if value is in normalized form
+     */
+    static boolean isNormalizedNumber(String value, int scale) {
+        int len = value.length();
+        int pos = 0;
+        if (pos < len && value.charAt(pos) == '-') {
+            pos++;
+        }
+        if (pos == len) {
+            return false;
+        }
+        char ch = value.charAt(pos);
+        if (ch == '0') {
+            // only zero itself is allowed to start with 0
+            return pos == 0 && len == 1;
+        }
+        if (ch < '1' || ch > '9') {
+            return false;
+        }
+        for (pos++; pos < len; pos++) {
+            ch = value.charAt(pos);
+            if (ch == '.') {
+                break;
+            }
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        if (pos == len) {
+            return true;
+        }
+        int fractionStart = ++pos;
+        if (fractionStart == len || len - fractionStart > scale
+                || value.charAt(len - 1) == '0') {
+            return false;
+        }
+        for (; pos < len; pos++) {
+            ch = value.charAt(pos);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the string would not be changed by normalization: it has no
+     * leading or trailing white spaces, is not enclosed in quotes and fits
+     * into the column.
+     *
+     * @param value
+     * @param length
+     *                length of the column, 0 if not limited
+     * @return true if value is in normalized form
+     */
+    static boolean isNormalizedString(String value, int length) {
+        int len = value.length();
+        if (len == 0) {
+            return true;
+        }
+        if (length > 0 && len > length) {
+            return false;
+        }
+        if (value.charAt(0) <= ' ' || value.charAt(len - 1) <= ' ') {
+            return false;
+        }
+        return len == 1 || value.charAt(0) != '\''
+                || value.charAt(len - 1) != '\'';
+    }
+}
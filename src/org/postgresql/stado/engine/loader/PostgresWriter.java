@@ -40,6 +40,12 @@ import org.postgresql.stado.metadata.NodeDBConnectionInfo;
 
 /**
  * Derived from PgWriter
+ * Rows are collected in a staging buffer, full buffer is handed over to the
+ * flusher thread which streams it into COPY, while the processor thread
+ * keeps filling the other buffer. So at most two buffers per writer are in
+ * use, and processor waits if the flusher can not keep up. A writer is fed
+ * by single data processor thread, so filling the buffer is not
+ * synchronized.
  */
 public class PostgresWriter implements INodeWriter {
     private static final XLogger logger = XLogger.getLogger(PostgresWriter.class);
@@ -90,22 +96,200 @@ public class PostgresWriter implements INodeWriter {
         }
     }
 
+    /**
+     * Execute a statement in the writer's transaction, before any row is
+     * written, for example create the target table.
+     *
+     * @param statement
+     * @throws SQLException
+     */
+    public void execute(String statement) throws SQLException {
+        conn.createStatement().executeUpdate(statement);
+    }
+
     private byte[] ROW_VALUES_DELIMITER = Props.XDB_LOADER_NODEWRITER_ROW_DELIMITER.getBytes();
 
-    public synchronized void writeRow(byte[] row) throws IOException {
+    // Buffer being filled by the processor thread
+    private byte[] fillBuffer = new byte[Math.max(Props.XDB_LOADER_BUFFER_SIZE, 1024)];
+
+    private int fillLength = 0;
+
+    // Buffer being written by the flusher thread, guarded by this
+    private byte[] flushBuffer = null;
+
+    private int flushLength = 0;
+
+    private boolean flushPending = false;
+
+    private boolean flusherDone = false;
+
+    private SQLException flushError = null;
+
+    private Thread flusher = null;
+
+    // Statistics
+    private long rowsWritten = 0;
+
+    private long bytesWritten = 0;
+
+    private long flushCount = 0;
+
+    private long flushTime = 0;
+
+    private long stallTime = 0;
+
+    private long startTime = 0;
+
+    private long endTime = 0;
+
+    public void writeRow(byte[] row) throws IOException {
         writeRow(row, 0, row.length);
     }
 
-    public synchronized void writeRow(byte[] row, int offset, int length) throws IOException {
-    	try {
-    		if (copyIn == null) {
-                copyIn = CopyManager.getCopyManager(conn).copyIn(copyQuery);
-    		}
-	        copyIn.writeToCopy(row, offset, length);
-	        copyIn.writeToCopy(ROW_VALUES_DELIMITER, 0, ROW_VALUES_DELIMITER.length);
-    	} catch (SQLException se) {
-    		throw new IOException(se.getMessage());
-    	}
+    public void writeRow(byte[] row, int offset, int length) throws IOException {
+        int size = length + ROW_VALUES_DELIMITER.length;
+        if (fillLength + size > fillBuffer.length) {
+            if (fillLength > 0) {
+                handOff();
+            }
+            if (size > fillBuffer.length) {
+                // Row does not fit, enlarge the buffer
+                fillBuffer = new byte[Math.max(size, 2 * fillBuffer.length)];
+            }
+        }
+        System.arraycopy(row, offset, fillBuffer, fillLength, length);
+        fillLength += length;
+        System.arraycopy(ROW_VALUES_DELIMITER, 0, fillBuffer, fillLength,
+                ROW_VALUES_DELIMITER.length);
+        fillLength += ROW_VALUES_DELIMITER.length;
+        rowsWritten++;
+    }
+
+    /**
+     * Wait until flusher completes with previous buffer
+     * @throws IOException if flusher failed
+     */
+    private void waitForFlush() throws IOException {
+        if (flushPending) {
+            long start = System.nanoTime();
+            while (flushPending) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+            stallTime += System.nanoTime() - start;
+        }
+        if (flushError != null) {
+            throw new IOException(writerID + ": " + flushError.getMessage());
+        }
+    }
+
+    /**
+     * Pass filled buffer to the flusher and take over the one it has written
+     * @throws IOException if flusher failed
+     */
+    private synchronized void handOff() throws IOException {
+        waitForFlush();
+        byte[] empty = flushBuffer;
+        flushBuffer = fillBuffer;
+        flushLength = fillLength;
+        flushPending = true;
+        fillBuffer = empty == null || empty.length < fillBuffer.length ? new byte[fillBuffer.length]
+                : empty;
+        fillLength = 0;
+        if (flusher == null) {
+            startTime = System.currentTimeMillis();
+            flusher = new Thread(new Runnable() {
+                public void run() {
+                    flush();
+                }
+            }, "PostgresWriter " + writerID);
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Flusher thread body, streams handed over buffers into COPY
+     */
+    private void flush() {
+        while (true) {
+            byte[] buffer;
+            int length;
+            synchronized (this) {
+                while (!flushPending && !flusherDone) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // keep waiting
+                    }
+                }
+                if (!flushPending) {
+                    return;
+                }
+                buffer = flushBuffer;
+                length = flushLength;
+            }
+            long start = System.nanoTime();
+            SQLException error = null;
+            try {
+                if (copyIn == null) {
+                    copyIn = CopyManager.getCopyManager(conn).copyIn(copyQuery);
+                }
+                copyIn.writeToCopy(buffer, 0, length);
+            } catch (SQLException se) {
+                logger.catching(se);
+                error = se;
+            }
+            synchronized (this) {
+                flushTime += System.nanoTime() - start;
+                bytesWritten += length;
+                flushCount++;
+                flushPending = false;
+                if (error != null) {
+                    flushError = error;
+                    flusherDone = true;
+                }
+                notifyAll();
+            }
+            if (error != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Write out remaining data and stop the flusher
+     * @param success if false remaining data are discarded
+     * @throws IOException
+     */
+    private void stopFlusher(boolean success) throws IOException {
+        if (success && fillLength > 0) {
+            handOff();
+        }
+        fillLength = 0;
+        Thread thread;
+        synchronized (this) {
+            try {
+                waitForFlush();
+            } finally {
+                flusherDone = true;
+                notifyAll();
+                thread = flusher;
+                flusher = null;
+                endTime = System.currentTimeMillis();
+            }
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                // flusher has nothing to do, it is exiting
+            }
+        }
     }
 
     public void commit() throws SQLException {
@@ -125,7 +309,23 @@ public class PostgresWriter implements INodeWriter {
      *
      * @see org.postgresql.stado.Util.loader.INodeWriter#finish()
      */
-    public synchronized void finish(boolean success) throws IOException {
+    public void finish(boolean success) throws IOException {
+        try {
+            stopFlusher(success);
+        } catch (IOException e) {
+            // COPY is broken, leave the connection in usable state
+            if (copyIn != null) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException se) {
+                    logger.catching(se);
+                }
+                copyIn = null;
+            }
+            if (success) {
+                throw e;
+            }
+        }
     	if (copyIn != null) {
 	    	try {
 	    		rowCount += copyIn.endCopy();
@@ -140,8 +340,15 @@ public class PostgresWriter implements INodeWriter {
     	}
     }
 
-    public String getStatistics() {
-        return "";
+    public synchronized String getStatistics() {
+        long elapsed = (endTime > 0 ? endTime : System.currentTimeMillis())
+                - startTime;
+        return "Node Writer " + writerID + " has output " + rowsWritten
+                + " rows, " + bytesWritten + " bytes in " + flushCount
+                + " flushes, flush time " + flushTime / 1000000
+                + " ms, stalled " + stallTime / 1000000 + " ms"
+                + (startTime > 0 && elapsed > 0 ? ", "
+                        + rowsWritten * 1000 / elapsed + " rows/s" : "");
     }
 
     /**
@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.engine.loader;
+
+
+/**
+ * Finds record boundaries in a block of text or CSV data. In text format a
+ * record ends with CR, LF or CRLF. In CSV format line ends inside of quoted
+ * values belong to the value. Scanner is used by StreamReaderThread to cut
+ * input into chunks of whole records, and by processors to split the chunks.
+ */
+class RecordScanner {
+    private static final byte CR = '\r';
+
+    private static final byte LF = '\n';
+
+    private final boolean csv;
+
+    private final byte separator;
+
+    private final byte quoteChar;
+
+    private final byte quoteEscape;
+
+    private int contentEnd;
+
+    private int lineEndStyle;
+
+    /**
+     * Scanner for text format
+     */
+    RecordScanner() {
+        this.csv = false;
+        this.separator = 0;
+        this.quoteChar = 0;
+        this.quoteEscape = 0;
+    }
+
+    /**
+     * Scanner for CSV format
+     *
+     * @param separator
+     * @param quoteChar
+     * @param quoteEscape
+     *                character escaping quote, '\0' if quote is escaped by
+     *                another quote
+     */
+    RecordScanner(char separator, char quoteChar, char quoteEscape) {
+        this.csv = true;
+        this.separator = (byte) separator;
+        this.quoteChar = (byte) quoteChar;
+        this.quoteEscape = (byte) (quoteEscape == '\0' ? quoteChar
+                : quoteEscape);
+    }
+
+    /**
+     * Find end of the record starting at specified position
+     *
+     * @param buffer
+     * @param start
+     *                position where the record starts
+     * @param end
+     *                end of data in the buffer
+     * @param eof
+     *                true if there is no more data after the end, so the
+     *                record ends at the end even if it is not terminated
+     * @return position after the record's line end, or -1 if the record is
+     *         not completed within the buffer
+     */
+    int scan(byte[] buffer, int start, int end, boolean eof) {
+        boolean inQuote = false;
+        boolean fieldStart = true;
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (inQuote) {
+                if (b == quoteEscape && quoteEscape != quoteChar) {
+                    if (i + 1 == end) {
+                        if (!eof) {
+                            return -1;
+                        }
+                    } else if (buffer[i + 1] == quoteChar) {
+                        i++;
+                    }
+                } else if (b == quoteChar) {
+                    if (i + 1 == end) {
+                        if (!eof) {
+                            // may be first quote of escaped quote
+                            return -1;
+                        }
+                        inQuote = false;
+                    } else if (quoteEscape == quoteChar
+                            && buffer[i + 1] == quoteChar) {
+                        i++;
+                    } else {
+                        inQuote = false;
+                    }
+                }
+            } else if (b == LF) {
+                contentEnd = i;
+                lineEndStyle = 2;
+                return i + 1;
+            } else if (b == CR) {
+                contentEnd = i;
+                if (i + 1 < end) {
+                    if (buffer[i + 1] == LF) {
+                        lineEndStyle = 3;
+                        return i + 2;
+                    }
+                } else if (!eof) {
+                    // LF may follow
+                    return -1;
+                }
+                lineEndStyle = 1;
+                return i + 1;
+            } else if (csv) {
+                if (b == quoteChar && fieldStart) {
+                    inQuote = true;
+                }
+                fieldStart = b == separator;
+            }
+        }
+        if (!eof) {
+            return -1;
+        }
+        // Last record is not terminated
+        contentEnd = end;
+        lineEndStyle = 0;
+        return end;
+    }
+
+    /**
+     * @return position of the line end of the last scanned record
+     */
+    int getContentEnd() {
+        return contentEnd;
+    }
+
+    /**
+     * @return line end of the last scanned record: 0 - none (end of data),
+     *         1 - CR, 2 - LF, 3 - CRLF
+     */
+    int getLineEndStyle() {
+        return lineEndStyle;
+    }
+}
@@ -32,20 +32,21 @@ import org.postgresql.stado.exception.XDBDataReaderException;
 /**
  * Purpose of Data Reader is to split data source on rows
  * StreamReaderThread assumes the data source is a stream of text (Plain text or
- * CSV format)
+ * CSV format). Source is read in large chunks, each chunk is cut on a record
+ * boundary and handed over to processors as a whole, processors split the
+ * chunks into records. So the reader only scans the data, and parsing is done
+ * in parallel.
  *
  * @author amart
  */
 public class StreamReaderThread implements Callable<Boolean> {
 
-    private static final byte CR = '\r';
-
-    private static final byte LF = '\n';
-
     private DataReaderAndProcessorBuffer<byte[]> loadBuffer;
 
     private InputStream dataSourceFile;
 
+    private final RecordScanner scanner;
+
     // 0 - not determined
     // 1 - CR
     // 2 - LF
@@ -53,28 +54,25 @@ public class StreamReaderThread implements Callable<Boolean> {
     // 4 - mixed
     private int lineDelimiterStyle = 0;
 
-    private byte[] readBuffer = new byte[1024];
-
-    private int readPos = 0;
+    private byte[] readBuffer;
 
     private int readEnd = 0;
 
     private boolean eof = false;
 
-    private boolean skipLF = false;
-
-    private byte[] buffer = new byte[128];
-
-    private int bufferIdx;
-
     private boolean preserveLineEnd;
 
     /**
      * Creates a new instance of StreamReaderThread
      * @param inputStream
      * @param buffer
+     * @param scanner finds record boundaries in the source
+     * @param preserveLineEnd if false all records must have same line ends
+     * @param chunkSize size of data portions handed over to the processors
      */
-    public StreamReaderThread(InputStream inputStream, DataReaderAndProcessorBuffer<byte[]> buffer, boolean preserveLineEnd) {
+    public StreamReaderThread(InputStream inputStream,
+            DataReaderAndProcessorBuffer<byte[]> buffer, RecordScanner scanner,
+            boolean preserveLineEnd, int chunkSize) {
         if (inputStream == null) {
             throw new NullPointerException("inputStream");
         }
@@ -83,7 +81,9 @@ public class StreamReaderThread implements Callable<Boolean> {
         }
         dataSourceFile = inputStream;
         loadBuffer = buffer;
+        this.scanner = scanner;
         this.preserveLineEnd = preserveLineEnd;
+        readBuffer = new byte[Math.max(chunkSize, 1024)];
     }
 
     /**
@@ -99,99 +99,49 @@ public class StreamReaderThread implements Callable<Boolean> {
     }
 
     /**
-     * Parse out one line from the data source stream
-     * @return
-     * @throws XDBDataReaderException
-     */
-    private boolean readLineFromStream() throws XDBDataReaderException {
-        try {
-            boolean eol = false;
-            while (!eol) {
-                if (readPos == readEnd) {
-                    fill();
-                }
-                int start = readPos;
-                while (!eol && readPos < readEnd) {
-                    switch (readBuffer[readPos++]) {
-                    case LF:
-                        if (skipLF) {
-                            start = readPos;
-                            setLineDelimiterStyle(3);
-                            skipLF = false;
-                        } else {
-                            ensureBufferCapacity(bufferIdx + readPos - start);
-                            System.arraycopy(readBuffer, start, buffer, bufferIdx, readPos - start);
-                            bufferIdx += readPos - start - 1;
-                            if (checkEOF()) {
-                                return false;
-                            }
-                            setLineDelimiterStyle(2);
-                            return true;
-                        }
-                        break;
-                    case CR:
-                        skipLF = true;
-                        eol = true;
-                        break;
-                    default:
-                        if (skipLF) {
-                            setLineDelimiterStyle(1);
-                        }
-                    skipLF = false;
-                    }
-                }
-                ensureBufferCapacity(bufferIdx + readPos - start);
-                System.arraycopy(readBuffer, start, buffer, bufferIdx, readPos - start);
-                bufferIdx += readPos - start - (eol ? 1 : 0);
-                if (checkEOF()) {
-                    return false;
-                }
-                if (eof) {
-                    break;
-                }
-            }
-            return !eof || readPos < readEnd;
-        } catch (IOException ioe) {
-            throw new XDBDataReaderException(ioe);
-        }
-    }
-
-    /**
-     * Read new portion of data from the data source to the buffer
+     * Read data from the data source until the buffer is full or the end of
+     * the source is reached
      * @throws IOException
      */
     private void fill() throws IOException {
-        readPos = 0;
-        readEnd = dataSourceFile.read(readBuffer);
-        eof = readEnd < 0;
-    }
-
-    /**
-     * Ensure the size of {@link #buffer} is not less then specified
-     * Enlarge buffer if needed
-     * @param capacity
-     */
-    private void ensureBufferCapacity(int capacity) {
-        if (buffer.length < capacity) {
-            byte[] newBuffer = new byte[Math.max(2 * buffer.length, capacity)];
-            System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
-            buffer = newBuffer;
+        while (!eof && readEnd < readBuffer.length) {
+            int count = dataSourceFile.read(readBuffer, readEnd,
+                    readBuffer.length - readEnd);
+            if (count < 0) {
+                eof = true;
+            } else {
+                readEnd += count;
+            }
         }
     }
 
     /**
-     * Check if current line is an EOF marker (\.)
-     * @return
+     * Find out where the last complete record in the read buffer ends. Checks
+     * line ends and EOF marker (\.) of the records on the way.
+     * @return position after the last complete record
+     * @throws XDBDataReaderException
      */
-    private boolean checkEOF() {
-        // Check for EOF marker
-        if (bufferIdx == 2 && buffer[0] == '\\' && buffer[1] == '.') {
-            eof = true;
-            readPos = readEnd;
-            bufferIdx = 0;
-            return true;
+    private int findChunkEnd() throws XDBDataReaderException {
+        int pos = 0;
+        while (pos < readEnd) {
+            int next = scanner.scan(readBuffer, pos, readEnd, eof);
+            if (next < 0) {
+                break;
+            }
+            int contentEnd = scanner.getContentEnd();
+            // Check for EOF marker
+            if (contentEnd - pos == 2 && readBuffer[pos] == '\\'
+                    && readBuffer[pos + 1] == '.') {
+                eof = true;
+                readEnd = pos;
+                break;
+            }
+            if (scanner.getLineEndStyle() > 0) {
+                setLineDelimiterStyle(scanner.getLineEndStyle());
+            }
+            pos = next;
         }
-        return false;
+        return pos;
     }
 
     /**
@@ -204,21 +154,7 @@ public class StreamReaderThread implements Callable<Boolean> {
      * @param style
      */
     private void setLineDelimiterStyle(int style) throws XDBDataReaderException {
-        if (preserveLineEnd) {
-            byte[] out = new byte[bufferIdx + (style == 3 ? 2 : 1)];
-            System.arraycopy(buffer, 0, out, 0, bufferIdx);
-            if ((style & 1) == 1) {
-                // 1 or 3
-                out[bufferIdx++] = '\r';
-            }
-            if ((style & 2) == 2) {
-                // 2 or 3
-                out[bufferIdx++] = '\n';
-            }
-            loadBuffer.putRowValue(out);
-            bufferIdx = 0;
-        }
-        else if (style != lineDelimiterStyle) {
+        if (!preserveLineEnd && style != lineDelimiterStyle) {
             if (lineDelimiterStyle == 0) {
                 lineDelimiterStyle = style;
             } else {
@@ -240,19 +176,26 @@ public class StreamReaderThread implements Callable<Boolean> {
      */
     public Boolean call() throws XDBDataReaderException {
         try {
-            while (readLineFromStream()) {
-                if (!preserveLineEnd) {
-                    byte[] out = new byte[bufferIdx];
-                    System.arraycopy(buffer, 0, out, 0, bufferIdx);
-                    loadBuffer.putRowValue(out);
-                    bufferIdx = 0;
+            while (true) {
+                fill();
+                int chunkEnd = findChunkEnd();
+                if (chunkEnd > 0) {
+                    byte[] chunk = new byte[chunkEnd];
+                    System.arraycopy(readBuffer, 0, chunk, 0, chunkEnd);
+                    loadBuffer.putRowValue(chunk);
+                    // Move incomplete record to the beginning
+                    System.arraycopy(readBuffer, chunkEnd, readBuffer, 0,
+                            readEnd - chunkEnd);
+                    readEnd -= chunkEnd;
+                } else if (readEnd == readBuffer.length) {
+                    // Record is larger then the buffer
+                    byte[] newBuffer = new byte[2 * readBuffer.length];
+                    System.arraycopy(readBuffer, 0, newBuffer, 0, readEnd);
+                    readBuffer = newBuffer;
+                }
+                if (eof && readEnd == 0) {
+                    break;
                 }
-            }
-            if (bufferIdx > 0) {
-                byte[] out = new byte[bufferIdx];
-                System.arraycopy(buffer, 0, out, 0, bufferIdx);
-                loadBuffer.putRowValue(out);
-                bufferIdx = 0;
             }
             return true;
         } catch (XDBDataReaderException dre) {
@@ -45,6 +45,24 @@ public class TextProcessorThread extends DataProcessorThread<byte[]> {
 
     protected int colCount;
 
+    /**
+     * One-based positions of columns to hash rows on for GROUP BY processing
+     */
+    private final int[] groupHashColumns;
+
+    private String groupByHashString;
+
+    /**
+     * If true buffer contains chunks of records, otherwise single records
+     */
+    private final boolean chunked;
+
+    private RecordScanner scanner;
+
+    private byte[] chunk;
+
+    private int chunkPos;
+
     /**
      * Create new processor instance
      * @param loader
@@ -53,9 +71,67 @@ public class TextProcessorThread extends DataProcessorThread<byte[]> {
      * @throws Exception
      */
     public TextProcessorThread(ILoaderConfigInformation loader, int id, DataReaderAndProcessorBuffer<byte[]> b) throws Exception{
+        this(loader, id, b, false);
+    }
+
+    /**
+     * Create new processor instance
+     * @param loader
+     * @param id
+     * @param b
+     * @param chunked true if buffer is filled by StreamReaderThread with
+     * chunks of records
+     * @throws Exception
+     */
+    public TextProcessorThread(ILoaderConfigInformation loader, int id,
+            DataReaderAndProcessorBuffer<byte[]> b, boolean chunked) throws Exception{
         super(loader, id, b);
         nullValueTemplate = NULLValue.getBytes();
         columnEnds = new int[getColumnCount()];
+        groupHashColumns = loader.getGroupHashColumns();
+        this.chunked = chunked;
+    }
+
+    /**
+     * @return scanner to split chunks into records
+     */
+    protected RecordScanner createRecordScanner() {
+        return new RecordScanner();
+    }
+
+    /**
+     * @return true if records are passed to writers with their line ends
+     */
+    protected boolean preserveLineEnd() {
+        return false;
+    }
+
+    /**
+     * Get next record from the buffer, or from current chunk if the buffer
+     * is filled with chunks.
+     * @return the record, or null if there is no more data
+     */
+    protected byte[] getNextRecord() {
+        if (!chunked) {
+            return getNextRowValue();
+        }
+        while (chunk == null || chunkPos == chunk.length) {
+            chunk = getNextRowValue();
+            chunkPos = 0;
+            if (chunk == null) {
+                return null;
+            }
+        }
+        if (scanner == null) {
+            scanner = createRecordScanner();
+        }
+        // Chunks always end on record boundary
+        int next = scanner.scan(chunk, chunkPos, chunk.length, true);
+        int end = preserveLineEnd() ? next : scanner.getContentEnd();
+        byte[] record = new byte[end - chunkPos];
+        System.arraycopy(chunk, chunkPos, record, 0, record.length);
+        chunkPos = next;
+        return record;
     }
 
     /* (non-Javadoc)
@@ -68,6 +144,17 @@ public class TextProcessorThread extends DataProcessorThread<byte[]> {
         return value.equals(NULLValue) ? null : value;
     }
 
+    /* (non-Javadoc)
+     * @see org.postgresql.stado.engine.loader.DataProcessorThread#getNextGroupByHashString()
+     */
+    @Override
+    protected String getNextGroupByHashString() {
+        if (groupHashColumns == null && !chunked) {
+            return super.getNextGroupByHashString();
+        }
+        return groupByHashString;
+    }
+
     /* (non-Javadoc)
      * @see org.postgresql.stado.engine.loader.DataProcessorThread#insertGeneratedValues(java.util.Map)
      */
@@ -149,7 +236,7 @@ public class TextProcessorThread extends DataProcessorThread<byte[]> {
     @Override
     protected boolean parseRow() throws Exception{
         colCount = 0;
-        outputRow = getNextRowValue();
+        outputRow = getNextRecord();
         if (outputRow == null) {
             return false;
         }
@@ -176,6 +263,15 @@ public class TextProcessorThread extends DataProcessorThread<byte[]> {
             nextPos = find(outputRow, (byte) separator, pos);
         }
         columnEnds[colCount++] = outputRow.length;
+        if (groupHashColumns != null) {
+            // Hash on values as they come, before generated values are
+            // inserted, same as ResultSetReaderThread does
+            StringBuilder sbHash = new StringBuilder();
+            for (int element : groupHashColumns) {
+                sbHash.append(getValue(element));
+            }
+            groupByHashString = sbHash.toString();
+        }
         return true;
     }
 
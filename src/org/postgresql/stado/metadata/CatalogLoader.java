@@ -0,0 +1,512 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+
+/**
+ * Loads metadata of the whole database at once, when the database is being
+ * started. Each metadata table is read with single query for all tables of
+ * the database, and rows are grouped by table, index, constraint, etc. in
+ * memory, instead of issuing several queries per table.
+ * If xdb.metadata.snapshotdir is set, loaded rows are also saved to a local
+ * snapshot file, and next time the database is started they are read from
+ * the file if it is intact and the metadata have not been changed since,
+ * that is, the version stored in xsysversion is the same.
+ */
+public class CatalogLoader {
+    private static final XLogger logger = XLogger.getLogger(CatalogLoader.class);
+
+    /** Statement to create the metadata table holding the catalog version */
+    public static final String CREATE_VERSION_TABLE = "create table xsysversion ("
+            + " version bigint not null)";
+
+    private static final int SNAPSHOT_MAGIC = 0x53544443;
+
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private static final String TABLES = "tables";
+
+    private static final String NODES = "nodes";
+
+    private static final String VIEWS = "views";
+
+    private static final String VIEW_COLUMNS = "viewcolumns";
+
+    private static final String VIEW_DEPS = "viewdeps";
+
+    private static final String PRIVILEGES = "privileges";
+
+    private static final String PART_HASH = "parthash";
+
+    private static final String PARTS = "parts";
+
+    private static final String COLUMNS = "columns";
+
+    private static final String COLUMN_STATS = "colstats";
+
+    private static final String INDEXES = "indexes";
+
+    private static final String INDEX_KEYS = "indexkeys";
+
+    private static final String CONSTRAINTS = "constraints";
+
+    private static final String REFERENCES = "references";
+
+    private static final String CHECKS = "checks";
+
+    private static final String FOREIGN_KEYS = "foreignkeys";
+
+    /**
+     * Row sets and queries to load them, {dbid} is replaced with ID of the
+     * database. Rows are grouped preserving order of the query.
+     */
+    private static final String[][] QUERIES = {
+            { TABLES, "SELECT * FROM xsystables WHERE dbid = {dbid}" },
+            { NODES, "SELECT nodeid FROM xsysdbnodes WHERE dbid = {dbid}" },
+            { VIEWS, "SELECT * FROM xsysviews WHERE dbid = {dbid}" },
+            { VIEW_COLUMNS, "SELECT c.* FROM xsysviewscolumns c, xsysviews v"
+                    + " WHERE c.viewid = v.viewid AND v.dbid = {dbid}"
+                    + " ORDER BY c.viewcolseqno" },
+            { VIEW_DEPS, "SELECT d.* FROM xsysviewdeps d, xsysviews v"
+                    + " WHERE d.viewid = v.viewid AND v.dbid = {dbid}"
+                    + " ORDER BY d.tableid" },
+            { PRIVILEGES, "SELECT p.* FROM xsystabprivs p, xsystables t"
+                    + " WHERE p.tableid = t.tableid AND t.dbid = {dbid}" },
+            { PART_HASH, "SELECT h.tableid, h.hashvalue, h.nodeid, t.parthash"
+                    + " FROM xsystabparthash h, xsystables t"
+                    + " WHERE h.tableid = t.tableid AND t.dbid = {dbid}" },
+            { PARTS, "SELECT p.tableid, p.nodeid FROM xsystabparts p, xsystables t"
+                    + " WHERE p.tableid = t.tableid AND t.dbid = {dbid}"
+                    + " ORDER BY p.nodeid" },
+            { COLUMNS, "SELECT c.* FROM xsyscolumns c, xsystables t"
+                    + " WHERE c.tableid = t.tableid AND t.dbid = {dbid}"
+                    + " ORDER BY c.colseq" },
+            { COLUMN_STATS, "SELECT s.*, c.tableid"
+                    + " FROM xsyscolstats s, xsyscolumns c, xsystables t"
+                    + " WHERE s.colid = c.colid AND c.tableid = t.tableid"
+                    + " AND t.dbid = {dbid}" },
+            { INDEXES, "SELECT i.* FROM xsysindexes i, xsystables t"
+                    + " WHERE i.tableid = t.tableid AND t.dbid = {dbid}" },
+            { INDEX_KEYS, "SELECT k.* FROM xsysindexkeys k, xsysindexes i, xsystables t"
+                    + " WHERE k.idxid = i.idxid AND i.tableid = t.tableid"
+                    + " AND t.dbid = {dbid} ORDER BY k.idxkeyseq" },
+            { CONSTRAINTS, "SELECT c.* FROM xsysconstraints c, xsystables t"
+                    + " WHERE c.tableid = t.tableid AND t.dbid = {dbid}" },
+            { REFERENCES, "SELECT r.*, c.tableid"
+                    + " FROM xsysreferences r, xsysconstraints c, xsystables t"
+                    + " WHERE r.constid = c.constid AND c.tableid = t.tableid"
+                    + " AND t.dbid = {dbid}" },
+            { CHECKS, "SELECT k.* FROM xsyschecks k, xsysconstraints c, xsystables t"
+                    + " WHERE k.constid = c.constid AND c.tableid = t.tableid"
+                    + " AND t.dbid = {dbid} ORDER BY k.seqno" },
+            { FOREIGN_KEYS, "SELECT f.*"
+                    + " FROM xsysforeignkeys f, xsysreferences r, xsysconstraints c, xsystables t"
+                    + " WHERE f.refid = r.refid AND r.constid = c.constid"
+                    + " AND c.tableid = t.tableid AND t.dbid = {dbid}"
+                    + " ORDER BY f.fkeyseq" } };
+
+    /**
+     * Rows of one metadata query, this is what is saved to the snapshot
+     */
+    private static class RowSet implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final HashMap<String, Integer> columnIndex;
+
+        private final ArrayList<Object[]> rows;
+
+        private RowSet(HashMap<String, Integer> columnIndex,
+                ArrayList<Object[]> rows) {
+            this.columnIndex = columnIndex;
+            this.rows = rows;
+        }
+    }
+
+    private final int dbid;
+
+    private HashMap<String, RowSet> rowSets;
+
+    // Rows grouped by value of a column: row set -> key column -> groups
+    private final Map<String, Map<Integer, List<Object[]>>> groups = new HashMap<String, Map<Integer, List<Object[]>>>();
+
+    private Set<Integer> constrainedIndexes = null;
+
+    private CatalogLoader(int dbid) {
+        this.dbid = dbid;
+    }
+
+    /**
+     * Load metadata of the database, from the snapshot file if possible,
+     * otherwise from the metadata database.
+     *
+     * @param database
+     * @return the loader to build metadata objects
+     * @throws SQLException
+     */
+    static CatalogLoader load(SysDatabase database) throws SQLException {
+        final String method = "load";
+        logger.entering(method, new Object[] { database.getDbname() });
+        try {
+            long start = System.currentTimeMillis();
+            CatalogLoader loader = new CatalogLoader(database.getDbid());
+            File snapshot = getSnapshotFile(database);
+            long version = 0;
+            boolean fromSnapshot = false;
+            if (snapshot != null) {
+                // Get the version before the rows are loaded, so if metadata
+                // are changed meanwhile the snapshot will not be used
+                version = MetaData.getMetaData().readCatalogVersion();
+                if (snapshot.exists()) {
+                    fromSnapshot = loader.readSnapshot(snapshot, version);
+                }
+            }
+            if (!fromSnapshot) {
+                loader.fetch();
+                if (snapshot != null) {
+                    loader.writeSnapshot(snapshot, version);
+                }
+            }
+            logger.info("Loaded metadata of database " + database.getDbname()
+                    + ", " + loader.rowSets.get(TABLES).rows.size()
+                    + " tables, from "
+                    + (fromSnapshot ? "snapshot " + snapshot : "metadata database")
+                    + " in " + (System.currentTimeMillis() - start) + " ms");
+            return loader;
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * @param database
+     * @return the snapshot file of the database, null if snapshots are not
+     *         used
+     */
+    private static File getSnapshotFile(SysDatabase database) {
+        if (Props.XDB_METADATA_SNAPSHOT_DIR == null
+                || Props.XDB_METADATA_SNAPSHOT_DIR.trim().length() == 0) {
+            return null;
+        }
+        return new File(Props.XDB_METADATA_SNAPSHOT_DIR.trim(), database
+                .getDbname()
+                + ".catalog");
+    }
+
+    /**
+     * Load rows from the metadata database
+     *
+     * @throws SQLException
+     */
+    private void fetch() throws SQLException {
+        MetaData meta = MetaData.getMetaData();
+        rowSets = new HashMap<String, RowSet>();
+        for (String[] query : QUERIES) {
+            ResultSet rs = meta.executeQuery(query[1].replace("{dbid}", ""
+                    + dbid));
+            try {
+                HashMap<String, Integer> columnIndex = new HashMap<String, Integer>(
+                        CatalogRows.getColumnIndex(rs.getMetaData()));
+                rowSets.put(query[0], new RowSet(columnIndex,
+                        new ArrayList<Object[]>(CatalogRows.fetch(rs,
+                                columnIndex.size()))));
+            } finally {
+                rs.close();
+            }
+        }
+    }
+
+    /**
+     * Save loaded rows to the snapshot file. Failure is not fatal, the file
+     * is just removed.
+     *
+     * @param snapshot
+     * @param version
+     */
+    private void writeSnapshot(File snapshot, long version) {
+        File tmpFile = new File(snapshot.getPath() + ".tmp");
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(payload);
+            oos.writeObject(rowSets);
+            oos.close();
+            byte[] data = payload.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(data);
+
+            DataOutputStream out = new DataOutputStream(new FileOutputStream(
+                    tmpFile));
+            try {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_FORMAT);
+                out.writeLong(version);
+                out.writeInt(dbid);
+                out.writeInt(data.length);
+                out.write(data);
+                out.writeLong(crc.getValue());
+            } finally {
+                out.close();
+            }
+            // Replace old snapshot at once
+            snapshot.delete();
+            if (!tmpFile.renameTo(snapshot)) {
+                throw new IOException("Can not rename " + tmpFile + " to "
+                        + snapshot);
+            }
+        } catch (IOException e) {
+            logger.catching(e);
+            logger.warn("Failed to write catalog snapshot " + snapshot + ": "
+                    + e.getMessage());
+            tmpFile.delete();
+            snapshot.delete();
+        }
+    }
+
+    /**
+     * Load rows from the snapshot file
+     *
+     * @param snapshot
+     * @param version
+     *            current version of the catalog
+     * @return false if the snapshot is outdated or damaged
+     */
+    @SuppressWarnings("unchecked")
+    private boolean readSnapshot(File snapshot, long version) {
+        try {
+            DataInputStream in = new DataInputStream(new FileInputStream(
+                    snapshot));
+            byte[] data;
+            long checksum;
+            try {
+                if (in.readInt() != SNAPSHOT_MAGIC
+                        || in.readInt() != SNAPSHOT_FORMAT) {
+                    logger.warn("Catalog snapshot " + snapshot
+                            + " has unknown format");
+                    return false;
+                }
+                if (in.readLong() != version || in.readInt() != dbid) {
+                    logger.info("Catalog snapshot " + snapshot
+                            + " is outdated");
+                    return false;
+                }
+                int length = in.readInt();
+                if (length < 0 || length > snapshot.length()) {
+                    throw new EOFException("Bad payload length " + length);
+                }
+                data = new byte[length];
+                in.readFully(data);
+                checksum = in.readLong();
+            } finally {
+                in.close();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            if (crc.getValue() != checksum) {
+                logger.warn("Catalog snapshot " + snapshot
+                        + " is damaged, checksum does not match");
+                return false;
+            }
+            ObjectInputStream ois = new ObjectInputStream(
+                    new ByteArrayInputStream(data));
+            try {
+                rowSets = (HashMap<String, RowSet>) ois.readObject();
+            } finally {
+                ois.close();
+            }
+            for (String[] query : QUERIES) {
+                if (!rowSets.containsKey(query[0])) {
+                    logger.warn("Catalog snapshot " + snapshot
+                            + " is incomplete");
+                    rowSets = null;
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            logger.catching(e);
+            logger.warn("Failed to read catalog snapshot " + snapshot + ": "
+                    + e.getMessage());
+            rowSets = null;
+            return false;
+        }
+    }
+
+    /**
+     * @param name
+     * @return all rows of the row set
+     */
+    private CatalogRows getRows(String name) {
+        RowSet rowSet = rowSets.get(name);
+        return new CatalogRows(rowSet.columnIndex, rowSet.rows);
+    }
+
+    /**
+     * @param name
+     * @param keyColumn
+     * @param key
+     * @return rows of the row set where keyColumn is equal to key
+     */
+    private CatalogRows getRows(String name, String keyColumn, int key) {
+        RowSet rowSet = rowSets.get(name);
+        String groupName = name + "." + keyColumn;
+        Map<Integer, List<Object[]>> grouped = groups.get(groupName);
+        if (grouped == null) {
+            grouped = new HashMap<Integer, List<Object[]>>();
+            int index = rowSet.columnIndex.get(keyColumn);
+            for (Object[] row : rowSet.rows) {
+                Integer value = row[index] == null ? null
+                        : ((Number) row[index]).intValue();
+                List<Object[]> group = grouped.get(value);
+                if (group == null) {
+                    group = new ArrayList<Object[]>();
+                    grouped.put(value, group);
+                }
+                group.add(row);
+            }
+            groups.put(groupName, grouped);
+        }
+        return new CatalogRows(rowSet.columnIndex, grouped.get(key));
+    }
+
+    CatalogRows getTables() {
+        return getRows(TABLES);
+    }
+
+    CatalogRows getNodes() {
+        return getRows(NODES);
+    }
+
+    CatalogRows getViews() {
+        return getRows(VIEWS);
+    }
+
+    CatalogRows getViewColumns(int viewid) {
+        return getRows(VIEW_COLUMNS, "viewid", viewid);
+    }
+
+    CatalogRows getViewDependencies(int viewid) {
+        return getRows(VIEW_DEPS, "viewid", viewid);
+    }
+
+    CatalogRows getPrivileges(int tableid) {
+        return getRows(PRIVILEGES, "tableid", tableid);
+    }
+
+    public CatalogRows getPartitionHash(int tableid) {
+        return getRows(PART_HASH, "tableid", tableid);
+    }
+
+    public CatalogRows getPartitionNodes(int tableid) {
+        return getRows(PARTS, "tableid", tableid);
+    }
+
+    CatalogRows getColumns(int tableid) {
+        return getRows(COLUMNS, "tableid", tableid);
+    }
+
+    CatalogRows getColumnStats(int tableid) {
+        return getRows(COLUMN_STATS, "tableid", tableid);
+    }
+
+    CatalogRows getIndexes(int tableid) {
+        return getRows(INDEXES, "tableid", tableid);
+    }
+
+    CatalogRows getIndexKeys(int idxid) {
+        return getRows(INDEX_KEYS, "idxid", idxid);
+    }
+
+    CatalogRows getConstraints(int tableid) {
+        return getRows(CONSTRAINTS, "tableid", tableid);
+    }
+
+    CatalogRows getReferences(int constid) {
+        return getRows(REFERENCES, "constid", constid);
+    }
+
+    /**
+     * @param reftableid
+     * @return references to the table, rows have tableid and constid of the
+     *         referencing constraint
+     */
+    CatalogRows getReferencesTo(int reftableid) {
+        return getRows(REFERENCES, "reftableid", reftableid);
+    }
+
+    CatalogRows getChecks(int constid) {
+        return getRows(CHECKS, "constid", constid);
+    }
+
+    CatalogRows getForeignKeys(int refid) {
+        return getRows(FOREIGN_KEYS, "refid", refid);
+    }
+
+    /**
+     * @param idxid
+     * @return true if the index is used by primary key or referenced by a
+     *         foreign key
+     * @throws SQLException
+     */
+    boolean isIndexConstrained(int idxid) throws SQLException {
+        if (constrainedIndexes == null) {
+            constrainedIndexes = new HashSet<Integer>();
+            CatalogRows rows = getRows(REFERENCES);
+            while (rows.next()) {
+                constrainedIndexes.add(rows.getInt("refidxid"));
+            }
+            rows = getRows(CONSTRAINTS);
+            while (rows.next()) {
+                String consttype = rows.getString("consttype");
+                int constIdxid = rows.getInt("idxid");
+                if (!rows.wasNull() && consttype != null
+                        && consttype.trim().equals("P")) {
+                    constrainedIndexes.add(constIdxid);
+                }
+            }
+        }
+        return constrainedIndexes.contains(idxid);
+    }
+}
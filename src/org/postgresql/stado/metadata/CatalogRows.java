@@ -0,0 +1,205 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of a metadata table fetched into memory, iterated like a ResultSet.
+ * Rows come either from a query against the metadata database, or from the
+ * data of the whole database loaded at once by {@link CatalogLoader}, so
+ * the code building metadata objects is the same in both cases.
+ * Column values are accessed by name, case insensitive.
+ */
+public class CatalogRows {
+    private final Map<String, Integer> columnIndex;
+
+    private final List<Object[]> rows;
+
+    private int position = -1;
+
+    private boolean wasNull = false;
+
+    CatalogRows(Map<String, Integer> columnIndex, List<Object[]> rows) {
+        this.columnIndex = columnIndex;
+        this.rows = rows == null ? Collections.<Object[]> emptyList() : rows;
+    }
+
+    /**
+     * Execute the query against the metadata database and fetch the result
+     *
+     * @param sql
+     * @return the rows
+     * @throws SQLException
+     */
+    public static CatalogRows query(String sql) throws SQLException {
+        ResultSet rs = MetaData.getMetaData().executeQuery(sql);
+        try {
+            Map<String, Integer> columnIndex = getColumnIndex(rs.getMetaData());
+            return new CatalogRows(columnIndex, fetch(rs, columnIndex.size()));
+        } finally {
+            rs.close();
+        }
+    }
+
+    /**
+     * @param rsmd
+     * @return positions of the result set columns by lower case label
+     * @throws SQLException
+     */
+    static Map<String, Integer> getColumnIndex(ResultSetMetaData rsmd)
+            throws SQLException {
+        Map<String, Integer> columnIndex = new HashMap<String, Integer>();
+        for (int i = 1; i <= rsmd.getColumnCount(); i++) {
+            String label = rsmd.getColumnLabel(i).toLowerCase();
+            // If label is duplicated the first column wins, like in ResultSet
+            if (!columnIndex.containsKey(label)) {
+                columnIndex.put(label, i - 1);
+            }
+        }
+        return columnIndex;
+    }
+
+    /**
+     * Fetch remaining rows of the result set
+     *
+     * @param rs
+     * @param columnCount
+     * @return the rows
+     * @throws SQLException
+     */
+    static List<Object[]> fetch(ResultSet rs, int columnCount)
+            throws SQLException {
+        List<Object[]> rows = new ArrayList<Object[]>();
+        while (rs.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Move to the next row
+     *
+     * @return false if there are no more rows
+     */
+    public boolean next() {
+        if (position < rows.size()) {
+            position++;
+        }
+        return position < rows.size();
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * @return true if last value retrieved was SQL NULL
+     */
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    private Object getValue(String column) throws SQLException {
+        if (position < 0 || position >= rows.size()) {
+            throw new SQLException("No current row");
+        }
+        Integer index = columnIndex.get(column.toLowerCase());
+        if (index == null) {
+            throw new SQLException("Column " + column + " not found");
+        }
+        Object value = rows.get(position)[index];
+        wasNull = value == null;
+        return value;
+    }
+
+    private Number getNumber(String column) throws SQLException {
+        Object value = getValue(column);
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue() ? 1 : 0;
+        }
+        try {
+            return Double.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("Bad value for number: " + value);
+        }
+    }
+
+    public String getString(String column) throws SQLException {
+        Object value = getValue(column);
+        return value == null ? null : value.toString();
+    }
+
+    public int getInt(String column) throws SQLException {
+        return getNumber(column).intValue();
+    }
+
+    public short getShort(String column) throws SQLException {
+        return getNumber(column).shortValue();
+    }
+
+    public long getLong(String column) throws SQLException {
+        return getNumber(column).longValue();
+    }
+
+    public float getFloat(String column) throws SQLException {
+        return getNumber(column).floatValue();
+    }
+
+    public double getDouble(String column) throws SQLException {
+        return getNumber(column).doubleValue();
+    }
+
+    public boolean getBoolean(String column) throws SQLException {
+        Object value = getValue(column);
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue();
+        } else if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        String str = value.toString().trim();
+        return "t".equalsIgnoreCase(str) || "true".equalsIgnoreCase(str)
+                || "y".equalsIgnoreCase(str) || "yes".equalsIgnoreCase(str)
+                || "1".equals(str);
+    }
+}
@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
 import org.postgresql.stado.common.util.ParseCmdLine;
@@ -109,6 +110,23 @@ public class MetaData {
     // transaction
     private Thread transactionThread = null;
 
+    // incremented every time a DDL change is committed and refreshed
+    private volatile long version = 0;
+
+    // set when the transaction has changed the metadata, guarded by
+    // connectionMutex
+    private boolean catalogModified = false;
+
+    // set when xsysversion is known to exist
+    private volatile boolean hasVersionTable = false;
+
+    // thread refreshing the cache after commit, if any
+    private volatile Thread refreshThread = null;
+
+    // databases having catalog changes to publish when refresh completes,
+    // accessed by refreshThread only
+    private List<SysDatabase> refreshedDatabases = new ArrayList<SysDatabase>();
+
     private static MetaData metaData = null;
 
     /* Metadata constructor */
@@ -473,6 +491,9 @@ public class MetaData {
                 throw ex;
             }
 
+            createVersionTable();
+            createColumnStatsTable();
+
             // Add dummy xdbadmin database for utilities.
             sysDatabaseList.put(Props.XDB_ADMIN_DATABASE, SysDatabase
                     .getAdminDatabase());
@@ -538,6 +559,81 @@ public class MetaData {
         }
     }
 
+    /**
+     * Metadata databases created by earlier versions do not have the table
+     * for column statistics, create it if it is missing
+     */
+    private void createColumnStatsTable() throws XDBServerException {
+        try {
+            ResultSet rs = executeQuery("SELECT 1 FROM information_schema.tables"
+                    + " WHERE table_name = 'xsyscolstats'");
+            boolean exists = rs.next();
+            rs.close();
+            if (!exists) {
+                logger.info("Creating table xsyscolstats");
+                executeUpdate(SysColumnStats.CREATE_TABLE);
+            }
+        } catch (SQLException se) {
+            logger.catching(se);
+            XDBServerException ex = new XDBServerException(
+                    "Can not create table xsyscolstats", se,
+                    ErrorMessageRepository.SQL_EXEC_FAILURE_CODE);
+            logger.throwing(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Metadata databases created by earlier versions do not have the table
+     * for catalog version, create it if it is missing. Initial version is
+     * taken from the clock, so if metadata database is re-created catalog
+     * snapshots made against old one are not valid.
+     */
+    private void createVersionTable() throws XDBServerException {
+        try {
+            ResultSet rs = executeQuery("SELECT 1 FROM information_schema.tables"
+                    + " WHERE table_name = 'xsysversion'");
+            boolean exists = rs.next();
+            rs.close();
+            if (!exists) {
+                logger.info("Creating table xsysversion");
+                executeUpdate(CatalogLoader.CREATE_VERSION_TABLE);
+            }
+            rs = executeQuery("SELECT version FROM xsysversion");
+            exists = rs.next();
+            rs.close();
+            if (!exists) {
+                executeUpdate("INSERT INTO xsysversion (version) VALUES ("
+                        + System.currentTimeMillis() + ")");
+            }
+            hasVersionTable = true;
+        } catch (SQLException se) {
+            logger.catching(se);
+            XDBServerException ex = new XDBServerException(
+                    "Can not create table xsysversion", se,
+                    ErrorMessageRepository.SQL_EXEC_FAILURE_CODE);
+            logger.throwing(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns persistent version of the catalog, it is incremented by every
+     * transaction changing the metadata. Unlike {@link #getVersion()} it
+     * survives restart of the server.
+     *
+     * @return the catalog version stored in the metadata database
+     * @throws SQLException
+     */
+    public long readCatalogVersion() throws SQLException {
+        ResultSet rs = executeQuery("SELECT version FROM xsysversion");
+        try {
+            return rs.next() ? rs.getLong(1) : 0;
+        } finally {
+            rs.close();
+        }
+    }
+
     /**
      * 
      * @param login the login to create 
@@ -796,6 +892,10 @@ public class MetaData {
                     commandStr = "DELETE FROM xsysindexes WHERE tableid IN (SELECT tableid FROM xsystables WHERE dbid = "
                             + database.getDbid() + ")";
                     executeUpdate(commandStr);
+                    // xsyscolstats
+                    commandStr = "DELETE FROM xsyscolstats WHERE colid IN (SELECT colid FROM xsyscolumns WHERE tableid IN (SELECT tableid FROM xsystables WHERE dbid = "
+                            + database.getDbid() + "))";
+                    executeUpdate(commandStr);
                     // xsyscolumns
                     commandStr = "DELETE FROM xsyscolumns WHERE tableid IN (SELECT tableid FROM xsystables WHERE dbid = "
                             + database.getDbid() + ")";
@@ -907,9 +1007,29 @@ public class MetaData {
                     logger.throwing(ex);
                     throw ex;
                 }
+                if (hasVersionTable && (refresher != null || catalogModified)) {
+                    Statement stmt = oConn.createStatement();
+                    try {
+                        stmt.executeUpdate("UPDATE xsysversion SET version = version + 1");
+                    } finally {
+                        stmt.close();
+                    }
+                }
+                catalogModified = false;
                 oConn.commit();
                 if (refresher != null) {
-                    refresher.refresh();
+                    refreshThread = Thread.currentThread();
+                    try {
+                        refresher.refresh();
+                    } finally {
+                        // Make all changes visible at once
+                        refreshThread = null;
+                        for (SysDatabase database : refreshedDatabases) {
+                            database.endUpdate();
+                        }
+                        refreshedDatabases.clear();
+                    }
+                    version++;
                 }
                 transactionThread = null;
                 connectionMutex.notifyAll();
@@ -926,6 +1046,16 @@ public class MetaData {
         }
     }
 
+    /**
+     * Returns version of the metadata. The version is changed every time
+     * a DDL change is committed, so it may be used to find out if objects
+     * built against the metadata are still valid.
+     * @return the metadata version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Rollsback transaction
      * @throws org.postgresql.stado.exception.XDBServerException 
@@ -945,6 +1075,7 @@ public class MetaData {
                     logger.throwing(ex);
                     throw ex;
                 }
+                catalogModified = false;
                 try {
                     oConn.rollback();
                 } catch (Exception e) {
@@ -1023,6 +1154,7 @@ public class MetaData {
                 if (autoTransaction) {
                     beginTransaction();
                 }
+                catalogModified = true;
                 try {
                     Statement statement = oConn.createStatement();
                     int rowsAffected = statement.executeUpdate(sql);
@@ -1062,6 +1194,7 @@ public class MetaData {
                 if (autoTransaction) {
                     beginTransaction();
                 }
+                catalogModified = true;
                 try {
                     Statement statement = oConn.createStatement();
                     ResultSet rs = statement.executeQuery(sql);
@@ -1091,6 +1224,26 @@ public class MetaData {
      */
     private Object startupLock = new Object();
 
+    /**
+     * @return true if current thread is refreshing the cache after a
+     *         metadata transaction has been committed
+     */
+    boolean isRefreshing() {
+        return refreshThread == Thread.currentThread();
+    }
+
+    /**
+     * Register a database which catalog draft should be published when the
+     * refresh is completed
+     *
+     * @param database
+     */
+    void addRefreshedDatabase(SysDatabase database) {
+        if (!refreshedDatabases.contains(database)) {
+            refreshedDatabases.add(database);
+        }
+    }
+
     Object getStartupLock() {
         return startupLock;
     }
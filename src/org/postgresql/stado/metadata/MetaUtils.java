@@ -161,6 +161,9 @@ public class MetaUtils {
                 "' ");
         sbStatement.append("WHERE colid = ").append(aSysCol.getColID());
         MetaData.getMetaData().executeUpdate(sbStatement.toString());
+        // Statistics are not valid for the new type
+        MetaData.getMetaData().executeUpdate(
+                SysColumnStats.getDeleteStatement(aSysCol.getColID()));
     }
 
     /**
@@ -122,6 +122,8 @@ public class SyncAlterDropColumn implements IMetaDataUpdate {
         }
 
         // step 3
+        MetaData.getMetaData().executeUpdate(
+                SysColumnStats.getDeleteStatement(colid));
         String sql_3 = "DELETE FROM xsyscolumns where colid = " + colid;
         // aSqlStatement.executeUpdate(sql_3);
         MetaData.getMetaData().executeUpdate(sql_3);
@@ -199,6 +199,11 @@ public class SyncAlterTableInherit implements IMetaDataUpdate {
                 rs.close();
             }
             ps.executeBatch();
+            // Hashing scheme goes together with the hash map
+            sqlCommand = "UPDATE xsystables SET parthash = (SELECT parthash FROM xsystables WHERE tableid = "
+                    + parent.getSysTableid() + ") WHERE tableid = "
+                    + table.getSysTableid();
+            MetaData.getMetaData().executeUpdate(sqlCommand);
         } else {
             String sqlCommand = "UPDATE xsystables SET parentid = "
                     + parent.getSysTableid() + " WHERE tableid = "
@@ -233,6 +238,11 @@ public class SyncAlterTableInherit implements IMetaDataUpdate {
             }
 
             // Remove columns common with the new parent
+            sqlCommand = "DELETE FROM xsyscolstats WHERE colid IN"
+                    + " (SELECT colid FROM xsyscolumns WHERE colseq <= "
+                    + parent.getColumns().size() + " AND tableid = "
+                    + table.getSysTableid() + ")";
+            MetaData.getMetaData().executeUpdate(sqlCommand);
             sqlCommand = "DELETE FROM xsyscolumns WHERE colseq <= "
                     + parent.getColumns().size() + " AND tableid = "
                     + table.getSysTableid();
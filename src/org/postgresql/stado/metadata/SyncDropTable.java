@@ -145,6 +145,14 @@ public class SyncDropTable implements IMetaDataUpdate {
                     + tableid;
             MetaData.getMetaData().executeUpdate(xSysIndexes);
 
+            // -------------------------
+            // xSysColStats
+            // ------------------------
+            String xSysColStats = "delete from xsyscolstats where colid in"
+                    + " (select colid from xsyscolumns where tableid = "
+                    + tableid + ")";
+            MetaData.getMetaData().executeUpdate(xSysColStats);
+
             // -------------------------
             // xSysColumns
             // ------------------------
@@ -0,0 +1,167 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * SyncUpdateStatistics.java
+ *
+ *
+ */
+package org.postgresql.stado.metadata;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.XDBSessionContext;
+
+/**
+ * Stores statistics collected by ANALYZE for a number of tables in the
+ * metadata database. All the updates are batched, so they should be executed
+ * in single metadata transaction.
+ */
+public class SyncUpdateStatistics implements IMetaDataUpdate {
+    private static final XLogger logger = XLogger
+            .getLogger(SyncUpdateStatistics.class);
+
+    private List<SysTable> tables = new ArrayList<SysTable>();
+
+    private List<Long> rowCounts = new ArrayList<Long>();
+
+    private List<SysColumn> columns = new ArrayList<SysColumn>();
+
+    private List<Double> selectivities = new ArrayList<Double>();
+
+    private List<SysColumnStats> columnStats = new ArrayList<SysColumnStats>();
+
+    /**
+     * Add number of rows in the table
+     *
+     * @param table
+     * @param rowCount
+     */
+    public synchronized void addTable(SysTable table, long rowCount) {
+        tables.add(table);
+        rowCounts.add(rowCount);
+    }
+
+    /**
+     * Add statistics of the column
+     *
+     * @param column
+     * @param selectivity
+     * @param stats
+     *            distribution statistics, may be null
+     */
+    public synchronized void addColumn(SysColumn column, double selectivity,
+            SysColumnStats stats) {
+        columns.add(column);
+        selectivities.add(selectivity);
+        columnStats.add(stats);
+    }
+
+    /**
+     * @return true if nothing to update
+     */
+    public synchronized boolean isEmpty() {
+        return tables.isEmpty() && columns.isEmpty();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.IMetaDataUpdate#execute(org.postgresql.stado.server.XDBSessionContext)
+     */
+    public synchronized void execute(XDBSessionContext client) throws Exception {
+        final String method = "execute";
+        logger.entering(method, new Object[] {});
+        try {
+
+            MetaData meta = MetaData.getMetaData();
+            if (!tables.isEmpty()) {
+                PreparedStatement ps = meta.prepareStatement(
+                        "UPDATE xsystables SET numrows = ? WHERE tableid = ?");
+                try {
+                    for (int i = 0; i < tables.size(); i++) {
+                        ps.setLong(1, rowCounts.get(i));
+                        ps.setInt(2, tables.get(i).getTableId());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                } finally {
+                    ps.close();
+                }
+            }
+            if (!columns.isEmpty()) {
+                PreparedStatement ps = meta.prepareStatement(
+                        "UPDATE xsyscolumns SET selectivity = ? WHERE colid = ?");
+                try {
+                    for (int i = 0; i < columns.size(); i++) {
+                        ps.setDouble(1, selectivities.get(i));
+                        ps.setInt(2, columns.get(i).getColID());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                } finally {
+                    ps.close();
+                }
+                for (int i = 0; i < columns.size(); i++) {
+                    SysColumnStats stats = columnStats.get(i);
+                    if (stats != null) {
+                        for (String statement : stats.getSaveStatements(columns.get(
+                                i).getColID())) {
+                            meta.executeUpdate(statement);
+                        }
+                    }
+                }
+            }
+
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.IMetaDataUpdate#refresh()
+     */
+    public synchronized void refresh() throws Exception {
+        final String method = "refresh";
+        logger.entering(method, new Object[] {});
+        try {
+
+            for (int i = 0; i < tables.size(); i++) {
+                tables.get(i).setNumrows(rowCounts.get(i));
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).setSelectivity(selectivities.get(i));
+                if (columnStats.get(i) != null) {
+                    columns.get(i).setStats(columnStats.get(i));
+                }
+            }
+
+        } finally {
+            logger.exiting(method);
+        }
+    }
+}
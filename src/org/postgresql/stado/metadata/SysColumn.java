@@ -69,6 +69,9 @@ public class SysColumn {
 
     private double selectivity;
 
+    /** Distribution statistics, null if column has not been analyzed */
+    private SysColumnStats stats;
+
     private String defaultExprStr = "";
 
     private SqlExpression defaultExpr;
@@ -379,6 +382,21 @@ public class SysColumn {
         return selectivity;
     }
 
+    /**
+     * @return distribution statistics, or null if they are not collected
+     */
+    public SysColumnStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @param stats
+     *            distribution statistics collected by ANALYZE
+     */
+    public void setStats(SysColumnStats stats) {
+        this.stats = stats;
+    }
+
     /**
      * @return Returns the defaultExpr.
      */
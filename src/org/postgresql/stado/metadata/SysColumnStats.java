@@ -0,0 +1,665 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.postgresql.stado.common.util.HyperLogLog;
+
+/**
+ * Distribution statistics of a column, as collected by ANALYZE and stored in
+ * xsyscolstats: fraction of nulls, number of distinct values, most common
+ * values with their frequencies and bounds of an equi-depth histogram of
+ * other values. Nodes provide mergeable parts of the statistics, which are
+ * combined by the {@link Builder}.
+ */
+public class SysColumnStats {
+    /** Statement to create the metadata table */
+    public static final String CREATE_TABLE = "create table xsyscolstats ("
+            + " colid int not null," + " nullfrac float,"
+            + " ndv float," + " hll varchar(65536)," + " mcvals text,"
+            + " mcfreqs text," + " histbounds text," + " primary key (colid))";
+
+    /** Number of hash bits selecting a HyperLogLog register */
+    public static final int HLL_PRECISION = 10;
+
+    private final double nullFrac;
+
+    private final double distinctCount;
+
+    private final HyperLogLog hll;
+
+    private final String[] mcVals;
+
+    private final double[] mcFreqs;
+
+    private final double mcTotal;
+
+    private final String[] histBounds;
+
+    private final Comparator<String> comparator;
+
+    private final boolean numeric;
+
+    /**
+     * @param numeric
+     *            if values are compared as numbers
+     * @param nullFrac
+     *            fraction of rows where column is null
+     * @param distinctCount
+     *            estimated number of distinct non-null values
+     * @param hll
+     *            sketch the distinctCount is estimated from, may be null
+     * @param mcVals
+     *            most common values, may be null
+     * @param mcFreqs
+     *            frequencies of the most common values
+     * @param histBounds
+     *            sorted bounds of histogram buckets, may be null
+     */
+    public SysColumnStats(boolean numeric, double nullFrac,
+            double distinctCount, HyperLogLog hll, String[] mcVals,
+            double[] mcFreqs, String[] histBounds) {
+        this.numeric = numeric;
+        this.comparator = getComparator(numeric);
+        this.nullFrac = nullFrac;
+        this.distinctCount = distinctCount;
+        this.hll = hll;
+        this.mcVals = mcVals == null ? new String[0] : mcVals;
+        this.mcFreqs = mcFreqs == null ? new double[0] : mcFreqs;
+        double total = 0;
+        for (double freq : this.mcFreqs) {
+            total += freq;
+        }
+        mcTotal = Math.min(total, 1.0);
+        this.histBounds = histBounds == null || histBounds.length < 2 ? null
+                : histBounds;
+    }
+
+    /**
+     * @param colType
+     *            column type as defined in java.sql.Types
+     * @return true if values of such columns are compared as numbers
+     */
+    public static boolean isNumeric(int colType) {
+        switch (colType) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static Comparator<String> getComparator(boolean numeric) {
+        if (!numeric) {
+            return new Comparator<String>() {
+                public int compare(String o1, String o2) {
+                    return o1.compareTo(o2);
+                }
+            };
+        }
+        return new Comparator<String>() {
+            public int compare(String o1, String o2) {
+                try {
+                    return new BigDecimal(o1.trim()).compareTo(new BigDecimal(
+                            o2.trim()));
+                } catch (NumberFormatException nfe) {
+                    return o1.compareTo(o2);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return fraction of rows where column is null
+     */
+    public double getNullFrac() {
+        return nullFrac;
+    }
+
+    /**
+     * @return estimated number of distinct non-null values
+     */
+    public double getDistinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * @return the sketch the number of distinct values is estimated from, or
+     *         null
+     */
+    public HyperLogLog getHyperLogLog() {
+        return hll;
+    }
+
+    /**
+     * @return most common values
+     */
+    public String[] getMostCommonValues() {
+        return mcVals;
+    }
+
+    /**
+     * @return frequencies of the most common values
+     */
+    public double[] getMostCommonFreqs() {
+        return mcFreqs;
+    }
+
+    /**
+     * @return bounds of histogram buckets, or null if there is no histogram
+     */
+    public String[] getHistogramBounds() {
+        return histBounds;
+    }
+
+    /**
+     * Estimate fraction of rows where column is equal to the value
+     *
+     * @param value
+     * @return the selectivity
+     */
+    public double getEqualSelectivity(String value) {
+        for (int i = 0; i < mcVals.length; i++) {
+            if (comparator.compare(mcVals[i], value) == 0) {
+                return mcFreqs[i];
+            }
+        }
+        double rest = Math.max(1.0 - nullFrac - mcTotal, 0);
+        double otherDistinct = distinctCount - mcVals.length;
+        if (otherDistinct < 1) {
+            // all values are most common, others are not expected
+            return histBounds == null ? 0 : rest;
+        }
+        return rest / otherDistinct;
+    }
+
+    /**
+     * Estimate fraction of rows where column compares to the value as
+     * specified
+     *
+     * @param operator
+     *            one of &lt;, &lt;=, &gt;, &gt;=
+     * @param value
+     * @return the selectivity, or -1 if it can not be estimated
+     */
+    public double getRangeSelectivity(String operator, String value) {
+        double below;
+        if ("<".equals(operator)) {
+            below = getFractionBelow(value, false);
+            return below < 0 ? -1 : below;
+        } else if ("<=".equals(operator)) {
+            below = getFractionBelow(value, true);
+            return below < 0 ? -1 : below;
+        } else if (">".equals(operator)) {
+            below = getFractionBelow(value, true);
+        } else if (">=".equals(operator)) {
+            below = getFractionBelow(value, false);
+        } else {
+            return -1;
+        }
+        return below < 0 ? -1 : Math.max(1.0 - nullFrac - below, 0);
+    }
+
+    /**
+     * @return fraction of rows having values less than the value (or equal
+     *         if inclusive is set), -1 if not known
+     */
+    private double getFractionBelow(String value, boolean inclusive) {
+        double result = 0;
+        for (int i = 0; i < mcVals.length; i++) {
+            int cmp = comparator.compare(mcVals[i], value);
+            if (cmp < 0 || inclusive && cmp == 0) {
+                result += mcFreqs[i];
+            }
+        }
+        double histShare = Math.max(1.0 - nullFrac - mcTotal, 0);
+        if (histBounds != null) {
+            result += histShare * getHistogramFraction(histBounds, value);
+        } else if (histShare > 0.01) {
+            return -1;
+        }
+        return Math.min(result, 1.0);
+    }
+
+    /**
+     * @return fraction of histogram rows having values less than the value
+     */
+    private double getHistogramFraction(String[] bounds, String value) {
+        int buckets = bounds.length - 1;
+        if (comparator.compare(value, bounds[0]) <= 0) {
+            return 0;
+        }
+        if (comparator.compare(value, bounds[buckets]) >= 0) {
+            return 1;
+        }
+        // the first bound greater than the value
+        int low = 1;
+        int high = buckets;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(bounds[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return (low - 1 + interpolate(bounds[low - 1], bounds[low], value))
+                / buckets;
+    }
+
+    /**
+     * @return position of the value between the bounds, from 0 to 1
+     */
+    private double interpolate(String lower, String upper, String value) {
+        if (numeric) {
+            try {
+                double lo = Double.parseDouble(lower.trim());
+                double hi = Double.parseDouble(upper.trim());
+                double v = Double.parseDouble(value.trim());
+                if (hi > lo) {
+                    return Math.min(Math.max((v - lo) / (hi - lo), 0), 1);
+                }
+            } catch (NumberFormatException nfe) {
+                // use the middle
+            }
+        }
+        return 0.5;
+    }
+
+    /**
+     * Estimate fraction of the cartesian product of two tables matching the
+     * equi-join condition on the columns
+     *
+     * @param stats1
+     *            statistics of the first column
+     * @param rows1
+     *            number of rows of the first table
+     * @param stats2
+     *            statistics of the second column
+     * @param rows2
+     *            number of rows of the second table
+     * @return the selectivity
+     */
+    public static double getJoinSelectivity(SysColumnStats stats1,
+            long rows1, SysColumnStats stats2, long rows2) {
+        double ndv1 = Math.max(Math.min(stats1.distinctCount, rows1), 1);
+        double ndv2 = Math.max(Math.min(stats2.distinctCount, rows2), 1);
+        return (1.0 - stats1.nullFrac) * (1.0 - stats2.nullFrac)
+                / Math.max(ndv1, ndv2);
+    }
+
+    /**
+     * @param colid
+     *            ID of the column
+     * @return statements replacing the column statistics in the metadata
+     *         database
+     */
+    public String[] getSaveStatements(int colid) {
+        StringBuilder sb = new StringBuilder(
+                "INSERT INTO xsyscolstats (colid, nullfrac, ndv, hll, mcvals, mcfreqs, histbounds) VALUES (");
+        sb.append(colid).append(", ").append(nullFrac).append(", ");
+        sb.append(distinctCount).append(", ");
+        appendQuoted(sb, hll == null ? null : hll.toString()).append(", ");
+        appendQuoted(sb, encodeList(mcVals)).append(", ");
+        StringBuilder freqs = new StringBuilder();
+        for (double freq : mcFreqs) {
+            if (freqs.length() > 0) {
+                freqs.append(',');
+            }
+            freqs.append(freq);
+        }
+        appendQuoted(sb, freqs.toString()).append(", ");
+        appendQuoted(sb, histBounds == null ? null : encodeList(histBounds));
+        sb.append(")");
+        return new String[] { getDeleteStatement(colid), sb.toString() };
+    }
+
+    /**
+     * @param colid
+     *            ID of the column
+     * @return statement to delete the column statistics
+     */
+    public static String getDeleteStatement(int colid) {
+        return "DELETE FROM xsyscolstats WHERE colid = " + colid;
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb.append("NULL");
+        }
+        return sb.append('\'').append(value.replace("'", "''")).append('\'');
+    }
+
+    /**
+     * Read the statistics from the current row of xsyscolstats
+     *
+     * @param rs
+     * @param numeric
+     *            if values are compared as numbers
+     * @return the statistics
+     * @throws SQLException
+     */
+    public static SysColumnStats read(CatalogRows rs, boolean numeric)
+            throws SQLException {
+        String encodedHll = rs.getString("hll");
+        String[] mcVals = decodeList(rs.getString("mcvals"));
+        String encodedFreqs = rs.getString("mcfreqs");
+        double[] mcFreqs = new double[mcVals.length];
+        if (encodedFreqs != null && encodedFreqs.length() > 0) {
+            String[] freqs = encodedFreqs.split(",");
+            for (int i = 0; i < freqs.length && i < mcFreqs.length; i++) {
+                mcFreqs[i] = Double.parseDouble(freqs[i]);
+            }
+        }
+        return new SysColumnStats(numeric, rs.getDouble("nullfrac"), rs
+                .getDouble("ndv"), encodedHll == null ? null : HyperLogLog
+                .valueOf(encodedHll.trim()), mcVals, mcFreqs, decodeList(rs
+                .getString("histbounds")));
+    }
+
+    /**
+     * Encode values as sequence of length:value
+     */
+    private static String encodeList(String[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (String value : values) {
+            sb.append(value.length()).append(':').append(value);
+        }
+        return sb.toString();
+    }
+
+    private static String[] decodeList(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        List<String> values = new ArrayList<String>();
+        int pos = 0;
+        while (pos < encoded.length()) {
+            int colon = encoded.indexOf(':', pos);
+            int end = colon + 1 + Integer.parseInt(encoded.substring(pos, colon));
+            values.add(encoded.substring(colon + 1, end));
+            pos = end;
+        }
+        return values.toArray(new String[values.size()]);
+    }
+
+    /**
+     * Parse text representation of one-dimensional PostgreSQL array, like
+     * {a,"b c",NULL}. NULL elements are skipped.
+     *
+     * @param literal
+     * @return the elements, or null if literal is null
+     */
+    public static String[] parseArray(String literal) {
+        if (literal == null) {
+            return null;
+        }
+        List<String> values = new ArrayList<String>();
+        int pos = literal.indexOf('{') + 1;
+        int end = literal.lastIndexOf('}');
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int depth = 0;
+        for (; pos <= end; pos++) {
+            char ch = literal.charAt(pos);
+            if (quoted) {
+                if (ch == '\\') {
+                    current.append(literal.charAt(++pos));
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (ch == '{') {
+                depth++;
+                current.append(ch);
+            } else if ((ch == ',' || pos == end) && depth == 0) {
+                String value = current.toString();
+                if (wasQuoted || !"NULL".equals(value)) {
+                    if (wasQuoted || value.length() > 0 || ch == ',') {
+                        values.add(value);
+                    }
+                }
+                current.setLength(0);
+                wasQuoted = false;
+            } else {
+                if (ch == '}') {
+                    depth--;
+                }
+                current.append(ch);
+            }
+        }
+        return values.toArray(new String[values.size()]);
+    }
+
+    /**
+     * Combines statistics provided by nodes
+     */
+    public static class Builder {
+        private final boolean numeric;
+
+        private final Comparator<String> comparator;
+
+        private final HyperLogLog hll = new HyperLogLog(HLL_PRECISION);
+
+        private long rowCount = 0;
+
+        private long nonNullCount = 0;
+
+        private int mcvLimit = 0;
+
+        private int bucketCount = 0;
+
+        private final Map<String, Double> mcvCounts = new HashMap<String, Double>();
+
+        private final List<String[]> nodeBounds = new ArrayList<String[]>();
+
+        private final List<Double> nodeBucketRows = new ArrayList<Double>();
+
+        /**
+         * @param numeric
+         *            if values are compared as numbers
+         */
+        public Builder(boolean numeric) {
+            this.numeric = numeric;
+            comparator = getComparator(numeric);
+        }
+
+        /**
+         * @return the sketch to put values of nodes into
+         */
+        public HyperLogLog getHyperLogLog() {
+            return hll;
+        }
+
+        /**
+         * Account rows of a node
+         *
+         * @param rows
+         *            number of rows on the node
+         * @param nonNullRows
+         *            number of rows where column is not null
+         */
+        public void addRows(long rows, long nonNullRows) {
+            rowCount += rows;
+            nonNullCount += nonNullRows;
+        }
+
+        /**
+         * Account distribution of values on a node
+         *
+         * @param rows
+         *            number of rows on the node
+         * @param nullFrac
+         *            fraction of nulls on the node
+         * @param mcVals
+         *            most common values on the node, may be null
+         * @param mcFreqs
+         *            their frequencies on the node
+         * @param bounds
+         *            histogram bounds on the node, may be null
+         */
+        public void addDistribution(long rows, double nullFrac,
+                String[] mcVals, double[] mcFreqs, String[] bounds) {
+            double mcTotal = 0;
+            if (mcVals != null) {
+                mcvLimit = Math.max(mcvLimit, mcVals.length);
+                for (int i = 0; i < mcVals.length && i < mcFreqs.length; i++) {
+                    Double count = mcvCounts.get(mcVals[i]);
+                    mcvCounts.put(mcVals[i], (count == null ? 0 : count)
+                            + mcFreqs[i] * rows);
+                    mcTotal += mcFreqs[i];
+                }
+            }
+            if (bounds != null && bounds.length > 1) {
+                bucketCount = Math.max(bucketCount, bounds.length - 1);
+                nodeBounds.add(bounds);
+                nodeBucketRows.add(Math.max(1.0 - nullFrac - mcTotal, 0)
+                        * rows / (bounds.length - 1));
+            }
+        }
+
+        /**
+         * @return combined statistics
+         */
+        public SysColumnStats build() {
+            double ndv = Math.min(hll.estimate(), nonNullCount);
+            double nullFrac = rowCount == 0 ? 0 : 1.0 - (double) nonNullCount
+                    / rowCount;
+
+            // most common values over all nodes
+            List<Map.Entry<String, Double>> entries = new ArrayList<Map.Entry<String, Double>>(
+                    mcvCounts.entrySet());
+            Collections.sort(entries, new Comparator<Map.Entry<String, Double>>() {
+                public int compare(Map.Entry<String, Double> o1,
+                        Map.Entry<String, Double> o2) {
+                    return o2.getValue().compareTo(o1.getValue());
+                }
+            });
+            int mcvCount = Math.min(entries.size(), mcvLimit);
+            String[] mcVals = new String[mcvCount];
+            double[] mcFreqs = new double[mcvCount];
+            for (int i = 0; i < mcvCount; i++) {
+                mcVals[i] = entries.get(i).getKey();
+                mcFreqs[i] = rowCount == 0 ? 0 : entries.get(i).getValue()
+                        / rowCount;
+            }
+            return new SysColumnStats(numeric, nullFrac, ndv, hll, mcVals,
+                    mcFreqs, mergeHistograms());
+        }
+
+        /**
+         * Choose bounds of equi-depth histogram from bounds of the node
+         * histograms. Every node bucket is weighted by number of rows it
+         * represents.
+         */
+        private String[] mergeHistograms() {
+            if (nodeBounds.isEmpty()) {
+                return null;
+            }
+            if (nodeBounds.size() == 1) {
+                return nodeBounds.get(0);
+            }
+            TreeSet<String> candidates = new TreeSet<String>(comparator);
+            double total = 0;
+            for (int i = 0; i < nodeBounds.size(); i++) {
+                candidates.addAll(Arrays.asList(nodeBounds.get(i)));
+                total += nodeBucketRows.get(i)
+                        * (nodeBounds.get(i).length - 1);
+            }
+            if (total <= 0) {
+                return null;
+            }
+            List<String> result = new ArrayList<String>(bucketCount + 1);
+            result.add(candidates.first());
+            int next = 1;
+            for (String candidate : candidates) {
+                if (next >= bucketCount) {
+                    break;
+                }
+                double below = 0;
+                for (int i = 0; i < nodeBounds.size(); i++) {
+                    below += nodeBucketRows.get(i)
+                            * countBucketsBelow(nodeBounds.get(i), candidate);
+                }
+                if (below >= total * next / bucketCount) {
+                    if (comparator.compare(candidate,
+                            result.get(result.size() - 1)) > 0) {
+                        result.add(candidate);
+                    }
+                    while (next < bucketCount
+                            && below >= total * next / bucketCount) {
+                        next++;
+                    }
+                }
+            }
+            if (comparator.compare(candidates.last(),
+                    result.get(result.size() - 1)) > 0) {
+                result.add(candidates.last());
+            }
+            return result.toArray(new String[result.size()]);
+        }
+
+        /**
+         * @return number of buckets of the histogram having values not
+         *         greater than the value
+         */
+        private int countBucketsBelow(String[] bounds, String value) {
+            // the first upper bound greater than the value
+            int low = 1;
+            int high = bounds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(bounds[mid], value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low - 1;
+        }
+    }
+}
@@ -26,17 +26,20 @@
 
 package org.postgresql.stado.metadata;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.util.Props;
@@ -54,6 +57,16 @@ import org.postgresql.stado.parser.SqlCreateTableColumn;
 /**
  *
  * DS
+ *
+ * Permanent tables, views, users and nodes of the database are kept in an
+ * immutable catalog snapshot. Readers take the current snapshot without
+ * locking. Writers are synchronized on the database, they copy the snapshot,
+ * change the copy and publish it with a new version. Changes made while
+ * metadata transaction is being committed, by the Sync* updaters, are
+ * collected into single snapshot and published when the refresh completes,
+ * so readers see either none or all of them. Temp tables are created per
+ * query or per session and are never shared, so they are kept in concurrent
+ * maps apart from the snapshot.
  */
 public class SysDatabase {
 
@@ -78,24 +91,67 @@ public class SysDatabase {
 
     private String dbname;
 
-    private Hashtable<Integer, SysTable> sysTableIndex;
+    /**
+     * Catalog snapshot. Maps are never changed after the snapshot is
+     * published.
+     */
+    private static final class Catalog {
+        private final long version;
+
+        private final HashMap<Integer, SysTable> sysTableIndex;
+
+        private final HashMap<String, SysTable> sysTables;
 
-    private Hashtable<String, SysTable> sysTables;
+        private final HashMap<String, SysView> sysViews;
 
-    private Hashtable<String, SysView> sysViews;
+        private final HashMap<Integer, SysView> sysViewsIndex;
+
+        private final HashMap<Integer, SysUser> sysUserList;
+
+        private final TreeMap<Integer, DBNode> dbNodeList;
+
+        private Catalog() {
+            version = 0;
+            sysTableIndex = new HashMap<Integer, SysTable>();
+            sysTables = new HashMap<String, SysTable>();
+            sysViews = new HashMap<String, SysView>();
+            sysViewsIndex = new HashMap<Integer, SysView>();
+            sysUserList = new HashMap<Integer, SysUser>();
+            dbNodeList = new TreeMap<Integer, DBNode>();
+        }
 
-    private Hashtable<Integer, SysView> sysViewsIndex;
+        private Catalog(Catalog other) {
+            version = other.version + 1;
+            sysTableIndex = new HashMap<Integer, SysTable>(other.sysTableIndex);
+            sysTables = new HashMap<String, SysTable>(other.sysTables);
+            sysViews = new HashMap<String, SysView>(other.sysViews);
+            sysViewsIndex = new HashMap<Integer, SysView>(other.sysViewsIndex);
+            sysUserList = new HashMap<Integer, SysUser>(other.sysUserList);
+            dbNodeList = new TreeMap<Integer, DBNode>(other.dbNodeList);
+        }
+    }
+
+    /**
+     * Current snapshot
+     */
+    private volatile Catalog catalog;
+
+    /**
+     * Snapshot being built by a batch of changes, visible to the thread
+     * making them only. Guarded by this.
+     */
+    private volatile Catalog draft;
 
-    private Hashtable<String, SysTable> sysTempTables;
+    private volatile Thread draftOwner;
 
-    private Hashtable<Integer, SysUser> sysUserList;
+    private final ConcurrentHashMap<String, SysTable> sysTempTables;
 
-    private TreeMap<Integer, DBNode> dbNodeList;
+    private final ConcurrentHashMap<Integer, SysTable> sysTempTableIndex;
 
-    private int tempTableID = MIN_TEMP_TABLE_ID;
+    private final AtomicInteger tempTableID = new AtomicInteger();
 
     // Modifier for temp table name
-    private long counter = 0;
+    private final AtomicLong counter = new AtomicLong();
 
     private boolean started = false;
 
@@ -109,13 +165,9 @@ public class SysDatabase {
         dbid = dbID;
         dbname = dbName;
         spatial = isSpatial;
-        sysTableIndex = new Hashtable<Integer, SysTable>();
-        sysTables = new Hashtable<String, SysTable>();
-        sysViews = new Hashtable<String, SysView>();
-        sysViewsIndex = new Hashtable<Integer, SysView>();
-        sysTempTables = new Hashtable<String, SysTable>();
-        dbNodeList = new TreeMap<Integer, DBNode>();
-        sysUserList = new Hashtable<Integer, SysUser>();
+        catalog = new Catalog();
+        sysTempTables = new ConcurrentHashMap<String, SysTable>();
+        sysTempTableIndex = new ConcurrentHashMap<Integer, SysTable>();
 
         initSchedulingMechanism();
         
@@ -145,7 +197,7 @@ public class SysDatabase {
     public int getCoordinatorNodeID() {
         if (coordinatorNodeID == 0) {
 
-            if (dbNodeList.isEmpty()) {
+            if (read().dbNodeList.isEmpty()) {
                 readDatabaseInfo();
             }
 
@@ -164,6 +216,98 @@ public class SysDatabase {
     public boolean isSpatial() {
     	return spatial;
     }
+
+    // ------------- Catalog snapshots
+
+    /**
+     * @return the snapshot to read from: the draft if current thread is
+     *         building it, otherwise the published one
+     */
+    private Catalog read() {
+        Catalog current = draft;
+        if (current != null && draftOwner == Thread.currentThread()) {
+            return current;
+        }
+        return catalog;
+    }
+
+    /**
+     * Get a snapshot to modify. Must be called when synchronized on this.
+     * If current thread is building a draft, or is refreshing metadata after
+     * a commit, changes go to the draft, otherwise to a copy of current
+     * snapshot which should be passed to publish().
+     */
+    private Catalog edit() {
+        if (draft != null && draftOwner == Thread.currentThread()) {
+            return draft;
+        }
+        waitForDraft();
+        if (MetaData.getMetaData().isRefreshing()) {
+            beginUpdate();
+            MetaData.getMetaData().addRefreshedDatabase(this);
+            return draft;
+        }
+        return new Catalog(catalog);
+    }
+
+    /**
+     * Make the modified snapshot current, unless it is a draft. Must be
+     * called when synchronized on this.
+     */
+    private void publish(Catalog modified) {
+        if (modified != draft) {
+            catalog = modified;
+        }
+    }
+
+    /**
+     * Start collecting changes into a draft, which will be published by
+     * endUpdate()
+     */
+    synchronized void beginUpdate() {
+        if (draftOwner != Thread.currentThread()) {
+            waitForDraft();
+        }
+        if (draft == null) {
+            draft = new Catalog(catalog);
+            draftOwner = Thread.currentThread();
+        }
+    }
+
+    /**
+     * Publish the draft
+     */
+    synchronized void endUpdate() {
+        if (draft != null) {
+            catalog = draft;
+            draft = null;
+            draftOwner = null;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Wait while other thread is building a draft, so its changes are not
+     * lost. Must be called when synchronized on this.
+     */
+    private void waitForDraft() {
+        while (draft != null && draftOwner != Thread.currentThread()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // keep waiting
+            }
+        }
+    }
+
+    /**
+     * The version is incremented every time a changed catalog is published.
+     *
+     * @return version of current catalog snapshot
+     */
+    public long getCatalogVersion() {
+        return catalog.version;
+    }
     
     // ------------- Sheduler, Notifier, LockManager
 
@@ -180,10 +324,7 @@ public class SysDatabase {
     }
 
     private void initSchedulingMechanism() {
-        sc = new Scheduler();
-        Thread schedulerThread = new Thread(sc, dbname + " Scheduler Thread");
-        schedulerThread.setDaemon(true);
-        schedulerThread.start();
+        sc = new Scheduler(dbname);
     }
 
     private void initLockManager() {
@@ -219,7 +360,7 @@ public class SysDatabase {
     public void admin() {
         Object startupLock = MetaData.getMetaData().getStartupLock();
         synchronized (startupLock) {
-            if (dbNodeList.isEmpty() && this != ADMIN_DATABASE) {
+            if (read().dbNodeList.isEmpty() && this != ADMIN_DATABASE) {
                 readDatabaseInfo();
             }
             startupLock.notifyAll();
@@ -233,7 +374,7 @@ public class SysDatabase {
         LinkedList<DBNode> dbNodesToConnect = new LinkedList<DBNode>();
         synchronized (MetaData.getMetaData().getStartupLock()) {
             started = true;
-            if (dbNodeList.isEmpty()) {
+            if (read().dbNodeList.isEmpty()) {
                 readDatabaseInfo();
             }
             for (Object element : getDBNodeList()) {
@@ -272,7 +413,9 @@ public class SysDatabase {
     }
 
     synchronized void addDbNode(DBNode dbNode) {
-        dbNodeList.put(dbNode.getNode().getNodeid(), dbNode);
+        Catalog modified = edit();
+        modified.dbNodeList.put(dbNode.getNode().getNodeid(), dbNode);
+        publish(modified);
     }
 
     /**
@@ -284,7 +427,7 @@ public class SysDatabase {
             if (!started) {
                 return false;
             }
-            for (DBNode node : dbNodeList.values()) {
+            for (DBNode node : read().dbNodeList.values()) {
                 if (!node.isOnline()) {
                     return false;
                 }
@@ -315,7 +458,7 @@ public class SysDatabase {
                 toWait = startWait + timeout - System.currentTimeMillis();
             }
             LinkedList<DBNode> offline = new LinkedList<DBNode>();
-            for (DBNode dbNode : dbNodeList.values()) {
+            for (DBNode dbNode : read().dbNodeList.values()) {
                 if (!dbNode.isOnline()) {
                     offline.add(dbNode);
                 }
@@ -366,6 +509,7 @@ public class SysDatabase {
     private synchronized void readDatabaseInfo() throws XDBServerException {
         final String method = "readDatabaseInfo";
         logger.entering(method);
+        beginUpdate();
         try {
 
             MetaData meta = MetaData.getMetaData();
@@ -373,18 +517,18 @@ public class SysDatabase {
             // TODO load users
             readLoginInfo();
 
+            // Load metadata of all tables and views at once
+            CatalogLoader loader = CatalogLoader.load(this);
+
             // load dbnodes
-            String sNodeQuery = "SELECT nodeid FROM xsysdbnodes WHERE dbid = "
-                + dbid;
-            ResultSet aNodeRS = meta.executeQuery(sNodeQuery);
+            CatalogRows aNodeRS = loader.getNodes();
             while (aNodeRS.next()) {
                 Node node = meta.getNode(aNodeRS.getInt("nodeid"));
                 new DBNode(node, this);
             }
 
             // load tables
-            ResultSet aTableRS = meta.executeQuery
-            ("SELECT * from xsystables WHERE dbid = " + dbid);
+            CatalogRows aTableRS = loader.getTables();
             while (aTableRS.next()) {
                 String partCol = aTableRS.getString("partcol");
                 String clusteridx = aTableRS.getString("clusteridx");
@@ -417,8 +561,8 @@ public class SysDatabase {
             // We first only want to read parent tables, then we can do the
             // children
             // otherwise we may get a NPE.
-            for (SysTable aSysTable : sysTables.values()) {
-                aSysTable.readTableInfo(false);
+            for (SysTable aSysTable : read().sysTables.values()) {
+                aSysTable.readTableInfo(false, loader);
             }
             /*
              * // Now we can get tables with children for (Iterator it =
@@ -435,17 +579,15 @@ public class SysDatabase {
             while (enumTable.hasMoreElements()) {
                 SysTable aSysTable = (SysTable) enumTable.nextElement();
 
-                aSysTable.updateCrossReferences();
+                aSysTable.updateCrossReferences(loader);
             }
 
             // load views
-            ResultSet aViewRS = meta
-            .executeQuery("SELECT * from xsysviews WHERE dbid = "
-                    + dbid);
+            CatalogRows aViewRS = loader.getViews();
             while (aViewRS.next()) {
                 SysView aSysView = new SysView(this, aViewRS.getInt("viewid"),
                         aViewRS.getString("viewname").trim(), aViewRS
-                        .getString("viewtext").trim());
+                        .getString("viewtext").trim(), loader);
                 addSysView(aSysView);
             }
 
@@ -461,6 +603,7 @@ public class SysDatabase {
             logger.throwing(ex);
             throw ex;
         } finally {
+            endUpdate();
             logger.exiting(method);
         }
     }
@@ -471,14 +614,14 @@ public class SysDatabase {
      * @throws org.postgresql.stado.exception.XDBServerException
      * @return
      */
-    public synchronized SysUser getSysUser(int userId)
+    public SysUser getSysUser(int userId)
     throws XDBServerException {
         final String method = "getSysUser";
         Integer userIdInt = new Integer(userId);
         logger.entering(method, new Object[] { userIdInt });
         try {
 
-            SysUser user = sysUserList.get(userIdInt);
+            SysUser user = read().sysUserList.get(userIdInt);
             if (user == null) {
                 XDBServerException ex = new XDBServerException("User " + userId
                         + " is not found");
@@ -498,13 +641,13 @@ public class SysDatabase {
      * @throws org.postgresql.stado.exception.XDBServerException
      * @return
      */
-    public synchronized SysUser getSysUser(String userName)
+    public SysUser getSysUser(String userName)
     throws XDBServerException {
         final String method = "getSysUser";
         logger.entering(method, new Object[] { userName });
         try {
 
-            for (Object element : sysUserList.values()) {
+            for (Object element : read().sysUserList.values()) {
                 SysUser user = (SysUser) element;
                 if (userName.equals(user.getName())) {
                     return user;
@@ -524,7 +667,7 @@ public class SysDatabase {
      * @return
      */
     public Collection<SysUser> getSysUsers() {
-        return sysUserList.values();
+        return Collections.unmodifiableCollection(read().sysUserList.values());
     }
 
     /**
@@ -532,7 +675,7 @@ public class SysDatabase {
      * @return
      */
     public Collection<SysView> getSysViews() {
-        return sysViews.values();
+        return Collections.unmodifiableCollection(read().sysViews.values());
     }
 
     // ------------------------------------------------------------------------
@@ -541,8 +684,10 @@ public class SysDatabase {
      * @param aSysTable
      */
     public synchronized void addSysTable(SysTable aSysTable) {
-        sysTables.put(aSysTable.getTableName(), aSysTable);
-        sysTableIndex.put(aSysTable.getTableId(), aSysTable);
+        Catalog modified = edit();
+        modified.sysTables.put(aSysTable.getTableName(), aSysTable);
+        modified.sysTableIndex.put(aSysTable.getTableId(), aSysTable);
+        publish(modified);
     }
 
     /**
@@ -550,8 +695,10 @@ public class SysDatabase {
      * @param aSysView
      */
     public synchronized void addSysView(SysView aSysView) {
-        sysViews.put(aSysView.getViewName(), aSysView);
-        sysViewsIndex.put(new Integer(aSysView.getViewid()), aSysView);
+        Catalog modified = edit();
+        modified.sysViews.put(aSysView.getViewName(), aSysView);
+        modified.sysViewsIndex.put(new Integer(aSysView.getViewid()), aSysView);
+        publish(modified);
     }
 
     // ------------------------------------------------------------------------
@@ -559,9 +706,9 @@ public class SysDatabase {
      *
      * @param aSysTable
      */
-    public synchronized void addSysTempTable(SysTable aSysTable) {
+    public void addSysTempTable(SysTable aSysTable) {
         sysTempTables.put(aSysTable.getTableName(), aSysTable);
-        sysTableIndex.put(new Integer(aSysTable.getTableId()), aSysTable);
+        sysTempTableIndex.put(new Integer(aSysTable.getTableId()), aSysTable);
     }
 
     // ------------------------------------------------------------------------
@@ -570,9 +717,9 @@ public class SysDatabase {
      * @param tableName
      * @return
      */
-    public synchronized SysTable getSysTable(String tableName) {
+    public SysTable getSysTable(String tableName) {
         SysTable aSysTable = null;
-        aSysTable = sysTables.get(tableName);
+        aSysTable = read().sysTables.get(tableName);
         // If we find that the systables is null , we must check if
         // the table is a temp table
         if (aSysTable == null) {
@@ -595,13 +742,13 @@ public class SysDatabase {
      * if the sys table is not found it returns null instead of throwing
      * exception.
      */
-    public synchronized SysTable checkForSysTable(String tableName) {
+    public SysTable checkForSysTable(String tableName) {
         if (tableName == null || tableName.equals("")) {
             return null;
         }
 
         SysTable aSysTable = null;
-        aSysTable = sysTables.get(tableName);
+        aSysTable = read().sysTables.get(tableName);
         // If we find that the systables is null , we must check if
         // the table is a temp table
         if (aSysTable == null) {
@@ -616,9 +763,9 @@ public class SysDatabase {
      * @param viewName
      * @return
      */
-    public synchronized SysView getSysView(String viewName) {
+    public SysView getSysView(String viewName) {
         SysView aSysView = null;
-        aSysView = sysViews.get(viewName);
+        aSysView = read().sysViews.get(viewName);
         // If we find that the systables is null , we must check if
         // the table is a temp table
         if (aSysView == null) {
@@ -636,8 +783,13 @@ public class SysDatabase {
      * @param tableId
      * @return
      */
-    public synchronized SysTable getSysTable(int tableId) {
-        return sysTableIndex.get(new Integer(tableId));
+    public SysTable getSysTable(int tableId) {
+        Integer key = new Integer(tableId);
+        SysTable aSysTable = read().sysTableIndex.get(key);
+        if (aSysTable == null) {
+            aSysTable = sysTempTableIndex.get(key);
+        }
+        return aSysTable;
     }
 
     /**
@@ -645,23 +797,29 @@ public class SysDatabase {
      * @param viewId
      * @return
      */
-    public synchronized SysView getSysView(int viewId) {
-        return sysViewsIndex.get(new Integer(viewId));
+    public SysView getSysView(int viewId) {
+        return read().sysViewsIndex.get(new Integer(viewId));
     }
 
     /**
      * drops specified sysTable
      * @param tableName
      */
-    public synchronized void dropSysTable(String tableName) {
-        SysTable aSysTable;
-        if (!sysTempTables.containsKey(tableName)) {
-            aSysTable = sysTables.remove(tableName);
+    public void dropSysTable(String tableName) {
+        SysTable aSysTable = sysTempTables.remove(tableName);
+        if (aSysTable != null) {
+            sysTempTableIndex.remove(new Integer(aSysTable.getTableId()));
         } else {
-            aSysTable = sysTempTables.remove(tableName);
+            synchronized (this) {
+                Catalog modified = edit();
+                aSysTable = modified.sysTables.remove(tableName);
+                if (aSysTable != null) {
+                    modified.sysTableIndex.remove(new Integer(aSysTable.getTableId()));
+                    publish(modified);
+                }
+            }
         }
         if (aSysTable != null) {
-            sysTableIndex.remove(new Integer(aSysTable.getTableId()));
             SysUser owner = aSysTable.getOwner();
             if (owner != null) {
                 owner.removeOwned(aSysTable);
@@ -680,9 +838,11 @@ public class SysDatabase {
     public synchronized void dropSysView(String viewName) {
         SysView aSysView;
 
-        aSysView = sysViews.remove(viewName);
+        Catalog modified = edit();
+        aSysView = modified.sysViews.remove(viewName);
         if (aSysView != null) {
-            sysViewsIndex.remove(new Integer(aSysView.getViewid()));
+            modified.sysViewsIndex.remove(new Integer(aSysView.getViewid()));
+            publish(modified);
         }
     }
 
@@ -691,16 +851,18 @@ public class SysDatabase {
      *
      * @return the enumeration of all tables
      */
-    public synchronized Enumeration getAllTables() {
-        return Collections.enumeration(sysTableIndex.values());
+    public Enumeration getAllTables() {
+        List<SysTable> tables = new ArrayList<SysTable>(read().sysTableIndex.values());
+        tables.addAll(sysTempTableIndex.values());
+        return Collections.enumeration(tables);
     }
 
     /**
      *
      * @return
      */
-    public synchronized Enumeration getAllViews() {
-        return Collections.enumeration(sysViewsIndex.values());
+    public Enumeration getAllViews() {
+        return Collections.enumeration(read().sysViewsIndex.values());
     }
 
     /**
@@ -710,12 +872,10 @@ public class SysDatabase {
      * @param indexName
      * @return
      */
-    public synchronized HelperSysIndex getSysIndexByName(String indexName)
+    public HelperSysIndex getSysIndexByName(String indexName)
     throws XDBServerException {
         HelperSysIndex helpIndex = null;
-        Enumeration tableList = sysTables.elements();
-        while (tableList.hasMoreElements()) {
-            SysTable aTable = (SysTable) tableList.nextElement();
+        for (SysTable aTable : read().sysTables.values()) {
             SysIndex aSysIndex = aTable.getSysIndex(indexName);
             if (aSysIndex != null) {
                 // Skip index if it is inherited
@@ -736,8 +896,8 @@ public class SysDatabase {
      *
      * @return
      */
-    public synchronized Collection<DBNode> getDBNodeList() {
-        return dbNodeList.values();
+    public Collection<DBNode> getDBNodeList() {
+        return Collections.unmodifiableCollection(read().dbNodeList.values());
     }
 
     /**
@@ -746,8 +906,8 @@ public class SysDatabase {
      * @throws org.postgresql.stado.exception.XDBServerException
      * @return
      */
-    public synchronized DBNode getDBNode(int nodeID) throws XDBServerException {
-        DBNode dbNode = dbNodeList.get(nodeID);
+    public DBNode getDBNode(int nodeID) throws XDBServerException {
+        DBNode dbNode = read().dbNodeList.get(nodeID);
         if (dbNode == null) {
             XDBServerException ex = new XDBServerException("Node " + nodeID
                     + " is not used by Database " + dbname);
@@ -761,7 +921,9 @@ public class SysDatabase {
      * @param nodeid
      */
     synchronized void removeDBNode(int nodeID) {
-        dbNodeList.remove(nodeID);
+        Catalog modified = edit();
+        modified.dbNodeList.remove(nodeID);
+        publish(modified);
     }
 
     /**
@@ -796,6 +958,8 @@ public class SysDatabase {
     }
 
     /**
+     * Name always gets a suffix from the counter, so concurrent callers
+     * never get the same name even if neither table is registered yet.
      *
      * @param basename
      * @return
@@ -804,25 +968,25 @@ public class SysDatabase {
         if (!basename.startsWith(Props.XDB_TEMPTABLEPREFIX)) {
             basename = Props.XDB_TEMPTABLEPREFIX + basename;
         }
-        String candidate = basename;
-        while (isTableExists(candidate)) {
-            if (counter == Long.MAX_VALUE) {
-                counter = 0;
-            }
-            candidate = basename + "_" + counter++;
-        }
+        String candidate;
+        do {
+            candidate = basename + "_" + (counter.getAndIncrement() & Long.MAX_VALUE);
+        } while (isTableExists(candidate));
         return candidate;
     }
 
     private int getNextTempTableID() {
         int attempts = MAX_TEMP_TABLE_ID - MIN_TEMP_TABLE_ID;
-        while (getSysTable(tempTableID == MAX_TEMP_TABLE_ID ? tempTableID = MIN_TEMP_TABLE_ID
-                : ++tempTableID) != null) {
+        int id;
+        do {
             if (attempts-- < 0) {
                 throw new XDBServerException("Out of temp table name space");
             }
-        }
-        return tempTableID;
+            id = MIN_TEMP_TABLE_ID + 1
+                    + (tempTableID.getAndIncrement() & Integer.MAX_VALUE)
+                    % (MAX_TEMP_TABLE_ID - MIN_TEMP_TABLE_ID);
+        } while (getSysTable(id) != null);
+        return id;
     }
 
     /**
@@ -837,7 +1001,7 @@ public class SysDatabase {
      * @throws java.lang.Exception
      * @return
      */
-    public synchronized SysTable createTempSysTable(String baseName,
+    public SysTable createTempSysTable(String baseName,
             short partitionType, PartitionMap partitionMap,
             String partitionColumn, SysSerialIDHandler serialIDHandler,
             SysRowIDHandler xrowIDHandler, Collection<SysColumn> sysColumns)
@@ -881,7 +1045,7 @@ public class SysDatabase {
      * @throws java.lang.Exception
      * @return
      */
-    public synchronized SysTable createSysTable(String name,
+    public SysTable createSysTable(String name,
             short partitionType, PartitionMap partitionMap,
             String partitionColumn, SysSerialIDHandler serialIDHandler,
             SysRowIDHandler xrowIDHandler, List<SqlCreateTableColumn> sysColumns,
@@ -915,8 +1079,8 @@ public class SysDatabase {
      * @param tableName
      * @return
      */
-    public synchronized boolean isTableExists(String tableName) {
-        return sysTables.containsKey(tableName)
+    public boolean isTableExists(String tableName) {
+        return read().sysTables.containsKey(tableName)
         || sysTempTables.containsKey(tableName);
     }
 
@@ -925,8 +1089,8 @@ public class SysDatabase {
      * @param viewName
      * @return
      */
-    public synchronized boolean isViewExists(String viewName) {
-        return sysViews.containsKey(viewName);
+    public boolean isViewExists(String viewName) {
+        return read().sysViews.containsKey(viewName);
     }
 
     /**
@@ -957,10 +1121,12 @@ public class SysDatabase {
      * @param oldTableName
      * @param newTableName
      */
-    public void renameSysTable(String oldTableName, String newTableName) {
-        SysTable table = sysTables.remove(oldTableName);
+    public synchronized void renameSysTable(String oldTableName, String newTableName) {
+        Catalog modified = edit();
+        SysTable table = modified.sysTables.remove(oldTableName);
         table.setName(newTableName);
-        sysTables.put(newTableName, table);
+        modified.sysTables.put(newTableName, table);
+        publish(modified);
     }
 
     /**
@@ -968,8 +1134,8 @@ public class SysDatabase {
      *
      * @return the list of tables
      */
-    public synchronized Collection<SysTable> getSysTables() {
-        return sysTables.values();
+    public Collection<SysTable> getSysTables() {
+        return Collections.unmodifiableCollection(read().sysTables.values());
     }
 
     /**
@@ -978,9 +1144,9 @@ public class SysDatabase {
      * @param userName
      * @return <code>TRUE</code> if exists, <code>FALSE</code> otherwise
      */
-    public synchronized boolean hasSysUser(String userName) {
+    public boolean hasSysUser(String userName) {
         String userNameUpper = userName.toUpperCase();
-        for (Object element : sysUserList.values()) {
+        for (Object element : read().sysUserList.values()) {
             SysUser user = (SysUser) element;
             if (userNameUpper.equals(user.getName().toUpperCase())) {
                 return true;
@@ -992,20 +1158,24 @@ public class SysDatabase {
     /**
      * @param user
      */
-    public void insertUser(SysUser user) {
-        sysUserList.put(new Integer(user.getUserID()), user);
+    public synchronized void insertUser(SysUser user) {
+        Catalog modified = edit();
+        modified.sysUserList.put(new Integer(user.getUserID()), user);
+        publish(modified);
     }
 
     /**
      * @param user
      */
-    public void removeUser(String userName) {
-        for (Iterator<SysUser> it = sysUserList.values().iterator(); it
+    public synchronized void removeUser(String userName) {
+        Catalog modified = edit();
+        for (Iterator<SysUser> it = modified.sysUserList.values().iterator(); it
         .hasNext();) {
             if (userName.equals(it.next().getName())) {
                 it.remove();
             }
         }
+        publish(modified);
     }
 
     /**
@@ -1058,9 +1228,11 @@ public class SysDatabase {
             Object startupLock = MetaData.getMetaData().getStartupLock();
             synchronized (startupLock) {
                 synchronized (this) {
+                    Catalog modified = edit();
                     for (DBNode nodeToDelete : dbNodeList) {
-                        this.dbNodeList.remove(nodeToDelete.getNodeId());
+                        modified.dbNodeList.remove(nodeToDelete.getNodeId());
                     }
+                    publish(modified);
                 }
                 startupLock.notifyAll();
             }
@@ -1081,7 +1253,7 @@ public class SysDatabase {
     private synchronized int chooseTempNodeId() {
         Hashtable<Integer, Integer> nodeIdList = new Hashtable<Integer, Integer>();
 
-        for (SysTable sysTable : sysTables.values()) {
+        for (SysTable sysTable : read().sysTables.values()) {
             for (DBNode aDBNode : sysTable.getNodeList()) {
                 Integer currentCount = nodeIdList.get(aDBNode.getNodeId());
                 if (currentCount == null) {
@@ -102,6 +102,14 @@ public class SysIndex {
      * Throws an error if idxid does not exist
      */
     public void readIndexKeysInfo() throws Exception {
+        readIndexKeysInfo(null);
+    }
+
+    /**
+     * Reads the index keys info from metadata of the database loaded at once,
+     * or queries the metadata database if loader is null
+     */
+    void readIndexKeysInfo(CatalogLoader loader) throws Exception {
         if (idxid == -1) {
             // programmer error
             String errorMessage = ErrorMessageRepository.SYSINDEX_CORRUPT
@@ -114,9 +122,14 @@ public class SysIndex {
 
             // ----------------------------------------------------------
             // get indexkeys info
-            ResultSet keysRS = MetaData.getMetaData().executeQuery(
-                    "SELECT * FROM xsysindexkeys WHERE idxid = " + idxid
-                            + " ORDER BY idxkeyseq");
+            CatalogRows keysRS;
+            if (loader == null) {
+                keysRS = CatalogRows.query(
+                        "SELECT * FROM xsysindexkeys WHERE idxid = " + idxid
+                                + " ORDER BY idxkeyseq");
+            } else {
+                keysRS = loader.getIndexKeys(idxid);
+            }
 
             indexKeys = new ArrayList<SysIndexKey>();
             sysColumnList = new ArrayList<SysColumn>();
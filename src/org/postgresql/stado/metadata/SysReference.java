@@ -73,6 +73,14 @@ public class SysReference {
      * ABORTS if Refid does not exist
      */
     public void readForeignKeysInfo() throws XDBServerException {
+        readForeignKeysInfo(null);
+    }
+
+    /**
+     * Reads the foreign keys info from metadata of the database loaded at
+     * once, or queries the metadata database if loader is null
+     */
+    void readForeignKeysInfo(CatalogLoader loader) throws XDBServerException {
 
         if (refid == -1) {
             // programmer error
@@ -85,9 +93,14 @@ public class SysReference {
         try {
             // ----------------------------------------------------------
             // get indexkeys info
-            ResultSet keysRS = MetaData.getMetaData().executeQuery(
-                    "SELECT * FROM xsysforeignkeys WHERE refid = " + refid
-                            + " ORDER BY fkeyseq");
+            CatalogRows keysRS;
+            if (loader == null) {
+                keysRS = CatalogRows.query(
+                        "SELECT * FROM xsysforeignkeys WHERE refid = " + refid
+                                + " ORDER BY fkeyseq");
+            } else {
+                keysRS = loader.getForeignKeys(refid);
+            }
 
             foreignKeys = new Vector();
             int keys = 0;
@@ -265,6 +265,15 @@ public class SysTable {
      * any additional synchronization.
      */
     void readTableInfo(boolean force) throws XDBServerException {
+        readTableInfo(force, null);
+    }
+
+    /**
+     * Reads table info from metadata of the database loaded at once, or
+     * queries the metadata database if loader is null
+     */
+    void readTableInfo(boolean force, CatalogLoader loader)
+    throws XDBServerException {
         final String method = "readTableInfo";
         logger.entering(method);
         try {
@@ -289,12 +298,12 @@ public class SysTable {
             isTrueRowID = false;
             loaded = true;
 
-            updateParentTableReference();
-            readPermissionsInfo();
-            readPartitioningInfo();
-            readColumnInfo();
-            readIndexInfo(); // responsible for reading indexkeys as well
-            readConstraintsInfo(); // verifies indexes that must exist for the
+            updateParentTableReference(loader);
+            readPermissionsInfo(loader);
+            readPartitioningInfo(loader);
+            readColumnInfo(loader);
+            readIndexInfo(loader); // responsible for reading indexkeys as well
+            readConstraintsInfo(loader); // verifies indexes that must exist for the
             // constraint
             refreshAssociatedInfo(); // get numrows, etc
         } catch (Exception se) {
@@ -314,6 +323,11 @@ public class SysTable {
      * @throws XDBServerException
      */
     public void readPartitioningInfo() throws XDBServerException {
+        readPartitioningInfo(null);
+    }
+
+    private void readPartitioningInfo(CatalogLoader loader)
+    throws XDBServerException {
         final String method = "readPartitioningInfo";
         logger.entering(method);
         try {
@@ -321,7 +335,11 @@ public class SysTable {
             if (parentTableID > -1) {
                 return;
             }
-            partitionMap.readMapFromMetadataDB(MetaData.getMetaData(), this);
+            if (loader == null) {
+                partitionMap.readMapFromMetadataDB(MetaData.getMetaData(), this);
+            } else {
+                partitionMap.readMapFromCatalog(loader, this);
+            }
         } catch (SQLException e) {
             throw new XDBServerException(
                     ErrorMessageRepository.METADATA_DB_INFO_READ_ERROR, e,
@@ -334,15 +352,19 @@ public class SysTable {
     /**
      * @throws XDBServerException
      */
-    private void readColumnInfo() throws XDBServerException {
+    private void readColumnInfo(CatalogLoader loader) throws XDBServerException {
         final String method = "readColumnInfo";
         logger.entering(method);
         try {
             // get column information
-            ResultSet aColumnRS;
-            aColumnRS = MetaData.getMetaData().executeQuery(
-                    "SELECT * from xsyscolumns WHERE tableid = " + tableid
-                    + " order by colseq");
+            CatalogRows aColumnRS;
+            if (loader == null) {
+                aColumnRS = CatalogRows.query(
+                        "SELECT * from xsyscolumns WHERE tableid = " + tableid
+                        + " order by colseq");
+            } else {
+                aColumnRS = loader.getColumns(tableid);
+            }
 
             SysColumn aSysColumn;
             while (aColumnRS.next()) {
@@ -373,6 +395,7 @@ public class SysTable {
 
                 addSysColumn(aSysColumn);
             }
+            readColumnStats(loader);
         } catch (SQLException e) {
             throw new XDBServerException(
                     ErrorMessageRepository.METADATA_DB_INFO_READ_ERROR, e,
@@ -382,10 +405,38 @@ public class SysTable {
         }
     }
 
+    /**
+     * Attach statistics collected by ANALYZE to the columns
+     *
+     * @throws SQLException
+     */
+    private void readColumnStats(CatalogLoader loader) throws SQLException {
+        CatalogRows aStatsRS;
+        if (loader == null) {
+            aStatsRS = CatalogRows.query(
+                    "SELECT s.* from xsyscolstats s, xsyscolumns c"
+                    + " WHERE s.colid = c.colid AND c.tableid = " + tableid);
+        } else {
+            aStatsRS = loader.getColumnStats(tableid);
+        }
+        while (aStatsRS.next()) {
+            SysColumn aSysColumn = getSysColumn(aStatsRS.getInt("colid"));
+            if (aSysColumn != null) {
+                aSysColumn.setStats(SysColumnStats.read(aStatsRS,
+                        SysColumnStats.isNumeric(aSysColumn.getColType())));
+            }
+        }
+    }
+
     /**
      * @throws XDBServerException
      */
     void readPermissionsInfo() throws XDBServerException {
+        readPermissionsInfo(null);
+    }
+
+    private void readPermissionsInfo(CatalogLoader loader)
+    throws XDBServerException {
         final String method = "readPermissionsInfo";
         logger.entering(method);
         try {
@@ -393,8 +444,13 @@ public class SysTable {
             if (parentTableID > -1) {
                 return;
             }
-            ResultSet aRS = MetaData.getMetaData().executeQuery(
-                    "SELECT * from xsystabprivs WHERE tableid = " + tableid);
+            CatalogRows aRS;
+            if (loader == null) {
+                aRS = CatalogRows.query(
+                        "SELECT * from xsystabprivs WHERE tableid = " + tableid);
+            } else {
+                aRS = loader.getPrivileges(tableid);
+            }
             sysPermissions.clear();
             while (aRS.next()) {
                 SysUser user = aRS.getString("userid") == null ? null :
@@ -455,11 +511,16 @@ public class SysTable {
     /**
      * read and add indexes defined on this table
      **/
-    private void readIndexInfo() throws Exception {
+    private void readIndexInfo(CatalogLoader loader) throws Exception {
 
-        String sqlquery = "SELECT * FROM xsysindexes " + " WHERE tableid = "
-        + tableid;
-        ResultSet rs = MetaData.getMetaData().executeQuery(sqlquery);
+        CatalogRows rs;
+        if (loader == null) {
+            String sqlquery = "SELECT * FROM xsysindexes " + " WHERE tableid = "
+            + tableid;
+            rs = CatalogRows.query(sqlquery);
+        } else {
+            rs = loader.getIndexes(tableid);
+        }
 
         sysIndexList.clear();
 
@@ -478,12 +539,13 @@ public class SysTable {
                 anIndex.tablespaceID = -1;
             }
             // get the keys info for this index
-            anIndex.readIndexKeysInfo();
+            anIndex.readIndexKeysInfo(loader);
 
             // set if the index is constrained or not.
             // contrained means index is used for either
             // primary or foreign keys.
-            anIndex.is_constrained = isIndexConstrained(anIndex.idxid);
+            anIndex.is_constrained = loader == null ? isIndexConstrained(anIndex.idxid)
+                    : loader.isIndexConstrained(anIndex.idxid);
 
             // add this index to list of indexes
             sysIndexList.add(anIndex);
@@ -533,11 +595,15 @@ public class SysTable {
     /**
      * read and add Constraints defined on this table
      **/
-    private void readConstraintsInfo() throws Exception {
-        String sqlquery = "SELECT * FROM xsysconstraints "
-            + " WHERE tableid = " + tableid;
-
-        ResultSet rs = MetaData.getMetaData().executeQuery(sqlquery);
+    private void readConstraintsInfo(CatalogLoader loader) throws Exception {
+        CatalogRows rs;
+        if (loader == null) {
+            String sqlquery = "SELECT * FROM xsysconstraints "
+                + " WHERE tableid = " + tableid;
+            rs = CatalogRows.query(sqlquery);
+        } else {
+            rs = loader.getConstraints(tableid);
+        }
 
         // empty all constraints (if any)
         sysConstraintsList.clear();
@@ -592,23 +658,31 @@ public class SysTable {
             // This function will fill the sys fk reference list for this table
             // thus giving us information about the tables to which this table
             // refers
-            String sqlReferenceQuery = "SELECT * FROM xsysreferences "
-                + " WHERE constid = " + aConstraint.getConstID();
-            ResultSet rsReferenceList = MetaData.getMetaData().executeQuery(
-                    sqlReferenceQuery);
+            CatalogRows rsReferenceList;
+            if (loader == null) {
+                String sqlReferenceQuery = "SELECT * FROM xsysreferences "
+                    + " WHERE constid = " + aConstraint.getConstID();
+                rsReferenceList = CatalogRows.query(sqlReferenceQuery);
+            } else {
+                rsReferenceList = loader.getReferences(aConstraint.getConstID());
+            }
             while (rsReferenceList.next()) {
                 SysReference aSysReference = new SysReference(aConstraint,
                         rsReferenceList.getInt("refid"), rsReferenceList
                         .getInt("reftableid"), rsReferenceList
                         .getInt("refidxid"));
-                aSysReference.readForeignKeysInfo();
+                aSysReference.readForeignKeysInfo(loader);
                 sysFkReferenceList.add(aSysReference);
             }
-            String sqlChecksQuery = "SELECT * FROM xsyschecks "
-                + " WHERE constid = " + aConstraint.getConstID()
-                + " ORDER BY seqno";
-            ResultSet rsCheckList = MetaData.getMetaData().executeQuery(
-                    sqlChecksQuery);
+            CatalogRows rsCheckList;
+            if (loader == null) {
+                String sqlChecksQuery = "SELECT * FROM xsyschecks "
+                    + " WHERE constid = " + aConstraint.getConstID()
+                    + " ORDER BY seqno";
+                rsCheckList = CatalogRows.query(sqlChecksQuery);
+            } else {
+                rsCheckList = loader.getChecks(aConstraint.getConstID());
+            }
             while (rsCheckList.next()) {
                 SysCheck aSysCheck = new SysCheck(this, rsCheckList
                         .getInt("checkid"), rsCheckList.getInt("constid"),
@@ -622,32 +696,33 @@ public class SysTable {
     /**
      * add foreign keys info in this table - The infromation in this table
      */
-    private void readReferencesInfo() throws XDBServerException {
-        String sqlquery = "SELECT tableid, xsysconstraints.constid "
-            + "FROM xsysconstraints JOIN xsysreferences "
-            + "ON xsysconstraints.constid = xsysreferences.constid "
-            + "WHERE reftableid = " + tableid;
-        ResultSet rs = MetaData.getMetaData().executeQuery(sqlquery);
-
+    private void readReferencesInfo(CatalogLoader loader)
+    throws XDBServerException {
         // empty all old reference data (if any)
         if (sysReferencesList.size() > 0) {
             sysReferencesList.removeAllElements();
         }
         try {
-            try {
-                while (rs.next()) {
-                    int tableid = rs.getInt("tableid");
-                    int constid = rs.getInt("constid");
-                    SysReference aRef = database.getSysTable(tableid)
-                    .getFkSysReference(constid);
-                    // get the reference keys info for this index
-                    aRef.readForeignKeysInfo();
-
-                    // add this index to list of indexes
-                    sysReferencesList.addElement(aRef);
-                }
-            } finally {
-                rs.close();
+            CatalogRows rs;
+            if (loader == null) {
+                String sqlquery = "SELECT tableid, xsysconstraints.constid "
+                    + "FROM xsysconstraints JOIN xsysreferences "
+                    + "ON xsysconstraints.constid = xsysreferences.constid "
+                    + "WHERE reftableid = " + tableid;
+                rs = CatalogRows.query(sqlquery);
+            } else {
+                rs = loader.getReferencesTo(tableid);
+            }
+            while (rs.next()) {
+                int tableid = rs.getInt("tableid");
+                int constid = rs.getInt("constid");
+                SysReference aRef = database.getSysTable(tableid)
+                .getFkSysReference(constid);
+                // get the reference keys info for this index
+                aRef.readForeignKeysInfo(loader);
+
+                // add this index to list of indexes
+                sysReferencesList.addElement(aRef);
             }
         } catch (SQLException se) {
             String errorMessage = ErrorMessageRepository.TABLE_DEF_CORRUPTED
@@ -715,7 +790,11 @@ public class SysTable {
     }
 
     void updateCrossReferences() {
-        readReferencesInfo(); // also reads the foriegn keys info
+        updateCrossReferences(null);
+    }
+
+    void updateCrossReferences(CatalogLoader loader) {
+        readReferencesInfo(loader); // also reads the foriegn keys info
     }
 
     /**
@@ -1506,14 +1585,14 @@ public class SysTable {
 
     void setParentTableID(int parentID) {
         parentTableID = parentID;
-        updateParentTableReference();
+        updateParentTableReference(null);
     }
 
     int getParentTableID() {
         return parentTableID;
     }
 
-    private void updateParentTableReference() {
+    private void updateParentTableReference(CatalogLoader loader) {
         if (parentTable != null) {
             parentTable.removeChildTable(this);
         }
@@ -1522,7 +1601,7 @@ public class SysTable {
         } else {
             parentTable = database.getSysTable(parentTableID);
             parentTable.addChildTable(this);
-            parentTable.readTableInfo(false);
+            parentTable.readTableInfo(false, loader);
         }
     }
 
@@ -23,7 +23,6 @@
 package org.postgresql.stado.metadata;
 
 import java.io.IOException;
-import java.sql.ResultSet;
 import java.util.Iterator;
 import java.util.Vector;
 
@@ -56,21 +55,30 @@ public class SysView {
     // ----------------------------------------------------------------
     public SysView(SysDatabase database, int viewID, String viewName,
             String viewText) {
+        this(database, viewID, viewName, viewText, null);
+    }
+
+    SysView(SysDatabase database, int viewID, String viewName,
+            String viewText, CatalogLoader loader) {
         this.database = database;
         this.viewid = viewID;
         this.viewName = viewName;
         this.viewText = viewText;
         viewColumns = new Vector<SysViewColumns>();
         viewDepends = new Vector<SysColumn>();
-        readViewInfo();
+        readViewInfo(loader);
     }
 
     void readViewInfo() throws XDBServerException {
+        readViewInfo(null);
+    }
+
+    private void readViewInfo(CatalogLoader loader) throws XDBServerException {
         final String method = "readViewInfo";
         logger.entering(method);
         try {
 
-            readViewColumns();
+            readViewColumns(loader);
 
         } catch (Exception se) {
 
@@ -88,12 +96,16 @@ public class SysView {
     /**
      * 
      */
-    private void readViewColumns() throws Exception {
-
-        String sqlquery = "SELECT * FROM xsysviewscolumns "
-                + " WHERE viewid = " + viewid + " ORDER BY viewcolseqno";
-
-        ResultSet rs = MetaData.getMetaData().executeQuery(sqlquery);
+    private void readViewColumns(CatalogLoader loader) throws Exception {
+
+        CatalogRows rs;
+        if (loader == null) {
+            String sqlquery = "SELECT * FROM xsysviewscolumns "
+                    + " WHERE viewid = " + viewid + " ORDER BY viewcolseqno";
+            rs = CatalogRows.query(sqlquery);
+        } else {
+            rs = loader.getViewColumns(viewid);
+        }
 
         viewColumns.clear();
 
@@ -106,10 +118,13 @@ public class SysView {
             viewColumns.add(aViewColumn);
         }
 
-        sqlquery = "SELECT * FROM xsysviewdeps " + " WHERE viewid = " + viewid
-                + " ORDER BY tableid";
-
-        rs = MetaData.getMetaData().executeQuery(sqlquery);
+        if (loader == null) {
+            String sqlquery = "SELECT * FROM xsysviewdeps " + " WHERE viewid = "
+                    + viewid + " ORDER BY tableid";
+            rs = CatalogRows.query(sqlquery);
+        } else {
+            rs = loader.getViewDependencies(viewid);
+        }
 
         viewDepends.clear();
 
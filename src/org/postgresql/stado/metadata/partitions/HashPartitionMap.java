@@ -27,22 +27,41 @@ package org.postgresql.stado.metadata.partitions;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 
+import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.exception.ErrorMessageRepository;
 import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.CatalogLoader;
+import org.postgresql.stado.metadata.CatalogRows;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysTable;
 
 
 /**
- * 
- *
+ * Maps hash value of the partitioning key to a bucket, and bucket to a node.
+ * Supported hashing schemes:
+ * <ul>
+ * <li>SCHEME_LEGACY - 256 buckets, hash over the key's bytes in platform
+ * encoding. Tables created before other schemes were introduced use it.</li>
+ * <li>SCHEME_BUCKET - configurable number of buckets, murmur hash over the
+ * key's characters. Buckets are assigned to nodes round robin, and can be
+ * moved between nodes individually.</li>
+ * <li>SCHEME_JUMP - jump consistent hash, one bucket per node. When a node is
+ * added, only rows which belong to the new node are relocated.</li>
+ * </ul>
+ * Scheme for new maps is defined by xdb.partition.hash.scheme property, number
+ * of buckets by xdb.partition.hash.buckets. Scheme is stored in parthash
+ * column of xsystables, number of buckets is the number of rows in
+ * xsystabparthash.
  */
 public class HashPartitionMap implements PartitionMap {
     /**
@@ -50,14 +69,98 @@ public class HashPartitionMap implements PartitionMap {
      */
     private static final long serialVersionUID = -5952477578322320409L;
 
+    public static final int SCHEME_LEGACY = 0;
+
+    public static final int SCHEME_BUCKET = 1;
+
+    public static final int SCHEME_JUMP = 2;
+
+    /**
+     * Value of xsystables.parthash for SCHEME_LEGACY tables
+     */
+    private static final int LEGACY_PARTHASH = 256;
+
     private static final int HASH_SIZE = 256;
 
+    private static final int DEFAULT_SCHEME = getSchemeByName(Property.get(
+            "xdb.partition.hash.scheme", "legacy"));
+
+    private static final int DEFAULT_BUCKET_COUNT = Property.getInt(
+            "xdb.partition.hash.buckets", 4096);
+
+    /**
+     * Whether platform encoding represents ASCII characters as single bytes
+     * of the same value
+     */
+    private static final boolean ASCII_COMPATIBLE = isAsciiCompatible();
+
     private Integer[] mappingTable;
 
+    /**
+     * Hashing scheme. Zero, SCHEME_LEGACY, if deserialized from old version
+     */
+    private int scheme;
+
     private transient HashSet<Integer> partitions;
 
     /** Parameterless constructor is required for serialization */
     public HashPartitionMap() {
+        this(DEFAULT_SCHEME);
+    }
+
+    /**
+     * @param scheme
+     *                hashing scheme of the map
+     */
+    public HashPartitionMap(int scheme) {
+        this.scheme = scheme;
+    }
+
+    private static int getSchemeByName(String name) {
+        if ("bucket".equalsIgnoreCase(name)) {
+            return SCHEME_BUCKET;
+        } else if ("jump".equalsIgnoreCase(name)) {
+            return SCHEME_JUMP;
+        } else {
+            return SCHEME_LEGACY;
+        }
+    }
+
+    /**
+     * @return the hashing scheme of the map
+     */
+    public int getScheme() {
+        return scheme;
+    }
+
+    /**
+     * @return number of hash buckets
+     */
+    public int getBucketCount() {
+        return mappingTable == null ? 0 : mappingTable.length;
+    }
+
+    /**
+     * @param bucket
+     * @return ID of the node holding the bucket
+     */
+    public Integer getBucketNode(int bucket) {
+        return mappingTable[bucket];
+    }
+
+    /**
+     * @param key
+     * @return the bucket number where the key belongs
+     */
+    public int getBucket(String key) {
+        if (scheme == SCHEME_LEGACY) {
+            return hash(key);
+        }
+        int hash = murmurHash(key);
+        if (scheme == SCHEME_JUMP) {
+            return jumpHash(hash, mappingTable.length);
+        }
+        return (hash & 0x7fffffff) % mappingTable.length;
     }
 
 
@@ -83,9 +186,19 @@ public class HashPartitionMap implements PartitionMap {
     public void generateDistribution(Collection<Integer> partitionIdList) {
         partitions = new HashSet<Integer>(partitionIdList);
         Iterator<Integer> it = partitionIdList.iterator();
-        // create mapping table, for all HASH_SIZE possible values,
+        // create mapping table, for all possible values,
         // assigning a node to each.
-        mappingTable = new Integer[HASH_SIZE];
+        switch (scheme) {
+        case SCHEME_BUCKET:
+            mappingTable = new Integer[Math.max(DEFAULT_BUCKET_COUNT,
+                    partitionIdList.size())];
+            break;
+        case SCHEME_JUMP:
+            mappingTable = new Integer[partitionIdList.size()];
+            break;
+        default:
+            mappingTable = new Integer[HASH_SIZE];
+        }
         for (int i = 0; i < mappingTable.length; i++) {
             if (!it.hasNext()) {
                 it = partitionIdList.iterator();
@@ -94,6 +207,69 @@ public class HashPartitionMap implements PartitionMap {
         }
     }
     
+    /**
+     * Create a map which spreads the buckets evenly over the specified nodes,
+     * moving as few buckets as possible. Buckets are moved only from nodes
+     * holding more than their share to nodes holding less. Jump hash map is
+     * extended with a bucket per new node, so keys are moved only to the new
+     * nodes. Current map is not changed.
+     *
+     * @param nodeIdList
+     *                target nodes, should include all the nodes of current
+     *                map
+     * @return the new map
+     */
+    public HashPartitionMap rebalance(Collection<Integer> nodeIdList) {
+        HashPartitionMap newMap = new HashPartitionMap(scheme);
+        if (scheme == SCHEME_JUMP) {
+            ArrayList<Integer> nodes = new ArrayList<Integer>(Arrays.asList(mappingTable));
+            for (Integer nodeId : nodeIdList) {
+                if (!nodes.contains(nodeId)) {
+                    nodes.add(nodeId);
+                }
+            }
+            newMap.mappingTable = nodes.toArray(new Integer[nodes.size()]);
+            return newMap;
+        }
+        newMap.mappingTable = mappingTable.clone();
+        // Current load of the nodes, most loaded first
+        final HashMap<Integer, Integer> load = new HashMap<Integer, Integer>();
+        for (Integer nodeId : nodeIdList) {
+            load.put(nodeId, 0);
+        }
+        for (Integer nodeId : mappingTable) {
+            load.put(nodeId, load.containsKey(nodeId) ? load.get(nodeId) + 1 : 1);
+        }
+        ArrayList<Integer> nodes = new ArrayList<Integer>(load.keySet());
+        Collections.sort(nodes, new Comparator<Integer>() {
+            public int compare(Integer o1, Integer o2) {
+                return load.get(o2) - load.get(o1);
+            }
+        });
+        // Most loaded nodes keep the remainder, so they give up less
+        HashMap<Integer, Integer> quota = new HashMap<Integer, Integer>();
+        int share = mappingTable.length / nodes.size();
+        int remainder = mappingTable.length % nodes.size();
+        for (int i = 0; i < nodes.size(); i++) {
+            quota.put(nodes.get(i), i < remainder ? share + 1 : share);
+        }
+        int receiver = nodes.size() - 1;
+        for (int i = 0; i < mappingTable.length; i++) {
+            Integer donor = mappingTable[i];
+            if (load.get(donor) <= quota.get(donor)) {
+                continue;
+            }
+            Integer target = nodes.get(receiver);
+            while (load.get(target) >= quota.get(target)) {
+                target = nodes.get(--receiver);
+            }
+            newMap.mappingTable[i] = target;
+            load.put(donor, load.get(donor) - 1);
+            load.put(target, load.get(target) + 1);
+        }
+        return newMap;
+    }
+
     /**
      * 
      * @param key 
@@ -155,7 +331,8 @@ public class HashPartitionMap implements PartitionMap {
     @Override
     public boolean equals(Object other) {
         if (other instanceof HashPartitionMap) {
-            return Arrays.equals(mappingTable,
+            return scheme == ((HashPartitionMap) other).scheme
+                    && Arrays.equals(mappingTable,
                     ((HashPartitionMap) other).mappingTable);
         }
         return false;
@@ -167,7 +344,7 @@ public class HashPartitionMap implements PartitionMap {
      * @return 
      */
     private Integer getNodeId(String sValue) {
-        return getNodeFromHash(hash(sValue));
+        return getNodeFromHash(getBucket(sValue));
     }
 
     /**
@@ -195,8 +372,41 @@ public class HashPartitionMap implements PartitionMap {
      * @return 
      */
     private final static int hash(String str) {
+        if (str == null) {
+            return 0;
+        }
+        if (ASCII_COMPATIBLE) {
+            // Platform encoding does not change ASCII characters, so hash
+            // them directly instead of encoding the string
+            int len = str.length();
+            int value = 0x238F13AF * len;
+            for (int i = 0; i < len; i++) {
+                char ch = str.charAt(i);
+                if (ch > 0x7f) {
+                    return hash(str.getBytes());
+                }
+                value = value + (((byte) ch) << i * 5 % 24) & 0x7fffffff;
+            }
+            return (1103515243 * value + 12345) % 65537 & 0x000000FF;
+        }
+        return hash(str.getBytes());
+    }
 
-        return hash(str == null ? null : str.getBytes());
+    private static boolean isAsciiCompatible() {
+        char[] ascii = new char[0x80];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (char) i;
+        }
+        byte[] bytes = new String(ascii).getBytes();
+        if (bytes.length != ascii.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != i) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -216,6 +426,66 @@ public class HashPartitionMap implements PartitionMap {
         return (1103515243 * value + 12345) % 65537 & 0x000000FF;
     }
 
+    /**
+     * Murmur3 hash of the string characters. Unlike legacy hash it does not
+     * depend on platform encoding and does not allocate memory.
+     *
+     * @param str
+     * @return the hash value
+     */
+    static final int murmurHash(String str) {
+        if (str == null) {
+            return 0;
+        }
+        int len = str.length();
+        int h = 0x9747b28c;
+        int i = 0;
+        for (; i + 1 < len; i += 2) {
+            int k = str.charAt(i) | (str.charAt(i + 1) << 16);
+            k *= 0xcc9e2d51;
+            k = Integer.rotateLeft(k, 15);
+            k *= 0x1b873593;
+            h ^= k;
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xe6546b64;
+        }
+        if (i < len) {
+            int k = str.charAt(i);
+            k *= 0xcc9e2d51;
+            k = Integer.rotateLeft(k, 15);
+            k *= 0x1b873593;
+            h ^= k;
+        }
+        h ^= len * 2;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Jump consistent hash (Lamping, Veach). Maps the hash to one of
+     * bucketCount buckets, so that when bucketCount grows by one only 1/n of
+     * the keys change the bucket.
+     *
+     * @param hash
+     * @param bucketCount
+     * @return the bucket number
+     */
+    static final int jumpHash(int hash, int bucketCount) {
+        long key = hash & 0xffffffffL;
+        long b = -1;
+        long j = 0;
+        while (j < bucketCount) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
     /**
      * 
      * @param metadata 
@@ -224,17 +494,45 @@ public class HashPartitionMap implements PartitionMap {
      */
     public void readMapFromMetadataDB(MetaData metadata, SysTable parent)
             throws SQLException {
-        mappingTable = new Integer[HASH_SIZE];
-        String query = "SELECT hashValue, nodeid FROM xsystabparthash WHERE tableid = "
+        String query = "SELECT h.hashvalue, h.nodeid, t.parthash"
+                + " FROM xsystabparthash h, xsystables t"
+                + " WHERE h.tableid = t.tableid AND h.tableid = "
                 + parent.getTableId();
-        ResultSet rs = metadata.executeQuery(query);
-        try {
-            while (rs.next()) {
-                mappingTable[rs.getInt(1)] = rs.getInt(2);
+        readMap(CatalogRows.query(query));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.metadata.partitions.PartitionMap#readMapFromCatalog(org.postgresql.stado.metadata.CatalogLoader,
+     *      org.postgresql.stado.metadata.SysTable)
+     */
+    public void readMapFromCatalog(CatalogLoader loader, SysTable parent)
+            throws SQLException {
+        readMap(loader.getPartitionHash(parent.getTableId()));
+    }
+
+    private void readMap(CatalogRows rs) throws SQLException {
+        scheme = SCHEME_LEGACY;
+        ArrayList<Integer> nodes = new ArrayList<Integer>(HASH_SIZE);
+        while (rs.next()) {
+            int hashValue = rs.getInt("hashvalue");
+            while (nodes.size() <= hashValue) {
+                nodes.add(null);
+            }
+            nodes.set(hashValue, rs.getInt("nodeid"));
+            int parthash = rs.getInt("parthash");
+            if (!rs.wasNull() && parthash != LEGACY_PARTHASH) {
+                scheme = parthash;
+            }
+        }
+        if (scheme == SCHEME_LEGACY) {
+            while (nodes.size() < HASH_SIZE) {
+                nodes.add(null);
             }
-        } finally {
-            rs.close();
         }
+        mappingTable = nodes.toArray(new Integer[nodes.size()]);
+        partitions = null;
     }
 
     
@@ -265,6 +563,10 @@ public class HashPartitionMap implements PartitionMap {
                     + ")";
             metadata.executeUpdate(insert);
         }
+        String update = "UPDATE xsystables SET parthash = "
+                + (scheme == SCHEME_LEGACY ? LEGACY_PARTHASH : scheme)
+                + " WHERE tableid = " + tableID;
+        metadata.executeUpdate(update);
     }
 
     /**
@@ -29,6 +29,7 @@ import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.Collection;
 
+import org.postgresql.stado.metadata.CatalogLoader;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysTable;
@@ -49,6 +50,16 @@ public interface PartitionMap extends Serializable, Cloneable {
     public void readMapFromMetadataDB(MetaData metadata, SysTable parent)
             throws SQLException;
 
+    /**
+     * Read the map from metadata of the database loaded at once
+     *
+     * @param loader
+     * @param parent
+     * @throws SQLException
+     */
+    public void readMapFromCatalog(CatalogLoader loader, SysTable parent)
+            throws SQLException;
+
     public void storeMapToMetadataDB(MetaData metadata, SysDatabase database,
             int tableID) throws SQLException;
 
@@ -32,6 +32,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.TreeSet;
 
+import org.postgresql.stado.metadata.CatalogLoader;
+import org.postgresql.stado.metadata.CatalogRows;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysDatabase;
@@ -138,16 +140,26 @@ public class ReplicatedPartitionMap implements PartitionMap {
      */
     public void readMapFromMetadataDB(MetaData metadata, SysTable parent)
             throws SQLException {
-        TreeSet<Integer> partSet = new TreeSet<Integer>();
         String query = "SELECT nodeid from xsystabparts WHERE tableid = "
                 + parent.getTableId() + " ORDER BY nodeid";
-        ResultSet rs = metadata.executeQuery(query);
-        try {
-            while (rs.next()) {
-                partSet.add(rs.getInt(1));
-            }
-        } finally {
-            rs.close();
+        readMap(CatalogRows.query(query), parent);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.metadata.partitions.PartitionMap#readMapFromCatalog(org.postgresql.stado.metadata.CatalogLoader,
+     *      org.postgresql.stado.metadata.SysTable)
+     */
+    public void readMapFromCatalog(CatalogLoader loader, SysTable parent)
+            throws SQLException {
+        readMap(loader.getPartitionNodes(parent.getTableId()), parent);
+    }
+
+    private void readMap(CatalogRows rs, SysTable parent) throws SQLException {
+        TreeSet<Integer> partSet = new TreeSet<Integer>();
+        while (rs.next()) {
+            partSet.add(rs.getInt("nodeid"));
         }
         if (partSet.isEmpty()) {
             // Lookup table - on all nodes
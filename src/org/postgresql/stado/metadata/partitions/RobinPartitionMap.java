@@ -33,6 +33,8 @@ import java.util.Collections;
 import java.util.Random;
 import java.util.TreeSet;
 
+import org.postgresql.stado.metadata.CatalogLoader;
+import org.postgresql.stado.metadata.CatalogRows;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysTable;
@@ -142,16 +144,26 @@ public class RobinPartitionMap implements PartitionMap {
      */
     public void readMapFromMetadataDB(MetaData metadata, SysTable parent)
             throws SQLException {
-        TreeSet<Integer> partSet = new TreeSet<Integer>();
         String query = "SELECT nodeid from xsystabparts WHERE tableid = "
                 + parent.getTableId() + " ORDER BY nodeid";
-        ResultSet rs = metadata.executeQuery(query);
-        try {
-            while (rs.next()) {
-                partSet.add(rs.getInt(1));
-            }
-        } finally {
-            rs.close();
+        readMap(CatalogRows.query(query));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.metadata.partitions.PartitionMap#readMapFromCatalog(org.postgresql.stado.metadata.CatalogLoader,
+     *      org.postgresql.stado.metadata.SysTable)
+     */
+    public void readMapFromCatalog(CatalogLoader loader, SysTable parent)
+            throws SQLException {
+        readMap(loader.getPartitionNodes(parent.getTableId()));
+    }
+
+    private void readMap(CatalogRows rs) throws SQLException {
+        TreeSet<Integer> partSet = new TreeSet<Integer>();
+        while (rs.next()) {
+            partSet.add(rs.getInt("nodeid"));
         }
         partitions = partSet.toArray(new Integer[partSet.size()]);
     }
@@ -28,40 +28,136 @@
 
 package org.postgresql.stado.metadata.scheduler;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.SysDatabase;
 
 /**
- * 
- * 
- * 
- * We just use round-robin for now. Now that the rest of the work has been done,
- * we can change it later to least pending requests. Not sure if it makes sense
- * to tie this to the DB. It should probably be system wide, but I wanted to
- * keep it together with the Scheduler, in case it is more tightly integrated.
+ * Chooses the node to read replicated tables from. Choice is made by the
+ * policy configured with xdb.balancer.policy:
+ * <ul>
+ * <li>roundrobin - nodes are used in turn regardless of their load</li>
+ * <li>leastloaded - node with the least load score is used</li>
+ * <li>twochoices - the better of two random nodes is used (default)</li>
+ * </ul>
+ * or name of a class implementing IBalancerPolicy. Load scores are based on
+ * the counters in NodeLoad. Not sure if it makes sense to tie this to the DB.
+ * It should probably be system wide, but I wanted to keep it together with
+ * the Scheduler, in case it is more tightly integrated.
  */
 public class Balancer {
+    private static final XLogger logger = XLogger.getLogger(Balancer.class);
 
-    private int[] nodeIds;
-    private int curr_index;
+    private final NodeLoad[] loads;
+
+    private final IBalancerPolicy policy;
 
     /** Creates a new instance of Balancer */
     public Balancer(SysDatabase sysDatabase) {
         Collection<DBNode> nodeList = sysDatabase.getDBNodeList();
         int i = 0;
-        nodeIds = new int[nodeList.size()];
-        for (DBNode dbNode : nodeList)
-            nodeIds[i++] = dbNode.getNodeId();
-        curr_index = 0;
+        loads = new NodeLoad[nodeList.size()];
+        for (DBNode dbNode : nodeList) {
+            loads[i++] = NodeLoad.getNodeLoad(dbNode.getNodeId());
+        }
+        policy = createPolicy(Props.XDB_BALANCER_POLICY);
+    }
+
+    private static IBalancerPolicy createPolicy(String name) {
+        if ("roundrobin".equalsIgnoreCase(name)) {
+            return new RoundRobin();
+        } else if ("leastloaded".equalsIgnoreCase(name)) {
+            return new LeastLoaded();
+        } else if ("twochoices".equalsIgnoreCase(name)) {
+            return new TwoChoices();
+        }
+        Throwable failure;
+        try {
+            return (IBalancerPolicy) Class.forName(name)
+                    .getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            // Constructor of the policy has thrown
+            failure = e.getCause();
+        } catch (Exception e) {
+            // ClassNotFoundException, NoSuchMethodException,
+            // InstantiationException, IllegalAccessException or
+            // ClassCastException
+            failure = e;
+        }
+        logger.warn("Can not initialize balancer policy " + name
+                + ", using twochoices: " + failure);
+        return new TwoChoices();
     }
 
     /** Get next node id to use */
-    public synchronized int getNextNodeId() {
-        if (++curr_index == nodeIds.length)
-            curr_index = 0;
+    public int getNextNodeId() {
+        if (loads.length == 1) {
+            return loads[0].getNodeId();
+        }
+        return loads[policy.selectNode(loads)].getNodeId();
+    }
+
+    /**
+     * Uses nodes in turn
+     */
+    public static class RoundRobin implements IBalancerPolicy {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        public int selectNode(NodeLoad[] loads) {
+            return (counter.incrementAndGet() & Integer.MAX_VALUE)
+                    % loads.length;
+        }
+    }
+
+    /**
+     * Uses node with the least load score, equally loaded nodes are used in
+     * turn
+     */
+    public static class LeastLoaded implements IBalancerPolicy {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        public int selectNode(NodeLoad[] loads) {
+            int start = (counter.incrementAndGet() & Integer.MAX_VALUE)
+                    % loads.length;
+            int best = start;
+            long bestScore = loads[start].getScore();
+            for (int i = 1; i < loads.length; i++) {
+                int index = (start + i) % loads.length;
+                long score = loads[index].getScore();
+                if (score < bestScore) {
+                    best = index;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Picks two different nodes at random and uses one with less load score.
+     * Unlike LeastLoaded it does not send all the requests to the same node
+     * while counters are not yet updated.
+     */
+    public static class TwoChoices implements IBalancerPolicy {
+        private final Random random = new Random();
 
-        return nodeIds[curr_index];
+        public int selectNode(NodeLoad[] loads) {
+            int first = random.nextInt(loads.length);
+            if (loads.length == 1) {
+                return first;
+            }
+            int second = random.nextInt(loads.length - 1);
+            if (second >= first) {
+                second++;
+            }
+            return loads[second].getScore() < loads[first].getScore() ? second
+                    : first;
+        }
     }
 }
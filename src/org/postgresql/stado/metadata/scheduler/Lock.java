@@ -159,6 +159,19 @@ public class Lock<MO> implements Cloneable {
         return true;
     }
 
+    /**
+     * 
+     * @return true if lock consists of shared read locks only
+     */
+    boolean isSharedRead() {
+        for (LockType lt : lockTable) {
+            if (!lt.isSharedRead()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 
      * @return true if lock allows read from the managed object
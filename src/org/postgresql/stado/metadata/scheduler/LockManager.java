@@ -22,14 +22,23 @@
  ****************************************************************************/
 package org.postgresql.stado.metadata.scheduler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.log4j.Level;
+import org.postgresql.stado.common.util.LatencyHistogram;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.SysTable;
 
@@ -37,30 +46,53 @@ import org.postgresql.stado.metadata.SysTable;
 /**
  * LockManager all the lock acquired in the database. It works on table level
  * but can work on different levels too.
+ * <p>
+ * Lock state of the tables is striped: checks and changes of locks on a table
+ * are done holding the stripe lock the table belongs to, multiple stripes are
+ * always locked in ascending order. Shared read locks on tables nobody holds
+ * other locks on are acquired without locking at all. Transactions waiting
+ * for conflicting locks record which transactions they are waiting for, and
+ * the wait-for graph is checked for cycles when a wait occurs.
  */
 public class LockManager {
     /**
-     * A table of locks held by particular transaction
+     * Number of lock stripes, must be power of two
      */
-    private LockTable<ITransaction, SysTable> transactionLocks = new LockTable<ITransaction, SysTable>();
+    private static final int STRIPE_COUNT = 64;
 
     /**
-     * A table of locks that particular transaction wants to acquire. Some of
-     * this lock can not be acquired at the moment, and transactions in the list
-     * are waiting until other transaction is completed and releases resources
+     * Stripe locks
      */
-    private LockTable<ITransaction, SysTable> lockCandidates = new LockTable<ITransaction, SysTable>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
 
     /**
-     * Needed for Commit Synchronization.
+     * Lock state of every table
      */
-    private HashSet<ITransaction> workingTrans = new HashSet<ITransaction>();
+    private final ConcurrentHashMap<SysTable, TableLocks> tableLocks = new ConcurrentHashMap<SysTable, TableLocks>();
+
+    /**
+     * Lock state of every transaction
+     */
+    private final ConcurrentHashMap<ITransaction, TransactionLocks> transactionLocks = new ConcurrentHashMap<ITransaction, TransactionLocks>();
 
     /**
      * Committing transactions that altered data are stored here while other
      * transactions that can be reading just altered data are working.
      */
-    private HashMap<ITransaction, CommitSynchronizer> committingInserts = new HashMap<ITransaction, CommitSynchronizer>();
+    private final ConcurrentHashMap<ITransaction, CommitSynchronizer> committingInserts = new ConcurrentHashMap<ITransaction, CommitSynchronizer>();
+
+    private final AtomicLong lockRequests = new AtomicLong();
+
+    private final AtomicLong fastLocks = new AtomicLong();
+
+    private final AtomicLong lockConflicts = new AtomicLong();
+
+    private final AtomicLong deadlocks = new AtomicLong();
+
+    /**
+     * Time transactions are waiting for conflicting locks
+     */
+    private final LatencyHistogram lockWaits = new LatencyHistogram();
 
     /**
      * Creates and initializes LockManager
@@ -69,6 +101,9 @@ public class LockManager {
      *            initial list of object to control access to.
      */
     public LockManager() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
     }
 
     /**
@@ -98,12 +133,12 @@ public class LockManager {
     }
 
     /**
-     * Acquire specified locks for specified transaction and update
-     * transactionlocks table accordingly. If other transaction is already held
-     * conflicting lock false is returned and lockCandidates table is updated.
-     * This method may block if trying to acquire read lock on an object that
-     * was recently modified by a transaction that is currently committing. It
-     * is unblocked after commit is completed.
+     * Acquire specified locks for specified transaction. If other transaction
+     * is already held conflicting lock false is returned and the transactions
+     * holding conflicting locks are recorded as the ones the transaction is
+     * waiting for. Returns false as well if trying to acquire read lock on an
+     * object that was recently modified by a transaction that is currently
+     * committing. Lock can be acquired after commit is completed.
      * 
      * @param lockSpecs -
      *            the locks to acquire
@@ -118,45 +153,211 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Transaction %0% is trying to acquire locks %1%", new Object[] {
                         tranContext, lockSpecs });
-        boolean success;
-        synchronized (transactionLocks) {
-            lockCandidates.removeLocks(tranContext);
-            success = transactionLocks.checkLocks(tranContext, lockSpecs
-                    .getCombinedVector());
-            if (success) {
-                for (CommitSynchronizer synchronizer : committingInserts
-                        .values()) {
-                    for (Lock<SysTable> lock : lockSpecs
-                            .getCombinedVector()) {
-                        if (lock.forRead()
-                                && synchronizer.hasTable(lock
-                                        .getManagedObject())) {
-                            return false;
+        lockRequests.incrementAndGet();
+        TransactionLocks tranLocks = getTransactionLocks(tranContext);
+        Collection<Lock<SysTable>> locks = lockSpecs.getCombinedVector();
+        // Committing transactions should wait for us from now on
+        tranLocks.working = true;
+        if (getSharedLocks(tranContext, tranLocks, locks)) {
+            fastLocks.incrementAndGet();
+            lockGranted(tranLocks);
+            return true;
+        }
+
+        Map<ITransaction, Set<SysTable>> blockers = new HashMap<ITransaction, Set<SysTable>>();
+        boolean committing = false;
+        int[] stripeIds = getStripes(locks);
+        lockStripes(stripeIds);
+        try {
+            Set<TableLocks> intents = new HashSet<TableLocks>();
+            for (Lock<SysTable> lock : locks) {
+                SysTable table = lock.getManagedObject();
+                TableLocks locksOnTable = getTableLocks(table);
+                if (lock.forRead()) {
+                    for (CommitSynchronizer synchronizer : locksOnTable.committing) {
+                        if (synchronizer.owner != tranContext) {
+                            committing = true;
+                        }
+                    }
+                }
+                Lock<SysTable> held = locksOnTable.holders.get(tranContext);
+                // Check is we already have that lock
+                if (!lock.stricterThan(held)) {
+                    continue;
+                }
+                // Shared readers check the counter before they are
+                // considered holding a lock, so increment it before
+                // looking at the holders
+                if (!lock.isSharedRead() && (held == null || held.isSharedRead())
+                        && intents.add(locksOnTable)) {
+                    locksOnTable.strong.incrementAndGet();
+                }
+                // Check if other locks are compatible
+                for (Map.Entry<ITransaction, Lock<SysTable>> entry : locksOnTable.holders.entrySet()) {
+                    if (entry.getKey() != tranContext
+                            && !lock.isCompatible(entry.getValue(), tranContext
+                                    .getTransactionIsolation(), entry.getKey()
+                                    .getTransactionIsolation())) {
+                        Set<SysTable> tables = blockers.get(entry.getKey());
+                        if (tables == null) {
+                            tables = new HashSet<SysTable>();
+                            blockers.put(entry.getKey(), tables);
                         }
+                        tables.add(table);
+                    }
+                }
+            }
+            if (blockers.isEmpty() && !committing) {
+                for (Lock<SysTable> lock : locks) {
+                    TableLocks locksOnTable = getTableLocks(lock.getManagedObject());
+                    Lock<SysTable> held = locksOnTable.holders.get(tranContext);
+                    if (held == null) {
+                        tranLocks.tables.add(lock.getManagedObject());
+                        locksOnTable.holders.put(tranContext, lock);
+                    } else {
+                        held.merge(lock);
                     }
                 }
-                workingTrans.add(tranContext);
-                transactionLocks.addLocks(tranContext, lockSpecs
-                        .getCombinedVector());
-            } else {
-                lockCandidates.addLocks(tranContext, lockSpecs
-                        .getCombinedVector());
-                Collection deadlocks = findDeadLocks();
-                if (!deadlocks.isEmpty()) {
-                    // Release locks are held by current transaction ...
-                    notifyTransactionEnd(tranContext);
-                    // ... and interrupt current operation
-                    throw new XDBServerException(
-                            "Can not complete request due to concurrent problem");
-                    // Another way to go is to determine wait of deadlocked
-                    // transaction
-                    // and force rollback one with minimal cost
+                lockGranted(tranLocks);
+                return true;
+            }
+            for (TableLocks locksOnTable : intents) {
+                locksOnTable.strong.decrementAndGet();
+            }
+        } finally {
+            unlockStripes(stripeIds);
+        }
+
+        // Committing transaction may have started waiting for us
+        tranLocks.working = false;
+        for (CommitSynchronizer synchronizer : committingInserts.values()) {
+            synchronizer.release(tranContext);
+        }
+        if (blockers.isEmpty()) {
+            // waiting for commit, not for locks
+            return false;
+        }
+        lockConflicts.incrementAndGet();
+        if (tranLocks.waitStart == 0) {
+            tranLocks.waitStart = System.currentTimeMillis();
+        }
+        tranLocks.waitsFor = blockers;
+        if (isDeadlocked(tranContext)) {
+            deadlocks.incrementAndGet();
+            Lock.CATEGORY_LOCK.log(Level.DEBUG,
+                    "Deadlock detected, transaction %0% is waiting for %1%",
+                    new Object[] { tranContext, blockers.keySet() });
+            // Release locks are held by current transaction ...
+            notifyTransactionEnd(tranContext);
+            // ... and interrupt current operation
+            throw new XDBServerException(
+                    "Can not complete request due to concurrent problem");
+            // Another way to go is to determine wait of deadlocked
+            // transaction
+            // and force rollback one with minimal cost
+        }
+        return false;
+    }
+
+    /**
+     * Try and acquire shared read locks without locking stripes. That is
+     * possible if nobody holds or is acquiring other kind of lock on the
+     * tables. Shared readers first register themselves as holders and then
+     * check the counter of other locks, while others increment the counter
+     * and then look at the holders, so at least one side sees the other.
+     * 
+     * @return true if locks are acquired
+     */
+    private boolean getSharedLocks(ITransaction tranContext,
+            TransactionLocks tranLocks, Collection<Lock<SysTable>> locks) {
+        List<TableLocks> added = null;
+        boolean success = true;
+        for (Lock<SysTable> lock : locks) {
+            if (!lock.isSharedRead()) {
+                success = false;
+                break;
+            }
+            TableLocks locksOnTable = getTableLocks(lock.getManagedObject());
+            Lock<SysTable> held = locksOnTable.holders.get(tranContext);
+            if (held == null) {
+                if (added == null) {
+                    added = new ArrayList<TableLocks>(locks.size());
                 }
+                added.add(locksOnTable);
+                tranLocks.tables.add(lock.getManagedObject());
+                locksOnTable.holders.put(tranContext, lock);
+            } else if (!held.stricterThan(lock)) {
+                success = false;
+                break;
+            }
+            if (locksOnTable.strong.get() > 0) {
+                success = false;
+                break;
+            }
+        }
+        if (!success && added != null) {
+            for (TableLocks locksOnTable : added) {
+                locksOnTable.holders.remove(tranContext);
+                tranLocks.tables.remove(locksOnTable.table);
             }
         }
         return success;
     }
 
+    /**
+     * Check if the transaction is waiting for itself through the wait-for
+     * graph. Edges are checked if the transaction is still holding locks on
+     * the tables the waiter is waiting for.
+     * 
+     * @param tranContext
+     * @return true if there is a deadlock
+     */
+    private boolean isDeadlocked(ITransaction tranContext) {
+        Set<ITransaction> visited = new HashSet<ITransaction>();
+        LinkedList<ITransaction> toVisit = new LinkedList<ITransaction>();
+        toVisit.add(tranContext);
+        while (!toVisit.isEmpty()) {
+            TransactionLocks waiter = transactionLocks.get(toVisit.removeFirst());
+            Map<ITransaction, Set<SysTable>> waitsFor = waiter == null ? null
+                    : waiter.waitsFor;
+            if (waitsFor == null) {
+                continue;
+            }
+            for (Map.Entry<ITransaction, Set<SysTable>> entry : waitsFor.entrySet()) {
+                ITransaction blocker = entry.getKey();
+                if (!isHolding(blocker, entry.getValue())) {
+                    continue;
+                }
+                if (blocker == tranContext) {
+                    return true;
+                }
+                if (visited.add(blocker)) {
+                    toVisit.add(blocker);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isHolding(ITransaction tranContext, Set<SysTable> tables) {
+        for (SysTable table : tables) {
+            TableLocks locksOnTable = tableLocks.get(table);
+            if (locksOnTable != null
+                    && locksOnTable.holders.containsKey(tranContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void lockGranted(TransactionLocks tranLocks) {
+        tranLocks.waitsFor = null;
+        if (tranLocks.waitStart != 0) {
+            lockWaits.add(System.currentTimeMillis() - tranLocks.waitStart);
+            tranLocks.waitStart = 0;
+        }
+    }
+
     /**
      * Notification that transaction is completed request and idle
      * 
@@ -168,21 +369,52 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Releasing locks held by transaction %0%",
                 new Object[] { tranContext });
-        synchronized (transactionLocks) {
-            workingTrans.remove(tranContext);
-            for (CommitSynchronizer synchronizer : committingInserts.values()) {
-                if (synchronizer.hasTransaction(tranContext)) {
-                    Lock.CATEGORY_LOCK.log(Level.DEBUG,
-                            "Count down latch %0% for transaction %1%",
-                            new Object[] { synchronizer, tranContext });
-                    synchronizer.countDown();
-                }
+        TransactionLocks tranLocks = transactionLocks.get(tranContext);
+        if (tranLocks != null) {
+            tranLocks.working = false;
+        }
+        for (CommitSynchronizer synchronizer : committingInserts.values()) {
+            synchronizer.release(tranContext);
+        }
+        if (tranLocks != null && !tranContext.isInTransaction()
+                && !tranContext.isInSubTransaction()) {
+            releaseTables(tranContext, tranLocks);
+        }
+        return true;
+    }
+
+    /**
+     * Remove all locks held by specified transaction
+     */
+    private void releaseTables(ITransaction tranContext,
+            TransactionLocks tranLocks) {
+        for (SysTable table : tranLocks.tables) {
+            tranLocks.tables.remove(table);
+            TableLocks locksOnTable = tableLocks.get(table);
+            if (locksOnTable == null) {
+                continue;
+            }
+            Lock<SysTable> held = locksOnTable.holders.get(tranContext);
+            if (held != null && held.isSharedRead() && !table.isTemporary()) {
+                locksOnTable.holders.remove(tranContext);
+                continue;
             }
-            if (!tranContext.isInTransaction() && !tranContext.isInSubTransaction()) {
-                transactionLocks.removeLocks(tranContext);
+            ReentrantLock stripe = stripes[getStripe(table)];
+            stripe.lock();
+            try {
+                if (locksOnTable.holders.remove(tranContext) != null
+                        && !held.isSharedRead()) {
+                    locksOnTable.strong.decrementAndGet();
+                }
+                // temporary tables are accessed by single session,
+                // forget them when they are released
+                if (table.isTemporary() && locksOnTable.holders.isEmpty()) {
+                    tableLocks.remove(table, locksOnTable);
+                }
+            } finally {
+                stripe.unlock();
             }
         }
-        return true;
     }
 
     /**
@@ -193,7 +425,10 @@ public class LockManager {
      *            the transaction
      */
     public void notifyRefusedRequest(ITransaction tranContext) {
-        lockCandidates.removeLocks(tranContext);
+        TransactionLocks tranLocks = transactionLocks.get(tranContext);
+        if (tranLocks != null) {
+            lockGranted(tranLocks);
+        }
     }
 
     /**
@@ -209,40 +444,62 @@ public class LockManager {
                 "Client wants to commit transaction %0%",
                 new Object[] { tranContext });
         releaseLock(tranContext);
+        TransactionLocks tranLocks = transactionLocks.get(tranContext);
+        if (tranLocks == null) {
+            return;
+        }
+        List<SysTable> written = new ArrayList<SysTable>();
+        for (SysTable table : tranLocks.tables) {
+            TableLocks locksOnTable = tableLocks.get(table);
+            Lock<SysTable> held = locksOnTable == null ? null
+                    : locksOnTable.holders.get(tranContext);
+            if (held != null && held.forWrite()) {
+                written.add(table);
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
         CommitSynchronizer synchronizer = null;
         HashSet<SysTable> tables = new HashSet<SysTable>();
         HashSet<ITransaction> transactions = new HashSet<ITransaction>();
-        synchronized (transactionLocks) {
-            HashMap<SysTable, Lock<SysTable>> locksByMO = transactionLocks
-                    .getLocksByTransaction(tranContext);
-            if (locksByMO == null) {
-                return;
-            }
-            for (Map.Entry<SysTable, Lock<SysTable>> entry : locksByMO
-                    .entrySet()) {
-                if (entry.getValue().forWrite()) {
-                    HashMap<ITransaction, Lock<SysTable>> lockByTran = transactionLocks
-                            .getLocksByManagedObject(entry.getKey());
-                    for (Map.Entry<ITransaction, Lock<SysTable>> entry1 : lockByTran
-                            .entrySet()) {
-                        if (entry1.getKey() != tranContext
-                                && workingTrans.contains(entry1.getKey())
-                                && entry1.getValue().forRead()) {
-                            tables.add(entry.getKey());
-                            transactions.add(entry1.getKey());
-                        }
+        int[] stripeIds = getStripes(written);
+        lockStripes(stripeIds);
+        try {
+            for (SysTable table : written) {
+                for (Map.Entry<ITransaction, Lock<SysTable>> entry : getTableLocks(
+                        table).holders.entrySet()) {
+                    TransactionLocks other = transactionLocks.get(entry.getKey());
+                    if (entry.getKey() != tranContext && other != null
+                            && other.working && entry.getValue().forRead()) {
+                        tables.add(table);
+                        transactions.add(entry.getKey());
                     }
                 }
             }
             if (!transactions.isEmpty()) {
-                synchronizer = new CommitSynchronizer(transactions, tables);
+                synchronizer = new CommitSynchronizer(tranContext,
+                        transactions, tables);
                 Lock.CATEGORY_LOCK.log(Level.DEBUG,
                         "Create latch %0% for transactions %1%",
                         new Object[] { synchronizer, transactions });
                 committingInserts.put(tranContext, synchronizer);
+                for (SysTable table : tables) {
+                    getTableLocks(table).committing.add(synchronizer);
+                }
             }
+        } finally {
+            unlockStripes(stripeIds);
         }
         if (synchronizer != null) {
+            // Transactions may have completed requests before
+            // synchronizer was registered
+            for (ITransaction transaction : transactions) {
+                TransactionLocks other = transactionLocks.get(transaction);
+                if (other == null || !other.working) {
+                    synchronizer.release(transaction);
+                }
+            }
             synchronizer.await();
         }
     }
@@ -258,60 +515,129 @@ public class LockManager {
         Lock.CATEGORY_LOCK.log(Level.DEBUG,
                 "Releasing locks by the end of transaction %0%",
                 new Object[] { tranContext });
-        synchronized (transactionLocks) {
-            committingInserts.remove(tranContext);
-            transactionLocks.removeLocks(tranContext);
-            lockCandidates.removeLocks(tranContext);
-            transactionLocks.notifyAll();
+        CommitSynchronizer synchronizer = committingInserts.remove(tranContext);
+        if (synchronizer != null) {
+            int[] stripeIds = getStripes(synchronizer.tables);
+            lockStripes(stripeIds);
+            try {
+                for (SysTable table : synchronizer.tables) {
+                    getTableLocks(table).committing.remove(synchronizer);
+                }
+            } finally {
+                unlockStripes(stripeIds);
+            }
+        }
+        TransactionLocks tranLocks = transactionLocks.remove(tranContext);
+        if (tranLocks != null) {
+            tranLocks.working = false;
+            lockGranted(tranLocks);
+            releaseTables(tranContext, tranLocks);
+        }
+        for (CommitSynchronizer other : committingInserts.values()) {
+            other.release(tranContext);
+        }
+    }
+
+    private TransactionLocks getTransactionLocks(ITransaction tranContext) {
+        TransactionLocks tranLocks = transactionLocks.get(tranContext);
+        if (tranLocks == null) {
+            tranLocks = new TransactionLocks();
+            TransactionLocks existing = transactionLocks.putIfAbsent(
+                    tranContext, tranLocks);
+            if (existing != null) {
+                tranLocks = existing;
+            }
+        }
+        return tranLocks;
+    }
+
+    private TableLocks getTableLocks(SysTable table) {
+        TableLocks locksOnTable = tableLocks.get(table);
+        if (locksOnTable == null) {
+            locksOnTable = new TableLocks(table);
+            TableLocks existing = tableLocks.putIfAbsent(table, locksOnTable);
+            if (existing != null) {
+                locksOnTable = existing;
+            }
         }
+        return locksOnTable;
+    }
+
+    private int getStripe(SysTable table) {
+        int hash = table.hashCode();
+        hash ^= hash >>> 16;
+        return hash & (STRIPE_COUNT - 1);
     }
 
     /**
-     * Analyze the acquired locks and locks wanted to be acquired and return
-     * collection of deadlocked transactions
-     * 
-     * @return deadlocked transactions
+     * @return ascending numbers of stripes the tables of the locks belong to
      */
-    private Collection<ITransaction> findDeadLocks() {
-        //
-        boolean reduced;
-        LockTable<ITransaction, SysTable> locks;
-        LockTable<ITransaction, SysTable> candidates;
-        // Take a snapshot
-        synchronized (transactionLocks) {
-            synchronized (lockCandidates) {
-                locks = (LockTable<ITransaction, SysTable>) transactionLocks
-                        .clone();
-                candidates = (LockTable<ITransaction, SysTable>) lockCandidates
-                        .clone();
+    private int[] getStripes(Collection<?> objects) {
+        boolean[] used = new boolean[STRIPE_COUNT];
+        int count = 0;
+        for (Object object : objects) {
+            SysTable table = object instanceof Lock ? ((Lock<SysTable>) object)
+                    .getManagedObject() : (SysTable) object;
+            int stripe = getStripe(table);
+            if (!used[stripe]) {
+                used[stripe] = true;
+                count++;
             }
         }
-        do {
-            reduced = false;
-            // First reduction step: remove locks that are held by transactions
-            // that do not want acquire anything
-            for (Iterator<ITransaction> it = locks.getTransactions().iterator(); it
-                    .hasNext();) {
-                ITransaction transaction = it.next();
-                if (candidates.getLocksByTransaction(transaction) == null) {
-                    locks.removeLocks(transaction);
-                    reduced = true;
-                }
+        int[] stripeIds = new int[count];
+        for (int i = 0, pos = 0; i < STRIPE_COUNT; i++) {
+            if (used[i]) {
+                stripeIds[pos++] = i;
             }
-            // Second reduction step: remove candidates that could be satisfied
-            if (reduced) {
-                for (Iterator<ITransaction> it = candidates.getTransactions()
-                        .iterator(); it.hasNext();) {
-                    ITransaction transaction = it.next();
-                    if (locks.checkLocks(transaction, candidates
-                            .getLocksByTransaction(transaction).values())) {
-                        candidates.removeLocks(transaction);
-                        reduced = true;
-                    }
-                }
-            }
-        } while (reduced);
-        return locks.getTransactions();
+        }
+        return stripeIds;
+    }
+
+    private void lockStripes(int[] stripeIds) {
+        for (int stripe : stripeIds) {
+            stripes[stripe].lock();
+        }
+    }
+
+    private void unlockStripes(int[] stripeIds) {
+        for (int i = stripeIds.length - 1; i >= 0; i--) {
+            stripes[stripeIds[i]].unlock();
+        }
+    }
+
+    /**
+     * @return number of lock requests
+     */
+    public long getLockRequests() {
+        return lockRequests.get();
+    }
+
+    /**
+     * @return number of lock requests satisfied without locking
+     */
+    public long getFastLocks() {
+        return fastLocks.get();
+    }
+
+    /**
+     * @return number of lock requests refused because of conflicting locks
+     */
+    public long getLockConflicts() {
+        return lockConflicts.get();
+    }
+
+    /**
+     * @return number of detected deadlocks
+     */
+    public long getDeadlocks() {
+        return deadlocks.get();
+    }
+
+    /**
+     * @return histogram of time transactions were waiting for locks
+     */
+    public LatencyHistogram getLockWaits() {
+        return lockWaits;
     }
 
     /**
@@ -320,10 +646,95 @@ public class LockManager {
      * @return
      */
     public String dumpLockManager() {
-        return "Current locks: " + transactionLocks + "\n"
-                + "Lock candidates: " + lockCandidates + "\n"
+        StringBuilder locks = new StringBuilder();
+        StringBuilder candidates = new StringBuilder();
+        for (Map.Entry<ITransaction, TransactionLocks> entry : transactionLocks.entrySet()) {
+            List<Lock<SysTable>> held = new ArrayList<Lock<SysTable>>();
+            for (SysTable table : entry.getValue().tables) {
+                TableLocks locksOnTable = tableLocks.get(table);
+                Lock<SysTable> lock = locksOnTable == null ? null
+                        : locksOnTable.holders.get(entry.getKey());
+                if (lock != null) {
+                    held.add(lock);
+                }
+            }
+            if (!held.isEmpty()) {
+                locks.append(entry.getKey()).append("=").append(held).append(" ");
+            }
+            Map<ITransaction, Set<SysTable>> waitsFor = entry.getValue().waitsFor;
+            if (waitsFor != null) {
+                candidates.append(entry.getKey()).append("->").append(
+                        waitsFor).append(" ");
+            }
+        }
+        List<ITransaction> busy = new ArrayList<ITransaction>();
+        for (Map.Entry<ITransaction, TransactionLocks> entry : transactionLocks.entrySet()) {
+            if (entry.getValue().working) {
+                busy.add(entry.getKey());
+            }
+        }
+        return "Current locks: " + locks + "\n"
+                + "Lock candidates: " + candidates + "\n"
                 + "Wait for commit: " + committingInserts.keySet() + "\n"
-                + "Busy: " + workingTrans + "\n";
+                + "Busy: " + busy + "\n"
+                + "Requests: " + lockRequests + ", fast: " + fastLocks
+                + ", conflicts: " + lockConflicts + ", deadlocks: "
+                + deadlocks + "\n"
+                + "Lock waits: " + lockWaits + "\n";
+    }
+
+    /**
+     * Locks held on a table
+     */
+    private static class TableLocks {
+        final SysTable table;
+
+        /**
+         * Transactions holding locks on the table
+         */
+        final ConcurrentHashMap<ITransaction, Lock<SysTable>> holders = new ConcurrentHashMap<ITransaction, Lock<SysTable>>();
+
+        /**
+         * Number of transactions holding or acquiring locks other than
+         * shared read
+         */
+        final AtomicInteger strong = new AtomicInteger();
+
+        /**
+         * Transactions committing changes of the table, guarded by the
+         * stripe lock
+         */
+        final List<CommitSynchronizer> committing = new ArrayList<CommitSynchronizer>(1);
+
+        TableLocks(SysTable table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * Locks held and wanted by a transaction
+     */
+    private static class TransactionLocks {
+        /**
+         * Tables the transaction is holding locks on
+         */
+        final Set<SysTable> tables = Collections.newSetFromMap(new ConcurrentHashMap<SysTable, Boolean>());
+
+        /**
+         * If transaction is executing a request
+         */
+        volatile boolean working = false;
+
+        /**
+         * Transactions holding locks the transaction is waiting for, and the
+         * tables. Replaced as a whole.
+         */
+        volatile Map<ITransaction, Set<SysTable>> waitsFor = null;
+
+        /**
+         * When the transaction started to wait for locks
+         */
+        volatile long waitStart = 0;
     }
 
     /**
@@ -331,33 +742,36 @@ public class LockManager {
      * 
      * 
      */
-    private class CommitSynchronizer {
-        CountDownLatch aLatch;
+    private static class CommitSynchronizer {
+        final ITransaction owner;
 
-        HashSet<SysTable> tables;
+        final CountDownLatch aLatch;
 
-        HashSet<ITransaction> transactions;
+        final HashSet<SysTable> tables;
 
-        CommitSynchronizer(HashSet<ITransaction> transactions,
-                HashSet<SysTable> tables) {
+        final HashSet<ITransaction> transactions;
+
+        CommitSynchronizer(ITransaction owner,
+                HashSet<ITransaction> transactions, HashSet<SysTable> tables) {
+            this.owner = owner;
             this.transactions = transactions;
             this.tables = tables;
             aLatch = new CountDownLatch(transactions.size());
         }
 
-        boolean hasTable(SysTable table) {
-            return tables.contains(table);
-        }
-
-        boolean hasTransaction(ITransaction transaction) {
+        /**
+         * Count down the latch if it is waiting for the transaction
+         */
+        synchronized void release(ITransaction transaction) {
             Lock.CATEGORY_LOCK.log(Level.DEBUG,
                     "Check if latch %0% has transaction %1%",
                     new Object[] { this, transaction });
-            return transactions.contains(transaction);
-        }
-
-        void countDown() {
-            aLatch.countDown();
+            if (transactions.remove(transaction)) {
+                Lock.CATEGORY_LOCK.log(Level.DEBUG,
+                        "Count down latch %0% for transaction %1%",
+                        new Object[] { this, transaction });
+                aLatch.countDown();
+            }
         }
 
         void await() {
@@ -367,4 +781,4 @@ public class LockManager {
             }
         }
     }
-}
\ No newline at end of file
+}
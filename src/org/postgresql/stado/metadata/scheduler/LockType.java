@@ -190,6 +190,15 @@ public class LockType {
                 && !(other.lockType == LOCK_SHARE_READ_INT && lockType == LOCK_SHARE_WRITE_INT);
     }
 
+    /**
+     * 
+     * @return true if this LockType is shared read, compatible with other
+     *         shared read locks regardless of isolation level
+     */
+    boolean isSharedRead() {
+        return lockType == LOCK_SHARE_READ_INT;
+    }
+
     /**
      * 
      * @return true if this LockType allows reading
@@ -0,0 +1,185 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.metadata.scheduler;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load counters of a data node, used by Balancer to pick a replica.
+ * <p>
+ * MessageMonitor of MultinodeExecutor counts requests sent to the node and
+ * not yet answered, and measures their latency, which is smoothed with
+ * exponentially weighted moving average. NodeThread counts statements running on the node's
+ * backends; it sees requests of all the sessions if node threads run in
+ * this process. Counters are updated and read without locking.
+ */
+public class NodeLoad {
+    /**
+     * Weight of new latency sample is 1 / 2^EWMA_SHIFT
+     */
+    private static final int EWMA_SHIFT = 3;
+
+    private static final ConcurrentMap<Integer, NodeLoad> nodeLoads = new ConcurrentHashMap<Integer, NodeLoad>();
+
+    private final int nodeId;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    /** Smoothed latency, microseconds */
+    private final AtomicLong latency = new AtomicLong();
+
+    private NodeLoad(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * @param nodeId
+     * @return load counters of the node
+     */
+    public static NodeLoad getNodeLoad(int nodeId) {
+        NodeLoad nodeLoad = nodeLoads.get(nodeId);
+        if (nodeLoad == null) {
+            nodeLoad = new NodeLoad(nodeId);
+            NodeLoad existing = nodeLoads.putIfAbsent(nodeId, nodeLoad);
+            if (existing != null) {
+                nodeLoad = existing;
+            }
+        }
+        return nodeLoad;
+    }
+
+    /**
+     * Account requests sent to the nodes
+     *
+     * @param nodeIds
+     * @return time the requests were sent, to pass to
+     *         {@link #requestDone(long)}
+     */
+    public static long requestsSent(Collection<Integer> nodeIds) {
+        for (Integer nodeId : nodeIds) {
+            getNodeLoad(nodeId).outstanding.incrementAndGet();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Account requests which are not going to be answered, like when they
+     * are aborted
+     *
+     * @param nodeIds
+     */
+    public static void requestsCancelled(Collection<Integer> nodeIds) {
+        for (Integer nodeId : nodeIds) {
+            getNodeLoad(nodeId).outstanding.decrementAndGet();
+        }
+    }
+
+    /**
+     * Account request answered by the node
+     *
+     * @param sentTime
+     *            value returned by {@link #requestsSent(Collection)}
+     */
+    public void requestDone(long sentTime) {
+        outstanding.decrementAndGet();
+        addLatency((System.nanoTime() - sentTime) / 1000);
+    }
+
+    private void addLatency(long micros) {
+        while (true) {
+            long current = latency.get();
+            long updated = current == 0 ? micros : current
+                    + ((micros - current) >> EWMA_SHIFT);
+            if (latency.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Account statement started on the node's backend
+     */
+    public void executionStarted() {
+        running.incrementAndGet();
+    }
+
+    /**
+     * Account statement finished on the node's backend
+     */
+    public void executionDone() {
+        running.decrementAndGet();
+    }
+
+    /**
+     * @return the node ID
+     */
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return number of requests sent to the node and not answered yet
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * @return number of statements running on the node's backends
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return smoothed request latency in microseconds, 0 if unknown
+     */
+    public long getLatency() {
+        return latency.get();
+    }
+
+    /**
+     * Requests in progress as seen by the coordinator and by the node may be
+     * the same requests, so the larger number is taken. Score is the
+     * expected time to serve a new request.
+     *
+     * @return load score, the less the better
+     */
+    public long getScore() {
+        int pending = Math.max(outstanding.get(), running.get());
+        return (pending + 1) * (latency.get() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "Node " + nodeId + ": outstanding " + outstanding.get()
+                + ", running " + running.get() + ", latency "
+                + latency.get() + " us";
+    }
+}
@@ -22,11 +22,16 @@
  ****************************************************************************/
 package org.postgresql.stado.metadata.scheduler;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.postgresql.stado.common.util.LatencyHistogram;
 import org.postgresql.stado.common.util.Property;
+import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.XDBSessionContext;
 
 
@@ -51,7 +56,8 @@ import org.postgresql.stado.engine.XDBSessionContext;
  * is committed or rolled back. 6. XDBSessionContext is cleaned and become ready
  * for next request. If there is one in the queue it is scheduled.
  */
-public class Scheduler implements Runnable {
+public class Scheduler {
+    private static final XLogger logger = XLogger.getLogger(Scheduler.class);
 
     private static final int QUERY_LIMIT = Property.getInt(
             "xdb.jdbc.pool.query.count", Property.getInt(
@@ -60,91 +66,354 @@ public class Scheduler implements Runnable {
     private static final int LARGE_QUERY_LIMIT = Property.getInt(
             "xdb.jdbc.pool.largequery.count", 2);
 
-    private final TreeMap<RequestCost, XDBSessionContext> serviceQueue = new TreeMap<RequestCost, XDBSessionContext>();
+    /**
+     * After that time (ms) waiting large request goes before short ones
+     */
+    private static final long AGING_THRESHOLD = Property.getLong(
+            "xdb.scheduler.aging", 5000);
 
-    private final AtomicInteger queryCount;
+    /**
+     * Max time (ms) request is held after lock conflict if no other
+     * request completes
+     */
+    private static final long LOCK_RETRY_TIMEOUT = Property.getLong(
+            "xdb.scheduler.lockretry", 1000);
 
-    private final AtomicInteger largeQueryCount;
+    /**
+     * Max time (ms) request is waiting for admission, then it is admitted
+     * regardless of the limits, like it used to be after lock retry timeout.
+     * 0 - wait as long as needed.
+     */
+    private static final long MAX_WAIT = Property.getLong(
+            "xdb.scheduler.maxwait", LOCK_RETRY_TIMEOUT);
+
+    private static final int LANE_SHORT = 0;
+
+    private static final int LANE_LARGE = 1;
+
+    private static final int STATE_WAITING = 0;
+
+    private static final int STATE_RUNNING = 1;
+
+    private static final int STATE_HELD = 2;
+
+    /**
+     * Request registered with Scheduler
+     */
+    private class Ticket implements Comparable<Ticket> {
+        private final RequestCost cost;
+
+        private final XDBSessionContext client;
+
+        private final int lane;
+
+        private final Condition admitted = lock.newCondition();
+
+        private int state = STATE_WAITING;
+
+        /**
+         * When the request has been put to the lane first time, ms. Held
+         * requests keep it, so they do not lose their age.
+         */
+        private long enqueueTime;
+
+        /**
+         * When the request has been put to the lane last time, ms
+         */
+        private long waitStartTime;
+
+        private Ticket(RequestCost cost, XDBSessionContext client) {
+            this.cost = cost;
+            this.client = client;
+            lane = cost.isLarge() ? LANE_LARGE : LANE_SHORT;
+        }
+
+        public int compareTo(Ticket other) {
+            return cost.compareTo(other.cost);
+        }
+    }
+
+    private final int queryLimit;
+
+    private final int largeQueryLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signaled when a request completes, to wake up held requests
+     */
+    private final Condition completed = lock.newCondition();
+
+    private final Map<RequestCost, Ticket> tickets = new HashMap<RequestCost, Ticket>();
+
+    private final PriorityQueue<Ticket> shortQueue = new PriorityQueue<Ticket>();
+
+    private final PriorityQueue<Ticket> largeQueue = new PriorityQueue<Ticket>();
+
+    private int queryCount = 0;
+
+    private int largeQueryCount = 0;
+
+    private long completedCount = 0;
+
+    /* Statistics */
+    private final LatencyHistogram[] waitHistogram = new LatencyHistogram[] {
+            new LatencyHistogram(), new LatencyHistogram() };
+
+    private long forcedCount = 0;
 
     public Scheduler() {
-        queryCount = new AtomicInteger(0);
-        largeQueryCount = new AtomicInteger(0);
+        this(QUERY_LIMIT, LARGE_QUERY_LIMIT);
+    }
+
+    /**
+     * Create scheduler for the database. Default limits may be overridden
+     * per database with xdb.scheduler.&lt;dbname&gt;.query.count and
+     * xdb.scheduler.&lt;dbname&gt;.largequery.count
+     * 
+     * @param dbName
+     */
+    public Scheduler(String dbName) {
+        this(Property.getInt("xdb.scheduler." + dbName + ".query.count",
+                QUERY_LIMIT), Property.getInt("xdb.scheduler." + dbName
+                + ".largequery.count", LARGE_QUERY_LIMIT));
+    }
+
+    /**
+     * @param queryLimit
+     *            max number of concurrently executed requests
+     * @param largeQueryLimit
+     *            max number of concurrently executed large requests
+     */
+    public Scheduler(int queryLimit, int largeQueryLimit) {
+        this.queryLimit = Math.max(queryLimit, 1);
+        this.largeQueryLimit = Math.max(largeQueryLimit, 1);
     }
 
+    /**
+     * Register the request and block until it is admitted
+     * 
+     * @param cost
+     * @param client
+     */
     public void addRequest(RequestCost cost, XDBSessionContext client) {
-        boolean fallThru;
-        synchronized (this) {
-            fallThru = serviceQueue.isEmpty();
-            serviceQueue.put(cost, client);
-            notifyAll();
-        }
-        if (!fallThru) {
-            synchronized (client) {
-                try {
-                    client.wait(1000);
-                } catch (InterruptedException ie) {
-                    // ignore
-                }
-            }
-        }
-        queryCount.incrementAndGet();
-        if (cost.isLarge()) {
-            largeQueryCount.incrementAndGet();
+        lock.lock();
+        try {
+            Ticket ticket = new Ticket(cost, client);
+            tickets.put(cost, ticket);
+            enqueue(ticket);
+            waitForAdmission(ticket);
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * Unregister the request and let waiting requests run
+     * 
+     * @param cost
+     * @return the session of the request
+     */
     public XDBSessionContext removeRequest(RequestCost cost) {
-        queryCount.decrementAndGet();
-        if (cost.isLarge()) {
-            largeQueryCount.decrementAndGet();
-        }
-        XDBSessionContext client;
-        synchronized (this) {
-            client = serviceQueue.remove(cost);
-            notifyAll();
-        }
-        if (client != null) {
-            synchronized (client) {
-                client.notifyAll();
+        lock.lock();
+        try {
+            Ticket ticket = tickets.remove(cost);
+            if (ticket == null) {
+                return null;
+            }
+            if (ticket.state == STATE_RUNNING) {
+                release(ticket);
+            } else if (ticket.state == STATE_WAITING) {
+                getQueue(ticket.lane).remove(ticket);
             }
+            completedCount++;
+            completed.signalAll();
+            dispatch();
+            return ticket.client;
+        } finally {
+            lock.unlock();
         }
-        return client;
     }
 
+    /**
+     * Request has failed to acquire locks. Give its slot to other requests,
+     * wait until some request completes and block until the request is
+     * admitted again.
+     * 
+     * @param cost
+     */
     public void holdRequest(RequestCost cost) {
-        XDBSessionContext client = removeRequest(cost);
-        if (client != null) {
-            synchronized (this) {
+        lock.lock();
+        try {
+            Ticket ticket = tickets.get(cost);
+            if (ticket == null || ticket.state != STATE_RUNNING) {
+                return;
+            }
+            release(ticket);
+            ticket.state = STATE_HELD;
+            dispatch();
+            long seen = completedCount;
+            long nanos = TimeUnit.MILLISECONDS.toNanos(LOCK_RETRY_TIMEOUT);
+            while (completedCount == seen && nanos > 0) {
                 try {
-                    wait(1000);
+                    nanos = completed.awaitNanos(nanos);
                 } catch (InterruptedException ie) {
                     // ignore
                 }
             }
-            addRequest(cost, client);
+            if (tickets.get(cost) == ticket) {
+                enqueue(ticket);
+                waitForAdmission(ticket);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    public synchronized void run() {
-        while (true) {
-            for (Map.Entry<RequestCost, XDBSessionContext> entry : serviceQueue
-                    .entrySet()) {
-                if (QUERY_LIMIT <= queryCount.get()) {
-                    break;
-                }
-                if (entry.getKey().isLarge()
-                        && LARGE_QUERY_LIMIT <= largeQueryCount.get()) {
-                    continue;
-                }
-                synchronized (entry.getValue()) {
-                    entry.getValue().notifyAll();
-                }
-            }
+    private PriorityQueue<Ticket> getQueue(int lane) {
+        return lane == LANE_LARGE ? largeQueue : shortQueue;
+    }
+
+    /**
+     * Put the ticket to its lane and admit requests if possible. Must be
+     * called under the lock.
+     */
+    private void enqueue(Ticket ticket) {
+        ticket.state = STATE_WAITING;
+        ticket.waitStartTime = System.currentTimeMillis();
+        if (ticket.enqueueTime == 0) {
+            ticket.enqueueTime = ticket.waitStartTime;
+        }
+        getQueue(ticket.lane).add(ticket);
+        dispatch();
+    }
+
+    /**
+     * Wait until ticket is admitted. Must be called under the lock.
+     */
+    private void waitForAdmission(Ticket ticket) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(MAX_WAIT);
+        while (ticket.state == STATE_WAITING) {
             try {
-                wait(1000);
+                if (MAX_WAIT <= 0) {
+                    ticket.admitted.await();
+                } else if (nanos > 0) {
+                    nanos = ticket.admitted.awaitNanos(nanos);
+                } else {
+                    logger.warn("Request has been waiting for admission longer than "
+                            + MAX_WAIT + " ms, executing it over the limit");
+                    getQueue(ticket.lane).remove(ticket);
+                    forcedCount++;
+                    admit(ticket);
+                }
             } catch (InterruptedException ie) {
                 // ignore
             }
         }
     }
+
+    /**
+     * Admit waiting requests while there are free slots. Must be called
+     * under the lock.
+     */
+    private void dispatch() {
+        while (queryCount < queryLimit) {
+            Ticket next = shortQueue.peek();
+            Ticket large = largeQueue.peek();
+            if (large != null && largeQueryCount < largeQueryLimit) {
+                if (next == null
+                        || System.currentTimeMillis() - large.enqueueTime >= AGING_THRESHOLD
+                        || large.compareTo(next) < 0) {
+                    next = large;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            getQueue(next.lane).poll();
+            admit(next);
+        }
+    }
+
+    private void admit(Ticket ticket) {
+        ticket.state = STATE_RUNNING;
+        queryCount++;
+        if (ticket.lane == LANE_LARGE) {
+            largeQueryCount++;
+        }
+        waitHistogram[ticket.lane].add(System.currentTimeMillis()
+                - ticket.waitStartTime);
+        ticket.admitted.signal();
+    }
+
+    private void release(Ticket ticket) {
+        queryCount--;
+        if (ticket.lane == LANE_LARGE) {
+            largeQueryCount--;
+        }
+    }
+
+    /**
+     * @return number of requests being executed
+     */
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return queryCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param large
+     * @return number of requests waiting in the lane
+     */
+    public int getQueueLength(boolean large) {
+        lock.lock();
+        try {
+            return getQueue(large ? LANE_LARGE : LANE_SHORT).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Histogram of time requests have been waiting for admission. Element i
+     * is number of requests that waited less than 2^i ms, the last element
+     * counts longer waits.
+     * 
+     * @param large
+     * @return copy of the histogram for the lane
+     */
+    public long[] getQueueWaitHistogram(boolean large) {
+        lock.lock();
+        try {
+            return waitHistogram[large ? LANE_LARGE : LANE_SHORT].getCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return human readable scheduler statistics
+     */
+    public String getStatistics() {
+        lock.lock();
+        try {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Running: ").append(queryCount).append(" of ").append(
+                    queryLimit).append(", large: ").append(largeQueryCount)
+                    .append(" of ").append(largeQueryLimit);
+            sb.append("\nForced admissions: ").append(forcedCount);
+            for (int lane = LANE_SHORT; lane <= LANE_LARGE; lane++) {
+                sb.append(lane == LANE_LARGE ? "\nLarge" : "\nShort");
+                sb.append(" lane: waiting ").append(getQueue(lane).size());
+                sb.append(", wait ").append(waitHistogram[lane]);
+            }
+            return sb.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
 }
@@ -22,15 +22,12 @@
  ****************************************************************************/
 package org.postgresql.stado.misc.combinedresultset;
 
-import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.log4j.Level;
 import org.postgresql.stado.common.util.Props;
@@ -38,17 +35,15 @@ import org.postgresql.stado.common.util.XLogger;
 
 
 /**
- * 
+ * Fetches rows from underlying ResultSet in background and lets the
+ * ServerResultSetImpl to consume them one by one. Fetched rows are kept in
+ * a ring of reusable row slots, so no objects are created per row except
+ * the values themselves. There is only one consumer and one producer.
  */
-public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosManager> {
+public class ResultSetPosManager implements Runnable {
     private static final XLogger logger = XLogger
             .getLogger(ResultSetPosManager.class);
 
-    /**
-     * This value is put into buffer when fetching is finished
-     */
-    private static final List<Object> END_MARK = new ArrayList<Object>();
-
     /**
      * Underlying result set
      */
@@ -60,44 +55,53 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
     private int colCount;
 
     /**
-     * We are sort data using TreeSet It does not allow equal entries, so rows
-     * that equal to some other row will be skipped. That is what we want if we
-     * are producing distinct ResultSet. But if we want to keep duplicates, we
-     * should answer that records are differs, even they are equal by specified
-     * criteria. To fulfill this requirement ServerResultSet should assign
-     * different distinctModifiers to its PosManagers
+     * If the ServerResultSet is not distinct equal rows from different
+     * managers are ordered by distinctModifier, so output is deterministic.
+     * If it is distinct all managers have the same distinctModifier.
      */
     private int distinctModifier;
 
-    private List<SortCriteria> sortCriteriaList;
-
     /**
      * Last value returned by #getObject() Used by #lastValueWasNull()
      */
     private Object lastValue;
 
     /**
-     * Current "ordering" value, matching to sortCriteriaList Updated if the
-     * "ResultSet" advanced to next record.
+     * Current record of this "ResultSet". It is the slot of the ring at the
+     * head position, it is not overwritten until next() is called.
+     */
+    private Object[] currentRecord = null;
+
+    /**
+     * Ring of row slots. Slots are allocated on first use and then reused.
+     */
+    private final Object[][] slots;
+
+    /**
+     * Position of current record (consumer)
      */
-    private Object[] currentValue = null;
+    private int head = 0;
 
     /**
-     * Current record of this "ResultSet" It is taken from the buffer when
-     * next() is called.
+     * Position to put next fetched row to (producer)
      */
-    private List<Object> currentRecord = null;
+    private int tail = 0;
 
-    // this may be used a lot, so use array for faster access
-    int sortColPosition[];
+    /**
+     * Number of filled slots, including current record
+     */
+    private int filled = 0;
 
     /**
-     * Current row is taken from beginning, new lines are added to the end.
-     * Linked list is the best storage. Another approach could be cyclic buffer
-     * over array
+     * Fetching is finished, no more rows will be added
      */
-    private LinkedBlockingQueue<List<Object>> rowBuffer = new LinkedBlockingQueue<List<Object>>(
-            Props.XDB_COMBINED_RESULTSET_BUFFER);
+    private boolean finished = false;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
 
     /**
      * Are the manager and underlying ResultSet closed
@@ -118,56 +122,62 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
 
     private long waitForClient = 0;
 
-    public ResultSetPosManager(ResultSet rs, List<SortCriteria> sortedOrderList,
-            int distinctModifier) {
+    public ResultSetPosManager(ResultSet rs, int distinctModifier) {
         this.rs = rs;
         try {
             colCount = rs.getMetaData().getColumnCount();
         } catch (SQLException ignore) {
         }
-
-        sortCriteriaList = sortedOrderList;
         this.distinctModifier = distinctModifier;
+        // One extra slot is held by the consumer as current record
+        slots = new Object[Math.max(Props.XDB_COMBINED_RESULTSET_BUFFER, 1) + 1][];
+        fetchPool.execute(this);
+    }
 
-        sortColPosition = new int[sortedOrderList.size()];
-        int i = 0;
+    /**
+     * @return the distinct modifier of this manager
+     */
+    int getDistinctModifier() {
+        return distinctModifier;
+    }
 
-        for (SortCriteria aSortCriteria : sortCriteriaList) {
-            int colpos = aSortCriteria.getColumnPosition();
-            // TODO compare to colCount
-            // Convert column number to list index
-            sortColPosition[i++] = colpos - 1;
-        }
-        fetchPool.execute(this);
+    /**
+     * @return the current record, valid until next() is called. Must not be
+     *         modified.
+     */
+    Object[] getCurrentRecord() {
+        return currentRecord;
     }
 
     /**
-     * Remove first record from buffer and make it "current"
+     * Release current record and make the next fetched one "current"
      * 
      * @return true if there is current record, false otherwise (end of the
      *         result set)
      */
     public boolean next() {
         long startWait = System.currentTimeMillis();
+        lock.lock();
         try {
-            currentRecord = null;
-            while (currentRecord == null) {
-                currentRecord = rowBuffer.poll(5,
-                        java.util.concurrent.TimeUnit.SECONDS);
+            if (currentRecord != null) {
+                currentRecord = null;
+                head = (head + 1) % slots.length;
+                filled--;
+                notFull.signal();
+            }
+            while (filled == 0 && !finished) {
+                notEmpty.await();
             }
+            if (filled == 0) {
+                return false;
+            }
+            currentRecord = slots[head];
         } catch (InterruptedException ie) {
             currentRecord = null;
             return false;
-        }
-        waitForNextRow += (System.currentTimeMillis() - startWait);
-        if (currentRecord == END_MARK) {
-            currentRecord = null;
-            return false;
-        }
-        // Update sort value
-        currentValue = new Object[sortColPosition.length];
-        for (int i = 0; i < sortColPosition.length; i++) {
-            currentValue[i] = currentRecord.get(sortColPosition[i]);
+        } finally {
+            lock.unlock();
+            waitForNextRow += (System.currentTimeMillis() - startWait);
         }
         return true;
     }
@@ -190,7 +200,7 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
         if (currentRecord == null) {
             throw new SQLException("No current record");
         }
-        lastValue = currentRecord.get(index - 1);
+        lastValue = currentRecord[index - 1];
         return lastValue;
     }
 
@@ -209,12 +219,16 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
      */
     public void close() {
         closed = true;
-        rowBuffer.clear();
         // Thread safety note: This class should not be used by multiple
         // threads.
-        // If fetching is finished and one thread is in next() it may encounter
-        // empty buffer and freeze forever waiting for END_MARK, that has been
-        // removed by rowBuffer.clear();
+        lock.lock();
+        try {
+            currentRecord = null;
+            filled = 0;
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
 
         // Ensure fetching is stopped before closing result set
         while (fetchTime < 0) {
@@ -243,6 +257,48 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
                                 new Long(waitForClient) });
     }
 
+    /**
+     * Wait for free slot
+     * 
+     * @return the slot to fill, or null if manager is closed
+     */
+    private Object[] getFreeSlot() throws InterruptedException {
+        long startWait = System.currentTimeMillis();
+        lock.lock();
+        try {
+            while (filled == slots.length && !closed) {
+                notFull.await();
+            }
+            if (closed) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
+            waitForClient += (System.currentTimeMillis() - startWait);
+        }
+        // Producer is the only one who touches the tail slot
+        if (slots[tail] == null) {
+            slots[tail] = new Object[colCount];
+        }
+        return slots[tail];
+    }
+
+    /**
+     * Make the slot filled by producer available to consumer
+     */
+    private void putSlot() {
+        lock.lock();
+        try {
+            if (!closed) {
+                tail = (tail + 1) % slots.length;
+                filled++;
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Fetch data from underlying ResultSet into buffer
      * 
@@ -256,16 +312,19 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
                     if (closed) {
                         return;
                     }
-                    List<Object> row = new ArrayList<Object>(colCount);
-                    for (int i = 1; i <= colCount; i++) {
-                        row.add(rs.getObject(i));
-                    }
-                    long startWait = System.currentTimeMillis();
+                    Object[] row;
                     try {
-                        rowBuffer.put(row);
-                    } catch (InterruptedException ignore) {
+                        row = getFreeSlot();
+                    } catch (InterruptedException ie) {
+                        return;
                     }
-                    waitForClient += (System.currentTimeMillis() - startWait);
+                    if (row == null) {
+                        return;
+                    }
+                    for (int i = 0; i < colCount; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    putSlot();
                     rowCount++;
                 }
             } finally {
@@ -279,153 +338,20 @@ public class ResultSetPosManager implements Runnable, Comparable<ResultSetPosMan
         } catch (SQLException se) {
             logger.catching(se);
         } finally {
-            while (!rowBuffer.offer(END_MARK)) {
-                ;
-            }
-        }
-    }
-
-    /**
-     * Compare current record of this ResultSetPosManager to current record of
-     * another ResultSetPosManager according to sort criteria.
-     * 
-     * @param obj2
-     * @return
-     */
-    public int compareTo(ResultSetPosManager obj2) {
-        ResultSetPosManager aResultSetPosManager1 = this;
-        ResultSetPosManager aResultSetPosManager2 = obj2;
-
-        // TODO do not scroll
-        Object[] value1 = aResultSetPosManager1.currentValue;
-        Object[] value2 = aResultSetPosManager2.currentValue;
-
-        int count = 0;
-
-        for (SortCriteria criteria : sortCriteriaList) {
-            // Check is there nulls:
-            if (value1[count] == null && value2[count] == null) {
-                count++;
-                continue;
-            }
-            if (value1[count] == null) {
-                switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
-                case Props.SORT_NULLS_AT_END:
-                    return -1;
-                case Props.SORT_NULLS_AT_START:
-                    return 1;
-                case Props.SORT_NULLS_LOW:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? -1
-                            : 1;
-                case Props.SORT_NULLS_HIGH:
-                default:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? 1
-                            : -1;
-                }
-            }
-            if (value2[count] == null) {
-                switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
-                case Props.SORT_NULLS_AT_END:
-                    return 1;
-                case Props.SORT_NULLS_AT_START:
-                    return -1;
-                case Props.SORT_NULLS_LOW:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? 1
-                            : -1;
-                case Props.SORT_NULLS_HIGH:
-                default:
-                    return criteria.getDirection() == SortCriteria.DESCENDING ? -1
-                            : 1;
-                }
-            }
-            int k = compare(value1[count], value2[count]);
-            if (k == 0) {
-                count++;
-                continue;
-            } else {
-                return criteria.getDirection() == SortCriteria.DESCENDING ? k
-                        : -k;
-            }
-        }
-        // If rows are equal one record will be thrown away, unless RS is
-        // distinct
-        return aResultSetPosManager1.distinctModifier == aResultSetPosManager2.distinctModifier ? 0
-                : (aResultSetPosManager1.distinctModifier > aResultSetPosManager2.distinctModifier ? 1
-                        : -1);
-    }
-
-    private int compare(Object obj1, Object obj2) {
-        if (obj1 instanceof Number && obj2 instanceof Number) {
-            boolean compareAsDouble = obj1 instanceof Float
-                    || obj1 instanceof Double || obj1 instanceof BigDecimal
-                    || obj2 instanceof Float || obj2 instanceof Double
-                    || obj2 instanceof BigDecimal;
-            if (compareAsDouble) {
-                double val1 = ((Number) obj1).doubleValue();
-                double val2 = ((Number) obj2).doubleValue();
-                if (val1 == val2) {
-                    return 0;
-                } else {
-                    return val1 > val2 ? 1 : -1;
-                }
-            } else // whole numbers, compare as long
-            {
-                long val1 = ((Number) obj1).longValue();
-                long val2 = ((Number) obj2).longValue();
-                if (val1 == val2) {
-                    return 0;
-                } else {
-                    return val1 > val2 ? 1 : -1;
-                }
-            }
-        } else if (obj1 instanceof Date && obj2 instanceof Date) {
-            return ((Date) obj1).compareTo((Date) obj2);
-        } else if (obj1 instanceof Boolean && obj2 instanceof Boolean) {
-            // JDK 1.5 feature
-            // return ((Boolean) obj1).compareTo((Boolean) obj2);
-            return (obj1.equals(obj2)) ? 0
-                    : (((Boolean) obj1).booleanValue() ? 1 : -1);
-        } else {
-            // Compare string representations
-            String str1 = obj1.toString();
-            String str2 = obj2.toString();
-            if (Props.XDB_COMBINED_RESULTSET_SORT_TRIM) {
-                str1 = str1.trim();
-                str2 = str2.trim();
-            }
-            int count = Math.min(str1.length(), str2.length());
-            for (int i = 0; i < count; i++) {
-                char chr1 = str1.charAt(i);
-                char chr2 = str2.charAt(i);
-                if (!Props.XDB_COMBINED_RESULTSET_SORT_CASE_SENSITIVE) {
-                    chr1 = Character.toLowerCase(chr1);
-                    chr2 = Character.toLowerCase(chr2);
-                }
-                if (chr1 == chr2) {
-                    continue;
-                } else {
-                    return chr1 > chr2 ? 1 : -1;
-                }
+            lock.lock();
+            try {
+                finished = true;
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
             }
-            return str1.length() > count ? 1 : (str2.length() > count ? -1 : 0);
         }
     }
 
-    @Override
-    public boolean equals(Object tocheck) {
-        return this == tocheck 
-                || tocheck instanceof ResultSetPosManager && compareTo((ResultSetPosManager)tocheck) == 0;
-    }
-
     @Override
     public String toString() {
-        String str = "";
-        int count = 0;
-        for (SortCriteria aSortCriteria : sortCriteriaList) {
-            str += ("Column Postion  : " + aSortCriteria.getColumnPosition()
-                    + "        Value : " + currentValue[count]);
-            count++;
-        }
-        return str;
+        return "ResultSetPosManager: " + distinctModifier + " current record: "
+                + (currentRecord == null ? "none" : java.util.Arrays
+                        .asList(currentRecord));
     }
 }
@@ -0,0 +1,267 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.misc.combinedresultset;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+import org.postgresql.stado.common.util.Props;
+
+
+/**
+ * Compares rows according to list of SortCriteria. Comparison method for
+ * every sort column is selected once, from the column type, so comparing
+ * does not have to find out value types every time. If values turn out to be
+ * of unexpected type generic comparison is used. Negative result means the
+ * first row goes before the second one in the output.
+ */
+class RowComparator {
+    private static final int KIND_GENERIC = 0;
+
+    private static final int KIND_LONG = 1;
+
+    private static final int KIND_DOUBLE = 2;
+
+    private static final int KIND_DATE = 3;
+
+    private static final int KIND_STRING = 4;
+
+    /**
+     * Zero-based positions of sort columns in the row
+     */
+    private final int[] positions;
+
+    private final int[] kinds;
+
+    private final boolean[] descending;
+
+    RowComparator(List<SortCriteria> sortCriteriaList) {
+        int count = sortCriteriaList.size();
+        positions = new int[count];
+        kinds = new int[count];
+        descending = new boolean[count];
+        int i = 0;
+        for (SortCriteria criteria : sortCriteriaList) {
+            positions[i] = criteria.getColumnPosition() - 1;
+            kinds[i] = getKind(criteria.getColumnType());
+            descending[i] = criteria.getDirection() == SortCriteria.DESCENDING;
+            i++;
+        }
+    }
+
+    private static int getKind(int columnType) {
+        switch (columnType) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return KIND_LONG;
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+            return KIND_DOUBLE;
+        case Types.DATE:
+        case Types.TIME:
+        case Types.TIMESTAMP:
+            return KIND_DATE;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+            return KIND_STRING;
+        default:
+            return KIND_GENERIC;
+        }
+    }
+
+    /**
+     * @return zero-based positions of sort columns
+     */
+    int[] getPositions() {
+        return positions;
+    }
+
+    /**
+     * Compare rows by sort columns
+     *
+     * @param row1
+     * @param row2
+     * @return negative if row1 goes first, positive if row2 goes first, 0
+     *         if rows are equal
+     */
+    int compare(Object[] row1, Object[] row2) {
+        for (int i = 0; i < positions.length; i++) {
+            Object value1 = row1[positions[i]];
+            Object value2 = row2[positions[i]];
+            if (value1 == null || value2 == null) {
+                if (value1 == value2) {
+                    continue;
+                }
+                return compareNull(value1 == null, descending[i]);
+            }
+            int k;
+            switch (kinds[i]) {
+            case KIND_LONG:
+                if ((value1 instanceof Integer || value1 instanceof Long || value1 instanceof Short)
+                        && (value2 instanceof Integer || value2 instanceof Long || value2 instanceof Short)) {
+                    long long1 = ((Number) value1).longValue();
+                    long long2 = ((Number) value2).longValue();
+                    k = long1 == long2 ? 0 : (long1 > long2 ? 1 : -1);
+                } else {
+                    k = compareGeneric(value1, value2);
+                }
+                break;
+            case KIND_DOUBLE:
+                if ((value1 instanceof Double || value1 instanceof BigDecimal)
+                        && (value2 instanceof Double || value2 instanceof BigDecimal)) {
+                    double double1 = ((Number) value1).doubleValue();
+                    double double2 = ((Number) value2).doubleValue();
+                    k = double1 == double2 ? 0 : (double1 > double2 ? 1 : -1);
+                } else {
+                    k = compareGeneric(value1, value2);
+                }
+                break;
+            case KIND_DATE:
+                if (value1 instanceof Date && value2 instanceof Date) {
+                    k = ((Date) value1).compareTo((Date) value2);
+                } else {
+                    k = compareGeneric(value1, value2);
+                }
+                break;
+            case KIND_STRING:
+                if (value1 instanceof String && value2 instanceof String) {
+                    k = compareStrings((String) value1, (String) value2);
+                } else {
+                    k = compareGeneric(value1, value2);
+                }
+                break;
+            default:
+                k = compareGeneric(value1, value2);
+            }
+            if (k != 0) {
+                return descending[i] ? -k : k;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param firstIsNull
+     *            true if the value from the first row is null, false if the
+     *            value from the second one
+     * @param descending
+     */
+    private static int compareNull(boolean firstIsNull, boolean descending) {
+        int result;
+        switch (Props.XDB_COMBINED_RESULTSET_SORT_NULLS_STYLE) {
+        case Props.SORT_NULLS_AT_END:
+            result = 1;
+            break;
+        case Props.SORT_NULLS_AT_START:
+            result = -1;
+            break;
+        case Props.SORT_NULLS_LOW:
+            result = descending ? 1 : -1;
+            break;
+        case Props.SORT_NULLS_HIGH:
+        default:
+            result = descending ? -1 : 1;
+        }
+        return firstIsNull ? result : -result;
+    }
+
+    private static int compareGeneric(Object obj1, Object obj2) {
+        if (obj1 instanceof Number && obj2 instanceof Number) {
+            boolean compareAsDouble = obj1 instanceof Float
+                    || obj1 instanceof Double || obj1 instanceof BigDecimal
+                    || obj2 instanceof Float || obj2 instanceof Double
+                    || obj2 instanceof BigDecimal;
+            if (compareAsDouble) {
+                double val1 = ((Number) obj1).doubleValue();
+                double val2 = ((Number) obj2).doubleValue();
+                return val1 == val2 ? 0 : (val1 > val2 ? 1 : -1);
+            } else {
+                // whole numbers, compare as long
+                long val1 = ((Number) obj1).longValue();
+                long val2 = ((Number) obj2).longValue();
+                return val1 == val2 ? 0 : (val1 > val2 ? 1 : -1);
+            }
+        } else if (obj1 instanceof Date && obj2 instanceof Date) {
+            return ((Date) obj1).compareTo((Date) obj2);
+        } else if (obj1 instanceof Boolean && obj2 instanceof Boolean) {
+            return (obj1.equals(obj2)) ? 0
+                    : (((Boolean) obj1).booleanValue() ? 1 : -1);
+        } else {
+            // Compare string representations
+            return compareStrings(obj1.toString(), obj2.toString());
+        }
+    }
+
+    /**
+     * Compare strings character by character, optionally ignoring leading
+     * and trailing whitespaces and case. Whitespaces are skipped in place,
+     * without creating trimmed copies.
+     */
+    private static int compareStrings(String str1, String str2) {
+        int start1 = 0;
+        int end1 = str1.length();
+        int start2 = 0;
+        int end2 = str2.length();
+        if (Props.XDB_COMBINED_RESULTSET_SORT_TRIM) {
+            // Same as String.trim()
+            while (start1 < end1 && str1.charAt(start1) <= ' ') {
+                start1++;
+            }
+            while (start1 < end1 && str1.charAt(end1 - 1) <= ' ') {
+                end1--;
+            }
+            while (start2 < end2 && str2.charAt(start2) <= ' ') {
+                start2++;
+            }
+            while (start2 < end2 && str2.charAt(end2 - 1) <= ' ') {
+                end2--;
+            }
+        }
+        int len1 = end1 - start1;
+        int len2 = end2 - start2;
+        int count = Math.min(len1, len2);
+        for (int i = 0; i < count; i++) {
+            char chr1 = str1.charAt(start1 + i);
+            char chr2 = str2.charAt(start2 + i);
+            if (chr1 != chr2) {
+                if (!Props.XDB_COMBINED_RESULTSET_SORT_CASE_SENSITIVE) {
+                    chr1 = Character.toLowerCase(chr1);
+                    chr2 = Character.toLowerCase(chr2);
+                    if (chr1 == chr2) {
+                        continue;
+                    }
+                }
+                return chr1 > chr2 ? 1 : -1;
+            }
+        }
+        return len1 > count ? 1 : (len2 > count ? -1 : 0);
+    }
+}
@@ -58,11 +58,26 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
     private List<ResultSetPosManager> resultSetManagerList = new ArrayList<ResultSetPosManager>();
 
     /**
-     * Here ResultSetPosManagers are sorted
+     * Binary heap of ResultSetPosManagers having current record, ordered by
+     * the current records. If the result set is sorted the
+     * currentResultSetManager is on the top of the heap.
      */
-    private TreeSet<ResultSetPosManager> aTreeSet;
+    private ResultSetPosManager[] heap;
 
-    private LinkedList<ResultSetPosManager> aLinkedList;
+    private int heapSize = 0;
+
+    private RowComparator comparator;
+
+    /**
+     * Sort values of the last returned row, if the result set is distinct
+     */
+    private Object[] lastRow;
+
+    /**
+     * Round robin queue of ResultSetPosManagers, if the result set is not
+     * sorted
+     */
+    private ArrayDeque<ResultSetPosManager> aQueue;
 
     private Collection<String> finalCoordTempTableList;
 
@@ -102,44 +117,42 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
             }
         }
 
-        // distinctModifier force ResultSet is NOT equal to other ResultSet
+        // distinctModifier orders equal rows from different ResultSets
         // if the server resultset is not distinct
         int distinctModifier = 0;
         for (ResultSet rs : resultSetList) {
             ResultSetPosManager resultSetPosMan = new ResultSetPosManager(rs,
-                    this.sortedOrderList, distinctModifier);
+                    distinctModifier);
             resultSetManagerList.add(resultSetPosMan);
             if (!isDistinct) {
                 distinctModifier++;
             }
         }
 
-        if (this.sortedOrderList == null || this.sortedOrderList.isEmpty()) {
-            aLinkedList = new LinkedList<ResultSetPosManager>();
-            // Init linked list
+        if (this.sortedOrderList.isEmpty()) {
+            aQueue = new ArrayDeque<ResultSetPosManager>(
+                    resultSetManagerList.size());
+            // Init queue
             for (ResultSetPosManager rsPosMan : resultSetManagerList) {
                 if (rsPosMan.next()) {
-                    aLinkedList.addFirst(rsPosMan);
+                    aQueue.addFirst(rsPosMan);
                 }
             }
         } else {
-            aTreeSet = new TreeSet<ResultSetPosManager>();
-            // Init tree set
+            comparator = new RowComparator(this.sortedOrderList);
+            heap = new ResultSetPosManager[resultSetManagerList.size()];
+            // Init heap
             for (ResultSetPosManager rsPosMan : resultSetManagerList) {
-                boolean wasAdded = false;
-                while (!wasAdded) {
-                    if (rsPosMan.next()) {
-                        // We have next record, try to sort it
-                        // if add() returned false it means we have duplicate
-                        // record
-                        // and should skip it (do next loop)
-                        wasAdded = aTreeSet.add(rsPosMan);
-                    } else {
-                        // Result set is exhausted, forget about it
-                        break;
-                    }
+                if (rsPosMan.next()) {
+                    heap[heapSize++] = rsPosMan;
                 }
             }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+            if (isDistinct) {
+                lastRow = new Object[getSortRowSize()];
+            }
         }
 
         // See if offset is set, then we need to skip some rows.
@@ -157,8 +170,9 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
             // We reached the maximum limit, just clean up
             close();
             currentResultSetManager = null;
-            aTreeSet = null;
-            aLinkedList = null;
+            heap = null;
+            heapSize = 0;
+            aQueue = null;
             return false;
         }
 
@@ -167,51 +181,106 @@ public class ServerResultSetImpl implements java.sql.ResultSet, ServerResultSet
         return do_next();
     }
 
+    /**
+     * @return size of the row to hold the sort values
+     */
+    private int getSortRowSize() {
+        int count = 0;
+        for (int position : comparator.getPositions()) {
+            count = Math.max(count, position + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Compare current records of heap elements
+     *
+     * @return true if element at position i should go before element at
+     *         position j
+     */
+    private boolean isBefore(int i, int j) {
+        int k = comparator.compare(heap[i].getCurrentRecord(),
+                heap[j].getCurrentRecord());
+        if (k == 0) {
+            // Keep original order of equal rows from different ResultSets
+            return heap[i].getDistinctModifier() > heap[j].getDistinctModifier();
+        }
+        return k < 0;
+    }
+
+    /**
+     * Move heap element down to its place
+     *
+     * @param i
+     */
+    private void siftDown(int i) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && isBefore(child + 1, child)) {
+                child++;
+            }
+            if (!isBefore(child, i)) {
+                break;
+            }
+            ResultSetPosManager tmp = heap[i];
+            heap[i] = heap[child];
+            heap[child] = tmp;
+            i = child;
+        }
+    }
+
+    /**
+     * Advance the manager on the top of the heap and restore heap order
+     */
+    private void advanceTop() {
+        if (heap[0].next()) {
+            siftDown(0);
+        } else {
+            // Result set is exhausted, forget about it
+            heap[0] = heap[--heapSize];
+            heap[heapSize] = null;
+            siftDown(0);
+        }
+    }
+
     /**
      * main next() functionality, broken out because of OFFSET
      */
     private boolean do_next() {
-        // Advance currentResultSetManager to new record and add it to
-        // the TreeSet to have it sorted
-        // Note; currentResultSetManager == null when next() called first time
-        if (currentResultSetManager != null) {
-            if (aTreeSet != null) {
-                boolean wasAdded = false;
-                while (!wasAdded) {
-                    if (currentResultSetManager.next()) {
-                        // We have next record, try to sort it
-                        // if add() returned false it means we have duplicate
-                        // record
-                        // and should skip it (do next loop)
-                        wasAdded = aTreeSet.add(currentResultSetManager);
-                    } else {
-                        // Result set is exhausted, forget about it
-                        break;
+        if (heap != null) {
+            // Advance currentResultSetManager to new record, it is on the
+            // top of the heap.
+            // Note; currentResultSetManager == null when next() called first
+            // time
+            if (currentResultSetManager != null) {
+                if (lastRow != null) {
+                    // Remember sort values of the returned row
+                    Object[] current = currentResultSetManager.getCurrentRecord();
+                    for (int position : comparator.getPositions()) {
+                        lastRow[position] = current[position];
                     }
                 }
-            } else if (aLinkedList != null) {
-                if (currentResultSetManager.next()) {
-                    aLinkedList.addFirst(currentResultSetManager);
+                advanceTop();
+                if (lastRow != null) {
+                    // Skip duplicates. Rows are sorted, so all rows equal
+                    // to the returned one are coming right after it
+                    while (heapSize > 0
+                            && comparator.compare(lastRow,
+                                    heap[0].getCurrentRecord()) == 0) {
+                        advanceTop();
+                    }
                 }
             }
-        }
-
-        // Chhosing next currentResultSetManager
-        if (aTreeSet != null) {
-            if (aTreeSet.isEmpty()) {
-                // No result set left. Reporting end of the Result set
-                currentResultSetManager = null;
-            } else {
-                currentResultSetManager = aTreeSet.last();
-                aTreeSet.remove(currentResultSetManager);
-            }
-        } else if (aLinkedList != null) {
-            if (aLinkedList.isEmpty()) {
-                // No result set left. Reporting end of the Result set
-                currentResultSetManager = null;
-            } else {
-                currentResultSetManager = aLinkedList.removeLast();
+            currentResultSetManager = heapSize == 0 ? null : heap[0];
+        } else if (aQueue != null) {
+            if (currentResultSetManager != null
+                    && currentResultSetManager.next()) {
+                aQueue.addFirst(currentResultSetManager);
             }
+            currentResultSetManager = aQueue.pollLast();
         }
         return currentResultSetManager != null;
 
@@ -40,6 +40,7 @@ import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.SysCheck;
 import org.postgresql.stado.metadata.SysColumn;
+import org.postgresql.stado.metadata.SysColumnStats;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysTable;
 import org.postgresql.stado.misc.SortedLongVector;
@@ -1593,7 +1594,13 @@ public class Optimizer {
                                 estBaseReadCost = testEstBaseReadCost;
                             }
 
-                            if (aSysColumn.getSelectivity() > 0) {
+                            double statsSelectivity = getStatsSelectivity(
+                                    cond, aSysColumn);
+                            if (statsSelectivity >= 0) {
+                                rowReductionFactor = rowReductionFactor
+                                * Math.max(statsSelectivity,
+                                        1.0 / Math.max(numRows, 1));
+                            } else if (aSysColumn.getSelectivity() > 0) {
                                 rowReductionFactor = rowReductionFactor
                                 * aSysColumn.getSelectivity();
                             } else {
@@ -1659,6 +1666,51 @@ public class Optimizer {
         }
     }
 
+    /**
+     * Estimates selectivity of a condition comparing the column with a
+     * constant, using distribution statistics of the column.
+     *
+     * @param cond The atomic condition
+     * @param aSysColumn The column compared
+     * @return the selectivity, or -1 if it can not be estimated
+     */
+    private double getStatsSelectivity(QueryCondition cond,
+            SysColumn aSysColumn) {
+        SysColumnStats stats = aSysColumn.getStats();
+        if (stats == null || cond.getOperator() == null
+                || cond.getLeftCond() == null || cond.getRightCond() == null
+                || cond.getLeftCond().getExpr() == null
+                || cond.getRightCond().getExpr() == null) {
+            return -1;
+        }
+        String operator = cond.getOperator().trim();
+        SqlExpression constant;
+        if (cond.getLeftCond().getExpr().isColumn()) {
+            constant = cond.getRightCond().getExpr();
+        } else {
+            constant = cond.getLeftCond().getExpr();
+            // column is on the right side, so flip the comparison
+            if (operator.startsWith("<")) {
+                operator = ">" + operator.substring(1);
+            } else if (operator.startsWith(">")) {
+                operator = "<" + operator.substring(1);
+            }
+        }
+        if (constant.getExprType() != SqlExpression.SQLEX_CONSTANT
+                || constant.getConstantValue() == null) {
+            return -1;
+        }
+        String value = constant.getNormalizedValue();
+        if ("=".equals(operator)) {
+            return stats.getEqualSelectivity(value);
+        } else if ("<>".equals(operator) || "!=".equals(operator)) {
+            return Math.max(1.0 - stats.getEqualSelectivity(value)
+                    - stats.getNullFrac(), 0);
+        } else {
+            return stats.getRangeSelectivity(operator, value);
+        }
+    }
+
     /**
      * Calculates estimated cost of reading based on available indexes for the
      * column.
@@ -1816,6 +1868,37 @@ public class Optimizer {
         }
     }
 
+    /**
+     * Estimate number of rows returned by joining the nodes on the columns,
+     * using distribution statistics of the columns.
+     *
+     * @param node1
+     * @param node2
+     * @param leftColumn
+     * @param rightColumn
+     * @return estimated number of rows, or -1 if statistics are not available
+     */
+    private long estimateJoinRowsFromStats(QueryNode node1, QueryNode node2,
+            AttributeColumn leftColumn, AttributeColumn rightColumn) {
+        if (leftColumn.relationNode.isRelationSubquery()
+                || rightColumn.relationNode.isRelationSubquery()) {
+            return -1;
+        }
+        SysColumn leftSysColumn = leftColumn.getSysColumn(database);
+        SysColumn rightSysColumn = rightColumn.getSysColumn(database);
+        if (leftSysColumn.getStats() == null
+                || rightSysColumn.getStats() == null) {
+            return -1;
+        }
+        return Math.round(node1.getEstRowsReturned()
+                * (double) node2.getEstRowsReturned()
+                * SysColumnStats.getJoinSelectivity(
+                        leftSysColumn.getStats(),
+                        leftSysColumn.getSysTable().getRowCount(),
+                        rightSysColumn.getStats(),
+                        rightSysColumn.getSysTable().getRowCount()));
+    }
+
     /**
      * Estimates the cost of joining 2 QueryNdes. This is used when building up
      * various candidate QueryTrees
@@ -1847,6 +1930,7 @@ public class Optimizer {
             QueryNode otherSubtreeNode = null;
             boolean otherNodeOnNode1 = false;
             long testRowsReturned;
+            long statsRowsReturned = -1;
 
             // keep these on same line for build process!
             if (node1.getNodeType() == QueryNode.RELATION) {
@@ -1965,6 +2049,15 @@ public class Optimizer {
                         continue;
                     }
 
+                    // join cardinality from distribution statistics
+                    testRowsReturned = estimateJoinRowsFromStats(node1, node2,
+                            leftColumn, rightColumn);
+                    if (testRowsReturned >= 0
+                            && (statsRowsReturned < 0
+                                    || testRowsReturned < statsRowsReturned)) {
+                        statsRowsReturned = testRowsReturned;
+                    }
+
                     // skip if no index on it
                     if (testJoiningCost == -1) {
                         // but first reduce by selectivity
@@ -2005,6 +2098,10 @@ public class Optimizer {
                 }
             }
 
+            if (statsRowsReturned >= 0) {
+                estRowsReturned = statsRowsReturned;
+            }
+
             // double check if we found a joinable index
             // if not, estimate the number of rows returned
             if (estRowsReturned == 0) {
@@ -2133,6 +2230,7 @@ public class Optimizer {
             SysColumn aSysColumn = null;
             QueryNode otherSubtreeNode = null;
             long testRowsReturned;
+            long statsRowsReturned = -1;
             // We only want to do this if we can find a condition on a table in
             // node2's
             // subtree that joins with node1's *right* subtree
@@ -2215,6 +2313,15 @@ public class Optimizer {
                     if (aSysColumn == null) {
                         continue;
                     }
+
+                    // join cardinality from distribution statistics
+                    testRowsReturned = estimateJoinRowsFromStats(node1, node2,
+                            leftColumn, rightColumn);
+                    if (testRowsReturned >= 0
+                            && (statsRowsReturned < 0
+                                    || testRowsReturned < statsRowsReturned)) {
+                        statsRowsReturned = testRowsReturned;
+                    }
                 }
             }
 
@@ -2228,6 +2335,10 @@ public class Optimizer {
             }
 
             // Rework est # of rows
+            if (statsRowsReturned >= 0) {
+                estRowsReturned = statsRowsReturned;
+            }
+
             // double check if we found a joinable index
             // if not, estimate the number of rows returned
             if (estRowsReturned == 0) {
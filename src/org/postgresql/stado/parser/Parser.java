@@ -58,6 +58,7 @@ import org.postgresql.stado.parser.core.syntaxtree.FetchCursor;
 import org.postgresql.stado.parser.core.syntaxtree.Grant;
 import org.postgresql.stado.parser.core.syntaxtree.InsertTable;
 import org.postgresql.stado.parser.core.syntaxtree.Kill;
+import org.postgresql.stado.parser.core.syntaxtree.Rebalance;
 import org.postgresql.stado.parser.core.syntaxtree.RenameTable;
 import org.postgresql.stado.parser.core.syntaxtree.Revoke;
 import org.postgresql.stado.parser.core.syntaxtree.RollbackTransaction;
@@ -603,6 +604,14 @@ public class Parser extends ObjectDepthFirst {
         return null;
     }
 
+    @Override
+    public Object visit(Rebalance n, Object argu) {
+        SqlRebalance aSqlRebalance = new SqlRebalance(client);
+        n.accept(aSqlRebalance, argu);
+        sqlObject = aSqlRebalance;
+        return null;
+    }
+
     @Override
     public Object visit(Unlisten  n, Object argu) {
         SqlUnlisten aSqlUnlisten = new SqlUnlisten(client);
@@ -33,6 +33,11 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.postgresql.stado.common.util.ParseCmdLine;
 import org.postgresql.stado.common.util.Props;
@@ -42,11 +47,14 @@ import org.postgresql.stado.engine.ExecutionResult;
 import org.postgresql.stado.engine.IPreparable;
 import org.postgresql.stado.engine.MultinodeExecutor;
 import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.engine.io.MessageTypes;
 import org.postgresql.stado.exception.XDBSecurityException;
 import org.postgresql.stado.exception.XDBServerException;
 import org.postgresql.stado.metadata.DBNode;
 import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SyncUpdateStatistics;
 import org.postgresql.stado.metadata.SysColumn;
+import org.postgresql.stado.metadata.SysColumnStats;
 import org.postgresql.stado.metadata.SysDatabase;
 import org.postgresql.stado.metadata.SysLogin;
 import org.postgresql.stado.metadata.SysTable;
@@ -94,7 +102,42 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
 
     private HashMap<String, String> params;
 
-    private Map<SysTable, Object[]> statements;
+    private Map<SysTable, TableStatements> statements;
+
+    /**
+     * Statements to run against the nodes to analyze a table
+     */
+    private static class TableStatements {
+        /** vacuum analyze (update statistics) command */
+        String update;
+
+        /** row count query */
+        String countQuery;
+
+        /**
+         * query to get distinct counts of all columns and row count from
+         * nodes, if query template is not defined
+         */
+        String distinctQuery;
+
+        /**
+         * queries to get distinct counts from nodes, one for every column,
+         * if query template is defined
+         */
+        String[] distinctQueries;
+
+        /** analyzed columns */
+        List<SysColumn> columns;
+
+        /**
+         * query to get HyperLogLog registers of columns, null if column
+         * statistics are not collected
+         */
+        String sketchQuery;
+
+        /** query to get value distributions of columns */
+        String distributionQuery;
+    }
 
     public SqlAnalyzeDatabase(XDBSessionContext client) {
         this.client = client;
@@ -266,7 +309,7 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
             // params.put("dbuser", database.getDbusername());
             params.put("vacuum_type", vacuumType);
             if (tableName == null) {
-                statements = new HashMap<SysTable, Object[]>();
+                statements = new HashMap<SysTable, TableStatements>();
                 for (Enumeration tables = database.getAllTables(); tables.hasMoreElements();) {
                     SysTable table = (SysTable) tables.nextElement();
                     if (!table.isTemporary()) {
@@ -281,21 +324,19 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
         }
     }
 
-    private Object[] createStatements(SysTable table) throws Exception {
-        Object[] result = doAnalyze ? new Object[4] : new Object[1];
+    private TableStatements createStatements(SysTable table) throws Exception {
         params.put("table", IdentifierHandler.quote(table.getTableName()));
-        // result[0] = vacuum analyze (update statistics) command
-        Collection<SysColumn> columns = createColumnList(table);
+        TableStatements result = new TableStatements();
+        result.columns = new ArrayList<SysColumn>(createColumnList(table));
         if (columnNameList != null) {
             StringBuffer sb = new StringBuffer();
-            for (SysColumn column : columns) {
+            for (SysColumn column : result.columns) {
                 sb.append(IdentifierHandler.quote(column.getColName())).append(", ");
             }
             params.put("column_list", sb.substring(0, sb.length() - 2));
         }
-        result[0] = ParseCmdLine.substitute(templateUpdate, params);
+        result.update = ParseCmdLine.substitute(templateUpdate, params);
         if (doAnalyze) {
-            // result[1] = row count query
             String template = Props.XDB_SQLCOMMAND_UPDATESTATISTICS_ROWCOUNT;
             boolean quoted = Props.XDB_SQLCOMMAND_UPDATESTATISTICS_ROWCOUNT_QUOTED;
             if (template.length() == 0) {
@@ -305,16 +346,13 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
             if (!quoted) {
                 params.put("table", table.getTableName());
             }
-            result[1] = ParseCmdLine.substitute(template, params);
+            result.countQuery = ParseCmdLine.substitute(template, params);
             if (!quoted) {
                 params.put("table", IdentifierHandler.quote(table.getTableName()));
             }
-            // result[2] = query to get distinct counts from nodes
-            // String array (one for every column) if template is defined
-            // single String otherwise
             if (templateQuery == null || templateQuery.length() == 0) {
                 StringBuffer sb = new StringBuffer("SELECT ");
-                for (SysColumn col : columns) {
+                for (SysColumn col : result.columns) {
                     if (columnNameList == null && isUnique(col)) {
                         sb.append("null, ");
                     } else {
@@ -323,18 +361,27 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
                     }
                 }
                 sb.append("count (*) from ").append(table.getTableName());
-                result[2] = sb.toString();
+                result.distinctQuery = sb.toString();
             } else {
-                String[] queries = new String[columns.size()];
+                String[] queries = new String[result.columns.size()];
                 int pos = 0;
-                for (SysColumn col : columns) {
+                for (SysColumn col : result.columns) {
                     params.put("column", IdentifierHandler.quote(col.getColName()));
                     queries[pos++] = ParseCmdLine.substitute(templateQuery, params);
                 }
-                result[2] = queries;
+                result.distinctQueries = queries;
+            }
+            if (Props.XDB_ANALYZE_COLUMN_STATISTICS
+                    && !result.columns.isEmpty()) {
+                result.sketchQuery = createSketchQuery(table, result.columns);
+                result.distributionQuery = "SELECT attname, null_frac, "
+                        + "CAST(most_common_vals AS text), "
+                        + "CAST(most_common_freqs AS text), "
+                        + "CAST(histogram_bounds AS text) "
+                        + "FROM pg_stats WHERE tablename = '"
+                        + table.getTableName().replaceAll("'", "''")
+                        + "' AND schemaname = ANY (current_schemas(false))";
             }
-            // result[3] = column list
-            result[3] = columns;
         }
         return result;
     }
@@ -372,127 +419,407 @@ public class SqlAnalyzeDatabase extends ObjectDepthFirst implements IXDBSql,
         return columns;
     }
 
-    public ExecutionResult execute(Engine engine) throws Exception {
-        if (!isPrepared()) {
-            prepare();
+    /**
+     * Build a query returning, for every column and every HyperLogLog
+     * register, maximum rank of hashes of the column values falling into the
+     * register, and number of values. Null values are reported with null
+     * register. Table is scanned once: every row is expanded to hashes of
+     * all columns, which are numbered in order of the list. The query counts
+     * rows as well.
+     *
+     * @param columns
+     *            the columns, must not be empty
+     */
+    private String createSketchQuery(SysTable table, List<SysColumn> columns) {
+        int precision = SysColumnStats.HLL_PRECISION;
+        int width = 32 - precision;
+        StringBuffer sb = new StringBuffer("SELECT xstatcol, xstatreg, max(xstatrank), count(*) FROM (");
+        sb.append("SELECT xstatcol, xstathash & ").append((1 << precision) - 1);
+        sb.append(" AS xstatreg, ").append(width + 1);
+        sb.append(" - length(ltrim(CAST(CAST(xstathash >> ").append(precision);
+        sb.append(" AS bit(").append(width).append(")) AS text), '0')) AS xstatrank");
+        // arrays of the same length are expanded in step
+        sb.append(" FROM (SELECT unnest(ARRAY[");
+        for (int pos = 0; pos < columns.size(); pos++) {
+            sb.append(pos == 0 ? "" : ", ").append(pos);
+        }
+        sb.append("]) AS xstatcol, unnest(ARRAY[");
+        for (int pos = 0; pos < columns.size(); pos++) {
+            sb.append(pos == 0 ? "" : ", ");
+            sb.append("CAST(hashtext(CAST(");
+            sb.append(IdentifierHandler.quote(columns.get(pos).getColName()));
+            sb.append(" AS text)) AS bigint) & 4294967295");
+        }
+        sb.append("]) AS xstathash FROM ");
+        sb.append(IdentifierHandler.quote(table.getTableName()));
+        sb.append(") xstat1) xstat2");
+        sb.append(" GROUP BY xstatcol, xstatreg");
+        return sb.toString();
+    }
+
+    /**
+     * Collect statistics parts from the nodes and combine them
+     *
+     * @param nodeCounts
+     *            receives number of rows on every node
+     * @return statistics of the columns, in order of the column list
+     */
+    private SysColumnStats[] collectColumnStats(Engine engine,
+            XDBSessionContext session, Collection<DBNode> nodeList,
+            TableStatements toRun, Map<Integer, Long> nodeCounts)
+            throws Exception {
+        List<SysColumn> columns = toRun.columns;
+        SysColumnStats.Builder[] builders = new SysColumnStats.Builder[columns.size()];
+        Map<String, Integer> positions = new HashMap<String, Integer>();
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new SysColumnStats.Builder(
+                    SysColumnStats.isNumeric(columns.get(i).getColType()));
+            positions.put(columns.get(i).getColName(), i);
         }
-        LinkedList<String> failedTables = new LinkedList<String>();
-        for (Map.Entry<SysTable,Object[]> entry : statements.entrySet()) {
-            SysTable table = entry.getKey();
-            Object[] toRun = entry.getValue();
+
+        long count = 0;
+        Map<Integer, ResultSet> results = engine.executeQueryOnMultipleNodes(
+                toRun.sketchQuery, nodeList, session);
+        for (Map.Entry<Integer, ResultSet> entry : results.entrySet()) {
+            long[] nonNull = new long[builders.length];
+            long rows = 0;
+            ResultSet rs = entry.getValue();
             try {
-                // Step one: execute vacuum analyze (update stats) on nodes
-
-                String command = (String) toRun[0];
-                // amart: UPDATE STATISTICS does implicit commit on
-                // nodes,
-                // so subsequent "subtrans end" generates error on Nodes
-                // using ME directly is workaround
-                // amart: ... and do autocommit for Postgres' VACUUM
-                // compatibility
-                MultinodeExecutor anExecutor = client.getMultinodeExecutor(table.getNodeList());
-                anExecutor.execute(command, table.getNodeList(), true);
-                if (!doAnalyze) {
-                    continue;
+                while (rs.next()) {
+                    int col = rs.getInt(1);
+                    int register = rs.getInt(2);
+                    boolean isNull = rs.wasNull();
+                    long values = rs.getLong(4);
+                    if (col == 0) {
+                        rows += values;
+                    }
+                    if (!isNull) {
+                        builders[col].getHyperLogLog().update(register,
+                                rs.getInt(3));
+                        nonNull[col] += values;
+                    }
                 }
+            } finally {
+                rs.close();
+            }
+            nodeCounts.put(entry.getKey(), rows);
+            count += rows;
+            for (int i = 0; i < builders.length; i++) {
+                builders[i].addRows(rows, nonNull[i]);
+            }
+        }
 
-                // Step two: count all rows and put a result to MetaData
-                long count = 0;
-                Collection<DBNode> nodeList = table.getJoinNodeList();
-                Map<Integer, ResultSet> results = engine.executeQueryOnMultipleNodes(
-                        (String) toRun[1], nodeList, client);
-                for (ResultSet rs : results.values()) {
-                    try {
-                        if (rs.next()) {
-                            count += rs.getLong(1);
-                        } else {
-                            throw new XDBServerException(
-                                    "Could not count rows for table: " + table.getTableName());
+        if (count > 0) {
+            results = engine.executeQueryOnMultipleNodes(
+                    toRun.distributionQuery, nodeList, session);
+            for (Map.Entry<Integer, ResultSet> entry : results.entrySet()) {
+                Long rows = nodeCounts.get(entry.getKey());
+                boolean[] done = new boolean[builders.length];
+                ResultSet rs = entry.getValue();
+                try {
+                    while (rs.next()) {
+                        Integer pos = positions.get(rs.getString(1));
+                        // inherited statistics may be reported as well
+                        if (pos == null || done[pos]) {
+                            continue;
+                        }
+                        done[pos] = true;
+                        String[] freqs = SysColumnStats.parseArray(rs.getString(4));
+                        double[] mcFreqs = null;
+                        if (freqs != null) {
+                            mcFreqs = new double[freqs.length];
+                            for (int i = 0; i < freqs.length; i++) {
+                                mcFreqs[i] = Double.parseDouble(freqs[i]);
+                            }
                         }
-                    } finally {
-                        rs.close();
+                        builders[pos].addDistribution(rows == null ? 0 : rows,
+                                rs.getDouble(2),
+                                SysColumnStats.parseArray(rs.getString(3)),
+                                mcFreqs,
+                                SysColumnStats.parseArray(rs.getString(5)));
                     }
+                } finally {
+                    rs.close();
                 }
-                String metaUpdateStr = "UPDATE xsystables SET numrows=" + count
-                        + " where tableid=" + table.getTableId();
-                MetaData.getMetaData().executeUpdate(metaUpdateStr);
-                table.setNumrows(count);
-                // Step three: query statistics info and calculate number of
-                // distinct values
-                Collection columns = (Collection) toRun[3];
-                long[] distinctValuesNums = new long[columns.size()];
-                Arrays.fill(distinctValuesNums, 0);
-                if (count > 0) {
-                    if (toRun[2] instanceof String) {
-                        Map resultSets = engine.executeQueryOnMultipleNodes(
-                                (String) toRun[2], nodeList, client);
-                        for (Iterator iter = resultSets.values().iterator(); iter.hasNext();) {
-                            ResultSet rsDistinct = (ResultSet) iter.next();
-                            try {
-                                if (rsDistinct.next()) {
-                                    int countOnNode = rsDistinct.getInt(distinctValuesNums.length + 1);
-                                    if (countOnNode == 0) {
-                                        continue;
-                                    }
-                                    for (int i = 0; i < distinctValuesNums.length; i++) {
-                                        long distCount = rsDistinct.getLong(i + 1);
-                                        if (!rsDistinct.wasNull()) {
-                                            distinctValuesNums[i] += distCount
-                                                    * countOnNode / count;
-                                        }
-                                    }
-                                }
-                            } finally {
-                                rsDistinct.close();
-                            }
+            }
+        }
+
+        SysColumnStats[] stats = new SysColumnStats[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            stats[i] = builders[i].build();
+        }
+        return stats;
+    }
+
+    /**
+     * Count rows of the table on the nodes
+     */
+    private long countRows(Engine engine, XDBSessionContext session,
+            SysTable table, Collection<DBNode> nodeList, String query)
+            throws Exception {
+        long count = 0;
+        Map<Integer, ResultSet> results = engine.executeQueryOnMultipleNodes(
+                query, nodeList, session);
+        for (ResultSet rs : results.values()) {
+            try {
+                if (rs.next()) {
+                    count += rs.getLong(1);
+                } else {
+                    throw new XDBServerException(
+                            "Could not count rows for table: " + table.getTableName());
+                }
+            } finally {
+                rs.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Run query returning distinct counts of all columns along with total
+     * number of rows on every node, and combine the results
+     *
+     * @return number of rows in the table
+     */
+    private long collectDistinctCounts(Engine engine,
+            XDBSessionContext session, Collection<DBNode> nodeList,
+            String query, long[] distinctValuesNums) throws Exception {
+        long count = 0;
+        List<long[]> nodeResults = new ArrayList<long[]>();
+        Map<Integer, ResultSet> resultSets = engine.executeQueryOnMultipleNodes(
+                query, nodeList, session);
+        for (ResultSet rsDistinct : resultSets.values()) {
+            try {
+                if (rsDistinct.next()) {
+                    long countOnNode = rsDistinct.getLong(distinctValuesNums.length + 1);
+                    if (countOnNode == 0) {
+                        continue;
+                    }
+                    count += countOnNode;
+                    // last element is number of rows on the node,
+                    // -1 means number of distinct values is not available
+                    long[] nodeResult = new long[distinctValuesNums.length + 1];
+                    for (int i = 0; i < distinctValuesNums.length; i++) {
+                        nodeResult[i] = rsDistinct.getLong(i + 1);
+                        if (rsDistinct.wasNull()) {
+                            nodeResult[i] = -1;
                         }
-                    } else // String []
-                    {
-                        String[] queries = (String[]) toRun[2];
-                        for (int i = 0; i < queries.length; i++) {
-                            Map resultSets = engine.executeQueryOnMultipleNodes(
-                                    queries[i], nodeList, client);
-                            int nodecount = nodeList.size();
-                            for (Iterator iter = resultSets.values().iterator(); iter.hasNext();) {
-                                ResultSet rsDistinct = (ResultSet) iter.next();
-                                try {
-                                    if (rsDistinct.next()) {
-                                        long distCount = rsDistinct.getLong(1);
-                                        if (distCount > 0) {
-                                            distinctValuesNums[i] += distCount
-                                                    / nodecount;
-                                        } else {
-                                            distinctValuesNums[i] += (0.0 - rsDistinct.getDouble(1))
-                                                    * count / nodecount;
-                                        }
-                                    }
-                                } finally {
-                                    rsDistinct.close();
-                                }
-                            }
+                    }
+                    nodeResult[distinctValuesNums.length] = countOnNode;
+                    nodeResults.add(nodeResult);
+                }
+            } finally {
+                rsDistinct.close();
+            }
+        }
+        for (long[] nodeResult : nodeResults) {
+            long countOnNode = nodeResult[distinctValuesNums.length];
+            for (int i = 0; i < distinctValuesNums.length; i++) {
+                if (nodeResult[i] >= 0) {
+                    distinctValuesNums[i] += nodeResult[i] * countOnNode
+                            / count;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Run per column queries returning number of distinct values from the
+     * database statistics of the nodes
+     */
+    private void collectDistinctCounts(Engine engine,
+            XDBSessionContext session, Collection<DBNode> nodeList,
+            String[] queries, long count, long[] distinctValuesNums)
+            throws Exception {
+        for (int i = 0; i < queries.length; i++) {
+            Map<Integer, ResultSet> resultSets = engine.executeQueryOnMultipleNodes(
+                    queries[i], nodeList, session);
+            int nodecount = nodeList.size();
+            for (ResultSet rsDistinct : resultSets.values()) {
+                try {
+                    if (rsDistinct.next()) {
+                        long distCount = rsDistinct.getLong(1);
+                        if (distCount > 0) {
+                            distinctValuesNums[i] += distCount / nodecount;
+                        } else {
+                            distinctValuesNums[i] += (0.0 - rsDistinct.getDouble(1))
+                                    * count / nodecount;
                         }
                     }
+                } finally {
+                    rsDistinct.close();
                 }
+            }
+        }
+    }
 
-                // Step four: update selectivity
-                int pos = 0;
-                for (Iterator it1 = columns.iterator(); it1.hasNext();) {
-                    double selectivity = 0;
-                    SysColumn col = (SysColumn) it1.next();
-                    long sum = distinctValuesNums[pos] == 0 ? count
-                            : distinctValuesNums[pos];
-                    pos++;
-                    if (sum > 0) {
-                        selectivity = 1.0 / sum;
+    /**
+     * Execute VACUUM / ANALYZE of the table on its nodes, and collect
+     * statistics of the table and its columns into the metadata update.
+     */
+    private void analyzeTable(Engine engine, XDBSessionContext session,
+            SysTable table, TableStatements toRun, SyncUpdateStatistics sync)
+            throws Exception {
+        // Step one: execute vacuum analyze (update stats) on nodes
+
+        String command = toRun.update;
+        // amart: UPDATE STATISTICS does implicit commit on
+        // nodes,
+        // so subsequent "subtrans end" generates error on Nodes
+        // using ME directly is workaround
+        // amart: ... and do autocommit for Postgres' VACUUM
+        // compatibility
+        MultinodeExecutor anExecutor = session.getMultinodeExecutor(table.getNodeList());
+        anExecutor.execute(command, table.getNodeList(), true);
+        if (!doAnalyze) {
+            return;
+        }
+
+        // Step two: count all rows and calculate number of distinct values
+        Collection<DBNode> nodeList = table.getJoinNodeList();
+        List<SysColumn> columns = toRun.columns;
+        long[] distinctValuesNums = new long[columns.size()];
+        Arrays.fill(distinctValuesNums, 0);
+        SysColumnStats[] columnStats = null;
+        long count = 0;
+        if (toRun.sketchQuery != null) {
+            // rows are counted by the same scan building the sketches
+            Map<Integer, Long> nodeCounts = new HashMap<Integer, Long>();
+            columnStats = collectColumnStats(engine, session, nodeList, toRun,
+                    nodeCounts);
+            for (long countOnNode : nodeCounts.values()) {
+                count += countOnNode;
+            }
+            for (int i = 0; i < columnStats.length; i++) {
+                distinctValuesNums[i] = Math.round(columnStats[i].getDistinctCount());
+            }
+        } else if (toRun.distinctQuery != null) {
+            // the query counts rows as well
+            count = collectDistinctCounts(engine, session, nodeList,
+                    toRun.distinctQuery, distinctValuesNums);
+        } else {
+            count = countRows(engine, session, table, nodeList,
+                    toRun.countQuery);
+            if (count > 0) {
+                collectDistinctCounts(engine, session, nodeList,
+                        toRun.distinctQueries, count, distinctValuesNums);
+            }
+        }
+        sync.addTable(table, count);
+
+        // Step three: calculate selectivity
+        for (int pos = 0; pos < distinctValuesNums.length; pos++) {
+            double selectivity = 0;
+            long sum = distinctValuesNums[pos] == 0 ? count
+                    : distinctValuesNums[pos];
+            if (sum > 0) {
+                selectivity = 1.0 / sum;
+            }
+            sync.addColumn(columns.get(pos), selectivity,
+                    columnStats == null ? null : columnStats[pos]);
+        }
+    }
+
+    /**
+     * Analyze tables in a number of threads, each thread has its own session.
+     * Tables left unprocessed, if the sessions could not be created, are
+     * analyzed in current session.
+     */
+    private void analyzeParallel(final Engine engine, int parallelism,
+            final SyncUpdateStatistics sync, final List<String> failedTables)
+            throws Exception {
+        final Iterator<Map.Entry<SysTable, TableStatements>> tables = statements.entrySet().iterator();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Object>> futures = new ArrayList<Future<Object>>(
+                    parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        XDBSessionContext session;
+                        try {
+                            session = XDBSessionContext.createSession();
+                        } catch (XDBServerException ex) {
+                            logger.catching(ex);
+                            return null;
+                        }
+                        try {
+                            session.useDB(database.getDbname(),
+                                    MessageTypes.CONNECTION_MODE_NORMAL);
+                            session.login(client.getCurrentUser().getLogin());
+                            analyzeTables(engine, session, tables, sync,
+                                    failedTables);
+                        } finally {
+                            session.logout();
+                        }
+                        return null;
                     }
-                    col.setSelectivity(selectivity);
-                    String updateSelectivity = "update xsyscolumns set selectivity = "
-                            + selectivity + " where colid = " + col.getColID();
-                    MetaData.getMetaData().executeUpdate(updateSelectivity);
+                }));
+            }
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ee) {
+                    logger.catching(ee.getCause());
                 }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        analyzeTables(engine, client, tables, sync, failedTables);
+    }
+
+    /**
+     * Analyze tables taken from the shared iterator until it is exhausted
+     */
+    private void analyzeTables(Engine engine, XDBSessionContext session,
+            Iterator<Map.Entry<SysTable, TableStatements>> tables,
+            SyncUpdateStatistics sync, List<String> failedTables) {
+        while (true) {
+            Map.Entry<SysTable, TableStatements> entry;
+            synchronized (tables) {
+                if (!tables.hasNext()) {
+                    return;
+                }
+                entry = tables.next();
+            }
+            try {
+                analyzeTable(engine, session, entry.getKey(),
+                        entry.getValue(), sync);
             } catch (Exception ex) {
                 logger.catching(ex);
-                failedTables.add(table.getTableName());
+                failedTables.add(entry.getKey().getTableName());
+            }
+        }
+    }
+
+    public ExecutionResult execute(Engine engine) throws Exception {
+        if (!isPrepared()) {
+            prepare();
+        }
+        List<String> failedTables = Collections.synchronizedList(new LinkedList<String>());
+        SyncUpdateStatistics sync = new SyncUpdateStatistics();
+        int parallelism = Math.min(Props.XDB_ANALYZE_PARALLELISM,
+                statements.size());
+        if (parallelism > 1) {
+            analyzeParallel(engine, parallelism, sync, failedTables);
+        } else {
+            analyzeTables(engine, client, statements.entrySet().iterator(),
+                    sync, failedTables);
+        }
+
+        // Step four: put collected statistics to MetaData
+        if (!sync.isEmpty()) {
+            MetaData meta = MetaData.getMetaData();
+            meta.beginTransaction();
+            try {
+                sync.execute(client);
+                meta.commitTransaction(sync);
+            } catch (Exception e) {
+                logger.catching(e);
+                meta.rollbackTransaction();
+                throw e;
             }
         }
         if (failedTables.size() > 0) {
@@ -42,6 +42,7 @@ import java.util.Vector;
 import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.constraintchecker.IConstraintChecker;
+import org.postgresql.stado.constraintchecker.InsertForeignKeyChecker;
 import org.postgresql.stado.engine.BatchInsertGroup;
 import org.postgresql.stado.engine.Engine;
 import org.postgresql.stado.engine.ExecutionResult;
@@ -424,6 +425,12 @@ public abstract class SqlModifyTable extends ObjectDepthFirst implements
                 if (group != null) {
                     if (!group.executed()) {
                         group.setExecuted();
+                        try {
+                            validateGroup(group.getMembers(), engine);
+                        } catch (Exception e) {
+                            group.setFailed();
+                            throw e;
+                        }
                         List<SqlModifyTable> members = new LinkedList<SqlModifyTable>();
                         // execute the batch
                         for (SqlModifyTable modifyTable : group.getMembers()) {
@@ -460,6 +467,9 @@ public abstract class SqlModifyTable extends ObjectDepthFirst implements
                                 }
                             }
                         }
+                    } else if (group.failed()) {
+                        throw new XDBServerException(
+                                "Batch is not executed: constraint violation");
                     }
                 } else {
                     finalStatements = prepareFinalStatements(targetTable,
@@ -496,6 +506,32 @@ public abstract class SqlModifyTable extends ObjectDepthFirst implements
         }
     }
 
+    /**
+     * Run constraint checks of the batch members before the batch is
+     * executed. Foreign keys of all members are checked together, so parent
+     * tables are queried once per batch rather than once per row.
+     *
+     * @param members
+     * @param engine
+     * @throws Exception
+     */
+    private void validateGroup(List<SqlModifyTable> members, Engine engine)
+            throws Exception {
+        List<InsertForeignKeyChecker> fkCheckers = new ArrayList<InsertForeignKeyChecker>();
+        for (SqlModifyTable member : members) {
+            for (IConstraintChecker validator : member.validators) {
+                if (validator instanceof InsertForeignKeyChecker) {
+                    fkCheckers.add((InsertForeignKeyChecker) validator);
+                } else {
+                    ((IExecutable) validator).execute(engine);
+                }
+            }
+        }
+        if (!fkCheckers.isEmpty()) {
+            InsertForeignKeyChecker.checkBatch(fkCheckers, engine);
+        }
+    }
+
     public abstract int getResultType();
 
     /*
@@ -0,0 +1,375 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+/*
+ * SqlRebalance.java
+ *
+ *
+ */
+package org.postgresql.stado.parser;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.Engine;
+import org.postgresql.stado.engine.ExecutionResult;
+import org.postgresql.stado.engine.IPreparable;
+import org.postgresql.stado.engine.XDBSessionContext;
+import org.postgresql.stado.engine.io.MessageTypes;
+import org.postgresql.stado.engine.loader.BucketMover;
+import org.postgresql.stado.exception.XDBSecurityException;
+import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.DBNode;
+import org.postgresql.stado.metadata.MetaData;
+import org.postgresql.stado.metadata.SyncRebalanceTable;
+import org.postgresql.stado.metadata.SysDatabase;
+import org.postgresql.stado.metadata.SysLogin;
+import org.postgresql.stado.metadata.SysTable;
+import org.postgresql.stado.metadata.partitions.HashPartitionMap;
+import org.postgresql.stado.metadata.scheduler.LockSpecification;
+import org.postgresql.stado.metadata.scheduler.LockType;
+import org.postgresql.stado.parser.core.syntaxtree.Rebalance;
+import org.postgresql.stado.parser.core.syntaxtree.TableName;
+import org.postgresql.stado.parser.core.visitor.ObjectDepthFirst;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+import org.postgresql.stado.parser.handler.TableNameHandler;
+
+
+/**
+ * REBALANCE [table]
+ *
+ * Spreads hash partitioned tables over all the nodes of the database, for
+ * example after nodes have been added. For each table new partition map is
+ * calculated, only rows whose bucket is moved to other node are copied, then
+ * the map is switched. Tables are processed one by one. While rows of a table
+ * are copied the table is locked against writes, so they can not change rows
+ * being copied, but queries keep running. The table is locked exclusively
+ * only while moved rows are committed and the map is switched.
+ */
+public class SqlRebalance extends ObjectDepthFirst implements IXDBSql,
+        IPreparable {
+    private static final XLogger logger = XLogger.getLogger(SqlRebalance.class);
+
+    /**
+     * How many times deleting moved rows from a source node is retried
+     */
+    private static final int PURGE_ATTEMPTS = 3;
+
+    private XDBSessionContext client;
+
+    private SysDatabase database;
+
+    private String tableName = null;
+
+    private Map<SysTable, HashPartitionMap> newMaps;
+
+    public SqlRebalance(XDBSessionContext client) {
+        this.client = client;
+        database = client.getSysDatabase();
+    }
+
+    /**
+     * Grammar production: f0 -> <REBALANCE_> f1 -> [ TableName(prn) ]
+     */
+    @Override
+    public Object visit(Rebalance n, Object argu) {
+        n.f1.accept(this, argu);
+        return null;
+    }
+
+    /**
+     * Grammar production: f0 -> ( <IDENTIFIER_NAME> | <TEMPDOT_>
+     * <IDENTIFIER_NAME> )
+     */
+    @Override
+    public Object visit(TableName n, Object argu) {
+        TableNameHandler aHandler = new TableNameHandler(client);
+        n.accept(aHandler, argu);
+        tableName = aHandler.getTableName();
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Parser.IXDBSql#getNodeList()
+     */
+    public Collection<DBNode> getNodeList() {
+        return Collections.emptyList();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#getCost()
+     */
+    public long getCost() {
+        return HIGH_COST;
+    }
+
+    /*
+     * Tables are locked one by one while they are processed
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#getLockSpecs()
+     */
+    public LockSpecification<SysTable> getLockSpecs() {
+        Collection<SysTable> empty = Collections.emptyList();
+        return new LockSpecification<SysTable>(empty, empty);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.MetaData.Scheduler.ILockCost#needCoordinatorConnection()
+     */
+    public boolean needCoordinatorConnection() {
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IPreparable#isPrepared()
+     */
+    public boolean isPrepared() {
+        return newMaps != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IPreparable#prepare()
+     */
+    public void prepare() throws Exception {
+        if (isPrepared()) {
+            return;
+        }
+        if (client.getCurrentUser().getUserClass() != SysLogin.USER_CLASS_DBA) {
+            XDBSecurityException ex = new XDBSecurityException("Only "
+                    + SysLogin.USER_CLASS_DBA_STR + " can rebalance tables");
+            logger.throwing(ex);
+            throw ex;
+        }
+        if (client.isInTransaction()) {
+            XDBServerException ex = new XDBServerException(
+                    "REBALANCE can not run inside a transaction block");
+            logger.throwing(ex);
+            throw ex;
+        }
+        List<Integer> nodeIds = new ArrayList<Integer>();
+        for (DBNode dbNode : database.getDBNodeList()) {
+            nodeIds.add(dbNode.getNodeId());
+        }
+        newMaps = new LinkedHashMap<SysTable, HashPartitionMap>();
+        if (tableName == null) {
+            for (SysTable table : database.getSysTables()) {
+                if (canRebalance(table)) {
+                    addTable(table, nodeIds);
+                } else if (table.getPartitionScheme() == SysTable.PTYPE_HASH
+                        && !table.isTemporary()) {
+                    logger.warn("Skipping inherited table "
+                            + table.getTableName());
+                }
+            }
+        } else {
+            SysTable table = database.getSysTable(tableName);
+            if (!canRebalance(table)) {
+                XDBServerException ex = new XDBServerException("Table "
+                        + IdentifierHandler.quote(tableName)
+                        + " is not hash partitioned or is inherited");
+                logger.throwing(ex);
+                throw ex;
+            }
+            addTable(table, nodeIds);
+        }
+    }
+
+    /**
+     * Only data of permanent hash partitioned tables are moved. Inherited
+     * tables share partition map with their parent, they are not supported
+     * yet.
+     */
+    private boolean canRebalance(SysTable table) {
+        return table.getPartitionScheme() == SysTable.PTYPE_HASH
+                && table.getPartitionMap() instanceof HashPartitionMap
+                && !table.isTemporary() && table.getParentTable() == null
+                && table.getChildrenTables().isEmpty();
+    }
+
+    private void addTable(SysTable table, List<Integer> nodeIds) {
+        HashPartitionMap currentMap = (HashPartitionMap) table.getPartitionMap();
+        HashPartitionMap newMap = currentMap.rebalance(nodeIds);
+        if (!newMap.equals(currentMap)) {
+            newMaps.put(table, newMap);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.postgresql.stado.Engine.IExecutable#execute(org.postgresql.stado.Engine.Engine)
+     */
+    public ExecutionResult execute(Engine engine) throws Exception {
+        if (!isPrepared()) {
+            prepare();
+        }
+        long rowsMoved = 0;
+        if (!newMaps.isEmpty()) {
+            // Locks are taken on behalf of separate session, so they can be
+            // released after each table
+            XDBSessionContext session = XDBSessionContext.createSession();
+            try {
+                session.useDB(database.getDbname(),
+                        MessageTypes.CONNECTION_MODE_NORMAL);
+                session.login(client.getCurrentUser().getLogin());
+                // Shared read lock of serializable transaction is not
+                // compatible with write locks, see LockType.isCompatible()
+                session.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+                for (Map.Entry<SysTable, HashPartitionMap> entry : newMaps.entrySet()) {
+                    rowsMoved += rebalanceTable(entry.getKey(),
+                            entry.getValue(), session);
+                }
+            } finally {
+                session.logout();
+            }
+        }
+        return ExecutionResult.createRowCountResult(
+                ExecutionResult.COMMAND_REBALANCE, (int) rowsMoved);
+    }
+
+    /**
+     * Move rows of the table and switch its partition map
+     *
+     * @return number of moved rows
+     */
+    private long rebalanceTable(SysTable table, HashPartitionMap newMap,
+            XDBSessionContext session) throws Exception {
+        logger.info("Rebalancing table " + table.getTableName() + " over "
+                + newMap.allPartitions().size() + " nodes");
+        boolean targetsCommitted = false;
+        boolean mapSwitched = false;
+        BucketMover mover = new BucketMover(table, newMap);
+        try {
+            lock(table, LockType.LOCK_SHARE_READ_INT, session);
+            mover.move();
+            // Queries must not see moved rows on both source and target
+            lock(table, LockType.LOCK_EXCLUCIVE_INT, session);
+            mover.commitTargets();
+            targetsCommitted = true;
+            SyncRebalanceTable sync = new SyncRebalanceTable(table, newMap);
+            MetaData meta = MetaData.getMetaData();
+            meta.beginTransaction();
+            try {
+                sync.execute(client);
+                meta.commitTransaction(sync);
+            } catch (Exception e) {
+                logger.catching(e);
+                meta.rollbackTransaction();
+                throw e;
+            }
+            mapSwitched = true;
+            finishSources(table, mover);
+            return mover.getRowsMoved();
+        } catch (Exception e) {
+            // Once the map is switched moved rows belong to the target
+            // nodes, rolling back the sources would duplicate them
+            if (!mapSwitched) {
+                if (targetsCommitted) {
+                    logger.error("Partition map of table "
+                            + table.getTableName()
+                            + " is not changed, but moved rows are left on target nodes");
+                }
+                mover.rollback();
+            }
+            throw e;
+        } finally {
+            mover.close();
+            synchronized (database.getScheduler()) {
+                database.getLm().notifyTransactionEnd(session);
+            }
+        }
+    }
+
+    /**
+     * Delete moved rows from the source nodes after the partition map has
+     * been switched. If commit fails on some nodes the rows which do not
+     * belong there are deleted again, a few times, before giving up.
+     *
+     * @throws XDBServerException
+     *                 if moved rows are still left on some nodes
+     */
+    private void finishSources(SysTable table, BucketMover mover)
+            throws XDBServerException {
+        List<Integer> failed = mover.commitSources();
+        for (int attempt = 0; !failed.isEmpty() && attempt < PURGE_ATTEMPTS; attempt++) {
+            List<Integer> stillFailed = new ArrayList<Integer>();
+            for (Integer nodeId : failed) {
+                try {
+                    mover.purgeSource(nodeId);
+                } catch (Exception e) {
+                    logger.catching(e);
+                    stillFailed.add(nodeId);
+                }
+            }
+            failed = stillFailed;
+        }
+        if (!failed.isEmpty()) {
+            XDBServerException ex = new XDBServerException(
+                    "Partition map of table "
+                            + IdentifierHandler.quote(table.getTableName())
+                            + " is changed, but moved rows could not be deleted from nodes "
+                            + failed + ", they have to be deleted manually");
+            logger.throwing(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Wait until the table is locked on behalf of the session
+     *
+     * @throws XDBServerException
+     *                 if deadlock is detected or the thread is interrupted
+     */
+    private void lock(SysTable table, int lockType, XDBSessionContext session)
+            throws XDBServerException {
+        LockSpecification<SysTable> lockSpecs = new LockSpecification<SysTable>();
+        lockSpecs.add(table, LockType.get(lockType, false));
+        while (!database.getLm().getLock(lockSpecs, session)) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                XDBServerException ex = new XDBServerException(
+                        "Interrupted while waiting for lock on table "
+                                + IdentifierHandler.quote(table.getTableName()));
+                logger.throwing(ex);
+                throw ex;
+            }
+        }
+    }
+}
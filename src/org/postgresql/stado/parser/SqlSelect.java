@@ -439,6 +439,17 @@ public class SqlSelect extends ObjectDepthFirst implements IXDBSql,
         }
     }
 
+    /**
+     * Whether prepared plan can be executed again with other parameter
+     * values, by a statement parsed from the same text.
+     *
+     * @return true if the plan can be reused
+     */
+    public boolean isReusable() {
+        return specialMetadataRequest == null && isPrepared()
+                && getParamCount() > 0 && aQueryTree.getIntoTableName() == null;
+    }
+
     public ColumnMetaData[] getMetaData() throws Exception {
         if (!isPrepared()) {
             prepare();
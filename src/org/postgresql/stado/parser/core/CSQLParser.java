@@ -1061,6 +1061,8 @@ public class CSQLParser implements CSQLParserConstants {
    Token n1022;
    NodeToken n1023;
    Token n1024;
+   NodeToken n1025;
+   Token n1026;
 
    {
    }
@@ -3630,6 +3632,11 @@ public class CSQLParser implements CSQLParserConstants {
                       n1023 = JTBToolkit.makeNodeToken(n1024);
         n0 = new NodeChoice(n1023, 511);
               break;
+            case REBALANCE_:
+              n1026 = jj_consume_token(REBALANCE_);
+                           n1025 = JTBToolkit.makeNodeToken(n1026);
+        n0 = new NodeChoice(n1025, 512);
+              break;
             default:
               jj_la1[2] = jj_gen;
               jj_consume_token(-1);
@@ -3913,6 +3920,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -4448,27 +4456,32 @@ public class CSQLParser implements CSQLParserConstants {
    NodeToken n259;
    Token n260;
    NodeSequence n261;
-   Unlisten n262;
+   Rebalance n262;
    NodeOptional n263 = new NodeOptional();
    NodeToken n264;
    Token n265;
    NodeSequence n266;
-   DeclareCursor n267;
+   Unlisten n267;
    NodeOptional n268 = new NodeOptional();
    NodeToken n269;
    Token n270;
    NodeSequence n271;
-   CloseCursor n272;
+   DeclareCursor n272;
    NodeOptional n273 = new NodeOptional();
    NodeToken n274;
    Token n275;
    NodeSequence n276;
-   FetchCursor n277;
+   CloseCursor n277;
    NodeOptional n278 = new NodeOptional();
    NodeToken n279;
    Token n280;
-   NodeToken n281;
-   Token n282;
+   NodeSequence n281;
+   FetchCursor n282;
+   NodeOptional n283 = new NodeOptional();
+   NodeToken n284;
+   Token n285;
+   NodeToken n286;
+   Token n287;
 
    {
    }
@@ -4508,7 +4521,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n6, 1);
       break;
     default:
-      jj_la1[60] = jj_gen;
+      jj_la1[61] = jj_gen;
       if (jj_2_4(3)) {
            n11 = new NodeSequence(3);
         n12 = createTable(prn);
@@ -4641,7 +4654,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n46, 9);
           break;
         default:
-          jj_la1[61] = jj_gen;
+          jj_la1[62] = jj_gen;
           if (jj_2_11(2147483647)) {
            n51 = new NodeSequence(3);
             n52 = UpdateTable(prn);
@@ -4678,7 +4691,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n56, 11);
               break;
             default:
-              jj_la1[62] = jj_gen;
+              jj_la1[63] = jj_gen;
               if (jj_2_12(2)) {
            n61 = new NodeSequence(3);
                 n62 = Alter(prn);
@@ -4748,7 +4761,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n76, 15);
                   break;
                 default:
-                  jj_la1[63] = jj_gen;
+                  jj_la1[64] = jj_gen;
                   if (jj_2_14(2)) {
            n81 = new NodeSequence(3);
                     n82 = ShowAgents();
@@ -4903,7 +4916,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n121, 24);
                       break;
                     default:
-                      jj_la1[64] = jj_gen;
+                      jj_la1[65] = jj_gen;
                       if (jj_2_19(2)) {
            n126 = new NodeSequence(3);
                         n127 = ShowConstraints(prn);
@@ -5072,7 +5085,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n171, 34);
                           break;
                         default:
-                          jj_la1[65] = jj_gen;
+                          jj_la1[66] = jj_gen;
                           if (jj_2_25(2)) {
            n176 = new NodeSequence(3);
                             n177 = ShowUsers(prn);
@@ -5176,7 +5189,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n201, 40);
                               break;
                             default:
-                              jj_la1[66] = jj_gen;
+                              jj_la1[67] = jj_gen;
                               if (jj_2_27(2)) {
            n206 = new NodeSequence(3);
                                 n207 = SetProperty(prn);
@@ -5364,9 +5377,9 @@ public class CSQLParser implements CSQLParserConstants {
            n256.addNode(n258);
            n0 = new NodeChoice(n256, 51);
                                   break;
-                                case UNLISTEN_:
+                                case REBALANCE_:
            n261 = new NodeSequence(2);
-                                  n262 = Unlisten(prn);
+                                  n262 = Rebalance(prn);
            n261.addNode(n262);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -5381,9 +5394,9 @@ public class CSQLParser implements CSQLParserConstants {
            n261.addNode(n263);
            n0 = new NodeChoice(n261, 52);
                                   break;
-                                case DECLARE_:
+                                case UNLISTEN_:
            n266 = new NodeSequence(2);
-                                  n267 = DeclareCursor(prn);
+                                  n267 = Unlisten(prn);
            n266.addNode(n267);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -5398,9 +5411,9 @@ public class CSQLParser implements CSQLParserConstants {
            n266.addNode(n268);
            n0 = new NodeChoice(n266, 53);
                                   break;
-                                case CLOSE_:
+                                case DECLARE_:
            n271 = new NodeSequence(2);
-                                  n272 = CloseCursor(prn);
+                                  n272 = DeclareCursor(prn);
            n271.addNode(n272);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -5415,9 +5428,9 @@ public class CSQLParser implements CSQLParserConstants {
            n271.addNode(n273);
            n0 = new NodeChoice(n271, 54);
                                   break;
-                                case FETCH_:
+                                case CLOSE_:
            n276 = new NodeSequence(2);
-                                  n277 = FetchCursor(prn);
+                                  n277 = CloseCursor(prn);
            n276.addNode(n277);
                                   switch (jj_nt.kind) {
                                   case SEMICOLON_:
@@ -5432,8 +5445,25 @@ public class CSQLParser implements CSQLParserConstants {
            n276.addNode(n278);
            n0 = new NodeChoice(n276, 55);
                                   break;
+                                case FETCH_:
+           n281 = new NodeSequence(2);
+                                  n282 = FetchCursor(prn);
+           n281.addNode(n282);
+                                  switch (jj_nt.kind) {
+                                  case SEMICOLON_:
+                                    n285 = jj_consume_token(SEMICOLON_);
+                                n284 = JTBToolkit.makeNodeToken(n285);
+              n283.addNode(n284);
+                                    break;
+                                  default:
+                                    jj_la1[60] = jj_gen;
+                                    ;
+                                  }
+           n281.addNode(n283);
+           n0 = new NodeChoice(n281, 56);
+                                  break;
                                 default:
-                                  jj_la1[67] = jj_gen;
+                                  jj_la1[68] = jj_gen;
                                   jj_consume_token(-1);
                                   throw new ParseException();
                                 }
@@ -5451,10 +5481,10 @@ public class CSQLParser implements CSQLParserConstants {
         }
       }
     }
-    n282 = jj_consume_token(0);
-      n282.beginColumn++; n282.endColumn++;
-      n281 = JTBToolkit.makeNodeToken(n282);
-     {if (true) return new process(n0,n281);}
+    n287 = jj_consume_token(0);
+      n287.beginColumn++; n287.endColumn++;
+      n286 = JTBToolkit.makeNodeToken(n287);
+     {if (true) return new process(n0,n286);}
     throw new Error("Missing return statement in function");
   }
 
@@ -5758,6 +5788,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -6029,7 +6060,7 @@ public class CSQLParser implements CSQLParserConstants {
               n5.addNode(n6);
         break;
       default:
-        jj_la1[68] = jj_gen;
+        jj_la1[69] = jj_gen;
         ;
       }
            n3.addNode(n5);
@@ -6048,7 +6079,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n7, 1);
       break;
     default:
-      jj_la1[69] = jj_gen;
+      jj_la1[70] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6070,7 +6101,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n17 = new NodeChoice(n20, 1);
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[71] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6094,7 +6125,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n25 = new NodeChoice(n28, 1);
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[72] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6102,7 +6133,7 @@ public class CSQLParser implements CSQLParserConstants {
            n13 = new NodeChoice(n22, 1);
       break;
     default:
-      jj_la1[72] = jj_gen;
+      jj_la1[73] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6122,7 +6153,7 @@ public class CSQLParser implements CSQLParserConstants {
            n32.addNode(n33);
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[74] = jj_gen;
         ;
       }
         n31.addNode(n32);
@@ -6146,7 +6177,7 @@ public class CSQLParser implements CSQLParserConstants {
               n36 = new NodeChoice(n40, 3);
           break;
         default:
-          jj_la1[74] = jj_gen;
+          jj_la1[75] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6159,7 +6190,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[75] = jj_gen;
+          jj_la1[76] = jj_gen;
           break label_1;
         }
       }
@@ -6168,7 +6199,7 @@ public class CSQLParser implements CSQLParserConstants {
         n30.addNode(n31);
       break;
     default:
-      jj_la1[76] = jj_gen;
+      jj_la1[77] = jj_gen;
       ;
     }
      {if (true) return new CopyData(n0,n2,n13,n30);}
@@ -6207,7 +6238,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[77] = jj_gen;
+      jj_la1[78] = jj_gen;
       ;
     }
     n6 = jj_consume_token(STRING_LITERAL);
@@ -6236,7 +6267,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[78] = jj_gen;
+      jj_la1[79] = jj_gen;
       ;
     }
     n6 = jj_consume_token(STRING_LITERAL);
@@ -6289,7 +6320,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[79] = jj_gen;
+        jj_la1[80] = jj_gen;
         break label_2;
       }
         n7 = new NodeOptional();
@@ -6307,7 +6338,7 @@ public class CSQLParser implements CSQLParserConstants {
               n7.addNode(n8);
           break;
         default:
-          jj_la1[80] = jj_gen;
+          jj_la1[81] = jj_gen;
           ;
         }
            n4.addNode(n7);
@@ -6328,7 +6359,7 @@ public class CSQLParser implements CSQLParserConstants {
               n15.addNode(n16);
           break;
         default:
-          jj_la1[81] = jj_gen;
+          jj_la1[82] = jj_gen;
           ;
         }
            n12.addNode(n15);
@@ -6356,7 +6387,7 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n24, 3);
         break;
       default:
-        jj_la1[82] = jj_gen;
+        jj_la1[83] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6391,15 +6422,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_3:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[83] = jj_gen;
+        jj_la1[84] = jj_gen;
         break label_3;
       }
         n5 = new NodeSequence(2);
-      n7 = jj_consume_token(781);
+      n7 = jj_consume_token(782);
                n6 = JTBToolkit.makeNodeToken(n7);
         n5.addNode(n6);
       n9 = jj_consume_token(INT_LITERAL);
@@ -6415,7 +6446,7 @@ public class CSQLParser implements CSQLParserConstants {
         n10.addNode(n11);
       break;
     default:
-      jj_la1[84] = jj_gen;
+      jj_la1[85] = jj_gen;
       ;
     }
      {if (true) return new AddNodeToDB(n0,n2,n4,n10);}
@@ -6446,15 +6477,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_4:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[86] = jj_gen;
         break label_4;
       }
         n5 = new NodeSequence(2);
-      n7 = jj_consume_token(781);
+      n7 = jj_consume_token(782);
                n6 = JTBToolkit.makeNodeToken(n7);
         n5.addNode(n6);
       n9 = jj_consume_token(INT_LITERAL);
@@ -6470,7 +6501,7 @@ public class CSQLParser implements CSQLParserConstants {
         n10.addNode(n11);
       break;
     default:
-      jj_la1[86] = jj_gen;
+      jj_la1[87] = jj_gen;
       ;
     }
      {if (true) return new DropNodeFromDB(n0,n2,n4,n10);}
@@ -6501,15 +6532,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_5:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[87] = jj_gen;
+        jj_la1[88] = jj_gen;
         break label_5;
       }
         n4 = new NodeSequence(2);
-      n6 = jj_consume_token(781);
+      n6 = jj_consume_token(782);
                n5 = JTBToolkit.makeNodeToken(n6);
         n4.addNode(n5);
       n7 = Identifier(prn);
@@ -6529,7 +6560,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[88] = jj_gen;
+      jj_la1[89] = jj_gen;
       ;
     }
      {if (true) return new StartDatabase(n0,n2,n3,n8);}
@@ -6554,15 +6585,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_6:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[89] = jj_gen;
+        jj_la1[90] = jj_gen;
         break label_6;
       }
         n4 = new NodeSequence(2);
-      n6 = jj_consume_token(781);
+      n6 = jj_consume_token(782);
                n5 = JTBToolkit.makeNodeToken(n6);
         n4.addNode(n5);
       n7 = Identifier(prn);
@@ -6592,7 +6623,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[90] = jj_gen;
+      jj_la1[91] = jj_gen;
       ;
     }
      {if (true) return new ShutdownXDB(n0,n2);}
@@ -6657,7 +6688,7 @@ public class CSQLParser implements CSQLParserConstants {
            n5.addNode(n6);
         break;
       default:
-        jj_la1[91] = jj_gen;
+        jj_la1[92] = jj_gen;
         ;
       }
         n4.addNode(n5);
@@ -6677,7 +6708,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n13.addNode(n14);
             break;
           default:
-            jj_la1[92] = jj_gen;
+            jj_la1[93] = jj_gen;
             ;
           }
               n10.addNode(n13);
@@ -6691,7 +6722,7 @@ public class CSQLParser implements CSQLParserConstants {
               n9 = new NodeChoice(n17, 1);
           break;
         default:
-          jj_la1[93] = jj_gen;
+          jj_la1[94] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6702,7 +6733,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[94] = jj_gen;
+          jj_la1[95] = jj_gen;
           break label_7;
         }
       }
@@ -6711,7 +6742,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[95] = jj_gen;
+      jj_la1[96] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -6721,7 +6752,7 @@ public class CSQLParser implements CSQLParserConstants {
         n19.addNode(n20);
       break;
     default:
-      jj_la1[96] = jj_gen;
+      jj_la1[97] = jj_gen;
       ;
     }
     n23 = jj_consume_token(ON_);
@@ -6738,7 +6769,7 @@ public class CSQLParser implements CSQLParserConstants {
            n24 = new NodeChoice(n27, 1);
       break;
     default:
-      jj_la1[97] = jj_gen;
+      jj_la1[98] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6747,15 +6778,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_8:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[98] = jj_gen;
+        jj_la1[99] = jj_gen;
         break label_8;
       }
         n32 = new NodeSequence(2);
-      n34 = jj_consume_token(781);
+      n34 = jj_consume_token(782);
                 n33 = JTBToolkit.makeNodeToken(n34);
         n32.addNode(n33);
       n36 = jj_consume_token(INT_LITERAL);
@@ -6788,7 +6819,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[99] = jj_gen;
+      jj_la1[100] = jj_gen;
       ;
     }
      {if (true) return new DropDatabase(n0,n2,n3);}
@@ -6834,7 +6865,7 @@ public class CSQLParser implements CSQLParserConstants {
            n7.addNode(n8);
         break;
       default:
-        jj_la1[100] = jj_gen;
+        jj_la1[101] = jj_gen;
         ;
       }
         n6.addNode(n7);
@@ -6854,7 +6885,7 @@ public class CSQLParser implements CSQLParserConstants {
               n11 = new NodeChoice(n14, 2);
           break;
         default:
-          jj_la1[101] = jj_gen;
+          jj_la1[102] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6866,7 +6897,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[102] = jj_gen;
+          jj_la1[103] = jj_gen;
           break label_9;
         }
       }
@@ -6875,7 +6906,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[103] = jj_gen;
+      jj_la1[104] = jj_gen;
       ;
     }
      {if (true) return new CreateNode(n0,n2,n4,n5);}
@@ -6902,7 +6933,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[104] = jj_gen;
+      jj_la1[105] = jj_gen;
       ;
     }
     n6 = jj_consume_token(INT_LITERAL);
@@ -6930,7 +6961,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[105] = jj_gen;
+      jj_la1[106] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -6957,7 +6988,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[106] = jj_gen;
+      jj_la1[107] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -7021,7 +7052,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n10 = new NodeChoice(n13, 1);
         break;
       default:
-        jj_la1[107] = jj_gen;
+        jj_la1[108] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7032,15 +7063,15 @@ public class CSQLParser implements CSQLParserConstants {
       label_10:
       while (true) {
         switch (jj_nt.kind) {
-        case 781:
+        case 782:
           ;
           break;
         default:
-          jj_la1[108] = jj_gen;
+          jj_la1[109] = jj_gen;
           break label_10;
         }
               n18 = new NodeSequence(2);
-        n20 = jj_consume_token(781);
+        n20 = jj_consume_token(782);
                       n19 = JTBToolkit.makeNodeToken(n20);
               n18.addNode(n19);
         n22 = jj_consume_token(INT_LITERAL);
@@ -7053,7 +7084,7 @@ public class CSQLParser implements CSQLParserConstants {
            n6 = new NodeChoice(n9, 1);
       break;
     default:
-      jj_la1[109] = jj_gen;
+      jj_la1[110] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7082,7 +7113,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[110] = jj_gen;
+      jj_la1[111] = jj_gen;
       ;
     }
     n5 = Select(prn);
@@ -7123,14 +7154,14 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n6, 1);
         break;
       default:
-        jj_la1[111] = jj_gen;
+        jj_la1[112] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[112] = jj_gen;
+      jj_la1[113] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -7387,6 +7418,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -7902,6 +7934,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LOCALTIME_:
       case MONTHNAME_:
       case QPUBLICDOT_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -8172,14 +8205,14 @@ public class CSQLParser implements CSQLParserConstants {
            n9 = new NodeChoice(n11, 1);
         break;
       default:
-        jj_la1[113] = jj_gen;
+        jj_la1[114] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n8.addNode(n9);
       break;
     default:
-      jj_la1[114] = jj_gen;
+      jj_la1[115] = jj_gen;
       ;
     }
      {if (true) return new VacuumDatabase(n0,n2,n8);}
@@ -8457,6 +8490,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -8737,14 +8771,14 @@ public class CSQLParser implements CSQLParserConstants {
            n5.addNode(n6);
         break;
       default:
-        jj_la1[115] = jj_gen;
+        jj_la1[116] = jj_gen;
         ;
       }
         n3.addNode(n5);
         n2.addNode(n3);
       break;
     default:
-      jj_la1[116] = jj_gen;
+      jj_la1[117] = jj_gen;
       ;
     }
      {if (true) return new AnalyzeDatabase(n0,n2);}
@@ -8775,15 +8809,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_11:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[117] = jj_gen;
+        jj_la1[118] = jj_gen;
         break label_11;
       }
         n7 = new NodeSequence(2);
-      n9 = jj_consume_token(781);
+      n9 = jj_consume_token(782);
                n8 = JTBToolkit.makeNodeToken(n9);
         n7.addNode(n8);
       n10 = TablespaceLocation(prn);
@@ -8865,7 +8899,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n9 = new NodeChoice(n12, 1);
         break;
       default:
-        jj_la1[118] = jj_gen;
+        jj_la1[119] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8881,7 +8915,7 @@ public class CSQLParser implements CSQLParserConstants {
           break label_12;
         }
               n17 = new NodeSequence(2);
-        n19 = jj_consume_token(781);
+        n19 = jj_consume_token(782);
                       n18 = JTBToolkit.makeNodeToken(n19);
               n17.addNode(n18);
         n21 = jj_consume_token(INT_LITERAL);
@@ -8894,7 +8928,7 @@ public class CSQLParser implements CSQLParserConstants {
            n5 = new NodeChoice(n8, 1);
       break;
     default:
-      jj_la1[119] = jj_gen;
+      jj_la1[120] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8967,7 +9001,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n6 = new NodeChoice(n14, 1);
           break;
         default:
-          jj_la1[120] = jj_gen;
+          jj_la1[121] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9232,6 +9266,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -9503,7 +9538,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n24, 2);
       break;
     default:
-      jj_la1[121] = jj_gen;
+      jj_la1[122] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9565,7 +9600,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[122] = jj_gen;
+      jj_la1[123] = jj_gen;
       ;
     }
      {if (true) return new DropIndex(n0,n2,n4,n5);}
@@ -9593,7 +9628,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n4, 1);
       break;
     default:
-      jj_la1[123] = jj_gen;
+      jj_la1[124] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9645,15 +9680,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_13:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[124] = jj_gen;
+        jj_la1[125] = jj_gen;
         break label_13;
       }
         n5 = new NodeSequence(2);
-      n7 = jj_consume_token(781);
+      n7 = jj_consume_token(782);
                n6 = JTBToolkit.makeNodeToken(n7);
         n5.addNode(n6);
       n8 = AlterTableActon(prn);
@@ -9709,7 +9744,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n7, 6);
       break;
     default:
-      jj_la1[125] = jj_gen;
+      jj_la1[126] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9734,7 +9769,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[126] = jj_gen;
+      jj_la1[127] = jj_gen;
       ;
     }
     n4 = jj_consume_token(INHERIT_);
@@ -10045,6 +10080,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -10325,14 +10361,14 @@ public class CSQLParser implements CSQLParserConstants {
                  n6 = new NodeChoice(n9, 1);
           break;
         default:
-          jj_la1[127] = jj_gen;
+          jj_la1[128] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
               n5.addNode(n6);
         break;
       default:
-        jj_la1[128] = jj_gen;
+        jj_la1[129] = jj_gen;
         ;
       }
            n3.addNode(n5);
@@ -10591,6 +10627,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -10872,7 +10909,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n11 = new NodeChoice(n19, 4);
         break;
       default:
-        jj_la1[129] = jj_gen;
+        jj_la1[130] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10892,7 +10929,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n21, 1);
       break;
     default:
-      jj_la1[130] = jj_gen;
+      jj_la1[131] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -10935,7 +10972,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n7, 3);
       break;
     default:
-      jj_la1[131] = jj_gen;
+      jj_la1[132] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -10975,7 +11012,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n7, 2);
       break;
     default:
-      jj_la1[132] = jj_gen;
+      jj_la1[133] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11250,6 +11287,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -11516,7 +11554,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n5, 1);
       break;
     default:
-      jj_la1[133] = jj_gen;
+      jj_la1[134] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -11818,6 +11856,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -12088,7 +12127,7 @@ public class CSQLParser implements CSQLParserConstants {
               n4.addNode(n5);
         break;
       default:
-        jj_la1[134] = jj_gen;
+        jj_la1[135] = jj_gen;
         ;
       }
            n3.addNode(n4);
@@ -12113,14 +12152,14 @@ public class CSQLParser implements CSQLParserConstants {
                  n9 = new NodeChoice(n12, 1);
           break;
         default:
-          jj_la1[135] = jj_gen;
+          jj_la1[136] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
               n8.addNode(n9);
         break;
       default:
-        jj_la1[136] = jj_gen;
+        jj_la1[137] = jj_gen;
         ;
       }
            n3.addNode(n8);
@@ -12137,7 +12176,7 @@ public class CSQLParser implements CSQLParserConstants {
               n17.addNode(n18);
         break;
       default:
-        jj_la1[137] = jj_gen;
+        jj_la1[138] = jj_gen;
         ;
       }
            n16.addNode(n17);
@@ -12155,7 +12194,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n19 = new NodeChoice(n22, 2);
         break;
       default:
-        jj_la1[138] = jj_gen;
+        jj_la1[139] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12163,7 +12202,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n16, 1);
       break;
     default:
-      jj_la1[139] = jj_gen;
+      jj_la1[140] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12439,6 +12478,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -12709,7 +12749,7 @@ public class CSQLParser implements CSQLParserConstants {
               n4.addNode(n5);
         break;
       default:
-        jj_la1[140] = jj_gen;
+        jj_la1[141] = jj_gen;
         ;
       }
            n3.addNode(n4);
@@ -12727,7 +12767,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n9, 2);
       break;
     default:
-      jj_la1[141] = jj_gen;
+      jj_la1[142] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12757,7 +12797,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[142] = jj_gen;
+      jj_la1[143] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -12793,7 +12833,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[143] = jj_gen;
+      jj_la1[144] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12804,7 +12844,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[144] = jj_gen;
+      jj_la1[145] = jj_gen;
       ;
     }
     n8 = AlterDefOperation(prn);
@@ -12836,7 +12876,7 @@ public class CSQLParser implements CSQLParserConstants {
            n1 = new NodeChoice(n4, 2);
       break;
     default:
-      jj_la1[145] = jj_gen;
+      jj_la1[146] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -12917,7 +12957,7 @@ public class CSQLParser implements CSQLParserConstants {
               n7 = new NodeChoice(n20, 6);
         break;
       default:
-        jj_la1[146] = jj_gen;
+        jj_la1[147] = jj_gen;
         if (jj_2_31(2)) {
           n22 = IntervalLiterals(prn);
               n7 = new NodeChoice(n22, 7);
@@ -12930,7 +12970,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[147] = jj_gen;
+      jj_la1[148] = jj_gen;
       ;
     }
      {if (true) return new AlterDefOperationType(n0,n2,n3);}
@@ -12990,7 +13030,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n14, 3);
       break;
     default:
-      jj_la1[148] = jj_gen;
+      jj_la1[149] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13031,7 +13071,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n5, 1);
       break;
     default:
-      jj_la1[149] = jj_gen;
+      jj_la1[150] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -13061,7 +13101,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[150] = jj_gen;
+      jj_la1[151] = jj_gen;
       ;
     }
      {if (true) return new Delete(n0,n2,n4,n5);}
@@ -13094,15 +13134,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_14:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[152] = jj_gen;
         break label_14;
       }
         n7 = new NodeSequence(2);
-      n9 = jj_consume_token(781);
+      n9 = jj_consume_token(782);
                n8 = JTBToolkit.makeNodeToken(n9);
         n7.addNode(n8);
       n10 = SetUpdateClause(prn);
@@ -13116,7 +13156,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[152] = jj_gen;
+      jj_la1[153] = jj_gen;
       ;
     }
      {if (true) return new UpdateTable(n0,n2,n3,n5,n6,n11);}
@@ -13140,7 +13180,7 @@ public class CSQLParser implements CSQLParserConstants {
         n1 = new NodeSequence(2);
       n2 = TableName(prn);
         n1.addNode(n2);
-      n4 = jj_consume_token(782);
+      n4 = jj_consume_token(783);
                n3 = JTBToolkit.makeNodeToken(n4);
         n1.addNode(n3);
         n0.addNode(n1);
@@ -13193,7 +13233,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[153] = jj_gen;
+      jj_la1[154] = jj_gen;
       ;
     }
     n6 = jj_consume_token(INDEX_);
@@ -13213,7 +13253,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[154] = jj_gen;
+      jj_la1[155] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_START_);
@@ -13227,7 +13267,7 @@ public class CSQLParser implements CSQLParserConstants {
         n21.addNode(n22);
       break;
     default:
-      jj_la1[155] = jj_gen;
+      jj_la1[156] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -13236,7 +13276,7 @@ public class CSQLParser implements CSQLParserConstants {
         n23.addNode(n24);
       break;
     default:
-      jj_la1[156] = jj_gen;
+      jj_la1[157] = jj_gen;
       ;
     }
      {if (true) return new createIndex(n0,n2,n5,n7,n8,n10,n11,n16,n18,n19,n21,n23);}
@@ -13531,6 +13571,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -13809,7 +13850,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[157] = jj_gen;
+      jj_la1[158] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -14065,6 +14106,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -14587,6 +14629,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -14853,29 +14896,29 @@ public class CSQLParser implements CSQLParserConstants {
            n9 = new NodeChoice(n14, 2);
         break;
       default:
-        jj_la1[158] = jj_gen;
+        jj_la1[159] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n8.addNode(n9);
       break;
     default:
-      jj_la1[159] = jj_gen;
+      jj_la1[160] = jj_gen;
       ;
     }
     label_15:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[160] = jj_gen;
+        jj_la1[161] = jj_gen;
         break label_15;
       }
         n27 = new NodeOptional();
         n16 = new NodeSequence(3);
-      n18 = jj_consume_token(781);
+      n18 = jj_consume_token(782);
                 n17 = JTBToolkit.makeNodeToken(n18);
         n16.addNode(n17);
       switch (jj_nt.kind) {
@@ -15128,6 +15171,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -15406,7 +15450,7 @@ public class CSQLParser implements CSQLParserConstants {
               n19 = new NodeChoice(n21, 1);
         break;
       default:
-        jj_la1[161] = jj_gen;
+        jj_la1[162] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -15663,6 +15707,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -16185,6 +16230,7 @@ public class CSQLParser implements CSQLParserConstants {
         case LINEMERGE_:
         case LOCALTIME_:
         case MONTHNAME_:
+        case REBALANCE_:
         case REGR_AVGX_:
         case REGR_AVGY_:
         case ST_AFFINE_:
@@ -16451,14 +16497,14 @@ public class CSQLParser implements CSQLParserConstants {
               n28 = new NodeChoice(n33, 2);
           break;
         default:
-          jj_la1[162] = jj_gen;
+          jj_la1[163] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
            n27.addNode(n28);
         break;
       default:
-        jj_la1[163] = jj_gen;
+        jj_la1[164] = jj_gen;
         ;
       }
         n16.addNode(n27);
@@ -16556,14 +16602,14 @@ public class CSQLParser implements CSQLParserConstants {
               n5 = new NodeChoice(n8, 1);
           break;
         default:
-          jj_la1[164] = jj_gen;
+          jj_la1[165] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
            n4.addNode(n5);
         break;
       default:
-        jj_la1[165] = jj_gen;
+        jj_la1[166] = jj_gen;
         ;
       }
         n3.addNode(n4);
@@ -16579,7 +16625,7 @@ public class CSQLParser implements CSQLParserConstants {
               n10 = new NodeChoice(n13, 1);
         break;
       default:
-        jj_la1[166] = jj_gen;
+        jj_la1[167] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16587,7 +16633,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[167] = jj_gen;
+      jj_la1[168] = jj_gen;
       ;
     }
     n16 = jj_consume_token(TABLE_);
@@ -16603,15 +16649,15 @@ public class CSQLParser implements CSQLParserConstants {
       label_16:
       while (true) {
         switch (jj_nt.kind) {
-        case 781:
+        case 782:
           ;
           break;
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[169] = jj_gen;
           break label_16;
         }
               n24 = new NodeSequence(2);
-        n26 = jj_consume_token(781);
+        n26 = jj_consume_token(782);
                       n25 = JTBToolkit.makeNodeToken(n26);
               n24.addNode(n25);
         n27 = CreateDefinition(prn);
@@ -16633,7 +16679,7 @@ public class CSQLParser implements CSQLParserConstants {
               n30.addNode(n31);
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[170] = jj_gen;
         ;
       }
            n19.addNode(n30);
@@ -16643,7 +16689,7 @@ public class CSQLParser implements CSQLParserConstants {
               n32.addNode(n33);
         break;
       default:
-        jj_la1[170] = jj_gen;
+        jj_la1[171] = jj_gen;
         ;
       }
            n19.addNode(n32);
@@ -16654,7 +16700,7 @@ public class CSQLParser implements CSQLParserConstants {
               n34.addNode(n35);
         break;
       default:
-        jj_la1[171] = jj_gen;
+        jj_la1[172] = jj_gen;
         ;
       }
            n19.addNode(n34);
@@ -16664,7 +16710,7 @@ public class CSQLParser implements CSQLParserConstants {
               n36.addNode(n37);
         break;
       default:
-        jj_la1[172] = jj_gen;
+        jj_la1[173] = jj_gen;
         ;
       }
            n19.addNode(n36);
@@ -16674,7 +16720,7 @@ public class CSQLParser implements CSQLParserConstants {
               n38.addNode(n39);
         break;
       default:
-        jj_la1[173] = jj_gen;
+        jj_la1[174] = jj_gen;
         ;
       }
            n19.addNode(n38);
@@ -16695,7 +16741,7 @@ public class CSQLParser implements CSQLParserConstants {
               n41.addNode(n42);
         break;
       default:
-        jj_la1[174] = jj_gen;
+        jj_la1[175] = jj_gen;
         ;
       }
            n40.addNode(n41);
@@ -16709,7 +16755,7 @@ public class CSQLParser implements CSQLParserConstants {
               n48.addNode(n49);
         break;
       default:
-        jj_la1[175] = jj_gen;
+        jj_la1[176] = jj_gen;
         ;
       }
            n40.addNode(n48);
@@ -16720,7 +16766,7 @@ public class CSQLParser implements CSQLParserConstants {
               n50.addNode(n51);
         break;
       default:
-        jj_la1[176] = jj_gen;
+        jj_la1[177] = jj_gen;
         ;
       }
            n40.addNode(n50);
@@ -16730,7 +16776,7 @@ public class CSQLParser implements CSQLParserConstants {
               n52.addNode(n53);
         break;
       default:
-        jj_la1[177] = jj_gen;
+        jj_la1[178] = jj_gen;
         ;
       }
            n40.addNode(n52);
@@ -16740,7 +16786,7 @@ public class CSQLParser implements CSQLParserConstants {
               n54.addNode(n55);
         break;
       default:
-        jj_la1[178] = jj_gen;
+        jj_la1[179] = jj_gen;
         ;
       }
            n40.addNode(n54);
@@ -16790,7 +16836,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n7, 2);
       break;
     default:
-      jj_la1[179] = jj_gen;
+      jj_la1[180] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16819,7 +16865,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[180] = jj_gen;
+      jj_la1[181] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16865,15 +16911,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_17:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[181] = jj_gen;
+        jj_la1[182] = jj_gen;
         break label_17;
       }
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = TableName(prn);
@@ -16916,7 +16962,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[182] = jj_gen;
+      jj_la1[183] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -16929,7 +16975,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[183] = jj_gen;
+      jj_la1[184] = jj_gen;
       ;
     }
     n11 = jj_consume_token(AS_);
@@ -16997,15 +17043,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_18:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[184] = jj_gen;
+        jj_la1[185] = jj_gen;
         break label_18;
       }
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = TableName(prn);
@@ -17053,7 +17099,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[185] = jj_gen;
+      jj_la1[186] = jj_gen;
       ;
     }
     n5 = TableName(prn);
@@ -17093,7 +17139,7 @@ public class CSQLParser implements CSQLParserConstants {
            n13 = new NodeChoice(n22, 1);
       break;
     default:
-      jj_la1[186] = jj_gen;
+      jj_la1[187] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17429,6 +17475,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -17705,7 +17752,7 @@ public class CSQLParser implements CSQLParserConstants {
            n3.addNode(n4);
         break;
       default:
-        jj_la1[187] = jj_gen;
+        jj_la1[188] = jj_gen;
         ;
       }
         n2.addNode(n3);
@@ -17723,7 +17770,7 @@ public class CSQLParser implements CSQLParserConstants {
               n5 = new NodeChoice(n8, 2);
         break;
       default:
-        jj_la1[188] = jj_gen;
+        jj_la1[189] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17731,7 +17778,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[189] = jj_gen;
+      jj_la1[190] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -17790,14 +17837,14 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n9, 1);
         break;
       default:
-        jj_la1[190] = jj_gen;
+        jj_la1[191] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[191] = jj_gen;
+      jj_la1[192] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -17806,7 +17853,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[192] = jj_gen;
+      jj_la1[193] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -17816,7 +17863,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[193] = jj_gen;
+      jj_la1[194] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -17836,7 +17883,7 @@ public class CSQLParser implements CSQLParserConstants {
         n16.addNode(n17);
       break;
     default:
-      jj_la1[194] = jj_gen;
+      jj_la1[195] = jj_gen;
       ;
     }
      {if (true) return new ColumnDeclare(n0,n1,n2,n11,n13,n16);}
@@ -18187,6 +18234,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -18453,7 +18501,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4.addNode(n5);
         break;
       default:
-        jj_la1[195] = jj_gen;
+        jj_la1[196] = jj_gen;
         ;
       }
         n1.addNode(n4);
@@ -18496,7 +18544,7 @@ public class CSQLParser implements CSQLParserConstants {
               n19 = new NodeChoice(n22, 1);
         break;
       default:
-        jj_la1[196] = jj_gen;
+        jj_la1[197] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18519,7 +18567,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n26, 4);
       break;
     default:
-      jj_la1[197] = jj_gen;
+      jj_la1[198] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -18562,7 +18610,7 @@ public class CSQLParser implements CSQLParserConstants {
               n4 = new NodeChoice(n7, 1);
         break;
       default:
-        jj_la1[198] = jj_gen;
+        jj_la1[199] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18572,7 +18620,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[199] = jj_gen;
+      jj_la1[200] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -18597,7 +18645,7 @@ public class CSQLParser implements CSQLParserConstants {
     label_19:
     while (true) {
         n3 = new NodeSequence(2);
-      n5 = jj_consume_token(781);
+      n5 = jj_consume_token(782);
                n4 = JTBToolkit.makeNodeToken(n5);
         n3.addNode(n4);
       n7 = jj_consume_token(INT_LITERAL);
@@ -18665,7 +18713,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[200] = jj_gen;
+      jj_la1[201] = jj_gen;
       if (jj_2_37(2)) {
         n3 = RealDataType();
         n0 = new NodeChoice(n3, 2);
@@ -18681,7 +18729,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 4);
           break;
         default:
-          jj_la1[201] = jj_gen;
+          jj_la1[202] = jj_gen;
           if (jj_2_38(2)) {
             n6 = DecimalDataType();
         n0 = new NodeChoice(n6, 5);
@@ -18813,7 +18861,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n31, 30);
               break;
             default:
-              jj_la1[202] = jj_gen;
+              jj_la1[203] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -18888,7 +18936,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n15, 7);
       break;
     default:
-      jj_la1[203] = jj_gen;
+      jj_la1[204] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -18988,7 +19036,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n13, 6);
       break;
     default:
-      jj_la1[204] = jj_gen;
+      jj_la1[205] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19059,7 +19107,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n15, 7);
       break;
     default:
-      jj_la1[205] = jj_gen;
+      jj_la1[206] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19083,7 +19131,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[206] = jj_gen;
+      jj_la1[207] = jj_gen;
       ;
     }
      {if (true) return new BitDataType(n0,n2);}
@@ -19106,7 +19154,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[207] = jj_gen;
+      jj_la1[208] = jj_gen;
       ;
     }
      {if (true) return new VarBitDataType(n0,n2);}
@@ -19254,7 +19302,7 @@ public class CSQLParser implements CSQLParserConstants {
               n2 = new NodeChoice(n5, 1);
         break;
       default:
-        jj_la1[208] = jj_gen;
+        jj_la1[209] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19266,7 +19314,7 @@ public class CSQLParser implements CSQLParserConstants {
            n7.addNode(n8);
         break;
       default:
-        jj_la1[209] = jj_gen;
+        jj_la1[210] = jj_gen;
         ;
       }
         n1.addNode(n7);
@@ -19280,7 +19328,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n11, 1);
       break;
     default:
-      jj_la1[210] = jj_gen;
+      jj_la1[211] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19320,7 +19368,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[211] = jj_gen;
+      jj_la1[212] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19331,7 +19379,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
       break;
     default:
-      jj_la1[212] = jj_gen;
+      jj_la1[213] = jj_gen;
       ;
     }
     n10 = UnsignedZeroFillSpecs();
@@ -19392,7 +19440,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[213] = jj_gen;
+      jj_la1[214] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19433,7 +19481,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[214] = jj_gen;
+      jj_la1[215] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19444,7 +19492,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
       break;
     default:
-      jj_la1[215] = jj_gen;
+      jj_la1[216] = jj_gen;
       ;
     }
     n10 = UnsignedZeroFillSpecs();
@@ -19469,7 +19517,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[216] = jj_gen;
+      jj_la1[217] = jj_gen;
       ;
     }
     n4 = UnsignedZeroFillSpecs();
@@ -19509,7 +19557,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4.addNode(n5);
         break;
       default:
-        jj_la1[217] = jj_gen;
+        jj_la1[218] = jj_gen;
         ;
       }
         n1.addNode(n4);
@@ -19526,7 +19574,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n7 = new NodeChoice(n10, 1);
           break;
         default:
-          jj_la1[218] = jj_gen;
+          jj_la1[219] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -19548,7 +19596,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n14, 2);
       break;
     default:
-      jj_la1[219] = jj_gen;
+      jj_la1[220] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19578,7 +19626,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[220] = jj_gen;
+      jj_la1[221] = jj_gen;
       ;
     }
     if (jj_2_41(2)) {
@@ -19594,7 +19642,7 @@ public class CSQLParser implements CSQLParserConstants {
               n5 = new NodeChoice(n8, 1);
         break;
       default:
-        jj_la1[221] = jj_gen;
+        jj_la1[222] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19649,7 +19697,7 @@ public class CSQLParser implements CSQLParserConstants {
               n2 = new NodeChoice(n5, 1);
         break;
       default:
-        jj_la1[222] = jj_gen;
+        jj_la1[223] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19660,7 +19708,7 @@ public class CSQLParser implements CSQLParserConstants {
            n7.addNode(n8);
         break;
       default:
-        jj_la1[223] = jj_gen;
+        jj_la1[224] = jj_gen;
         ;
       }
         n1.addNode(n7);
@@ -19672,7 +19720,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n9, 1);
       break;
     default:
-      jj_la1[224] = jj_gen;
+      jj_la1[225] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19714,7 +19762,7 @@ public class CSQLParser implements CSQLParserConstants {
               n2 = new NodeChoice(n5, 1);
         break;
       default:
-        jj_la1[225] = jj_gen;
+        jj_la1[226] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19725,7 +19773,7 @@ public class CSQLParser implements CSQLParserConstants {
            n7.addNode(n8);
         break;
       default:
-        jj_la1[226] = jj_gen;
+        jj_la1[227] = jj_gen;
         ;
       }
         n1.addNode(n7);
@@ -19750,7 +19798,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n14, 3);
         break;
       default:
-        jj_la1[227] = jj_gen;
+        jj_la1[228] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19783,7 +19831,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[228] = jj_gen;
+      jj_la1[229] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19793,7 +19841,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[229] = jj_gen;
+      jj_la1[230] = jj_gen;
       ;
     }
     n7 = UnsignedZeroFillSpecs();
@@ -19860,7 +19908,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n6 = new NodeChoice(n9, 1);
         break;
       default:
-        jj_la1[230] = jj_gen;
+        jj_la1[231] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19868,7 +19916,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[231] = jj_gen;
+      jj_la1[232] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19885,7 +19933,7 @@ public class CSQLParser implements CSQLParserConstants {
         n14.addNode(n15);
       break;
     default:
-      jj_la1[232] = jj_gen;
+      jj_la1[233] = jj_gen;
       ;
     }
      {if (true) return new NationalCharDataType(n0,n11,n14);}
@@ -19913,7 +19961,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[233] = jj_gen;
+      jj_la1[234] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19947,7 +19995,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[234] = jj_gen;
+      jj_la1[235] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -19964,7 +20012,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[235] = jj_gen;
+      jj_la1[236] = jj_gen;
       ;
     }
      {if (true) return new CharachterDataType(n0,n5,n8);}
@@ -20008,7 +20056,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[236] = jj_gen;
+      jj_la1[237] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20018,7 +20066,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[237] = jj_gen;
+      jj_la1[238] = jj_gen;
       ;
     }
      {if (true) return new UnsignedZeroFillSpecs(n0,n3);}
@@ -20046,9 +20094,9 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(INT_LITERAL);
                       n2 = JTBToolkit.makeNodeToken(n3);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n5 = new NodeSequence(2);
-      n7 = jj_consume_token(781);
+      n7 = jj_consume_token(782);
                n6 = JTBToolkit.makeNodeToken(n7);
         n5.addNode(n6);
       n9 = jj_consume_token(INT_LITERAL);
@@ -20057,7 +20105,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[238] = jj_gen;
+      jj_la1[239] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -20108,21 +20156,21 @@ public class CSQLParser implements CSQLParserConstants {
     n5 = jj_consume_token(PARENTHESIS_START_);
                              n4 = JTBToolkit.makeNodeToken(n5);
     n6 = SQLArgument(prn);
-    n8 = jj_consume_token(781);
+    n8 = jj_consume_token(782);
             n7 = JTBToolkit.makeNodeToken(n8);
     n9 = SQLArgument(prn);
-    n11 = jj_consume_token(781);
+    n11 = jj_consume_token(782);
              n10 = JTBToolkit.makeNodeToken(n11);
     n12 = SQLArgument(prn);
-    n14 = jj_consume_token(781);
+    n14 = jj_consume_token(782);
              n13 = JTBToolkit.makeNodeToken(n14);
     n15 = SQLArgument(prn);
-    n17 = jj_consume_token(781);
+    n17 = jj_consume_token(782);
              n16 = JTBToolkit.makeNodeToken(n17);
     n18 = SQLArgument(prn);
     if (jj_2_45(3)) {
         n20 = new NodeSequence(2);
-      n22 = jj_consume_token(781);
+      n22 = jj_consume_token(782);
                 n21 = JTBToolkit.makeNodeToken(n22);
         n20.addNode(n21);
       n23 = SQLArgument(prn);
@@ -20132,9 +20180,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n25 = new NodeSequence(2);
-      n27 = jj_consume_token(781);
+      n27 = jj_consume_token(782);
                 n26 = JTBToolkit.makeNodeToken(n27);
         n25.addNode(n26);
       n28 = SQLArgument(prn);
@@ -20142,7 +20190,7 @@ public class CSQLParser implements CSQLParserConstants {
         n24.addNode(n25);
       break;
     default:
-      jj_la1[239] = jj_gen;
+      jj_la1[240] = jj_gen;
       ;
     }
     n30 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -20179,7 +20227,7 @@ public class CSQLParser implements CSQLParserConstants {
         n1.addNode(n2);
       break;
     default:
-      jj_la1[240] = jj_gen;
+      jj_la1[241] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20188,7 +20236,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[241] = jj_gen;
+      jj_la1[242] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20197,7 +20245,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[242] = jj_gen;
+      jj_la1[243] = jj_gen;
       ;
     }
      {if (true) return new Select(n0,n1,n3,n5);}
@@ -20237,7 +20285,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[243] = jj_gen;
+        jj_la1[244] = jj_gen;
         break label_20;
       }
         n5 = new NodeOptional();
@@ -20252,7 +20300,7 @@ public class CSQLParser implements CSQLParserConstants {
            n5.addNode(n6);
         break;
       default:
-        jj_la1[244] = jj_gen;
+        jj_la1[245] = jj_gen;
         ;
       }
         n2.addNode(n5);
@@ -20266,7 +20314,7 @@ public class CSQLParser implements CSQLParserConstants {
               n8 = new NodeChoice(n10, 1);
         break;
       default:
-        jj_la1[245] = jj_gen;
+        jj_la1[246] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -20308,7 +20356,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n2, 1);
       break;
     default:
-      jj_la1[246] = jj_gen;
+      jj_la1[247] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -20382,14 +20430,14 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n8, 2);
         break;
       default:
-        jj_la1[247] = jj_gen;
+        jj_la1[248] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[248] = jj_gen;
+      jj_la1[249] = jj_gen;
       ;
     }
     n10 = SelectList(prn);
@@ -20399,7 +20447,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[249] = jj_gen;
+      jj_la1[250] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20408,7 +20456,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[250] = jj_gen;
+      jj_la1[251] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20417,7 +20465,7 @@ public class CSQLParser implements CSQLParserConstants {
         n15.addNode(n16);
       break;
     default:
-      jj_la1[251] = jj_gen;
+      jj_la1[252] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20426,7 +20474,7 @@ public class CSQLParser implements CSQLParserConstants {
         n17.addNode(n18);
       break;
     default:
-      jj_la1[252] = jj_gen;
+      jj_la1[253] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -20435,7 +20483,7 @@ public class CSQLParser implements CSQLParserConstants {
         n19.addNode(n20);
       break;
     default:
-      jj_la1[253] = jj_gen;
+      jj_la1[254] = jj_gen;
       ;
     }
      {if (true) return new SelectWithoutOrderAndSet(n0,n2,n10,n11,n13,n15,n17,n19);}
@@ -20456,15 +20504,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_21:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[254] = jj_gen;
+        jj_la1[255] = jj_gen;
         break label_21;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = SelectTupleSpec(prn);
@@ -20500,12 +20548,12 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n1, 0);
       break;
     default:
-      jj_la1[255] = jj_gen;
+      jj_la1[256] = jj_gen;
       if (jj_2_47(2147483647)) {
            n3 = new NodeSequence(4);
         n4 = TableName(prn);
            n3.addNode(n4);
-        n6 = jj_consume_token(782);
+        n6 = jj_consume_token(783);
                   n5 = JTBToolkit.makeNodeToken(n6);
            n3.addNode(n5);
         n8 = jj_consume_token(STAR_);
@@ -20786,6 +20834,7 @@ public class CSQLParser implements CSQLParserConstants {
         case LOCALTIME_:
         case MONTHNAME_:
         case QPUBLICDOT_:
+        case REBALANCE_:
         case REGR_AVGX_:
         case REGR_AVGY_:
         case ST_AFFINE_:
@@ -21077,7 +21126,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n9, 2);
           break;
         default:
-          jj_la1[256] = jj_gen;
+          jj_la1[257] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21274,7 +21323,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n37, 18);
       break;
     default:
-      jj_la1[257] = jj_gen;
+      jj_la1[258] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -21335,7 +21384,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[258] = jj_gen;
+      jj_la1[259] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -21432,7 +21481,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n19, 9);
       break;
     default:
-      jj_la1[259] = jj_gen;
+      jj_la1[260] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -21530,14 +21579,14 @@ public class CSQLParser implements CSQLParserConstants {
            n1 = new NodeChoice(n10, 4);
         break;
       default:
-        jj_la1[260] = jj_gen;
+        jj_la1[261] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n0.addNode(n1);
       break;
     default:
-      jj_la1[261] = jj_gen;
+      jj_la1[262] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -21555,14 +21604,14 @@ public class CSQLParser implements CSQLParserConstants {
            n13 = new NodeChoice(n16, 1);
         break;
       default:
-        jj_la1[262] = jj_gen;
+        jj_la1[263] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n12.addNode(n13);
       break;
     default:
-      jj_la1[263] = jj_gen;
+      jj_la1[264] = jj_gen;
       ;
     }
     if (jj_2_51(2)) {
@@ -21583,7 +21632,7 @@ public class CSQLParser implements CSQLParserConstants {
            n18 = new NodeChoice(n22, 3);
         break;
       default:
-        jj_la1[264] = jj_gen;
+        jj_la1[265] = jj_gen;
         if (jj_2_54(2)) {
            n23 = new NodeSequence(4);
           n25 = jj_consume_token(PARENTHESIS_START_);
@@ -21611,7 +21660,7 @@ public class CSQLParser implements CSQLParserConstants {
            n18 = new NodeChoice(n31, 7);
             break;
           default:
-            jj_la1[265] = jj_gen;
+            jj_la1[266] = jj_gen;
             if (jj_2_55(2)) {
               n32 = IntervalLiterals(prn);
            n18 = new NodeChoice(n32, 8);
@@ -21660,7 +21709,7 @@ public class CSQLParser implements CSQLParserConstants {
            n18 = new NodeChoice(n43, 19);
                 break;
               default:
-                jj_la1[266] = jj_gen;
+                jj_la1[267] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -21676,13 +21725,13 @@ public class CSQLParser implements CSQLParserConstants {
         n44.addNode(n45);
       break;
     default:
-      jj_la1[267] = jj_gen;
+      jj_la1[268] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
-    case 783:
+    case 784:
         n48 = new NodeSequence(2);
-      n50 = jj_consume_token(783);
+      n50 = jj_consume_token(784);
                  n49 = JTBToolkit.makeNodeToken(n50);
         n48.addNode(n49);
       n51 = types();
@@ -21690,7 +21739,7 @@ public class CSQLParser implements CSQLParserConstants {
         n47.addNode(n48);
       break;
     default:
-      jj_la1[268] = jj_gen;
+      jj_la1[269] = jj_gen;
       ;
     }
      {if (true) return new SQLPrimaryExpression(n0,n12,n18,n44,n47);}
@@ -21717,7 +21766,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[269] = jj_gen;
+      jj_la1[270] = jj_gen;
       ;
     }
     n6 = jj_consume_token(NULL_);
@@ -21746,7 +21795,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[270] = jj_gen;
+      jj_la1[271] = jj_gen;
       ;
     }
     n6 = jj_consume_token(BINARY_LITERAL);
@@ -21860,7 +21909,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[271] = jj_gen;
+      jj_la1[272] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -21994,14 +22043,14 @@ public class CSQLParser implements CSQLParserConstants {
            n5 = new NodeChoice(n8, 1);
         break;
       default:
-        jj_la1[272] = jj_gen;
+        jj_la1[273] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n4.addNode(n5);
       break;
     default:
-      jj_la1[273] = jj_gen;
+      jj_la1[274] = jj_gen;
       ;
     }
     n10 = SelectList(prn);
@@ -22011,7 +22060,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[274] = jj_gen;
+      jj_la1[275] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -22020,7 +22069,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[275] = jj_gen;
+      jj_la1[276] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -22029,7 +22078,7 @@ public class CSQLParser implements CSQLParserConstants {
         n15.addNode(n16);
       break;
     default:
-      jj_la1[276] = jj_gen;
+      jj_la1[277] = jj_gen;
       ;
     }
     n18 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -22052,15 +22101,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_25:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[277] = jj_gen;
+        jj_la1[278] = jj_gen;
         break label_25;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = SQLArgument(prn);
@@ -23566,7 +23615,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23594,7 +23643,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23625,9 +23674,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -23635,7 +23684,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[278] = jj_gen;
+      jj_la1[279] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23670,7 +23719,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[279] = jj_gen;
+      jj_la1[280] = jj_gen;
       ;
     }
      {if (true) return new Func_ClockTimeStamp(n0,n2);}
@@ -23703,7 +23752,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[280] = jj_gen;
+      jj_la1[281] = jj_gen;
       ;
     }
      {if (true) return new Func_StatementTimeStamp(n0,n2);}
@@ -23736,7 +23785,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[281] = jj_gen;
+      jj_la1[282] = jj_gen;
       ;
     }
      {if (true) return new Func_TransactionTimeStamp(n0,n2);}
@@ -23762,7 +23811,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23793,10 +23842,10 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23827,10 +23876,10 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23861,9 +23910,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -23871,7 +23920,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[282] = jj_gen;
+      jj_la1[283] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23899,7 +23948,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23927,7 +23976,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -23955,7 +24004,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24101,7 +24150,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24129,7 +24178,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24164,7 +24213,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[283] = jj_gen;
+      jj_la1[284] = jj_gen;
       ;
     }
      {if (true) return new Func_CurrentDatabase(n0,n2);}
@@ -24197,7 +24246,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[284] = jj_gen;
+      jj_la1[285] = jj_gen;
       ;
     }
      {if (true) return new Func_CurrentSchema(n0,n2);}
@@ -24229,7 +24278,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[285] = jj_gen;
+      jj_la1[286] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -24264,7 +24313,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[286] = jj_gen;
+      jj_la1[287] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -24303,7 +24352,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[287] = jj_gen;
+      jj_la1[288] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -24316,7 +24365,7 @@ public class CSQLParser implements CSQLParserConstants {
         n7.addNode(n8);
       break;
     default:
-      jj_la1[288] = jj_gen;
+      jj_la1[289] = jj_gen;
       ;
     }
     n10 = SQLArgument(prn);
@@ -24351,7 +24400,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[289] = jj_gen;
+      jj_la1[290] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -24397,14 +24446,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[290] = jj_gen;
+      jj_la1[291] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n8 = jj_consume_token(PARENTHESIS_START_);
                              n7 = JTBToolkit.makeNodeToken(n8);
     n9 = SQLArgument(prn);
-    n11 = jj_consume_token(781);
+    n11 = jj_consume_token(782);
              n10 = JTBToolkit.makeNodeToken(n11);
     n12 = SQLArgument(prn);
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24491,14 +24540,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n17, 8);
       break;
     default:
-      jj_la1[291] = jj_gen;
+      jj_la1[292] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n20 = jj_consume_token(PARENTHESIS_START_);
                               n19 = JTBToolkit.makeNodeToken(n20);
     n21 = SQLArgument(prn);
-    n23 = jj_consume_token(781);
+    n23 = jj_consume_token(782);
              n22 = JTBToolkit.makeNodeToken(n23);
     n24 = SQLArgument(prn);
     n26 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24534,16 +24583,16 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = SQLArgument(prn);
@@ -24551,7 +24600,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[292] = jj_gen;
+      jj_la1[293] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24649,13 +24698,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
     n15 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24686,9 +24735,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -24696,7 +24745,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[293] = jj_gen;
+      jj_la1[294] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24729,21 +24778,21 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     label_26:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[294] = jj_gen;
+        jj_la1[295] = jj_gen;
         break label_26;
       }
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -24776,7 +24825,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24804,7 +24853,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24835,10 +24884,10 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24866,7 +24915,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24897,9 +24946,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -24907,7 +24956,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[295] = jj_gen;
+      jj_la1[296] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -24943,16 +24992,16 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = SQLArgument(prn);
@@ -24960,7 +25009,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[296] = jj_gen;
+      jj_la1[297] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -25136,7 +25185,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[297] = jj_gen;
+      jj_la1[298] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -25150,7 +25199,7 @@ public class CSQLParser implements CSQLParserConstants {
         n10.addNode(n11);
       break;
     default:
-      jj_la1[298] = jj_gen;
+      jj_la1[299] = jj_gen;
       ;
     }
     n16 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -25231,7 +25280,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[299] = jj_gen;
+      jj_la1[300] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -25301,13 +25350,13 @@ public class CSQLParser implements CSQLParserConstants {
                        n6 = JTBToolkit.makeNodeToken(n7);
            n5 = new NodeChoice(n6, 0);
       break;
-    case 781:
-      n9 = jj_consume_token(781);
+    case 782:
+      n9 = jj_consume_token(782);
                   n8 = JTBToolkit.makeNodeToken(n9);
            n5 = new NodeChoice(n8, 1);
       break;
     default:
-      jj_la1[300] = jj_gen;
+      jj_la1[301] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -25566,6 +25615,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -25832,14 +25882,14 @@ public class CSQLParser implements CSQLParserConstants {
            n10 = new NodeChoice(n13, 1);
       break;
     default:
-      jj_la1[301] = jj_gen;
+      jj_la1[302] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n15 = new NodeSequence(2);
-      n17 = jj_consume_token(781);
+      n17 = jj_consume_token(782);
                 n16 = JTBToolkit.makeNodeToken(n17);
         n15.addNode(n16);
       switch (jj_nt.kind) {
@@ -26097,6 +26147,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -26363,7 +26414,7 @@ public class CSQLParser implements CSQLParserConstants {
               n18 = new NodeChoice(n21, 1);
         break;
       default:
-        jj_la1[302] = jj_gen;
+        jj_la1[303] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -26371,7 +26422,7 @@ public class CSQLParser implements CSQLParserConstants {
         n14.addNode(n15);
       break;
     default:
-      jj_la1[303] = jj_gen;
+      jj_la1[304] = jj_gen;
       ;
     }
     n23 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -26406,7 +26457,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[304] = jj_gen;
+      jj_la1[305] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -26470,7 +26521,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[305] = jj_gen;
+      jj_la1[306] = jj_gen;
       ;
     }
      {if (true) return new Func_LocalTime(n0,n2);}
@@ -26506,7 +26557,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[306] = jj_gen;
+      jj_la1[307] = jj_gen;
       ;
     }
      {if (true) return new Func_LocalTimeStamp(n0,n2);}
@@ -26535,9 +26586,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -26545,7 +26596,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[307] = jj_gen;
+      jj_la1[308] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -26573,7 +26624,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -26601,7 +26652,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -26740,7 +26791,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4 = new NodeChoice(n35, 15);
       break;
     default:
-      jj_la1[308] = jj_gen;
+      jj_la1[309] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -26820,7 +26871,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[309] = jj_gen;
+      jj_la1[310] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -26836,7 +26887,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[310] = jj_gen;
+      jj_la1[311] = jj_gen;
       ;
     }
      {if (true) return new Func_User(n0,n5);}
@@ -27132,6 +27183,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -27414,7 +27466,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[311] = jj_gen;
+      jj_la1[312] = jj_gen;
       ;
     }
     n7 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -27442,7 +27494,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -27507,7 +27559,7 @@ public class CSQLParser implements CSQLParserConstants {
           ;
           break;
         default:
-          jj_la1[312] = jj_gen;
+          jj_la1[313] = jj_gen;
           break label_27;
         }
            n6 = new NodeSequence(4);
@@ -27536,7 +27588,7 @@ public class CSQLParser implements CSQLParserConstants {
            n13.addNode(n14);
         break;
       default:
-        jj_la1[313] = jj_gen;
+        jj_la1[314] = jj_gen;
         ;
       }
         n1.addNode(n13);
@@ -27558,7 +27610,7 @@ public class CSQLParser implements CSQLParserConstants {
             ;
             break;
           default:
-            jj_la1[314] = jj_gen;
+            jj_la1[315] = jj_gen;
             break label_28;
           }
            n24 = new NodeSequence(4);
@@ -27587,7 +27639,7 @@ public class CSQLParser implements CSQLParserConstants {
            n31.addNode(n32);
           break;
         default:
-          jj_la1[315] = jj_gen;
+          jj_la1[316] = jj_gen;
           ;
         }
         n20.addNode(n31);
@@ -27597,7 +27649,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n20, 1);
         break;
       default:
-        jj_la1[316] = jj_gen;
+        jj_la1[317] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -27760,9 +27812,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -27770,7 +27822,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[317] = jj_gen;
+      jj_la1[318] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -27840,7 +27892,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -27912,7 +27964,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -27940,7 +27992,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28169,9 +28221,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -28179,7 +28231,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[318] = jj_gen;
+      jj_la1[319] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28217,14 +28269,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[319] = jj_gen;
+      jj_la1[320] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28252,7 +28304,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28388,19 +28440,19 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[320] = jj_gen;
+      jj_la1[321] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     if (jj_2_417(3)) {
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = SQLArgument(prn);
@@ -28410,9 +28462,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n17 = new NodeSequence(2);
-      n19 = jj_consume_token(781);
+      n19 = jj_consume_token(782);
                 n18 = JTBToolkit.makeNodeToken(n19);
         n17.addNode(n18);
       n20 = SQLArgument(prn);
@@ -28420,7 +28472,7 @@ public class CSQLParser implements CSQLParserConstants {
         n16.addNode(n17);
       break;
     default:
-      jj_la1[321] = jj_gen;
+      jj_la1[322] = jj_gen;
       ;
     }
     n22 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28448,7 +28500,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28476,7 +28528,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28553,13 +28605,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -28567,7 +28619,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[322] = jj_gen;
+      jj_la1[323] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28598,9 +28650,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -28608,7 +28660,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[323] = jj_gen;
+      jj_la1[324] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28641,13 +28693,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -28655,7 +28707,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[324] = jj_gen;
+      jj_la1[325] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28686,9 +28738,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -28696,7 +28748,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[325] = jj_gen;
+      jj_la1[326] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -28748,7 +28800,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4 = new NodeChoice(n9, 2);
       break;
     default:
-      jj_la1[326] = jj_gen;
+      jj_la1[327] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -29025,6 +29077,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -29307,7 +29360,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[327] = jj_gen;
+      jj_la1[328] = jj_gen;
       ;
     }
     n14 = jj_consume_token(FROM_);
@@ -29343,13 +29396,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -29357,7 +29410,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[328] = jj_gen;
+      jj_la1[329] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -29388,9 +29441,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -29398,7 +29451,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[329] = jj_gen;
+      jj_la1[330] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -29431,13 +29484,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -29445,7 +29498,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[330] = jj_gen;
+      jj_la1[331] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -29518,7 +29571,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     label_29:
@@ -29529,7 +29582,7 @@ public class CSQLParser implements CSQLParserConstants {
         break label_29;
       }
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -29568,7 +29621,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[331] = jj_gen;
+      jj_la1[332] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -29883,6 +29936,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -30177,14 +30231,14 @@ public class CSQLParser implements CSQLParserConstants {
                  n9 = new NodeChoice(n12, 1);
           break;
         default:
-          jj_la1[332] = jj_gen;
+          jj_la1[333] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
               n8.addNode(n9);
         break;
       default:
-        jj_la1[333] = jj_gen;
+        jj_la1[334] = jj_gen;
         ;
       }
            n7.addNode(n8);
@@ -30193,7 +30247,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4 = new NodeChoice(n7, 1);
       break;
     default:
-      jj_la1[334] = jj_gen;
+      jj_la1[335] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -30228,7 +30282,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[335] = jj_gen;
+      jj_la1[336] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -30263,7 +30317,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[336] = jj_gen;
+      jj_la1[337] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -30309,7 +30363,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[337] = jj_gen;
+      jj_la1[338] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -30322,7 +30376,7 @@ public class CSQLParser implements CSQLParserConstants {
         n9.addNode(n10);
       break;
     default:
-      jj_la1[338] = jj_gen;
+      jj_la1[339] = jj_gen;
       ;
     }
     n12 = SQLArgument(prn);
@@ -30382,7 +30436,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n9, 4);
       break;
     default:
-      jj_la1[339] = jj_gen;
+      jj_la1[340] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -30395,7 +30449,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[340] = jj_gen;
+      jj_la1[341] = jj_gen;
       ;
     }
     n16 = SQLArgument(prn);
@@ -30430,7 +30484,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[341] = jj_gen;
+      jj_la1[342] = jj_gen;
       ;
     }
     n7 = SQLArgument(prn);
@@ -30657,7 +30711,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
             n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30714,7 +30768,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[342] = jj_gen;
+      jj_la1[343] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -30756,14 +30810,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[343] = jj_gen;
+      jj_la1[344] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30801,14 +30855,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[344] = jj_gen;
+      jj_la1[345] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30839,10 +30893,10 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30873,9 +30927,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -30883,7 +30937,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[345] = jj_gen;
+      jj_la1[346] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30914,9 +30968,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -30924,7 +30978,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[346] = jj_gen;
+      jj_la1[347] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -30964,7 +31018,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[347] = jj_gen;
+      jj_la1[348] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -30972,9 +31026,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -30982,7 +31036,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[348] = jj_gen;
+      jj_la1[349] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31037,13 +31091,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -31051,7 +31105,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[349] = jj_gen;
+      jj_la1[350] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31174,7 +31228,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[350] = jj_gen;
+      jj_la1[351] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31218,7 +31272,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[351] = jj_gen;
+      jj_la1[352] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31226,9 +31280,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -31236,7 +31290,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[352] = jj_gen;
+      jj_la1[353] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31271,7 +31325,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[353] = jj_gen;
+      jj_la1[354] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31317,7 +31371,7 @@ public class CSQLParser implements CSQLParserConstants {
     n4 = SQLArgument(prn);
     if (jj_2_419(3)) {
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -31328,7 +31382,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_2_420(3)) {
         n11 = new NodeSequence(2);
-      n13 = jj_consume_token(781);
+      n13 = jj_consume_token(782);
                 n12 = JTBToolkit.makeNodeToken(n13);
         n11.addNode(n12);
       n14 = SQLArgument(prn);
@@ -31338,9 +31392,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n16 = new NodeSequence(2);
-      n18 = jj_consume_token(781);
+      n18 = jj_consume_token(782);
                 n17 = JTBToolkit.makeNodeToken(n18);
         n16.addNode(n17);
       n19 = SQLArgument(prn);
@@ -31348,7 +31402,7 @@ public class CSQLParser implements CSQLParserConstants {
         n15.addNode(n16);
       break;
     default:
-      jj_la1[354] = jj_gen;
+      jj_la1[355] = jj_gen;
       ;
     }
     n21 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31390,7 +31444,7 @@ public class CSQLParser implements CSQLParserConstants {
     n4 = SQLArgument(prn);
     if (jj_2_421(3)) {
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -31401,7 +31455,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_2_422(3)) {
         n11 = new NodeSequence(2);
-      n13 = jj_consume_token(781);
+      n13 = jj_consume_token(782);
                 n12 = JTBToolkit.makeNodeToken(n13);
         n11.addNode(n12);
       n14 = SQLArgument(prn);
@@ -31411,9 +31465,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n16 = new NodeSequence(2);
-      n18 = jj_consume_token(781);
+      n18 = jj_consume_token(782);
                 n17 = JTBToolkit.makeNodeToken(n18);
         n16.addNode(n17);
       n19 = SQLArgument(prn);
@@ -31421,7 +31475,7 @@ public class CSQLParser implements CSQLParserConstants {
         n15.addNode(n16);
       break;
     default:
-      jj_la1[355] = jj_gen;
+      jj_la1[356] = jj_gen;
       ;
     }
     n21 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31461,7 +31515,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[356] = jj_gen;
+      jj_la1[357] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31469,9 +31523,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -31479,7 +31533,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[357] = jj_gen;
+      jj_la1[358] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31524,7 +31578,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[358] = jj_gen;
+      jj_la1[359] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31533,7 +31587,7 @@ public class CSQLParser implements CSQLParserConstants {
     n7 = SQLArgument(prn);
     if (jj_2_423(3)) {
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -31543,9 +31597,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n14 = new NodeSequence(2);
-      n16 = jj_consume_token(781);
+      n16 = jj_consume_token(782);
                 n15 = JTBToolkit.makeNodeToken(n16);
         n14.addNode(n15);
       n17 = SQLArgument(prn);
@@ -31553,7 +31607,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[359] = jj_gen;
+      jj_la1[360] = jj_gen;
       ;
     }
     n19 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31590,7 +31644,7 @@ public class CSQLParser implements CSQLParserConstants {
     n4 = SQLArgument(prn);
     if (jj_2_424(3)) {
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -31600,9 +31654,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n11 = new NodeSequence(2);
-      n13 = jj_consume_token(781);
+      n13 = jj_consume_token(782);
                 n12 = JTBToolkit.makeNodeToken(n13);
         n11.addNode(n12);
       n14 = SQLArgument(prn);
@@ -31610,7 +31664,7 @@ public class CSQLParser implements CSQLParserConstants {
         n10.addNode(n11);
       break;
     default:
-      jj_la1[360] = jj_gen;
+      jj_la1[361] = jj_gen;
       ;
     }
     n16 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31660,7 +31714,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31688,7 +31742,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31838,7 +31892,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[361] = jj_gen;
+      jj_la1[362] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -31846,9 +31900,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -31856,7 +31910,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[362] = jj_gen;
+      jj_la1[363] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31884,7 +31938,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -31966,14 +32020,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[363] = jj_gen;
+      jj_la1[364] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32067,7 +32121,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32095,7 +32149,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32123,7 +32177,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32154,9 +32208,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -32164,7 +32218,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[364] = jj_gen;
+      jj_la1[365] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32246,14 +32300,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[365] = jj_gen;
+      jj_la1[366] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32288,7 +32342,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[366] = jj_gen;
+      jj_la1[367] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32330,14 +32384,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[367] = jj_gen;
+      jj_la1[368] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32416,7 +32470,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[368] = jj_gen;
+      jj_la1[369] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32455,7 +32509,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[369] = jj_gen;
+      jj_la1[370] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32497,14 +32551,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[370] = jj_gen;
+      jj_la1[371] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -32539,7 +32593,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[371] = jj_gen;
+      jj_la1[372] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32578,7 +32632,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[372] = jj_gen;
+      jj_la1[373] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32617,7 +32671,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[373] = jj_gen;
+      jj_la1[374] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32722,7 +32776,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[374] = jj_gen;
+      jj_la1[375] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32761,7 +32815,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[375] = jj_gen;
+      jj_la1[376] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32800,7 +32854,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[376] = jj_gen;
+      jj_la1[377] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32839,7 +32893,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[377] = jj_gen;
+      jj_la1[378] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32878,7 +32932,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[378] = jj_gen;
+      jj_la1[379] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32917,7 +32971,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[379] = jj_gen;
+      jj_la1[380] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -32956,7 +33010,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[380] = jj_gen;
+      jj_la1[381] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33149,7 +33203,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[381] = jj_gen;
+      jj_la1[382] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33237,7 +33291,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[382] = jj_gen;
+      jj_la1[383] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33245,9 +33299,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -33255,7 +33309,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[383] = jj_gen;
+      jj_la1[384] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -33354,13 +33408,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -33368,7 +33422,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[384] = jj_gen;
+      jj_la1[385] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -33428,14 +33482,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[385] = jj_gen;
+      jj_la1[386] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -33473,14 +33527,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[386] = jj_gen;
+      jj_la1[387] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -33518,14 +33572,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[387] = jj_gen;
+      jj_la1[388] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -33560,7 +33614,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[388] = jj_gen;
+      jj_la1[389] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33599,7 +33653,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[389] = jj_gen;
+      jj_la1[390] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33638,7 +33692,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[390] = jj_gen;
+      jj_la1[391] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33677,7 +33731,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[391] = jj_gen;
+      jj_la1[392] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33716,7 +33770,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[392] = jj_gen;
+      jj_la1[393] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33777,7 +33831,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[393] = jj_gen;
+      jj_la1[394] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33838,7 +33892,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[394] = jj_gen;
+      jj_la1[395] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -33892,7 +33946,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34015,7 +34069,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[395] = jj_gen;
+      jj_la1[396] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -34101,14 +34155,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[396] = jj_gen;
+      jj_la1[397] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34146,14 +34200,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[397] = jj_gen;
+      jj_la1[398] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34194,17 +34248,17 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[398] = jj_gen;
+      jj_la1[399] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
     n15 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34264,14 +34318,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[399] = jj_gen;
+      jj_la1[400] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34312,17 +34366,17 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[400] = jj_gen;
+      jj_la1[401] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
     n15 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34350,7 +34404,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34409,16 +34463,16 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
-    n15 = jj_consume_token(781);
+    n15 = jj_consume_token(782);
              n14 = JTBToolkit.makeNodeToken(n15);
     n16 = SQLArgument(prn);
     n18 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34456,12 +34510,12 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     if (jj_2_425(3)) {
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -34471,9 +34525,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n14 = new NodeSequence(2);
-      n16 = jj_consume_token(781);
+      n16 = jj_consume_token(782);
                 n15 = JTBToolkit.makeNodeToken(n16);
         n14.addNode(n15);
       n17 = SQLArgument(prn);
@@ -34481,7 +34535,7 @@ public class CSQLParser implements CSQLParserConstants {
         n13.addNode(n14);
       break;
     default:
-      jj_la1[401] = jj_gen;
+      jj_la1[402] = jj_gen;
       ;
     }
     n19 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34512,10 +34566,10 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34546,9 +34600,9 @@ public class CSQLParser implements CSQLParserConstants {
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n9 = SQLArgument(prn);
@@ -34556,7 +34610,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[402] = jj_gen;
+      jj_la1[403] = jj_gen;
       ;
     }
     n11 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34584,7 +34638,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -34641,7 +34695,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[403] = jj_gen;
+      jj_la1[404] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -34834,7 +34888,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[404] = jj_gen;
+      jj_la1[405] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35005,7 +35059,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[405] = jj_gen;
+      jj_la1[406] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35044,7 +35098,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[406] = jj_gen;
+      jj_la1[407] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35083,7 +35137,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[407] = jj_gen;
+      jj_la1[408] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35122,7 +35176,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[408] = jj_gen;
+      jj_la1[409] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35183,7 +35237,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[409] = jj_gen;
+      jj_la1[410] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35237,7 +35291,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35275,14 +35329,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[410] = jj_gen;
+      jj_la1[411] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35339,7 +35393,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[411] = jj_gen;
+      jj_la1[412] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35378,7 +35432,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[412] = jj_gen;
+      jj_la1[413] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -35701,13 +35755,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -35715,7 +35769,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[413] = jj_gen;
+      jj_la1[414] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35753,14 +35807,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[414] = jj_gen;
+      jj_la1[415] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35820,14 +35874,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[415] = jj_gen;
+      jj_la1[416] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35865,14 +35919,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[416] = jj_gen;
+      jj_la1[417] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35924,14 +35978,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n7, 3);
       break;
     default:
-      jj_la1[417] = jj_gen;
+      jj_la1[418] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n10 = jj_consume_token(PARENTHESIS_START_);
                               n9 = JTBToolkit.makeNodeToken(n10);
     n11 = SQLArgument(prn);
-    n13 = jj_consume_token(781);
+    n13 = jj_consume_token(782);
              n12 = JTBToolkit.makeNodeToken(n13);
     n14 = SQLArgument(prn);
     n16 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -35977,23 +36031,23 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[418] = jj_gen;
+      jj_la1[419] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n15 = new NodeSequence(2);
-      n17 = jj_consume_token(781);
+      n17 = jj_consume_token(782);
                 n16 = JTBToolkit.makeNodeToken(n17);
         n15.addNode(n16);
       n18 = SQLArgument(prn);
@@ -36001,7 +36055,7 @@ public class CSQLParser implements CSQLParserConstants {
         n14.addNode(n15);
       break;
     default:
-      jj_la1[419] = jj_gen;
+      jj_la1[420] = jj_gen;
       ;
     }
     n20 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36039,14 +36093,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[420] = jj_gen;
+      jj_la1[421] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36109,17 +36163,17 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[421] = jj_gen;
+      jj_la1[422] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
     n15 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36157,14 +36211,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[422] = jj_gen;
+      jj_la1[423] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36214,7 +36268,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36252,14 +36306,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[423] = jj_gen;
+      jj_la1[424] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36339,19 +36393,19 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[424] = jj_gen;
+      jj_la1[425] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     if (jj_2_426(3)) {
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = SQLArgument(prn);
@@ -36362,7 +36416,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_2_427(3)) {
         n17 = new NodeSequence(2);
-      n19 = jj_consume_token(781);
+      n19 = jj_consume_token(782);
                 n18 = JTBToolkit.makeNodeToken(n19);
         n17.addNode(n18);
       n20 = SQLArgument(prn);
@@ -36373,7 +36427,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_2_428(3)) {
         n22 = new NodeSequence(2);
-      n24 = jj_consume_token(781);
+      n24 = jj_consume_token(782);
                 n23 = JTBToolkit.makeNodeToken(n24);
         n22.addNode(n23);
       n25 = SQLArgument(prn);
@@ -36383,9 +36437,9 @@ public class CSQLParser implements CSQLParserConstants {
       ;
     }
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n27 = new NodeSequence(2);
-      n29 = jj_consume_token(781);
+      n29 = jj_consume_token(782);
                 n28 = JTBToolkit.makeNodeToken(n29);
         n27.addNode(n28);
       n30 = SQLArgument(prn);
@@ -36393,7 +36447,7 @@ public class CSQLParser implements CSQLParserConstants {
         n26.addNode(n27);
       break;
     default:
-      jj_la1[425] = jj_gen;
+      jj_la1[426] = jj_gen;
       ;
     }
     n32 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36428,7 +36482,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[426] = jj_gen;
+      jj_la1[427] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -36467,7 +36521,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[427] = jj_gen;
+      jj_la1[428] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -36531,14 +36585,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[428] = jj_gen;
+      jj_la1[429] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36610,7 +36664,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36646,16 +36700,16 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = SQLArgument(prn);
@@ -36663,7 +36717,7 @@ public class CSQLParser implements CSQLParserConstants {
         n11.addNode(n12);
       break;
     default:
-      jj_la1[429] = jj_gen;
+      jj_la1[430] = jj_gen;
       ;
     }
     n17 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36710,23 +36764,23 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[430] = jj_gen;
+      jj_la1[431] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
-    n12 = jj_consume_token(781);
+    n12 = jj_consume_token(782);
              n11 = JTBToolkit.makeNodeToken(n12);
     n13 = SQLArgument(prn);
-    n15 = jj_consume_token(781);
+    n15 = jj_consume_token(782);
              n14 = JTBToolkit.makeNodeToken(n15);
     n16 = SQLArgument(prn);
-    n18 = jj_consume_token(781);
+    n18 = jj_consume_token(782);
              n17 = JTBToolkit.makeNodeToken(n18);
     n19 = SQLArgument(prn);
     n21 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36786,14 +36840,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[431] = jj_gen;
+      jj_la1[432] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -36872,7 +36926,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[432] = jj_gen;
+      jj_la1[433] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -36911,7 +36965,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[433] = jj_gen;
+      jj_la1[434] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -36950,7 +37004,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[434] = jj_gen;
+      jj_la1[435] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -36989,7 +37043,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[435] = jj_gen;
+      jj_la1[436] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -37028,7 +37082,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[436] = jj_gen;
+      jj_la1[437] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -37067,7 +37121,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[437] = jj_gen;
+      jj_la1[438] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -37106,7 +37160,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[438] = jj_gen;
+      jj_la1[439] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -37148,14 +37202,14 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[439] = jj_gen;
+      jj_la1[440] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     n6 = jj_consume_token(PARENTHESIS_START_);
                              n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
-    n9 = jj_consume_token(781);
+    n9 = jj_consume_token(782);
             n8 = JTBToolkit.makeNodeToken(n9);
     n10 = SQLArgument(prn);
     n12 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -37190,7 +37244,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[440] = jj_gen;
+      jj_la1[441] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -37252,7 +37306,7 @@ public class CSQLParser implements CSQLParserConstants {
            n1 = new NodeSequence(4);
       n2 = TableName(prn);
            n1.addNode(n2);
-      n4 = jj_consume_token(782);
+      n4 = jj_consume_token(783);
                   n3 = JTBToolkit.makeNodeToken(n4);
            n1.addNode(n3);
       n5 = Identifier(prn);
@@ -37509,6 +37563,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LINEMERGE_:
       case LOCALTIME_:
       case MONTHNAME_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -37775,7 +37830,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n6, 1);
         break;
       default:
-        jj_la1[441] = jj_gen;
+        jj_la1[442] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -37799,7 +37854,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[442] = jj_gen;
+      jj_la1[443] = jj_gen;
       ;
     }
     n3 = AliasName(prn);
@@ -37832,7 +37887,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[443] = jj_gen;
+        jj_la1[444] = jj_gen;
         break label_30;
       }
       n2 = SQLORExpression(prn);
@@ -37869,7 +37924,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[444] = jj_gen;
+        jj_la1[445] = jj_gen;
         break label_31;
       }
       n5 = SQLAndExp(prn);
@@ -37946,7 +38001,7 @@ public class CSQLParser implements CSQLParserConstants {
               n3.addNode(n4);
         break;
       default:
-        jj_la1[445] = jj_gen;
+        jj_la1[446] = jj_gen;
         ;
       }
            n2.addNode(n3);
@@ -37962,7 +38017,7 @@ public class CSQLParser implements CSQLParserConstants {
               n8.addNode(n9);
         break;
       default:
-        jj_la1[446] = jj_gen;
+        jj_la1[447] = jj_gen;
         ;
       }
            n7.addNode(n8);
@@ -37998,7 +38053,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[447] = jj_gen;
+      jj_la1[448] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -38027,7 +38082,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[448] = jj_gen;
+      jj_la1[449] = jj_gen;
       ;
     }
     n4 = jj_consume_token(EXISTS_);
@@ -38334,6 +38389,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LOCALTIME_:
       case MONTHNAME_:
       case QPUBLICDOT_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -38616,7 +38672,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n2, 1);
         break;
       default:
-        jj_la1[449] = jj_gen;
+        jj_la1[450] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -38685,7 +38741,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4 = new NodeChoice(n6, 1);
           break;
         default:
-          jj_la1[450] = jj_gen;
+          jj_la1[451] = jj_gen;
           if (jj_2_440(3)) {
             n10 = IsNullClause(prn);
            n4 = new NodeChoice(n10, 2);
@@ -38698,7 +38754,7 @@ public class CSQLParser implements CSQLParserConstants {
            n4 = new NodeChoice(n11, 3);
               break;
             default:
-              jj_la1[451] = jj_gen;
+              jj_la1[452] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -38708,7 +38764,7 @@ public class CSQLParser implements CSQLParserConstants {
         n3.addNode(n4);
       break;
     default:
-      jj_la1[452] = jj_gen;
+      jj_la1[453] = jj_gen;
       ;
     }
      {if (true) return new SQLRelationalExpression(n0,n3);}
@@ -38768,14 +38824,14 @@ public class CSQLParser implements CSQLParserConstants {
                  n4 = new NodeChoice(n9, 2);
           break;
         default:
-          jj_la1[453] = jj_gen;
+          jj_la1[454] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
               n3.addNode(n4);
         break;
       default:
-        jj_la1[454] = jj_gen;
+        jj_la1[455] = jj_gen;
         ;
       }
            n2.addNode(n3);
@@ -38805,7 +38861,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n11 = new NodeChoice(n18, 1);
           break;
         default:
-          jj_la1[455] = jj_gen;
+          jj_la1[456] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -39086,6 +39142,7 @@ public class CSQLParser implements CSQLParserConstants {
       case LOCALTIME_:
       case MONTHNAME_:
       case QPUBLICDOT_:
+      case REBALANCE_:
       case REGR_AVGX_:
       case REGR_AVGY_:
       case ST_AFFINE_:
@@ -39368,7 +39425,7 @@ public class CSQLParser implements CSQLParserConstants {
            n1 = new NodeChoice(n24, 1);
         break;
       default:
-        jj_la1[456] = jj_gen;
+        jj_la1[457] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -39524,7 +39581,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n39, 19);
       break;
     default:
-      jj_la1[457] = jj_gen;
+      jj_la1[458] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -39559,7 +39616,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[458] = jj_gen;
+      jj_la1[459] = jj_gen;
       ;
     }
     n4 = jj_consume_token(IN_);
@@ -39584,7 +39641,7 @@ public class CSQLParser implements CSQLParserConstants {
            n5 = new NodeChoice(n10, 1);
         break;
       default:
-        jj_la1[459] = jj_gen;
+        jj_la1[460] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -39615,7 +39672,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0.addNode(n1);
       break;
     default:
-      jj_la1[460] = jj_gen;
+      jj_la1[461] = jj_gen;
       ;
     }
     n4 = jj_consume_token(BETWEEN_);
@@ -39676,7 +39733,7 @@ public class CSQLParser implements CSQLParserConstants {
               n2.addNode(n3);
         break;
       default:
-        jj_la1[461] = jj_gen;
+        jj_la1[462] = jj_gen;
         ;
       }
            n1.addNode(n2);
@@ -39697,7 +39754,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n5 = new NodeChoice(n10, 2);
         break;
       default:
-        jj_la1[462] = jj_gen;
+        jj_la1[463] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -39715,7 +39772,7 @@ public class CSQLParser implements CSQLParserConstants {
               n13.addNode(n14);
         break;
       default:
-        jj_la1[463] = jj_gen;
+        jj_la1[464] = jj_gen;
         ;
       }
            n1.addNode(n13);
@@ -39754,7 +39811,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n19 = new NodeChoice(n28, 4);
         break;
       default:
-        jj_la1[464] = jj_gen;
+        jj_la1[465] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -39764,7 +39821,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n18, 1);
       break;
     default:
-      jj_la1[465] = jj_gen;
+      jj_la1[466] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -39812,7 +39869,7 @@ public class CSQLParser implements CSQLParserConstants {
               n4.addNode(n5);
         break;
       default:
-        jj_la1[466] = jj_gen;
+        jj_la1[467] = jj_gen;
         ;
       }
            n1.addNode(n4);
@@ -39829,7 +39886,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n9, 2);
       break;
     default:
-      jj_la1[467] = jj_gen;
+      jj_la1[468] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -39872,7 +39929,7 @@ public class CSQLParser implements CSQLParserConstants {
               n4.addNode(n5);
         break;
       default:
-        jj_la1[468] = jj_gen;
+        jj_la1[469] = jj_gen;
         ;
       }
            n1.addNode(n4);
@@ -39889,7 +39946,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n9, 2);
       break;
     default:
-      jj_la1[469] = jj_gen;
+      jj_la1[470] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -39905,7 +39962,7 @@ public class CSQLParser implements CSQLParserConstants {
            n11 = new NodeChoice(n14, 1);
       break;
     default:
-      jj_la1[470] = jj_gen;
+      jj_la1[471] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -39946,14 +40003,14 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n6, 1);
         break;
       default:
-        jj_la1[471] = jj_gen;
+        jj_la1[472] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[472] = jj_gen;
+      jj_la1[473] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -39963,7 +40020,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[473] = jj_gen;
+      jj_la1[474] = jj_gen;
       ;
     }
     n11 = TableName(prn);
@@ -40262,6 +40319,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -40567,14 +40625,14 @@ public class CSQLParser implements CSQLParserConstants {
            n13.addNode(n14);
         break;
       default:
-        jj_la1[474] = jj_gen;
+        jj_la1[475] = jj_gen;
         ;
       }
         n5.addNode(n13);
         n0 = new NodeChoice(n5, 1);
       break;
     default:
-      jj_la1[475] = jj_gen;
+      jj_la1[476] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -40596,15 +40654,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_32:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[476] = jj_gen;
+        jj_la1[477] = jj_gen;
         break label_32;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = FromTableSpec(prn);
@@ -40692,7 +40750,7 @@ public class CSQLParser implements CSQLParserConstants {
         ;
         break;
       default:
-        jj_la1[477] = jj_gen;
+        jj_la1[478] = jj_gen;
         break label_33;
       }
         n11 = new NodeOptional();
@@ -40728,7 +40786,7 @@ public class CSQLParser implements CSQLParserConstants {
                     n11.addNode(n12);
             break;
           default:
-            jj_la1[478] = jj_gen;
+            jj_la1[479] = jj_gen;
             ;
           }
                  n10.addNode(n11);
@@ -40762,7 +40820,7 @@ public class CSQLParser implements CSQLParserConstants {
                        n19 = new NodeChoice(n24, 2);
             break;
           default:
-            jj_la1[479] = jj_gen;
+            jj_la1[480] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -40774,7 +40832,7 @@ public class CSQLParser implements CSQLParserConstants {
                     n26.addNode(n27);
             break;
           default:
-            jj_la1[480] = jj_gen;
+            jj_la1[481] = jj_gen;
             ;
           }
                  n18.addNode(n26);
@@ -40788,7 +40846,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n9 = new NodeChoice(n18, 1);
           break;
         default:
-          jj_la1[481] = jj_gen;
+          jj_la1[482] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -40810,7 +40868,7 @@ public class CSQLParser implements CSQLParserConstants {
                     n38.addNode(n39);
             break;
           default:
-            jj_la1[482] = jj_gen;
+            jj_la1[483] = jj_gen;
             ;
           }
                  n37.addNode(n38);
@@ -40842,7 +40900,7 @@ public class CSQLParser implements CSQLParserConstants {
                        n45 = new NodeChoice(n50, 2);
             break;
           default:
-            jj_la1[483] = jj_gen;
+            jj_la1[484] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -40854,7 +40912,7 @@ public class CSQLParser implements CSQLParserConstants {
                     n52.addNode(n53);
             break;
           default:
-            jj_la1[484] = jj_gen;
+            jj_la1[485] = jj_gen;
             ;
           }
                  n44.addNode(n52);
@@ -40866,7 +40924,7 @@ public class CSQLParser implements CSQLParserConstants {
                  n36 = new NodeChoice(n44, 1);
           break;
         default:
-          jj_la1[485] = jj_gen;
+          jj_la1[486] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -40874,7 +40932,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n33, 2);
         break;
       default:
-        jj_la1[486] = jj_gen;
+        jj_la1[487] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -40928,7 +40986,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 1);
       break;
     default:
-      jj_la1[487] = jj_gen;
+      jj_la1[488] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -40983,7 +41041,7 @@ public class CSQLParser implements CSQLParserConstants {
         break label_34;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = SQLExpressionListItem(prn);
@@ -41037,15 +41095,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_35:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[488] = jj_gen;
+        jj_la1[489] = jj_gen;
         break label_35;
       }
         n4 = new NodeSequence(2);
-      n6 = jj_consume_token(781);
+      n6 = jj_consume_token(782);
                n5 = JTBToolkit.makeNodeToken(n6);
         n4.addNode(n5);
       n7 = OrderByItem(prn);
@@ -41082,7 +41140,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n5, 1);
       break;
     default:
-      jj_la1[489] = jj_gen;
+      jj_la1[490] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -41133,14 +41191,14 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n5, 1);
         break;
       default:
-        jj_la1[490] = jj_gen;
+        jj_la1[491] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n1.addNode(n2);
       break;
     default:
-      jj_la1[491] = jj_gen;
+      jj_la1[492] = jj_gen;
       ;
     }
      {if (true) return new OrderByItem(n0,n1);}
@@ -41166,7 +41224,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -41194,7 +41252,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -41244,7 +41302,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -41404,7 +41462,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -41432,7 +41490,7 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     n9 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -41488,7 +41546,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[492] = jj_gen;
+      jj_la1[493] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -41541,7 +41599,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[493] = jj_gen;
+      jj_la1[494] = jj_gen;
       ;
     }
      {if (true) return new Func_PgCurrentTime(n0,n2);}
@@ -41573,7 +41631,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[494] = jj_gen;
+      jj_la1[495] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -41614,7 +41672,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[495] = jj_gen;
+      jj_la1[496] = jj_gen;
       ;
     }
      {if (true) return new Func_PgCurrentTimeStamp(n0,n2);}
@@ -42020,6 +42078,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LOCALTIME_:
     case MONTHNAME_:
     case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -42302,7 +42361,7 @@ public class CSQLParser implements CSQLParserConstants {
         n4.addNode(n5);
       break;
     default:
-      jj_la1[496] = jj_gen;
+      jj_la1[497] = jj_gen;
       ;
     }
     n7 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -42421,13 +42480,13 @@ public class CSQLParser implements CSQLParserConstants {
     n3 = jj_consume_token(PARENTHESIS_START_);
                              n2 = JTBToolkit.makeNodeToken(n3);
     n4 = SQLArgument(prn);
-    n6 = jj_consume_token(781);
+    n6 = jj_consume_token(782);
             n5 = JTBToolkit.makeNodeToken(n6);
     n7 = SQLArgument(prn);
     switch (jj_nt.kind) {
-    case 781:
+    case 782:
         n9 = new NodeSequence(2);
-      n11 = jj_consume_token(781);
+      n11 = jj_consume_token(782);
                 n10 = JTBToolkit.makeNodeToken(n11);
         n9.addNode(n10);
       n12 = SQLArgument(prn);
@@ -42435,7 +42494,7 @@ public class CSQLParser implements CSQLParserConstants {
         n8.addNode(n9);
       break;
     default:
-      jj_la1[497] = jj_gen;
+      jj_la1[498] = jj_gen;
       ;
     }
     n14 = jj_consume_token(PARENTHESIS_CLOSE_);
@@ -42473,7 +42532,7 @@ public class CSQLParser implements CSQLParserConstants {
     n4 = SQLArgument(prn);
     if (jj_2_447(2)) {
         n6 = new NodeSequence(2);
-      n8 = jj_consume_token(781);
+      n8 = jj_consume_token(782);
                n7 = JTBToolkit.makeNodeToken(n8);
         n6.addNode(n7);
       n10 = jj_consume_token(INT_LITERAL);
@@ -42485,7 +42544,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_2_448(2)) {
         n12 = new NodeSequence(2);
-      n14 = jj_consume_token(781);
+      n14 = jj_consume_token(782);
                 n13 = JTBToolkit.makeNodeToken(n14);
         n12.addNode(n13);
       n15 = Identifier(prn);
@@ -42620,7 +42679,7 @@ public class CSQLParser implements CSQLParserConstants {
            n7 = new NodeChoice(n9, 1);
       break;
     default:
-      jj_la1[498] = jj_gen;
+      jj_la1[499] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -42649,7 +42708,7 @@ public class CSQLParser implements CSQLParserConstants {
         break label_36;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = Identifier(prn);
@@ -42929,6 +42988,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -43222,7 +43282,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n10, 3);
       break;
     default:
-      jj_la1[499] = jj_gen;
+      jj_la1[500] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -43258,7 +43318,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n5, 2);
         break;
       default:
-        jj_la1[500] = jj_gen;
+        jj_la1[501] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -43364,14 +43424,14 @@ public class CSQLParser implements CSQLParserConstants {
               n3 = new NodeChoice(n8, 2);
         break;
       default:
-        jj_la1[501] = jj_gen;
+        jj_la1[502] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[502] = jj_gen;
+      jj_la1[503] = jj_gen;
       ;
     }
      {if (true) return new BeginTransaction(n0,n2);}
@@ -43407,7 +43467,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[503] = jj_gen;
+      jj_la1[504] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -43432,14 +43492,14 @@ public class CSQLParser implements CSQLParserConstants {
               n6 = new NodeChoice(n11, 2);
         break;
       default:
-        jj_la1[504] = jj_gen;
+        jj_la1[505] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n5.addNode(n6);
       break;
     default:
-      jj_la1[505] = jj_gen;
+      jj_la1[506] = jj_gen;
       ;
     }
      {if (true) return new CommitTransaction(n0,n5);}
@@ -43483,14 +43543,14 @@ public class CSQLParser implements CSQLParserConstants {
               n3 = new NodeChoice(n8, 2);
         break;
       default:
-        jj_la1[506] = jj_gen;
+        jj_la1[507] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[507] = jj_gen;
+      jj_la1[508] = jj_gen;
       ;
     }
      {if (true) return new RollbackTransaction(n0,n2);}
@@ -43526,7 +43586,7 @@ public class CSQLParser implements CSQLParserConstants {
            n0 = new NodeChoice(n5, 2);
       break;
     default:
-      jj_la1[508] = jj_gen;
+      jj_la1[509] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -43614,7 +43674,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[509] = jj_gen;
+      jj_la1[510] = jj_gen;
       ;
     }
     n5 = Identifier(prn);
@@ -43671,14 +43731,14 @@ public class CSQLParser implements CSQLParserConstants {
            n9 = new NodeChoice(n14, 2);
         break;
       default:
-        jj_la1[510] = jj_gen;
+        jj_la1[511] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n8.addNode(n9);
       break;
     default:
-      jj_la1[511] = jj_gen;
+      jj_la1[512] = jj_gen;
       ;
     }
      {if (true) return new CreateUser(n0,n2,n4,n5,n7,n8);}
@@ -43741,7 +43801,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[512] = jj_gen;
+      jj_la1[513] = jj_gen;
       ;
     }
     switch (jj_nt.kind) {
@@ -43765,14 +43825,14 @@ public class CSQLParser implements CSQLParserConstants {
            n11 = new NodeChoice(n16, 2);
         break;
       default:
-        jj_la1[513] = jj_gen;
+        jj_la1[514] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n10.addNode(n11);
       break;
     default:
-      jj_la1[514] = jj_gen;
+      jj_la1[515] = jj_gen;
       ;
     }
      {if (true) return new AlterUser(n0,n2,n4,n5,n10);}
@@ -44042,6 +44102,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -44308,7 +44369,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[515] = jj_gen;
+      jj_la1[516] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -44330,15 +44391,15 @@ public class CSQLParser implements CSQLParserConstants {
     label_37:
     while (true) {
       switch (jj_nt.kind) {
-      case 781:
+      case 782:
         ;
         break;
       default:
-        jj_la1[516] = jj_gen;
+        jj_la1[517] = jj_gen;
         break label_37;
       }
         n2 = new NodeSequence(2);
-      n4 = jj_consume_token(781);
+      n4 = jj_consume_token(782);
                n3 = JTBToolkit.makeNodeToken(n4);
         n2.addNode(n3);
       n5 = Grantee(prn);
@@ -44619,6 +44680,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -44887,15 +44949,15 @@ public class CSQLParser implements CSQLParserConstants {
       label_38:
       while (true) {
         switch (jj_nt.kind) {
-        case 781:
+        case 782:
           ;
           break;
         default:
-          jj_la1[517] = jj_gen;
+          jj_la1[518] = jj_gen;
           break label_38;
         }
            n6 = new NodeSequence(2);
-        n8 = jj_consume_token(781);
+        n8 = jj_consume_token(782);
                   n7 = JTBToolkit.makeNodeToken(n8);
            n6.addNode(n7);
         n9 = Identifier(prn);
@@ -44907,7 +44969,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[518] = jj_gen;
+      jj_la1[519] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -44971,7 +45033,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n13, 6);
       break;
     default:
-      jj_la1[519] = jj_gen;
+      jj_la1[520] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -45012,15 +45074,15 @@ public class CSQLParser implements CSQLParserConstants {
       label_39:
       while (true) {
         switch (jj_nt.kind) {
-        case 781:
+        case 782:
           ;
           break;
         default:
-          jj_la1[520] = jj_gen;
+          jj_la1[521] = jj_gen;
           break label_39;
         }
            n6 = new NodeSequence(2);
-        n8 = jj_consume_token(781);
+        n8 = jj_consume_token(782);
                   n7 = JTBToolkit.makeNodeToken(n8);
            n6.addNode(n7);
         n9 = Privilege(prn);
@@ -45032,7 +45094,7 @@ public class CSQLParser implements CSQLParserConstants {
         n0 = new NodeChoice(n3, 1);
       break;
     default:
-      jj_la1[521] = jj_gen;
+      jj_la1[522] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -45068,7 +45130,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[522] = jj_gen;
+      jj_la1[523] = jj_gen;
       ;
     }
     n8 = TableListForGrant(prn);
@@ -45107,7 +45169,7 @@ public class CSQLParser implements CSQLParserConstants {
         n5.addNode(n6);
       break;
     default:
-      jj_la1[523] = jj_gen;
+      jj_la1[524] = jj_gen;
       ;
     }
     n8 = TableListForGrant(prn);
@@ -45384,6 +45446,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -45661,14 +45724,14 @@ public class CSQLParser implements CSQLParserConstants {
            n5.addNode(n6);
         break;
       default:
-        jj_la1[524] = jj_gen;
+        jj_la1[525] = jj_gen;
         ;
       }
         n3.addNode(n5);
         n2.addNode(n3);
       break;
     default:
-      jj_la1[525] = jj_gen;
+      jj_la1[526] = jj_gen;
       ;
     }
      {if (true) return new Cluster(n0,n2);}
@@ -45694,7 +45757,7 @@ public class CSQLParser implements CSQLParserConstants {
         n2.addNode(n3);
       break;
     default:
-      jj_la1[526] = jj_gen;
+      jj_la1[527] = jj_gen;
       ;
     }
     n5 = TableName(prn);
@@ -45718,21 +45781,17 @@ public class CSQLParser implements CSQLParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public Unlisten Unlisten(PrintStream prn) throws ParseException {
+  final public Rebalance Rebalance(PrintStream prn) throws ParseException {
    NodeToken n0;
    Token n1;
    NodeOptional n2 = new NodeOptional();
-   NodeChoice n3;
-   Identifier n4;
-   NodeToken n5;
-   Token n6;
+   TableName n3;
 
    {
    }
-    n1 = jj_consume_token(UNLISTEN_);
-                    n0 = JTBToolkit.makeNodeToken(n1);
+    n1 = jj_consume_token(REBALANCE_);
+                     n0 = JTBToolkit.makeNodeToken(n1);
     switch (jj_nt.kind) {
-    case STAR_:
     case X_:
     case Y_:
     case Z_:
@@ -45823,6 +45882,7 @@ public class CSQLParser implements CSQLParserConstants {
     case ROUND_:
     case RTRIM_:
     case SCALE_:
+    case TEMPDOT_:
     case TRUNC_:
     case UPPER_:
     case VALUE_:
@@ -45885,6 +45945,7 @@ public class CSQLParser implements CSQLParserConstants {
     case NUMERIC_:
     case OVERLAY_:
     case PLACING_:
+    case PUBLICDOT_:
     case QUARTER_:
     case RADIANS_:
     case REGR_R2_:
@@ -45982,6 +46043,8 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case QPUBLICDOT_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -46244,432 +46307,971 @@ public class CSQLParser implements CSQLParserConstants {
     case POSITION_:
     case IDENTIFIER:
     case QUOTED_IDENTIFIER:
-      switch (jj_nt.kind) {
-      case X_:
-      case Y_:
-      case Z_:
-      case LN_:
-      case PI_:
-      case ABS_:
-      case AGE_:
-      case AVERAGE_:
-      case CHR_:
-      case COS_:
-      case COT_:
-      case DAY_:
-      case DEC_:
-      case EXP_:
-      case INT_:
-      case LOG_:
-      case MAX_:
-      case MD5_:
-      case MIN_:
-      case NOW_:
-      case NUM_:
-      case RAW_:
-      case SIN_:
-      case SUM_:
-      case TAN_:
-      case ACOS_:
-      case ASIN_:
-      case ATAN_:
-      case ATN2_:
-      case BLOB_:
-      case BYTE_:
-      case CBRT_:
-      case CEIL_:
-      case CHAR_:
-      case CLOB_:
-      case CORR_:
-      case COSH_:
-      case DATE_:
-      case HOST_:
-      case HOUR_:
-      case INT2_:
-      case INT4_:
-      case INT8_:
-      case LONG_:
-      case LPAD_:
-      case PORT_:
-      case REAL_:
-      case RPAD_:
-      case SIGN_:
-      case SQRT_:
-      case SRID_:
-      case ST_M_:
-      case ST_X_:
-      case ST_Y_:
-      case ST_Z_:
-      case TEXT_:
-      case TIME_:
-      case TRIM_:
-      case TYPE_:
-      case USER_:
-      case WEEK_:
-      case YEAR_:
-      case ASCII_:
-      case ASKML_:
-      case ATAN2_:
-      case BOX2D_:
-      case BOX3D_:
-      case BTRIM_:
-      case BYTEA_:
-      case COUNT_:
-      case EVERY_:
-      case FIXED_:
-      case FLOAT_:
-      case FLOOR_:
-      case IMAGE_:
-      case INSTR_:
-      case LEAST_:
-      case LFILL_:
-      case LOG10_:
-      case LOWER_:
-      case LTRIM_:
-      case MONEY_:
-      case MONTH_:
-      case MULTI_:
-      case NCHAR_:
-      case NDIMS_:
-      case POWER_:
-      case ROUND_:
-      case RTRIM_:
-      case SCALE_:
-      case TRUNC_:
-      case UPPER_:
-      case VALUE_:
-      case ABBREV_:
-      case AREA2D_:
-      case ASEWKB_:
-      case ASEWKT_:
-      case ASTEXT_:
-      case BIGINT_:
-      case BINARY_:
-      case BIT_OR_:
-      case CONCAT_WORD:
-      case DECODE_:
-      case ENCODE_:
-      case WORD_EQUALS_:
-      case EXTENT_:
-      case FAMILY_:
-      case FLOAT4_:
-      case FLOAT8_:
-      case ISRING_:
-      case LENGTH_:
-      case MINUTE_:
-      case NRINGS_:
-      case NULLIF_:
-      case NUMBER_:
-      case RANDOM_:
-      case REPEAT_:
-      case ROTATE_:
-      case SECOND_:
-      case STDDEV_:
-      case STRPOS_:
-      case SUBSTR_:
-      case TO_HEX_:
-      case WITHIN_:
-      case ZMFLAG_:
-      case ADDDATE_:
-      case ADDTIME_:
-      case BIT_AND_:
-      case BOOL_OR_:
-      case CEILING_:
-      case CLUSTER_:
-      case COLLECT_:
-      case CONVERT_:
-      case CURDATE_:
-      case CURTIME_:
-      case DAYNAME_:
-      case DECIMAL_:
-      case DEGREE_:
-      case EXTRACT_:
-      case GET_BIT_:
-      case INITCAP_:
-      case INTEGER_:
-      case ISEMPTY_:
-      case ISVALID_:
-      case MAPCHAR_:
-      case MASKLEN_:
-      case NETMASK_:
-      case NETWORK_:
-      case NPOINTS_:
-      case NUMERIC_:
-      case OVERLAY_:
-      case PLACING_:
-      case QUARTER_:
-      case RADIANS_:
-      case REGR_R2_:
-      case REPLACE_:
-      case ROTATEX_:
-      case ROTATEY_:
-      case ROTATEZ_:
-      case SET_BIT_:
-      case SETSEED_:
-      case SETSRID_:
-      case SOUNDEX_:
-      case SPATIAL_:
-      case ST_AREA_:
-      case STORAGE_:
-      case ST_SRID_:
-      case ST_TEXT_:
-      case SUBDATE_:
-      case SUBTIME_:
-      case TINYINT_:
-      case TO_CHAR_:
-      case TO_DATE_:
-      case VARCHAR_:
-      case VAR_POP_:
-      case VARYING_:
-      case VERSION_:
-      case ASBINARY_:
-      case BOOL_AND_:
-      case CONTAINS_:
-      case DATABASE_:
-      case DATEDIFF_:
-      case DATETIME_:
-      case DISJOINT_:
-      case DISTANCE_:
-      case DROPBBOX_:
-      case ENDPOINT_:
-      case ENVELOPE_:
-      case EXTENT3D_:
-      case FORCE_2D_:
-      case FORCE_3D_:
-      case FORCE_4D_:
-      case GEOMETRY_:
-      case GET_BYTE_:
-      case GREATEST_:
-      case HOSTMASK_:
-      case INTERVAL_:
-      case ISCLOSED_:
-      case ISFINITE_:
-      case ISSIMPLE_:
-      case LAST_DAY_:
-      case LENGTH2D_:
-      case LENGTH3D_:
-      case LONG_RAW_:
-      case LONGTEXT_:
-      case LVARCHAR_:
-      case MEM_SIZE_:
-      case NATIONAL_:
-      case NEXT_DAY_:
-      case PASSWORD_:
-      case REGCLASS_:
-      case REGR_SXX_:
-      case REGR_SXY_:
-      case REGR_SYY_:
-      case SET_BYTE_:
-      case SETPOINT_:
-      case SIMPLIFY_:
-      case SMALLINT_:
-      case ST_ASGML_:
-      case ST_ASKML_:
-      case ST_ASSVG_:
-      case ST_BOX2D_:
-      case ST_BOX3D_:
-      case ST_BYTEA_:
-      case ST_MULTI_:
-      case ST_NDIMS_:
-      case ST_POINT_:
-      case ST_SCALE_:
-      case ST_WIDTH_:
-      case TINYTEXT_:
-      case TO_ASCII_:
-      case TRUNCATE_:
-      case VARCHAR2_:
-      case VARIANCE_:
-      case VAR_SAMP_:
-      case ASHEXEWKB_:
-      case BROADCAST_:
-      case CHARACHTER_:
-      case COVAR_POP_:
-      case DATEPART_:
-      case DAYOFWEEK_:
-      case DAYOFYEAR_:
-      case DIMENSION_:
-      case FORCE_3DM_:
-      case FORCE_3DZ_:
-      case GEOMETRYN_:
-      case LINEMERGE_:
-      case LOCALTIME_:
-      case MONTHNAME_:
-      case REGR_AVGX_:
-      case REGR_AVGY_:
-      case ST_AFFINE_:
-      case ST_AREA2D_:
-      case ST_ASEWKB_:
-      case ST_ASEWKT_:
-      case ST_ASTEXT_:
-      case ST_BUFFER_:
-      case ST_COVERS_:
-      case ST_EQUALS_:
-      case ST_EXTENT_:
-      case ST_FACTOR_:
-      case ST_HASARC_:
-      case ST_HEIGHT_:
-      case ST_ISRING_:
-      case ST_LENGTH_:
-      case ST_NRINGS_:
-      case ST_POINTN_:
-      case ST_RELATE_:
-      case ST_ROTATE_:
-      case ST_WITHIN_:
-      case ST_ZMFLAG_:
-      case SUBSTRING_:
-      case TIMEOFDAY_:
-      case TIMESTAMP_:
-      case TO_NUMBER_:
-      case TRANSFORM_:
-      case TRANSLATE_:
-      case VARBINARY_:
-      case ADD_MONTHS_:
-      case BIGINTEGER_:
-      case BIT_LENGTH_:
-      case COVAR_SAMP_:
-      case DATETRUNC_:
-      case DAYOFMONTH_:
-      case DIFFERENCE_:
-      case INTERSECTS_:
-      case MEDIUMTEXT_:
-      case REGR_COUNT_:
-      case REGR_SLOPE_:
-      case SEGMENTIZE_:
-      case SMALLFLOAT_:
-      case SMALLMONEY_:
-      case SNAPTOGRID_:
-      case SPLIT_PART_:
-      case STARTPOINT_:
-      case ST_AZIMUTH_:
-      case ST_CHIP_IN_:
-      case ST_COLLECT_:
-      case ST_CROSSES_:
-      case STDDEV_POP_:
-      case ST_DWITHIN_:
-      case ST_GEOHASH_:
-      case ST_ISEMPTY_:
-      case ST_ISVALID_:
-      case ST_NPOINTS_:
-      case ST_POLYGON_:
-      case ST_REVERSE_:
-      case ST_ROTATEX_:
-      case ST_ROTATEY_:
-      case ST_ROTATEZ_:
-      case ST_SETSRID_:
-      case ST_SUMMARY_:
-      case ST_TOUCHES_:
-      case TRANSSCALE_:
-      case WEEKOFYEAR_:
-      case BOX3DEXTENT_:
-      case CHAR_LENGTH_:
-      case PERIMETER2D_:
-      case PERIMETER3D_:
-      case QUOTE_IDENT_:
-      case REMOVEPOINT_:
-      case SET_MASKLEN_:
-      case ST_ADDPOINT_:
-      case ST_ASBINARY_:
-      case ST_BOUNDARY_:
-      case ST_CENTROID_:
-      case ST_CHIP_OUT_:
-      case ST_CONTAINS_:
-      case ST_COORDDIM_:
-      case ST_DATATYPE_:
-      case STDDEV_SAMP_:
-      case ST_DISJOINT_:
-      case ST_DISTANCE_:
-      case ST_ENDPOINT_:
-      case ST_ENVELOPE_:
-      case ST_EXTENT3D_:
-      case ST_FORCE_2D_:
-      case ST_FORCE_3D_:
-      case ST_FORCE_4D_:
-      case ST_FORCERHR_:
-      case ST_GEOMETRY_:
-      case ST_GMLTOSQL_:
-      case ST_ISCLOSED_:
-      case ST_ISSIMPLE_:
-      case ST_LENGTH2D_:
-      case ST_LENGTH3D_:
-      case ST_MEM_SIZE_:
-      case ST_OVERLAPS_:
-      case ST_SETPOINT_:
-      case ST_SIMPLIFY_:
-      case ST_WKBTOSQL_:
-      case ST_WKTTOSQL_:
-      case CURRENTDATE_:
-      case CURRENT_TIME_:
-      case CURRENT_USER_:
-      case EXTERIORRING_:
-      case GEOMETRYTYPE_:
-      case GEOMFROMEWKT_:
-      case GEOMFROMTEXT_:
-      case INTERSECTION_:
-      case JUSTIFY_DAYS_:
-      case LONG_VARCHAR_:
-      case OCTET_LENGTH_:
-      case ST_ASGEOJSON_:
-      case ST_ASHEXEWKB_:
-      case ST_BUILDAREA_:
-      case ST_COVEREDBY_:
-      case ST_DIMENSION_:
-      case ST_FORCE_3DM_:
-      case ST_FORCE_3DZ_:
-      case ST_GEOMETRYN_:
-      case ST_LINEMERGE_:
-      case ST_MAKEPOINT_:
-      case ST_NUMPOINTS_:
-      case ST_PERIMETER_:
-      case ST_SETFACTOR_:
-      case ST_TRANSFORM_:
-      case ST_TRANSLATE_:
-      case TO_TIMESTAMP_:
-      case VARIANCE_POP_:
-      case WIDTH_BUCKET_:
-      case INTERIORRINGN_:
-      case JUSTIFY_HOURS_:
-      case NUMGEOMETRIES_:
-      case QUOTE_LITERAL_:
-      case SAMLLDATETIME_:
-      case ST_ADDMEASURE_:
-      case ST_CONVEXHULL_:
-      case ST_DIFFERENCE_:
-      case ST_INTERSECTS_:
-      case ST_MAKEPOINTM_:
-      case ST_MEMCOLLECT_:
-      case ST_SEGMENTIZE_:
-      case ST_SNAPTOGRID_:
-      case ST_STARTPOINT_:
-      case ST_TRANSSCALE_:
-      case SYMDIFFERENCE_:
-      case VARIANCE_SAMP_:
-      case CURRENT_SCHEMA_:
-      case LINE_SUBSTRING_:
-      case LOCALTIMESTAMP_:
-      case MONTHS_BETWEEN_:
-      case REGEXP_REPLACE_:
-      case REGR_INTERCEPT_:
-      case ST_COMPRESSION_:
-      case ST_CURVETOLINE_:
-      case ST_FIND_EXTENT_:
-      case ST_GEOGFROMWKB_:
-      case ST_GEOMFROMGML_:
-      case ST_GEOMFROMKML_:
-      case ST_GEOMFROMWKB_:
-      case ST_LINEFROMWKB_:
-      case ST_LINETOCURVE_:
-      case ST_LONGESTLINE_:
-      case ST_MAKEPOLYGON_:
-      case ST_MAXDISTANCE_:
-      case ST_PERIMETER2D_:
-      case ST_PERIMETER3D_:
-      case ST_POLYFROMWKB_:
-      case ST_REMOVEPOINT_:
-      case CLOCK_TIMESTAMP_:
-      case ST_CLOSESTPOINT_:
-      case ST_COMBINE_BBOX_:
-      case ST_DFULLYWITHIN_:
-      case ST_EXTERIORRING_:
+      n3 = TableName(prn);
+        n2.addNode(n3);
+      break;
+    default:
+      jj_la1[528] = jj_gen;
+      ;
+    }
+     {if (true) return new Rebalance(n0,n2);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public Unlisten Unlisten(PrintStream prn) throws ParseException {
+   NodeToken n0;
+   Token n1;
+   NodeOptional n2 = new NodeOptional();
+   NodeChoice n3;
+   Identifier n4;
+   NodeToken n5;
+   Token n6;
+
+   {
+   }
+    n1 = jj_consume_token(UNLISTEN_);
+                    n0 = JTBToolkit.makeNodeToken(n1);
+    switch (jj_nt.kind) {
+    case STAR_:
+    case X_:
+    case Y_:
+    case Z_:
+    case LN_:
+    case PI_:
+    case ABS_:
+    case AGE_:
+    case AVERAGE_:
+    case CHR_:
+    case COS_:
+    case COT_:
+    case DAY_:
+    case DEC_:
+    case EXP_:
+    case INT_:
+    case LOG_:
+    case MAX_:
+    case MD5_:
+    case MIN_:
+    case NOW_:
+    case NUM_:
+    case RAW_:
+    case SIN_:
+    case SUM_:
+    case TAN_:
+    case ACOS_:
+    case ASIN_:
+    case ATAN_:
+    case ATN2_:
+    case BLOB_:
+    case BYTE_:
+    case CBRT_:
+    case CEIL_:
+    case CHAR_:
+    case CLOB_:
+    case CORR_:
+    case COSH_:
+    case DATE_:
+    case HOST_:
+    case HOUR_:
+    case INT2_:
+    case INT4_:
+    case INT8_:
+    case LONG_:
+    case LPAD_:
+    case PORT_:
+    case REAL_:
+    case RPAD_:
+    case SIGN_:
+    case SQRT_:
+    case SRID_:
+    case ST_M_:
+    case ST_X_:
+    case ST_Y_:
+    case ST_Z_:
+    case TEXT_:
+    case TIME_:
+    case TRIM_:
+    case TYPE_:
+    case USER_:
+    case WEEK_:
+    case YEAR_:
+    case ASCII_:
+    case ASKML_:
+    case ATAN2_:
+    case BOX2D_:
+    case BOX3D_:
+    case BTRIM_:
+    case BYTEA_:
+    case COUNT_:
+    case EVERY_:
+    case FIXED_:
+    case FLOAT_:
+    case FLOOR_:
+    case IMAGE_:
+    case INSTR_:
+    case LEAST_:
+    case LFILL_:
+    case LOG10_:
+    case LOWER_:
+    case LTRIM_:
+    case MONEY_:
+    case MONTH_:
+    case MULTI_:
+    case NCHAR_:
+    case NDIMS_:
+    case POWER_:
+    case ROUND_:
+    case RTRIM_:
+    case SCALE_:
+    case TRUNC_:
+    case UPPER_:
+    case VALUE_:
+    case ABBREV_:
+    case AREA2D_:
+    case ASEWKB_:
+    case ASEWKT_:
+    case ASTEXT_:
+    case BIGINT_:
+    case BINARY_:
+    case BIT_OR_:
+    case CONCAT_WORD:
+    case DECODE_:
+    case ENCODE_:
+    case WORD_EQUALS_:
+    case EXTENT_:
+    case FAMILY_:
+    case FLOAT4_:
+    case FLOAT8_:
+    case ISRING_:
+    case LENGTH_:
+    case MINUTE_:
+    case NRINGS_:
+    case NULLIF_:
+    case NUMBER_:
+    case RANDOM_:
+    case REPEAT_:
+    case ROTATE_:
+    case SECOND_:
+    case STDDEV_:
+    case STRPOS_:
+    case SUBSTR_:
+    case TO_HEX_:
+    case WITHIN_:
+    case ZMFLAG_:
+    case ADDDATE_:
+    case ADDTIME_:
+    case BIT_AND_:
+    case BOOL_OR_:
+    case CEILING_:
+    case CLUSTER_:
+    case COLLECT_:
+    case CONVERT_:
+    case CURDATE_:
+    case CURTIME_:
+    case DAYNAME_:
+    case DECIMAL_:
+    case DEGREE_:
+    case EXTRACT_:
+    case GET_BIT_:
+    case INITCAP_:
+    case INTEGER_:
+    case ISEMPTY_:
+    case ISVALID_:
+    case MAPCHAR_:
+    case MASKLEN_:
+    case NETMASK_:
+    case NETWORK_:
+    case NPOINTS_:
+    case NUMERIC_:
+    case OVERLAY_:
+    case PLACING_:
+    case QUARTER_:
+    case RADIANS_:
+    case REGR_R2_:
+    case REPLACE_:
+    case ROTATEX_:
+    case ROTATEY_:
+    case ROTATEZ_:
+    case SET_BIT_:
+    case SETSEED_:
+    case SETSRID_:
+    case SOUNDEX_:
+    case SPATIAL_:
+    case ST_AREA_:
+    case STORAGE_:
+    case ST_SRID_:
+    case ST_TEXT_:
+    case SUBDATE_:
+    case SUBTIME_:
+    case TINYINT_:
+    case TO_CHAR_:
+    case TO_DATE_:
+    case VARCHAR_:
+    case VAR_POP_:
+    case VARYING_:
+    case VERSION_:
+    case ASBINARY_:
+    case BOOL_AND_:
+    case CONTAINS_:
+    case DATABASE_:
+    case DATEDIFF_:
+    case DATETIME_:
+    case DISJOINT_:
+    case DISTANCE_:
+    case DROPBBOX_:
+    case ENDPOINT_:
+    case ENVELOPE_:
+    case EXTENT3D_:
+    case FORCE_2D_:
+    case FORCE_3D_:
+    case FORCE_4D_:
+    case GEOMETRY_:
+    case GET_BYTE_:
+    case GREATEST_:
+    case HOSTMASK_:
+    case INTERVAL_:
+    case ISCLOSED_:
+    case ISFINITE_:
+    case ISSIMPLE_:
+    case LAST_DAY_:
+    case LENGTH2D_:
+    case LENGTH3D_:
+    case LONG_RAW_:
+    case LONGTEXT_:
+    case LVARCHAR_:
+    case MEM_SIZE_:
+    case NATIONAL_:
+    case NEXT_DAY_:
+    case PASSWORD_:
+    case REGCLASS_:
+    case REGR_SXX_:
+    case REGR_SXY_:
+    case REGR_SYY_:
+    case SET_BYTE_:
+    case SETPOINT_:
+    case SIMPLIFY_:
+    case SMALLINT_:
+    case ST_ASGML_:
+    case ST_ASKML_:
+    case ST_ASSVG_:
+    case ST_BOX2D_:
+    case ST_BOX3D_:
+    case ST_BYTEA_:
+    case ST_MULTI_:
+    case ST_NDIMS_:
+    case ST_POINT_:
+    case ST_SCALE_:
+    case ST_WIDTH_:
+    case TINYTEXT_:
+    case TO_ASCII_:
+    case TRUNCATE_:
+    case VARCHAR2_:
+    case VARIANCE_:
+    case VAR_SAMP_:
+    case ASHEXEWKB_:
+    case BROADCAST_:
+    case CHARACHTER_:
+    case COVAR_POP_:
+    case DATEPART_:
+    case DAYOFWEEK_:
+    case DAYOFYEAR_:
+    case DIMENSION_:
+    case FORCE_3DM_:
+    case FORCE_3DZ_:
+    case GEOMETRYN_:
+    case LINEMERGE_:
+    case LOCALTIME_:
+    case MONTHNAME_:
+    case REBALANCE_:
+    case REGR_AVGX_:
+    case REGR_AVGY_:
+    case ST_AFFINE_:
+    case ST_AREA2D_:
+    case ST_ASEWKB_:
+    case ST_ASEWKT_:
+    case ST_ASTEXT_:
+    case ST_BUFFER_:
+    case ST_COVERS_:
+    case ST_EQUALS_:
+    case ST_EXTENT_:
+    case ST_FACTOR_:
+    case ST_HASARC_:
+    case ST_HEIGHT_:
+    case ST_ISRING_:
+    case ST_LENGTH_:
+    case ST_NRINGS_:
+    case ST_POINTN_:
+    case ST_RELATE_:
+    case ST_ROTATE_:
+    case ST_WITHIN_:
+    case ST_ZMFLAG_:
+    case SUBSTRING_:
+    case TIMEOFDAY_:
+    case TIMESTAMP_:
+    case TO_NUMBER_:
+    case TRANSFORM_:
+    case TRANSLATE_:
+    case VARBINARY_:
+    case ADD_MONTHS_:
+    case BIGINTEGER_:
+    case BIT_LENGTH_:
+    case COVAR_SAMP_:
+    case DATETRUNC_:
+    case DAYOFMONTH_:
+    case DIFFERENCE_:
+    case INTERSECTS_:
+    case MEDIUMTEXT_:
+    case REGR_COUNT_:
+    case REGR_SLOPE_:
+    case SEGMENTIZE_:
+    case SMALLFLOAT_:
+    case SMALLMONEY_:
+    case SNAPTOGRID_:
+    case SPLIT_PART_:
+    case STARTPOINT_:
+    case ST_AZIMUTH_:
+    case ST_CHIP_IN_:
+    case ST_COLLECT_:
+    case ST_CROSSES_:
+    case STDDEV_POP_:
+    case ST_DWITHIN_:
+    case ST_GEOHASH_:
+    case ST_ISEMPTY_:
+    case ST_ISVALID_:
+    case ST_NPOINTS_:
+    case ST_POLYGON_:
+    case ST_REVERSE_:
+    case ST_ROTATEX_:
+    case ST_ROTATEY_:
+    case ST_ROTATEZ_:
+    case ST_SETSRID_:
+    case ST_SUMMARY_:
+    case ST_TOUCHES_:
+    case TRANSSCALE_:
+    case WEEKOFYEAR_:
+    case BOX3DEXTENT_:
+    case CHAR_LENGTH_:
+    case PERIMETER2D_:
+    case PERIMETER3D_:
+    case QUOTE_IDENT_:
+    case REMOVEPOINT_:
+    case SET_MASKLEN_:
+    case ST_ADDPOINT_:
+    case ST_ASBINARY_:
+    case ST_BOUNDARY_:
+    case ST_CENTROID_:
+    case ST_CHIP_OUT_:
+    case ST_CONTAINS_:
+    case ST_COORDDIM_:
+    case ST_DATATYPE_:
+    case STDDEV_SAMP_:
+    case ST_DISJOINT_:
+    case ST_DISTANCE_:
+    case ST_ENDPOINT_:
+    case ST_ENVELOPE_:
+    case ST_EXTENT3D_:
+    case ST_FORCE_2D_:
+    case ST_FORCE_3D_:
+    case ST_FORCE_4D_:
+    case ST_FORCERHR_:
+    case ST_GEOMETRY_:
+    case ST_GMLTOSQL_:
+    case ST_ISCLOSED_:
+    case ST_ISSIMPLE_:
+    case ST_LENGTH2D_:
+    case ST_LENGTH3D_:
+    case ST_MEM_SIZE_:
+    case ST_OVERLAPS_:
+    case ST_SETPOINT_:
+    case ST_SIMPLIFY_:
+    case ST_WKBTOSQL_:
+    case ST_WKTTOSQL_:
+    case CURRENTDATE_:
+    case CURRENT_TIME_:
+    case CURRENT_USER_:
+    case EXTERIORRING_:
+    case GEOMETRYTYPE_:
+    case GEOMFROMEWKT_:
+    case GEOMFROMTEXT_:
+    case INTERSECTION_:
+    case JUSTIFY_DAYS_:
+    case LONG_VARCHAR_:
+    case OCTET_LENGTH_:
+    case ST_ASGEOJSON_:
+    case ST_ASHEXEWKB_:
+    case ST_BUILDAREA_:
+    case ST_COVEREDBY_:
+    case ST_DIMENSION_:
+    case ST_FORCE_3DM_:
+    case ST_FORCE_3DZ_:
+    case ST_GEOMETRYN_:
+    case ST_LINEMERGE_:
+    case ST_MAKEPOINT_:
+    case ST_NUMPOINTS_:
+    case ST_PERIMETER_:
+    case ST_SETFACTOR_:
+    case ST_TRANSFORM_:
+    case ST_TRANSLATE_:
+    case TO_TIMESTAMP_:
+    case VARIANCE_POP_:
+    case WIDTH_BUCKET_:
+    case INTERIORRINGN_:
+    case JUSTIFY_HOURS_:
+    case NUMGEOMETRIES_:
+    case QUOTE_LITERAL_:
+    case SAMLLDATETIME_:
+    case ST_ADDMEASURE_:
+    case ST_CONVEXHULL_:
+    case ST_DIFFERENCE_:
+    case ST_INTERSECTS_:
+    case ST_MAKEPOINTM_:
+    case ST_MEMCOLLECT_:
+    case ST_SEGMENTIZE_:
+    case ST_SNAPTOGRID_:
+    case ST_STARTPOINT_:
+    case ST_TRANSSCALE_:
+    case SYMDIFFERENCE_:
+    case VARIANCE_SAMP_:
+    case CURRENT_SCHEMA_:
+    case LINE_SUBSTRING_:
+    case LOCALTIMESTAMP_:
+    case MONTHS_BETWEEN_:
+    case REGEXP_REPLACE_:
+    case REGR_INTERCEPT_:
+    case ST_COMPRESSION_:
+    case ST_CURVETOLINE_:
+    case ST_FIND_EXTENT_:
+    case ST_GEOGFROMWKB_:
+    case ST_GEOMFROMGML_:
+    case ST_GEOMFROMKML_:
+    case ST_GEOMFROMWKB_:
+    case ST_LINEFROMWKB_:
+    case ST_LINETOCURVE_:
+    case ST_LONGESTLINE_:
+    case ST_MAKEPOLYGON_:
+    case ST_MAXDISTANCE_:
+    case ST_PERIMETER2D_:
+    case ST_PERIMETER3D_:
+    case ST_POLYFROMWKB_:
+    case ST_REMOVEPOINT_:
+    case CLOCK_TIMESTAMP_:
+    case ST_CLOSESTPOINT_:
+    case ST_COMBINE_BBOX_:
+    case ST_DFULLYWITHIN_:
+    case ST_EXTERIORRING_:
+    case ST_GEOGFROMTEXT_:
+    case ST_GEOMETRYTYPE_:
+    case ST_GEOMFROMEWKB_:
+    case ST_GEOMFROMEWKT_:
+    case ST_GEOMFROMTEXT_:
+    case ST_INTERSECTION_:
+    case ST_LINEFROMTEXT_:
+    case ST_MAKEENVELOPE_:
+    case ST_MLINEFROMWKB_:
+    case ST_MPOLYFROMWKB_:
+    case ST_POINTFROMWKB_:
+    case ST_POLYFROMTEXT_:
+    case ST_SHORTESTLINE_:
+    case CHARACTER_LENGTH_:
+    case CURRENT_DATABASE_:
+    case FORCE_COLLECTION_:
+    case JUSTIFY_INTERVAL_:
+    case NUMINTERIORRINGS_:
+    case POSTGIS_DROPBBOX_:
+    case ST_INTERIORRINGN_:
+    case ST_ISVALIDREASON_:
+    case ST_MLINEFROMTEXT_:
+    case ST_MPOINTFROMWKB_:
+    case ST_MPOLYFROMTEXT_:
+    case ST_NUMGEOMETRIES_:
+    case ST_POINTFROMTEXT_:
+    case ST_SYMDIFFERENCE_:
+    case ADDGEOMETRYCOLUMN_:
+    case CURRENT_TIMESTAMP_:
+    case LINE_LOCATE_POINT_:
+    case ST_BDPOLYFROMTEXT_:
+    case ST_LINE_SUBSTRING_:
+    case ST_MPOINTFROMTEXT_:
+    case ST_ORDERINGEQUALS_:
+    case ST_POINTONSURFACE_:
+    case ST_POLYGONFROMWKB_:
+    case PG_CLIENT_ENCODING_:
+    case ST_BDMPOLYFROMTEXT_:
+    case ST_DISTANCE_SPHERE_:
+    case ST_GEOMCOLLFROMWKB_:
+    case ST_LENGTH_SPHEROID_:
+    case ST_NUMINTERIORRING_:
+    case ST_POLYGONFROMTEXT_:
+    case ST_SHIFT_LONGITUDE_:
+    case STATEMENT_TIMESTAMP_:
+    case ST_CONTAINSPROPERLY_:
+    case ST_FORCE_COLLECTION_:
+    case ST_GEOMCOLLFROMTEXT_:
+    case ST_MULTILINEFROMWKB_:
+    case ST_MULTIPOLYFROMWKB_:
+    case ST_NUMINTERIORRINGS_:
+    case ST_POSTGIS_GIST_SEL_:
+    case LOCATE_ALONG_MEASURE_:
+    case ST_COLLECTIONEXTRACT_:
+    case ST_DISTANCE_SPHEROID_:
+    case ST_GEOGRAPHYFROMTEXT_:
+    case ST_HAUSDORFFDISTANCE_:
+    case ST_LENGTH2D_SPHEROID_:
+    case ST_LENGTH3D_SPHEROID_:
+    case ST_LINE_LOCATE_POINT_:
+    case ST_LINESTRINGFROMWKB_:
+    case ST_MULTIPOINTFROMWKB_:
+    case ST_LINEFROMMULTIPOINT_:
+    case ST_MULTIPOINTFROMTEXT_:
+    case TRANSACTION_TIMESTAMP_:
+    case LINE_INTERPOLATE_POINT_:
+    case ST_POINT_INSIDE_CIRCLE_:
+    case ST_SYMMETRICDIFFERENCE_:
+    case LOCATE_BETWEEN_MEASURES_:
+    case ST_LOCATE_ALONG_MEASURE_:
+    case ST_MULTIPOLYGONFROMTEXT_:
+    case ST_POSTGIS_GIST_JOINSEL_:
+    case ST_LINECROSSINGDIRECTION_:
+    case ST_MINIMUMBOUNDINGCIRCLE_:
+    case ST_LINE_INTERPOLATE_POINT_:
+    case ST_LOCATEBETWEENELEVATIONS_:
+    case ST_LOCATE_BETWEEN_MEASURES_:
+    case ST_MULTILINESTRINGFROMTEXT_:
+    case ST_SIMPLIFYPRESERVETOPOLOGY_:
+    case WITH_TIMEZONE_:
+    case WITHOUT_TIMEZONE_:
+    case DOUBLE_PRECISION_:
+    case BOOLEAN_:
+    case POSITION_:
+    case IDENTIFIER:
+    case QUOTED_IDENTIFIER:
+      switch (jj_nt.kind) {
+      case X_:
+      case Y_:
+      case Z_:
+      case LN_:
+      case PI_:
+      case ABS_:
+      case AGE_:
+      case AVERAGE_:
+      case CHR_:
+      case COS_:
+      case COT_:
+      case DAY_:
+      case DEC_:
+      case EXP_:
+      case INT_:
+      case LOG_:
+      case MAX_:
+      case MD5_:
+      case MIN_:
+      case NOW_:
+      case NUM_:
+      case RAW_:
+      case SIN_:
+      case SUM_:
+      case TAN_:
+      case ACOS_:
+      case ASIN_:
+      case ATAN_:
+      case ATN2_:
+      case BLOB_:
+      case BYTE_:
+      case CBRT_:
+      case CEIL_:
+      case CHAR_:
+      case CLOB_:
+      case CORR_:
+      case COSH_:
+      case DATE_:
+      case HOST_:
+      case HOUR_:
+      case INT2_:
+      case INT4_:
+      case INT8_:
+      case LONG_:
+      case LPAD_:
+      case PORT_:
+      case REAL_:
+      case RPAD_:
+      case SIGN_:
+      case SQRT_:
+      case SRID_:
+      case ST_M_:
+      case ST_X_:
+      case ST_Y_:
+      case ST_Z_:
+      case TEXT_:
+      case TIME_:
+      case TRIM_:
+      case TYPE_:
+      case USER_:
+      case WEEK_:
+      case YEAR_:
+      case ASCII_:
+      case ASKML_:
+      case ATAN2_:
+      case BOX2D_:
+      case BOX3D_:
+      case BTRIM_:
+      case BYTEA_:
+      case COUNT_:
+      case EVERY_:
+      case FIXED_:
+      case FLOAT_:
+      case FLOOR_:
+      case IMAGE_:
+      case INSTR_:
+      case LEAST_:
+      case LFILL_:
+      case LOG10_:
+      case LOWER_:
+      case LTRIM_:
+      case MONEY_:
+      case MONTH_:
+      case MULTI_:
+      case NCHAR_:
+      case NDIMS_:
+      case POWER_:
+      case ROUND_:
+      case RTRIM_:
+      case SCALE_:
+      case TRUNC_:
+      case UPPER_:
+      case VALUE_:
+      case ABBREV_:
+      case AREA2D_:
+      case ASEWKB_:
+      case ASEWKT_:
+      case ASTEXT_:
+      case BIGINT_:
+      case BINARY_:
+      case BIT_OR_:
+      case CONCAT_WORD:
+      case DECODE_:
+      case ENCODE_:
+      case WORD_EQUALS_:
+      case EXTENT_:
+      case FAMILY_:
+      case FLOAT4_:
+      case FLOAT8_:
+      case ISRING_:
+      case LENGTH_:
+      case MINUTE_:
+      case NRINGS_:
+      case NULLIF_:
+      case NUMBER_:
+      case RANDOM_:
+      case REPEAT_:
+      case ROTATE_:
+      case SECOND_:
+      case STDDEV_:
+      case STRPOS_:
+      case SUBSTR_:
+      case TO_HEX_:
+      case WITHIN_:
+      case ZMFLAG_:
+      case ADDDATE_:
+      case ADDTIME_:
+      case BIT_AND_:
+      case BOOL_OR_:
+      case CEILING_:
+      case CLUSTER_:
+      case COLLECT_:
+      case CONVERT_:
+      case CURDATE_:
+      case CURTIME_:
+      case DAYNAME_:
+      case DECIMAL_:
+      case DEGREE_:
+      case EXTRACT_:
+      case GET_BIT_:
+      case INITCAP_:
+      case INTEGER_:
+      case ISEMPTY_:
+      case ISVALID_:
+      case MAPCHAR_:
+      case MASKLEN_:
+      case NETMASK_:
+      case NETWORK_:
+      case NPOINTS_:
+      case NUMERIC_:
+      case OVERLAY_:
+      case PLACING_:
+      case QUARTER_:
+      case RADIANS_:
+      case REGR_R2_:
+      case REPLACE_:
+      case ROTATEX_:
+      case ROTATEY_:
+      case ROTATEZ_:
+      case SET_BIT_:
+      case SETSEED_:
+      case SETSRID_:
+      case SOUNDEX_:
+      case SPATIAL_:
+      case ST_AREA_:
+      case STORAGE_:
+      case ST_SRID_:
+      case ST_TEXT_:
+      case SUBDATE_:
+      case SUBTIME_:
+      case TINYINT_:
+      case TO_CHAR_:
+      case TO_DATE_:
+      case VARCHAR_:
+      case VAR_POP_:
+      case VARYING_:
+      case VERSION_:
+      case ASBINARY_:
+      case BOOL_AND_:
+      case CONTAINS_:
+      case DATABASE_:
+      case DATEDIFF_:
+      case DATETIME_:
+      case DISJOINT_:
+      case DISTANCE_:
+      case DROPBBOX_:
+      case ENDPOINT_:
+      case ENVELOPE_:
+      case EXTENT3D_:
+      case FORCE_2D_:
+      case FORCE_3D_:
+      case FORCE_4D_:
+      case GEOMETRY_:
+      case GET_BYTE_:
+      case GREATEST_:
+      case HOSTMASK_:
+      case INTERVAL_:
+      case ISCLOSED_:
+      case ISFINITE_:
+      case ISSIMPLE_:
+      case LAST_DAY_:
+      case LENGTH2D_:
+      case LENGTH3D_:
+      case LONG_RAW_:
+      case LONGTEXT_:
+      case LVARCHAR_:
+      case MEM_SIZE_:
+      case NATIONAL_:
+      case NEXT_DAY_:
+      case PASSWORD_:
+      case REGCLASS_:
+      case REGR_SXX_:
+      case REGR_SXY_:
+      case REGR_SYY_:
+      case SET_BYTE_:
+      case SETPOINT_:
+      case SIMPLIFY_:
+      case SMALLINT_:
+      case ST_ASGML_:
+      case ST_ASKML_:
+      case ST_ASSVG_:
+      case ST_BOX2D_:
+      case ST_BOX3D_:
+      case ST_BYTEA_:
+      case ST_MULTI_:
+      case ST_NDIMS_:
+      case ST_POINT_:
+      case ST_SCALE_:
+      case ST_WIDTH_:
+      case TINYTEXT_:
+      case TO_ASCII_:
+      case TRUNCATE_:
+      case VARCHAR2_:
+      case VARIANCE_:
+      case VAR_SAMP_:
+      case ASHEXEWKB_:
+      case BROADCAST_:
+      case CHARACHTER_:
+      case COVAR_POP_:
+      case DATEPART_:
+      case DAYOFWEEK_:
+      case DAYOFYEAR_:
+      case DIMENSION_:
+      case FORCE_3DM_:
+      case FORCE_3DZ_:
+      case GEOMETRYN_:
+      case LINEMERGE_:
+      case LOCALTIME_:
+      case MONTHNAME_:
+      case REBALANCE_:
+      case REGR_AVGX_:
+      case REGR_AVGY_:
+      case ST_AFFINE_:
+      case ST_AREA2D_:
+      case ST_ASEWKB_:
+      case ST_ASEWKT_:
+      case ST_ASTEXT_:
+      case ST_BUFFER_:
+      case ST_COVERS_:
+      case ST_EQUALS_:
+      case ST_EXTENT_:
+      case ST_FACTOR_:
+      case ST_HASARC_:
+      case ST_HEIGHT_:
+      case ST_ISRING_:
+      case ST_LENGTH_:
+      case ST_NRINGS_:
+      case ST_POINTN_:
+      case ST_RELATE_:
+      case ST_ROTATE_:
+      case ST_WITHIN_:
+      case ST_ZMFLAG_:
+      case SUBSTRING_:
+      case TIMEOFDAY_:
+      case TIMESTAMP_:
+      case TO_NUMBER_:
+      case TRANSFORM_:
+      case TRANSLATE_:
+      case VARBINARY_:
+      case ADD_MONTHS_:
+      case BIGINTEGER_:
+      case BIT_LENGTH_:
+      case COVAR_SAMP_:
+      case DATETRUNC_:
+      case DAYOFMONTH_:
+      case DIFFERENCE_:
+      case INTERSECTS_:
+      case MEDIUMTEXT_:
+      case REGR_COUNT_:
+      case REGR_SLOPE_:
+      case SEGMENTIZE_:
+      case SMALLFLOAT_:
+      case SMALLMONEY_:
+      case SNAPTOGRID_:
+      case SPLIT_PART_:
+      case STARTPOINT_:
+      case ST_AZIMUTH_:
+      case ST_CHIP_IN_:
+      case ST_COLLECT_:
+      case ST_CROSSES_:
+      case STDDEV_POP_:
+      case ST_DWITHIN_:
+      case ST_GEOHASH_:
+      case ST_ISEMPTY_:
+      case ST_ISVALID_:
+      case ST_NPOINTS_:
+      case ST_POLYGON_:
+      case ST_REVERSE_:
+      case ST_ROTATEX_:
+      case ST_ROTATEY_:
+      case ST_ROTATEZ_:
+      case ST_SETSRID_:
+      case ST_SUMMARY_:
+      case ST_TOUCHES_:
+      case TRANSSCALE_:
+      case WEEKOFYEAR_:
+      case BOX3DEXTENT_:
+      case CHAR_LENGTH_:
+      case PERIMETER2D_:
+      case PERIMETER3D_:
+      case QUOTE_IDENT_:
+      case REMOVEPOINT_:
+      case SET_MASKLEN_:
+      case ST_ADDPOINT_:
+      case ST_ASBINARY_:
+      case ST_BOUNDARY_:
+      case ST_CENTROID_:
+      case ST_CHIP_OUT_:
+      case ST_CONTAINS_:
+      case ST_COORDDIM_:
+      case ST_DATATYPE_:
+      case STDDEV_SAMP_:
+      case ST_DISJOINT_:
+      case ST_DISTANCE_:
+      case ST_ENDPOINT_:
+      case ST_ENVELOPE_:
+      case ST_EXTENT3D_:
+      case ST_FORCE_2D_:
+      case ST_FORCE_3D_:
+      case ST_FORCE_4D_:
+      case ST_FORCERHR_:
+      case ST_GEOMETRY_:
+      case ST_GMLTOSQL_:
+      case ST_ISCLOSED_:
+      case ST_ISSIMPLE_:
+      case ST_LENGTH2D_:
+      case ST_LENGTH3D_:
+      case ST_MEM_SIZE_:
+      case ST_OVERLAPS_:
+      case ST_SETPOINT_:
+      case ST_SIMPLIFY_:
+      case ST_WKBTOSQL_:
+      case ST_WKTTOSQL_:
+      case CURRENTDATE_:
+      case CURRENT_TIME_:
+      case CURRENT_USER_:
+      case EXTERIORRING_:
+      case GEOMETRYTYPE_:
+      case GEOMFROMEWKT_:
+      case GEOMFROMTEXT_:
+      case INTERSECTION_:
+      case JUSTIFY_DAYS_:
+      case LONG_VARCHAR_:
+      case OCTET_LENGTH_:
+      case ST_ASGEOJSON_:
+      case ST_ASHEXEWKB_:
+      case ST_BUILDAREA_:
+      case ST_COVEREDBY_:
+      case ST_DIMENSION_:
+      case ST_FORCE_3DM_:
+      case ST_FORCE_3DZ_:
+      case ST_GEOMETRYN_:
+      case ST_LINEMERGE_:
+      case ST_MAKEPOINT_:
+      case ST_NUMPOINTS_:
+      case ST_PERIMETER_:
+      case ST_SETFACTOR_:
+      case ST_TRANSFORM_:
+      case ST_TRANSLATE_:
+      case TO_TIMESTAMP_:
+      case VARIANCE_POP_:
+      case WIDTH_BUCKET_:
+      case INTERIORRINGN_:
+      case JUSTIFY_HOURS_:
+      case NUMGEOMETRIES_:
+      case QUOTE_LITERAL_:
+      case SAMLLDATETIME_:
+      case ST_ADDMEASURE_:
+      case ST_CONVEXHULL_:
+      case ST_DIFFERENCE_:
+      case ST_INTERSECTS_:
+      case ST_MAKEPOINTM_:
+      case ST_MEMCOLLECT_:
+      case ST_SEGMENTIZE_:
+      case ST_SNAPTOGRID_:
+      case ST_STARTPOINT_:
+      case ST_TRANSSCALE_:
+      case SYMDIFFERENCE_:
+      case VARIANCE_SAMP_:
+      case CURRENT_SCHEMA_:
+      case LINE_SUBSTRING_:
+      case LOCALTIMESTAMP_:
+      case MONTHS_BETWEEN_:
+      case REGEXP_REPLACE_:
+      case REGR_INTERCEPT_:
+      case ST_COMPRESSION_:
+      case ST_CURVETOLINE_:
+      case ST_FIND_EXTENT_:
+      case ST_GEOGFROMWKB_:
+      case ST_GEOMFROMGML_:
+      case ST_GEOMFROMKML_:
+      case ST_GEOMFROMWKB_:
+      case ST_LINEFROMWKB_:
+      case ST_LINETOCURVE_:
+      case ST_LONGESTLINE_:
+      case ST_MAKEPOLYGON_:
+      case ST_MAXDISTANCE_:
+      case ST_PERIMETER2D_:
+      case ST_PERIMETER3D_:
+      case ST_POLYFROMWKB_:
+      case ST_REMOVEPOINT_:
+      case CLOCK_TIMESTAMP_:
+      case ST_CLOSESTPOINT_:
+      case ST_COMBINE_BBOX_:
+      case ST_DFULLYWITHIN_:
+      case ST_EXTERIORRING_:
       case ST_GEOGFROMTEXT_:
       case ST_GEOMETRYTYPE_:
       case ST_GEOMFROMEWKB_:
@@ -46765,14 +47367,14 @@ public class CSQLParser implements CSQLParserConstants {
            n3 = new NodeChoice(n5, 1);
         break;
       default:
-        jj_la1[527] = jj_gen;
+        jj_la1[529] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
         n2.addNode(n3);
       break;
     default:
-      jj_la1[528] = jj_gen;
+      jj_la1[530] = jj_gen;
       ;
     }
      {if (true) return new Unlisten(n0,n2);}
@@ -47065,6 +47667,7 @@ public class CSQLParser implements CSQLParserConstants {
     case LINEMERGE_:
     case LOCALTIME_:
     case MONTHNAME_:
+    case REBALANCE_:
     case REGR_AVGX_:
     case REGR_AVGY_:
     case ST_AFFINE_:
@@ -47336,7 +47939,7 @@ public class CSQLParser implements CSQLParserConstants {
            n2 = new NodeChoice(n4, 1);
       break;
     default:
-      jj_la1[529] = jj_gen;
+      jj_la1[531] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -50516,121 +51119,11 @@ public class CSQLParser implements CSQLParserConstants {
     finally { jj_save(449, xla); }
   }
 
-  final private boolean jj_3R_1243() {
-    if (jj_scan_token(ST_NUMINTERIORRINGS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_552() {
-    if (jj_scan_token(VARIANCE_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_1242() {
     if (jj_scan_token(ST_NUMINTERIORRING_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_97() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_526()) {
-    jj_scanpos = xsp;
-    if (jj_3R_527()) {
-    jj_scanpos = xsp;
-    if (jj_3R_528()) return true;
-    }
-    }
-    if (jj_3R_529()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1241() {
-    if (jj_scan_token(ST_NUMGEOMETRIES_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1240() {
-    if (jj_scan_token(ST_NRINGS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_157() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_552()) {
-    jj_scanpos = xsp;
-    if (jj_3R_553()) {
-    jj_scanpos = xsp;
-    if (jj_3R_554()) {
-    jj_scanpos = xsp;
-    if (jj_3R_555()) {
-    jj_scanpos = xsp;
-    if (jj_3R_556()) return true;
-    }
-    }
-    }
-    }
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_1576()) jj_scanpos = xsp;
-    if (jj_3R_94()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_744() {
-    if (jj_scan_token(GEOMETRY_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1239() {
-    if (jj_scan_token(ST_NPOINTS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_743() {
-    if (jj_scan_token(ST_GEOMETRY_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_574() {
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1238() {
-    if (jj_scan_token(ST_NDIMS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1237() {
-    if (jj_scan_token(ST_MULTIPOLYGONFROMTEXT_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_248() {
-    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_574()) jj_scanpos = xsp;
-    return false;
-  }
-
-  final private boolean jj_3R_355() {
-    if (jj_scan_token(ST_ISVALIDREASON_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_94()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1236() {
-    if (jj_scan_token(ST_MULTIPOLYFROMWKB_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_457() {
     Token xsp;
     xsp = jj_scanpos;
@@ -50644,8 +51137,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1235() {
-    if (jj_scan_token(ST_MULTIPOINTFROMWKB_)) return true;
+  final private boolean jj_3R_1241() {
+    if (jj_scan_token(ST_NUMGEOMETRIES_)) return true;
     return false;
   }
 
@@ -50654,8 +51147,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1234() {
-    if (jj_scan_token(ST_MULTIPOINTFROMTEXT_)) return true;
+  final private boolean jj_3R_1240() {
+    if (jj_scan_token(ST_NRINGS_)) return true;
     return false;
   }
 
@@ -50669,23 +51162,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1233() {
-    if (jj_scan_token(ST_MULTILINESTRINGFROMTEXT_)) return true;
+  final private boolean jj_3R_1239() {
+    if (jj_scan_token(ST_NPOINTS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1232() {
-    if (jj_scan_token(ST_MULTILINEFROMWKB_)) return true;
+  final private boolean jj_3R_1238() {
+    if (jj_scan_token(ST_NDIMS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1231() {
-    if (jj_scan_token(ST_MULTI_)) return true;
+  final private boolean jj_3R_1237() {
+    if (jj_scan_token(ST_MULTIPOLYGONFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1230() {
-    if (jj_scan_token(ST_MPOLYFROMWKB_)) return true;
+  final private boolean jj_3R_1236() {
+    if (jj_scan_token(ST_MULTIPOLYFROMWKB_)) return true;
     return false;
   }
 
@@ -50694,13 +51187,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1574() {
+  final private boolean jj_3R_1575() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1229() {
-    if (jj_scan_token(ST_MPOLYFROMTEXT_)) return true;
+  final private boolean jj_3R_1235() {
+    if (jj_scan_token(ST_MULTIPOINTFROMWKB_)) return true;
     return false;
   }
 
@@ -50720,8 +51213,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1228() {
-    if (jj_scan_token(ST_MPOINTFROMWKB_)) return true;
+  final private boolean jj_3R_1234() {
+    if (jj_scan_token(ST_MULTIPOINTFROMTEXT_)) return true;
     return false;
   }
 
@@ -50748,8 +51241,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1227() {
-    if (jj_scan_token(ST_MPOINTFROMTEXT_)) return true;
+  final private boolean jj_3R_1233() {
+    if (jj_scan_token(ST_MULTILINESTRINGFROMTEXT_)) return true;
     return false;
   }
 
@@ -50768,8 +51261,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1226() {
-    if (jj_scan_token(ST_MLINEFROMWKB_)) return true;
+  final private boolean jj_3R_1232() {
+    if (jj_scan_token(ST_MULTILINEFROMWKB_)) return true;
     return false;
   }
 
@@ -50796,8 +51289,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1225() {
-    if (jj_scan_token(ST_MLINEFROMTEXT_)) return true;
+  final private boolean jj_3R_1231() {
+    if (jj_scan_token(ST_MULTI_)) return true;
     return false;
   }
 
@@ -50819,8 +51312,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1224() {
-    if (jj_scan_token(ST_MINIMUMBOUNDINGCIRCLE_)) return true;
+  final private boolean jj_3R_1230() {
+    if (jj_scan_token(ST_MPOLYFROMWKB_)) return true;
     return false;
   }
 
@@ -50829,8 +51322,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1223() {
-    if (jj_scan_token(ST_MEM_SIZE_)) return true;
+  final private boolean jj_3R_1229() {
+    if (jj_scan_token(ST_MPOLYFROMTEXT_)) return true;
     return false;
   }
 
@@ -50846,7 +51339,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1574()) jj_scanpos = xsp;
+    if (jj_3R_1575()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -50857,8 +51350,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1222() {
-    if (jj_scan_token(ST_MEMCOLLECT_)) return true;
+  final private boolean jj_3R_1228() {
+    if (jj_scan_token(ST_MPOINTFROMWKB_)) return true;
     return false;
   }
 
@@ -50867,8 +51360,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1221() {
-    if (jj_scan_token(ST_MAXDISTANCE_)) return true;
+  final private boolean jj_3R_1227() {
+    if (jj_scan_token(ST_MPOINTFROMTEXT_)) return true;
     return false;
   }
 
@@ -50877,8 +51370,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1220() {
-    if (jj_scan_token(ST_MAKEPOLYGON_)) return true;
+  final private boolean jj_3R_1226() {
+    if (jj_scan_token(ST_MLINEFROMWKB_)) return true;
     return false;
   }
 
@@ -50887,8 +51380,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1219() {
-    if (jj_scan_token(ST_MAKEPOINTM_)) return true;
+  final private boolean jj_3R_1225() {
+    if (jj_scan_token(ST_MLINEFROMTEXT_)) return true;
     return false;
   }
 
@@ -50896,7 +51389,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(NEXT_DAY_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -50912,8 +51405,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1218() {
-    if (jj_scan_token(ST_MAKEPOINT_)) return true;
+  final private boolean jj_3R_1224() {
+    if (jj_scan_token(ST_MINIMUMBOUNDINGCIRCLE_)) return true;
     return false;
   }
 
@@ -50927,8 +51420,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1217() {
-    if (jj_scan_token(ST_MAKEENVELOPE_)) return true;
+  final private boolean jj_3R_1223() {
+    if (jj_scan_token(ST_MEM_SIZE_)) return true;
     return false;
   }
 
@@ -50942,8 +51435,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1216() {
-    if (jj_scan_token(ST_M_)) return true;
+  final private boolean jj_3R_1222() {
+    if (jj_scan_token(ST_MEMCOLLECT_)) return true;
     return false;
   }
 
@@ -50957,8 +51450,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1215() {
-    if (jj_scan_token(ST_LONGESTLINE_)) return true;
+  final private boolean jj_3R_1221() {
+    if (jj_scan_token(ST_MAXDISTANCE_)) return true;
     return false;
   }
 
@@ -50980,12 +51473,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1214() {
-    if (jj_scan_token(ST_LOCATE_BETWEEN_MEASURES_)) return true;
+  final private boolean jj_3R_1220() {
+    if (jj_scan_token(ST_MAKEPOLYGON_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1573() {
+  final private boolean jj_3R_1574() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
@@ -50995,8 +51488,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1213() {
-    if (jj_scan_token(ST_LOCATE_ALONG_MEASURE_)) return true;
+  final private boolean jj_3R_1219() {
+    if (jj_scan_token(ST_MAKEPOINTM_)) return true;
     return false;
   }
 
@@ -51018,8 +51511,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1212() {
-    if (jj_scan_token(ST_LOCATEBETWEENELEVATIONS_)) return true;
+  final private boolean jj_3R_1218() {
+    if (jj_scan_token(ST_MAKEPOINT_)) return true;
     return false;
   }
 
@@ -51033,14 +51526,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1573()) jj_scanpos = xsp;
+    if (jj_3R_1574()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1211() {
-    if (jj_scan_token(ST_LINE_SUBSTRING_)) return true;
+  final private boolean jj_3R_1217() {
+    if (jj_scan_token(ST_MAKEENVELOPE_)) return true;
     return false;
   }
 
@@ -51049,8 +51542,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1210() {
-    if (jj_scan_token(ST_LINE_LOCATE_POINT_)) return true;
+  final private boolean jj_3R_1216() {
+    if (jj_scan_token(ST_M_)) return true;
     return false;
   }
 
@@ -51058,19 +51551,19 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(MONTHS_BETWEEN_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1209() {
-    if (jj_scan_token(ST_LINE_INTERPOLATE_POINT_)) return true;
+  final private boolean jj_3R_1215() {
+    if (jj_scan_token(ST_LONGESTLINE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1208() {
-    if (jj_scan_token(ST_LINETOCURVE_)) return true;
+  final private boolean jj_3R_1214() {
+    if (jj_scan_token(ST_LOCATE_BETWEEN_MEASURES_)) return true;
     return false;
   }
 
@@ -51136,8 +51629,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1207() {
-    if (jj_scan_token(ST_LINESTRINGFROMWKB_)) return true;
+  final private boolean jj_3R_1213() {
+    if (jj_scan_token(ST_LOCATE_ALONG_MEASURE_)) return true;
     return false;
   }
 
@@ -51146,8 +51639,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1206() {
-    if (jj_scan_token(ST_LINEMERGE_)) return true;
+  final private boolean jj_3R_1212() {
+    if (jj_scan_token(ST_LOCATEBETWEENELEVATIONS_)) return true;
     return false;
   }
 
@@ -51161,8 +51654,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1205() {
-    if (jj_scan_token(ST_LINEFROMWKB_)) return true;
+  final private boolean jj_3R_1211() {
+    if (jj_scan_token(ST_LINE_SUBSTRING_)) return true;
     return false;
   }
 
@@ -51171,13 +51664,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1572() {
+  final private boolean jj_3R_1573() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1204() {
-    if (jj_scan_token(ST_LINEFROMTEXT_)) return true;
+  final private boolean jj_3R_1210() {
+    if (jj_scan_token(ST_LINE_LOCATE_POINT_)) return true;
     return false;
   }
 
@@ -51194,13 +51687,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1203() {
-    if (jj_scan_token(ST_LINEFROMMULTIPOINT_)) return true;
+  final private boolean jj_3R_1209() {
+    if (jj_scan_token(ST_LINE_INTERPOLATE_POINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1202() {
-    if (jj_scan_token(ST_LINECROSSINGDIRECTION_)) return true;
+  final private boolean jj_3R_1208() {
+    if (jj_scan_token(ST_LINETOCURVE_)) return true;
     return false;
   }
 
@@ -51209,7 +51702,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1572()) jj_scanpos = xsp;
+    if (jj_3R_1573()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -51236,33 +51729,33 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1201() {
-    if (jj_scan_token(ST_LENGTH_SPHEROID_)) return true;
+  final private boolean jj_3R_1207() {
+    if (jj_scan_token(ST_LINESTRINGFROMWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1200() {
-    if (jj_scan_token(ST_LENGTH3D_SPHEROID_)) return true;
+  final private boolean jj_3R_1206() {
+    if (jj_scan_token(ST_LINEMERGE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1199() {
-    if (jj_scan_token(ST_LENGTH3D_)) return true;
+  final private boolean jj_3R_1205() {
+    if (jj_scan_token(ST_LINEFROMWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1198() {
-    if (jj_scan_token(ST_LENGTH2D_SPHEROID_)) return true;
+  final private boolean jj_3R_1204() {
+    if (jj_scan_token(ST_LINEFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1197() {
-    if (jj_scan_token(ST_LENGTH2D_)) return true;
+  final private boolean jj_3R_1203() {
+    if (jj_scan_token(ST_LINEFROMMULTIPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1196() {
-    if (jj_scan_token(ST_ISVALIDREASON_)) return true;
+  final private boolean jj_3R_1202() {
+    if (jj_scan_token(ST_LINECROSSINGDIRECTION_)) return true;
     return false;
   }
 
@@ -51271,12 +51764,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1195() {
-    if (jj_scan_token(ST_ISVALID_)) return true;
+  final private boolean jj_3R_1201() {
+    if (jj_scan_token(ST_LENGTH_SPHEROID_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1677() {
+  final private boolean jj_3R_1678() {
     if (jj_scan_token(ALL_)) return true;
     return false;
   }
@@ -51291,8 +51784,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1194() {
-    if (jj_scan_token(ST_ISSIMPLE_)) return true;
+  final private boolean jj_3R_1200() {
+    if (jj_scan_token(ST_LENGTH3D_SPHEROID_)) return true;
     return false;
   }
 
@@ -51301,13 +51794,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1676() {
+  final private boolean jj_3R_1677() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1193() {
-    if (jj_scan_token(ST_ISRING_)) return true;
+  final private boolean jj_3R_1199() {
+    if (jj_scan_token(ST_LENGTH3D_)) return true;
     return false;
   }
 
@@ -51327,18 +51820,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1658() {
+  final private boolean jj_3R_1659() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1676()) {
+    if (jj_3R_1677()) {
     jj_scanpos = xsp;
-    if (jj_3R_1677()) return true;
+    if (jj_3R_1678()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_1192() {
-    if (jj_scan_token(ST_ISEMPTY_)) return true;
+  final private boolean jj_3R_1198() {
+    if (jj_scan_token(ST_LENGTH2D_SPHEROID_)) return true;
     return false;
   }
 
@@ -51355,15 +51848,15 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1191() {
-    if (jj_scan_token(ST_ISCLOSED_)) return true;
+  final private boolean jj_3R_1197() {
+    if (jj_scan_token(ST_LENGTH2D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1571() {
+  final private boolean jj_3R_1572() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1658()) jj_scanpos = xsp;
+    if (jj_3R_1659()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -51386,18 +51879,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1190() {
-    if (jj_scan_token(ST_INTERSECTS_)) return true;
+  final private boolean jj_3R_1196() {
+    if (jj_scan_token(ST_ISVALIDREASON_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1570() {
+  final private boolean jj_3R_1571() {
     if (jj_scan_token(STAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1189() {
-    if (jj_scan_token(ST_INTERSECTION_)) return true;
+  final private boolean jj_3R_1195() {
+    if (jj_scan_token(ST_ISVALID_)) return true;
     return false;
   }
 
@@ -51411,13 +51904,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1188() {
-    if (jj_scan_token(ST_INTERIORRINGN_)) return true;
+  final private boolean jj_3R_1194() {
+    if (jj_scan_token(ST_ISSIMPLE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1187() {
-    if (jj_scan_token(ST_HEIGHT_)) return true;
+  final private boolean jj_3R_1193() {
+    if (jj_scan_token(ST_ISRING_)) return true;
     return false;
   }
 
@@ -51426,21 +51919,21 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1570()) {
+    if (jj_3R_1571()) {
     jj_scanpos = xsp;
-    if (jj_3R_1571()) return true;
+    if (jj_3R_1572()) return true;
     }
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1186() {
-    if (jj_scan_token(ST_HAUSDORFFDISTANCE_)) return true;
+  final private boolean jj_3R_1192() {
+    if (jj_scan_token(ST_ISEMPTY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1185() {
-    if (jj_scan_token(ST_HASARC_)) return true;
+  final private boolean jj_3R_1191() {
+    if (jj_scan_token(ST_ISCLOSED_)) return true;
     return false;
   }
 
@@ -51454,8 +51947,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1184() {
-    if (jj_scan_token(ST_GMLTOSQL_)) return true;
+  final private boolean jj_3R_1190() {
+    if (jj_scan_token(ST_INTERSECTS_)) return true;
     return false;
   }
 
@@ -51469,8 +51962,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1183() {
-    if (jj_scan_token(ST_GEOMFROMWKB_)) return true;
+  final private boolean jj_3R_1189() {
+    if (jj_scan_token(ST_INTERSECTION_)) return true;
     return false;
   }
 
@@ -51490,8 +51983,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1182() {
-    if (jj_scan_token(ST_GEOMFROMTEXT_)) return true;
+  final private boolean jj_3R_1188() {
+    if (jj_scan_token(ST_INTERIORRINGN_)) return true;
     return false;
   }
 
@@ -51510,8 +52003,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1181() {
-    if (jj_scan_token(ST_GEOMFROMKML_)) return true;
+  final private boolean jj_3R_1187() {
+    if (jj_scan_token(ST_HEIGHT_)) return true;
     return false;
   }
 
@@ -51528,13 +52021,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1180() {
-    if (jj_scan_token(ST_GEOMFROMGML_)) return true;
+  final private boolean jj_3R_1186() {
+    if (jj_scan_token(ST_HAUSDORFFDISTANCE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1179() {
-    if (jj_scan_token(ST_GEOMFROMEWKT_)) return true;
+  final private boolean jj_3R_1185() {
+    if (jj_scan_token(ST_HASARC_)) return true;
     return false;
   }
 
@@ -51551,13 +52044,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1178() {
-    if (jj_scan_token(ST_GEOMFROMEWKB_)) return true;
+  final private boolean jj_3R_1184() {
+    if (jj_scan_token(ST_GMLTOSQL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1177() {
-    if (jj_scan_token(ST_GEOMETRYTYPE_)) return true;
+  final private boolean jj_3R_1183() {
+    if (jj_scan_token(ST_GEOMFROMWKB_)) return true;
     return false;
   }
 
@@ -51566,22 +52059,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1569() {
+  final private boolean jj_3R_1570() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1176() {
-    if (jj_scan_token(ST_GEOMCOLLFROMWKB_)) return true;
+  final private boolean jj_3R_1182() {
+    if (jj_scan_token(ST_GEOMFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1175() {
-    if (jj_scan_token(ST_GEOMCOLLFROMTEXT_)) return true;
+  final private boolean jj_3R_1181() {
+    if (jj_scan_token(ST_GEOMFROMKML_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1553() {
+  final private boolean jj_3R_1554() {
     if (jj_3R_460()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -51591,7 +52084,7 @@ public class CSQLParser implements CSQLParserConstants {
 
   final private boolean jj_3_47() {
     if (jj_3R_48()) return true;
-    if (jj_scan_token(782)) return true;
+    if (jj_scan_token(783)) return true;
     if (jj_scan_token(STAR_)) return true;
     return false;
   }
@@ -51606,19 +52099,19 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1569()) jj_scanpos = xsp;
+    if (jj_3R_1570()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1174() {
-    if (jj_scan_token(ST_GEOHASH_)) return true;
+  final private boolean jj_3R_1180() {
+    if (jj_scan_token(ST_GEOMFROMGML_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1173() {
-    if (jj_scan_token(ST_GEOGRAPHYFROMTEXT_)) return true;
+  final private boolean jj_3R_1179() {
+    if (jj_scan_token(ST_GEOMFROMEWKT_)) return true;
     return false;
   }
 
@@ -51638,14 +52131,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1172() {
-    if (jj_scan_token(ST_GEOGFROMWKB_)) return true;
+  final private boolean jj_3R_1178() {
+    if (jj_scan_token(ST_GEOMFROMEWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1552() {
+  final private boolean jj_3R_1553() {
     if (jj_3R_48()) return true;
-    if (jj_scan_token(782)) return true;
+    if (jj_scan_token(783)) return true;
     if (jj_scan_token(STAR_)) return true;
     return false;
   }
@@ -51660,12 +52153,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1171() {
-    if (jj_scan_token(ST_GEOGFROMTEXT_)) return true;
+  final private boolean jj_3R_1177() {
+    if (jj_scan_token(ST_GEOMETRYTYPE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1551() {
+  final private boolean jj_3R_1552() {
     if (jj_scan_token(STAR_)) return true;
     return false;
   }
@@ -51682,8 +52175,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1170() {
-    if (jj_scan_token(ST_FORCE_COLLECTION_)) return true;
+  final private boolean jj_3R_1176() {
+    if (jj_scan_token(ST_GEOMCOLLFROMWKB_)) return true;
     return false;
   }
 
@@ -51693,8 +52186,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1169() {
-    if (jj_scan_token(ST_FORCE_4D_)) return true;
+  final private boolean jj_3R_1175() {
+    if (jj_scan_token(ST_GEOMCOLLFROMTEXT_)) return true;
     return false;
   }
 
@@ -51707,25 +52200,25 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1168() {
-    if (jj_scan_token(ST_FORCE_3DZ_)) return true;
+  final private boolean jj_3R_1174() {
+    if (jj_scan_token(ST_GEOHASH_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1533() {
+  final private boolean jj_3R_1534() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1551()) {
-    jj_scanpos = xsp;
     if (jj_3R_1552()) {
     jj_scanpos = xsp;
-    if (jj_3R_1553()) return true;
+    if (jj_3R_1553()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1554()) return true;
     }
     }
     return false;
@@ -51744,29 +52237,29 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1167() {
-    if (jj_scan_token(ST_FORCE_3DM_)) return true;
+  final private boolean jj_3R_1173() {
+    if (jj_scan_token(ST_GEOGRAPHYFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1166() {
-    if (jj_scan_token(ST_FORCE_3D_)) return true;
+  final private boolean jj_3R_1172() {
+    if (jj_scan_token(ST_GEOGFROMWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1165() {
-    if (jj_scan_token(ST_FORCE_2D_)) return true;
+  final private boolean jj_3R_1171() {
+    if (jj_scan_token(ST_GEOGFROMTEXT_)) return true;
     return false;
   }
 
   final private boolean jj_3_418() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1164() {
-    if (jj_scan_token(ST_FORCERHR_)) return true;
+  final private boolean jj_3R_1170() {
+    if (jj_scan_token(ST_FORCE_COLLECTION_)) return true;
     return false;
   }
 
@@ -51774,19 +52267,19 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ADD_MONTHS_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1163() {
-    if (jj_scan_token(ST_FIND_EXTENT_)) return true;
+  final private boolean jj_3R_1169() {
+    if (jj_scan_token(ST_FORCE_4D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1162() {
-    if (jj_scan_token(ST_FACTOR_)) return true;
+  final private boolean jj_3R_1168() {
+    if (jj_scan_token(ST_FORCE_3DZ_)) return true;
     return false;
   }
 
@@ -51794,7 +52287,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(VALUE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     while (true) {
@@ -51805,13 +52298,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1161() {
-    if (jj_scan_token(ST_EXTENT3D_)) return true;
+  final private boolean jj_3R_1167() {
+    if (jj_scan_token(ST_FORCE_3DM_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1160() {
-    if (jj_scan_token(ST_EXTENT_)) return true;
+  final private boolean jj_3R_1166() {
+    if (jj_scan_token(ST_FORCE_3D_)) return true;
     return false;
   }
 
@@ -51835,8 +52328,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1159() {
-    if (jj_scan_token(ST_EXTERIORRING_)) return true;
+  final private boolean jj_3R_1165() {
+    if (jj_scan_token(ST_FORCE_2D_)) return true;
     return false;
   }
 
@@ -51845,34 +52338,34 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1534() {
-    if (jj_scan_token(781)) return true;
-    if (jj_3R_1533()) return true;
+  final private boolean jj_3R_1535() {
+    if (jj_scan_token(782)) return true;
+    if (jj_3R_1534()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1158() {
-    if (jj_scan_token(ST_EQUALS_)) return true;
+  final private boolean jj_3R_1164() {
+    if (jj_scan_token(ST_FORCERHR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1157() {
-    if (jj_scan_token(ST_ENVELOPE_)) return true;
+  final private boolean jj_3R_1163() {
+    if (jj_scan_token(ST_FIND_EXTENT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1484() {
-    if (jj_3R_1533()) return true;
+  final private boolean jj_3R_1485() {
+    if (jj_3R_1534()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1534()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1535()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3R_1156() {
-    if (jj_scan_token(ST_ENDPOINT_)) return true;
+  final private boolean jj_3R_1162() {
+    if (jj_scan_token(ST_FACTOR_)) return true;
     return false;
   }
 
@@ -51890,14 +52383,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1155() {
-    if (jj_scan_token(ST_DISTANCE_SPHEROID_)) return true;
+  final private boolean jj_3R_1161() {
+    if (jj_scan_token(ST_EXTENT3D_)) return true;
     return false;
   }
 
@@ -51910,14 +52403,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(TO_TIMESTAMP_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1154() {
-    if (jj_scan_token(ST_DISTANCE_SPHERE_)) return true;
+  final private boolean jj_3R_1160() {
+    if (jj_scan_token(ST_EXTENT_)) return true;
     return false;
   }
 
@@ -51926,8 +52419,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1153() {
-    if (jj_scan_token(ST_DISJOINT_)) return true;
+  final private boolean jj_3R_1159() {
+    if (jj_scan_token(ST_EXTERIORRING_)) return true;
     return false;
   }
 
@@ -51938,8 +52431,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1152() {
-    if (jj_scan_token(ST_DIMENSION_)) return true;
+  final private boolean jj_3R_1158() {
+    if (jj_scan_token(ST_EQUALS_)) return true;
     return false;
   }
 
@@ -51951,8 +52444,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1151() {
-    if (jj_scan_token(ST_DIFFERENCE_)) return true;
+  final private boolean jj_3R_1157() {
+    if (jj_scan_token(ST_ENVELOPE_)) return true;
     return false;
   }
 
@@ -51970,23 +52463,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1489() {
-    if (jj_3R_1539()) return true;
+  final private boolean jj_3R_1490() {
+    if (jj_3R_1540()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1150() {
-    if (jj_scan_token(ST_DFULLYWITHIN_)) return true;
+  final private boolean jj_3R_1156() {
+    if (jj_scan_token(ST_ENDPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1488() {
-    if (jj_3R_1538()) return true;
+  final private boolean jj_3R_1489() {
+    if (jj_3R_1539()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1149() {
-    if (jj_scan_token(ST_DATATYPE_)) return true;
+  final private boolean jj_3R_1155() {
+    if (jj_scan_token(ST_DISTANCE_SPHEROID_)) return true;
     return false;
   }
 
@@ -51997,23 +52490,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1487() {
-    if (jj_3R_1537()) return true;
+  final private boolean jj_3R_1488() {
+    if (jj_3R_1538()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1148() {
-    if (jj_scan_token(ST_CURVETOLINE_)) return true;
+  final private boolean jj_3R_1154() {
+    if (jj_scan_token(ST_DISTANCE_SPHERE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1147() {
-    if (jj_scan_token(ST_CROSSES_)) return true;
+  final private boolean jj_3R_1153() {
+    if (jj_scan_token(ST_DISJOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1486() {
-    if (jj_3R_1536()) return true;
+  final private boolean jj_3R_1487() {
+    if (jj_3R_1537()) return true;
     return false;
   }
 
@@ -52022,8 +52515,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1146() {
-    if (jj_scan_token(ST_COVERS_)) return true;
+  final private boolean jj_3R_1152() {
+    if (jj_scan_token(ST_DIMENSION_)) return true;
     return false;
   }
 
@@ -52031,7 +52524,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(TO_NUMBER_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -52044,8 +52537,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1485() {
-    if (jj_3R_1535()) return true;
+  final private boolean jj_3R_1486() {
+    if (jj_3R_1536()) return true;
     return false;
   }
 
@@ -52054,8 +52547,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1145() {
-    if (jj_scan_token(ST_COVEREDBY_)) return true;
+  final private boolean jj_3R_1151() {
+    if (jj_scan_token(ST_DIFFERENCE_)) return true;
     return false;
   }
 
@@ -52064,13 +52557,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1532() {
+  final private boolean jj_3R_1533() {
     if (jj_scan_token(UNIQUE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1144() {
-    if (jj_scan_token(ST_COORDDIM_)) return true;
+  final private boolean jj_3R_1150() {
+    if (jj_scan_token(ST_DFULLYWITHIN_)) return true;
     return false;
   }
 
@@ -52079,13 +52572,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1531() {
+  final private boolean jj_3R_1532() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1143() {
-    if (jj_scan_token(ST_CONVEXHULL_)) return true;
+  final private boolean jj_3R_1149() {
+    if (jj_scan_token(ST_DATATYPE_)) return true;
     return false;
   }
 
@@ -52098,24 +52591,24 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1530() {
+  final private boolean jj_3R_1531() {
     if (jj_scan_token(ALL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1142() {
-    if (jj_scan_token(ST_CONTAINSPROPERLY_)) return true;
+  final private boolean jj_3R_1148() {
+    if (jj_scan_token(ST_CURVETOLINE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1141() {
-    if (jj_scan_token(ST_CONTAINS_)) return true;
+  final private boolean jj_3R_1147() {
+    if (jj_scan_token(ST_CROSSES_)) return true;
     return false;
   }
 
@@ -52128,32 +52621,32 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1483() {
+  final private boolean jj_3R_1484() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1530()) {
-    jj_scanpos = xsp;
     if (jj_3R_1531()) {
     jj_scanpos = xsp;
-    if (jj_3R_1532()) return true;
+    if (jj_3R_1532()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1533()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_1140() {
-    if (jj_scan_token(ST_COMPRESSION_)) return true;
+  final private boolean jj_3R_1146() {
+    if (jj_scan_token(ST_COVERS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1139() {
-    if (jj_scan_token(ST_COMBINE_BBOX_)) return true;
+  final private boolean jj_3R_1145() {
+    if (jj_scan_token(ST_COVEREDBY_)) return true;
     return false;
   }
 
@@ -52161,10 +52654,8 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SELECT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1483()) jj_scanpos = xsp;
-    if (jj_3R_1484()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_1485()) jj_scanpos = xsp;
+    if (jj_3R_1484()) jj_scanpos = xsp;
+    if (jj_3R_1485()) return true;
     xsp = jj_scanpos;
     if (jj_3R_1486()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -52173,6 +52664,8 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_1488()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_1489()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1490()) jj_scanpos = xsp;
     return false;
   }
 
@@ -52181,14 +52674,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1583() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1584() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1138() {
-    if (jj_scan_token(ST_COLLECTIONEXTRACT_)) return true;
+  final private boolean jj_3R_1144() {
+    if (jj_scan_token(ST_COORDDIM_)) return true;
     return false;
   }
 
@@ -52201,19 +52694,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1621() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1622() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1137() {
-    if (jj_scan_token(ST_COLLECT_)) return true;
+  final private boolean jj_3R_1143() {
+    if (jj_scan_token(ST_CONVEXHULL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1136() {
-    if (jj_scan_token(ST_CLOSESTPOINT_)) return true;
+  final private boolean jj_3R_1142() {
+    if (jj_scan_token(ST_CONTAINSPROPERLY_)) return true;
     return false;
   }
 
@@ -52221,17 +52714,17 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SUBSTR_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1583()) jj_scanpos = xsp;
+    if (jj_3R_1584()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1135() {
-    if (jj_scan_token(ST_CHIP_OUT_)) return true;
+  final private boolean jj_3R_1141() {
+    if (jj_scan_token(ST_CONTAINS_)) return true;
     return false;
   }
 
@@ -52241,13 +52734,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1621()) jj_scanpos = xsp;
+    if (jj_3R_1622()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1134() {
-    if (jj_scan_token(ST_CHIP_IN_)) return true;
+  final private boolean jj_3R_1140() {
+    if (jj_scan_token(ST_COMPRESSION_)) return true;
     return false;
   }
 
@@ -52259,13 +52752,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1133() {
-    if (jj_scan_token(ST_BYTEA_)) return true;
+  final private boolean jj_3R_1139() {
+    if (jj_scan_token(ST_COMBINE_BBOX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1132() {
-    if (jj_scan_token(ST_BUILDAREA_)) return true;
+  final private boolean jj_3R_1138() {
+    if (jj_scan_token(ST_COLLECTIONEXTRACT_)) return true;
     return false;
   }
 
@@ -52282,8 +52775,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1131() {
-    if (jj_scan_token(ST_BDPOLYFROMTEXT_)) return true;
+  final private boolean jj_3R_1137() {
+    if (jj_scan_token(ST_COLLECT_)) return true;
     return false;
   }
 
@@ -52292,30 +52785,30 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1130() {
-    if (jj_scan_token(ST_BDMPOLYFROMTEXT_)) return true;
+  final private boolean jj_3R_1136() {
+    if (jj_scan_token(ST_CLOSESTPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1129() {
-    if (jj_scan_token(ST_AZIMUTH_)) return true;
+  final private boolean jj_3R_1135() {
+    if (jj_scan_token(ST_CHIP_OUT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1128() {
-    if (jj_scan_token(ST_ASSVG_)) return true;
+  final private boolean jj_3R_1134() {
+    if (jj_scan_token(ST_CHIP_IN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1431() {
+  final private boolean jj_3R_1432() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_767()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1127() {
-    if (jj_scan_token(ST_ASKML_)) return true;
+  final private boolean jj_3R_1133() {
+    if (jj_scan_token(ST_BYTEA_)) return true;
     return false;
   }
 
@@ -52324,25 +52817,25 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1126() {
-    if (jj_scan_token(ST_ASHEXEWKB_)) return true;
+  final private boolean jj_3R_1132() {
+    if (jj_scan_token(ST_BUILDAREA_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1640() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1641() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1582() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1583() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1125() {
-    if (jj_scan_token(ST_ASGML_)) return true;
+  final private boolean jj_3R_1131() {
+    if (jj_scan_token(ST_BDPOLYFROMTEXT_)) return true;
     return false;
   }
 
@@ -52350,21 +52843,21 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SET_BYTE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1124() {
-    if (jj_scan_token(ST_ASGEOJSON_)) return true;
+  final private boolean jj_3R_1130() {
+    if (jj_scan_token(ST_BDMPOLYFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1123() {
-    if (jj_scan_token(ST_ASEWKT_)) return true;
+  final private boolean jj_3R_1129() {
+    if (jj_scan_token(ST_AZIMUTH_)) return true;
     return false;
   }
 
@@ -52374,7 +52867,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1582()) jj_scanpos = xsp;
+    if (jj_3R_1583()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -52383,11 +52876,11 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_HAUSDORFFDISTANCE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1640()) jj_scanpos = xsp;
+    if (jj_3R_1641()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -52397,8 +52890,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1122() {
-    if (jj_scan_token(ST_ASEWKB_)) return true;
+  final private boolean jj_3R_1128() {
+    if (jj_scan_token(ST_ASSVG_)) return true;
     return false;
   }
 
@@ -52413,13 +52906,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1121() {
-    if (jj_scan_token(ST_AREA2D_)) return true;
+  final private boolean jj_3R_1127() {
+    if (jj_scan_token(ST_ASKML_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1120() {
-    if (jj_scan_token(ST_AFFINE_)) return true;
+  final private boolean jj_3R_1126() {
+    if (jj_scan_token(ST_ASHEXEWKB_)) return true;
     return false;
   }
 
@@ -52430,8 +52923,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1119() {
-    if (jj_scan_token(ST_ADDPOINT_)) return true;
+  final private boolean jj_3R_1125() {
+    if (jj_scan_token(ST_ASGML_)) return true;
     return false;
   }
 
@@ -52454,20 +52947,20 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1118() {
-    if (jj_scan_token(ST_ADDMEASURE_)) return true;
+  final private boolean jj_3R_1124() {
+    if (jj_scan_token(ST_ASGEOJSON_)) return true;
     return false;
   }
 
@@ -52481,13 +52974,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1117() {
-    if (jj_scan_token(ST_CENTROID_)) return true;
+  final private boolean jj_3R_1123() {
+    if (jj_scan_token(ST_ASEWKT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1116() {
-    if (jj_scan_token(ST_BUFFER_)) return true;
+  final private boolean jj_3R_1122() {
+    if (jj_scan_token(ST_ASEWKB_)) return true;
     return false;
   }
 
@@ -52502,8 +52995,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1115() {
-    if (jj_scan_token(ST_BOUNDARY_)) return true;
+  final private boolean jj_3R_1121() {
+    if (jj_scan_token(ST_AREA2D_)) return true;
     return false;
   }
 
@@ -52513,8 +53006,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1114() {
-    if (jj_scan_token(ST_ASBINARY_)) return true;
+  final private boolean jj_3R_1120() {
+    if (jj_scan_token(ST_AFFINE_)) return true;
     return false;
   }
 
@@ -52522,22 +53015,22 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SET_BIT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1579() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1580() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1113() {
-    if (jj_scan_token(ST_AREA_)) return true;
+  final private boolean jj_3R_1119() {
+    if (jj_scan_token(ST_ADDPOINT_)) return true;
     return false;
   }
 
@@ -52549,18 +53042,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1112() {
-    if (jj_scan_token(ST_LENGTH_)) return true;
+  final private boolean jj_3R_1118() {
+    if (jj_scan_token(ST_ADDMEASURE_)) return true;
     return false;
   }
 
   final private boolean jj_3R_871() {
-    if (jj_3R_1431()) return true;
+    if (jj_3R_1432()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1111() {
-    if (jj_scan_token(ST_DWITHIN_)) return true;
+  final private boolean jj_3R_1117() {
+    if (jj_scan_token(ST_CENTROID_)) return true;
     return false;
   }
 
@@ -52573,27 +53066,27 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(RPAD_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1579()) jj_scanpos = xsp;
+    if (jj_3R_1580()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1110() {
-    if (jj_scan_token(ST_DISTANCE_)) return true;
+  final private boolean jj_3R_1116() {
+    if (jj_scan_token(ST_BUFFER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1109() {
-    if (jj_scan_token(ST_TRANSFORM_)) return true;
+  final private boolean jj_3R_1115() {
+    if (jj_scan_token(ST_BOUNDARY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1108() {
-    if (jj_scan_token(ST_ASTEXT_)) return true;
+  final private boolean jj_3R_1114() {
+    if (jj_scan_token(ST_ASBINARY_)) return true;
     return false;
   }
 
@@ -52602,19 +53095,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1107() {
-    if (jj_scan_token(REGCLASS_)) return true;
+  final private boolean jj_3R_1113() {
+    if (jj_scan_token(ST_AREA_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1646() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1647() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1106() {
-    if (jj_scan_token(BOX3DEXTENT_)) return true;
+  final private boolean jj_3R_1112() {
+    if (jj_scan_token(ST_LENGTH_)) return true;
     return false;
   }
 
@@ -52626,8 +53119,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1105() {
-    if (jj_scan_token(BOX3D_)) return true;
+  final private boolean jj_3R_1111() {
+    if (jj_scan_token(ST_DWITHIN_)) return true;
     return false;
   }
 
@@ -52644,8 +53137,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1104() {
-    if (jj_scan_token(BOX2D_)) return true;
+  final private boolean jj_3R_1110() {
+    if (jj_scan_token(ST_DISTANCE_)) return true;
     return false;
   }
 
@@ -52653,14 +53146,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(NULLIF_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1103() {
-    if (jj_scan_token(GEOMETRY_)) return true;
+  final private boolean jj_3R_1109() {
+    if (jj_scan_token(ST_TRANSFORM_)) return true;
     return false;
   }
 
@@ -52678,54 +53171,54 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_TRANSLATE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1646()) jj_scanpos = xsp;
+    if (jj_3R_1647()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1102() {
-    if (jj_scan_token(SET_MASKLEN_)) return true;
+  final private boolean jj_3R_1108() {
+    if (jj_scan_token(ST_ASTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1101() {
-    if (jj_scan_token(NETWORK_)) return true;
+  final private boolean jj_3R_1107() {
+    if (jj_scan_token(REGCLASS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1587() {
+  final private boolean jj_3R_1588() {
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1100() {
-    if (jj_scan_token(NETMASK_)) return true;
+  final private boolean jj_3R_1106() {
+    if (jj_scan_token(BOX3DEXTENT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1586() {
+  final private boolean jj_3R_1587() {
     if (jj_scan_token(TRAILING)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1099() {
-    if (jj_scan_token(MASKLEN_)) return true;
+  final private boolean jj_3R_1105() {
+    if (jj_scan_token(BOX3D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1585() {
+  final private boolean jj_3R_1586() {
     if (jj_scan_token(LEADING)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1098() {
-    if (jj_scan_token(HOSTMASK_)) return true;
+  final private boolean jj_3R_1104() {
+    if (jj_scan_token(BOX2D_)) return true;
     return false;
   }
 
@@ -52737,18 +53230,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1584() {
+  final private boolean jj_3R_1585() {
     if (jj_scan_token(BOTH)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1097() {
-    if (jj_scan_token(HOST_)) return true;
+  final private boolean jj_3R_1103() {
+    if (jj_scan_token(GEOMETRY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1096() {
-    if (jj_scan_token(FAMILY_)) return true;
+  final private boolean jj_3R_1102() {
+    if (jj_scan_token(SET_MASKLEN_)) return true;
     return false;
   }
 
@@ -52763,8 +53256,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1095() {
-    if (jj_scan_token(BROADCAST_)) return true;
+  final private boolean jj_3R_1101() {
+    if (jj_scan_token(NETWORK_)) return true;
     return false;
   }
 
@@ -52773,23 +53266,23 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1584()) {
-    jj_scanpos = xsp;
     if (jj_3R_1585()) {
     jj_scanpos = xsp;
-    if (jj_3R_1586()) return true;
+    if (jj_3R_1586()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1587()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1587()) jj_scanpos = xsp;
+    if (jj_3R_1588()) jj_scanpos = xsp;
     if (jj_scan_token(FROM_)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1094() {
-    if (jj_scan_token(ABBREV_)) return true;
+  final private boolean jj_3R_1100() {
+    if (jj_scan_token(NETMASK_)) return true;
     return false;
   }
 
@@ -52801,13 +53294,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1093() {
-    if (jj_scan_token(REGEXP_REPLACE_)) return true;
+  final private boolean jj_3R_1099() {
+    if (jj_scan_token(MASKLEN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1092() {
-    if (jj_scan_token(REGR_SYY_)) return true;
+  final private boolean jj_3R_1098() {
+    if (jj_scan_token(HOSTMASK_)) return true;
     return false;
   }
 
@@ -52816,8 +53309,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1091() {
-    if (jj_scan_token(REGR_SXY_)) return true;
+  final private boolean jj_3R_1097() {
+    if (jj_scan_token(HOST_)) return true;
     return false;
   }
 
@@ -52825,20 +53318,20 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_TOUCHES_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1639() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1640() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1090() {
-    if (jj_scan_token(REGR_SXX_)) return true;
+  final private boolean jj_3R_1096() {
+    if (jj_scan_token(FAMILY_)) return true;
     return false;
   }
 
@@ -52847,8 +53340,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1089() {
-    if (jj_scan_token(REGR_SLOPE_)) return true;
+  final private boolean jj_3R_1095() {
+    if (jj_scan_token(BROADCAST_)) return true;
     return false;
   }
 
@@ -52862,8 +53355,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1088() {
-    if (jj_scan_token(REGR_R2_)) return true;
+  final private boolean jj_3R_1094() {
+    if (jj_scan_token(ABBREV_)) return true;
     return false;
   }
 
@@ -52872,8 +53365,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1087() {
-    if (jj_scan_token(REGR_INTERCEPT_)) return true;
+  final private boolean jj_3R_1093() {
+    if (jj_scan_token(REGEXP_REPLACE_)) return true;
     return false;
   }
 
@@ -52889,8 +53382,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1086() {
-    if (jj_scan_token(REGR_COUNT_)) return true;
+  final private boolean jj_3R_1092() {
+    if (jj_scan_token(REGR_SYY_)) return true;
     return false;
   }
 
@@ -52900,8 +53393,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1085() {
-    if (jj_scan_token(REGR_AVGY_)) return true;
+  final private boolean jj_3R_1091() {
+    if (jj_scan_token(REGR_SXY_)) return true;
     return false;
   }
 
@@ -52915,7 +53408,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1639()) jj_scanpos = xsp;
+    if (jj_3R_1640()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -52928,19 +53421,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1084() {
-    if (jj_scan_token(REGR_AVGX_)) return true;
+  final private boolean jj_3R_1090() {
+    if (jj_scan_token(REGR_SXX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1565() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1566() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1083() {
-    if (jj_scan_token(COVAR_SAMP_)) return true;
+  final private boolean jj_3R_1089() {
+    if (jj_scan_token(REGR_SLOPE_)) return true;
     return false;
   }
 
@@ -52952,13 +53445,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1082() {
-    if (jj_scan_token(COVAR_POP_)) return true;
+  final private boolean jj_3R_1088() {
+    if (jj_scan_token(REGR_R2_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1081() {
-    if (jj_scan_token(CORR_)) return true;
+  final private boolean jj_3R_1087() {
+    if (jj_scan_token(REGR_INTERCEPT_)) return true;
     return false;
   }
 
@@ -52973,28 +53466,28 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1565()) jj_scanpos = xsp;
+    if (jj_3R_1566()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1080() {
-    if (jj_scan_token(EVERY_)) return true;
+  final private boolean jj_3R_1086() {
+    if (jj_scan_token(REGR_COUNT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1079() {
-    if (jj_scan_token(BOOL_OR_)) return true;
+  final private boolean jj_3R_1085() {
+    if (jj_scan_token(REGR_AVGY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1078() {
-    if (jj_scan_token(BOOL_AND_)) return true;
+  final private boolean jj_3R_1084() {
+    if (jj_scan_token(REGR_AVGX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1077() {
-    if (jj_scan_token(BIT_OR_)) return true;
+  final private boolean jj_3R_1083() {
+    if (jj_scan_token(COVAR_SAMP_)) return true;
     return false;
   }
 
@@ -53004,13 +53497,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1076() {
-    if (jj_scan_token(BIT_AND_)) return true;
+  final private boolean jj_3R_1082() {
+    if (jj_scan_token(COVAR_POP_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1075() {
-    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
+  final private boolean jj_3R_1081() {
+    if (jj_scan_token(CORR_)) return true;
     return false;
   }
 
@@ -53038,29 +53531,29 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1074() {
-    if (jj_scan_token(CURRENT_DATABASE_)) return true;
+  final private boolean jj_3R_1080() {
+    if (jj_scan_token(EVERY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1073() {
-    if (jj_scan_token(NEXT_DAY_)) return true;
+  final private boolean jj_3R_1079() {
+    if (jj_scan_token(BOOL_OR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1072() {
-    if (jj_scan_token(MONTHS_BETWEEN_)) return true;
+  final private boolean jj_3R_1078() {
+    if (jj_scan_token(BOOL_AND_)) return true;
     return false;
   }
 
   final private boolean jj_3_45() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1581() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1582() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -53070,18 +53563,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1071() {
-    if (jj_scan_token(LAST_DAY_)) return true;
+  final private boolean jj_3R_1077() {
+    if (jj_scan_token(BIT_OR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1070() {
-    if (jj_scan_token(JUSTIFY_INTERVAL_)) return true;
+  final private boolean jj_3R_1076() {
+    if (jj_scan_token(BIT_AND_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1069() {
-    if (jj_scan_token(JUSTIFY_HOURS_)) return true;
+  final private boolean jj_3R_1075() {
+    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
     return false;
   }
 
@@ -53089,17 +53582,17 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(REPLACE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1581()) jj_scanpos = xsp;
+    if (jj_3R_1582()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1068() {
-    if (jj_scan_token(JUSTIFY_DAYS_)) return true;
+  final private boolean jj_3R_1074() {
+    if (jj_scan_token(CURRENT_DATABASE_)) return true;
     return false;
   }
 
@@ -53116,14 +53609,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1620() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1621() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1067() {
-    if (jj_scan_token(ADD_MONTHS_)) return true;
+  final private boolean jj_3R_1073() {
+    if (jj_scan_token(NEXT_DAY_)) return true;
     return false;
   }
 
@@ -53140,13 +53633,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1066() {
-    if (jj_scan_token(TO_TIMESTAMP_)) return true;
+  final private boolean jj_3R_1072() {
+    if (jj_scan_token(MONTHS_BETWEEN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1065() {
-    if (jj_scan_token(TO_NUMBER_)) return true;
+  final private boolean jj_3R_1071() {
+    if (jj_scan_token(LAST_DAY_)) return true;
     return false;
   }
 
@@ -53156,13 +53649,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1620()) jj_scanpos = xsp;
+    if (jj_3R_1621()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1064() {
-    if (jj_scan_token(TO_CHAR_)) return true;
+  final private boolean jj_3R_1070() {
+    if (jj_scan_token(JUSTIFY_INTERVAL_)) return true;
     return false;
   }
 
@@ -53175,14 +53668,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1063() {
-    if (jj_scan_token(SET_BYTE_)) return true;
+  final private boolean jj_3R_1069() {
+    if (jj_scan_token(JUSTIFY_HOURS_)) return true;
     return false;
   }
 
@@ -53191,13 +53684,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1062() {
-    if (jj_scan_token(SET_BIT_)) return true;
+  final private boolean jj_3R_1068() {
+    if (jj_scan_token(JUSTIFY_DAYS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1061() {
-    if (jj_scan_token(NULLIF_)) return true;
+  final private boolean jj_3R_1067() {
+    if (jj_scan_token(ADD_MONTHS_)) return true;
     return false;
   }
 
@@ -53206,8 +53699,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1060() {
-    if (jj_scan_token(CURRENT_USER_)) return true;
+  final private boolean jj_3R_1066() {
+    if (jj_scan_token(TO_TIMESTAMP_)) return true;
     return false;
   }
 
@@ -53216,19 +53709,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1059() {
-    if (jj_scan_token(CLUSTER_)) return true;
+  final private boolean jj_3R_1065() {
+    if (jj_scan_token(TO_NUMBER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1580() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1581() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1058() {
-    if (jj_scan_token(BYTE_)) return true;
+  final private boolean jj_3R_1064() {
+    if (jj_scan_token(TO_CHAR_)) return true;
     return false;
   }
 
@@ -53245,8 +53738,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1057() {
-    if (jj_scan_token(IMAGE_)) return true;
+  final private boolean jj_3R_1063() {
+    if (jj_scan_token(SET_BYTE_)) return true;
     return false;
   }
 
@@ -53260,8 +53753,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1056() {
-    if (jj_scan_token(LONG_RAW_)) return true;
+  final private boolean jj_3R_1062() {
+    if (jj_scan_token(SET_BIT_)) return true;
     return false;
   }
 
@@ -53276,13 +53769,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1580()) jj_scanpos = xsp;
+    if (jj_3R_1581()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1055() {
-    if (jj_scan_token(RAW_)) return true;
+  final private boolean jj_3R_1061() {
+    if (jj_scan_token(NULLIF_)) return true;
     return false;
   }
 
@@ -53290,7 +53783,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(GET_BYTE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -53304,13 +53797,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1054() {
-    if (jj_scan_token(VARBINARY_)) return true;
+  final private boolean jj_3R_1060() {
+    if (jj_scan_token(CURRENT_USER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1053() {
-    if (jj_scan_token(BINARY_)) return true;
+  final private boolean jj_3R_1059() {
+    if (jj_scan_token(CLUSTER_)) return true;
     return false;
   }
 
@@ -53325,8 +53818,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1052() {
-    if (jj_scan_token(BLOB_)) return true;
+  final private boolean jj_3R_1058() {
+    if (jj_scan_token(BYTE_)) return true;
     return false;
   }
 
@@ -53335,24 +53828,24 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1666() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1667() {
+    if (jj_scan_token(782)) return true;
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1051() {
-    if (jj_scan_token(CLOB_)) return true;
+  final private boolean jj_3R_1057() {
+    if (jj_scan_token(IMAGE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1050() {
-    if (jj_scan_token(LONG_)) return true;
+  final private boolean jj_3R_1056() {
+    if (jj_scan_token(LONG_RAW_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1049() {
-    if (jj_scan_token(LONG_VARCHAR_)) return true;
+  final private boolean jj_3R_1055() {
+    if (jj_scan_token(RAW_)) return true;
     return false;
   }
 
@@ -53361,7 +53854,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(INT_LITERAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1666()) jj_scanpos = xsp;
+    if (jj_3R_1667()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -53374,8 +53867,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1048() {
-    if (jj_scan_token(LONGTEXT_)) return true;
+  final private boolean jj_3R_1054() {
+    if (jj_scan_token(VARBINARY_)) return true;
     return false;
   }
 
@@ -53384,8 +53877,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1047() {
-    if (jj_scan_token(LVARCHAR_)) return true;
+  final private boolean jj_3R_1053() {
+    if (jj_scan_token(BINARY_)) return true;
     return false;
   }
 
@@ -53399,14 +53892,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1578() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1579() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1046() {
-    if (jj_scan_token(MEDIUMTEXT_)) return true;
+  final private boolean jj_3R_1052() {
+    if (jj_scan_token(BLOB_)) return true;
     return false;
   }
 
@@ -53414,14 +53907,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(GET_BIT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1045() {
-    if (jj_scan_token(TEXT_)) return true;
+  final private boolean jj_3R_1051() {
+    if (jj_scan_token(CLOB_)) return true;
     return false;
   }
 
@@ -53438,8 +53931,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1044() {
-    if (jj_scan_token(INTERVAL_)) return true;
+  final private boolean jj_3R_1050() {
+    if (jj_scan_token(LONG_)) return true;
     return false;
   }
 
@@ -53453,17 +53946,17 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(LPAD_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1578()) jj_scanpos = xsp;
+    if (jj_3R_1579()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1043() {
-    if (jj_scan_token(BOOLEAN_)) return true;
+  final private boolean jj_3R_1049() {
+    if (jj_scan_token(LONG_VARCHAR_)) return true;
     return false;
   }
 
@@ -53472,8 +53965,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1042() {
-    if (jj_scan_token(VARYING_)) return true;
+  final private boolean jj_3R_1048() {
+    if (jj_scan_token(LONGTEXT_)) return true;
     return false;
   }
 
@@ -53490,13 +53983,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1041() {
-    if (jj_scan_token(NATIONAL_)) return true;
+  final private boolean jj_3R_1047() {
+    if (jj_scan_token(LVARCHAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1040() {
-    if (jj_scan_token(NCHAR_)) return true;
+  final private boolean jj_3R_1046() {
+    if (jj_scan_token(MEDIUMTEXT_)) return true;
     return false;
   }
 
@@ -53505,8 +53998,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1039() {
-    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
+  final private boolean jj_3R_1045() {
+    if (jj_scan_token(TEXT_)) return true;
     return false;
   }
 
@@ -53519,8 +54012,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1038() {
-    if (jj_scan_token(DEC_)) return true;
+  final private boolean jj_3R_1044() {
+    if (jj_scan_token(INTERVAL_)) return true;
     return false;
   }
 
@@ -53537,8 +54030,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1037() {
-    if (jj_scan_token(TIMESTAMP_)) return true;
+  final private boolean jj_3R_1043() {
+    if (jj_scan_token(BOOLEAN_)) return true;
     return false;
   }
 
@@ -53547,8 +54040,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1036() {
-    if (jj_scan_token(TIME_)) return true;
+  final private boolean jj_3R_1042() {
+    if (jj_scan_token(VARYING_)) return true;
     return false;
   }
 
@@ -53557,8 +54050,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1035() {
-    if (jj_scan_token(DATE_)) return true;
+  final private boolean jj_3R_1041() {
+    if (jj_scan_token(NATIONAL_)) return true;
     return false;
   }
 
@@ -53570,12 +54063,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1034() {
-    if (jj_scan_token(VARCHAR2_)) return true;
+  final private boolean jj_3R_1040() {
+    if (jj_scan_token(NCHAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1545() {
+  final private boolean jj_3R_1546() {
     if (jj_scan_token(SCIENTIFIC_LITERAL)) return true;
     return false;
   }
@@ -53588,8 +54081,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1033() {
-    if (jj_scan_token(TINYTEXT_)) return true;
+  final private boolean jj_3R_1039() {
+    if (jj_scan_token(DOUBLE_PRECISION_)) return true;
     return false;
   }
 
@@ -53606,20 +54099,20 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1544() {
+  final private boolean jj_3R_1545() {
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1665() {
+  final private boolean jj_3R_1666() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_scan_token(INT_LITERAL)) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1032() {
-    if (jj_scan_token(VARCHAR_)) return true;
+  final private boolean jj_3R_1038() {
+    if (jj_scan_token(DEC_)) return true;
     return false;
   }
 
@@ -53628,8 +54121,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1031() {
-    if (jj_scan_token(CHARACHTER_)) return true;
+  final private boolean jj_3R_1037() {
+    if (jj_scan_token(TIMESTAMP_)) return true;
     return false;
   }
 
@@ -53638,8 +54131,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1030() {
-    if (jj_scan_token(CHAR_)) return true;
+  final private boolean jj_3R_1036() {
+    if (jj_scan_token(TIME_)) return true;
     return false;
   }
 
@@ -53648,21 +54141,21 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1527() {
+  final private boolean jj_3R_1528() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_450()) {
     jj_scanpos = xsp;
-    if (jj_3R_1544()) {
+    if (jj_3R_1545()) {
     jj_scanpos = xsp;
-    if (jj_3R_1545()) return true;
+    if (jj_3R_1546()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_1029() {
-    if (jj_scan_token(NUMBER_)) return true;
+  final private boolean jj_3R_1035() {
+    if (jj_scan_token(DATE_)) return true;
     return false;
   }
 
@@ -53671,8 +54164,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1028() {
-    if (jj_scan_token(MONEY_)) return true;
+  final private boolean jj_3R_1034() {
+    if (jj_scan_token(VARCHAR2_)) return true;
     return false;
   }
 
@@ -53681,8 +54174,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1027() {
-    if (jj_scan_token(SMALLMONEY_)) return true;
+  final private boolean jj_3R_1033() {
+    if (jj_scan_token(TINYTEXT_)) return true;
     return false;
   }
 
@@ -53694,13 +54187,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1650() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1651() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1026() {
-    if (jj_scan_token(NUMERIC_)) return true;
+  final private boolean jj_3R_1032() {
+    if (jj_scan_token(VARCHAR_)) return true;
     return false;
   }
 
@@ -53717,8 +54210,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1025() {
-    if (jj_scan_token(DECIMAL_)) return true;
+  final private boolean jj_3R_1031() {
+    if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
 
@@ -53732,18 +54225,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1645() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1646() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1024() {
-    if (jj_scan_token(FLOAT8_)) return true;
+  final private boolean jj_3R_1030() {
+    if (jj_scan_token(CHAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1501() {
+  final private boolean jj_3R_1502() {
     if (jj_scan_token(CHAR_)) return true;
     return false;
   }
@@ -53753,12 +54246,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1023() {
-    if (jj_scan_token(FLOAT4_)) return true;
+  final private boolean jj_3R_1029() {
+    if (jj_scan_token(NUMBER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1500() {
+  final private boolean jj_3R_1501() {
     if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
@@ -53769,8 +54262,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1022() {
-    if (jj_scan_token(FLOAT_)) return true;
+  final private boolean jj_3R_1028() {
+    if (jj_scan_token(MONEY_)) return true;
     return false;
   }
 
@@ -53780,13 +54273,13 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_428() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1021() {
-    if (jj_scan_token(SMALLFLOAT_)) return true;
+  final private boolean jj_3R_1027() {
+    if (jj_scan_token(SMALLMONEY_)) return true;
     return false;
   }
 
@@ -53807,22 +54300,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1438() {
+  final private boolean jj_3R_1439() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1500()) {
+    if (jj_3R_1501()) {
     jj_scanpos = xsp;
-    if (jj_3R_1501()) return true;
+    if (jj_3R_1502()) return true;
     }
     xsp = jj_scanpos;
     if (jj_3_44()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1650()) jj_scanpos = xsp;
+    if (jj_3R_1651()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_1020() {
-    if (jj_scan_token(REAL_)) return true;
+  final private boolean jj_3R_1026() {
+    if (jj_scan_token(NUMERIC_)) return true;
     return false;
   }
 
@@ -53839,19 +54332,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1019() {
-    if (jj_scan_token(INT4_)) return true;
+  final private boolean jj_3R_1025() {
+    if (jj_scan_token(DECIMAL_)) return true;
     return false;
   }
 
   final private boolean jj_3_427() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1018() {
-    if (jj_scan_token(INTEGER_)) return true;
+  final private boolean jj_3R_1024() {
+    if (jj_scan_token(FLOAT8_)) return true;
     return false;
   }
 
@@ -53864,7 +54357,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(RIGHT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -53876,8 +54369,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1017() {
-    if (jj_scan_token(INT_)) return true;
+  final private boolean jj_3R_1023() {
+    if (jj_scan_token(FLOAT4_)) return true;
     return false;
   }
 
@@ -53891,8 +54384,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1016() {
-    if (jj_scan_token(BIGINTEGER_)) return true;
+  final private boolean jj_3R_1022() {
+    if (jj_scan_token(FLOAT_)) return true;
     return false;
   }
 
@@ -53902,13 +54395,13 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_426() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1015() {
-    if (jj_scan_token(INT8_)) return true;
+  final private boolean jj_3R_1021() {
+    if (jj_scan_token(SMALLFLOAT_)) return true;
     return false;
   }
 
@@ -53928,8 +54421,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1014() {
-    if (jj_scan_token(BIGINT_)) return true;
+  final private boolean jj_3R_1020() {
+    if (jj_scan_token(REAL_)) return true;
     return false;
   }
 
@@ -53938,13 +54431,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1496() {
+  final private boolean jj_3R_1497() {
     if (jj_scan_token(FLOAT8_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1013() {
-    if (jj_scan_token(BYTEA_)) return true;
+  final private boolean jj_3R_1019() {
+    if (jj_scan_token(INT4_)) return true;
     return false;
   }
 
@@ -53966,13 +54459,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1495() {
+  final private boolean jj_3R_1496() {
     if (jj_scan_token(DOUBLE_PRECISION_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1012() {
-    if (jj_scan_token(INT2_)) return true;
+  final private boolean jj_3R_1018() {
+    if (jj_scan_token(INTEGER_)) return true;
     return false;
   }
 
@@ -53986,23 +54479,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1011() {
-    if (jj_scan_token(TINYINT_)) return true;
+  final private boolean jj_3R_1017() {
+    if (jj_scan_token(INT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1434() {
+  final private boolean jj_3R_1435() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1495()) {
+    if (jj_3R_1496()) {
     jj_scanpos = xsp;
-    if (jj_3R_1496()) return true;
+    if (jj_3R_1497()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_1010() {
-    if (jj_scan_token(SMALLINT_)) return true;
+  final private boolean jj_3R_1016() {
+    if (jj_scan_token(BIGINTEGER_)) return true;
     return false;
   }
 
@@ -54020,7 +54513,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
     if (jj_3_426()) jj_scanpos = xsp;
@@ -54029,13 +54522,13 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_428()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1645()) jj_scanpos = xsp;
+    if (jj_3R_1646()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1009() {
-    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
+  final private boolean jj_3R_1015() {
+    if (jj_scan_token(INT8_)) return true;
     return false;
   }
 
@@ -54043,7 +54536,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(LEFT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -54054,8 +54547,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1008() {
-    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
+  final private boolean jj_3R_1014() {
+    if (jj_scan_token(BIGINT_)) return true;
     return false;
   }
 
@@ -54064,13 +54557,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1007() {
-    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
+  final private boolean jj_3R_1013() {
+    if (jj_scan_token(BYTEA_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1006() {
-    if (jj_scan_token(TO_DATE_)) return true;
+  final private boolean jj_3R_1012() {
+    if (jj_scan_token(INT2_)) return true;
     return false;
   }
 
@@ -54079,13 +54572,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1652() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1653() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1005() {
-    if (jj_scan_token(GET_BYTE_)) return true;
+  final private boolean jj_3R_1011() {
+    if (jj_scan_token(TINYINT_)) return true;
     return false;
   }
 
@@ -54102,13 +54595,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1004() {
-    if (jj_scan_token(GET_BIT_)) return true;
+  final private boolean jj_3R_1010() {
+    if (jj_scan_token(SMALLINT_)) return true;
     return false;
   }
 
   final private boolean jj_3_449() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_473()) return true;
     return false;
   }
@@ -54123,13 +54616,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1670() {
+  final private boolean jj_3R_1671() {
     if (jj_scan_token(CHARACHTER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1003() {
-    if (jj_scan_token(CBRT_)) return true;
+  final private boolean jj_3R_1009() {
+    if (jj_scan_token(TRANSACTION_TIMESTAMP_)) return true;
     return false;
   }
 
@@ -54143,13 +54636,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1669() {
+  final private boolean jj_3R_1670() {
     if (jj_scan_token(CHAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1002() {
-    if (jj_scan_token(RANDOM_)) return true;
+  final private boolean jj_3R_1008() {
+    if (jj_scan_token(STATEMENT_TIMESTAMP_)) return true;
     return false;
   }
 
@@ -54158,8 +54651,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1001() {
-    if (jj_scan_token(SETSEED_)) return true;
+  final private boolean jj_3R_1007() {
+    if (jj_scan_token(CLOCK_TIMESTAMP_)) return true;
     return false;
   }
 
@@ -54168,20 +54661,20 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1577() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1578() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
   final private boolean jj_3_29() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1000() {
-    if (jj_scan_token(WIDTH_BUCKET_)) return true;
+  final private boolean jj_3R_1006() {
+    if (jj_scan_token(TO_DATE_)) return true;
     return false;
   }
 
@@ -54190,18 +54683,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_999() {
-    if (jj_scan_token(TRANSLATE_)) return true;
+  final private boolean jj_3R_1005() {
+    if (jj_scan_token(GET_BYTE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1508() {
+  final private boolean jj_3R_1509() {
     if (jj_scan_token(NATIONAL_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1669()) {
+    if (jj_3R_1670()) {
     jj_scanpos = xsp;
-    if (jj_3R_1670()) return true;
+    if (jj_3R_1671()) return true;
     }
     return false;
   }
@@ -54211,8 +54704,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_998() {
-    if (jj_scan_token(TO_HEX_)) return true;
+  final private boolean jj_3R_1004() {
+    if (jj_scan_token(GET_BIT_)) return true;
     return false;
   }
 
@@ -54221,13 +54714,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1507() {
+  final private boolean jj_3R_1508() {
     if (jj_scan_token(NCHAR_)) return true;
     return false;
   }
 
   final private boolean jj_3_417() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -54237,12 +54730,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_997() {
-    if (jj_scan_token(TO_ASCII_)) return true;
+  final private boolean jj_3R_1003() {
+    if (jj_scan_token(CBRT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1590() {
+  final private boolean jj_3R_1591() {
     if (jj_scan_token(NULL_)) return true;
     return false;
   }
@@ -54252,12 +54745,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_996() {
-    if (jj_scan_token(STRPOS_)) return true;
+  final private boolean jj_3R_1002() {
+    if (jj_scan_token(RANDOM_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1589() {
+  final private boolean jj_3R_1590() {
     if (jj_3R_853()) return true;
     return false;
   }
@@ -54267,8 +54760,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_995() {
-    if (jj_scan_token(SPLIT_PART_)) return true;
+  final private boolean jj_3R_1001() {
+    if (jj_scan_token(SETSEED_)) return true;
     return false;
   }
 
@@ -54277,17 +54770,17 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1444() {
+  final private boolean jj_3R_1445() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1507()) {
+    if (jj_3R_1508()) {
     jj_scanpos = xsp;
-    if (jj_3R_1508()) return true;
+    if (jj_3R_1509()) return true;
     }
     xsp = jj_scanpos;
     if (jj_3_43()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1652()) jj_scanpos = xsp;
+    if (jj_3R_1653()) jj_scanpos = xsp;
     return false;
   }
 
@@ -54304,8 +54797,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_994() {
-    if (jj_scan_token(REPEAT_)) return true;
+  final private boolean jj_3R_1000() {
+    if (jj_scan_token(WIDTH_BUCKET_)) return true;
     return false;
   }
 
@@ -54327,8 +54820,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_993() {
-    if (jj_scan_token(QUOTE_LITERAL_)) return true;
+  final private boolean jj_3R_999() {
+    if (jj_scan_token(TRANSLATE_)) return true;
     return false;
   }
 
@@ -54337,8 +54830,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_992() {
-    if (jj_scan_token(QUOTE_IDENT_)) return true;
+  final private boolean jj_3R_998() {
+    if (jj_scan_token(TO_HEX_)) return true;
     return false;
   }
 
@@ -54349,9 +54842,9 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(AS_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1589()) {
+    if (jj_3R_1590()) {
     jj_scanpos = xsp;
-    if (jj_3R_1590()) return true;
+    if (jj_3R_1591()) return true;
     }
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -54371,23 +54864,23 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
     if (jj_3_417()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1577()) jj_scanpos = xsp;
+    if (jj_3R_1578()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_991() {
-    if (jj_scan_token(PG_CLIENT_ENCODING_)) return true;
+  final private boolean jj_3R_997() {
+    if (jj_scan_token(TO_ASCII_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_990() {
-    if (jj_scan_token(MD5_)) return true;
+  final private boolean jj_3R_996() {
+    if (jj_scan_token(STRPOS_)) return true;
     return false;
   }
 
@@ -54396,8 +54889,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_989() {
-    if (jj_scan_token(ENCODE_)) return true;
+  final private boolean jj_3R_995() {
+    if (jj_scan_token(SPLIT_PART_)) return true;
     return false;
   }
 
@@ -54406,8 +54899,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_988() {
-    if (jj_scan_token(DECODE_)) return true;
+  final private boolean jj_3R_994() {
+    if (jj_scan_token(REPEAT_)) return true;
     return false;
   }
 
@@ -54416,8 +54909,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_987() {
-    if (jj_scan_token(CHR_)) return true;
+  final private boolean jj_3R_993() {
+    if (jj_scan_token(QUOTE_LITERAL_)) return true;
     return false;
   }
 
@@ -54426,8 +54919,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_986() {
-    if (jj_scan_token(BTRIM_)) return true;
+  final private boolean jj_3R_992() {
+    if (jj_scan_token(QUOTE_IDENT_)) return true;
     return false;
   }
 
@@ -54446,8 +54939,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_985() {
-    if (jj_scan_token(TYPE_)) return true;
+  final private boolean jj_3R_991() {
+    if (jj_scan_token(PG_CLIENT_ENCODING_)) return true;
     return false;
   }
 
@@ -54456,7 +54949,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1437() {
+  final private boolean jj_3R_1438() {
     if (jj_scan_token(FIXED_)) return true;
     if (jj_3R_502()) return true;
     if (jj_3R_93()) return true;
@@ -54468,8 +54961,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_984() {
-    if (jj_scan_token(STORAGE_)) return true;
+  final private boolean jj_3R_990() {
+    if (jj_scan_token(MD5_)) return true;
     return false;
   }
 
@@ -54491,8 +54984,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_983() {
-    if (jj_scan_token(PLACING_)) return true;
+  final private boolean jj_3R_989() {
+    if (jj_scan_token(ENCODE_)) return true;
     return false;
   }
 
@@ -54505,7 +54998,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -54519,8 +55012,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_982() {
-    if (jj_scan_token(OVERLAY_)) return true;
+  final private boolean jj_3R_988() {
+    if (jj_scan_token(DECODE_)) return true;
     return false;
   }
 
@@ -54529,8 +55022,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_981() {
-    if (jj_scan_token(OCTET_LENGTH_)) return true;
+  final private boolean jj_3R_987() {
+    if (jj_scan_token(CHR_)) return true;
     return false;
   }
 
@@ -54539,8 +55032,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_980() {
-    if (jj_scan_token(CONVERT_)) return true;
+  final private boolean jj_3R_986() {
+    if (jj_scan_token(BTRIM_)) return true;
     return false;
   }
 
@@ -54554,8 +55047,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_979() {
-    if (jj_scan_token(CHARACTER_LENGTH_)) return true;
+  final private boolean jj_3R_985() {
+    if (jj_scan_token(TYPE_)) return true;
     return false;
   }
 
@@ -54572,8 +55065,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_978() {
-    if (jj_scan_token(CHAR_LENGTH_)) return true;
+  final private boolean jj_3R_984() {
+    if (jj_scan_token(STORAGE_)) return true;
     return false;
   }
 
@@ -54594,8 +55087,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_977() {
-    if (jj_scan_token(BIT_LENGTH_)) return true;
+  final private boolean jj_3R_983() {
+    if (jj_scan_token(PLACING_)) return true;
     return false;
   }
 
@@ -54604,8 +55097,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_976() {
-    if (jj_scan_token(LOCALTIMESTAMP_)) return true;
+  final private boolean jj_3R_982() {
+    if (jj_scan_token(OVERLAY_)) return true;
     return false;
   }
 
@@ -54619,8 +55112,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_975() {
-    if (jj_scan_token(LOCALTIME_)) return true;
+  final private boolean jj_3R_981() {
+    if (jj_scan_token(OCTET_LENGTH_)) return true;
     return false;
   }
 
@@ -54643,13 +55136,13 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_448() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_473()) return true;
     return false;
   }
 
-  final private boolean jj_3R_974() {
-    if (jj_scan_token(AGE_)) return true;
+  final private boolean jj_3R_980() {
+    if (jj_scan_token(CONVERT_)) return true;
     return false;
   }
 
@@ -54658,8 +55151,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_973() {
-    if (jj_scan_token(DATEPART_)) return true;
+  final private boolean jj_3R_979() {
+    if (jj_scan_token(CHARACTER_LENGTH_)) return true;
     return false;
   }
 
@@ -54672,14 +55165,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_SHORTESTLINE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_972() {
-    if (jj_scan_token(DATETRUNC_)) return true;
+  final private boolean jj_3R_978() {
+    if (jj_scan_token(CHAR_LENGTH_)) return true;
     return false;
   }
 
@@ -54710,18 +55203,18 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_447() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_971() {
-    if (jj_scan_token(ISFINITE_)) return true;
+  final private boolean jj_3R_977() {
+    if (jj_scan_token(BIT_LENGTH_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_970() {
-    if (jj_scan_token(TIMEOFDAY_)) return true;
+  final private boolean jj_3R_976() {
+    if (jj_scan_token(LOCALTIMESTAMP_)) return true;
     return false;
   }
 
@@ -54730,8 +55223,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_969() {
-    if (jj_scan_token(CURDATE_)) return true;
+  final private boolean jj_3R_975() {
+    if (jj_scan_token(LOCALTIME_)) return true;
     return false;
   }
 
@@ -54753,13 +55246,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1499() {
+  final private boolean jj_3R_1500() {
     if (jj_scan_token(YEAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_968() {
-    if (jj_scan_token(CURTIME_)) return true;
+  final private boolean jj_3R_974() {
+    if (jj_scan_token(AGE_)) return true;
     return false;
   }
 
@@ -54770,7 +55263,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1498() {
+  final private boolean jj_3R_1499() {
     if (jj_scan_token(SMALLMONEY_)) return true;
     return false;
   }
@@ -54780,18 +55273,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_967() {
-    if (jj_scan_token(CONCAT_WORD)) return true;
+  final private boolean jj_3R_973() {
+    if (jj_scan_token(DATEPART_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1497() {
+  final private boolean jj_3R_1498() {
     if (jj_scan_token(MONEY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_966() {
-    if (jj_scan_token(NUM_)) return true;
+  final private boolean jj_3R_972() {
+    if (jj_scan_token(DATETRUNC_)) return true;
     return false;
   }
 
@@ -54800,8 +55293,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_965() {
-    if (jj_scan_token(MAPCHAR_)) return true;
+  final private boolean jj_3R_971() {
+    if (jj_scan_token(ISFINITE_)) return true;
     return false;
   }
 
@@ -54820,8 +55313,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_964() {
-    if (jj_scan_token(LFILL_)) return true;
+  final private boolean jj_3R_970() {
+    if (jj_scan_token(TIMEOFDAY_)) return true;
     return false;
   }
 
@@ -54856,8 +55349,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_963() {
-    if (jj_scan_token(INITCAP_)) return true;
+  final private boolean jj_3R_969() {
+    if (jj_scan_token(CURDATE_)) return true;
     return false;
   }
 
@@ -54866,8 +55359,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_962() {
-    if (jj_scan_token(SOUNDEX_)) return true;
+  final private boolean jj_3R_968() {
+    if (jj_scan_token(CURTIME_)) return true;
     return false;
   }
 
@@ -54876,8 +55369,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_961() {
-    if (jj_scan_token(INSTR_)) return true;
+  final private boolean jj_3R_967() {
+    if (jj_scan_token(CONCAT_WORD)) return true;
     return false;
   }
 
@@ -54899,8 +55392,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_960() {
-    if (jj_scan_token(LEAST_)) return true;
+  final private boolean jj_3R_966() {
+    if (jj_scan_token(NUM_)) return true;
     return false;
   }
 
@@ -54909,8 +55402,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_959() {
-    if (jj_scan_token(GREATEST_)) return true;
+  final private boolean jj_3R_965() {
+    if (jj_scan_token(MAPCHAR_)) return true;
     return false;
   }
 
@@ -54927,8 +55420,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_958() {
-    if (jj_scan_token(FIXED_)) return true;
+  final private boolean jj_3R_964() {
+    if (jj_scan_token(LFILL_)) return true;
     return false;
   }
 
@@ -54937,30 +55430,30 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1588() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1589() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1436() {
+  final private boolean jj_3R_1437() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_42()) {
     jj_scanpos = xsp;
-    if (jj_3R_1497()) {
-    jj_scanpos = xsp;
     if (jj_3R_1498()) {
     jj_scanpos = xsp;
-    if (jj_3R_1499()) return true;
+    if (jj_3R_1499()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1500()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_957() {
-    if (jj_scan_token(UPPER_)) return true;
+  final private boolean jj_3R_963() {
+    if (jj_scan_token(INITCAP_)) return true;
     return false;
   }
 
@@ -54982,8 +55475,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_956() {
-    if (jj_scan_token(TRIM_)) return true;
+  final private boolean jj_3R_962() {
+    if (jj_scan_token(SOUNDEX_)) return true;
     return false;
   }
 
@@ -54997,8 +55490,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_955() {
-    if (jj_scan_token(SUBSTR_)) return true;
+  final private boolean jj_3R_961() {
+    if (jj_scan_token(INSTR_)) return true;
     return false;
   }
 
@@ -55006,17 +55499,17 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(LFILL_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1588()) jj_scanpos = xsp;
+    if (jj_3R_1589()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_954() {
-    if (jj_scan_token(RTRIM_)) return true;
+  final private boolean jj_3R_960() {
+    if (jj_scan_token(LEAST_)) return true;
     return false;
   }
 
@@ -55025,8 +55518,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_953() {
-    if (jj_scan_token(REPLACE_)) return true;
+  final private boolean jj_3R_959() {
+    if (jj_scan_token(GREATEST_)) return true;
     return false;
   }
 
@@ -55044,7 +55537,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -55055,8 +55548,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_952() {
-    if (jj_scan_token(LTRIM_)) return true;
+  final private boolean jj_3R_958() {
+    if (jj_scan_token(FIXED_)) return true;
     return false;
   }
 
@@ -55070,13 +55563,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_951() {
-    if (jj_scan_token(RPAD_)) return true;
+  final private boolean jj_3R_957() {
+    if (jj_scan_token(UPPER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_950() {
-    if (jj_scan_token(LPAD_)) return true;
+  final private boolean jj_3R_956() {
+    if (jj_scan_token(TRIM_)) return true;
     return false;
   }
 
@@ -55098,12 +55591,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_949() {
-    if (jj_scan_token(ASCII_)) return true;
+  final private boolean jj_3R_955() {
+    if (jj_scan_token(SUBSTR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1503() {
+  final private boolean jj_3R_1504() {
     if (jj_scan_token(TINYTEXT_)) return true;
     return false;
   }
@@ -55117,19 +55610,19 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(FLOAT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_948() {
-    if (jj_scan_token(VAR_SAMP_)) return true;
+  final private boolean jj_3R_954() {
+    if (jj_scan_token(RTRIM_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1667() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1668() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
@@ -55138,18 +55631,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_947() {
-    if (jj_scan_token(VAR_POP_)) return true;
+  final private boolean jj_3R_953() {
+    if (jj_scan_token(REPLACE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1543() {
+  final private boolean jj_3R_1544() {
     if (jj_scan_token(VARCHAR2_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_946() {
-    if (jj_scan_token(VARIANCE_SAMP_)) return true;
+  final private boolean jj_3R_952() {
+    if (jj_scan_token(LTRIM_)) return true;
     return false;
   }
 
@@ -55158,13 +55651,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1542() {
+  final private boolean jj_3R_1543() {
     if (jj_scan_token(VARCHAR_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_945() {
-    if (jj_scan_token(VARIANCE_POP_)) return true;
+  final private boolean jj_3R_951() {
+    if (jj_scan_token(RPAD_)) return true;
     return false;
   }
 
@@ -55181,8 +55674,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_944() {
-    if (jj_scan_token(VARIANCE_)) return true;
+  final private boolean jj_3R_950() {
+    if (jj_scan_token(LPAD_)) return true;
     return false;
   }
 
@@ -55191,8 +55684,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_943() {
-    if (jj_scan_token(SUM_)) return true;
+  final private boolean jj_3R_949() {
+    if (jj_scan_token(ASCII_)) return true;
     return false;
   }
 
@@ -55201,20 +55694,20 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1502() {
+  final private boolean jj_3R_1503() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1542()) {
+    if (jj_3R_1543()) {
     jj_scanpos = xsp;
-    if (jj_3R_1543()) return true;
+    if (jj_3R_1544()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1667()) jj_scanpos = xsp;
+    if (jj_3R_1668()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_942() {
-    if (jj_scan_token(STDDEV_SAMP_)) return true;
+  final private boolean jj_3R_948() {
+    if (jj_scan_token(VAR_SAMP_)) return true;
     return false;
   }
 
@@ -55233,18 +55726,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1439() {
+  final private boolean jj_3R_1440() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1502()) {
+    if (jj_3R_1503()) {
     jj_scanpos = xsp;
-    if (jj_3R_1503()) return true;
+    if (jj_3R_1504()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_941() {
-    if (jj_scan_token(STDDEV_POP_)) return true;
+  final private boolean jj_3R_947() {
+    if (jj_scan_token(VAR_POP_)) return true;
     return false;
   }
 
@@ -55263,8 +55756,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_940() {
-    if (jj_scan_token(STDDEV_)) return true;
+  final private boolean jj_3R_946() {
+    if (jj_scan_token(VARIANCE_SAMP_)) return true;
     return false;
   }
 
@@ -55287,21 +55780,21 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_939() {
-    if (jj_scan_token(MIN_)) return true;
+  final private boolean jj_3R_945() {
+    if (jj_scan_token(VARIANCE_POP_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_938() {
-    if (jj_scan_token(VERSION_)) return true;
+  final private boolean jj_3R_944() {
+    if (jj_scan_token(VARIANCE_)) return true;
     return false;
   }
 
@@ -55331,8 +55824,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_937() {
-    if (jj_scan_token(VALUE_)) return true;
+  final private boolean jj_3R_943() {
+    if (jj_scan_token(SUM_)) return true;
     return false;
   }
 
@@ -55350,14 +55843,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_936() {
-    if (jj_scan_token(DATABASE_)) return true;
+  final private boolean jj_3R_942() {
+    if (jj_scan_token(STDDEV_SAMP_)) return true;
     return false;
   }
 
@@ -55366,13 +55859,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_935() {
-    if (jj_scan_token(TAN_)) return true;
+  final private boolean jj_3R_941() {
+    if (jj_scan_token(STDDEV_POP_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_934() {
-    if (jj_scan_token(SIN_)) return true;
+  final private boolean jj_3R_940() {
+    if (jj_scan_token(STDDEV_)) return true;
     return false;
   }
 
@@ -55381,13 +55874,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1440() {
+  final private boolean jj_3R_1441() {
     if (jj_scan_token(DATE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_933() {
-    if (jj_scan_token(RADIANS_)) return true;
+  final private boolean jj_3R_939() {
+    if (jj_scan_token(MIN_)) return true;
     return false;
   }
 
@@ -55396,8 +55889,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_932() {
-    if (jj_scan_token(DEGREE_)) return true;
+  final private boolean jj_3R_938() {
+    if (jj_scan_token(VERSION_)) return true;
     return false;
   }
 
@@ -55406,8 +55899,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_931() {
-    if (jj_scan_token(COT_)) return true;
+  final private boolean jj_3R_937() {
+    if (jj_scan_token(VALUE_)) return true;
     return false;
   }
 
@@ -55423,8 +55916,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_930() {
-    if (jj_scan_token(COSH_)) return true;
+  final private boolean jj_3R_936() {
+    if (jj_scan_token(DATABASE_)) return true;
     return false;
   }
 
@@ -55443,8 +55936,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_929() {
-    if (jj_scan_token(ACOS_)) return true;
+  final private boolean jj_3R_935() {
+    if (jj_scan_token(TAN_)) return true;
     return false;
   }
 
@@ -55466,8 +55959,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_928() {
-    if (jj_scan_token(COS_)) return true;
+  final private boolean jj_3R_934() {
+    if (jj_scan_token(SIN_)) return true;
     return false;
   }
 
@@ -55476,14 +55969,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1568() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1569() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_927() {
-    if (jj_scan_token(ATN2_)) return true;
+  final private boolean jj_3R_933() {
+    if (jj_scan_token(RADIANS_)) return true;
     return false;
   }
 
@@ -55500,8 +55993,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_926() {
-    if (jj_scan_token(ATAN2_)) return true;
+  final private boolean jj_3R_932() {
+    if (jj_scan_token(DEGREE_)) return true;
     return false;
   }
 
@@ -55520,8 +56013,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_925() {
-    if (jj_scan_token(ATAN_)) return true;
+  final private boolean jj_3R_931() {
+    if (jj_scan_token(COT_)) return true;
     return false;
   }
 
@@ -55536,18 +56029,18 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1568()) jj_scanpos = xsp;
+    if (jj_3R_1569()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1651() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1652() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
-  final private boolean jj_3R_924() {
-    if (jj_scan_token(ASIN_)) return true;
+  final private boolean jj_3R_930() {
+    if (jj_scan_token(COSH_)) return true;
     return false;
   }
 
@@ -55564,23 +56057,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_923() {
-    if (jj_scan_token(SIGN_)) return true;
+  final private boolean jj_3R_929() {
+    if (jj_scan_token(ACOS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1441() {
+  final private boolean jj_3R_1442() {
     if (jj_scan_token(TIME_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1651()) jj_scanpos = xsp;
+    if (jj_3R_1652()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3_41()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_922() {
-    if (jj_scan_token(ROUND_)) return true;
+  final private boolean jj_3R_928() {
+    if (jj_scan_token(COS_)) return true;
     return false;
   }
 
@@ -55594,8 +56087,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_921() {
-    if (jj_scan_token(POWER_)) return true;
+  final private boolean jj_3R_927() {
+    if (jj_scan_token(ATN2_)) return true;
     return false;
   }
 
@@ -55609,8 +56102,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_920() {
-    if (jj_scan_token(PI_)) return true;
+  final private boolean jj_3R_926() {
+    if (jj_scan_token(ATAN2_)) return true;
     return false;
   }
 
@@ -55619,8 +56112,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_919() {
-    if (jj_scan_token(LOG10_)) return true;
+  final private boolean jj_3R_925() {
+    if (jj_scan_token(ATAN_)) return true;
     return false;
   }
 
@@ -55632,8 +56125,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_918() {
-    if (jj_scan_token(LOG_)) return true;
+  final private boolean jj_3R_924() {
+    if (jj_scan_token(ASIN_)) return true;
     return false;
   }
 
@@ -55651,19 +56144,19 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1566() {
+  final private boolean jj_3R_1567() {
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_917() {
-    if (jj_scan_token(LN_)) return true;
+  final private boolean jj_3R_923() {
+    if (jj_scan_token(SIGN_)) return true;
     return false;
   }
 
@@ -55672,12 +56165,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_916() {
-    if (jj_scan_token(FLOOR_)) return true;
+  final private boolean jj_3R_922() {
+    if (jj_scan_token(ROUND_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1506() {
+  final private boolean jj_3R_1507() {
     if (jj_scan_token(SAMLLDATETIME_)) return true;
     return false;
   }
@@ -55695,8 +56188,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_915() {
-    if (jj_scan_token(EXP_)) return true;
+  final private boolean jj_3R_921() {
+    if (jj_scan_token(POWER_)) return true;
     return false;
   }
 
@@ -55705,12 +56198,12 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1566()) jj_scanpos = xsp;
+    if (jj_3R_1567()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1505() {
+  final private boolean jj_3R_1506() {
     if (jj_scan_token(DATETIME_)) return true;
     return false;
   }
@@ -55720,8 +56213,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_914() {
-    if (jj_scan_token(CEILING_)) return true;
+  final private boolean jj_3R_920() {
+    if (jj_scan_token(PI_)) return true;
     return false;
   }
 
@@ -55735,8 +56228,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_913() {
-    if (jj_scan_token(CEIL_)) return true;
+  final private boolean jj_3R_919() {
+    if (jj_scan_token(LOG10_)) return true;
     return false;
   }
 
@@ -55745,8 +56238,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_912() {
-    if (jj_scan_token(ABS_)) return true;
+  final private boolean jj_3R_918() {
+    if (jj_scan_token(LOG_)) return true;
     return false;
   }
 
@@ -55755,8 +56248,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_911() {
-    if (jj_scan_token(WEEK_)) return true;
+  final private boolean jj_3R_917() {
+    if (jj_scan_token(LN_)) return true;
     return false;
   }
 
@@ -55778,8 +56271,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_910() {
-    if (jj_scan_token(WEEKOFYEAR_)) return true;
+  final private boolean jj_3R_916() {
+    if (jj_scan_token(FLOOR_)) return true;
     return false;
   }
 
@@ -55788,13 +56281,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_909() {
-    if (jj_scan_token(DAYOFMONTH_)) return true;
+  final private boolean jj_3R_915() {
+    if (jj_scan_token(EXP_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1668() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1669() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
@@ -55803,8 +56296,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1644() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1645() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -55817,8 +56310,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_908() {
-    if (jj_scan_token(DAYOFYEAR_)) return true;
+  final private boolean jj_3R_914() {
+    if (jj_scan_token(CEILING_)) return true;
     return false;
   }
 
@@ -55835,23 +56328,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_907() {
-    if (jj_scan_token(DAYOFWEEK_)) return true;
+  final private boolean jj_3R_913() {
+    if (jj_scan_token(CEIL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1504() {
+  final private boolean jj_3R_1505() {
     if (jj_scan_token(TIMESTAMP_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1668()) jj_scanpos = xsp;
+    if (jj_3R_1669()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3_40()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_906() {
-    if (jj_scan_token(MONTHNAME_)) return true;
+  final private boolean jj_3R_912() {
+    if (jj_scan_token(ABS_)) return true;
     return false;
   }
 
@@ -55865,21 +56358,21 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1442() {
+  final private boolean jj_3R_1443() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1504()) {
-    jj_scanpos = xsp;
     if (jj_3R_1505()) {
     jj_scanpos = xsp;
-    if (jj_3R_1506()) return true;
+    if (jj_3R_1506()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1507()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_905() {
-    if (jj_scan_token(DATEDIFF_)) return true;
+  final private boolean jj_3R_911() {
+    if (jj_scan_token(WEEK_)) return true;
     return false;
   }
 
@@ -55893,8 +56386,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_904() {
-    if (jj_scan_token(SUBTIME_)) return true;
+  final private boolean jj_3R_910() {
+    if (jj_scan_token(WEEKOFYEAR_)) return true;
     return false;
   }
 
@@ -55911,13 +56404,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_903() {
-    if (jj_scan_token(SUBDATE_)) return true;
+  final private boolean jj_3R_909() {
+    if (jj_scan_token(DAYOFMONTH_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_902() {
-    if (jj_scan_token(DAYNAME_)) return true;
+  final private boolean jj_3R_908() {
+    if (jj_scan_token(DAYOFYEAR_)) return true;
     return false;
   }
 
@@ -55935,18 +56428,18 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1644()) jj_scanpos = xsp;
+    if (jj_3R_1645()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_901() {
-    if (jj_scan_token(ADDTIME_)) return true;
+  final private boolean jj_3R_907() {
+    if (jj_scan_token(DAYOFWEEK_)) return true;
     return false;
   }
 
@@ -55963,8 +56456,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_900() {
-    if (jj_scan_token(ADDDATE_)) return true;
+  final private boolean jj_3R_906() {
+    if (jj_scan_token(MONTHNAME_)) return true;
     return false;
   }
 
@@ -55981,13 +56474,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_899() {
-    if (jj_scan_token(NOW_)) return true;
+  final private boolean jj_3R_905() {
+    if (jj_scan_token(DATEDIFF_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_898() {
-    if (jj_scan_token(SUBSTRING_)) return true;
+  final private boolean jj_3R_904() {
+    if (jj_scan_token(SUBTIME_)) return true;
     return false;
   }
 
@@ -55996,8 +56489,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_897() {
-    if (jj_scan_token(SECOND_)) return true;
+  final private boolean jj_3R_903() {
+    if (jj_scan_token(SUBDATE_)) return true;
     return false;
   }
 
@@ -56011,8 +56504,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_896() {
-    if (jj_scan_token(MINUTE_)) return true;
+  final private boolean jj_3R_902() {
+    if (jj_scan_token(DAYNAME_)) return true;
     return false;
   }
 
@@ -56021,8 +56514,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1649() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1650() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
@@ -56031,22 +56524,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_895() {
-    if (jj_scan_token(HOUR_)) return true;
+  final private boolean jj_3R_901() {
+    if (jj_scan_token(ADDTIME_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1435() {
+  final private boolean jj_3R_1436() {
     if (jj_scan_token(FLOAT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1649()) jj_scanpos = xsp;
+    if (jj_3R_1650()) jj_scanpos = xsp;
     if (jj_3R_93()) return true;
     return false;
   }
 
-  final private boolean jj_3R_894() {
-    if (jj_scan_token(MONTH_)) return true;
+  final private boolean jj_3R_900() {
+    if (jj_scan_token(ADDDATE_)) return true;
     return false;
   }
 
@@ -56076,8 +56569,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_893() {
-    if (jj_scan_token(LOWER_)) return true;
+  final private boolean jj_3R_899() {
+    if (jj_scan_token(NOW_)) return true;
     return false;
   }
 
@@ -56094,8 +56587,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_892() {
-    if (jj_scan_token(LENGTH_)) return true;
+  final private boolean jj_3R_898() {
+    if (jj_scan_token(SUBSTRING_)) return true;
     return false;
   }
 
@@ -56104,13 +56597,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_891() {
-    if (jj_scan_token(YEAR_)) return true;
+  final private boolean jj_3R_897() {
+    if (jj_scan_token(SECOND_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_890() {
-    if (jj_scan_token(USER_)) return true;
+  final private boolean jj_3R_896() {
+    if (jj_scan_token(MINUTE_)) return true;
     return false;
   }
 
@@ -56124,8 +56617,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_889() {
-    if (jj_scan_token(TRUNCATE_)) return true;
+  final private boolean jj_3R_895() {
+    if (jj_scan_token(HOUR_)) return true;
     return false;
   }
 
@@ -56139,13 +56632,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1648() {
+  final private boolean jj_3R_1649() {
     if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_888() {
-    if (jj_scan_token(TRUNC_)) return true;
+  final private boolean jj_3R_894() {
+    if (jj_scan_token(MONTH_)) return true;
     return false;
   }
 
@@ -56154,7 +56647,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1492() {
+  final private boolean jj_3R_1493() {
     if (jj_scan_token(INT4_)) return true;
     return false;
   }
@@ -56164,8 +56657,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_887() {
-    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
+  final private boolean jj_3R_893() {
+    if (jj_scan_token(LOWER_)) return true;
     return false;
   }
 
@@ -56174,7 +56667,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1491() {
+  final private boolean jj_3R_1492() {
     if (jj_scan_token(INTEGER_)) return true;
     return false;
   }
@@ -56187,8 +56680,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_886() {
-    if (jj_scan_token(CURRENT_TIME_)) return true;
+  final private boolean jj_3R_892() {
+    if (jj_scan_token(LENGTH_)) return true;
     return false;
   }
 
@@ -56202,7 +56695,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1490() {
+  final private boolean jj_3R_1491() {
     if (jj_scan_token(INT_)) return true;
     return false;
   }
@@ -56215,8 +56708,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_885() {
-    if (jj_scan_token(CURRENTDATE_)) return true;
+  final private boolean jj_3R_891() {
+    if (jj_scan_token(YEAR_)) return true;
     return false;
   }
 
@@ -56230,8 +56723,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_884() {
-    if (jj_scan_token(MAX_)) return true;
+  final private boolean jj_3R_890() {
+    if (jj_scan_token(USER_)) return true;
     return false;
   }
 
@@ -56250,7 +56743,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -56261,29 +56754,29 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_883() {
-    if (jj_scan_token(EXTRACT_)) return true;
+  final private boolean jj_3R_889() {
+    if (jj_scan_token(TRUNCATE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1432() {
+  final private boolean jj_3R_1433() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1490()) {
-    jj_scanpos = xsp;
     if (jj_3R_1491()) {
     jj_scanpos = xsp;
-    if (jj_3R_1492()) return true;
+    if (jj_3R_1492()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1493()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1648()) jj_scanpos = xsp;
+    if (jj_3R_1649()) jj_scanpos = xsp;
     if (jj_3R_93()) return true;
     return false;
   }
 
-  final private boolean jj_3R_882() {
-    if (jj_scan_token(COUNT_)) return true;
+  final private boolean jj_3R_888() {
+    if (jj_scan_token(TRUNC_)) return true;
     return false;
   }
 
@@ -56305,8 +56798,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_881() {
-    if (jj_scan_token(SQRT_)) return true;
+  final private boolean jj_3R_887() {
+    if (jj_scan_token(CURRENT_TIMESTAMP_)) return true;
     return false;
   }
 
@@ -56315,8 +56808,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_880() {
-    if (jj_scan_token(AVERAGE_)) return true;
+  final private boolean jj_3R_886() {
+    if (jj_scan_token(CURRENT_TIME_)) return true;
     return false;
   }
 
@@ -56325,8 +56818,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_879() {
-    if (jj_scan_token(PASSWORD_)) return true;
+  final private boolean jj_3R_885() {
+    if (jj_scan_token(CURRENTDATE_)) return true;
     return false;
   }
 
@@ -56338,8 +56831,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_878() {
-    if (jj_scan_token(SAMLLDATETIME_)) return true;
+  final private boolean jj_3R_884() {
+    if (jj_scan_token(MAX_)) return true;
     return false;
   }
 
@@ -56356,8 +56849,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_877() {
-    if (jj_scan_token(DATETIME_)) return true;
+  final private boolean jj_3R_883() {
+    if (jj_scan_token(EXTRACT_)) return true;
     return false;
   }
 
@@ -56366,8 +56859,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_876() {
-    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
+  final private boolean jj_3R_882() {
+    if (jj_scan_token(COUNT_)) return true;
     return false;
   }
 
@@ -56381,8 +56874,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_875() {
-    if (jj_scan_token(WITH_TIMEZONE_)) return true;
+  final private boolean jj_3R_881() {
+    if (jj_scan_token(SQRT_)) return true;
     return false;
   }
 
@@ -56396,13 +56889,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_294() {
-    if (jj_3R_341()) return true;
+  final private boolean jj_3R_880() {
+    if (jj_scan_token(AVERAGE_)) return true;
     return false;
   }
 
-  final private boolean jj_3_3() {
-    if (jj_scan_token(TIMESTAMP_)) return true;
+  final private boolean jj_3_294() {
+    if (jj_3R_341()) return true;
     return false;
   }
 
@@ -56421,13 +56914,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_293() {
-    if (jj_3R_340()) return true;
+  final private boolean jj_3R_879() {
+    if (jj_scan_token(PASSWORD_)) return true;
     return false;
   }
 
-  final private boolean jj_3_2() {
-    if (jj_scan_token(TIME_)) return true;
+  final private boolean jj_3_293() {
+    if (jj_3R_340()) return true;
     return false;
   }
 
@@ -56436,6 +56929,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_878() {
+    if (jj_scan_token(SAMLLDATETIME_)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_181() {
     if (jj_scan_token(COSH_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -56444,13 +56942,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_874() {
-    if (jj_scan_token(QUARTER_)) return true;
+  final private boolean jj_3_292() {
+    if (jj_3R_339()) return true;
     return false;
   }
 
-  final private boolean jj_3_292() {
-    if (jj_3R_339()) return true;
+  final private boolean jj_3R_877() {
+    if (jj_scan_token(DATETIME_)) return true;
     return false;
   }
 
@@ -56481,8 +56979,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_873() {
-    if (jj_scan_token(DAY_)) return true;
+  final private boolean jj_3R_876() {
+    if (jj_scan_token(WITHOUT_TIMEZONE_)) return true;
     return false;
   }
 
@@ -56507,14 +57005,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3_1() {
-    if (jj_scan_token(DATE_)) return true;
+  final private boolean jj_3R_875() {
+    if (jj_scan_token(WITH_TIMEZONE_)) return true;
     return false;
   }
 
@@ -56531,8 +57029,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_872() {
-    if (jj_scan_token(POSITION_)) return true;
+  final private boolean jj_3_3() {
+    if (jj_scan_token(TIMESTAMP_)) return true;
     return false;
   }
 
@@ -56541,6 +57039,79 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_2() {
+    if (jj_scan_token(TIME_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_288() {
+    if (jj_3R_335()) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_874() {
+    if (jj_scan_token(QUARTER_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_287() {
+    if (jj_3R_334()) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_873() {
+    if (jj_scan_token(DAY_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_145() {
+    if (jj_scan_token(COS_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_94()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1447() {
+    if (jj_scan_token(BIGSERIAL_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_286() {
+    if (jj_3R_333()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1() {
+    if (jj_scan_token(DATE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_622() {
+    if (jj_scan_token(WORD_EQUALS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_872() {
+    if (jj_scan_token(POSITION_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_285() {
+    if (jj_3R_332()) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_621() {
+    if (jj_scan_token(ST_EQUALS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_546() {
+    if (jj_scan_token(TIME_)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_847() {
     Token xsp;
     xsp = jj_scanpos;
@@ -57566,7 +58137,10 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1379()) {
     jj_scanpos = xsp;
-    if (jj_3R_1380()) return true;
+    if (jj_3R_1380()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1381()) return true;
+    }
     }
     }
     }
@@ -58081,54 +58655,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_288() {
-    if (jj_3R_335()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_287() {
-    if (jj_3R_334()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_145() {
-    if (jj_scan_token(COS_)) return true;
-    if (jj_scan_token(PARENTHESIS_START_)) return true;
-    if (jj_3R_94()) return true;
-    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1446() {
-    if (jj_scan_token(BIGSERIAL_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_286() {
-    if (jj_3R_333()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_622() {
-    if (jj_scan_token(WORD_EQUALS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_285() {
-    if (jj_3R_332()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_621() {
-    if (jj_scan_token(ST_EQUALS_)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_546() {
-    if (jj_scan_token(TIME_)) return true;
-    return false;
-  }
-
   final private boolean jj_3_284() {
     if (jj_3R_331()) return true;
     return false;
@@ -58144,7 +58670,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1445() {
+  final private boolean jj_3R_1446() {
     if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
@@ -58168,7 +58694,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58213,7 +58739,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58224,7 +58750,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1653() {
+  final private boolean jj_3R_1654() {
     if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
@@ -58234,12 +58760,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1511() {
+  final private boolean jj_3R_1512() {
     if (jj_scan_token(INT8_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1510() {
+  final private boolean jj_3R_1511() {
     if (jj_scan_token(BIGINTEGER_)) return true;
     return false;
   }
@@ -58249,7 +58775,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1509() {
+  final private boolean jj_3R_1510() {
     if (jj_scan_token(BIGINT_)) return true;
     return false;
   }
@@ -58269,18 +58795,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1447() {
+  final private boolean jj_3R_1448() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1509()) {
-    jj_scanpos = xsp;
     if (jj_3R_1510()) {
     jj_scanpos = xsp;
-    if (jj_3R_1511()) return true;
+    if (jj_3R_1511()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1512()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1653()) jj_scanpos = xsp;
+    if (jj_3R_1654()) jj_scanpos = xsp;
     if (jj_3R_93()) return true;
     return false;
   }
@@ -58289,7 +58815,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ATN2_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58366,7 +58892,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1494() {
+  final private boolean jj_3R_1495() {
     if (jj_scan_token(TINYINT_)) return true;
     return false;
   }
@@ -58381,7 +58907,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1664() {
+  final private boolean jj_3R_1665() {
     if (jj_scan_token(SERIAL_)) return true;
     return false;
   }
@@ -58390,7 +58916,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ATAN2_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58411,7 +58937,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1541() {
+  final private boolean jj_3R_1542() {
     if (jj_scan_token(INT2_)) return true;
     return false;
   }
@@ -58426,7 +58952,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1540() {
+  final private boolean jj_3R_1541() {
     if (jj_scan_token(SMALLINT_)) return true;
     return false;
   }
@@ -58450,7 +58976,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58479,15 +59005,15 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1493() {
+  final private boolean jj_3R_1494() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1540()) {
+    if (jj_3R_1541()) {
     jj_scanpos = xsp;
-    if (jj_3R_1541()) return true;
+    if (jj_3R_1542()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1664()) jj_scanpos = xsp;
+    if (jj_3R_1665()) jj_scanpos = xsp;
     if (jj_3R_93()) return true;
     return false;
   }
@@ -58502,12 +59028,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1433() {
+  final private boolean jj_3R_1434() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1493()) {
+    if (jj_3R_1494()) {
     jj_scanpos = xsp;
-    if (jj_3R_1494()) return true;
+    if (jj_3R_1495()) return true;
     }
     return false;
   }
@@ -58557,8 +59083,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1643() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1644() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -58576,7 +59102,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1443() {
+  final private boolean jj_3R_1444() {
     if (jj_scan_token(BOOLEAN_)) return true;
     return false;
   }
@@ -58606,11 +59132,11 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_RELATE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1643()) jj_scanpos = xsp;
+    if (jj_3R_1644()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -58630,7 +59156,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1460() {
+  final private boolean jj_3R_1461() {
     if (jj_scan_token(REGCLASS_)) return true;
     return false;
   }
@@ -58662,7 +59188,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(POWER_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58672,13 +59198,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SUBTIME_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1459() {
+  final private boolean jj_3R_1460() {
     if (jj_scan_token(BOX3DEXTENT_)) return true;
     return false;
   }
@@ -58716,7 +59242,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1458() {
+  final private boolean jj_3R_1459() {
     if (jj_scan_token(BOX3D_)) return true;
     return false;
   }
@@ -58752,7 +59278,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -58767,13 +59293,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SUBDATE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1457() {
+  final private boolean jj_3R_1458() {
     if (jj_scan_token(BOX2D_)) return true;
     return false;
   }
@@ -58806,7 +59332,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1456() {
+  final private boolean jj_3R_1457() {
     if (jj_scan_token(GEOMETRY_)) return true;
     return false;
   }
@@ -58860,7 +59386,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1455() {
+  final private boolean jj_3R_1456() {
     if (jj_scan_token(INET_)) return true;
     return false;
   }
@@ -58893,8 +59419,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1567() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1568() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -58904,7 +59430,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1454() {
+  final private boolean jj_3R_1455() {
     if (jj_scan_token(CIDR_)) return true;
     return false;
   }
@@ -58928,7 +59454,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1567()) jj_scanpos = xsp;
+    if (jj_3R_1568()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -58951,7 +59477,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1453() {
+  final private boolean jj_3R_1454() {
     if (jj_scan_token(MACADDR_)) return true;
     return false;
   }
@@ -58998,7 +59524,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59012,8 +59538,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1655() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1656() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
@@ -59035,11 +59561,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1452() {
+  final private boolean jj_3R_1453() {
     if (jj_scan_token(VARBIT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1655()) jj_scanpos = xsp;
+    if (jj_3R_1656()) jj_scanpos = xsp;
     return false;
   }
 
@@ -59066,8 +59592,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1654() {
-    if (jj_3R_1665()) return true;
+  final private boolean jj_3R_1655() {
+    if (jj_3R_1666()) return true;
     return false;
   }
 
@@ -59089,11 +59615,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1451() {
+  final private boolean jj_3R_1452() {
     if (jj_scan_token(BIT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1654()) jj_scanpos = xsp;
+    if (jj_3R_1655()) jj_scanpos = xsp;
     return false;
   }
 
@@ -59128,7 +59654,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1526() {
+  final private boolean jj_3R_1527() {
     if (jj_scan_token(VARBINARY_)) return true;
     return false;
   }
@@ -59154,7 +59680,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1525() {
+  final private boolean jj_3R_1526() {
     if (jj_scan_token(RAW_)) return true;
     return false;
   }
@@ -59164,7 +59690,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1524() {
+  final private boolean jj_3R_1525() {
     if (jj_scan_token(LONG_RAW_)) return true;
     return false;
   }
@@ -59190,12 +59716,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1523() {
+  final private boolean jj_3R_1524() {
     if (jj_scan_token(IMAGE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1522() {
+  final private boolean jj_3R_1523() {
     if (jj_scan_token(BINARY_)) return true;
     return false;
   }
@@ -59205,7 +59731,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1521() {
+  final private boolean jj_3R_1522() {
     if (jj_scan_token(BYTE_)) return true;
     return false;
   }
@@ -59215,7 +59741,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1520() {
+  final private boolean jj_3R_1521() {
     if (jj_scan_token(BYTEA_)) return true;
     return false;
   }
@@ -59225,7 +59751,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1519() {
+  final private boolean jj_3R_1520() {
     if (jj_scan_token(BLOB_)) return true;
     return false;
   }
@@ -59251,11 +59777,9 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1450() {
+  final private boolean jj_3R_1451() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1519()) {
-    jj_scanpos = xsp;
     if (jj_3R_1520()) {
     jj_scanpos = xsp;
     if (jj_3R_1521()) {
@@ -59268,7 +59792,9 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1525()) {
     jj_scanpos = xsp;
-    if (jj_3R_1526()) return true;
+    if (jj_3R_1526()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1527()) return true;
     }
     }
     }
@@ -59292,8 +59818,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1638() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1639() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -59314,7 +59840,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1638()) jj_scanpos = xsp;
+    if (jj_3R_1639()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -59346,7 +59872,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(DATEDIFF_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59365,12 +59891,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1518() {
+  final private boolean jj_3R_1519() {
     if (jj_scan_token(MEDIUMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1517() {
+  final private boolean jj_3R_1518() {
     if (jj_scan_token(LVARCHAR_)) return true;
     return false;
   }
@@ -59380,7 +59906,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1516() {
+  final private boolean jj_3R_1517() {
     if (jj_scan_token(LONGTEXT_)) return true;
     return false;
   }
@@ -59390,7 +59916,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1515() {
+  final private boolean jj_3R_1516() {
     if (jj_scan_token(LONG_VARCHAR_)) return true;
     return false;
   }
@@ -59400,7 +59926,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1514() {
+  final private boolean jj_3R_1515() {
     if (jj_scan_token(LONG_)) return true;
     return false;
   }
@@ -59409,7 +59935,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_CROSSES_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59423,7 +59949,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1513() {
+  final private boolean jj_3R_1514() {
     if (jj_scan_token(CLOB_)) return true;
     return false;
   }
@@ -59433,7 +59959,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1512() {
+  final private boolean jj_3R_1513() {
     if (jj_scan_token(TEXT_)) return true;
     return false;
   }
@@ -59459,11 +59985,9 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1449() {
+  final private boolean jj_3R_1450() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1512()) {
-    jj_scanpos = xsp;
     if (jj_3R_1513()) {
     jj_scanpos = xsp;
     if (jj_3R_1514()) {
@@ -59474,7 +59998,9 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1517()) {
     jj_scanpos = xsp;
-    if (jj_3R_1518()) return true;
+    if (jj_3R_1518()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1519()) return true;
     }
     }
     }
@@ -59521,7 +60047,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_COVERS_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59542,7 +60068,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ADDTIME_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59563,7 +60089,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1448() {
+  final private boolean jj_3R_1449() {
     if (jj_scan_token(INTERVAL_)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -59624,7 +60150,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_COVEREDBY_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59639,7 +60165,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ADDDATE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -59652,7 +60178,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1660() {
+  final private boolean jj_3R_1661() {
     if (jj_scan_token(ELSE_)) return true;
     if (jj_3R_460()) return true;
     return false;
@@ -59691,7 +60217,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1659() {
+  final private boolean jj_3R_1660() {
     if (jj_scan_token(WHEN_)) return true;
     if (jj_3R_460()) return true;
     if (jj_scan_token(THEN_)) return true;
@@ -59738,10 +60264,10 @@ public class CSQLParser implements CSQLParserConstants {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1659()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1660()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1660()) jj_scanpos = xsp;
+    if (jj_3R_1661()) jj_scanpos = xsp;
     if (jj_scan_token(END_)) return true;
     return false;
   }
@@ -59776,7 +60302,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1381() {
+  final private boolean jj_3R_1382() {
     if (jj_3R_460()) return true;
     return false;
   }
@@ -59901,7 +60427,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1383() {
+  final private boolean jj_3R_1384() {
     if (jj_scan_token(ALL_)) return true;
     return false;
   }
@@ -59924,18 +60450,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1412() {
-    if (jj_3R_1460()) return true;
+  final private boolean jj_3R_1413() {
+    if (jj_3R_1461()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1382() {
+  final private boolean jj_3R_1383() {
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1411() {
-    if (jj_3R_1459()) return true;
+  final private boolean jj_3R_1412() {
+    if (jj_3R_1460()) return true;
     return false;
   }
 
@@ -59957,8 +60483,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1410() {
-    if (jj_3R_1458()) return true;
+  final private boolean jj_3R_1411() {
+    if (jj_3R_1459()) return true;
     return false;
   }
 
@@ -59967,8 +60493,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1409() {
-    if (jj_3R_1457()) return true;
+  final private boolean jj_3R_1410() {
+    if (jj_3R_1458()) return true;
     return false;
   }
 
@@ -59976,9 +60502,9 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(LIMIT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1382()) {
+    if (jj_3R_1383()) {
     jj_scanpos = xsp;
-    if (jj_3R_1383()) return true;
+    if (jj_3R_1384()) return true;
     }
     return false;
   }
@@ -59988,13 +60514,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1408() {
-    if (jj_3R_1456()) return true;
+  final private boolean jj_3R_1409() {
+    if (jj_3R_1457()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1407() {
-    if (jj_3R_1455()) return true;
+  final private boolean jj_3R_1408() {
+    if (jj_3R_1456()) return true;
     return false;
   }
 
@@ -60007,14 +60533,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(CONCAT_WORD)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1406() {
-    if (jj_3R_1454()) return true;
+  final private boolean jj_3R_1407() {
+    if (jj_3R_1455()) return true;
     return false;
   }
 
@@ -60028,8 +60554,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1405() {
-    if (jj_3R_1453()) return true;
+  final private boolean jj_3R_1406() {
+    if (jj_3R_1454()) return true;
     return false;
   }
 
@@ -60043,13 +60569,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1404() {
-    if (jj_3R_1452()) return true;
+  final private boolean jj_3R_1405() {
+    if (jj_3R_1453()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1403() {
-    if (jj_3R_1451()) return true;
+  final private boolean jj_3R_1404() {
+    if (jj_3R_1452()) return true;
     return false;
   }
 
@@ -60058,8 +60584,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1402() {
-    if (jj_3R_1450()) return true;
+  final private boolean jj_3R_1403() {
+    if (jj_3R_1451()) return true;
     return false;
   }
 
@@ -60072,7 +60598,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -60091,8 +60617,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1401() {
-    if (jj_3R_1449()) return true;
+  final private boolean jj_3R_1402() {
+    if (jj_3R_1450()) return true;
     return false;
   }
 
@@ -60101,19 +60627,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1400() {
-    if (jj_3R_1448()) return true;
+  final private boolean jj_3R_1401() {
+    if (jj_3R_1449()) return true;
     return false;
   }
 
   final private boolean jj_3R_850() {
     if (jj_scan_token(ORDER_BY_)) return true;
-    if (jj_3R_1381()) return true;
+    if (jj_3R_1382()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1399() {
-    if (jj_3R_1447()) return true;
+  final private boolean jj_3R_1400() {
+    if (jj_3R_1448()) return true;
     return false;
   }
 
@@ -60127,8 +60653,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1398() {
-    if (jj_3R_1446()) return true;
+  final private boolean jj_3R_1399() {
+    if (jj_3R_1447()) return true;
     return false;
   }
 
@@ -60137,8 +60663,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1397() {
-    if (jj_3R_1445()) return true;
+  final private boolean jj_3R_1398() {
+    if (jj_3R_1446()) return true;
     return false;
   }
 
@@ -60157,13 +60683,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1396() {
-    if (jj_3R_1444()) return true;
+  final private boolean jj_3R_1397() {
+    if (jj_3R_1445()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1395() {
-    if (jj_3R_1443()) return true;
+  final private boolean jj_3R_1396() {
+    if (jj_3R_1444()) return true;
     return false;
   }
 
@@ -60177,8 +60703,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1394() {
-    if (jj_3R_1442()) return true;
+  final private boolean jj_3R_1395() {
+    if (jj_3R_1443()) return true;
     return false;
   }
 
@@ -60192,8 +60718,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1393() {
-    if (jj_3R_1441()) return true;
+  final private boolean jj_3R_1394() {
+    if (jj_3R_1442()) return true;
     return false;
   }
 
@@ -60205,7 +60731,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1539() {
+  final private boolean jj_3R_1540() {
     if (jj_scan_token(HAVING_)) return true;
     if (jj_3R_102()) return true;
     return false;
@@ -60216,13 +60742,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1392() {
-    if (jj_3R_1440()) return true;
+  final private boolean jj_3R_1393() {
+    if (jj_3R_1441()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1391() {
-    if (jj_3R_1439()) return true;
+  final private boolean jj_3R_1392() {
+    if (jj_3R_1440()) return true;
     return false;
   }
 
@@ -60240,14 +60766,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1390() {
-    if (jj_3R_1438()) return true;
+  final private boolean jj_3R_1391() {
+    if (jj_3R_1439()) return true;
     return false;
   }
 
@@ -60262,8 +60788,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1389() {
-    if (jj_3R_1437()) return true;
+  final private boolean jj_3R_1390() {
+    if (jj_3R_1438()) return true;
     return false;
   }
 
@@ -60277,8 +60803,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1388() {
-    if (jj_3R_1436()) return true;
+  final private boolean jj_3R_1389() {
+    if (jj_3R_1437()) return true;
     return false;
   }
 
@@ -60302,8 +60828,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1387() {
-    if (jj_3R_1435()) return true;
+  final private boolean jj_3R_1388() {
+    if (jj_3R_1436()) return true;
     return false;
   }
 
@@ -60320,8 +60846,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1386() {
-    if (jj_3R_1434()) return true;
+  final private boolean jj_3R_1387() {
+    if (jj_3R_1435()) return true;
     return false;
   }
 
@@ -60338,7 +60864,7 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_446() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_472()) return true;
     return false;
   }
@@ -60358,8 +60884,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1385() {
-    if (jj_3R_1433()) return true;
+  final private boolean jj_3R_1386() {
+    if (jj_3R_1434()) return true;
     return false;
   }
 
@@ -60368,13 +60894,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1384() {
-    if (jj_3R_1432()) return true;
+  final private boolean jj_3R_1385() {
+    if (jj_3R_1433()) return true;
     return false;
   }
 
   final private boolean jj_3R_862() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_472()) return true;
     return false;
   }
@@ -60383,7 +60909,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_ORDERINGEQUALS_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -60397,20 +60923,18 @@ public class CSQLParser implements CSQLParserConstants {
   final private boolean jj_3R_853() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1384()) {
-    jj_scanpos = xsp;
     if (jj_3R_1385()) {
     jj_scanpos = xsp;
-    if (jj_3_37()) {
-    jj_scanpos = xsp;
     if (jj_3R_1386()) {
     jj_scanpos = xsp;
-    if (jj_3R_1387()) {
+    if (jj_3_37()) {
     jj_scanpos = xsp;
-    if (jj_3_38()) {
+    if (jj_3R_1387()) {
     jj_scanpos = xsp;
     if (jj_3R_1388()) {
     jj_scanpos = xsp;
+    if (jj_3_38()) {
+    jj_scanpos = xsp;
     if (jj_3R_1389()) {
     jj_scanpos = xsp;
     if (jj_3R_1390()) {
@@ -60457,7 +60981,9 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1411()) {
     jj_scanpos = xsp;
-    if (jj_3R_1412()) return true;
+    if (jj_3R_1412()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1413()) return true;
     }
     }
     }
@@ -60515,7 +61041,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_COLLECTIONEXTRACT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -60543,7 +61069,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1538() {
+  final private boolean jj_3R_1539() {
     if (jj_scan_token(GROUP_BY_)) return true;
     if (jj_3R_809()) return true;
     return false;
@@ -60580,8 +61106,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1637() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1638() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -60591,7 +61117,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1537() {
+  final private boolean jj_3R_1538() {
     if (jj_scan_token(WHERE_)) return true;
     if (jj_3R_102()) return true;
     return false;
@@ -60633,7 +61159,7 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_36() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_scan_token(INT_LITERAL)) return true;
     return false;
   }
@@ -60648,12 +61174,12 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1637()) jj_scanpos = xsp;
+    if (jj_3R_1638()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1606() {
+  final private boolean jj_3R_1607() {
     if (jj_scan_token(EPOCH_FROM)) return true;
     return false;
   }
@@ -60676,7 +61202,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1605() {
+  final private boolean jj_3R_1606() {
     if (jj_scan_token(MICROSECONDS_FROM)) return true;
     return false;
   }
@@ -60686,12 +61212,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1604() {
+  final private boolean jj_3R_1605() {
     if (jj_scan_token(MILLENNIUM_FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1695() {
+  final private boolean jj_3R_1696() {
     if (jj_scan_token(USING_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_82()) return true;
@@ -60704,12 +61230,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1603() {
+  final private boolean jj_3R_1604() {
     if (jj_scan_token(MILLISECOND_FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1602() {
+  final private boolean jj_3R_1603() {
     if (jj_scan_token(CENTURY_FROM)) return true;
     return false;
   }
@@ -60719,13 +61245,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1694() {
+  final private boolean jj_3R_1695() {
     if (jj_scan_token(ON_)) return true;
     if (jj_3R_102()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1601() {
+  final private boolean jj_3R_1602() {
     if (jj_scan_token(DECADE_FROM)) return true;
     return false;
   }
@@ -60735,17 +61261,17 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1684() {
+  final private boolean jj_3R_1685() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1694()) {
+    if (jj_3R_1695()) {
     jj_scanpos = xsp;
-    if (jj_3R_1695()) return true;
+    if (jj_3R_1696()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_1600() {
+  final private boolean jj_3R_1601() {
     if (jj_scan_token(DOW_FROM)) return true;
     return false;
   }
@@ -60755,12 +61281,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1599() {
+  final private boolean jj_3R_1600() {
     if (jj_scan_token(DOY_FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1598() {
+  final private boolean jj_3R_1599() {
     if (jj_scan_token(SECOND_FROM)) return true;
     return false;
   }
@@ -60770,7 +61296,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1597() {
+  final private boolean jj_3R_1598() {
     if (jj_scan_token(MINUTE_FROM)) return true;
     return false;
   }
@@ -60796,7 +61322,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1596() {
+  final private boolean jj_3R_1597() {
     if (jj_scan_token(HOUR_FROM)) return true;
     return false;
   }
@@ -60806,12 +61332,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1595() {
+  final private boolean jj_3R_1596() {
     if (jj_scan_token(DAY_FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1594() {
+  final private boolean jj_3R_1595() {
     if (jj_scan_token(WEEK_FROM)) return true;
     return false;
   }
@@ -60821,7 +61347,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1593() {
+  final private boolean jj_3R_1594() {
     if (jj_scan_token(MONTH_FROM)) return true;
     return false;
   }
@@ -60831,7 +61357,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1592() {
+  final private boolean jj_3R_1593() {
     if (jj_scan_token(QUARTER_FROM)) return true;
     return false;
   }
@@ -60841,12 +61367,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1693() {
+  final private boolean jj_3R_1694() {
     if (jj_scan_token(OUTER_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1591() {
+  final private boolean jj_3R_1592() {
     if (jj_scan_token(YEAR_FROM)) return true;
     return false;
   }
@@ -60861,7 +61387,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1692() {
+  final private boolean jj_3R_1693() {
     if (jj_scan_token(FULL_)) return true;
     return false;
   }
@@ -60879,7 +61405,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1691() {
+  final private boolean jj_3R_1692() {
     if (jj_scan_token(RIGHT_)) return true;
     return false;
   }
@@ -60889,7 +61415,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1690() {
+  final private boolean jj_3R_1691() {
     if (jj_scan_token(LEFT_)) return true;
     return false;
   }
@@ -60899,8 +61425,6 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1591()) {
-    jj_scanpos = xsp;
     if (jj_3R_1592()) {
     jj_scanpos = xsp;
     if (jj_3R_1593()) {
@@ -60929,7 +61453,9 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1605()) {
     jj_scanpos = xsp;
-    if (jj_3R_1606()) return true;
+    if (jj_3R_1606()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1607()) return true;
     }
     }
     }
@@ -60973,20 +61499,20 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1682() {
+  final private boolean jj_3R_1683() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1690()) {
-    jj_scanpos = xsp;
     if (jj_3R_1691()) {
     jj_scanpos = xsp;
-    if (jj_3R_1692()) return true;
+    if (jj_3R_1692()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1693()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1693()) jj_scanpos = xsp;
+    if (jj_3R_1694()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_1656()) return true;
+    if (jj_3R_1657()) return true;
     return false;
   }
 
@@ -61006,7 +61532,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1689() {
+  final private boolean jj_3R_1690() {
     if (jj_scan_token(INNER_)) return true;
     return false;
   }
@@ -61029,12 +61555,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1681() {
+  final private boolean jj_3R_1682() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1689()) jj_scanpos = xsp;
+    if (jj_3R_1690()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_1656()) return true;
+    if (jj_3R_1657()) return true;
     return false;
   }
 
@@ -61068,13 +61594,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1675() {
+  final private boolean jj_3R_1676() {
     if (jj_scan_token(NATURAL_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1681()) {
+    if (jj_3R_1682()) {
     jj_scanpos = xsp;
-    if (jj_3R_1682()) return true;
+    if (jj_3R_1683()) return true;
     }
     return false;
   }
@@ -61118,7 +61644,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1688() {
+  final private boolean jj_3R_1689() {
     if (jj_scan_token(OUTER_)) return true;
     return false;
   }
@@ -61142,7 +61668,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1687() {
+  final private boolean jj_3R_1688() {
     if (jj_scan_token(FULL_)) return true;
     return false;
   }
@@ -61152,12 +61678,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1686() {
+  final private boolean jj_3R_1687() {
     if (jj_scan_token(RIGHT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1685() {
+  final private boolean jj_3R_1686() {
     if (jj_scan_token(LEFT_)) return true;
     return false;
   }
@@ -61195,27 +61721,27 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(DATETRUNC_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1680() {
+  final private boolean jj_3R_1681() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1685()) {
-    jj_scanpos = xsp;
     if (jj_3R_1686()) {
     jj_scanpos = xsp;
-    if (jj_3R_1687()) return true;
+    if (jj_3R_1687()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1688()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1688()) jj_scanpos = xsp;
+    if (jj_3R_1689()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_1656()) return true;
-    if (jj_3R_1684()) return true;
+    if (jj_3R_1657()) return true;
+    if (jj_3R_1685()) return true;
     return false;
   }
 
@@ -61266,7 +61792,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1683() {
+  final private boolean jj_3R_1684() {
     if (jj_scan_token(INNER_)) return true;
     return false;
   }
@@ -61289,18 +61815,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1679() {
+  final private boolean jj_3R_1680() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1683()) jj_scanpos = xsp;
+    if (jj_3R_1684()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_1656()) return true;
-    if (jj_3R_1684()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_28() {
-    if (jj_3R_73()) return true;
+    if (jj_3R_1657()) return true;
+    if (jj_3R_1685()) return true;
     return false;
   }
 
@@ -61314,12 +61835,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1674() {
+  final private boolean jj_3R_1675() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1679()) {
+    if (jj_3R_1680()) {
     jj_scanpos = xsp;
-    if (jj_3R_1680()) return true;
+    if (jj_3R_1681()) return true;
     }
     return false;
   }
@@ -61329,8 +61850,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_27() {
-    if (jj_3R_72()) return true;
+  final private boolean jj_3_28() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
@@ -61338,7 +61859,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(DATEPART_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -61353,16 +61874,16 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_BDPOLYFROMTEXT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1673() {
+  final private boolean jj_3R_1674() {
     if (jj_scan_token(CROSS_)) return true;
     if (jj_scan_token(JOIN_)) return true;
-    if (jj_3R_1656()) return true;
+    if (jj_3R_1657()) return true;
     return false;
   }
 
@@ -61376,19 +61897,24 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_27() {
+    if (jj_3R_72()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_684() {
     if (jj_scan_token(NDIMS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1657() {
+  final private boolean jj_3R_1658() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1673()) {
-    jj_scanpos = xsp;
     if (jj_3R_1674()) {
     jj_scanpos = xsp;
-    if (jj_3R_1675()) return true;
+    if (jj_3R_1675()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1676()) return true;
     }
     }
     return false;
@@ -61409,12 +61935,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1563() {
-    if (jj_3R_1656()) return true;
+  final private boolean jj_3R_1564() {
+    if (jj_3R_1657()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1657()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1658()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -61442,8 +61968,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1607() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1608() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -61457,7 +61983,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_BDMPOLYFROMTEXT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -61474,7 +62000,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1607()) jj_scanpos = xsp;
+    if (jj_3R_1608()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -61489,11 +62015,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_71() {
-    if (jj_scan_token(SEMICOLON_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_856() {
     if (jj_scan_token(FOREIGNKEY_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -61518,11 +62039,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_26() {
-    if (jj_3R_70()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_71()) jj_scanpos = xsp;
+  final private boolean jj_3R_71() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
@@ -61531,11 +62049,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_69() {
-    if (jj_scan_token(SEMICOLON_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_288() {
     if (jj_scan_token(ST_AZIMUTH_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -61549,16 +62062,16 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_81() {
-    if (jj_3R_128()) return true;
+  final private boolean jj_3_26() {
+    if (jj_3R_70()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_71()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_25() {
-    if (jj_3R_68()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_69()) jj_scanpos = xsp;
+  final private boolean jj_3_81() {
+    if (jj_3R_128()) return true;
     return false;
   }
 
@@ -61569,6 +62082,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_69() {
+    if (jj_scan_token(SEMICOLON_)) return true;
+    return false;
+  }
+
   final private boolean jj_3_80() {
     if (jj_3R_127()) return true;
     return false;
@@ -61595,13 +62113,21 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_25() {
+    if (jj_3R_68()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_69()) jj_scanpos = xsp;
+    return false;
+  }
+
   final private boolean jj_3_78() {
     if (jj_3R_125()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1636() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1637() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -61622,7 +62148,7 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_424() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -61640,9 +62166,9 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1564() {
-    if (jj_scan_token(781)) return true;
-    if (jj_3R_1563()) return true;
+  final private boolean jj_3R_1565() {
+    if (jj_scan_token(782)) return true;
+    if (jj_3R_1564()) return true;
     return false;
   }
 
@@ -61666,17 +62192,17 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_424()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1636()) jj_scanpos = xsp;
+    if (jj_3R_1637()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1556() {
-    if (jj_3R_1563()) return true;
+  final private boolean jj_3R_1557() {
+    if (jj_3R_1564()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1564()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1565()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -61723,11 +62249,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_24() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
   final private boolean jj_3_68() {
     if (jj_3R_115()) return true;
     return false;
@@ -61738,7 +62259,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1678() {
+  final private boolean jj_3R_1679() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_82()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
@@ -61758,8 +62279,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_23() {
-    if (jj_3R_66()) return true;
+  final private boolean jj_3_24() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
@@ -61768,8 +62289,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1635() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1636() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -61789,6 +62310,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_23() {
+    if (jj_3R_66()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_392() {
     if (jj_scan_token(ST_MULTILINESTRINGFROMTEXT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -61797,18 +62323,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_22() {
-    if (jj_3R_65()) return true;
-    return false;
-  }
-
   final private boolean jj_3_423() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1672() {
+  final private boolean jj_3R_1673() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_767()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
@@ -61816,7 +62337,7 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_445()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1678()) jj_scanpos = xsp;
+    if (jj_3R_1679()) jj_scanpos = xsp;
     return false;
   }
 
@@ -61825,11 +62346,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_64() {
-    if (jj_scan_token(SEMICOLON_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_606() {
     if (jj_scan_token(ASKML_)) return true;
     return false;
@@ -61865,6 +62381,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_22() {
+    if (jj_3R_65()) return true;
+    return false;
+  }
+
   final private boolean jj_3_60() {
     if (jj_3R_107()) return true;
     return false;
@@ -61875,20 +62396,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_21() {
-    if (jj_3R_63()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_64()) jj_scanpos = xsp;
-    return false;
-  }
-
   final private boolean jj_3R_782() {
     if (jj_3R_855()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1671() {
+  final private boolean jj_3R_1672() {
     if (jj_3R_48()) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -61896,6 +62409,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_64() {
+    if (jj_scan_token(SEMICOLON_)) return true;
+    return false;
+  }
+
   final private boolean jj_3_59() {
     if (jj_3R_106()) return true;
     return false;
@@ -61913,17 +62431,17 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_423()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1635()) jj_scanpos = xsp;
+    if (jj_3R_1636()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1656() {
+  final private boolean jj_3R_1657() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1671()) {
+    if (jj_3R_1672()) {
     jj_scanpos = xsp;
-    if (jj_3R_1672()) return true;
+    if (jj_3R_1673()) return true;
     }
     return false;
   }
@@ -61951,6 +62469,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_21() {
+    if (jj_3R_63()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_64()) jj_scanpos = xsp;
+    return false;
+  }
+
   final private boolean jj_3R_391() {
     if (jj_scan_token(ST_MULTILINEFROMWKB_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -61959,11 +62485,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_20() {
-    if (jj_3R_62()) return true;
-    return false;
-  }
-
   final private boolean jj_3R_99() {
     Token xsp;
     xsp = jj_scanpos;
@@ -63053,8 +63574,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_19() {
-    if (jj_3R_61()) return true;
+  final private boolean jj_3_20() {
+    if (jj_3R_62()) return true;
     return false;
   }
 
@@ -63068,7 +63589,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1663() {
+  final private boolean jj_3R_1664() {
     if (jj_3R_473()) return true;
     return false;
   }
@@ -63078,24 +63599,29 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1662() {
+  final private boolean jj_3R_1663() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
+  final private boolean jj_3_19() {
+    if (jj_3R_61()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_681() {
     if (jj_scan_token(ST_MULTI_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1536() {
+  final private boolean jj_3R_1537() {
     if (jj_scan_token(FROM_)) return true;
-    if (jj_3R_1556()) return true;
+    if (jj_3R_1557()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1634() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1635() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63113,18 +63639,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1612() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1613() {
+    if (jj_scan_token(782)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1662()) {
+    if (jj_3R_1663()) {
     jj_scanpos = xsp;
-    if (jj_3R_1663()) return true;
+    if (jj_3R_1664()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_1611() {
+  final private boolean jj_3R_1612() {
     if (jj_3R_473()) return true;
     return false;
   }
@@ -63134,7 +63660,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1610() {
+  final private boolean jj_3R_1611() {
     if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
@@ -63144,17 +63670,17 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1555() {
+  final private boolean jj_3R_1556() {
     if (jj_scan_token(TABLE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1609() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1610() {
+    if (jj_scan_token(782)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1562() {
+  final private boolean jj_3R_1563() {
     if (jj_scan_token(TEMP_)) return true;
     return false;
   }
@@ -63169,36 +63695,31 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1634()) jj_scanpos = xsp;
+    if (jj_3R_1635()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1608() {
+  final private boolean jj_3R_1609() {
     if (jj_scan_token(USING_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1561() {
+  final private boolean jj_3R_1562() {
     if (jj_scan_token(TEMPORARY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1554() {
+  final private boolean jj_3R_1555() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1561()) {
+    if (jj_3R_1562()) {
     jj_scanpos = xsp;
-    if (jj_3R_1562()) return true;
+    if (jj_3R_1563()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_60() {
-    if (jj_scan_token(SEMICOLON_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_389() {
     if (jj_scan_token(ST_MPOLYFROMWKB_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -63207,13 +63728,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1535() {
+  final private boolean jj_3R_1536() {
     if (jj_scan_token(INTO_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1554()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_1555()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1556()) jj_scanpos = xsp;
     if (jj_3R_48()) return true;
     return false;
   }
@@ -63230,49 +63751,41 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1608()) {
+    if (jj_3R_1609()) {
     jj_scanpos = xsp;
-    if (jj_3R_1609()) return true;
+    if (jj_3R_1610()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1610()) {
+    if (jj_3R_1611()) {
     jj_scanpos = xsp;
-    if (jj_3R_1611()) return true;
+    if (jj_3R_1612()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_1612()) jj_scanpos = xsp;
+    if (jj_3R_1613()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3_18() {
-    if (jj_3R_59()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_60()) jj_scanpos = xsp;
-    return false;
-  }
-
-  final private boolean jj_3R_58() {
+  final private boolean jj_3R_60() {
     if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  final private boolean jj_3_17() {
-    if (jj_3R_57()) return true;
+  final private boolean jj_3_18() {
+    if (jj_3R_59()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_58()) jj_scanpos = xsp;
+    if (jj_3R_60()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_56() {
+  final private boolean jj_3R_58() {
     if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1633() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1634() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63285,7 +63798,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1697() {
+  final private boolean jj_3R_1698() {
     if (jj_scan_token(FALSE_)) return true;
     return false;
   }
@@ -63296,59 +63809,64 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1696() {
+  final private boolean jj_3R_1697() {
     if (jj_scan_token(TRUE_)) return true;
     return false;
   }
 
-  final private boolean jj_3_16() {
-    if (jj_3R_55()) return true;
+  final private boolean jj_3_17() {
+    if (jj_3R_57()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_56()) jj_scanpos = xsp;
+    if (jj_3R_58()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_422() {
-    if (jj_scan_token(781)) return true;
-    if (jj_3R_94()) return true;
+  final private boolean jj_3R_56() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_54() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  final private boolean jj_3_422() {
+    if (jj_scan_token(782)) return true;
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1430() {
+  final private boolean jj_3R_1431() {
     if (jj_scan_token(NOT_EQUALS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1429() {
+  final private boolean jj_3R_1430() {
     if (jj_scan_token(EQUALS_)) return true;
     return false;
   }
 
-  final private boolean jj_3_15() {
-    if (jj_3R_53()) return true;
+  final private boolean jj_3_16() {
+    if (jj_3R_55()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_54()) jj_scanpos = xsp;
+    if (jj_3R_56()) jj_scanpos = xsp;
     return false;
   }
 
   final private boolean jj_3_421() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1698() {
+  final private boolean jj_3R_1699() {
     if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
+  final private boolean jj_3R_54() {
+    if (jj_scan_token(SEMICOLON_)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_206() {
     if (jj_scan_token(OCTET_LENGTH_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -63357,11 +63875,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_52() {
-    if (jj_scan_token(SEMICOLON_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_387() {
     if (jj_scan_token(ST_MPOINTFROMWKB_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -63380,41 +63893,46 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_422()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1633()) jj_scanpos = xsp;
+    if (jj_3R_1634()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1428() {
+  final private boolean jj_3R_1429() {
     if (jj_scan_token(IS_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1698()) jj_scanpos = xsp;
+    if (jj_3R_1699()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_14() {
-    if (jj_3R_51()) return true;
+  final private boolean jj_3_15() {
+    if (jj_3R_53()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_52()) jj_scanpos = xsp;
+    if (jj_3R_54()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3R_52() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
   final private boolean jj_3R_863() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1428()) {
-    jj_scanpos = xsp;
     if (jj_3R_1429()) {
     jj_scanpos = xsp;
-    if (jj_3R_1430()) return true;
+    if (jj_3R_1430()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1431()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1696()) {
+    if (jj_3R_1697()) {
     jj_scanpos = xsp;
-    if (jj_3R_1697()) return true;
+    if (jj_3R_1698()) return true;
     }
     return false;
   }
@@ -63425,7 +63943,15 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1613() {
+  final private boolean jj_3_14() {
+    if (jj_3R_51()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_52()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3R_1614() {
     if (jj_scan_token(FOR_)) return true;
     if (jj_3R_94()) return true;
     return false;
@@ -63439,11 +63965,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1470() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_207() {
     if (jj_scan_token(OVERLAY_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -63454,28 +63975,18 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1613()) jj_scanpos = xsp;
+    if (jj_3R_1614()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1468() {
-    if (jj_3R_1527()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_13() {
-    if (jj_3R_50()) return true;
-    return false;
-  }
-
   final private boolean jj_3R_766() {
     if (jj_scan_token(NOT_EQUALS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1632() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1633() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63485,6 +63996,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_1471() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_385() {
     if (jj_scan_token(ST_MLINEFROMWKB_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
@@ -63498,13 +64014,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_12() {
-    if (jj_3R_49()) return true;
+  final private boolean jj_3_13() {
+    if (jj_3R_50()) return true;
     return false;
   }
 
   final private boolean jj_3_420() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63517,16 +64033,19 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_419() {
-    if (jj_scan_token(781)) return true;
-    if (jj_3R_94()) return true;
+  final private boolean jj_3R_1469() {
+    if (jj_3R_1528()) return true;
     return false;
   }
 
-  final private boolean jj_3_11() {
-    if (jj_scan_token(UPDATE_)) return true;
-    if (jj_3R_48()) return true;
-    if (jj_scan_token(SET_)) return true;
+  final private boolean jj_3_12() {
+    if (jj_3R_49()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_419() {
+    if (jj_scan_token(782)) return true;
+    if (jj_3R_94()) return true;
     return false;
   }
 
@@ -63554,7 +64073,7 @@ public class CSQLParser implements CSQLParserConstants {
     xsp = jj_scanpos;
     if (jj_3_420()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1632()) jj_scanpos = xsp;
+    if (jj_3R_1633()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -63577,15 +64096,17 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_43() {
-    if (jj_scan_token(DROP_)) return true;
-    if (jj_scan_token(TABLE_)) return true;
+  final private boolean jj_3_11() {
+    if (jj_scan_token(UPDATE_)) return true;
     if (jj_3R_48()) return true;
+    if (jj_scan_token(SET_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_47() {
-    if (jj_scan_token(SEMICOLON_)) return true;
+  final private boolean jj_3R_43() {
+    if (jj_scan_token(DROP_)) return true;
+    if (jj_scan_token(TABLE_)) return true;
+    if (jj_3R_48()) return true;
     return false;
   }
 
@@ -63602,17 +64123,14 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_10() {
-    if (jj_3R_46()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_47()) jj_scanpos = xsp;
+  final private boolean jj_3R_1616() {
+    if (jj_scan_token(FOR_)) return true;
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1615() {
-    if (jj_scan_token(FOR_)) return true;
-    if (jj_3R_94()) return true;
+  final private boolean jj_3R_47() {
+    if (jj_scan_token(SEMICOLON_)) return true;
     return false;
   }
 
@@ -63626,19 +64144,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1614() {
+  final private boolean jj_3R_1615() {
     if (jj_scan_token(FROM_)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_602() {
-    if (jj_scan_token(ASEWKT_)) return true;
+  final private boolean jj_3_10() {
+    if (jj_3R_46()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_47()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_9() {
-    if (jj_3R_45()) return true;
+  final private boolean jj_3R_602() {
+    if (jj_scan_token(ASEWKT_)) return true;
     return false;
   }
 
@@ -63663,9 +64184,9 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1614()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_1615()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1616()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -63685,6 +64206,11 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_9() {
+    if (jj_3R_45()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_282() {
     Token xsp;
     xsp = jj_scanpos;
@@ -63698,11 +64224,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_8() {
-    if (jj_3R_44()) return true;
-    return false;
-  }
-
   final private boolean jj_3R_760() {
     Token xsp;
     xsp = jj_scanpos;
@@ -63736,12 +64257,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_7() {
-    if (jj_3R_43()) return true;
+  final private boolean jj_3_8() {
+    if (jj_3R_44()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1699() {
+  final private boolean jj_3R_1700() {
     if (jj_scan_token(ESCAPE_)) return true;
     if (jj_3R_460()) return true;
     return false;
@@ -63757,8 +64278,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3_6() {
-    if (jj_3R_42()) return true;
+  final private boolean jj_3_7() {
+    if (jj_3R_43()) return true;
     return false;
   }
 
@@ -63767,8 +64288,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1631() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1632() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63794,13 +64315,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_812() {
-    if (jj_scan_token(NOT_)) return true;
+  final private boolean jj_3_6() {
+    if (jj_3R_42()) return true;
     return false;
   }
 
-  final private boolean jj_3_5() {
-    if (jj_3R_41()) return true;
+  final private boolean jj_3R_812() {
+    if (jj_scan_token(NOT_)) return true;
     return false;
   }
 
@@ -63823,7 +64344,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_3R_460()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1699()) jj_scanpos = xsp;
+    if (jj_3R_1700()) jj_scanpos = xsp;
     return false;
   }
 
@@ -63837,13 +64358,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1631()) jj_scanpos = xsp;
+    if (jj_3R_1632()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3_4() {
-    if (jj_3R_40()) return true;
+  final private boolean jj_3_5() {
+    if (jj_3R_41()) return true;
     return false;
   }
 
@@ -63865,11 +64386,16 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3_4() {
+    if (jj_3R_40()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_380() {
     if (jj_scan_token(ST_MAXDISTANCE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -63906,8 +64432,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1642() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1643() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -63918,7 +64444,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1642()) jj_scanpos = xsp;
+    if (jj_3R_1643()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -63979,9 +64505,9 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_MAKEPOINTM_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64063,8 +64589,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1641() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1642() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64097,13 +64623,13 @@ public class CSQLParser implements CSQLParserConstants {
   }
 
   final private boolean jj_3_425() {
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1616() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1617() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64112,13 +64638,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_MAKEPOINT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_425()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1641()) jj_scanpos = xsp;
+    if (jj_3R_1642()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64137,13 +64663,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(TRANSLATE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1616()) jj_scanpos = xsp;
+    if (jj_3R_1617()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64196,8 +64722,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1661() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1662() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64222,13 +64748,13 @@ public class CSQLParser implements CSQLParserConstants {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1661()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1662()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3R_1629() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1630() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64253,8 +64779,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1617() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1618() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64268,11 +64794,11 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_BUFFER_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1629()) jj_scanpos = xsp;
+    if (jj_3R_1630()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64288,7 +64814,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1549() {
+  final private boolean jj_3R_1550() {
     if (jj_3R_851()) return true;
     return false;
   }
@@ -64302,13 +64828,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_MAKEENVELOPE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64320,7 +64846,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1617()) jj_scanpos = xsp;
+    if (jj_3R_1618()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64347,8 +64873,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1548() {
-    if (jj_3R_1537()) return true;
+  final private boolean jj_3R_1549() {
+    if (jj_3R_1538()) return true;
     return false;
   }
 
@@ -64357,8 +64883,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1547() {
-    if (jj_3R_1536()) return true;
+  final private boolean jj_3R_1548() {
+    if (jj_3R_1537()) return true;
     return false;
   }
 
@@ -64367,7 +64893,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1558() {
+  final private boolean jj_3R_1559() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
@@ -64377,7 +64903,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1557() {
+  final private boolean jj_3R_1558() {
     if (jj_scan_token(ALL_)) return true;
     return false;
   }
@@ -64387,12 +64913,12 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1546() {
+  final private boolean jj_3R_1547() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1557()) {
+    if (jj_3R_1558()) {
     jj_scanpos = xsp;
-    if (jj_3R_1558()) return true;
+    if (jj_3R_1559()) return true;
     }
     return false;
   }
@@ -64474,14 +65000,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SELECT_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1546()) jj_scanpos = xsp;
-    if (jj_3R_1484()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_1547()) jj_scanpos = xsp;
+    if (jj_3R_1485()) return true;
     xsp = jj_scanpos;
     if (jj_3R_1548()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_1549()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1550()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64490,7 +65016,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(STRPOS_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64504,8 +65030,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1630() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1631() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64535,7 +65061,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_LONGESTLINE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64545,9 +65071,9 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SPLIT_PART_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64568,7 +65094,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1630()) jj_scanpos = xsp;
+    if (jj_3R_1631()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64578,7 +65104,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1480() {
+  final private boolean jj_3R_1481() {
     if (jj_scan_token(INET_LITERAL)) return true;
     return false;
   }
@@ -64628,7 +65154,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1479() {
+  final private boolean jj_3R_1480() {
     if (jj_scan_token(CIDR_LITERAL)) return true;
     return false;
   }
@@ -64657,7 +65183,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(REPEAT_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64670,8 +65196,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1628() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1629() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64685,15 +65211,15 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1478() {
+  final private boolean jj_3R_1479() {
     if (jj_scan_token(MACADDR_LITERAL)) return true;
     return false;
   }
@@ -64709,7 +65235,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1628()) jj_scanpos = xsp;
+    if (jj_3R_1629()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64750,7 +65276,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1477() {
+  final private boolean jj_3R_1478() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
@@ -64771,7 +65297,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ENCODE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64788,7 +65314,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1476() {
+  final private boolean jj_3R_1477() {
     if (jj_scan_token(HEXDECIMAL_LITERAL)) return true;
     return false;
   }
@@ -64798,8 +65324,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1627() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1628() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64815,7 +65341,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1627()) jj_scanpos = xsp;
+    if (jj_3R_1628()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -64829,19 +65355,19 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1475() {
+  final private boolean jj_3R_1476() {
     if (jj_scan_token(BINARY_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1618() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1619() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
@@ -64850,38 +65376,33 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(DECODE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1618()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1619()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1529() {
+  final private boolean jj_3R_1530() {
     if (jj_scan_token(FALSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1528() {
+  final private boolean jj_3R_1529() {
     if (jj_scan_token(TRUE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_770() {
-    if (jj_3R_847()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1469() {
+  final private boolean jj_3R_1470() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1528()) {
+    if (jj_3R_1529()) {
     jj_scanpos = xsp;
-    if (jj_3R_1529()) return true;
+    if (jj_3R_1530()) return true;
     }
     return false;
   }
@@ -64891,16 +65412,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_769() {
-    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_768() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    return false;
-  }
-
   final private boolean jj_3_440() {
     if (jj_3R_470()) return true;
     return false;
@@ -64919,26 +65430,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_473() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_768()) {
-    jj_scanpos = xsp;
-    if (jj_3R_769()) {
-    jj_scanpos = xsp;
-    if (jj_3R_770()) return true;
-    }
-    }
-    return false;
-  }
-
   final private boolean jj_3R_270() {
     if (jj_scan_token(ST_DWITHIN_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -64949,16 +65447,31 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_770() {
+    if (jj_3R_847()) return true;
+    return false;
+  }
+
   final private boolean jj_3_436() {
     if (jj_3R_466()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1471() {
+  final private boolean jj_3R_769() {
+    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1472() {
     if (jj_scan_token(NULL_)) return true;
     return false;
   }
 
+  final private boolean jj_3R_768() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_810() {
     Token xsp;
     xsp = jj_scanpos;
@@ -64972,14 +65485,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1619() {
-    if (jj_scan_token(781)) return true;
-    if (jj_3R_94()) return true;
+  final private boolean jj_3R_473() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_768()) {
+    jj_scanpos = xsp;
+    if (jj_3R_769()) {
+    jj_scanpos = xsp;
+    if (jj_3R_770()) return true;
+    }
+    }
     return false;
   }
 
-  final private boolean jj_3R_1380() {
-    if (jj_scan_token(PORT_)) return true;
+  final private boolean jj_3R_1620() {
+    if (jj_scan_token(782)) return true;
+    if (jj_3R_94()) return true;
     return false;
   }
 
@@ -64988,20 +65509,10 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1379() {
-    if (jj_scan_token(SPATIAL_)) return true;
-    return false;
-  }
-
   final private boolean jj_3_435() {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_460()) return true;
-    if (jj_scan_token(781)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_1378() {
-    if (jj_scan_token(Z_)) return true;
+    if (jj_scan_token(782)) return true;
     return false;
   }
 
@@ -65027,7 +65538,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1619()) jj_scanpos = xsp;
+    if (jj_3R_1620()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
@@ -65042,11 +65553,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1377() {
-    if (jj_scan_token(Y_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_753() {
     if (jj_3R_460()) return true;
     return false;
@@ -65062,11 +65568,6 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1376() {
-    if (jj_scan_token(X_)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_752() {
     if (jj_3R_809()) return true;
     return false;
@@ -65077,8 +65578,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1375() {
-    if (jj_scan_token(TRANSFORM_)) return true;
+  final private boolean jj_3R_1381() {
+    if (jj_scan_token(REBALANCE_)) return true;
     return false;
   }
 
@@ -65091,21 +65592,21 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1374() {
-    if (jj_scan_token(INTERIORRINGN_)) return true;
+  final private boolean jj_3R_1380() {
+    if (jj_scan_token(PORT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1373() {
-    if (jj_scan_token(NUMINTERIORRINGS_)) return true;
+  final private boolean jj_3R_1379() {
+    if (jj_scan_token(SPATIAL_)) return true;
     return false;
   }
 
@@ -65135,44 +65636,44 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1372() {
-    if (jj_scan_token(EXTERIORRING_)) return true;
+  final private boolean jj_3R_1378() {
+    if (jj_scan_token(Z_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1371() {
-    if (jj_scan_token(ENDPOINT_)) return true;
+  final private boolean jj_3R_1377() {
+    if (jj_scan_token(Y_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1370() {
-    if (jj_scan_token(STARTPOINT_)) return true;
+  final private boolean jj_3R_1376() {
+    if (jj_scan_token(X_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1369() {
-    if (jj_scan_token(ISEMPTY_)) return true;
+  final private boolean jj_3R_1375() {
+    if (jj_scan_token(TRANSFORM_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1474() {
+  final private boolean jj_3R_1475() {
     if (jj_scan_token(DATE_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1368() {
-    if (jj_scan_token(ENVELOPE_)) return true;
+  final private boolean jj_3R_1374() {
+    if (jj_scan_token(INTERIORRINGN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1367() {
-    if (jj_scan_token(WORD_EQUALS_)) return true;
+  final private boolean jj_3R_1373() {
+    if (jj_scan_token(NUMINTERIORRINGS_)) return true;
     return false;
   }
 
@@ -65180,28 +65681,28 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(WIDTH_BUCKET_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1366() {
-    if (jj_scan_token(SYMDIFFERENCE_)) return true;
+  final private boolean jj_3R_1372() {
+    if (jj_scan_token(EXTERIORRING_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1365() {
-    if (jj_scan_token(INTERSECTION_)) return true;
+  final private boolean jj_3R_1371() {
+    if (jj_scan_token(ENDPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1364() {
-    if (jj_scan_token(LINEMERGE_)) return true;
+  final private boolean jj_3R_1370() {
+    if (jj_scan_token(STARTPOINT_)) return true;
     return false;
   }
 
@@ -65215,7 +65716,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1473() {
+  final private boolean jj_3R_1474() {
     if (jj_scan_token(TIME_LITERAL)) return true;
     return false;
   }
@@ -65225,8 +65726,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1363() {
-    if (jj_scan_token(DIFFERENCE_)) return true;
+  final private boolean jj_3R_1369() {
+    if (jj_scan_token(ISEMPTY_)) return true;
     return false;
   }
 
@@ -65251,13 +65752,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1362() {
-    if (jj_scan_token(ISRING_)) return true;
+  final private boolean jj_3R_1368() {
+    if (jj_scan_token(ENVELOPE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1361() {
-    if (jj_scan_token(ISSIMPLE_)) return true;
+  final private boolean jj_3R_1367() {
+    if (jj_scan_token(WORD_EQUALS_)) return true;
     return false;
   }
 
@@ -65270,14 +65771,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1360() {
-    if (jj_scan_token(ISCLOSED_)) return true;
+  final private boolean jj_3R_1366() {
+    if (jj_scan_token(SYMDIFFERENCE_)) return true;
     return false;
   }
 
@@ -65290,29 +65791,29 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1472() {
+  final private boolean jj_3R_1473() {
     if (jj_scan_token(TIMESTAMP_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1359() {
-    if (jj_scan_token(ASHEXEWKB_)) return true;
+  final private boolean jj_3R_1365() {
+    if (jj_scan_token(INTERSECTION_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1358() {
-    if (jj_scan_token(GEOMETRYN_)) return true;
+  final private boolean jj_3R_1364() {
+    if (jj_scan_token(LINEMERGE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1357() {
-    if (jj_scan_token(DIMENSION_)) return true;
+  final private boolean jj_3R_1363() {
+    if (jj_scan_token(DIFFERENCE_)) return true;
     return false;
   }
 
@@ -65324,8 +65825,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1356() {
-    if (jj_scan_token(ISVALID_)) return true;
+  final private boolean jj_3R_1362() {
+    if (jj_scan_token(ISRING_)) return true;
     return false;
   }
 
@@ -65334,8 +65835,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1355() {
-    if (jj_scan_token(NDIMS_)) return true;
+  final private boolean jj_3R_1361() {
+    if (jj_scan_token(ISSIMPLE_)) return true;
     return false;
   }
 
@@ -65349,8 +65850,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1354() {
-    if (jj_scan_token(ASKML_)) return true;
+  final private boolean jj_3R_1360() {
+    if (jj_scan_token(ISCLOSED_)) return true;
     return false;
   }
 
@@ -65364,18 +65865,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1353() {
-    if (jj_scan_token(CONTAINS_)) return true;
+  final private boolean jj_3R_1359() {
+    if (jj_scan_token(ASHEXEWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1352() {
-    if (jj_scan_token(INTERSECTS_)) return true;
+  final private boolean jj_3R_1358() {
+    if (jj_scan_token(GEOMETRYN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1351() {
-    if (jj_scan_token(DISJOINT_)) return true;
+  final private boolean jj_3R_1357() {
+    if (jj_scan_token(DIMENSION_)) return true;
     return false;
   }
 
@@ -65389,8 +65890,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1350() {
-    if (jj_scan_token(WITHIN_)) return true;
+  final private boolean jj_3R_1356() {
+    if (jj_scan_token(ISVALID_)) return true;
     return false;
   }
 
@@ -65411,13 +65912,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1349() {
-    if (jj_scan_token(SRID_)) return true;
+  final private boolean jj_3R_1355() {
+    if (jj_scan_token(NDIMS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1348() {
-    if (jj_scan_token(DISTANCE_)) return true;
+  final private boolean jj_3R_1354() {
+    if (jj_scan_token(ASKML_)) return true;
     return false;
   }
 
@@ -65448,19 +65949,19 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1347() {
-    if (jj_scan_token(LENGTH3D_)) return true;
+  final private boolean jj_3R_1353() {
+    if (jj_scan_token(CONTAINS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1346() {
-    if (jj_scan_token(LENGTH2D_)) return true;
+  final private boolean jj_3R_1352() {
+    if (jj_scan_token(INTERSECTS_)) return true;
     return false;
   }
 
@@ -65472,13 +65973,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1345() {
-    if (jj_scan_token(PERIMETER3D_)) return true;
+  final private boolean jj_3R_1351() {
+    if (jj_scan_token(DISJOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1344() {
-    if (jj_scan_token(PERIMETER2D_)) return true;
+  final private boolean jj_3R_1350() {
+    if (jj_scan_token(WITHIN_)) return true;
     return false;
   }
 
@@ -65492,8 +65993,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1343() {
-    if (jj_scan_token(AREA2D_)) return true;
+  final private boolean jj_3R_1349() {
+    if (jj_scan_token(SRID_)) return true;
     return false;
   }
 
@@ -65515,8 +66016,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1342() {
-    if (jj_scan_token(TRANSSCALE_)) return true;
+  final private boolean jj_3R_1348() {
+    if (jj_scan_token(DISTANCE_)) return true;
     return false;
   }
 
@@ -65528,8 +66029,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1341() {
-    if (jj_scan_token(ROTATEY_)) return true;
+  final private boolean jj_3R_1347() {
+    if (jj_scan_token(LENGTH3D_)) return true;
     return false;
   }
 
@@ -65538,13 +66039,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1340() {
-    if (jj_scan_token(ROTATEX_)) return true;
+  final private boolean jj_3R_1346() {
+    if (jj_scan_token(LENGTH2D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1339() {
-    if (jj_scan_token(ROTATE_)) return true;
+  final private boolean jj_3R_1345() {
+    if (jj_scan_token(PERIMETER3D_)) return true;
     return false;
   }
 
@@ -65556,8 +66057,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1338() {
-    if (jj_scan_token(ROTATEZ_)) return true;
+  final private boolean jj_3R_1344() {
+    if (jj_scan_token(PERIMETER2D_)) return true;
     return false;
   }
 
@@ -65582,49 +66083,49 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1337() {
-    if (jj_scan_token(SCALE_)) return true;
+  final private boolean jj_3R_1343() {
+    if (jj_scan_token(AREA2D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1336() {
-    if (jj_scan_token(SNAPTOGRID_)) return true;
+  final private boolean jj_3R_1342() {
+    if (jj_scan_token(TRANSSCALE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1626() {
-    if (jj_scan_token(781)) return true;
+  final private boolean jj_3R_1627() {
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1335() {
-    if (jj_scan_token(ASEWKB_)) return true;
+  final private boolean jj_3R_1341() {
+    if (jj_scan_token(ROTATEY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1334() {
-    if (jj_scan_token(ZMFLAG_)) return true;
+  final private boolean jj_3R_1340() {
+    if (jj_scan_token(ROTATEX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1333() {
-    if (jj_scan_token(GEOMETRYTYPE_)) return true;
+  final private boolean jj_3R_1339() {
+    if (jj_scan_token(ROTATE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1482() {
-    if (jj_scan_token(783)) return true;
+  final private boolean jj_3R_1483() {
+    if (jj_scan_token(784)) return true;
     if (jj_3R_853()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1332() {
-    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
+  final private boolean jj_3R_1338() {
+    if (jj_scan_token(ROTATEZ_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1481() {
+  final private boolean jj_3R_1482() {
     if (jj_scan_token(FACTORIAL_)) return true;
     return false;
   }
@@ -65633,19 +66134,19 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(REGEXP_REPLACE_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1626()) jj_scanpos = xsp;
+    if (jj_3R_1627()) jj_scanpos = xsp;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1331() {
-    if (jj_scan_token(GEOMFROMEWKT_)) return true;
+  final private boolean jj_3R_1337() {
+    if (jj_scan_token(SCALE_)) return true;
     return false;
   }
 
@@ -65653,7 +66154,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(SET_MASKLEN_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -65667,13 +66168,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1427() {
-    if (jj_3R_1480()) return true;
+  final private boolean jj_3R_1428() {
+    if (jj_3R_1481()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1330() {
-    if (jj_scan_token(GEOMFROMTEXT_)) return true;
+  final private boolean jj_3R_1336() {
+    if (jj_scan_token(SNAPTOGRID_)) return true;
     return false;
   }
 
@@ -65682,22 +66183,22 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1426() {
-    if (jj_3R_1479()) return true;
+  final private boolean jj_3R_1427() {
+    if (jj_3R_1480()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1329() {
-    if (jj_scan_token(LINE_INTERPOLATE_POINT_)) return true;
+  final private boolean jj_3R_1335() {
+    if (jj_scan_token(ASEWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1425() {
-    if (jj_3R_1478()) return true;
+  final private boolean jj_3R_1426() {
+    if (jj_3R_1479()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1647() {
+  final private boolean jj_3R_1648() {
     if (jj_scan_token(AND_)) return true;
     if (jj_3R_805()) return true;
     Token xsp;
@@ -65706,54 +66207,54 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1328() {
-    if (jj_scan_token(LINE_SUBSTRING_)) return true;
+  final private boolean jj_3R_1334() {
+    if (jj_scan_token(ZMFLAG_)) return true;
     return false;
   }
 
   final private boolean jj_3_32() {
     if (jj_3R_48()) return true;
-    if (jj_scan_token(782)) return true;
+    if (jj_scan_token(783)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1424() {
-    if (jj_3R_1477()) return true;
+  final private boolean jj_3R_1425() {
+    if (jj_3R_1478()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1327() {
-    if (jj_scan_token(LINE_LOCATE_POINT_)) return true;
+  final private boolean jj_3R_1333() {
+    if (jj_scan_token(GEOMETRYTYPE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1423() {
-    if (jj_3R_1476()) return true;
+  final private boolean jj_3R_1424() {
+    if (jj_3R_1477()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1326() {
-    if (jj_scan_token(LOCATE_BETWEEN_MEASURES_)) return true;
+  final private boolean jj_3R_1332() {
+    if (jj_scan_token(ADDGEOMETRYCOLUMN_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1422() {
-    if (jj_3R_1475()) return true;
+  final private boolean jj_3R_1423() {
+    if (jj_3R_1476()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1325() {
-    if (jj_scan_token(LOCATE_ALONG_MEASURE_)) return true;
+  final private boolean jj_3R_1331() {
+    if (jj_scan_token(GEOMFROMEWKT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1421() {
-    if (jj_3R_1474()) return true;
+  final private boolean jj_3R_1422() {
+    if (jj_3R_1475()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1324() {
-    if (jj_scan_token(COLLECT_)) return true;
+  final private boolean jj_3R_1330() {
+    if (jj_scan_token(GEOMFROMTEXT_)) return true;
     return false;
   }
 
@@ -65762,13 +66263,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1420() {
-    if (jj_3R_1473()) return true;
+  final private boolean jj_3R_1421() {
+    if (jj_3R_1474()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1323() {
-    if (jj_scan_token(EXTENT3D_)) return true;
+  final private boolean jj_3R_1329() {
+    if (jj_scan_token(LINE_INTERPOLATE_POINT_)) return true;
     return false;
   }
 
@@ -65785,24 +66286,24 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1419() {
-    if (jj_3R_1472()) return true;
+  final private boolean jj_3R_1420() {
+    if (jj_3R_1473()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1322() {
-    if (jj_scan_token(EXTENT_)) return true;
+  final private boolean jj_3R_1328() {
+    if (jj_scan_token(LINE_SUBSTRING_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1560() {
+  final private boolean jj_3R_1561() {
     if (jj_scan_token(OR_)) return true;
     if (jj_3R_542()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1321() {
-    if (jj_scan_token(ASBINARY_)) return true;
+  final private boolean jj_3R_1327() {
+    if (jj_scan_token(LINE_LOCATE_POINT_)) return true;
     return false;
   }
 
@@ -65829,8 +66330,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1320() {
-    if (jj_scan_token(FORCE_COLLECTION_)) return true;
+  final private boolean jj_3R_1326() {
+    if (jj_scan_token(LOCATE_BETWEEN_MEASURES_)) return true;
     return false;
   }
 
@@ -65844,8 +66345,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1319() {
-    if (jj_scan_token(SEGMENTIZE_)) return true;
+  final private boolean jj_3R_1325() {
+    if (jj_scan_token(LOCATE_ALONG_MEASURE_)) return true;
     return false;
   }
 
@@ -65859,13 +66360,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1318() {
-    if (jj_scan_token(FORCE_4D_)) return true;
+  final private boolean jj_3R_1324() {
+    if (jj_scan_token(COLLECT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1418() {
-    if (jj_3R_1471()) return true;
+  final private boolean jj_3R_1419() {
+    if (jj_3R_1472()) return true;
     return false;
   }
 
@@ -65874,18 +66375,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1317() {
-    if (jj_scan_token(FORCE_3DZ_)) return true;
+  final private boolean jj_3R_1323() {
+    if (jj_scan_token(EXTENT3D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1559() {
-    if (jj_3R_1647()) return true;
+  final private boolean jj_3R_1560() {
+    if (jj_3R_1648()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1417() {
-    if (jj_3R_1470()) return true;
+  final private boolean jj_3R_1418() {
+    if (jj_3R_1471()) return true;
     return false;
   }
 
@@ -65894,13 +66395,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1316() {
-    if (jj_scan_token(FORCE_3DM_)) return true;
+  final private boolean jj_3R_1322() {
+    if (jj_scan_token(EXTENT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1416() {
-    if (jj_3R_1469()) return true;
+  final private boolean jj_3R_1417() {
+    if (jj_3R_1470()) return true;
     return false;
   }
 
@@ -65917,8 +66418,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1315() {
-    if (jj_scan_token(FORCE_3D_)) return true;
+  final private boolean jj_3R_1321() {
+    if (jj_scan_token(ASBINARY_)) return true;
     return false;
   }
 
@@ -65932,8 +66433,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1314() {
-    if (jj_scan_token(FORCE_2D_)) return true;
+  final private boolean jj_3R_1320() {
+    if (jj_scan_token(FORCE_COLLECTION_)) return true;
     return false;
   }
 
@@ -65949,13 +66450,13 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_3_430()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1559()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1560()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3R_1313() {
-    if (jj_scan_token(MULTI_)) return true;
+  final private boolean jj_3R_1319() {
+    if (jj_scan_token(SEGMENTIZE_)) return true;
     return false;
   }
 
@@ -65964,8 +66465,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1312() {
-    if (jj_scan_token(SETSRID_)) return true;
+  final private boolean jj_3R_1318() {
+    if (jj_scan_token(FORCE_4D_)) return true;
     return false;
   }
 
@@ -65984,18 +66485,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1415() {
-    if (jj_3R_1468()) return true;
+  final private boolean jj_3R_1416() {
+    if (jj_3R_1469()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1311() {
-    if (jj_scan_token(DROPBBOX_)) return true;
+  final private boolean jj_3R_1317() {
+    if (jj_scan_token(FORCE_3DZ_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1310() {
-    if (jj_scan_token(POSTGIS_DROPBBOX_)) return true;
+  final private boolean jj_3R_1316() {
+    if (jj_scan_token(FORCE_3DM_)) return true;
     return false;
   }
 
@@ -66034,14 +66535,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1309() {
-    if (jj_scan_token(NUMGEOMETRIES_)) return true;
+  final private boolean jj_3R_1315() {
+    if (jj_scan_token(FORCE_3D_)) return true;
     return false;
   }
 
@@ -66050,8 +66551,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1308() {
-    if (jj_scan_token(MEM_SIZE_)) return true;
+  final private boolean jj_3R_1314() {
+    if (jj_scan_token(FORCE_2D_)) return true;
     return false;
   }
 
@@ -66063,13 +66564,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1550() {
-    if (jj_3R_1560()) return true;
+  final private boolean jj_3R_1551() {
+    if (jj_3R_1561()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1307() {
-    if (jj_scan_token(NRINGS_)) return true;
+  final private boolean jj_3R_1313() {
+    if (jj_scan_token(MULTI_)) return true;
     return false;
   }
 
@@ -66078,8 +66579,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1306() {
-    if (jj_scan_token(NPOINTS_)) return true;
+  final private boolean jj_3R_1312() {
+    if (jj_scan_token(SETSRID_)) return true;
     return false;
   }
 
@@ -66088,17 +66589,17 @@ public class CSQLParser implements CSQLParserConstants {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1550()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1551()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3R_1305() {
-    if (jj_scan_token(REMOVEPOINT_)) return true;
+  final private boolean jj_3R_1311() {
+    if (jj_scan_token(DROPBBOX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1467() {
+  final private boolean jj_3R_1468() {
     if (jj_scan_token(MINUS_)) return true;
     return false;
   }
@@ -66111,43 +66612,43 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1304() {
-    if (jj_scan_token(ASTEXT_)) return true;
+  final private boolean jj_3R_1310() {
+    if (jj_scan_token(POSTGIS_DROPBBOX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1466() {
+  final private boolean jj_3R_1467() {
     if (jj_scan_token(PLUS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1303() {
-    if (jj_scan_token(SIMPLIFY_)) return true;
+  final private boolean jj_3R_1309() {
+    if (jj_scan_token(NUMGEOMETRIES_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1414() {
+  final private boolean jj_3R_1415() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1466()) {
+    if (jj_3R_1467()) {
     jj_scanpos = xsp;
-    if (jj_3R_1467()) return true;
+    if (jj_3R_1468()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3R_1302() {
-    if (jj_scan_token(ASEWKT_)) return true;
+  final private boolean jj_3R_1308() {
+    if (jj_scan_token(MEM_SIZE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1465() {
+  final private boolean jj_3R_1466() {
     if (jj_scan_token(NOT_BITWISE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1301() {
-    if (jj_scan_token(SETPOINT_)) return true;
+  final private boolean jj_3R_1307() {
+    if (jj_scan_token(NRINGS_)) return true;
     return false;
   }
 
@@ -66159,7 +66660,7 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1464() {
+  final private boolean jj_3R_1465() {
     if (jj_scan_token(ABSOLUTE_)) return true;
     return false;
   }
@@ -66169,32 +66670,32 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1300() {
-    if (jj_scan_token(ST_GEOMETRYN_)) return true;
+  final private boolean jj_3R_1306() {
+    if (jj_scan_token(NPOINTS_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1463() {
+  final private boolean jj_3R_1464() {
     if (jj_scan_token(FACTORIAL_PREFIX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1299() {
-    if (jj_scan_token(ST_GEOMETRY_)) return true;
+  final private boolean jj_3R_1305() {
+    if (jj_scan_token(REMOVEPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1462() {
+  final private boolean jj_3R_1463() {
     if (jj_scan_token(CUBE_ROOT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1298() {
-    if (jj_scan_token(ST_BOX3D_)) return true;
+  final private boolean jj_3R_1304() {
+    if (jj_scan_token(ASTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1461() {
+  final private boolean jj_3R_1462() {
     if (jj_scan_token(SQUARE_ROOT_)) return true;
     return false;
   }
@@ -66207,23 +66708,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1297() {
-    if (jj_scan_token(ST_BOX2D_)) return true;
+  final private boolean jj_3R_1303() {
+    if (jj_scan_token(SIMPLIFY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1413() {
+  final private boolean jj_3R_1414() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1461()) {
-    jj_scanpos = xsp;
     if (jj_3R_1462()) {
     jj_scanpos = xsp;
     if (jj_3R_1463()) {
     jj_scanpos = xsp;
     if (jj_3R_1464()) {
     jj_scanpos = xsp;
-    if (jj_3R_1465()) return true;
+    if (jj_3R_1465()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1466()) return true;
     }
     }
     }
@@ -66231,8 +66732,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1296() {
-    if (jj_scan_token(ST_ZMFLAG_)) return true;
+  final private boolean jj_3R_1302() {
+    if (jj_scan_token(ASEWKT_)) return true;
     return false;
   }
 
@@ -66246,42 +66747,40 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1295() {
-    if (jj_scan_token(ST_Z_)) return true;
+  final private boolean jj_3R_1301() {
+    if (jj_scan_token(SETPOINT_)) return true;
     return false;
   }
 
   final private boolean jj_3R_861() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1413()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_1414()) jj_scanpos = xsp;
     xsp = jj_scanpos;
+    if (jj_3R_1415()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
     if (jj_3_51()) {
     jj_scanpos = xsp;
     if (jj_3_52()) {
     jj_scanpos = xsp;
     if (jj_3_53()) {
     jj_scanpos = xsp;
-    if (jj_3R_1415()) {
+    if (jj_3R_1416()) {
     jj_scanpos = xsp;
     if (jj_3_54()) {
     jj_scanpos = xsp;
-    if (jj_3R_1416()) {
-    jj_scanpos = xsp;
     if (jj_3R_1417()) {
     jj_scanpos = xsp;
     if (jj_3R_1418()) {
     jj_scanpos = xsp;
+    if (jj_3R_1419()) {
+    jj_scanpos = xsp;
     if (jj_3_55()) {
     jj_scanpos = xsp;
     if (jj_3_56()) {
     jj_scanpos = xsp;
     if (jj_3_57()) {
     jj_scanpos = xsp;
-    if (jj_3R_1419()) {
-    jj_scanpos = xsp;
     if (jj_3R_1420()) {
     jj_scanpos = xsp;
     if (jj_3R_1421()) {
@@ -66296,7 +66795,9 @@ public class CSQLParser implements CSQLParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_1426()) {
     jj_scanpos = xsp;
-    if (jj_3R_1427()) return true;
+    if (jj_3R_1427()) {
+    jj_scanpos = xsp;
+    if (jj_3R_1428()) return true;
     }
     }
     }
@@ -66317,9 +66818,9 @@ public class CSQLParser implements CSQLParserConstants {
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_1481()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_1482()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_1483()) jj_scanpos = xsp;
     return false;
   }
 
@@ -66336,8 +66837,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1294() {
-    if (jj_scan_token(ST_Y_)) return true;
+  final private boolean jj_3R_1300() {
+    if (jj_scan_token(ST_GEOMETRYN_)) return true;
     return false;
   }
 
@@ -66354,18 +66855,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1293() {
-    if (jj_scan_token(ST_X_)) return true;
+  final private boolean jj_3R_1299() {
+    if (jj_scan_token(ST_GEOMETRY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1292() {
-    if (jj_scan_token(ST_WKTTOSQL_)) return true;
+  final private boolean jj_3R_1298() {
+    if (jj_scan_token(ST_BOX3D_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1291() {
-    if (jj_scan_token(ST_WKBTOSQL_)) return true;
+  final private boolean jj_3R_1297() {
+    if (jj_scan_token(ST_BOX2D_)) return true;
     return false;
   }
 
@@ -66381,14 +66882,14 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1290() {
-    if (jj_scan_token(ST_WITHIN_)) return true;
+  final private boolean jj_3R_1296() {
+    if (jj_scan_token(ST_ZMFLAG_)) return true;
     return false;
   }
 
@@ -66405,30 +66906,30 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1289() {
-    if (jj_scan_token(ST_WIDTH_)) return true;
+  final private boolean jj_3R_1295() {
+    if (jj_scan_token(ST_Z_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1288() {
-    if (jj_scan_token(ST_TRANSSCALE_)) return true;
+  final private boolean jj_3R_1294() {
+    if (jj_scan_token(ST_Y_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1287() {
-    if (jj_scan_token(ST_TRANSLATE_)) return true;
+  final private boolean jj_3R_1293() {
+    if (jj_scan_token(ST_X_)) return true;
     return false;
   }
 
   final private boolean jj_3_429() {
     if (jj_3R_48()) return true;
-    if (jj_scan_token(782)) return true;
+    if (jj_scan_token(783)) return true;
     if (jj_3R_473()) return true;
     return false;
   }
 
-  final private boolean jj_3R_1286() {
-    if (jj_scan_token(ST_TOUCHES_)) return true;
+  final private boolean jj_3R_1292() {
+    if (jj_scan_token(ST_WKTTOSQL_)) return true;
     return false;
   }
 
@@ -66440,13 +66941,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1285() {
-    if (jj_scan_token(ST_TEXT_)) return true;
+  final private boolean jj_3R_1291() {
+    if (jj_scan_token(ST_WKBTOSQL_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1284() {
-    if (jj_scan_token(ST_SYMMETRICDIFFERENCE_)) return true;
+  final private boolean jj_3R_1290() {
+    if (jj_scan_token(ST_WITHIN_)) return true;
     return false;
   }
 
@@ -66460,13 +66961,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1283() {
-    if (jj_scan_token(ST_SYMDIFFERENCE_)) return true;
+  final private boolean jj_3R_1289() {
+    if (jj_scan_token(ST_WIDTH_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1282() {
-    if (jj_scan_token(ST_SUMMARY_)) return true;
+  final private boolean jj_3R_1288() {
+    if (jj_scan_token(ST_TRANSSCALE_)) return true;
     return false;
   }
 
@@ -66474,24 +66975,24 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(ST_LENGTH_SPHEROID_)) return true;
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1625() {
+  final private boolean jj_3R_1626() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1281() {
-    if (jj_scan_token(ST_STARTPOINT_)) return true;
+  final private boolean jj_3R_1287() {
+    if (jj_scan_token(ST_TRANSLATE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1280() {
-    if (jj_scan_token(ST_SRID_)) return true;
+  final private boolean jj_3R_1286() {
+    if (jj_scan_token(ST_TOUCHES_)) return true;
     return false;
   }
 
@@ -66500,14 +67001,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1625()) jj_scanpos = xsp;
+    if (jj_3R_1626()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1279() {
-    if (jj_scan_token(ST_SNAPTOGRID_)) return true;
+  final private boolean jj_3R_1285() {
+    if (jj_scan_token(ST_TEXT_)) return true;
     return false;
   }
 
@@ -66519,8 +67020,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1278() {
-    if (jj_scan_token(ST_SIMPLIFYPRESERVETOPOLOGY_)) return true;
+  final private boolean jj_3R_1284() {
+    if (jj_scan_token(ST_SYMMETRICDIFFERENCE_)) return true;
     return false;
   }
 
@@ -66529,23 +67030,23 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1277() {
-    if (jj_scan_token(ST_SIMPLIFY_)) return true;
+  final private boolean jj_3R_1283() {
+    if (jj_scan_token(ST_SYMDIFFERENCE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1276() {
-    if (jj_scan_token(ST_SHORTESTLINE_)) return true;
+  final private boolean jj_3R_1282() {
+    if (jj_scan_token(ST_SUMMARY_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1275() {
-    if (jj_scan_token(ST_SHIFT_LONGITUDE_)) return true;
+  final private boolean jj_3R_1281() {
+    if (jj_scan_token(ST_STARTPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1274() {
-    if (jj_scan_token(ST_SETSRID_)) return true;
+  final private boolean jj_3R_1280() {
+    if (jj_scan_token(ST_SRID_)) return true;
     return false;
   }
 
@@ -66562,8 +67063,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1273() {
-    if (jj_scan_token(ST_SETPOINT_)) return true;
+  final private boolean jj_3R_1279() {
+    if (jj_scan_token(ST_SNAPTOGRID_)) return true;
     return false;
   }
 
@@ -66572,13 +67073,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1624() {
+  final private boolean jj_3R_1625() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1272() {
-    if (jj_scan_token(ST_SETFACTOR_)) return true;
+  final private boolean jj_3R_1278() {
+    if (jj_scan_token(ST_SIMPLIFYPRESERVETOPOLOGY_)) return true;
     return false;
   }
 
@@ -66595,8 +67096,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1271() {
-    if (jj_scan_token(ST_SEGMENTIZE_)) return true;
+  final private boolean jj_3R_1277() {
+    if (jj_scan_token(ST_SIMPLIFY_)) return true;
     return false;
   }
 
@@ -66610,8 +67111,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1270() {
-    if (jj_scan_token(ST_SCALE_)) return true;
+  final private boolean jj_3R_1276() {
+    if (jj_scan_token(ST_SHORTESTLINE_)) return true;
     return false;
   }
 
@@ -66625,8 +67126,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1269() {
-    if (jj_scan_token(ST_ROTATEZ_)) return true;
+  final private boolean jj_3R_1275() {
+    if (jj_scan_token(ST_SHIFT_LONGITUDE_)) return true;
     return false;
   }
 
@@ -66640,8 +67141,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1268() {
-    if (jj_scan_token(ST_ROTATEY_)) return true;
+  final private boolean jj_3R_1274() {
+    if (jj_scan_token(ST_SETSRID_)) return true;
     return false;
   }
 
@@ -66650,8 +67151,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1267() {
-    if (jj_scan_token(ST_ROTATEX_)) return true;
+  final private boolean jj_3R_1273() {
+    if (jj_scan_token(ST_SETPOINT_)) return true;
     return false;
   }
 
@@ -66664,7 +67165,7 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1624()) jj_scanpos = xsp;
+    if (jj_3R_1625()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -66680,8 +67181,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1266() {
-    if (jj_scan_token(ST_ROTATE_)) return true;
+  final private boolean jj_3R_1272() {
+    if (jj_scan_token(ST_SETFACTOR_)) return true;
     return false;
   }
 
@@ -66695,8 +67196,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1265() {
-    if (jj_scan_token(ST_REVERSE_)) return true;
+  final private boolean jj_3R_1271() {
+    if (jj_scan_token(ST_SEGMENTIZE_)) return true;
     return false;
   }
 
@@ -66705,8 +67206,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1264() {
-    if (jj_scan_token(ST_REMOVEPOINT_)) return true;
+  final private boolean jj_3R_1270() {
+    if (jj_scan_token(ST_SCALE_)) return true;
     return false;
   }
 
@@ -66736,8 +67237,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1263() {
-    if (jj_scan_token(ST_RELATE_)) return true;
+  final private boolean jj_3R_1269() {
+    if (jj_scan_token(ST_ROTATEZ_)) return true;
     return false;
   }
 
@@ -66746,8 +67247,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1262() {
-    if (jj_scan_token(ST_POSTGIS_GIST_SEL_)) return true;
+  final private boolean jj_3R_1268() {
+    if (jj_scan_token(ST_ROTATEY_)) return true;
     return false;
   }
 
@@ -66786,13 +67287,13 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1261() {
-    if (jj_scan_token(ST_POSTGIS_GIST_JOINSEL_)) return true;
+  final private boolean jj_3R_1267() {
+    if (jj_scan_token(ST_ROTATEX_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1260() {
-    if (jj_scan_token(ST_POLYGONFROMWKB_)) return true;
+  final private boolean jj_3R_1266() {
+    if (jj_scan_token(ST_ROTATE_)) return true;
     return false;
   }
 
@@ -66809,28 +67310,28 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1259() {
-    if (jj_scan_token(ST_POLYGONFROMTEXT_)) return true;
+  final private boolean jj_3R_1265() {
+    if (jj_scan_token(ST_REVERSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1623() {
+  final private boolean jj_3R_1624() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1258() {
-    if (jj_scan_token(ST_POLYGON_)) return true;
+  final private boolean jj_3R_1264() {
+    if (jj_scan_token(ST_REMOVEPOINT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1575() {
+  final private boolean jj_3R_1576() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1257() {
-    if (jj_scan_token(ST_POLYFROMWKB_)) return true;
+  final private boolean jj_3R_1263() {
+    if (jj_scan_token(ST_RELATE_)) return true;
     return false;
   }
 
@@ -66839,14 +67340,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1623()) jj_scanpos = xsp;
+    if (jj_3R_1624()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1256() {
-    if (jj_scan_token(ST_POLYFROMTEXT_)) return true;
+  final private boolean jj_3R_1262() {
+    if (jj_scan_token(ST_POSTGIS_GIST_SEL_)) return true;
     return false;
   }
 
@@ -66855,14 +67356,14 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1575()) jj_scanpos = xsp;
+    if (jj_3R_1576()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1255() {
-    if (jj_scan_token(ST_POINT_INSIDE_CIRCLE_)) return true;
+  final private boolean jj_3R_1261() {
+    if (jj_scan_token(ST_POSTGIS_GIST_JOINSEL_)) return true;
     return false;
   }
 
@@ -66874,18 +67375,18 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1254() {
-    if (jj_scan_token(ST_POINTONSURFACE_)) return true;
+  final private boolean jj_3R_1260() {
+    if (jj_scan_token(ST_POLYGONFROMWKB_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1253() {
-    if (jj_scan_token(ST_POINTN_)) return true;
+  final private boolean jj_3R_1259() {
+    if (jj_scan_token(ST_POLYGONFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1252() {
-    if (jj_scan_token(ST_POINTFROMWKB_)) return true;
+  final private boolean jj_3R_1258() {
+    if (jj_scan_token(ST_POLYGON_)) return true;
     return false;
   }
 
@@ -66894,8 +67395,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1251() {
-    if (jj_scan_token(ST_POINTFROMTEXT_)) return true;
+  final private boolean jj_3R_1257() {
+    if (jj_scan_token(ST_POLYFROMWKB_)) return true;
     return false;
   }
 
@@ -66909,17 +67410,17 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1250() {
-    if (jj_scan_token(ST_POINT_)) return true;
+  final private boolean jj_3R_1256() {
+    if (jj_scan_token(ST_POLYFROMTEXT_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1249() {
-    if (jj_scan_token(ST_PERIMETER3D_)) return true;
+  final private boolean jj_3R_1255() {
+    if (jj_scan_token(ST_POINT_INSIDE_CIRCLE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1622() {
+  final private boolean jj_3R_1623() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
@@ -66929,8 +67430,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1248() {
-    if (jj_scan_token(ST_PERIMETER2D_)) return true;
+  final private boolean jj_3R_1254() {
+    if (jj_scan_token(ST_POINTONSURFACE_)) return true;
     return false;
   }
 
@@ -66943,13 +67444,13 @@ public class CSQLParser implements CSQLParserConstants {
     }
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     if (jj_3R_94()) return true;
-    if (jj_scan_token(781)) return true;
+    if (jj_scan_token(782)) return true;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
   }
 
-  final private boolean jj_3R_1576() {
+  final private boolean jj_3R_1577() {
     if (jj_scan_token(DISTINCT_)) return true;
     return false;
   }
@@ -66959,8 +67460,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1247() {
-    if (jj_scan_token(ST_PERIMETER_)) return true;
+  final private boolean jj_3R_1253() {
+    if (jj_scan_token(ST_POINTN_)) return true;
     return false;
   }
 
@@ -66974,7 +67475,7 @@ public class CSQLParser implements CSQLParserConstants {
     if (jj_scan_token(PARENTHESIS_START_)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1622()) jj_scanpos = xsp;
+    if (jj_3R_1623()) jj_scanpos = xsp;
     if (jj_3R_94()) return true;
     if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
     return false;
@@ -66985,8 +67486,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1246() {
-    if (jj_scan_token(ST_OVERLAPS_)) return true;
+  final private boolean jj_3R_1252() {
+    if (jj_scan_token(ST_POINTFROMWKB_)) return true;
     return false;
   }
 
@@ -67000,8 +67501,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1245() {
-    if (jj_scan_token(ST_ORDERINGEQUALS_)) return true;
+  final private boolean jj_3R_1251() {
+    if (jj_scan_token(ST_POINTFROMTEXT_)) return true;
     return false;
   }
 
@@ -67028,8 +67529,8 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
-  final private boolean jj_3R_1244() {
-    if (jj_scan_token(ST_NUMPOINTS_)) return true;
+  final private boolean jj_3R_1250() {
+    if (jj_scan_token(ST_POINT_)) return true;
     return false;
   }
 
@@ -67038,6 +67539,116 @@ public class CSQLParser implements CSQLParserConstants {
     return false;
   }
 
+  final private boolean jj_3R_1249() {
+    if (jj_scan_token(ST_PERIMETER3D_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_552() {
+    if (jj_scan_token(VARIANCE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1248() {
+    if (jj_scan_token(ST_PERIMETER2D_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_97() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_526()) {
+    jj_scanpos = xsp;
+    if (jj_3R_527()) {
+    jj_scanpos = xsp;
+    if (jj_3R_528()) return true;
+    }
+    }
+    if (jj_3R_529()) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1247() {
+    if (jj_scan_token(ST_PERIMETER_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1246() {
+    if (jj_scan_token(ST_OVERLAPS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_157() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_552()) {
+    jj_scanpos = xsp;
+    if (jj_3R_553()) {
+    jj_scanpos = xsp;
+    if (jj_3R_554()) {
+    jj_scanpos = xsp;
+    if (jj_3R_555()) {
+    jj_scanpos = xsp;
+    if (jj_3R_556()) return true;
+    }
+    }
+    }
+    }
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_1577()) jj_scanpos = xsp;
+    if (jj_3R_94()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_744() {
+    if (jj_scan_token(GEOMETRY_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1245() {
+    if (jj_scan_token(ST_ORDERINGEQUALS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_743() {
+    if (jj_scan_token(ST_GEOMETRY_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_574() {
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1244() {
+    if (jj_scan_token(ST_NUMPOINTS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_1243() {
+    if (jj_scan_token(ST_NUMINTERIORRINGS_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_248() {
+    if (jj_scan_token(CURRENT_SCHEMA_)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_574()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3R_355() {
+    if (jj_scan_token(ST_ISVALIDREASON_)) return true;
+    if (jj_scan_token(PARENTHESIS_START_)) return true;
+    if (jj_3R_94()) return true;
+    if (jj_scan_token(PARENTHESIS_CLOSE_)) return true;
+    return false;
+  }
+
   public CSQLParserTokenManager token_source;
   SimpleCharStream jj_input_stream;
   public Token token, jj_nt;
@@ -67046,7 +67657,7 @@ public class CSQLParser implements CSQLParserConstants {
   public boolean lookingAhead = false;
   private boolean jj_semLA;
   private int jj_gen;
-  final private int[] jj_la1 = new int[530];
+  final private int[] jj_la1 = new int[532];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -67100,79 +67711,79 @@ public class CSQLParser implements CSQLParserConstants {
       jj_la1_24();
    }
    private static void jj_la1_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0xe000000,0xe000000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0xe020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0xe000000,0x20000,0xe000000,0x0,0x0,0x0,0x20000,0xe100000,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0xe000000,0xe000000,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe020000,0xe000000,0xe000000,0x0,0xe020000,0xe000000,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0xf0a1080,0x90080780,0x1001000,0x40f08800,0x80080,0x80080,0x1001000,0x1001000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x20000,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0xe000000,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x20000,0xf0a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0a1080,0x0,0x0,0x0,0x0,0x0,0x0,0xf1a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x4000000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0a1080,0x20000080,0x200,0xf0480780,0x0,0x0,0x20000,0xf0a1080,0xd0480780,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000080,0x20000080,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x20000,0xe020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x20000,0xf0a1080,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0xe100000,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0xe100000,0xe100000,0xe000000,};
+      jj_la1_0 = new int[] {0x0,0x0,0xe000000,0xe000000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0xe020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0xe000000,0x20000,0xe000000,0x0,0x0,0x0,0x20000,0xe100000,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0xe000000,0xe000000,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe020000,0xe000000,0xe000000,0x0,0xe020000,0xe000000,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0xf0a1080,0x90080780,0x1001000,0x40f08800,0x80080,0x80080,0x1001000,0x1001000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x20000,0x0,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0xe000000,0x0,0x0,0x20000,0x20000,0x0,0x0,0x0,0x20000,0xf0a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0a1080,0x0,0x0,0x0,0x0,0x0,0x0,0xf1a1080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x4000000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0a1080,0x20000080,0x200,0xf0480780,0x0,0x0,0x20000,0xf0a1080,0xd0480780,0x0,0x20000,0x0,0x0,0x0,0x0,0x20000080,0x20000080,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x20000,0xe020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x20000,0xf0a1080,0x0,0x0,0xe000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0x0,0xe100000,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x0,0xe000000,0xe100000,0xe100000,0xe000000,};
    }
    private static void jj_la1_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x800,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0x0,0xa0044000,0x0,0x0,0x0,0x0,0xa0044000,0x10000,0x0,0x0,0x40008000,0x8000,0x80000,0x80000,0xa0054000,0xa0044000,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0xa0044000,0x0,0xa0044000,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x12f00743,0x8,0x4,0x1000090,0x1000090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x800,0x20000,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x4001020,0x2040,0x16a03767,0x0,0x0,0x0,0xa1044090,0x12a00747,0x0,0x0,0x0,0x0,0x0,0x0,0x4000020,0x4000020,0x0,0x2040,0x0,0x2040,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x10000,0xa0044000,0x0,0xa0044000,0xa0044000,0xa0044000,};
+      jj_la1_1 = new int[] {0x0,0x0,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x800,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0x0,0xa0044000,0x0,0x0,0x0,0x0,0xa0044000,0x10000,0x0,0x0,0x40008000,0x8000,0x80000,0x80000,0xa0054000,0xa0044000,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0xa0044000,0x0,0xa0044000,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x12f00743,0x8,0x4,0x1000090,0x1000090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x800,0x20000,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x4001020,0x2040,0x16a03767,0x0,0x0,0x0,0xa1044090,0x12a00747,0x0,0x0,0x0,0x0,0x0,0x0,0x4000020,0x4000020,0x0,0x2040,0x0,0x2040,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1044090,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa0044000,0x0,0x0,0xa0044000,0x0,0x0,0x0,0x0,0x0,0x10000,0xa0044000,0x0,0xa0044000,0xa0044000,0xa0044000,0xa0044000,};
    }
    private static void jj_la1_2() {
-      jj_la1_2 = new int[] {0x0,0x400,0xf73e91d0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0xf73e95d0,0xf73e95d0,0x0,0xf73e95d0,0x0,0x0,0x1,0x0,0xf73e95d0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0xf73e95d0,0xf73e95d0,0x0,0x1,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0xf73e95d0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0xf73e95d8,0xf73e95d8,0x0,0xf73e95d0,0xf73e95d8,0xf73e95d8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x800000,0x800000,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x1,0x20000,0x0,0x4000020,0x400,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x402000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x10000,0x0,0xf73e95d0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x0,0x0,0x1,0x1,0xf77e95d1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x2,0x800000,0x800000,0x0,0x800000,0xf77e95d0,0x800000,0x0,0x800000,0x5,0x5,0x0,0xf77e95d0,0x0,0x800000,0x0,0x800000,0x800000,0x0,0x0,0x0,0x800000,0x800000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x8,0x8,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x4021020,0xf73e95d0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x800,0x800,0xf73e95d0,0x0,0x0,0xf73e95d0,0x0,0x0,0x1,0x0,0x0,0x0,0xf73e95d0,0x0,0xf73e95d0,0xf73e95d0,0xf73e95d1,};
+      jj_la1_2 = new int[] {0x0,0x400,0xf73e91d0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0xf73e95d0,0xf73e95d0,0x0,0xf73e95d0,0x0,0x0,0x1,0x0,0xf73e95d0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0xf73e95d0,0xf73e95d0,0x0,0x1,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0xf73e95d0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0xf73e95d8,0xf73e95d8,0x0,0xf73e95d0,0xf73e95d8,0xf73e95d8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x800000,0x800000,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x1,0x20000,0x0,0x4000020,0x400,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x402000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x10000,0x0,0xf73e95d0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x0,0x0,0x0,0x1,0x1,0xf77e95d1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x2,0x800000,0x800000,0x0,0x800000,0xf77e95d0,0x800000,0x0,0x800000,0x5,0x5,0x0,0xf77e95d0,0x0,0x800000,0x0,0x800000,0x800000,0x0,0x0,0x0,0x800000,0x800000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xf73e95d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x8,0x8,0x0,0x0,0x0,0x0,0xf77e95d0,0x0,0x4021020,0xf73e95d0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x800,0x800,0xf73e95d0,0x0,0x0,0xf73e95d0,0x0,0x0,0x1,0x0,0x0,0x0,0xf73e95d0,0x0,0xf73e95d0,0xf73e95d0,0xf73e95d0,0xf73e95d1,};
    }
    private static void jj_la1_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x40002000,0x0,0xec1d72f,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0xec1d72f,0xec1d72f,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xec1d72f,0x0,0x0,0x0,0x40000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0xec3d72f,0xec3d72f,0x0,0xec1d72f,0xec3d72f,0xec3d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x6000000,0x0,0x9011c28,0x800000,0x1000,0x28,0x0,0x0,0x2000000,0x0,0x2000000,0x8000000,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x100000,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x80000,0x0,0x80000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xa0200000,0x0,0x80200000,0x0,0xa0200000,0x0,0x80200000,0x0,0xa0200000,0xa0200000,0x0,0x0,0x0,0x20000,0x20000,0x10000,0x0,0x0,0x0,0x8ec1d7ef,0x0,0xf011c28,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xec1d72f,0xec1d72f,0xec1d72f,};
+      jj_la1_3 = new int[] {0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x40002000,0x0,0xec1d72f,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0xec1d72f,0xec1d72f,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xec1d72f,0x0,0x0,0x0,0x40000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0xec3d72f,0xec3d72f,0x0,0xec1d72f,0xec3d72f,0xec3d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x6000000,0x0,0x9011c28,0x800000,0x1000,0x28,0x0,0x0,0x2000000,0x0,0x2000000,0x8000000,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x100000,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0xec1d72f,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x80000,0x0,0x80000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x8ec1d7ef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xa0200000,0x0,0x80200000,0x0,0xa0200000,0x0,0x80200000,0x0,0xa0200000,0xa0200000,0x0,0x0,0x0,0x20000,0x20000,0x10000,0x0,0x0,0x0,0x8ec1d7ef,0x0,0xf011c28,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0x0,0xec1d72f,0x0,0x0,0x0,0x0,0x0,0x0,0xec1d72f,0x0,0xec1d72f,0xec1d72f,0xec1d72f,0xec1d72f,};
    }
    private static void jj_la1_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x40000000,0x30,0x30,0x40000030,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x40000000,0x0,0x8,0x0,0x0,0x40000000,0x4000040,0x4000040,0x44000040,0x0,0x0,0x0,0x8,0x0,0x8,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x16abf5c6,0x0,0x8,0x8,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5c6,0x16abf5c6,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x16abf5c6,0x0,0x0,0x0,0x2000000,0x200010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x10,0x10,0x0,0x0,0x0,0x16abf5c6,0x8,0x0,0x8,0x8,0x0,0x0,0x280002,0x10000000,0x80002,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000010,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x17abf5d6,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x8000,0x10000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x17abf5d6,0x1,0x0,0x1,0x800,0x800,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1000000,0x40000,0x40000,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x17abf5d6,0x0,0x280092,0x16abf5c6,0x0,0x80400000,0x80400000,0x0,0x80400000,0x80400000,0x80400000,0x80400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,};
+      jj_la1_4 = new int[] {0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x40000000,0x30,0x30,0x40000030,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x40000000,0x0,0x8,0x0,0x0,0x40000000,0x4000040,0x4000040,0x44000040,0x0,0x0,0x0,0x8,0x0,0x8,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x16abf5c6,0x0,0x8,0x8,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5c6,0x16abf5c6,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x16abf5c6,0x0,0x0,0x0,0x2000000,0x200010,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x10,0x10,0x0,0x0,0x0,0x16abf5c6,0x8,0x0,0x8,0x8,0x0,0x0,0x280002,0x10000000,0x80002,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000010,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x17abf5d6,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x8000,0x10000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x17abf5d6,0x1,0x0,0x1,0x800,0x800,0x0,0x17abf5d6,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1000000,0x40000,0x40000,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x17abf5d6,0x0,0x280092,0x16abf5c6,0x0,0x80400000,0x80400000,0x0,0x80400000,0x80400000,0x80400000,0x80400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x0,0x16abf5c6,0x0,0x0,0x0,0x0,0x0,0x0,0x16abf5c6,0x0,0x16abf5c6,0x16abf5c6,0x16abf5c6,0x16abf5c6,};
    }
    private static void jj_la1_5() {
-      jj_la1_5 = new int[] {0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x800000,0x0,0x21000,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x7239a7b9,0x7238a7b9,0x0,0x0,0x7238a7b9,0x0,0x40002,0x40002,0x0,0x800,0x7238afb9,0x0,0x7238a7b9,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x7238afb9,0x0,0x0,0x0,0x0,0x800,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x100000,0x2080581,0x1,0x0,0x2000400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x14000000,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x100,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x7639a7b9,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x8004000,0x8000000,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x8000000,0x8004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x2180581,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x7238a7b9,0x4000004,0x0,0x4000004,0x0,0x0,0x0,0x7238a7b9,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,};
+      jj_la1_5 = new int[] {0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x800000,0x0,0x21000,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x7239a7b9,0x7238a7b9,0x0,0x0,0x7238a7b9,0x0,0x40002,0x40002,0x0,0x800,0x7238afb9,0x0,0x7238a7b9,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x7238afb9,0x0,0x0,0x0,0x0,0x800,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x100000,0x2080581,0x1,0x0,0x2000400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x14000000,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x100,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x7639a7b9,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x7639a7b9,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x8004000,0x8000000,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x8000000,0x8004000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7639a7b9,0x0,0x2180581,0x7238a7b9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7238a7b9,0x0,0x0,0x7238a7b9,0x4000004,0x0,0x4000004,0x0,0x0,0x0,0x7238a7b9,0x0,0x7238a7b9,0x7238a7b9,0x7238a7b9,0x7238a7b9,};
    }
    private static void jj_la1_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0xfaa391fe,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab391fe,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x800,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0xfab391fe,0xfab391fe,0x0,0xfab391fe,0x0,0x200,0x200,0x0,0xfab391fe,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0xfaa391fe,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x4000000,0x0,0x4000000,0x0,0x1000000,0x0,0x4000000,0xfaa391fe,0xfaa391fe,0xfaa391fe,0x0,0xfaa391fe,0xfaa391fe,0xfaa391fe,0x1,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x200,0x0,0x200,0x200,0x0,0x0,0x90,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0xfaa391fe,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x20000000,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0xfab391fe,0x0,0x4000,0x0,0x4000,0x400,0x4000,0x0,0x4000,0x400,0x4000,0x4000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x90,0xfab391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x80000,0x80000,0x0,0xfaa391fe,0x80000,0xfaa391fe,0xfaa391fe,0xfaa391fe,};
+      jj_la1_6 = new int[] {0x0,0x0,0xfaa391fe,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab391fe,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x800,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0xfab391fe,0xfab391fe,0x0,0xfab391fe,0x0,0x200,0x200,0x0,0xfab391fe,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0xfaa391fe,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x4000000,0x0,0x4000000,0x0,0x1000000,0x0,0x4000000,0xfaa391fe,0xfaa391fe,0xfaa391fe,0x0,0xfaa391fe,0xfaa391fe,0xfaa391fe,0x1,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x200,0x0,0x200,0x200,0x0,0x0,0x90,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0xfaa391fe,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x20000000,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0xfab391fe,0x0,0x4000,0x0,0x4000,0x400,0x4000,0x0,0x4000,0x400,0x4000,0x4000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfab3d1fe,0x0,0x90,0xfab391fe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfaa391fe,0x0,0x0,0xfaa391fe,0x0,0x0,0x0,0x80000,0x80000,0x0,0xfaa391fe,0x80000,0xfab391fe,0xfaa391fe,0xfaa391fe,0xfaa391fe,};
    }
    private static void jj_la1_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x200,0x0,0x10,0x40,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x2000,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x80000,0xe5879927,0xe5879927,0x0,0xe5879927,0x0,0x0,0x0,0x0,0xe587992f,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0xe5879927,0x8,0x0,0x0,0x0,0x0,0xe587992f,0x8,0xe587992f,0x8,0x8000000,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0xe5879927,0xe5879927,0x0,0xe5879927,0xe5879927,0xe5879927,0x100000,0x100000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x40000,0x80000003,0x4000000,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x80060003,0xe5879927,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0xe5879927,0x400200,0x0,0x400200,0x0,0x0,0x0,0xe5879927,0x0,0xe5879927,0xe5879927,0xe5879927,};
+      jj_la1_7 = new int[] {0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x200,0x0,0x10,0x40,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x2000,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x80000,0xe5879927,0xe5879927,0x0,0xe5879927,0x0,0x0,0x0,0x0,0xe587992f,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0xe5879927,0x8,0x0,0x0,0x0,0x0,0xe587992f,0x8,0xe587992f,0x8,0x8000000,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0xe5879927,0xe5879927,0x0,0xe5879927,0xe5879927,0xe5879927,0x100000,0x100000,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x40000,0x80000003,0x4000000,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf5879927,0x0,0x80060003,0xe5879927,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe5879927,0x0,0x0,0xe5879927,0x400200,0x0,0x400200,0x0,0x0,0x0,0xe5879927,0x0,0xe5879927,0xe5879927,0xe5879927,0xe5879927,};
    }
    private static void jj_la1_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1040000,0x0,0x0,0x10,0x0,0x40,0x20000000,0x0,0x0,0xfcf0e9a8,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf0e9a8,0xfdf0e9a8,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0xfcf0e9ac,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x80400,0x100,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x200,0x200,0x10000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x2000000,0x0,0x2000000,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x80400,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9ac,0x0,0x0,0xfcf0e9a8,0x20200,0x0,0x20200,0x0,0x0,0x0,0xfcf0e9a8,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,};
+      jj_la1_8 = new int[] {0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1040000,0x0,0x0,0x10,0x0,0x40,0x20000000,0x0,0x0,0xfcf0e9a8,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdf0e9a8,0xfdf0e9a8,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0xfcf0e9ac,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x80400,0x100,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x200,0x200,0x10000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x2000000,0x0,0x2000000,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9a8,0x0,0x80400,0xfcf0e9a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfcf0e9ac,0x0,0x0,0xfcf0e9a8,0x20200,0x0,0x20200,0x0,0x0,0x0,0xfcf0e9a8,0x0,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,0xfcf0e9a8,};
    }
    private static void jj_la1_9() {
-      jj_la1_9 = new int[] {0x0,0x10000000,0xe3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80,0x10,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0xfbf67b4f,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,0x0,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0x20,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x1000,0x0,0x810000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x2,0x0,0xfbf67b4f,0x0,0x811008,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,};
+      jj_la1_9 = new int[] {0x0,0x10000000,0xe3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80,0x10,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0xfbf67b4f,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,0x0,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0x20,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x1000,0x0,0x810000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbf67b4f,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x2,0x0,0xfbf67b4f,0x0,0x811008,0xfbf67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0x0,0xf3f67b4f,0x0,0x0,0x0,0x0,0x0,0x0,0xf3f67b4f,0x0,0xfbf67b4f,0xf3f67b4f,0xf3f67b4f,0xf3f67b4f,};
    }
    private static void jj_la1_10() {
-      jj_la1_10 = new int[] {0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x400000,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0xbdafffff,0x0,0xbdafffff,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x4000,0x0,0x20020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x4,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x20024000,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0xbdafffff,0xbdafffff,0xbdafffff,};
+      jj_la1_10 = new int[] {0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x400000,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0xbdafffff,0x0,0xbdafffff,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x4000,0x0,0x20020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x4,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbfafffff,0x0,0x20024000,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0x0,0xbdafffff,0x0,0x0,0x0,0x0,0x0,0x0,0xbdafffff,0x0,0xbdafffff,0xbdafffff,0xbdafffff,0xbdafffff,};
    }
    private static void jj_la1_11() {
-      jj_la1_11 = new int[] {0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x45c04200,0x0,0x1800000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x2,0x2,0x2,0xffdfdfff,0x2,0x2,0x0,0x2,0x0,0x2,0x2,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x10,0x0,0x0,0x20,0x0,0x40,0x80,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x20000,0x0,0x80000,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x4,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x45c04200,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0xefdfdffd,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,};
+      jj_la1_11 = new int[] {0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x45c04200,0x0,0x1800000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x0,0x2,0x2,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x2,0x2,0x2,0xffdfdfff,0x2,0x2,0x0,0x2,0x0,0x2,0x2,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x10,0x0,0x0,0x20,0x0,0x40,0x80,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x20000,0x0,0x80000,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x4,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0xffdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffdfdffd,0x0,0x45c04200,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0xefdfdffd,0x0,0x0,0xefdfdffd,0x0,0x0,0x0,0x0,0x0,0x0,0xefdfdffd,0x0,0xefdfdffd,0xefdfdffd,0xefdfdffd,0xefdfdffd,};
    }
    private static void jj_la1_12() {
-      jj_la1_12 = new int[] {0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x1000000,0x2000040,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x100,0x0,0x8200000,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x8200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x20,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x4000,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x8200100,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x204,0x204,0x0,0x204,0x204,0xb97ffdb3,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,};
+      jj_la1_12 = new int[] {0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x1000000,0x2000040,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x100,0x0,0x8200000,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x8200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x20,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x4000,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0x8200100,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x204,0x204,0x0,0x204,0x204,0xb97ffdb3,0x0,0x0,0xb97ffdb3,0x0,0x0,0x0,0x0,0x0,0x0,0xb97ffdb3,0x0,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,0xb97ffdb3,};
    }
    private static void jj_la1_13() {
-      jj_la1_13 = new int[] {0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x80,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0xfffffd7e,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0xfffefd7e,0x0,0xfffefd7e,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x60000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x200000,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x4000000,0x8000000,0x0,0x0,0x0,0x0,0x400,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x5,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0xfffefd7e,0xfffefd7e,0xfffefd7e,};
+      jj_la1_13 = new int[] {0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20200,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x80,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0xfffffd7e,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0xfffefd7e,0x0,0xfffefd7e,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0xc0000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0x0,0x0,0x400,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffffd7e,0x0,0x5,0xfffffd7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0x0,0xfffefd7e,0x0,0x0,0x0,0x0,0x0,0x0,0xfffefd7e,0x0,0xfffffd7e,0xfffefd7e,0xfffefd7e,0xfffefd7e,};
    }
    private static void jj_la1_14() {
-      jj_la1_14 = new int[] {0x0,0x0,0xb773feff,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0xb773feff,0x0,0xb773feff,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0xb773feff,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x80000,0x0,0xb77bfeff,0x0,0xb77bfeff,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0xb773feff,0xb773feff,0x0,0xb773feff,0xb773feff,0xb773feff,0x0,0x0,0x100,0x100,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0xb77bfeff,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x40000000,0x0,0x0,0x0,0x0,0x4014400,0x0,0x4000000,0x4000,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x0,0x0,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x4014400,0xb773feff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb773feff,0x0,0x0,0xb773feff,0x8000000,0x0,0x8000000,0x0,0x0,0x0,0xb773feff,0x0,0xb773feff,0xb773feff,0xb773feff,};
+      jj_la1_14 = new int[] {0x0,0x0,0x6ee7fdff,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x6ee7fdff,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x6ee7fdff,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x100000,0x0,0x6ef7fdff,0x0,0x6ef7fdff,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x6ee7fdff,0x6ee7fdff,0x0,0x6ee7fdff,0x6ee7fdff,0x6ee7fdff,0x0,0x0,0x200,0x200,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x6ef7fdff,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x8028800,0x0,0x8000000,0x8000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x60000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x8028800,0x6ee7fdff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6ee7fdff,0x0,0x0,0x6ee7fdff,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0x6ee7fdff,0x0,0x6ee7fdff,0x6ee7fdff,0x6ee7fdff,0x6ee7fdff,};
    }
    private static void jj_la1_15() {
-      jj_la1_15 = new int[] {0x0,0x0,0xfeffffdf,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0xfeffffdf,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0xfeffffdf,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0xfeffffdf,0xfeffffdf,0xfeffffdf,0x0,0xfeffffdf,0xfeffffdf,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x8000002,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0xfeffffdf,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x20000000,0x40000000,0x0,0x0,0x40000,0x80000,0x100000,0x0,0x0,0x0,0x0,0x200000,0x0,0x4,0x0,0x0,0x10,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x8000003,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0x0,0xfeffffdf,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffdf,0x0,0xfeffffdf,0xfeffffdf,0xfeffffdf,};
+      jj_la1_15 = new int[] {0x0,0x0,0xfdffffbf,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0xfdffffbf,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0xfdffffbf,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0xfdffffbf,0xfdffffbf,0xfdffffbf,0x0,0xfdffffbf,0xfdffffbf,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x10000004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0xfdffffbf,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x40000000,0x80000000,0x0,0x0,0x80000,0x100000,0x200000,0x0,0x0,0x1,0x0,0x400000,0x0,0x8,0x0,0x0,0x20,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x10000006,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0x0,0xfdffffbf,0x0,0x0,0x0,0x0,0x0,0x0,0xfdffffbf,0x0,0xfdffffbf,0xfdffffbf,0xfdffffbf,0xfdffffbf,};
    }
    private static void jj_la1_16() {
-      jj_la1_16 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x800,0x2000,0x4000,0x0,0x0,0x8000,0x0,0x10000,0x20000,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x800000,0x0,0x1000000,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,};
+      jj_la1_16 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x1000,0x4000,0x8000,0x0,0x0,0x10000,0x0,0x20000,0x40000,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x1000000,0x0,0x2000000,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,};
    }
    private static void jj_la1_17() {
-      jj_la1_17 = new int[] {0x0,0x0,0xffffeffe,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0xffffeffe,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0xffffefff,0x1000,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0xffffeffe,0xffffeffe,0x0,0xffffeffe,0xffffeffe,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x40000,0x80000,0x0,0x0,0x20,0x40,0x80,0x0,0x0,0x80000000,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x400,0xffffeffe,0x0,0x1,0x1,0x0,0x1,0x1,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0x0,0xffffeffe,0x0,0x0,0x0,0x0,0x0,0x0,0xffffeffe,0x0,0xffffeffe,0xffffeffe,0xffffeffe,};
+      jj_la1_17 = new int[] {0x0,0x0,0xffffdffd,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0xffffdffd,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0xffffdfff,0x2000,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0xffffdffd,0xffffdffd,0x0,0xffffdffd,0xffffdffd,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x80000,0x100000,0x0,0x0,0x40,0x80,0x100,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x800,0xffffdffd,0x0,0x2,0x2,0x0,0x2,0x2,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0x0,0xffffdffd,0x0,0x0,0x0,0x0,0x0,0x0,0xffffdffd,0x0,0xffffdffd,0xffffdffd,0xffffdffd,0xffffdffd,};
    }
    private static void jj_la1_18() {
-      jj_la1_18 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x800,0x0,0x0,0x1000,0x4000,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x8,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,};
+      jj_la1_18 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x1000,0x0,0x0,0x2000,0x8000,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x10,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,};
    }
    private static void jj_la1_19() {
-      jj_la1_19 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x4000000,0x1000,0x4000,0x8000,0x0,0x0,0x40000000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x4,0x8,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,};
+      jj_la1_19 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x8000000,0x2000,0x8000,0x10000,0x0,0x0,0x80000000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x8,0x10,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,};
    }
    private static void jj_la1_20() {
-      jj_la1_20 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x400,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,};
+      jj_la1_20 = new int[] {0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,};
    }
    private static void jj_la1_21() {
-      jj_la1_21 = new int[] {0x0,0x0,0x3ffffff,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x3ffffff,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x3ffffff,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x60000000,0x63ffffff,0x0,0x23ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x3ffffff,0x3ffffff,0x0,0x3ffffff,0x3ffffff,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60000000,0x63ffffff,0x0,0x0,0x0,0x20000000,0x0,0x3ffffff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x201000,0x40,0x0,0x10000,0x808000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x0,0x3ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x3ffffff,0x0,0x3ffffff,0x3ffffff,0x3ffffff,};
+      jj_la1_21 = new int[] {0x0,0x0,0x7ffffff,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x7ffffff,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x7ffffff,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0xc0000000,0xc7ffffff,0x0,0x47ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x7ffffff,0x7ffffff,0x0,0x7ffffff,0x7ffffff,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc0000000,0xc7ffffff,0x0,0x0,0x0,0x40000000,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x402000,0x80,0x0,0x20001,0x1010000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x0,0x7ffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x7ffffff,0x0,0x7ffffff,0x7ffffff,0x7ffffff,0x7ffffff,};
    }
    private static void jj_la1_22() {
-      jj_la1_22 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600000,0x0,0x80000000,0x2d0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6000000,0x0,0x0,0x6000000,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x38000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9,0x0,0x6,0x8000000,0x0,0x0,0x9,0x6,0x8000000,0x0,0x30000000,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_22 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00000,0x0,0x0,0x5a0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0x0,0x0,0xc000000,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x70000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x13,0x0,0xc,0x10000000,0x0,0x0,0x13,0xc,0x10000000,0x0,0x60000000,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x13,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_23() {
-      jj_la1_23 = new int[] {0x400000,0x0,0x3c,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x40003c,0x0,0x40003c,0x0,0x0,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1040003c,0x40003c,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x40003c,0x0,0x0,0x0,0x0,0x16000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x40003c,0x40003c,0x0,0x40003c,0x40003c,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x10,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc,0x0,0x0,0xc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfe40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe000000,0x10000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1040003c,0x1040003c,0x0,0x0,0x0,0x0,0x0,0x3fffc0,0x0,0x0,0xfe40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfe40003c,0x0,0x0,0x0,0x0,0x0,0x0,0xfe40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfe40003c,0x1,0x0,0x1,0x0,0x0,0x0,0xfe40003c,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfe40003c,0x0,0x30,0x40003c,0xa000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x0,0x40003c,0x0,0x0,0x0,0x0,0x0,0x0,0x40003c,0x0,0x40003c,0x40003c,0x40003c,};
+      jj_la1_23 = new int[] {0x800000,0x0,0x78,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x800078,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x800078,0x0,0x800078,0x0,0x0,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20800078,0x800078,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x800078,0x0,0x0,0x0,0x0,0x2c000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x800078,0x800078,0x0,0x800078,0x800078,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x20,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18,0x0,0x0,0x18,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1c000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20800078,0x20800078,0x0,0x0,0x0,0x0,0x0,0x7fff80,0x0,0x0,0xfc800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc800078,0x0,0x0,0x0,0x0,0x0,0x0,0xfc800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc800078,0x2,0x0,0x2,0x0,0x0,0x0,0xfc800078,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc800078,0x0,0x60,0x800078,0x14000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x0,0x800078,0x0,0x0,0x0,0x0,0x0,0x0,0x800078,0x0,0x800078,0x800078,0x800078,0x800078,};
    }
    private static void jj_la1_24() {
-      jj_la1_24 = new int[] {0x0,0x0,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x2000,0x0,0x2000,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x1800,0x1800,0x0,0x1800,0x2000,0x0,0x0,0x0,0x1800,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x1800,0x1800,0x0,0x1800,0x1800,0x0,0x0,0x0,0x0,0x0,0x1800,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x1800,0x1800,0x1800,0x2000,0x1800,0x1800,0x1800,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x1b7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x37b,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x2000,0x1800,0x1800,0x2000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x1b7f,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x2000,0x2000,0x2000,0x2000,0x2000,0x0,0x1b7f,0x2000,0x2000,0x2000,0x0,0x0,0x0,0x1b7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x2000,0x2000,0x0,0x0,0x2000,0x0,0x2000,0x2000,0x0,0x2000,0x0,0x2000,0x2000,0x0,0x2000,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1b7f,0x0,0x0,0x0,0x0,0x0,0x0,0x1b7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1b7f,0x2000,0x0,0x1800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800,0x2000,0x2000,0x1800,0x0,0x2000,0x0,0x0,0x0,0x0,0x1800,0x0,0x1800,0x1800,0x1800,};
+      jj_la1_24 = new int[] {0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x4000,0x0,0x4000,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x3000,0x3000,0x0,0x3000,0x4000,0x0,0x0,0x0,0x3000,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x3000,0x3000,0x0,0x3000,0x3000,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x3000,0x3000,0x3000,0x4000,0x3000,0x3000,0x3000,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x36ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6f7,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x4000,0x4000,0x4000,0x0,0x0,0x0,0x4000,0x3000,0x3000,0x4000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x36ff,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x4000,0x4000,0x4000,0x4000,0x4000,0x0,0x36ff,0x4000,0x4000,0x4000,0x0,0x0,0x0,0x36ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x4000,0x4000,0x0,0x0,0x4000,0x0,0x4000,0x4000,0x0,0x4000,0x0,0x4000,0x4000,0x0,0x4000,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36ff,0x0,0x0,0x0,0x0,0x0,0x0,0x36ff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x36ff,0x4000,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x4000,0x4000,0x3000,0x0,0x4000,0x0,0x0,0x0,0x0,0x3000,0x0,0x3000,0x3000,0x3000,0x3000,};
    }
   final private JJCalls[] jj_2_rtns = new JJCalls[450];
   private boolean jj_rescan = false;
@@ -67187,7 +67798,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67200,7 +67811,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67210,7 +67821,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67220,7 +67831,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67229,7 +67840,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67238,7 +67849,7 @@ public class CSQLParser implements CSQLParserConstants {
     token = new Token();
     token.next = jj_nt = token_source.getNextToken();
     jj_gen = 0;
-    for (int i = 0; i < 530; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 532; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -67341,15 +67952,15 @@ public class CSQLParser implements CSQLParserConstants {
 
   public ParseException generateParseException() {
     jj_expentries.removeAllElements();
-    boolean[] la1tokens = new boolean[784];
-    for (int i = 0; i < 784; i++) {
+    boolean[] la1tokens = new boolean[785];
+    for (int i = 0; i < 785; i++) {
       la1tokens[i] = false;
     }
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 530; i++) {
+    for (int i = 0; i < 532; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -67430,7 +68041,7 @@ public class CSQLParser implements CSQLParserConstants {
         }
       }
     }
-    for (int i = 0; i < 784; i++) {
+    for (int i = 0; i < 785; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
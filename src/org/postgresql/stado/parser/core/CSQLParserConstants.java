@@ -432,354 +432,355 @@ public interface CSQLParserConstants {
   int LOCALTIME_ = 430;
   int MONTHNAME_ = 431;
   int QPUBLICDOT_ = 432;
-  int REGR_AVGX_ = 433;
-  int REGR_AVGY_ = 434;
-  int ST_AFFINE_ = 435;
-  int ST_AREA2D_ = 436;
-  int ST_ASEWKB_ = 437;
-  int ST_ASEWKT_ = 438;
-  int ST_ASTEXT_ = 439;
-  int ST_BUFFER_ = 440;
-  int ST_COVERS_ = 441;
-  int ST_EQUALS_ = 442;
-  int ST_EXTENT_ = 443;
-  int ST_FACTOR_ = 444;
-  int ST_HASARC_ = 445;
-  int ST_HEIGHT_ = 446;
-  int ST_ISRING_ = 447;
-  int ST_LENGTH_ = 448;
-  int ST_NRINGS_ = 449;
-  int ST_POINTN_ = 450;
-  int ST_RELATE_ = 451;
-  int ST_ROTATE_ = 452;
-  int ST_WITHIN_ = 453;
-  int ST_ZMFLAG_ = 454;
-  int SUBSTRING_ = 455;
-  int TEMPORARY_ = 456;
-  int TIMEOFDAY_ = 457;
-  int TIMESTAMP_ = 458;
-  int TO_NUMBER_ = 459;
-  int TRANSFORM_ = 460;
-  int TRANSLATE_ = 461;
-  int VARBINARY_ = 462;
-  int ADD_MONTHS_ = 463;
-  int BIGINTEGER_ = 464;
-  int BIT_LENGTH_ = 465;
-  int BITVARYING_ = 466;
-  int CONSTRAINT_ = 467;
-  int COVAR_SAMP_ = 468;
-  int DATETRUNC_ = 469;
-  int DAYOFMONTH_ = 470;
-  int DEALLOCATE_ = 471;
-  int DIFFERENCE_ = 472;
-  int INTERSECTS_ = 473;
-  int MEDIUMTEXT_ = 474;
-  int REFERENCES_ = 475;
-  int REGR_COUNT_ = 476;
-  int REGR_SLOPE_ = 477;
-  int REPLICATED_ = 478;
-  int SEGMENTIZE_ = 479;
-  int SMALLFLOAT_ = 480;
-  int SMALLMONEY_ = 481;
-  int SNAPTOGRID_ = 482;
-  int SPLIT_PART_ = 483;
-  int STARTPOINT_ = 484;
-  int STATISTICS_ = 485;
-  int ST_AZIMUTH_ = 486;
-  int ST_CHIP_IN_ = 487;
-  int ST_COLLECT_ = 488;
-  int ST_CROSSES_ = 489;
-  int STDDEV_POP_ = 490;
-  int ST_DWITHIN_ = 491;
-  int ST_GEOHASH_ = 492;
-  int ST_ISEMPTY_ = 493;
-  int ST_ISVALID_ = 494;
-  int ST_NPOINTS_ = 495;
-  int ST_POLYGON_ = 496;
-  int ST_REVERSE_ = 497;
-  int ST_ROTATEX_ = 498;
-  int ST_ROTATEY_ = 499;
-  int ST_ROTATEZ_ = 500;
-  int ST_SETSRID_ = 501;
-  int ST_SUMMARY_ = 502;
-  int ST_TOUCHES_ = 503;
-  int TABLESPACE_ = 504;
-  int TRANSSCALE_ = 505;
-  int WEEKOFYEAR_ = 506;
-  int BOX3DEXTENT_ = 507;
-  int CHAR_LENGTH_ = 508;
-  int PERIMETER2D_ = 509;
-  int PERIMETER3D_ = 510;
-  int QUOTE_IDENT_ = 511;
-  int REMOVEPOINT_ = 512;
-  int SET_MASKLEN_ = 513;
-  int ST_ADDPOINT_ = 514;
-  int ST_ASBINARY_ = 515;
-  int ST_BOUNDARY_ = 516;
-  int ST_CENTROID_ = 517;
-  int ST_CHIP_OUT_ = 518;
-  int ST_CONTAINS_ = 519;
-  int ST_COORDDIM_ = 520;
-  int ST_DATATYPE_ = 521;
-  int STDDEV_SAMP_ = 522;
-  int ST_DISJOINT_ = 523;
-  int ST_DISTANCE_ = 524;
-  int ST_ENDPOINT_ = 525;
-  int ST_ENVELOPE_ = 526;
-  int ST_EXTENT3D_ = 527;
-  int ST_FORCE_2D_ = 528;
-  int ST_FORCE_3D_ = 529;
-  int ST_FORCE_4D_ = 530;
-  int ST_FORCERHR_ = 531;
-  int ST_GEOMETRY_ = 532;
-  int ST_GMLTOSQL_ = 533;
-  int ST_ISCLOSED_ = 534;
-  int ST_ISSIMPLE_ = 535;
-  int ST_LENGTH2D_ = 536;
-  int ST_LENGTH3D_ = 537;
-  int ST_MEM_SIZE_ = 538;
-  int ST_OVERLAPS_ = 539;
-  int ST_SETPOINT_ = 540;
-  int ST_SIMPLIFY_ = 541;
-  int ST_WKBTOSQL_ = 542;
-  int ST_WKTTOSQL_ = 543;
-  int TRANSACTION_ = 544;
-  int CURRENTDATE_ = 545;
-  int CURRENT_TIME_ = 546;
-  int CURRENT_USER_ = 547;
-  int EXTERIORRING_ = 548;
-  int GEOMETRYTYPE_ = 549;
-  int GEOMFROMEWKT_ = 550;
-  int GEOMFROMTEXT_ = 551;
-  int INTERSECTION_ = 552;
-  int JUSTIFY_DAYS_ = 553;
-  int LONG_VARCHAR_ = 554;
-  int OCTET_LENGTH_ = 555;
-  int SERIALIZABLE_ = 556;
-  int ST_ASGEOJSON_ = 557;
-  int ST_ASHEXEWKB_ = 558;
-  int ST_BUILDAREA_ = 559;
-  int ST_COVEREDBY_ = 560;
-  int ST_DIMENSION_ = 561;
-  int ST_FORCE_3DM_ = 562;
-  int ST_FORCE_3DZ_ = 563;
-  int ST_GEOMETRYN_ = 564;
-  int ST_LINEMERGE_ = 565;
-  int ST_MAKEPOINT_ = 566;
-  int ST_NUMPOINTS_ = 567;
-  int ST_PERIMETER_ = 568;
-  int ST_SETFACTOR_ = 569;
-  int ST_TRANSFORM_ = 570;
-  int ST_TRANSLATE_ = 571;
-  int TO_TIMESTAMP_ = 572;
-  int VARIANCE_POP_ = 573;
-  int WIDTH_BUCKET_ = 574;
-  int INTERIORRINGN_ = 575;
-  int JUSTIFY_HOURS_ = 576;
-  int NUMGEOMETRIES_ = 577;
-  int QUOTE_LITERAL_ = 578;
-  int SAMLLDATETIME_ = 579;
-  int ST_ADDMEASURE_ = 580;
-  int ST_CONVEXHULL_ = 581;
-  int ST_DIFFERENCE_ = 582;
-  int ST_INTERSECTS_ = 583;
-  int ST_MAKEPOINTM_ = 584;
-  int ST_MEMCOLLECT_ = 585;
-  int ST_SEGMENTIZE_ = 586;
-  int ST_SNAPTOGRID_ = 587;
-  int ST_STARTPOINT_ = 588;
-  int ST_TRANSSCALE_ = 589;
-  int SYMDIFFERENCE_ = 590;
-  int VARIANCE_SAMP_ = 591;
-  int CURRENT_SCHEMA_ = 592;
-  int LINE_SUBSTRING_ = 593;
-  int LOCALTIMESTAMP_ = 594;
-  int MONTHS_BETWEEN_ = 595;
-  int REGEXP_REPLACE_ = 596;
-  int REGR_INTERCEPT_ = 597;
-  int ST_COMPRESSION_ = 598;
-  int ST_CURVETOLINE_ = 599;
-  int ST_FIND_EXTENT_ = 600;
-  int ST_GEOGFROMWKB_ = 601;
-  int ST_GEOMFROMGML_ = 602;
-  int ST_GEOMFROMKML_ = 603;
-  int ST_GEOMFROMWKB_ = 604;
-  int ST_LINEFROMWKB_ = 605;
-  int ST_LINETOCURVE_ = 606;
-  int ST_LONGESTLINE_ = 607;
-  int ST_MAKEPOLYGON_ = 608;
-  int ST_MAXDISTANCE_ = 609;
-  int ST_PERIMETER2D_ = 610;
-  int ST_PERIMETER3D_ = 611;
-  int ST_POLYFROMWKB_ = 612;
-  int ST_REMOVEPOINT_ = 613;
-  int CLOCK_TIMESTAMP_ = 614;
-  int ST_CLOSESTPOINT_ = 615;
-  int ST_COMBINE_BBOX_ = 616;
-  int ST_DFULLYWITHIN_ = 617;
-  int ST_EXTERIORRING_ = 618;
-  int ST_GEOGFROMTEXT_ = 619;
-  int ST_GEOMETRYTYPE_ = 620;
-  int ST_GEOMFROMEWKB_ = 621;
-  int ST_GEOMFROMEWKT_ = 622;
-  int ST_GEOMFROMTEXT_ = 623;
-  int ST_INTERSECTION_ = 624;
-  int ST_LINEFROMTEXT_ = 625;
-  int ST_MAKEENVELOPE_ = 626;
-  int ST_MLINEFROMWKB_ = 627;
-  int ST_MPOLYFROMWKB_ = 628;
-  int ST_POINTFROMWKB_ = 629;
-  int ST_POLYFROMTEXT_ = 630;
-  int ST_SHORTESTLINE_ = 631;
-  int CHARACTER_LENGTH_ = 632;
-  int CURRENT_DATABASE_ = 633;
-  int FORCE_COLLECTION_ = 634;
-  int JUSTIFY_INTERVAL_ = 635;
-  int NUMINTERIORRINGS_ = 636;
-  int POSTGIS_DROPBBOX_ = 637;
-  int ST_INTERIORRINGN_ = 638;
-  int ST_ISVALIDREASON_ = 639;
-  int ST_MLINEFROMTEXT_ = 640;
-  int ST_MPOINTFROMWKB_ = 641;
-  int ST_MPOLYFROMTEXT_ = 642;
-  int ST_NUMGEOMETRIES_ = 643;
-  int ST_POINTFROMTEXT_ = 644;
-  int ST_SYMDIFFERENCE_ = 645;
-  int ADDGEOMETRYCOLUMN_ = 646;
-  int CURRENT_TIMESTAMP_ = 647;
-  int LINE_LOCATE_POINT_ = 648;
-  int ST_BDPOLYFROMTEXT_ = 649;
-  int ST_LINE_SUBSTRING_ = 650;
-  int ST_MPOINTFROMTEXT_ = 651;
-  int ST_ORDERINGEQUALS_ = 652;
-  int ST_POINTONSURFACE_ = 653;
-  int ST_POLYGONFROMWKB_ = 654;
-  int PG_CLIENT_ENCODING_ = 655;
-  int ST_BDMPOLYFROMTEXT_ = 656;
-  int ST_DISTANCE_SPHERE_ = 657;
-  int ST_GEOMCOLLFROMWKB_ = 658;
-  int ST_LENGTH_SPHEROID_ = 659;
-  int ST_NUMINTERIORRING_ = 660;
-  int ST_POLYGONFROMTEXT_ = 661;
-  int ST_SHIFT_LONGITUDE_ = 662;
-  int STATEMENT_TIMESTAMP_ = 663;
-  int ST_CONTAINSPROPERLY_ = 664;
-  int ST_FORCE_COLLECTION_ = 665;
-  int ST_GEOMCOLLFROMTEXT_ = 666;
-  int ST_MULTILINEFROMWKB_ = 667;
-  int ST_MULTIPOLYFROMWKB_ = 668;
-  int ST_NUMINTERIORRINGS_ = 669;
-  int ST_POSTGIS_GIST_SEL_ = 670;
-  int LOCATE_ALONG_MEASURE_ = 671;
-  int ST_COLLECTIONEXTRACT_ = 672;
-  int ST_DISTANCE_SPHEROID_ = 673;
-  int ST_GEOGRAPHYFROMTEXT_ = 674;
-  int ST_HAUSDORFFDISTANCE_ = 675;
-  int ST_LENGTH2D_SPHEROID_ = 676;
-  int ST_LENGTH3D_SPHEROID_ = 677;
-  int ST_LINE_LOCATE_POINT_ = 678;
-  int ST_LINESTRINGFROMWKB_ = 679;
-  int ST_MULTIPOINTFROMWKB_ = 680;
-  int ST_LINEFROMMULTIPOINT_ = 681;
-  int ST_MULTIPOINTFROMTEXT_ = 682;
-  int TRANSACTION_TIMESTAMP_ = 683;
-  int LINE_INTERPOLATE_POINT_ = 684;
-  int ST_POINT_INSIDE_CIRCLE_ = 685;
-  int ST_SYMMETRICDIFFERENCE_ = 686;
-  int LOCATE_BETWEEN_MEASURES_ = 687;
-  int ST_LOCATE_ALONG_MEASURE_ = 688;
-  int ST_MULTIPOLYGONFROMTEXT_ = 689;
-  int ST_POSTGIS_GIST_JOINSEL_ = 690;
-  int ST_LINECROSSINGDIRECTION_ = 691;
-  int ST_MINIMUMBOUNDINGCIRCLE_ = 692;
-  int ST_LINE_INTERPOLATE_POINT_ = 693;
-  int ST_LOCATEBETWEENELEVATIONS_ = 694;
-  int ST_LOCATE_BETWEEN_MEASURES_ = 695;
-  int ST_MULTILINESTRINGFROMTEXT_ = 696;
-  int ST_SIMPLIFYPRESERVETOPOLOGY_ = 697;
-  int UNARY_SIGN_ = 698;
-  int ORDER_BY_ = 699;
-  int UPDATE_STAT_ = 700;
-  int PRIMARYKEY_ = 701;
-  int FOREIGNKEY_ = 702;
-  int PARTITIONINGKEY_ = 703;
-  int ROUND_ROBIN_ = 704;
-  int WITH_XROWID_ = 705;
-  int WITHOUT_XROWID_ = 706;
-  int PARTITION_WITH_ = 707;
-  int START_DB_ = 708;
-  int WAIT_TIMEOUT_ = 709;
-  int STOP_DB_ = 710;
-  int CREATE_DB_ = 711;
-  int CREATE_NODE_ = 712;
-  int DROP_DB_ = 713;
-  int SHOW_AGENTS_ = 714;
-  int SHOW_STATEMENTS_ = 715;
-  int SHOW_DATABASES_ = 716;
-  int SHOW_TABLES_ = 717;
-  int SHOW_TRAN_ISOLATION_ = 718;
-  int REPEATABLE_READ_ = 719;
-  int READ_COMMITTED_ = 720;
-  int READ_UNCOMMITTED_ = 721;
-  int ISOLATION_LEVEL_ = 722;
-  int SHOW_CONSTRAINTS_ = 723;
-  int OWNER_TO_ = 724;
-  int SHOW_TABLE_ = 725;
-  int SHOW_VIEW_ = 726;
-  int SHOW_VIEWS_ = 727;
-  int SHOW_USERS_ = 728;
-  int FORCE_NOT_NULL_ = 729;
-  int FORCE_QUOTE_ = 730;
-  int ON_COMMIT_ = 731;
-  int PRESERVE_ROWS_ = 732;
-  int DELETE_ROWS_ = 733;
-  int GROUP_BY_ = 734;
-  int EXEC_ = 735;
-  int SIMILAR_TO_ = 736;
-  int SHOW_INDEXES_ = 737;
-  int WITH_TIMEZONE_ = 738;
-  int WITHOUT_TIMEZONE_ = 739;
-  int DOUBLE_PRECISION_ = 740;
-  int BOOLEAN_ = 741;
-  int YEAR_FROM = 742;
-  int QUARTER_FROM = 743;
-  int MONTH_FROM = 744;
-  int WEEK_FROM = 745;
-  int DAY_FROM = 746;
-  int DOY_FROM = 747;
-  int DOW_FROM = 748;
-  int DECADE_FROM = 749;
-  int CENTURY_FROM = 750;
-  int HOUR_FROM = 751;
-  int MINUTE_FROM = 752;
-  int SECOND_FROM = 753;
-  int MILLISECOND_FROM = 754;
-  int MILLENNIUM_FROM = 755;
-  int MICROSECONDS_FROM = 756;
-  int EPOCH_FROM = 757;
-  int POSITION_ = 758;
-  int VALUES_ = 759;
-  int SINGLEDIGIT = 760;
-  int INT_LITERAL = 761;
-  int DECIMAL_LITERAL = 762;
-  int SCIENTIFIC_LITERAL = 763;
-  int STRING_LITERAL = 764;
-  int PARAM_PLACE_HOLDER = 765;
-  int INTERVAL_LITERAL = 766;
-  int DATE_LITERAL = 767;
-  int TIME_LITERAL = 768;
-  int TIMESTAMP_LITERAL = 769;
-  int TEXT_LITERAL = 770;
-  int INTEGER_LITERAL = 771;
-  int MACADDR_LITERAL = 772;
-  int CIDR_LITERAL = 773;
-  int INET_LITERAL = 774;
-  int GEOMETRY_LITERAL = 775;
-  int BINARY_LITERAL = 776;
-  int HEXDECIMAL_LITERAL = 777;
-  int LETTER = 778;
-  int IDENTIFIER = 779;
-  int QUOTED_IDENTIFIER = 780;
+  int REBALANCE_ = 433;
+  int REGR_AVGX_ = 434;
+  int REGR_AVGY_ = 435;
+  int ST_AFFINE_ = 436;
+  int ST_AREA2D_ = 437;
+  int ST_ASEWKB_ = 438;
+  int ST_ASEWKT_ = 439;
+  int ST_ASTEXT_ = 440;
+  int ST_BUFFER_ = 441;
+  int ST_COVERS_ = 442;
+  int ST_EQUALS_ = 443;
+  int ST_EXTENT_ = 444;
+  int ST_FACTOR_ = 445;
+  int ST_HASARC_ = 446;
+  int ST_HEIGHT_ = 447;
+  int ST_ISRING_ = 448;
+  int ST_LENGTH_ = 449;
+  int ST_NRINGS_ = 450;
+  int ST_POINTN_ = 451;
+  int ST_RELATE_ = 452;
+  int ST_ROTATE_ = 453;
+  int ST_WITHIN_ = 454;
+  int ST_ZMFLAG_ = 455;
+  int SUBSTRING_ = 456;
+  int TEMPORARY_ = 457;
+  int TIMEOFDAY_ = 458;
+  int TIMESTAMP_ = 459;
+  int TO_NUMBER_ = 460;
+  int TRANSFORM_ = 461;
+  int TRANSLATE_ = 462;
+  int VARBINARY_ = 463;
+  int ADD_MONTHS_ = 464;
+  int BIGINTEGER_ = 465;
+  int BIT_LENGTH_ = 466;
+  int BITVARYING_ = 467;
+  int CONSTRAINT_ = 468;
+  int COVAR_SAMP_ = 469;
+  int DATETRUNC_ = 470;
+  int DAYOFMONTH_ = 471;
+  int DEALLOCATE_ = 472;
+  int DIFFERENCE_ = 473;
+  int INTERSECTS_ = 474;
+  int MEDIUMTEXT_ = 475;
+  int REFERENCES_ = 476;
+  int REGR_COUNT_ = 477;
+  int REGR_SLOPE_ = 478;
+  int REPLICATED_ = 479;
+  int SEGMENTIZE_ = 480;
+  int SMALLFLOAT_ = 481;
+  int SMALLMONEY_ = 482;
+  int SNAPTOGRID_ = 483;
+  int SPLIT_PART_ = 484;
+  int STARTPOINT_ = 485;
+  int STATISTICS_ = 486;
+  int ST_AZIMUTH_ = 487;
+  int ST_CHIP_IN_ = 488;
+  int ST_COLLECT_ = 489;
+  int ST_CROSSES_ = 490;
+  int STDDEV_POP_ = 491;
+  int ST_DWITHIN_ = 492;
+  int ST_GEOHASH_ = 493;
+  int ST_ISEMPTY_ = 494;
+  int ST_ISVALID_ = 495;
+  int ST_NPOINTS_ = 496;
+  int ST_POLYGON_ = 497;
+  int ST_REVERSE_ = 498;
+  int ST_ROTATEX_ = 499;
+  int ST_ROTATEY_ = 500;
+  int ST_ROTATEZ_ = 501;
+  int ST_SETSRID_ = 502;
+  int ST_SUMMARY_ = 503;
+  int ST_TOUCHES_ = 504;
+  int TABLESPACE_ = 505;
+  int TRANSSCALE_ = 506;
+  int WEEKOFYEAR_ = 507;
+  int BOX3DEXTENT_ = 508;
+  int CHAR_LENGTH_ = 509;
+  int PERIMETER2D_ = 510;
+  int PERIMETER3D_ = 511;
+  int QUOTE_IDENT_ = 512;
+  int REMOVEPOINT_ = 513;
+  int SET_MASKLEN_ = 514;
+  int ST_ADDPOINT_ = 515;
+  int ST_ASBINARY_ = 516;
+  int ST_BOUNDARY_ = 517;
+  int ST_CENTROID_ = 518;
+  int ST_CHIP_OUT_ = 519;
+  int ST_CONTAINS_ = 520;
+  int ST_COORDDIM_ = 521;
+  int ST_DATATYPE_ = 522;
+  int STDDEV_SAMP_ = 523;
+  int ST_DISJOINT_ = 524;
+  int ST_DISTANCE_ = 525;
+  int ST_ENDPOINT_ = 526;
+  int ST_ENVELOPE_ = 527;
+  int ST_EXTENT3D_ = 528;
+  int ST_FORCE_2D_ = 529;
+  int ST_FORCE_3D_ = 530;
+  int ST_FORCE_4D_ = 531;
+  int ST_FORCERHR_ = 532;
+  int ST_GEOMETRY_ = 533;
+  int ST_GMLTOSQL_ = 534;
+  int ST_ISCLOSED_ = 535;
+  int ST_ISSIMPLE_ = 536;
+  int ST_LENGTH2D_ = 537;
+  int ST_LENGTH3D_ = 538;
+  int ST_MEM_SIZE_ = 539;
+  int ST_OVERLAPS_ = 540;
+  int ST_SETPOINT_ = 541;
+  int ST_SIMPLIFY_ = 542;
+  int ST_WKBTOSQL_ = 543;
+  int ST_WKTTOSQL_ = 544;
+  int TRANSACTION_ = 545;
+  int CURRENTDATE_ = 546;
+  int CURRENT_TIME_ = 547;
+  int CURRENT_USER_ = 548;
+  int EXTERIORRING_ = 549;
+  int GEOMETRYTYPE_ = 550;
+  int GEOMFROMEWKT_ = 551;
+  int GEOMFROMTEXT_ = 552;
+  int INTERSECTION_ = 553;
+  int JUSTIFY_DAYS_ = 554;
+  int LONG_VARCHAR_ = 555;
+  int OCTET_LENGTH_ = 556;
+  int SERIALIZABLE_ = 557;
+  int ST_ASGEOJSON_ = 558;
+  int ST_ASHEXEWKB_ = 559;
+  int ST_BUILDAREA_ = 560;
+  int ST_COVEREDBY_ = 561;
+  int ST_DIMENSION_ = 562;
+  int ST_FORCE_3DM_ = 563;
+  int ST_FORCE_3DZ_ = 564;
+  int ST_GEOMETRYN_ = 565;
+  int ST_LINEMERGE_ = 566;
+  int ST_MAKEPOINT_ = 567;
+  int ST_NUMPOINTS_ = 568;
+  int ST_PERIMETER_ = 569;
+  int ST_SETFACTOR_ = 570;
+  int ST_TRANSFORM_ = 571;
+  int ST_TRANSLATE_ = 572;
+  int TO_TIMESTAMP_ = 573;
+  int VARIANCE_POP_ = 574;
+  int WIDTH_BUCKET_ = 575;
+  int INTERIORRINGN_ = 576;
+  int JUSTIFY_HOURS_ = 577;
+  int NUMGEOMETRIES_ = 578;
+  int QUOTE_LITERAL_ = 579;
+  int SAMLLDATETIME_ = 580;
+  int ST_ADDMEASURE_ = 581;
+  int ST_CONVEXHULL_ = 582;
+  int ST_DIFFERENCE_ = 583;
+  int ST_INTERSECTS_ = 584;
+  int ST_MAKEPOINTM_ = 585;
+  int ST_MEMCOLLECT_ = 586;
+  int ST_SEGMENTIZE_ = 587;
+  int ST_SNAPTOGRID_ = 588;
+  int ST_STARTPOINT_ = 589;
+  int ST_TRANSSCALE_ = 590;
+  int SYMDIFFERENCE_ = 591;
+  int VARIANCE_SAMP_ = 592;
+  int CURRENT_SCHEMA_ = 593;
+  int LINE_SUBSTRING_ = 594;
+  int LOCALTIMESTAMP_ = 595;
+  int MONTHS_BETWEEN_ = 596;
+  int REGEXP_REPLACE_ = 597;
+  int REGR_INTERCEPT_ = 598;
+  int ST_COMPRESSION_ = 599;
+  int ST_CURVETOLINE_ = 600;
+  int ST_FIND_EXTENT_ = 601;
+  int ST_GEOGFROMWKB_ = 602;
+  int ST_GEOMFROMGML_ = 603;
+  int ST_GEOMFROMKML_ = 604;
+  int ST_GEOMFROMWKB_ = 605;
+  int ST_LINEFROMWKB_ = 606;
+  int ST_LINETOCURVE_ = 607;
+  int ST_LONGESTLINE_ = 608;
+  int ST_MAKEPOLYGON_ = 609;
+  int ST_MAXDISTANCE_ = 610;
+  int ST_PERIMETER2D_ = 611;
+  int ST_PERIMETER3D_ = 612;
+  int ST_POLYFROMWKB_ = 613;
+  int ST_REMOVEPOINT_ = 614;
+  int CLOCK_TIMESTAMP_ = 615;
+  int ST_CLOSESTPOINT_ = 616;
+  int ST_COMBINE_BBOX_ = 617;
+  int ST_DFULLYWITHIN_ = 618;
+  int ST_EXTERIORRING_ = 619;
+  int ST_GEOGFROMTEXT_ = 620;
+  int ST_GEOMETRYTYPE_ = 621;
+  int ST_GEOMFROMEWKB_ = 622;
+  int ST_GEOMFROMEWKT_ = 623;
+  int ST_GEOMFROMTEXT_ = 624;
+  int ST_INTERSECTION_ = 625;
+  int ST_LINEFROMTEXT_ = 626;
+  int ST_MAKEENVELOPE_ = 627;
+  int ST_MLINEFROMWKB_ = 628;
+  int ST_MPOLYFROMWKB_ = 629;
+  int ST_POINTFROMWKB_ = 630;
+  int ST_POLYFROMTEXT_ = 631;
+  int ST_SHORTESTLINE_ = 632;
+  int CHARACTER_LENGTH_ = 633;
+  int CURRENT_DATABASE_ = 634;
+  int FORCE_COLLECTION_ = 635;
+  int JUSTIFY_INTERVAL_ = 636;
+  int NUMINTERIORRINGS_ = 637;
+  int POSTGIS_DROPBBOX_ = 638;
+  int ST_INTERIORRINGN_ = 639;
+  int ST_ISVALIDREASON_ = 640;
+  int ST_MLINEFROMTEXT_ = 641;
+  int ST_MPOINTFROMWKB_ = 642;
+  int ST_MPOLYFROMTEXT_ = 643;
+  int ST_NUMGEOMETRIES_ = 644;
+  int ST_POINTFROMTEXT_ = 645;
+  int ST_SYMDIFFERENCE_ = 646;
+  int ADDGEOMETRYCOLUMN_ = 647;
+  int CURRENT_TIMESTAMP_ = 648;
+  int LINE_LOCATE_POINT_ = 649;
+  int ST_BDPOLYFROMTEXT_ = 650;
+  int ST_LINE_SUBSTRING_ = 651;
+  int ST_MPOINTFROMTEXT_ = 652;
+  int ST_ORDERINGEQUALS_ = 653;
+  int ST_POINTONSURFACE_ = 654;
+  int ST_POLYGONFROMWKB_ = 655;
+  int PG_CLIENT_ENCODING_ = 656;
+  int ST_BDMPOLYFROMTEXT_ = 657;
+  int ST_DISTANCE_SPHERE_ = 658;
+  int ST_GEOMCOLLFROMWKB_ = 659;
+  int ST_LENGTH_SPHEROID_ = 660;
+  int ST_NUMINTERIORRING_ = 661;
+  int ST_POLYGONFROMTEXT_ = 662;
+  int ST_SHIFT_LONGITUDE_ = 663;
+  int STATEMENT_TIMESTAMP_ = 664;
+  int ST_CONTAINSPROPERLY_ = 665;
+  int ST_FORCE_COLLECTION_ = 666;
+  int ST_GEOMCOLLFROMTEXT_ = 667;
+  int ST_MULTILINEFROMWKB_ = 668;
+  int ST_MULTIPOLYFROMWKB_ = 669;
+  int ST_NUMINTERIORRINGS_ = 670;
+  int ST_POSTGIS_GIST_SEL_ = 671;
+  int LOCATE_ALONG_MEASURE_ = 672;
+  int ST_COLLECTIONEXTRACT_ = 673;
+  int ST_DISTANCE_SPHEROID_ = 674;
+  int ST_GEOGRAPHYFROMTEXT_ = 675;
+  int ST_HAUSDORFFDISTANCE_ = 676;
+  int ST_LENGTH2D_SPHEROID_ = 677;
+  int ST_LENGTH3D_SPHEROID_ = 678;
+  int ST_LINE_LOCATE_POINT_ = 679;
+  int ST_LINESTRINGFROMWKB_ = 680;
+  int ST_MULTIPOINTFROMWKB_ = 681;
+  int ST_LINEFROMMULTIPOINT_ = 682;
+  int ST_MULTIPOINTFROMTEXT_ = 683;
+  int TRANSACTION_TIMESTAMP_ = 684;
+  int LINE_INTERPOLATE_POINT_ = 685;
+  int ST_POINT_INSIDE_CIRCLE_ = 686;
+  int ST_SYMMETRICDIFFERENCE_ = 687;
+  int LOCATE_BETWEEN_MEASURES_ = 688;
+  int ST_LOCATE_ALONG_MEASURE_ = 689;
+  int ST_MULTIPOLYGONFROMTEXT_ = 690;
+  int ST_POSTGIS_GIST_JOINSEL_ = 691;
+  int ST_LINECROSSINGDIRECTION_ = 692;
+  int ST_MINIMUMBOUNDINGCIRCLE_ = 693;
+  int ST_LINE_INTERPOLATE_POINT_ = 694;
+  int ST_LOCATEBETWEENELEVATIONS_ = 695;
+  int ST_LOCATE_BETWEEN_MEASURES_ = 696;
+  int ST_MULTILINESTRINGFROMTEXT_ = 697;
+  int ST_SIMPLIFYPRESERVETOPOLOGY_ = 698;
+  int UNARY_SIGN_ = 699;
+  int ORDER_BY_ = 700;
+  int UPDATE_STAT_ = 701;
+  int PRIMARYKEY_ = 702;
+  int FOREIGNKEY_ = 703;
+  int PARTITIONINGKEY_ = 704;
+  int ROUND_ROBIN_ = 705;
+  int WITH_XROWID_ = 706;
+  int WITHOUT_XROWID_ = 707;
+  int PARTITION_WITH_ = 708;
+  int START_DB_ = 709;
+  int WAIT_TIMEOUT_ = 710;
+  int STOP_DB_ = 711;
+  int CREATE_DB_ = 712;
+  int CREATE_NODE_ = 713;
+  int DROP_DB_ = 714;
+  int SHOW_AGENTS_ = 715;
+  int SHOW_STATEMENTS_ = 716;
+  int SHOW_DATABASES_ = 717;
+  int SHOW_TABLES_ = 718;
+  int SHOW_TRAN_ISOLATION_ = 719;
+  int REPEATABLE_READ_ = 720;
+  int READ_COMMITTED_ = 721;
+  int READ_UNCOMMITTED_ = 722;
+  int ISOLATION_LEVEL_ = 723;
+  int SHOW_CONSTRAINTS_ = 724;
+  int OWNER_TO_ = 725;
+  int SHOW_TABLE_ = 726;
+  int SHOW_VIEW_ = 727;
+  int SHOW_VIEWS_ = 728;
+  int SHOW_USERS_ = 729;
+  int FORCE_NOT_NULL_ = 730;
+  int FORCE_QUOTE_ = 731;
+  int ON_COMMIT_ = 732;
+  int PRESERVE_ROWS_ = 733;
+  int DELETE_ROWS_ = 734;
+  int GROUP_BY_ = 735;
+  int EXEC_ = 736;
+  int SIMILAR_TO_ = 737;
+  int SHOW_INDEXES_ = 738;
+  int WITH_TIMEZONE_ = 739;
+  int WITHOUT_TIMEZONE_ = 740;
+  int DOUBLE_PRECISION_ = 741;
+  int BOOLEAN_ = 742;
+  int YEAR_FROM = 743;
+  int QUARTER_FROM = 744;
+  int MONTH_FROM = 745;
+  int WEEK_FROM = 746;
+  int DAY_FROM = 747;
+  int DOY_FROM = 748;
+  int DOW_FROM = 749;
+  int DECADE_FROM = 750;
+  int CENTURY_FROM = 751;
+  int HOUR_FROM = 752;
+  int MINUTE_FROM = 753;
+  int SECOND_FROM = 754;
+  int MILLISECOND_FROM = 755;
+  int MILLENNIUM_FROM = 756;
+  int MICROSECONDS_FROM = 757;
+  int EPOCH_FROM = 758;
+  int POSITION_ = 759;
+  int VALUES_ = 760;
+  int SINGLEDIGIT = 761;
+  int INT_LITERAL = 762;
+  int DECIMAL_LITERAL = 763;
+  int SCIENTIFIC_LITERAL = 764;
+  int STRING_LITERAL = 765;
+  int PARAM_PLACE_HOLDER = 766;
+  int INTERVAL_LITERAL = 767;
+  int DATE_LITERAL = 768;
+  int TIME_LITERAL = 769;
+  int TIMESTAMP_LITERAL = 770;
+  int TEXT_LITERAL = 771;
+  int INTEGER_LITERAL = 772;
+  int MACADDR_LITERAL = 773;
+  int CIDR_LITERAL = 774;
+  int INET_LITERAL = 775;
+  int GEOMETRY_LITERAL = 776;
+  int BINARY_LITERAL = 777;
+  int HEXDECIMAL_LITERAL = 778;
+  int LETTER = 779;
+  int IDENTIFIER = 780;
+  int QUOTED_IDENTIFIER = 781;
 
   int DEFAULT = 0;
 
@@ -1217,6 +1218,7 @@ public interface CSQLParserConstants {
     "\"LOCALTIME\"",
     "\"MONTHNAME\"",
     "\"\\\"PUBLIC\\\".\"",
+    "\"REBALANCE\"",
     "\"REGR_AVGX\"",
     "\"REGR_AVGY\"",
     "\"ST_AFFINE\"",
@@ -13,820 +13,838 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active0 & 0x300000000000L) != 0L || (active1 & 0x1f00000000020000L) != 0L || (active2 & 0x1f00000000000000L) != 0L || (active3 & 0xc0000000000000L) != 0L || (active4 & 0x7c0000000000L) != 0L || (active5 & 0x3e00000000000L) != 0L || (active7 & 0x2000000L) != 0L || (active8 & 0x8000010000000000L) != 0L)
+         if ((active0 & 0x3000000000000L) != 0L || (active2 & 0x20L) != 0L || (active3 & 0xc00L) != 0L || (active4 & 0x100000000000001L) != 0L || (active5 & 0x1000000000000000L) != 0L || (active8 & 0x100000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 640;
-         }
-         if ((active3 & 0x2000L) != 0L || (active4 & 0x1000000000000000L) != 0L || (active7 & 0x8000000000000000L) != 0L || (active9 & 0x4L) != 0L)
-         {
-            jjmatchedKind = 779;
-            return 53;
+            jjmatchedKind = 780;
+            return 91;
          }
-         if ((active2 & 0x80000000000000L) != 0L || (active3 & 0x10000000000000L) != 0L || (active4 & 0x20000000000L) != 0L || (active5 & 0xe0000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0xe000000000L) != 0L)
+         if ((active1 & 0x3800000020L) != 0L || (active2 & 0x7c000000000L) != 0L || (active3 & 0x700000000L) != 0L || (active4 & 0xe000000L) != 0L || (active5 & 0x1000000L) != 0L || (active6 & 0x300000000L) != 0L || (active7 & 0x10000000000e0000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 685;
+            jjmatchedKind = 780;
+            return 722;
          }
-         if ((active0 & 0x4000000000000L) != 0L || (active2 & 0x40L) != 0L || (active3 & 0x1000L) != 0L || (active4 & 0xe00000000000006L) != 0L || (active5 & 0x2000000000000000L) != 0L || (active7 & 0x6000000000000000L) != 0L || (active9 & 0x2000000000000000L) != 0L || (active10 & 0x8000L) != 0L || (active11 & 0x40000000000000L) != 0L)
+         if ((active1 & 0x38000000L) != 0L || (active2 & 0x3fe00L) != 0L || (active3 & 0x60000L) != 0L || (active4 & 0x7f00L) != 0L || (active5 & 0x3ff8L) != 0L || (active6 & 0xfff00000001ffff0L) != 0L || (active7 & 0x1ffffff000001ffL) != 0L || (active8 & 0x1fffe001fffffffcL) != 0L || (active9 & 0x81ffff7fff80fff0L) != 0L || (active10 & 0x7fecffefffefc7fL) != 0L)
          {
-            jjmatchedKind = 779;
-            return 117;
+            jjmatchedKind = 780;
+            return 330;
          }
-         if ((active0 & 0xe000c80000000000L) != 0L || (active1 & 0xe00000078384001fL) != 0L || (active2 & 0xe000003e0800001fL) != 0L || (active3 & 0xe1000000fa00038fL) != 0L || (active4 & 0xf8800001cc0000L) != 0L || (active5 & 0xdfc000000fe0000L) != 0L || (active6 & 0x6000b8000000L) != 0L || (active7 & 0xc000L) != 0L || (active8 & 0x2000060000000000L) != 0L || (active9 & 0x1800000000068003L) != 0L || (active10 & 0x900080000140L) != 0L || (active11 & 0x80000000000000L) != 0L)
+         if ((active1 & 0x780000L) != 0L || (active3 & 0x1e00000000000070L) != 0L || (active4 & 0x7000000000000L) != 0L || (active5 & 0x200000000000000L) != 0L || (active6 & 0x800000000000L) != 0L || (active7 & 0x8000000L) != 0L || (active9 & 0x100000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 77;
+            jjmatchedKind = 780;
+            return 735;
          }
          if ((active0 & 0x10000L) != 0L || (active6 & 0x1000000000000L) != 0L)
             return 883;
-         if ((active0 & 0x8000000L) != 0L || (active4 & 0x200000L) != 0L || (active6 & 0x40000000L) != 0L)
-            return 77;
-         if ((active0 & 0x4000000L) != 0L || (active2 & 0x100000000L) != 0L)
-            return 41;
-         if ((active0 & 0x8000L) != 0L)
-            return 6;
-         if ((active1 & 0x3800000020L) != 0L || (active2 & 0x7c000000000L) != 0L || (active3 & 0x700000000L) != 0L || (active4 & 0xe000000L) != 0L || (active5 & 0x1000000L) != 0L || (active6 & 0x300000000L) != 0L || (active7 & 0x800000000070000L) != 0L)
+         if ((active2 & 0xf0000000L) != 0L || (active3 & 0x4000000L) != 0L || (active4 & 0x100000L) != 0L || (active7 & 0x800000000000000L) != 0L || (active8 & 0x8000000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 722;
+            jjmatchedKind = 780;
+            return 255;
          }
-         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x40000000L) != 0L || (active2 & 0x3fc0000L) != 0L || (active3 & 0x380000L) != 0L || (active4 & 0x8000L) != 0L || (active5 & 0x1c000L) != 0L || (active6 & 0x1e00000L) != 0L || (active7 & 0x300000000003f00L) != 0L || (active8 & 0x1000000100000000L) != 0L || (active10 & 0x80000000000L) != 0L)
+         if ((active2 & 0x80000000000000L) != 0L || (active3 & 0x10000000000000L) != 0L || (active4 & 0x20000000000L) != 0L || (active5 & 0xe0000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x1c000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 827;
+            jjmatchedKind = 780;
+            return 685;
          }
-         if ((active12 & 0x4000L) != 0L)
-            return 884;
-         if ((active1 & 0xc0000000000000L) != 0L || (active3 & 0x20000000000000L) != 0L || (active5 & 0x100000000000L) != 0L)
+         if ((active1 & 0xffc0000003c0L) != 0L || (active2 & 0x780000000000L) != 0L || (active3 & 0xf800000000L) != 0L || (active4 & 0x3f0000000L) != 0L || (active5 & 0x6000000L) != 0L || (active6 & 0xc00000000L) != 0L || (active7 & 0x2000000000300000L) != 0L || (active8 & 0x1c00000000L) != 0L || (active9 & 0x600008000020000L) != 0L || (active10 & 0x100L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 62;
+            jjmatchedKind = 780;
+            return 515;
          }
-         if ((active0 & 0x1000L) != 0L)
-            return 0;
-         if ((active1 & 0x780000L) != 0L || (active3 & 0x1e00000000000070L) != 0L || (active4 & 0x7000000000000L) != 0L || (active5 & 0x200000000000000L) != 0L || (active6 & 0x800000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active9 & 0x80000L) != 0L)
+         if ((active0 & 0x8000000L) != 0L || (active4 & 0x200000L) != 0L || (active6 & 0x40000000L) != 0L)
+            return 77;
+         if ((active0 & 0x4000000L) != 0L || (active2 & 0x100000000L) != 0L)
+            return 41;
+         if ((active2 & 0x4000000L) != 0L || (active3 & 0x1c00000L) != 0L || (active4 & 0x30000L) != 0L || (active6 & 0x6000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 735;
+            jjmatchedKind = 780;
+            return 32;
          }
-         if ((active2 & 0xf0000000L) != 0L || (active3 & 0x4000000L) != 0L || (active4 & 0x100000L) != 0L || (active7 & 0x400000000000000L) != 0L || (active8 & 0x4000000000000000L) != 0L)
+         if ((active1 & 0x4000000L) != 0L || (active2 & 0x180L) != 0L || (active3 & 0x1c000L) != 0L || (active4 & 0xe0000000000000f8L) != 0L || (active5 & 0xc000000000000007L) != 0L || (active6 & 0xe00000000000fL) != 0L || (active7 & 0xf0000000L) != 0L || (active8 & 0x2L) != 0L || (active9 & 0x600000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 255;
+            jjmatchedKind = 780;
+            return 202;
          }
-         if ((active0 & 0x3000000000000L) != 0L || (active2 & 0x20L) != 0L || (active3 & 0xc00L) != 0L || (active4 & 0x100000000000001L) != 0L || (active5 & 0x1000000000000000L) != 0L || (active8 & 0x80000000000L) != 0L)
+         if ((active0 & 0x8000L) != 0L)
+            return 6;
+         if ((active1 & 0x30000000010000L) != 0L || (active2 & 0x7f000000000000L) != 0L || (active3 & 0xf000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x800000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 91;
+            jjmatchedKind = 780;
+            return 168;
          }
-         if ((active1 & 0xffc0000003c0L) != 0L || (active2 & 0x780000000000L) != 0L || (active3 & 0xf800000000L) != 0L || (active4 & 0x3f0000000L) != 0L || (active5 & 0x6000000L) != 0L || (active6 & 0xc00000000L) != 0L || (active7 & 0x1000000000180000L) != 0L || (active8 & 0xe00000000L) != 0L || (active9 & 0x300004000010000L) != 0L || (active10 & 0x80L) != 0L)
+         if ((active1 & 0x7000000003c00L) != 0L || (active3 & 0x70000000000L) != 0L || (active4 & 0x7c00000000L) != 0L || (active5 & 0x7f8000000L) != 0L || (active6 & 0x3f000000000L) != 0L || (active7 & 0x3c00000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 515;
+            jjmatchedKind = 780;
+            return 559;
          }
-         if ((active2 & 0x4000000L) != 0L || (active3 & 0x1c00000L) != 0L || (active4 & 0x30000L) != 0L || (active6 & 0x6000000L) != 0L)
+         if ((active12 & 0x8000L) != 0L)
+            return 884;
+         if ((active1 & 0xc0000000000000L) != 0L || (active3 & 0x20000000000000L) != 0L || (active5 & 0x100000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 32;
+            jjmatchedKind = 780;
+            return 62;
          }
-         if ((active1 & 0x4000000L) != 0L || (active2 & 0x180L) != 0L || (active3 & 0x1c000L) != 0L || (active4 & 0xe0000000000000f8L) != 0L || (active5 & 0xc000000000000007L) != 0L || (active6 & 0x600000000000fL) != 0L || (active7 & 0x78000000L) != 0L || (active8 & 0x1L) != 0L || (active9 & 0x300000L) != 0L)
+         if ((active0 & 0x300000000000L) != 0L || (active1 & 0x1f00000000020000L) != 0L || (active2 & 0x1f00000000000000L) != 0L || (active3 & 0xc0000000000000L) != 0L || (active4 & 0x7c0000000000L) != 0L || (active5 & 0x3e00000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active8 & 0x20000000000L) != 0L || (active9 & 0x1L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 202;
+            jjmatchedKind = 780;
+            return 640;
          }
-         if ((active1 & 0x30000000010000L) != 0L || (active2 & 0x7f000000000000L) != 0L || (active3 & 0xf000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x400000000000000L) != 0L)
+         if ((active1 & 0x800000000c000L) != 0L || (active2 & 0x800000000000L) != 0L || (active3 & 0xf80000000000L) != 0L || (active4 & 0x18000000000L) != 0L || (active5 & 0x3800000000L) != 0L || (active8 & 0x2000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 168;
+            jjmatchedKind = 780;
+            return 706;
          }
-         if ((active1 & 0x800000000c000L) != 0L || (active2 & 0x800000000000L) != 0L || (active3 & 0xf80000000000L) != 0L || (active4 & 0x18000000000L) != 0L || (active5 & 0x3800000000L) != 0L || (active8 & 0x1000000000L) != 0L)
+         if ((active3 & 0x2000L) != 0L || (active4 & 0x1000000000000000L) != 0L || (active8 & 0x1L) != 0L || (active9 & 0x8L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 706;
+            jjmatchedKind = 780;
+            return 53;
          }
-         if ((active1 & 0x7000000003c00L) != 0L || (active3 & 0x70000000000L) != 0L || (active4 & 0x7c00000000L) != 0L || (active5 & 0x7f8000000L) != 0L || (active6 & 0x3f000000000L) != 0L || (active7 & 0x1e00000L) != 0L)
+         if ((active0 & 0x4000000000000L) != 0L || (active2 & 0x40L) != 0L || (active3 & 0x1000L) != 0L || (active4 & 0xe00000000000006L) != 0L || (active5 & 0x2000000000000000L) != 0L || (active7 & 0xc000000000000000L) != 0L || (active9 & 0x4000000000000000L) != 0L || (active10 & 0x10000L) != 0L || (active11 & 0x80000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 559;
+            jjmatchedKind = 780;
+            return 117;
          }
-         if ((active1 & 0x38000000L) != 0L || (active2 & 0x3fe00L) != 0L || (active3 & 0x60000L) != 0L || (active4 & 0x7f00L) != 0L || (active5 & 0x3ff8L) != 0L || (active6 & 0xfff80000001ffff0L) != 0L || (active7 & 0xffffff800000ffL) != 0L || (active8 & 0xffff000fffffffeL) != 0L || (active9 & 0xc0ffffbfffc07ff8L) != 0L || (active10 & 0x3ff67ff7fff7e3fL) != 0L)
+         if ((active0 & 0x1000L) != 0L)
+            return 0;
+         if ((active0 & 0xe000c80000000000L) != 0L || (active1 & 0xe00000078384001fL) != 0L || (active2 & 0xe000003e0800001fL) != 0L || (active3 & 0xe1000000fa00038fL) != 0L || (active4 & 0xf8800001cc0000L) != 0L || (active5 & 0xdfc000000fe0000L) != 0L || (active6 & 0x6000b8000000L) != 0L || (active7 & 0x18000L) != 0L || (active8 & 0x40000c0000000000L) != 0L || (active9 & 0x30000000000d0006L) != 0L || (active10 & 0x1200100000280L) != 0L || (active11 & 0x100000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
-            return 330;
+            jjmatchedKind = 780;
+            return 77;
          }
          if ((active0 & 0x2000000L) != 0L)
             return 72;
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x40000000L) != 0L || (active2 & 0x3fc0000L) != 0L || (active3 & 0x380000L) != 0L || (active4 & 0x8000L) != 0L || (active5 & 0x1c000L) != 0L || (active6 & 0x1e00000L) != 0L || (active7 & 0x600000000007e00L) != 0L || (active8 & 0x2000000200000000L) != 0L || (active10 & 0x100000000000L) != 0L)
+         {
+            jjmatchedKind = 780;
+            return 827;
+         }
          return -1;
       case 1:
-         if ((active3 & 0x800000L) != 0L || (active4 & 0x20000L) != 0L)
+         if ((active2 & 0x80L) != 0L || (active4 & 0xc000000000000070L) != 0L || (active5 & 0xc000000000000000L) != 0L || (active6 & 0xe000000000007L) != 0L || (active7 & 0xf0000000L) != 0L || (active8 & 0x2L) != 0L || (active9 & 0x600000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 31;
+            return 215;
          }
-         if ((active4 & 0x400000000000000L) != 0L)
+         if ((active2 & 0x200000L) != 0L || (active5 & 0x4000L) != 0L || (active6 & 0x200000L) != 0L || (active7 & 0xc00L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 116;
+            return 826;
          }
          if ((active0 & 0x2000000000000L) != 0L)
             return 90;
-         if ((active2 & 0xc0000L) != 0L || (active3 & 0x100000L) != 0L || (active7 & 0x100L) != 0L)
+         if ((active4 & 0x20000000000L) != 0L || (active5 & 0x60000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x1c000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 881;
+            return 698;
          }
-         if ((active1 & 0x10000000L) != 0L || (active2 & 0x400L) != 0L || (active6 & 0x80L) != 0L)
+         if ((active1 & 0x1000000000L) != 0L || (active2 & 0x18000000000L) != 0L || (active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L || (active7 & 0x1000000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 478;
+            return 721;
          }
-         if ((active1 & 0x1000000000400L) != 0L || (active4 & 0x400000000L) != 0L || (active5 & 0x38000000L) != 0L || (active6 & 0x7000000000L) != 0L || (active7 & 0x600000L) != 0L)
+         if ((active1 & 0x20000000000L) != 0L || (active4 & 0x10000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 585;
+            return 535;
          }
-         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
+         if ((active1 & 0x200000L) != 0L || (active3 & 0x400000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 558;
+            return 744;
          }
-         if ((active2 & 0x10000000L) != 0L || (active7 & 0x400000000000000L) != 0L)
+         if ((active1 & 0x2000000001000L) != 0L || (active3 & 0x30000000000L) != 0L || (active4 & 0x7800000000L) != 0L || (active5 & 0x40000000L) != 0L || (active6 & 0x8000000000L) != 0L || (active7 & 0x1000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 315;
+            return 568;
          }
-         if ((active2 & 0x80L) != 0L || (active4 & 0xc000000000000070L) != 0L || (active5 & 0xc000000000000000L) != 0L || (active6 & 0x6000000000007L) != 0L || (active7 & 0x78000000L) != 0L || (active8 & 0x1L) != 0L || (active9 & 0x300000L) != 0L)
+         if ((active2 & 0x80000000000000L) != 0L || (active5 & 0x80000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 215;
+            return 684;
          }
-         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L || (active8 & 0x4000000000000000L) != 0L)
+         if ((active1 & 0x10000L) != 0L || (active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x800000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 254;
+            return 167;
          }
-         if ((active0 & 0x100000000000L) != 0L || (active1 & 0x1f00000000020000L) != 0L || (active2 & 0x1c00000000000000L) != 0L || (active3 & 0x40000000000000L) != 0L || (active4 & 0x1c0000000000L) != 0L || (active5 & 0x600000000000L) != 0L || (active7 & 0x2000000L) != 0L || (active8 & 0x8000010000000000L) != 0L)
+         if ((active0 & 0x100000000000L) != 0L || (active1 & 0x1f00000000020000L) != 0L || (active2 & 0x1c00000000000000L) != 0L || (active3 & 0x40000000000000L) != 0L || (active4 & 0x1c0000000000L) != 0L || (active5 & 0x600000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active8 & 0x20000000000L) != 0L || (active9 & 0x1L) != 0L)
             return 653;
-         if ((active2 & 0x200L) != 0L || (active6 & 0x40L) != 0L)
+         if ((active1 & 0xc0000000000000L) != 0L || (active5 & 0x100000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 351;
+            return 61;
          }
-         if ((active1 & 0x80000L) != 0L || (active3 & 0x200000000000000L) != 0L || (active4 & 0x7000000000000L) != 0L)
+         if ((active4 & 0x400000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 803;
+            return 116;
          }
-         if ((active0 & 0xe000000000000000L) != 0L || (active1 & 0xe038f5eee6146bf7L) != 0L || (active2 & 0xe33fbe66afd03977L) != 0L || (active3 & 0xe13f3cbf1f6b55cfL) != 0L || (active4 & 0x2bf88003e7ed400dL) != 0L || (active5 & 0x1ffc001b867e30c0L) != 0L || (active6 & 0x610f7f800100L) != 0L || (active7 & 0x7300000f051ff080L) != 0L || (active8 & 0x20000e0f00000000L) != 0L || (active9 & 0x3b0000400007c00bL) != 0L || (active10 & 0x9800800081c0L) != 0L || (active11 & 0xc0000000000000L) != 0L)
+         if ((active0 & 0xe000000000000000L) != 0L || (active1 & 0xe038f5eee6146bf7L) != 0L || (active2 & 0xe33fbe66afd03977L) != 0L || (active3 & 0xe13f3cbf1f6b55cfL) != 0L || (active4 & 0x2bf88003e7ed400dL) != 0L || (active5 & 0x1ffc001b867e30c0L) != 0L || (active6 & 0x610f7f800100L) != 0L || (active7 & 0xe600001e0a3fe100L) != 0L || (active8 & 0x40001c1e00000000L) != 0L || (active9 & 0x76000080000f8016L) != 0L || (active10 & 0x1300100010380L) != 0L || (active11 & 0x180000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
             return 77;
          }
-         if ((active2 & 0x3c000L) != 0L || (active3 & 0x40000L) != 0L || (active4 & 0x3800L) != 0L || (active5 & 0xf00L) != 0L || (active6 & 0xfff80000001ffe00L) != 0L || (active7 & 0xfffff00000007fL) != 0L || (active8 & 0xfffe000fffffffcL) != 0L || (active9 & 0xc0ffffbfffc03ff0L) != 0L || (active10 & 0x3ff67ff7fff7e3fL) != 0L)
+         if ((active1 & 0x80000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 329;
+            return 545;
          }
-         if ((active1 & 0x1000000000L) != 0L || (active2 & 0x18000000000L) != 0L || (active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L || (active7 & 0x800000000000000L) != 0L)
+         if ((active1 & 0x8000L) != 0L || (active3 & 0xc00000000000L) != 0L || (active4 & 0x18000000000L) != 0L || (active5 & 0x2000000000L) != 0L || (active8 & 0x2000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 721;
+            return 705;
          }
-         if ((active4 & 0x20000000000L) != 0L || (active5 & 0x60000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0xe000000000L) != 0L)
+         if ((active0 & 0xcc80000000000L) != 0L || (active1 & 0x101800008L) != 0L || (active2 & 0x1800000008L) != 0L || (active3 & 0xe0000200L) != 0L || (active4 & 0x8000L) != 0L || (active5 & 0x818000L) != 0L || (active6 & 0x80400000L) != 0L || (active7 & 0x1000L) != 0L || (active8 & 0x2000000000000000L) != 0L)
+            return 77;
+         if ((active2 & 0x100000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 698;
+            return 40;
          }
-         if ((active0 & 0xcc80000000000L) != 0L || (active1 & 0x101800008L) != 0L || (active2 & 0x1800000008L) != 0L || (active3 & 0xe0000200L) != 0L || (active4 & 0x8000L) != 0L || (active5 & 0x818000L) != 0L || (active6 & 0x80400000L) != 0L || (active7 & 0x800L) != 0L || (active8 & 0x1000000000000000L) != 0L)
-            return 77;
-         if ((active1 & 0x10000L) != 0L || (active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x400000000000000L) != 0L)
+         if ((active1 & 0x1000000000400L) != 0L || (active4 & 0x400000000L) != 0L || (active5 & 0x38000000L) != 0L || (active6 & 0x7000000000L) != 0L || (active7 & 0xc00000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 167;
+            return 585;
          }
-         if ((active1 & 0x20000000000L) != 0L || (active4 & 0x10000000L) != 0L)
+         if ((active3 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 535;
+            return 97;
          }
          if ((active0 & 0x200000000000L) != 0L || (active3 & 0x80000000000000L) != 0L || (active4 & 0x600000000000L) != 0L || (active5 & 0x3800000000000L) != 0L)
             return 639;
-         if ((active2 & 0x80000000000000L) != 0L || (active5 & 0x80000000000L) != 0L)
+         if ((active3 & 0x2000L) != 0L || (active4 & 0x1000000000000000L) != 0L || (active8 & 0x1L) != 0L || (active9 & 0x8L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 684;
+            return 52;
          }
-         if ((active1 & 0x200000L) != 0L || (active3 & 0x400000000000000L) != 0L)
+         if ((active3 & 0x8000L) != 0L || (active4 & 0x80L) != 0L || (active5 & 0x7L) != 0L || (active6 & 0x8L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 744;
+            return 201;
          }
-         if ((active4 & 0x2L) != 0L || (active5 & 0x2000000000000000L) != 0L)
+         if ((active1 & 0x400000L) != 0L || (active3 & 0x1800000000000030L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x100000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 131;
+            return 734;
          }
-         if ((active6 & 0x1000000000000L) != 0L)
-            return 883;
-         if ((active1 & 0xc0000000000000L) != 0L || (active5 & 0x100000000000L) != 0L)
+         if ((active2 & 0x3c000L) != 0L || (active3 & 0x40000L) != 0L || (active4 & 0x3800L) != 0L || (active5 & 0xf00L) != 0L || (active6 & 0xfff00000001ffe00L) != 0L || (active7 & 0x1ffffe0000000ffL) != 0L || (active8 & 0x1fffc001fffffff8L) != 0L || (active9 & 0x81ffff7fff807fe0L) != 0L || (active10 & 0x7fecffefffefc7fL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 61;
+            return 329;
          }
-         if ((active1 & 0x80000000000L) != 0L)
+         if ((active2 & 0x200L) != 0L || (active6 & 0x40L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 545;
+            return 351;
          }
-         if ((active2 & 0x400000000000L) != 0L || (active3 & 0x4000000000L) != 0L)
+         if ((active6 & 0x1000000000000L) != 0L)
+            return 883;
+         if ((active3 & 0x800000L) != 0L || (active4 & 0x20000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 514;
+            return 31;
          }
-         if ((active1 & 0x8000L) != 0L || (active3 & 0xc00000000000L) != 0L || (active4 & 0x18000000000L) != 0L || (active5 & 0x2000000000L) != 0L || (active8 & 0x1000000000L) != 0L)
+         if ((active1 & 0x8000000L) != 0L || (active4 & 0x700L) != 0L || (active5 & 0x38L) != 0L || (active6 & 0x30L) != 0L || (active7 & 0x100000000L) != 0L || (active8 & 0x200000000004L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 705;
+            return 499;
          }
-         if ((active2 & 0x200000L) != 0L || (active5 & 0x4000L) != 0L || (active6 & 0x200000L) != 0L || (active7 & 0x600L) != 0L)
+         if ((active2 & 0xc0000L) != 0L || (active3 & 0x100000L) != 0L || (active7 & 0x200L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 826;
+            return 881;
          }
-         if ((active2 & 0x100000000L) != 0L)
+         if ((active1 & 0x10000000L) != 0L || (active2 & 0x400L) != 0L || (active6 & 0x80L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 40;
+            return 478;
          }
-         if ((active3 & 0x8000L) != 0L || (active4 & 0x80L) != 0L || (active5 & 0x7L) != 0L || (active6 & 0x8L) != 0L)
+         if ((active0 & 0x1000000000000L) != 0L)
+            return 885;
+         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 201;
+            return 558;
          }
-         if ((active3 & 0x800L) != 0L)
+         if ((active4 & 0x2L) != 0L || (active5 & 0x2000000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 97;
+            return 131;
          }
-         if ((active0 & 0x1000000000000L) != 0L)
-            return 885;
-         if ((active3 & 0x2000L) != 0L || (active4 & 0x1000000000000000L) != 0L || (active7 & 0x8000000000000000L) != 0L || (active9 & 0x4L) != 0L)
+         if ((active2 & 0x10000000L) != 0L || (active7 & 0x800000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 52;
+            return 315;
          }
-         if ((active1 & 0x2000000001000L) != 0L || (active3 & 0x30000000000L) != 0L || (active4 & 0x7800000000L) != 0L || (active5 & 0x40000000L) != 0L || (active6 & 0x8000000000L) != 0L || (active7 & 0x800000L) != 0L)
+         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L || (active8 & 0x8000000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 568;
+            return 254;
          }
-         if ((active1 & 0x400000L) != 0L || (active3 & 0x1800000000000030L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x80000L) != 0L)
+         if ((active1 & 0x80000L) != 0L || (active3 & 0x200000000000000L) != 0L || (active4 & 0x7000000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 734;
+            return 803;
          }
-         if ((active1 & 0x8000000L) != 0L || (active4 & 0x700L) != 0L || (active5 & 0x38L) != 0L || (active6 & 0x30L) != 0L || (active7 & 0x80000000L) != 0L || (active8 & 0x100000000002L) != 0L)
+         if ((active2 & 0x400000000000L) != 0L || (active3 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 1;
             }
-            return 499;
+            return 514;
          }
          return -1;
       case 2:
-         if ((active2 & 0x200L) != 0L)
+         if ((active2 & 0x80L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 343;
+            return 217;
          }
-         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L)
+         if ((active3 & 0x8000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 246;
+            return 200;
          }
-         if ((active4 & 0x1000000000000000L) != 0L)
+         if ((active3 & 0x30L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x100000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 51;
+            return 733;
          }
-         if ((active3 & 0x4000000000L) != 0L)
+         if ((active4 & 0x100L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 513;
+            return 498;
          }
-         if ((active4 & 0x400000000000000L) != 0L)
+         if ((active4 & 0x2L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 155;
+            return 130;
          }
-         if ((active4 & 0x20000L) != 0L)
+         if ((active6 & 0x200L) != 0L || (active7 & 0x6000000000L) != 0L || (active10 & 0x1000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 30;
+            return 328;
          }
-         if ((active4 & 0x8000000000000020L) != 0L || (active7 & 0x40000000L) != 0L)
+         if ((active2 & 0x10000000L) != 0L || (active7 & 0x800000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 214;
+            return 309;
          }
-         if ((active1 & 0x80000000000L) != 0L)
+         if ((active2 & 0x200L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 537;
+            return 343;
          }
-         if ((active3 & 0x8000L) != 0L)
+         if ((active6 & 0x80L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 200;
+            return 477;
          }
-         if ((active3 & 0x30L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x80000L) != 0L)
+         if ((active3 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 733;
+            return 513;
          }
-         if ((active0 & 0xe000000000000000L) != 0L || (active1 & 0x80007fdcebffL) != 0L || (active2 & 0x800000000L) != 0L || (active3 & 0x9800000400000002L) != 0L || (active4 & 0x80008004c00000L) != 0L || (active5 & 0x800400038L) != 0L || (active6 & 0x30L) != 0L || (active7 & 0x68000L) != 0L || (active8 & 0x2L) != 0L || (active9 & 0x1000000000000002L) != 0L || (active10 & 0x40L) != 0L)
-            return 77;
-         if ((active1 & 0x10000L) != 0L || (active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x400000000000000L) != 0L)
-            return 166;
-         if ((active4 & 0x100L) != 0L)
+         if ((active1 & 0x80000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 498;
+            return 55;
          }
-         if ((active1 & 0x1000L) != 0L || (active3 & 0x10000000000L) != 0L || (active4 & 0x1800000000L) != 0L)
-            return 613;
-         if ((active1 & 0x400L) != 0L || (active4 & 0x400000000L) != 0L || (active6 & 0x6000000000L) != 0L || (active7 & 0x400000L) != 0L)
-            return 886;
-         if ((active1 & 0x200000L) != 0L || (active3 & 0x400000000000000L) != 0L)
-            return 743;
-         if ((active6 & 0x200L) != 0L || (active7 & 0x3000000000L) != 0L || (active10 & 0x800000L) != 0L)
+         if ((active2 & 0x80000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 328;
+            return 873;
          }
-         if ((active2 & 0x10000000L) != 0L || (active7 & 0x400000000000000L) != 0L)
+         if ((active0 & 0xe000000000000000L) != 0L || (active1 & 0x80007fdcebffL) != 0L || (active2 & 0x800000000L) != 0L || (active3 & 0x9800000400000002L) != 0L || (active4 & 0x80008004c00000L) != 0L || (active5 & 0x800400038L) != 0L || (active6 & 0x30L) != 0L || (active7 & 0xd0000L) != 0L || (active8 & 0x4L) != 0L || (active9 & 0x2000000000000004L) != 0L || (active10 & 0x80L) != 0L)
+            return 77;
+         if ((active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 309;
+            return 717;
          }
-         if ((active6 & 0x1000000000000L) != 0L)
-            return 883;
-         if ((active6 & 0x80L) != 0L)
+         if ((active1 & 0x100000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 477;
+            return 668;
          }
-         if ((active1 & 0x1e00000000020000L) != 0L || (active4 & 0x100000000000L) != 0L || (active5 & 0x400000000000L) != 0L || (active7 & 0x2000000L) != 0L || (active8 & 0x8000010000000000L) != 0L)
-            return 652;
-         if ((active2 & 0x200000L) != 0L || (active7 & 0x600L) != 0L)
+         if ((active1 & 0x10000L) != 0L || (active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x800000000000000L) != 0L)
+            return 166;
+         if ((active1 & 0x1000L) != 0L || (active3 & 0x10000000000L) != 0L || (active4 & 0x1800000000L) != 0L)
+            return 613;
+         if ((active4 & 0x1000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 818;
+            return 802;
          }
-         if ((active2 & 0x80000L) != 0L)
+         if ((active1 & 0x400L) != 0L || (active4 & 0x400000000L) != 0L || (active6 & 0x6000000000L) != 0L || (active7 & 0x800000L) != 0L)
+            return 886;
+         if ((active2 & 0x100000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 873;
+            return 34;
          }
-         if ((active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L)
+         if ((active5 & 0x200L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 717;
+            return 331;
          }
-         if ((active1 & 0x80000000000000L) != 0L)
+         if ((active1 & 0x1000000000000L) != 0L || (active5 & 0x38000000L) != 0L || (active6 & 0x1000000000L) != 0L || (active7 & 0x400000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 55;
+            return 616;
          }
-         if ((active2 & 0x80L) != 0L)
+         if ((active1 & 0x200000L) != 0L || (active3 & 0x400000000000000L) != 0L)
+            return 743;
+         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 217;
+            return 548;
          }
-         if ((active1 & 0xe07a77ff80000000L) != 0L || (active2 & 0xffbffff6afd7fd7fL) != 0L || (active3 & 0x63fffcbbffff77cdL) != 0L || (active4 & 0x6b7eef63f32dfeddL) != 0L || (active5 & 0xffffbc33c6bffdc7L) != 0L || (active6 & 0xfffe610ffffffd4fL) != 0L || (active7 & 0xfbffffcfbd9979ffL) != 0L || (active8 & 0x7ffffe1ffffffffdL) != 0L || (active9 & 0xebfffffffff7fffdL) != 0L || (active10 & 0x3ffffffff7fffbfL) != 0L || (active11 & 0xc0000000000000L) != 0L)
+         if ((active3 & 0x20000000000L) != 0L || (active6 & 0x8000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 77;
+            return 567;
          }
-         if ((active1 & 0x100000000000000L) != 0L)
+         if ((active6 & 0x1000000000000L) != 0L)
+            return 883;
+         if ((active3 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 668;
+            return 96;
          }
-         if ((active5 & 0x200L) != 0L)
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x1c000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 331;
+            return 697;
          }
-         if ((active4 & 0x1000000000000L) != 0L)
+         if ((active4 & 0x1000000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 802;
+            return 51;
          }
-         if ((active1 & 0x1000000000000L) != 0L || (active5 & 0x38000000L) != 0L || (active6 & 0x1000000000L) != 0L || (active7 & 0x200000L) != 0L)
+         if ((active1 & 0x1e00000000020000L) != 0L || (active4 & 0x100000000000L) != 0L || (active5 & 0x400000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active8 & 0x20000000000L) != 0L || (active9 & 0x1L) != 0L)
+            return 652;
+         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 616;
+            return 246;
          }
-         if ((active3 & 0x20000000000L) != 0L || (active6 & 0x8000000000L) != 0L)
+         if ((active1 & 0xe07a77ff80000000L) != 0L || (active2 & 0xffbffff6afd7fd7fL) != 0L || (active3 & 0x63fffcbbffff77cdL) != 0L || (active4 & 0x6b7eef63f32dfeddL) != 0L || (active5 & 0xffffbc33c6bffdc7L) != 0L || (active6 & 0xfffe610ffffffd4fL) != 0L || (active7 & 0xf7ffff9f7b32f3ffL) != 0L || (active8 & 0xfffffc3ffffffffbL) != 0L || (active9 & 0xd7ffffffffeffffaL) != 0L || (active10 & 0x7fffffffeffff7fL) != 0L || (active11 & 0x180000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 567;
+            return 77;
          }
-         if ((active2 & 0x100000000L) != 0L)
+         if ((active4 & 0x400000000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 34;
+            return 155;
          }
-         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
+         if ((active4 & 0x20000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 548;
+            return 30;
          }
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0xe000000000L) != 0L)
+         if ((active4 & 0x8000000000000020L) != 0L || (active7 & 0x80000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 697;
+            return 214;
          }
-         if ((active4 & 0x2L) != 0L)
+         if ((active1 & 0x80000000000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 130;
+            return 537;
          }
-         if ((active3 & 0x800L) != 0L)
+         if ((active2 & 0x200000L) != 0L || (active7 & 0xc00L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 2;
             }
-            return 96;
+            return 818;
          }
          return -1;
       case 3:
-         if ((active3 & 0x20000000000L) != 0L)
+         if ((active4 & 0x100000000000L) != 0L || (active5 & 0x400000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active8 & 0x20000000000L) != 0L || (active9 & 0x1L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 566;
+            return 651;
          }
-         if ((active7 & 0x1000000000L) != 0L)
+         if ((active2 & 0x100000000L) != 0L)
+            return 887;
+         if ((active4 & 0x100L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 318;
+            return 497;
+         }
+         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L)
+            return 265;
+         if ((active2 & 0x80000L) != 0L)
+            return 888;
+         if ((active6 & 0x1000000000000L) != 0L)
+            return 883;
+         if ((active1 & 0x80000000000000L) != 0L)
+            return 889;
+         if ((active3 & 0x8000L) != 0L)
+         {
+            if (jjmatchedPos != 3)
+            {
+               jjmatchedKind = 780;
+               jjmatchedPos = 3;
+            }
+            return 193;
          }
-         if ((active2 & 0x100000000L) != 0L)
-            return 887;
          if ((active3 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
             return 512;
          }
-         if ((active2 & 0x40000000L) != 0L || (active4 & 0x100000L) != 0L)
-            return 265;
-         if ((active2 & 0xffbffbde00000000L) != 0L || (active3 & 0xbbfffdbfffef75dfL) != 0L || (active4 & 0xeffeefffe7edfedfL) != 0L || (active5 & 0xff3fac3b8ebfffffL) != 0L || (active6 & 0xfffe61ebfffeffffL) != 0L || (active7 & 0xe9ffffeffddfc8bfL) != 0L || (active8 & 0x7fbffa1efbffffffL) != 0L || (active9 & 0xfae3fffcfff7fcffL) != 0L || (active10 & 0x2edf2ffe7fff7f8L) != 0L || (active11 & 0xc0000000000000L) != 0L)
+         if ((active3 & 0x400000000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 77;
+            return 742;
          }
-         if ((active2 & 0x80000L) != 0L)
-            return 888;
-         if ((active6 & 0x1000000000000L) != 0L)
-            return 883;
-         if ((active1 & 0x80000000000000L) != 0L)
-            return 889;
-         if ((active1 & 0xfe7af7ff80000000L) != 0L || (active2 & 0x420afd7fdffL) != 0L || (active3 & 0x4000000000100200L) != 0L || (active4 & 0x10000000L) != 0L || (active5 & 0xc0100040000000L) != 0L || (active6 & 0x400010000L) != 0L || (active7 & 0x1200000000003140L) != 0L || (active8 & 0x40040104000000L) != 0L || (active9 & 0x11c000300000300L) != 0L || (active10 & 0x1120d0018000807L) != 0L)
+         if ((active1 & 0xfe7af7ff80000000L) != 0L || (active2 & 0x420afd7fdffL) != 0L || (active3 & 0x4000000000100200L) != 0L || (active4 & 0x10000000L) != 0L || (active5 & 0xc0100040000000L) != 0L || (active6 & 0x400010000L) != 0L || (active7 & 0x2400000000006280L) != 0L || (active8 & 0x80080208000000L) != 0L || (active9 & 0x238000600000600L) != 0L || (active10 & 0x2241a003000100eL) != 0L)
             return 77;
-         if ((active2 & 0x10000000L) != 0L || (active7 & 0x400000000000000L) != 0L)
-            return 890;
-         if ((active4 & 0x100000000000L) != 0L || (active5 & 0x400000000000L) != 0L || (active7 & 0x2000000L) != 0L || (active8 & 0x8000010000000000L) != 0L)
+         if ((active3 & 0x20L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x100000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 651;
+            return 727;
          }
+         if ((active2 & 0x10000000L) != 0L || (active7 & 0x800000000000000L) != 0L)
+            return 890;
          if ((active3 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
             return 92;
          }
-         if ((active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L)
+         if ((active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x800000000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 741;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 720;
+            return 169;
          }
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0xe000000000L) != 0L)
+         if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 696;
+            return 213;
          }
-         if ((active4 & 0x100L) != 0L)
+         if ((active2 & 0x200000L) != 0L || (active7 & 0xc00L) != 0L)
+            return 869;
+         if ((active4 & 0x8000000L) != 0L || (active5 & 0x1000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 742;
                jjmatchedPos = 3;
             }
-            return 497;
+            return 720;
          }
-         if ((active2 & 0x200000L) != 0L || (active7 & 0x600L) != 0L)
-            return 869;
-         if ((active3 & 0x8000L) != 0L)
+         if ((active3 & 0x20000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 193;
+            return 566;
          }
-         if ((active1 & 0x100000000000000L) != 0L)
-            return 891;
-         if ((active3 & 0x400000000000000L) != 0L)
+         if ((active7 & 0x2000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 742;
+            return 318;
+         }
+         if ((active2 & 0xffbffbde00000000L) != 0L || (active3 & 0xbbfffdbfffef75dfL) != 0L || (active4 & 0xeffeefffe7edfedfL) != 0L || (active5 & 0xff3fac3b8ebfffffL) != 0L || (active6 & 0xfffe61ebfffeffffL) != 0L || (active7 & 0xd3ffffdffbbf917fL) != 0L || (active8 & 0xff7ff43df7ffffffL) != 0L || (active9 & 0xf5c7fff9ffeff9feL) != 0L || (active10 & 0x5dbe5ffcfffeff1L) != 0L || (active11 & 0x180000000000000L) != 0L)
+         {
+            if (jjmatchedPos != 3)
+            {
+               jjmatchedKind = 780;
+               jjmatchedPos = 3;
+            }
+            return 77;
          }
+         if ((active1 & 0x100000000000000L) != 0L)
+            return 891;
          if ((active1 & 0x80000000000L) != 0L)
             return 892;
-         if ((active1 & 0x1000000000000L) != 0L || (active5 & 0x30000000L) != 0L || (active6 & 0x1000000000L) != 0L || (active7 & 0x200000L) != 0L)
+         if ((active1 & 0x1000000000000L) != 0L || (active5 & 0x30000000L) != 0L || (active6 & 0x1000000000L) != 0L || (active7 & 0x400000L) != 0L)
             return 893;
          if ((active2 & 0x200L) != 0L)
             return 894;
@@ -834,558 +852,540 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
             return 801;
          }
-         if ((active3 & 0x20L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x80000L) != 0L)
-         {
-            if (jjmatchedPos != 3)
-            {
-               jjmatchedKind = 779;
-               jjmatchedPos = 3;
-            }
-            return 727;
-         }
          if ((active4 & 0x1000000000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
             return 50;
          }
-         if ((active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x400000000000000L) != 0L)
-         {
-            if (jjmatchedPos != 3)
-            {
-               jjmatchedKind = 779;
-               jjmatchedPos = 3;
-            }
-            return 169;
-         }
-         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
-            return 895;
          if ((active4 & 0x20000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
             return 29;
          }
-         if ((active4 & 0x20L) != 0L)
+         if ((active1 & 0x4000000000000L) != 0L || (active5 & 0x400000000L) != 0L || (active6 & 0x20000000000L) != 0L)
+            return 895;
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x1c000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 3;
             }
-            return 213;
+            return 696;
          }
          return -1;
       case 4:
-         if ((active4 & 0x100000000000L) != 0L)
+         if ((active4 & 0x100L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 663;
+            return 491;
          }
-         if ((active3 & 0x4000000000L) != 0L)
+         if ((active4 & 0x1000000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 502;
+            return 800;
          }
          if ((active6 & 0x1000000000000L) != 0L)
             return 883;
-         if ((active2 & 0xffbffffe00000000L) != 0L || (active3 & 0x6000007ef77dfL) != 0L || (active6 & 0x400001000000L) != 0L || (active7 & 0x8900000000000000L) != 0L || (active9 & 0x40004L) != 0L || (active11 & 0x80000000000000L) != 0L)
-            return 77;
-         if ((active3 & 0x800L) != 0L)
-            return 896;
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x2000000000L) != 0L)
+         if ((active3 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 695;
+            return 502;
          }
-         if ((active3 & 0xfbf9fdbff8000000L) != 0L || (active4 & 0xeffeeffffffdfedfL) != 0L || (active5 & 0xffbfbc3fffbfffffL) != 0L || (active6 & 0xfffe21fffeffffffL) != 0L || (active7 & 0x76ffffeffdfffbffL) != 0L || (active8 & 0x7ffffadfffffffffL) != 0L || (active9 & 0xfbfffffffff3fffbL) != 0L || (active10 & 0x3ffffffffffffffL) != 0L || (active11 & 0x40000000000000L) != 0L)
-         {
-            if (jjmatchedPos != 4)
-            {
-               jjmatchedKind = 779;
-               jjmatchedPos = 4;
-            }
+         if ((active2 & 0xffbffffe00000000L) != 0L || (active3 & 0x6000007ef77dfL) != 0L || (active6 & 0x400001000000L) != 0L || (active7 & 0x1200000000000000L) != 0L || (active8 & 0x1L) != 0L || (active9 & 0x80008L) != 0L || (active11 & 0x100000000000000L) != 0L)
             return 77;
-         }
+         if ((active3 & 0x800L) != 0L)
+            return 896;
          if ((active4 & 0x1000000000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
             return 49;
          }
-         if ((active7 & 0x400L) != 0L)
+         if ((active5 & 0x400000000000L) != 0L || (active7 & 0x4000000L) != 0L || (active8 & 0x20000000000L) != 0L || (active9 & 0x1L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 868;
+            return 650;
          }
          if ((active4 & 0x20L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
             return 212;
          }
-         if ((active7 & 0x1000000000L) != 0L)
+         if ((active7 & 0x2000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
             return 897;
          }
          if ((active6 & 0x20000000000L) != 0L)
             return 557;
-         if ((active4 & 0x100L) != 0L)
-         {
-            if (jjmatchedPos != 4)
-            {
-               jjmatchedKind = 779;
-               jjmatchedPos = 4;
-            }
-            return 491;
-         }
          if ((active3 & 0x400000000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
             return 736;
          }
-         if ((active4 & 0x1000000000000L) != 0L)
+         if ((active3 & 0x20000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 800;
+            return 560;
          }
-         if ((active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x400000000000000L) != 0L)
+         if ((active2 & 0x40000000000000L) != 0L || (active5 & 0x1c000000000L) != 0L || (active6 & 0xc0000000000L) != 0L || (active9 & 0x800000000000000L) != 0L)
             return 898;
          if ((active4 & 0x20000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
             return 14;
          }
-         if ((active3 & 0x20L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x80000L) != 0L)
-            return 899;
-         if ((active5 & 0x400000000000L) != 0L || (active7 & 0x2000000L) != 0L || (active8 & 0x8000010000000000L) != 0L)
+         if ((active4 & 0x100000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 650;
+            return 663;
          }
+         if ((active3 & 0x20L) != 0L || (active6 & 0x800000000000L) != 0L || (active9 & 0x100000L) != 0L)
+            return 899;
          if ((active3 & 0x8000L) != 0L)
             return 900;
-         if ((active3 & 0x20000000000L) != 0L)
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 4;
             }
-            return 560;
+            return 695;
+         }
+         if ((active3 & 0xfbf9fdbff8000000L) != 0L || (active4 & 0xeffeeffffffdfedfL) != 0L || (active5 & 0xffbfbc3fffbfffffL) != 0L || (active6 & 0xfffe21fffeffffffL) != 0L || (active7 & 0xedffffdffbfff7ffL) != 0L || (active8 & 0xfffff5bffffffffeL) != 0L || (active9 & 0xf7ffffffffe7fff6L) != 0L || (active10 & 0x7ffffffffffffffL) != 0L || (active11 & 0x80000000000000L) != 0L)
+         {
+            if (jjmatchedPos != 4)
+            {
+               jjmatchedKind = 780;
+               jjmatchedPos = 4;
+            }
+            return 77;
+         }
+         if ((active7 & 0x800L) != 0L)
+         {
+            if (jjmatchedPos != 4)
+            {
+               jjmatchedKind = 780;
+               jjmatchedPos = 4;
+            }
+            return 868;
          }
          return -1;
       case 5:
-         if ((active4 & 0xe7feefffffc00000L) != 0L || (active5 & 0xffa7bddfffbffff8L) != 0L || (active6 & 0xfffeedffffffffffL) != 0L || (active7 & 0xfffffbfffffefb7fL) != 0L || (active8 & 0xffffebdffffffbffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0x3ffffffffffffffL) != 0L || (active11 & 0x40000000000000L) != 0L)
+         if ((active5 & 0x400000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 77;
+            return 649;
          }
          if ((active3 & 0x20000000000L) != 0L)
             return 901;
-         if ((active3 & 0xfbfffdbff8000000L) != 0L || (active4 & 0x8000000003dfedfL) != 0L || (active5 & 0x18002000000007L) != 0L || (active7 & 0x40000010080L) != 0L || (active8 & 0x100000000400L) != 0L || (active11 & 0x80000000000000L) != 0L)
+         if ((active3 & 0xfbfffdbff8000000L) != 0L || (active4 & 0x8000000003dfedfL) != 0L || (active5 & 0x18002000000007L) != 0L || (active7 & 0x80000020100L) != 0L || (active8 & 0x200000000800L) != 0L || (active11 & 0x100000000000000L) != 0L)
             return 77;
          if ((active6 & 0x1000000000000L) != 0L)
             return 883;
-         if ((active4 & 0x1000000000000L) != 0L)
+         if ((active3 & 0x4000000000L) != 0L)
+            return 902;
+         if ((active4 & 0x1000000000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 792;
+            return 43;
          }
-         if ((active4 & 0x100000000000L) != 0L)
+         if ((active7 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 655;
+            return 867;
          }
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x2000000000L) != 0L)
+         if ((active4 & 0x20000L) != 0L)
+            return 903;
+         if ((active4 & 0x1000000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 694;
+            return 792;
          }
-         if ((active3 & 0x4000000000L) != 0L)
-            return 902;
-         if ((active5 & 0x400000000000L) != 0L)
+         if ((active4 & 0x100000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 649;
+            return 655;
          }
-         if ((active4 & 0x20000L) != 0L)
-            return 903;
          if ((active3 & 0x400000000000000L) != 0L)
             return 904;
          if ((active4 & 0x20L) != 0L)
             return 211;
-         if ((active7 & 0x400L) != 0L)
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 867;
+            return 694;
          }
-         if ((active4 & 0x1000000000000000L) != 0L)
+         if ((active4 & 0x100L) != 0L)
+            return 905;
+         if ((active4 & 0xe7feefffffc00000L) != 0L || (active5 & 0xffa7bddfffbffff8L) != 0L || (active6 & 0xfffeedffffffffffL) != 0L || (active7 & 0xfffff7fffffdf6ffL) != 0L || (active8 & 0xffffd7bffffff7ffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0x7ffffffffffffffL) != 0L || (active11 & 0x80000000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 5;
             }
-            return 43;
+            return 77;
          }
-         if ((active4 & 0x100L) != 0L)
-            return 905;
          return -1;
       case 6:
-         if ((active4 & 0xe7feefffffc00000L) != 0L || (active5 & 0x2000003fffffL) != 0L || (active6 & 0x10000008000000L) != 0L)
+         if ((active4 & 0xe7feefffffc00000L) != 0L || (active5 & 0x2000003fffffL) != 0L || (active6 & 0x20000008000000L) != 0L)
             return 77;
-         if ((active5 & 0x400000000000L) != 0L)
+         if ((active4 & 0x1000000000000L) != 0L)
+            return 906;
+         if ((active6 & 0x1000000000000L) != 0L)
+            return 883;
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x4000000000L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 6;
             }
-            return 641;
+            return 686;
          }
-         if ((active4 & 0x1000000000000L) != 0L)
-            return 906;
-         if ((active6 & 0x1000000000000L) != 0L)
-            return 883;
-         if ((active7 & 0x400L) != 0L)
+         if ((active5 & 0x400000000000L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 6;
             }
-            return 866;
+            return 641;
          }
          if ((active4 & 0x100000000000L) != 0L)
             return 907;
          if ((active4 & 0x1000000000000000L) != 0L)
             return 908;
-         if ((active5 & 0xffbf9dffff800000L) != 0L || (active6 & 0xffeeedfff7ffffffL) != 0L || (active7 & 0xfffffffffffffbffL) != 0L || (active8 & 0xfffffbdfffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0x3ffffffffffffffL) != 0L || (active11 & 0x40000000000000L) != 0L)
+         if ((active5 & 0xffbf9dffff800000L) != 0L || (active6 & 0xffdeedfff7ffffffL) != 0L || (active7 & 0xfffffffffffff7ffL) != 0L || (active8 & 0xfffff7bfffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0x7ffffffffffffffL) != 0L || (active11 & 0x80000000000000L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 6;
             }
             return 77;
          }
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x2000000000L) != 0L)
+         if ((active7 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 6;
             }
-            return 686;
+            return 866;
          }
          return -1;
       case 7:
-         if ((active7 & 0x400L) != 0L)
+         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x4000000000L) != 0L)
+            return 909;
+         if ((active5 & 0xffbfbdffff800000L) != 0L || (active6 & 0xc007fffffffL) != 0L || (active7 & 0x8L) != 0L || (active8 & 0x4000000000000000L) != 0L || (active9 & 0x40000000010000L) != 0L || (active10 & 0x2044a0030004020L) != 0L || (active11 & 0x80000000000000L) != 0L)
+            return 77;
+         if ((active7 & 0x800L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 7;
             }
             return 828;
          }
-         if ((active5 & 0x20000000000L) != 0L || (active6 & 0x100000000000L) != 0L || (active8 & 0x2000000000L) != 0L)
-            return 909;
-         if ((active5 & 0xffbfbdffff800000L) != 0L || (active6 & 0xc007fffffffL) != 0L || (active7 & 0x4L) != 0L || (active8 & 0x2000000000000000L) != 0L || (active9 & 0x20000000008000L) != 0L || (active10 & 0x102250018002010L) != 0L || (active11 & 0x40000000000000L) != 0L)
-            return 77;
-         if ((active6 & 0xfffee1ff80000000L) != 0L || (active7 & 0xfffffffffffffbfbL) != 0L || (active8 & 0xdffffbdfffffffffL) != 0L || (active9 & 0xffdfffffffff7fffL) != 0L || (active10 & 0x2fddaffe7ffdfefL) != 0L)
+         if ((active5 & 0x400000000000L) != 0L)
+            return 910;
+         if ((active6 & 0xfffee1ff80000000L) != 0L || (active7 & 0xfffffffffffff7f7L) != 0L || (active8 & 0xbffff7bfffffffffL) != 0L || (active9 & 0xffbffffffffeffffL) != 0L || (active10 & 0x5fbb5ffcfffbfdfL) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 7;
             }
             return 77;
          }
-         if ((active5 & 0x400000000000L) != 0L)
-            return 910;
          if ((active6 & 0x1000000000000L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 780;
+               jjmatchedKind = 781;
                jjmatchedPos = 7;
             }
             return 80;
          }
          return -1;
       case 8:
-         if ((active7 & 0xffe3ffffffff8000L) != 0L || (active8 & 0xfffffbfffcff7fffL) != 0L || (active9 & 0xfefffffffffbffffL) != 0L || (active10 & 0x3ffffcffff7ffffL) != 0L)
+         if ((active7 & 0xffc7ffffffff0000L) != 0L || (active8 & 0xfffff7fff9feffffL) != 0L || (active9 & 0xfdfffffffff7ffffL) != 0L || (active10 & 0x7ffff9fffefffffL) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 8;
             }
             return 77;
          }
-         if ((active6 & 0xfffefdff80000000L) != 0L || (active7 & 0x1c000000007bffL) != 0L || (active8 & 0x3008000L) != 0L || (active9 & 0x100000000040000L) != 0L || (active10 & 0x3000080000L) != 0L)
+         if ((active6 & 0xfffefdff80000000L) != 0L || (active7 & 0x3800000000f7ffL) != 0L || (active8 & 0x6010000L) != 0L || (active9 & 0x200000000080000L) != 0L || (active10 & 0x6000100000L) != 0L)
             return 77;
-         if ((active7 & 0x400L) != 0L)
+         if ((active7 & 0x800L) != 0L)
             return 911;
          return -1;
       case 9:
-         if ((active7 & 0x7ffffffffff8000L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x100204000L) != 0L)
-            return 77;
-         if ((active7 & 0xf800000000000000L) != 0L || (active8 & 0xfffffbffffffffffL) != 0L || (active9 & 0x7fffffffffffffffL) != 0L || (active10 & 0x3fffffeffdfbfffL) != 0L)
+         if ((active7 & 0xf000000000000000L) != 0L || (active8 & 0xfffff7ffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0x7fffffdffbf7ffeL) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 9;
             }
             return 77;
          }
+         if ((active7 & 0xfffffffffff0000L) != 0L || (active10 & 0x200408001L) != 0L)
+            return 77;
          return -1;
       case 10:
-         if ((active7 & 0xf800000000000000L) != 0L || (active8 & 0x1c0001ffffffffL) != 0L || (active9 & 0x100000000000L) != 0L || (active10 & 0x200083201020000L) != 0L)
+         if ((active7 & 0xf000000000000000L) != 0L || (active8 & 0x380003ffffffffL) != 0L || (active9 & 0x200000000000L) != 0L || (active10 & 0x400106402040000L) != 0L)
             return 77;
-         if ((active8 & 0xffe3fbfe00000000L) != 0L || (active9 & 0xffffefffffffffffL) != 0L || (active10 & 0x1fff7cdfefdffffL) != 0L)
+         if ((active8 & 0xffc7f7fc00000000L) != 0L || (active9 & 0xffffdfffffffffffL) != 0L || (active10 & 0x3ffef9bfdfbffffL) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 10;
             }
             return 77;
          }
          return -1;
       case 11:
-         if ((active8 & 0x8000000000000000L) != 0L || (active9 & 0xfffffff3fffffeffL) != 0L || (active10 & 0x3ffffffffffff7fL) != 0L)
+         if ((active9 & 0xffffffe7fffffdffL) != 0L || (active10 & 0x7fffffffffffeffL) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 11;
             }
             return 77;
          }
-         if ((active8 & 0x7ffffbfe00000000L) != 0L || (active9 & 0xc00000100L) != 0L || (active10 & 0x80L) != 0L)
+         if ((active8 & 0xfffff7fc00000000L) != 0L || (active9 & 0x1800000200L) != 0L || (active10 & 0x100L) != 0L)
             return 77;
          return -1;
       case 12:
-         if ((active8 & 0x8000000000000000L) != 0L || (active9 & 0xffffL) != 0L)
-            return 77;
-         if ((active9 & 0xffffffffffff0000L) != 0L || (active10 & 0x3ffffffffffffffL) != 0L)
+         if ((active9 & 0xfffffffffffe0000L) != 0L || (active10 & 0x7ffffffffffffffL) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 12;
             return 77;
          }
+         if ((active9 & 0x1ffffL) != 0L)
+            return 77;
          return -1;
       case 13:
-         if ((active9 & 0x3fffff0000L) != 0L)
+         if ((active9 & 0x7ffffe0000L) != 0L)
             return 77;
-         if ((active9 & 0xffffffc000000000L) != 0L || (active10 & 0x3ffffffffffffffL) != 0L)
+         if ((active9 & 0xffffff8000000000L) != 0L || (active10 & 0x7ffffffffffffffL) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 13;
             return 77;
          }
          return -1;
       case 14:
-         if ((active9 & 0xff00000000000000L) != 0L || (active10 & 0x3ffffffffffffffL) != 0L)
+         if ((active9 & 0x1ffff8000000000L) != 0L)
+            return 77;
+         if ((active9 & 0xfe00000000000000L) != 0L || (active10 & 0x7ffffffffffffffL) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 14;
             return 77;
          }
-         if ((active9 & 0xffffc000000000L) != 0L)
-            return 77;
          return -1;
       case 15:
-         if ((active9 & 0xff00000000000000L) != 0L || (active10 & 0x3fL) != 0L)
-            return 77;
-         if ((active10 & 0x3ffffffffffffc0L) != 0L)
+         if ((active10 & 0x7ffffffffffff80L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 15;
             return 77;
          }
+         if ((active9 & 0xfe00000000000000L) != 0L || (active10 & 0x7fL) != 0L)
+            return 77;
          return -1;
       case 16:
-         if ((active10 & 0x7fc0L) != 0L)
+         if ((active10 & 0xff80L) != 0L)
             return 77;
-         if ((active10 & 0x3ffffffffff8000L) != 0L)
+         if ((active10 & 0x7ffffffffff0000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 16;
             return 77;
          }
          return -1;
       case 17:
-         if ((active10 & 0x207f8000L) != 0L)
+         if ((active10 & 0x40ff0000L) != 0L)
             return 77;
-         if ((active10 & 0x3ffffffdf800000L) != 0L)
+         if ((active10 & 0x7ffffffbf000000L) != 0L)
          {
             if (jjmatchedPos != 17)
             {
-               jjmatchedKind = 779;
+               jjmatchedKind = 780;
                jjmatchedPos = 17;
             }
             return 77;
          }
          return -1;
       case 18:
-         if ((active10 & 0x3ffffff80000000L) != 0L)
+         if ((active10 & 0x7ffffff00000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 18;
             return 77;
          }
-         if ((active10 & 0x7f800000L) != 0L)
+         if ((active10 & 0xff000000L) != 0L)
             return 77;
          return -1;
       case 19:
-         if ((active10 & 0x1ff80000000L) != 0L)
+         if ((active10 & 0x3ff00000000L) != 0L)
             return 77;
-         if ((active10 & 0x3fffe0000000000L) != 0L)
+         if ((active10 & 0x7fffc0000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 19;
             return 77;
          }
          return -1;
       case 20:
-         if ((active10 & 0x3fff00000000000L) != 0L)
+         if ((active10 & 0x1c0000000000L) != 0L)
+            return 77;
+         if ((active10 & 0x7ffe00000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 20;
             return 77;
          }
-         if ((active10 & 0xe0000000000L) != 0L)
-            return 77;
          return -1;
       case 21:
-         if ((active10 & 0x700000000000L) != 0L)
+         if ((active10 & 0xe00000000000L) != 0L)
             return 77;
-         if ((active10 & 0x3ff800000000000L) != 0L)
+         if ((active10 & 0x7ff000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 21;
             return 77;
          }
          return -1;
       case 22:
-         if ((active10 & 0x7800000000000L) != 0L)
+         if ((active10 & 0xf000000000000L) != 0L)
             return 77;
-         if ((active10 & 0x3f8000000000000L) != 0L)
+         if ((active10 & 0x7f0000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 22;
             return 77;
          }
          return -1;
       case 23:
-         if ((active10 & 0x3e0000000000000L) != 0L)
+         if ((active10 & 0x30000000000000L) != 0L)
+            return 77;
+         if ((active10 & 0x7c0000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 23;
             return 77;
          }
-         if ((active10 & 0x18000000000000L) != 0L)
-            return 77;
          return -1;
       case 24:
-         if ((active10 & 0x20000000000000L) != 0L)
-            return 77;
-         if ((active10 & 0x3c0000000000000L) != 0L)
+         if ((active10 & 0x780000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 24;
             return 77;
          }
+         if ((active10 & 0x40000000000000L) != 0L)
+            return 77;
          return -1;
       case 25:
-         if ((active10 & 0x1c0000000000000L) != 0L)
+         if ((active10 & 0x380000000000000L) != 0L)
             return 77;
-         if ((active10 & 0x200000000000000L) != 0L)
+         if ((active10 & 0x400000000000000L) != 0L)
          {
-            jjmatchedKind = 779;
+            jjmatchedKind = 780;
             jjmatchedPos = 25;
             return 77;
          }
@@ -1439,15 +1439,15 @@ private final int jjMoveStringLiteralDfa0_0()
       case 43:
          return jjStopAtPos(0, 24);
       case 44:
-         return jjStopAtPos(0, 781);
+         return jjStopAtPos(0, 782);
       case 45:
          return jjStartNfaWithStates_0(0, 12, 0);
       case 46:
-         return jjStartNfaWithStates_0(0, 782, 884);
+         return jjStartNfaWithStates_0(0, 783, 884);
       case 47:
          return jjStartNfaWithStates_0(0, 15, 6);
       case 58:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L);
       case 59:
          return jjStopAtPos(0, 13);
       case 60:
@@ -1462,73 +1462,73 @@ private final int jjMoveStringLiteralDfa0_0()
          return jjStopAtPos(0, 19);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa1_0(0xe000080000000000L, 0x78000001fL, 0x3e00000000L, 0xf8000000L, 0x1c00000L, 0xc00000L, 0x80000000L, 0x8000L, 0x0L, 0x0L, 0x40L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xe000080000000000L, 0x78000001fL, 0x3e00000000L, 0xf8000000L, 0x1c00000L, 0xc00000L, 0x80000000L, 0x10000L, 0x0L, 0x0L, 0x80L, 0x0L, 0x0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x3800000020L, 0x7c000000000L, 0x700000000L, 0xe000000L, 0x1000000L, 0x300000000L, 0x800000000070000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x3800000020L, 0x7c000000000L, 0x700000000L, 0xe000000L, 0x1000000L, 0x300000000L, 0x10000000000e0000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xffc0000003c0L, 0x780000000000L, 0xf800000000L, 0x3f0000000L, 0x6000000L, 0xc00000000L, 0x1000000000180000L, 0xe00000000L, 0x300004000010000L, 0x80L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xffc0000003c0L, 0x780000000000L, 0xf800000000L, 0x3f0000000L, 0x6000000L, 0xc00000000L, 0x2000000000300000L, 0x1c00000000L, 0x600008000020000L, 0x100L, 0x0L, 0x0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x7000000003c00L, 0x0L, 0x70000000000L, 0x7c00000000L, 0x7f8000000L, 0x3f000000000L, 0x1e00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x7000000003c00L, 0x0L, 0x70000000000L, 0x7c00000000L, 0x7f8000000L, 0x3f000000000L, 0x3c00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x800000000c000L, 0x800000000000L, 0xf80000000000L, 0x18000000000L, 0x3800000000L, 0x0L, 0x0L, 0x1000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x800000000c000L, 0x800000000000L, 0xf80000000000L, 0x18000000000L, 0x3800000000L, 0x0L, 0x0L, 0x2000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x30000000010000L, 0x7f000000000000L, 0xf000000000000L, 0x0L, 0x1c000000000L, 0xc0000000000L, 0x0L, 0x0L, 0x400000000000000L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x30000000010000L, 0x7f000000000000L, 0xf000000000000L, 0x0L, 0x1c000000000L, 0xc0000000000L, 0x0L, 0x0L, 0x800000000000000L, 0x0L, 0x0L, 0x0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x80000000000000L, 0x10000000000000L, 0x20000000000L, 0xe0000000000L, 0x100000000000L, 0x0L, 0xe000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x80000000000000L, 0x10000000000000L, 0x20000000000L, 0xe0000000000L, 0x100000000000L, 0x0L, 0x1c000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa1_0(0x0L, 0xc0000000000000L, 0x0L, 0x20000000000000L, 0x0L, 0x100000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa1_0(0x300000000000L, 0x1f00000000020000L, 0x1f00000000000000L, 0xc0000000000000L, 0x7c0000000000L, 0x3e00000000000L, 0x0L, 0x2000000L, 0x8000010000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x300000000000L, 0x1f00000000020000L, 0x1f00000000000000L, 0xc0000000000000L, 0x7c0000000000L, 0x3e00000000000L, 0x0L, 0x4000000L, 0x20000000000L, 0x1L, 0x0L, 0x0L, 0x0L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x2000000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000000L, 0x800000000000001L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x2000000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x1000000000000002L, 0x0L, 0x0L, 0x0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_0(0x400000000000L, 0x8000000000040000L, 0xe000000000000007L, 0x10000000000000fL, 0x800000000000L, 0x1fc000000000000L, 0x600000000000L, 0x0L, 0x40000000000L, 0x60000L, 0x900080000100L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x400000000000L, 0x8000000000040000L, 0xe000000000000007L, 0x10000000000000fL, 0x800000000000L, 0x1fc000000000000L, 0x600000000000L, 0x0L, 0x80000000000L, 0xc0000L, 0x1200100000200L, 0x0L, 0x0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x780000L, 0x0L, 0x1e00000000000070L, 0x7000000000000L, 0x200000000000000L, 0x800000000000L, 0x4000000L, 0x0L, 0x80000L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x780000L, 0x0L, 0x1e00000000000070L, 0x7000000000000L, 0x200000000000000L, 0x800000000000L, 0x8000000L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_0(0x800000000000L, 0x3800000L, 0x18L, 0xe000000000000380L, 0xf8000000000000L, 0xc00000000000000L, 0x0L, 0x0L, 0x0L, 0x1000000000000002L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x800000000000L, 0x3800000L, 0x18L, 0xe000000000000380L, 0xf8000000000000L, 0xc00000000000000L, 0x0L, 0x0L, 0x0L, 0x2000000000000004L, 0x0L, 0x0L, 0x0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa1_0(0x3000000000000L, 0x0L, 0x20L, 0xc00L, 0x100000000000001L, 0x1000000000000000L, 0x0L, 0x0L, 0x80000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x3000000000000L, 0x0L, 0x20L, 0xc00L, 0x100000000000001L, 0x1000000000000000L, 0x0L, 0x0L, 0x100000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0x4000000000000L, 0x0L, 0x40L, 0x1000L, 0xe00000000000006L, 0x2000000000000000L, 0x0L, 0x6000000000000000L, 0x0L, 0x2000000000000000L, 0x8000L, 0x40000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x4000000000000L, 0x0L, 0x40L, 0x1000L, 0xe00000000000006L, 0x2000000000000000L, 0x0L, 0xc000000000000000L, 0x0L, 0x4000000000000000L, 0x10000L, 0x80000000000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x2000L, 0x1000000000000000L, 0x0L, 0x0L, 0x8000000000000000L, 0x0L, 0x4L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x2000L, 0x1000000000000000L, 0x0L, 0x0L, 0x0L, 0x1L, 0x8L, 0x0L, 0x0L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000L, 0x180L, 0x1c000L, 0xe0000000000000f8L, 0xc000000000000007L, 0x600000000000fL, 0x78000000L, 0x1L, 0x300000L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000L, 0x180L, 0x1c000L, 0xe0000000000000f8L, 0xc000000000000007L, 0xe00000000000fL, 0xf0000000L, 0x2L, 0x600000L, 0x0L, 0x0L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x38000000L, 0x3fe00L, 0x60000L, 0x7f00L, 0x3ff8L, 0xfff80000001ffff0L, 0xffffff800000ffL, 0xffff000fffffffeL, 0xc0ffffbfffc07ff8L, 0x3ff67ff7fff7e3fL, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x38000000L, 0x3fe00L, 0x60000L, 0x7f00L, 0x3ff8L, 0xfff00000001ffff0L, 0x1ffffff000001ffL, 0x1fffe001fffffffcL, 0x81ffff7fff80fff0L, 0x7fecffefffefc7fL, 0x0L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x8000000000000L, 0x40000000L, 0x3fc0000L, 0x380000L, 0x8000L, 0x1c000L, 0x1e00000L, 0x300000000003f00L, 0x1000000100000000L, 0x0L, 0x80000000000L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x8000000000000L, 0x40000000L, 0x3fc0000L, 0x380000L, 0x8000L, 0x1c000L, 0x1e00000L, 0x600000000007e00L, 0x2000000200000000L, 0x0L, 0x100000000000L, 0x0L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x4000000L, 0x1c00000L, 0x30000L, 0x0L, 0x6000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8000000L, 0x2000000L, 0xc0000L, 0x3e0000L, 0x38000000L, 0x4000L, 0x2000000000000000L, 0x8000L, 0x0L, 0x80000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x8000000L, 0x2000000L, 0xc0000L, 0x3e0000L, 0x38000000L, 0x8000L, 0x4000000000000000L, 0x10000L, 0x0L, 0x100000000000000L, 0x0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xf0000000L, 0x4000000L, 0x100000L, 0x0L, 0x0L, 0x400000000000000L, 0x4000000000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xf0000000L, 0x4000000L, 0x100000L, 0x0L, 0x0L, 0x800000000000000L, 0x8000000000000000L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 88:
       case 120:
          return jjStartNfaWithStates_0(0, 25, 72);
@@ -1578,8 +1578,8 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             return jjStopAtPos(1, 36);
          break;
       case 58:
-         if ((active12 & 0x8000L) != 0L)
-            return jjStopAtPos(1, 783);
+         if ((active12 & 0x10000L) != 0L)
+            return jjStopAtPos(1, 784);
          break;
       case 60:
          if ((active0 & 0x40000000L) != 0L)
@@ -1616,39 +1616,39 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_0(active0, 0xc0000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x100c044080400L, active2, 0x1000000000000L, active3, 0x221000002080000L, active4, 0x200f0004000c000aL, active5, 0x24040000380e0000L, active6, 0x7038000000L, active7, 0x100000000604000L, active8, 0x2000000000000000L, active9, 0x8000L, active10, 0L, active11, 0x80000000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x100c044080400L, active2, 0x1000000000000L, active3, 0x221000002080000L, active4, 0x200f0004000c000aL, active5, 0x24040000380e0000L, active6, 0x7038000000L, active7, 0x200000000c08000L, active8, 0x4000000000000000L, active9, 0x10000L, active10, 0L, active11, 0x100000000000000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_0(active0, 0x2000000000000000L, active1, 0x10000000800L, active2, 0L, active3, 0x8000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000000L, active2, 0L, active3, 0x20080L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x80000000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000000L, active2, 0L, active3, 0x20080L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x100000000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa2_0(active0, 0x4000000000000000L, active1, 0x100000L, active2, 0L, active3, 0x100L, active4, 0xc00000L, active5, 0x400000L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x4000000000000000L, active1, 0x100000L, active2, 0L, active3, 0x100L, active4, 0xc00000L, active5, 0x400000L, active6, 0L, active7, 0x10000L, active8, 0L, active9, 0L, active10, 0x80L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8002020008001000L, active2, 0x20020041100c0080L, active3, 0x100030000100000L, active4, 0xc030827812000770L, active5, 0xca18060040300038L, active6, 0x6108040000037L, active7, 0x64000000fc800100L, active8, 0x10e000000003L, active9, 0x300000L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8002020008001000L, active2, 0x20020041100c0080L, active3, 0x100030000100000L, active4, 0xc030827812000770L, active5, 0xca18060040300038L, active6, 0xe108040000037L, active7, 0xc8000001f9000200L, active8, 0x21c000000006L, active9, 0x600000L, active10, 0L, active11, 0L, active12, 0L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x4000000200000000L, active3, 0L, active4, 0x1L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa2_0(active0, 0x8000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x8000L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x8000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10000L, active11, 0L, active12, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000040L, active2, 0x80020100200L, active3, 0x4000000L, active4, 0L, active5, 0L, active6, 0x400000040L, active7, 0x1000000000000000L, active8, 0L, active9, 0x100000000000000L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000040L, active2, 0x80020100200L, active3, 0x4000000L, active4, 0L, active5, 0L, active6, 0x400000040L, active7, 0x2000000000000000L, active8, 0L, active9, 0x200000000000000L, active10, 0L, active11, 0L, active12, 0L);
       case 73:
       case 105:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_0(1, 50, 77);
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x4000080010202020L, active2, 0x800c000048200421L, active3, 0x400040700004000L, active4, 0x4100000L, active5, 0x380004000L, active6, 0x210100200080L, active7, 0x1070600L, active8, 0x4000000000000000L, active9, 0x20000L, active10, 0x100000000100L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x4000080010202020L, active2, 0x800c000048200421L, active3, 0x400040700004000L, active4, 0x4100000L, active5, 0x380004000L, active6, 0x210100200080L, active7, 0x20e0c00L, active8, 0x8000000000000000L, active9, 0x40000L, active10, 0x200000000200L, active11, 0L, active12, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8100800000001L, active2, 0x130100400000000L, active3, 0x16000000000000L, active4, 0x200000020000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x4000000000L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8100800000001L, active2, 0x130100400000000L, active3, 0x16000000000000L, active4, 0x200000020000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x8000000000L, active10, 0L, active11, 0L, active12, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x200000000000000L, active3, 0L, active4, 0x200000L, active5, 0L, active6, 0x100L, active7, 0x300000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x200000000000000L, active3, 0L, active4, 0x200000L, active5, 0L, active6, 0x100L, active7, 0x600000000L, active8, 0L, active9, 0x10L, active10, 0L, active11, 0L, active12, 0L);
       case 78:
       case 110:
          if ((active0 & 0x100000000000L) != 0L)
@@ -1660,7 +1660,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             return jjStartNfaWithStates_0(1, 46, 77);
          else if ((active0 & 0x1000000000000L) != 0L)
             return jjStartNfaWithStates_0(1, 48, 885);
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x1f00000000024006L, active2, 0x1c00000000000000L, active3, 0x40080000400000L, active4, 0x1c0001010000L, active5, 0x601800000000L, active6, 0x6000000L, active7, 0x402000000L, active8, 0x8000010000000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x1f00000000024006L, active2, 0x1c00000000000000L, active3, 0x40080000400000L, active4, 0x1c0001010000L, active5, 0x601800000000L, active6, 0x6000000L, active7, 0x804000000L, active8, 0x20000000000L, active9, 0x1L, active10, 0L, active11, 0L, active12, 0L);
       case 79:
       case 111:
          if ((active0 & 0x800000000000L) != 0L)
@@ -1673,10 +1673,10 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             jjmatchedKind = 51;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x20c0e01001c50180L, active2, 0x4021808000084aL, active3, 0x1800003800009237L, active4, 0xc8008080L, active5, 0xe011c007018047L, active6, 0xcc0800400008L, active7, 0x800000000180800L, active8, 0x1000040000000000L, active9, 0x24000000000c0000L, active10, 0x800080000000L, active11, 0x40000000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x20c0e01001c50180L, active2, 0x4021808000084aL, active3, 0x1800003800009237L, active4, 0xc8008080L, active5, 0xe011c007018047L, active6, 0xcc0800400008L, active7, 0x1000000000301000L, active8, 0x2000080000000000L, active9, 0x4800000000180000L, active10, 0x1000100000000L, active11, 0x80000000000000L, active12, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x104L, active3, 0x800000L, active4, 0x40000000020000L, active5, 0x80L, active6, 0x1000000000000L, active7, 0x800000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x104L, active3, 0x800000L, active4, 0x40000000020000L, active5, 0x80L, active6, 0x1000000000000L, active7, 0x1000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x1000L, active3, 0x100000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -1684,7 +1684,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
       case 114:
          if ((active0 & 0x2000000000000L) != 0L)
             return jjStartNfaWithStates_0(1, 49, 90);
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x14000000000000L, active2, 0x80400001c02000L, active3, 0x2008004010200000L, active4, 0x400000000000000L, active5, 0x80400000000L, active6, 0x20201800000L, active7, 0x200000000003000L, active8, 0x100000000L, active9, 0L, active10, 0x80000000000L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x14000000000000L, active2, 0x80400001c02000L, active3, 0x2008004010200000L, active4, 0x400000000000000L, active5, 0x80400000000L, active6, 0x20201800000L, active7, 0x400000000006000L, active8, 0x200000000L, active9, 0L, active10, 0x100000000000L, active11, 0L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x80000000000L) != 0L)
@@ -1700,10 +1700,10 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x100000208L, active2, 0x1804000000L, active3, 0x802000e1000000L, active4, 0x600000000000L, active5, 0x3800000800000L, active6, 0x80000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x600000000L, active2, 0x2200003c000L, active3, 0x50008L, active4, 0x3800L, active5, 0xf00L, active6, 0xfff80000001ffe00L, active7, 0xfffff00000007fL, active8, 0xfffe000fffffffcL, active9, 0xc0ffffbfffc03ff0L, active10, 0x3ff67ff7fff7e3fL, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x600000000L, active2, 0x2200003c000L, active3, 0x50008L, active4, 0x3800L, active5, 0xf00L, active6, 0xfff00000001ffe00L, active7, 0x1ffffe0000000ffL, active8, 0x1fffc001fffffff8L, active9, 0x81ffff7fff807fe0L, active10, 0x7fecffefffefc7fL, active11, 0L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x20000022000000L, active2, 0x10L, active3, 0xc000008000002440L, active4, 0x1880000300004004L, active5, 0x3000L, active6, 0L, active7, 0x8000000000000080L, active8, 0x20e00000000L, active9, 0x1a00000000010007L, active10, 0x80L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x20000022000000L, active2, 0x10L, active3, 0xc000008000002440L, active4, 0x1880000300004004L, active5, 0x3000L, active6, 0L, active7, 0x100L, active8, 0x41c00000001L, active9, 0x340000000002000eL, active10, 0x100L, active11, 0L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x10L, active2, 0x800000000000L, active3, 0L, active4, 0x100000000000000L, active5, 0x1100000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -1712,10 +1712,10 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x800L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8000L, active2, 0L, active3, 0xc00000000000L, active4, 0x18000000000L, active5, 0x2000000000L, active6, 0L, active7, 0L, active8, 0x1000000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8000L, active2, 0L, active3, 0xc00000000000L, active4, 0x18000000000L, active5, 0x2000000000L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x2000000000L, active2, 0x40002000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x4000L, active10, 0L, active11, 0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x2000000000L, active2, 0x40002000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x8000L, active10, 0L, active11, 0L, active12, 0L);
       case 124:
          if ((active0 & 0x800000000L) != 0L)
          {
@@ -1775,15 +1775,15 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             return jjStopAtPos(2, 57);
          break;
       case 95:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x3c000L, active3, 0L, active4, 0x8000L, active5, 0x18d00L, active6, 0xfff80000005ffc00L, active7, 0xfffbc00000087fL, active8, 0x1fffe000fffffbfcL, active9, 0xc0ffffbfffc03ff0L, active10, 0x3ff67ff7f7ffe3fL, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x3c000L, active3, 0L, active4, 0x8000L, active5, 0x18d00L, active6, 0xfff00000005ffc00L, active7, 0x1fff780000010ffL, active8, 0x3fffc001fffff7f8L, active9, 0x81ffff7fff807fe0L, active10, 0x7fecffefefffc7fL, active11, 0L);
       case 65:
       case 97:
          if ((active1 & 0x800L) != 0L)
             return jjStartNfaWithStates_0(2, 75, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40200000000L, active2, 0x2280002100400184L, active3, 0x20000L, active4, 0x1200800001000000L, active5, 0x100000002000080L, active6, 0x400800300L, active7, 0x1200003700803000L, active8, 0x100000000L, active9, 0x100000000000008L, active10, 0x80000800000L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40200000000L, active2, 0x2280002100400184L, active3, 0x20000L, active4, 0x1200800001000000L, active5, 0x100000002000080L, active6, 0x400800300L, active7, 0x2400006e01006000L, active8, 0x200000000L, active9, 0x200000000000010L, active10, 0x100001000000L, active11, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x8080000L, active4, 0x800000000004004L, active5, 0x803000L, active6, 0L, active7, 0x100000000000080L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x8080000L, active4, 0x800000000004004L, active5, 0x803000L, active6, 0x2000000000000L, active7, 0x200000000000100L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
          if ((active1 & 0x8L) != 0L)
@@ -1796,7 +1796,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 76;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x800000000L, active3, 0x290000000001L, active4, 0x1001800040100L, active5, 0x20800000000000L, active6, 0x400000000000L, active7, 0L, active8, 0L, active9, 0x40000L, active10, 0x800080000000L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x800000000L, active3, 0x290000000001L, active4, 0x1001800040100L, active5, 0x20800000000000L, active6, 0x400000000000L, active7, 0L, active8, 0L, active9, 0x80000L, active10, 0x1000100000000L, active11, 0L);
       case 68:
       case 100:
          if ((active0 & 0x4000000000000000L) != 0L)
@@ -1816,15 +1816,15 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 86;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000000000L, active2, 0x400000000000028L, active3, 0x1800000000040200L, active4, 0x2000000000c21800L, active5, 0x800400000L, active6, 0L, active7, 0x40004008000L, active8, 0x4000000000000400L, active9, 0L, active10, 0x40L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000000000L, active2, 0x400000000000028L, active3, 0x1800000000040200L, active4, 0x2000000000c21800L, active5, 0x800400000L, active6, 0L, active7, 0x80008010000L, active8, 0x8000000000000800L, active9, 0L, active10, 0x80L, active11, 0L);
       case 69:
       case 101:
          if ((active0 & 0x8000000000000000L) != 0L)
             return jjStartNfaWithStates_0(2, 63, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x100000000000000L, active2, 0x88003c100000L, active3, 0x8004074000000L, active4, 0x500200000000000L, active5, 0x1000080000000000L, active6, 0L, active7, 0x400000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x100000000000000L, active2, 0x88003c100000L, active3, 0x8004074000000L, active4, 0x500200000000000L, active5, 0x1000080000000000L, active6, 0L, active7, 0x800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L, active3, 0L, active4, 0x2000200001L, active5, 0x1000000000000L, active6, 0L, active7, 0x9000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L, active3, 0L, active4, 0x2000200001L, active5, 0x1000000000000L, active6, 0L, active7, 0x12000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x10L) != 0L)
@@ -1834,7 +1834,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 82;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x4000000400L, active3, 0x100004002L, active4, 0x4000004000000000L, active5, 0xc000000000000000L, active6, 0x6000100000003L, active7, 0xb0010000L, active8, 0L, active9, 0x300000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x4000000400L, active3, 0x100004002L, active4, 0x4000004000000000L, active5, 0xc000000000000000L, active6, 0xc000100000003L, active7, 0x160020000L, active8, 0L, active9, 0x600000L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x80L, active4, 0x40000000000L, active5, 0x200000000000L, active6, 0x80000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -1848,7 +1848,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
       case 108:
          if ((active1 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(2, 64, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x4020000000000000L, active2, 0x1000000000010L, active3, 0x4000020802000040L, active4, 0x40000200L, active5, 0L, active6, 0x8002000008L, active7, 0x800000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x80000000000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x4020000000000000L, active2, 0x1000000000010L, active3, 0x4000020802000040L, active4, 0x40000200L, active5, 0L, active6, 0x8002000008L, active7, 0x1000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x100000000000000L);
       case 77:
       case 109:
          if ((active1 & 0x2000000L) != 0L)
@@ -1858,7 +1858,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
          }
          else if ((active1 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(2, 93, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x8000000000240800L, active3, 0x8001001000100000L, active4, 0x80000000000000L, active5, 0x200000000000000L, active6, 0x10000000080L, active7, 0x700L, active8, 0x1L, active9, 0x1000000000004002L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x8000000000240800L, active3, 0x8001001000100000L, active4, 0x80000000000000L, active5, 0x200000000000000L, active6, 0x10000000080L, active7, 0xe00L, active8, 0x2L, active9, 0x2000000000008004L, active10, 0L, active11, 0L);
       case 78:
       case 110:
          if ((active1 & 0x200000L) != 0L)
@@ -1870,10 +1870,10 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(2, 92, 77);
          else if ((active1 & 0x40000000L) != 0L)
             return jjStartNfaWithStates_0(2, 94, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x400000000L, active2, 0x800000000000002L, active3, 0x700002200000830L, active4, 0x80000018L, active5, 0xd8000004004000L, active6, 0xa00000200000L, active7, 0x80000L, active8, 0x40000000000L, active9, 0xa0000L, active10, 0x100000000100L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x400000000L, active2, 0x800000000000002L, active3, 0x700002200000830L, active4, 0x80000018L, active5, 0xd8000004004000L, active6, 0xa00000200000L, active7, 0x100000L, active8, 0x80000000000L, active9, 0x140000L, active10, 0x200000000200L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x14100880000000L, active2, 0x30500000000200L, active3, 0x16000000002000L, active4, 0x40000008000000L, active5, 0x20401000200L, active6, 0x120200000000L, active7, 0x8000000000000000L, active8, 0xe000000000L, active9, 0x4000000004L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x14100880000000L, active2, 0x30500000000200L, active3, 0x16000000002000L, active4, 0x40000008000000L, active5, 0x20401000200L, active6, 0x120200000000L, active7, 0L, active8, 0x1c000000001L, active9, 0x8000000008L, active10, 0L, active11, 0L);
       case 80:
       case 112:
          if ((active1 & 0x8000L) != 0L)
@@ -1881,7 +1881,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 79;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x200000000000L, active2, 0x2000000L, active3, 0x800000L, active4, 0x8002008000000020L, active5, 0L, active6, 0L, active7, 0x40000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x200000000000L, active2, 0x2000000L, active3, 0x800000L, active4, 0x8002008000000020L, active5, 0L, active6, 0L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
          if ((active1 & 0x40L) != 0L)
@@ -1891,7 +1891,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 80;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x410000000000L, active2, 0x44020080001040L, active3, 0x80048000010008L, active4, 0x300082402L, active5, 0x1c0003e0000L, active6, 0xc0078000000L, active7, 0x6000000000004000L, active8, 0x2000100e00000000L, active9, 0x600000000018000L, active10, 0x80L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x410000000000L, active2, 0x44020080001040L, active3, 0x80048000010008L, active4, 0x300082402L, active5, 0x1c0003e0000L, active6, 0xc0078000000L, active7, 0xc000000000008000L, active8, 0x4000201c00000000L, active9, 0xc00000000030000L, active10, 0x100L, active11, 0L);
       case 83:
       case 115:
          if ((active0 & 0x2000000000000000L) != 0L)
@@ -1901,7 +1901,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 71;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x4a80c000000000L, active2, 0x1000000000000000L, active3, 0x40000000000000L, active4, 0x4000000000000L, active5, 0x20061003c0000000L, active6, 0x4000004L, active7, 0L, active8, 0x20000000000L, active9, 0x2800000000000001L, active10, 0L, active11, 0x40000000000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x4a80c000000000L, active2, 0x1000000000000000L, active3, 0x40000000000000L, active4, 0x4000000000000L, active5, 0x20061003c0000000L, active6, 0x4000004L, active7, 0L, active8, 0x40000000000L, active9, 0x5000000000000002L, active10, 0L, active11, 0x80000000000000L);
       case 84:
       case 116:
          if ((active1 & 0x20L) != 0L)
@@ -1923,7 +1923,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 91;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1e01003000000000L, active2, 0x2040640000000L, active3, 0x800480000400L, active4, 0x38130006100080L, active5, 0x40044203800003fL, active6, 0x1000000030L, active7, 0x2260000L, active8, 0x8000091000000002L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1e01003000000000L, active2, 0x2040640000000L, active3, 0x800480000400L, active4, 0x38130006100080L, active5, 0x40044203800003fL, active6, 0x1000000030L, active7, 0x44c0000L, active8, 0x122000000004L, active9, 0x1L, active10, 0L, active11, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000000000000L, active2, 0x200001000000L, active3, 0x100000208000L, active4, 0x20000000L, active5, 0x40L, active6, 0x1000001000040L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -1933,7 +1933,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(2, 73, 77);
          else if ((active1 & 0x2000L) != 0L)
             return jjStartNfaWithStates_0(2, 77, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x20000000000000L, active4, 0x400000000040L, active5, 0x1000000000L, active6, 0x800000000L, active7, 0x100000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x20000000000000L, active4, 0x400000000040L, active5, 0x1000000000L, active6, 0x800000000L, active7, 0x200000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 87:
       case 119:
          if ((active1 & 0x1000000L) != 0L)
@@ -1945,7 +1945,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
       case 120:
          if ((active1 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(2, 83, 77);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x8018000080000L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0x800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x8018000080000L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active1 & 0x4L) != 0L)
@@ -1955,7 +1955,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 74;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000L, active5, 0L, active6, 0x6000000000L, active7, 0x400000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000L, active5, 0L, active6, 0x6000000000L, active7, 0x800000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 124:
          if ((active0 & 0x20000000000000L) != 0L)
             return jjStopAtPos(2, 53);
@@ -1989,7 +1989,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 121, 77);
          return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 51:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x10000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x10000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 52:
          if ((active1 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 122, 77);
@@ -1999,17 +1999,17 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 123, 77);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x400000000L, active4, 0x20004000000L, active5, 0x200040000040008L, active6, 0x20000010L, active7, 0x28000L, active8, 0x2L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x400000000L, active4, 0x20004000000L, active5, 0x200040000040008L, active6, 0x20000010L, active7, 0x50000L, active8, 0x4L, active9, 0L, active10, 0L, active11, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x10000000000000L, active3, 0x6304210000081L, active4, 0x1402000020090L, active5, 0x20080008000107L, active6, 0xf8400a00401c00L, active7, 0x4000100000L, active8, 0x60000000000cL, active9, 0x40010L, active10, 0x800080000000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x10000000000000L, active3, 0x6304210000081L, active4, 0x1402000020090L, active5, 0x20080008000107L, active6, 0x1f2400a00401c00L, active7, 0x8000200000L, active8, 0xc00000000018L, active9, 0x80020L, active10, 0x1000100000000L, active11, 0L);
       case 66:
       case 98:
          if ((active1 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(3, 99, 77);
          else if ((active1 & 0x100000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 108, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x8010000000000000L, active4, 0x80000L, active5, 0x100000L, active6, 0x10100000000e000L, active7, 0x4000L, active8, 0x800000000010L, active9, 0L, active10, 0x10200L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x8010000000000000L, active4, 0x80000L, active5, 0x100000L, active6, 0x20100000000e000L, active7, 0x8000L, active8, 0x1000000000020L, active9, 0L, active10, 0x20400L, active11, 0L);
       case 67:
       case 99:
          if ((active1 & 0x2000000000000L) != 0L)
@@ -2017,7 +2017,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 113;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x42080000000000L, active3, 0x2000000000L, active4, 0x202000000000000L, active5, 0x400001c040028000L, active6, 0x2000c0008000000L, active7, 0x38000000000L, active8, 0x10000000001e0L, active9, 0x40001c000c00020L, active10, 0x101008000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x42080000000000L, active3, 0x2000000000L, active4, 0x202000000000000L, active5, 0x400001c040028000L, active6, 0x4000c0008000000L, active7, 0x70000000000L, active8, 0x20000000003c0L, active9, 0x800038001800040L, active10, 0x202010000L, active11, 0L);
       case 68:
       case 100:
          if ((active2 & 0x4L) != 0L)
@@ -2026,7 +2026,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 136, 77);
          else if ((active2 & 0x2000L) != 0L)
             return jjStartNfaWithStates_0(3, 141, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0x800100400808L, active5, 0x11000L, active6, 0L, active7, 0xc0000000000L, active8, 0x2000000001e00L, active9, 0x20000004040L, active10, 0x200020000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0x800100400808L, active5, 0x11000L, active6, 0L, active7, 0x180000000000L, active8, 0x4000000003c00L, active9, 0x40000008080L, active10, 0x400040000L, active11, 0L);
       case 69:
       case 101:
          if ((active1 & 0x2000000000L) != 0L)
@@ -2061,10 +2061,10 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 152, 77);
          else if ((active2 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(3, 153, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0xc08040600000000L, active3, 0x48860080801e14L, active4, 0x80140000000222L, active5, 0x603030000000L, active6, 0xc00211080000000L, active7, 0xa200600L, active8, 0x800009100000e000L, active9, 0x40000120000L, active10, 0x100000000100L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0xc08040600000000L, active3, 0x48860080801e14L, active4, 0x80140000000222L, active5, 0x603030000000L, active6, 0x1800211080000000L, active7, 0x14400c00L, active8, 0x12200001c000L, active9, 0x80000240001L, active10, 0x200000000200L, active11, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1000000000000000L, active7, 0x1000000L, active8, 0xc0000000f0000L, active9, 0x1000000L, active10, 0x2000000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x2000000000000000L, active7, 0x2000000L, active8, 0x180000001e0000L, active9, 0x2000000L, active10, 0x4000000L, active11, 0L);
       case 71:
       case 103:
          if ((active2 & 0x2L) != 0L)
@@ -2072,7 +2072,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 129;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x200000000000000L, active3, 0x100000000000000L, active4, 0L, active5, 0xd8000000000000L, active6, 0L, active7, 0x100000000000L, active8, 0x10040000300000L, active9, 0xf8001e000002L, active10, 0x404040040L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x200000000000000L, active3, 0x100000000000000L, active4, 0L, active5, 0xd8000000000000L, active6, 0L, active7, 0x200000000000L, active8, 0x20080000600000L, active9, 0x1f0003c000004L, active10, 0x808080080L, active11, 0L);
       case 72:
       case 104:
          if ((active1 & 0x1000000000L) != 0L)
@@ -2084,10 +2084,10 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 158;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x4000L, active4, 0x108000L, active5, 0L, active6, 0x6000000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x800000000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x4000L, active4, 0x108000L, active5, 0L, active6, 0xc000000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1000000000L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x8000024800000000L, active3, 0x8a1000100050008L, active4, 0x2040000800000400L, active5, 0x403000000800000L, active6, 0x8000008016800000L, active7, 0x6000600804010000L, active8, 0x2000100000c00000L, active9, 0xd001000000008080L, active10, 0L, active11, 0x40000000000000L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x8000024800000000L, active3, 0x8a1000100050008L, active4, 0x2040000800000400L, active5, 0x403000000800000L, active6, 0x8016800000L, active7, 0xc000c01008020001L, active8, 0x4000200001800000L, active9, 0xa002000000010100L, active10, 0x1L, active11, 0x80000000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -2100,7 +2100,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active2 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(3, 159, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x100000000000000L, active3, 0L, active4, 0x4000000000000L, active5, 0L, active6, 0L, active7, 0x400000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x100000000000000L, active3, 0L, active4, 0x4000000000000L, active5, 0L, active6, 0L, active7, 0x800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 76:
       case 108:
          if ((active1 & 0x20000000000L) != 0L)
@@ -2119,7 +2119,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active2 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(3, 135, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x4000000000000000L, active3, 0x40000000000a0000L, active4, 0x8800009059200004L, active5, 0x800003000000L, active6, 0x108L, active7, 0x100000340800001L, active8, 0x20000003000000L, active9, 0x20000e0000008L, active10, 0xe902f000080400L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x4000000000000000L, active3, 0x40000000000a0000L, active4, 0x8800009059200004L, active5, 0x800003000000L, active6, 0x108L, active7, 0x200000681000002L, active8, 0x40000006000000L, active9, 0x40001c0000010L, active10, 0x1d205e000100800L, active11, 0L);
       case 77:
       case 109:
          if ((active1 & 0x10000000000000L) != 0L)
@@ -2131,7 +2131,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active2 & 0x800000L) != 0L)
             return jjStartNfaWithStates_0(3, 151, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x1000000000L, active3, 0x1000000100L, active4, 0x10200000000000L, active5, 0x20000000000L, active6, 0x100000010000L, active7, 0x80000000L, active8, 0x4000e004000000L, active9, 0x1c000300000300L, active10, 0x112050018000807L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x1000000000L, active3, 0x1000000100L, active4, 0x10200000000000L, active5, 0x20000000000L, active6, 0x100000010000L, active7, 0x100000000L, active8, 0x8001c008000000L, active9, 0x38000600000600L, active10, 0x2240a003000100eL, active11, 0L);
       case 78:
       case 110:
          if ((active1 & 0x100000000L) != 0L)
@@ -2154,12 +2154,12 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active2 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(3, 157, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x80202000000000L, active3, 0x2000000001208000L, active4, 0x400000000L, active5, 0x40L, active6, 0x1020200L, active7, 0x200800000003802L, active8, 0x80000100000000L, active9, 0L, active10, 0x80020100008L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x80202000000000L, active3, 0x2000000001208000L, active4, 0x400000000L, active5, 0x40L, active6, 0x1020200L, active7, 0x401000000007004L, active8, 0x100000200000000L, active9, 0L, active10, 0x100040200010L, active11, 0L);
       case 79:
       case 111:
          if ((active1 & 0x1000000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 124, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x20000000000000L, active3, 0x90000400000L, active4, 0x1140L, active5, 0L, active6, 0x6040000004L, active7, 0x400000L, active8, 0x8000001L, active9, 0L, active10, 0x1000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x20000000000000L, active3, 0x90000400000L, active4, 0x1140L, active5, 0L, active6, 0x6040000004L, active7, 0x800000L, active8, 0x10000002L, active9, 0L, active10, 0x2000L, active11, 0L);
       case 80:
       case 112:
          if ((active1 & 0x4000000000000L) != 0L)
@@ -2172,7 +2172,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 146;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x100000L, active4, 0x400000000002000L, active5, 0xc00000000L, active6, 0x200000400a0L, active7, 0x1000400000104L, active8, 0x100000000000000L, active9, 0x60001c00000000L, active10, 0x4200040206010L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x100000L, active4, 0x400000000002000L, active5, 0xc00000000L, active6, 0x200000400a0L, active7, 0x2000800000208L, active8, 0x200000000000000L, active9, 0xc0003800000000L, active10, 0x840008040c020L, active11, 0L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0x10000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -2193,14 +2193,14 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 154, 77);
          else if ((active2 & 0x100000000L) != 0L)
             return jjStartNfaWithStates_0(3, 160, 887);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x800000000000L, active3, 0xc000000L, active4, 0x5100014000000000L, active5, 0x9100000000000200L, active6, 0x6000400000003L, active7, 0x101e001030000018L, active8, 0xe00000000L, active9, 0x300002000210000L, active10, 0x80L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x800000000000L, active3, 0xc000000L, active4, 0x5100014000000000L, active5, 0x9100000000000200L, active6, 0xc000400000003L, active7, 0x203c002060000030L, active8, 0x1c00000000L, active9, 0x600004000420000L, active10, 0x100L, active11, 0L);
       case 83:
       case 115:
          if ((active1 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(3, 95, 77);
          else if ((active2 & 0x20L) != 0L)
             return jjStartNfaWithStates_0(3, 133, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x2005500000000000L, active3, 0x408000000000L, active4, 0x20004001L, active5, 0x2000000000200430L, active6, 0x100080000L, active7, 0x60000000080080L, active8, 0x200000030000000L, active9, 0x80000000001c00L, active10, 0x200400000400020L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x2005500000000000L, active3, 0x408000000000L, active4, 0x20004001L, active5, 0x2000000000200430L, active6, 0x100080000L, active7, 0xc0000000100100L, active8, 0x400000060000000L, active9, 0x100000000003800L, active10, 0x400800000800040L, active11, 0L);
       case 84:
       case 116:
          if ((active1 & 0x8000000000L) != 0L)
@@ -2222,20 +2222,20 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 140, 77);
          else if ((active2 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(3, 147, 888);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x1000000000000000L, active3, 0x2060L, active4, 0x80200800000L, active5, 0x804100304002880L, active6, 0x800000000040L, active7, 0x8080002000000000L, active8, 0x5c00020000000000L, active9, 0x2800000000082005L, active10, 0x800000L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0x1000000000000000L, active3, 0x2060L, active4, 0x80200800000L, active5, 0x804100304002880L, active6, 0x800000000040L, active7, 0x100004000000000L, active8, 0xb800040000000001L, active9, 0x500000000010400aL, active10, 0x1000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x1600000802000000L, active4, 0x8000000040000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x80000000000000L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x1600000802000000L, active4, 0x8000000040000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x100000000000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0x80000000L, active5, 0L, active6, 0L, active7, 0x40000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0x80000000L, active5, 0L, active6, 0L, active7, 0x80000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 87:
       case 119:
          if ((active2 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(3, 137, 894);
          else if ((active2 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(3, 155, 77);
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x60000000L, active4, 0x20000002000000L, active5, 0L, active6, 0x100000L, active7, 0x20L, active8, 0xc0000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0x60000000L, active4, 0x20000002000000L, active5, 0L, active6, 0x100000L, active7, 0x40L, active8, 0x180000000L, active9, 0L, active10, 0L, active11, 0L);
       case 88:
       case 120:
          if ((active2 & 0x8000L) != 0L)
@@ -2255,7 +2255,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 145;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa4_0(active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x80L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       default :
          break;
    }
@@ -2273,7 +2273,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
    switch(curChar)
    {
       case 32:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x40000000000000L, active6, 0x20000000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x40000000000000L, active6, 0x20000000000L, active7, 0L, active8, 0x80000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 46:
          if ((active3 & 0x100000L) != 0L)
             return jjStopAtPos(4, 212);
@@ -2287,12 +2287,12 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 165, 77);
          return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x10000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 95:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x4000000008000000L, active5, 0x8804000001000000L, active6, 0x6001000000003L, active7, 0x1000000030200000L, active8, 0L, active9, 0x220000L, active10, 0x100000000100L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x4000000008000000L, active5, 0x8804000001000000L, active6, 0xc001000000003L, active7, 0x2000000060400000L, active8, 0L, active9, 0x440000L, active10, 0x200000000200L, active11, 0L);
       case 65:
       case 97:
          if ((active2 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 170, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x210002000000000L, active4, 0xa410019504600420L, active5, 0x104011200L, active6, 0x3000000410000000L, active7, 0x40000L, active8, 0x2040100000000200L, active9, 0x104000300008100L, active10, 0x800000000L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x210002000000000L, active4, 0xa410019504600420L, active5, 0x104011200L, active6, 0x6000000410000000L, active7, 0x80000L, active8, 0x4080200000000400L, active9, 0x208000600010200L, active10, 0x1000000000L, active11, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x20000000000L, active5, 0x40408000008L, active6, 0x18L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -2317,7 +2317,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 179, 77);
          else if ((active3 & 0x8000L) != 0L)
             return jjStartNfaWithStates_0(4, 207, 900);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x90000000000L, active4, 0x1000000000000L, active5, 0x10000040L, active6, 0x200020240L, active7, 0x800000000000000L, active8, 0x4L, active9, 0x10L, active10, 0x10200L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x90000000000L, active4, 0x1000000000000L, active5, 0x10000040L, active6, 0x200020240L, active7, 0x1000000000000000L, active8, 0x8L, active9, 0x20L, active10, 0x20400L, active11, 0L);
       case 69:
       case 101:
          if ((active2 & 0x100000000000L) != 0L)
@@ -2352,15 +2352,15 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
          }
          else if ((active3 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_0(4, 218, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8000000008000000L, active4, 0x40c2008801L, active5, 0x3c002000810L, active6, 0x40001c0100000000L, active7, 0x8122140081000009L, active8, 0x310002e17100420L, active9, 0x600f82c1e010606L, active10, 0x34048c00c0L, active11, 0x80000000000000L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8000000008000000L, active4, 0x40c2008801L, active5, 0x3c002000810L, active6, 0x80001c0100000000L, active7, 0x244280102000012L, active8, 0x620005c2e200841L, active9, 0xc01f0583c020c0cL, active10, 0x6809180180L, active11, 0x100000000000000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x800000000000000L, active4, 0L, active5, 0L, active6, 0x8006040000000L, active7, 0x400000L, active8, 0xc000000000L, active9, 0x20000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x800000000000000L, active4, 0L, active5, 0L, active6, 0x10006040000000L, active7, 0x800000L, active8, 0x18000000000L, active9, 0x40000000000L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active3 & 0x1000000L) != 0L)
             return jjStartNfaWithStates_0(4, 216, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x2000000000000000L, active4, 0x100000000000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0L, active9, 0x2000000000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x2000000000000000L, active4, 0x100000000000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0L, active9, 0x4000000000000000L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active2 & 0x2000000000000L) != 0L)
@@ -2370,19 +2370,19 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             jjmatchedKind = 197;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x2000000000000L, active5, 0x28000L, active6, 0x800008000000L, active7, 0x8000000000L, active8, 0x4000000000000040L, active9, 0x80000000080000L, active10, 0x400000L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x2000000000000L, active5, 0x28000L, active6, 0x800008000000L, active7, 0x10000000000L, active8, 0x8000000000000080L, active9, 0x100000000100000L, active10, 0x800000L, active11, 0L);
       case 73:
       case 105:
          if ((active2 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(4, 163, 77);
          else if ((active3 & 0x40L) != 0L)
             return jjStartNfaWithStates_0(4, 198, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x4000001000000000L, active4, 0xa00800210980004L, active5, 0x200286080L, active6, 0x100000L, active7, 0x2040004020L, active8, 0x1022020020001800L, active9, 0x802000061004041L, active10, 0x23802c200020400L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x4000001000000000L, active4, 0xa00800210980004L, active5, 0x200286080L, active6, 0x100000L, active7, 0x4080008040L, active8, 0x2044040040003000L, active9, 0x10040000c2008082L, active10, 0x470058400040800L, active11, 0L);
       case 75:
       case 107:
          if ((active2 & 0x80000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 171, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x60000000L, active4, 0x40L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc0000000L, active9, 0x4000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x60000000L, active4, 0x40L, active5, 0L, active6, 0L, active7, 0L, active8, 0x180000000L, active9, 0x8000000000L, active10, 0L, active11, 0L);
       case 76:
       case 108:
          if ((active2 & 0x1000000000L) != 0L)
@@ -2394,7 +2394,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             jjmatchedKind = 192;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x1001100000000000L, active4, 0x104400000000000L, active5, 0x5000001000000000L, active6, 0x1400000800180L, active7, 0x300820000L, active8, 0L, active9, 0x8008000040008L, active10, 0x8001L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x1001100000000000L, active4, 0x104400000000000L, active5, 0x5000001000000000L, active6, 0x3400000800180L, active7, 0x601040000L, active8, 0L, active9, 0x10010000080010L, active10, 0x10002L, active11, 0L);
       case 77:
       case 109:
          if ((active2 & 0x20000000000L) != 0L)
@@ -2403,7 +2403,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 195, 77);
          else if ((active3 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(4, 208, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x800000000L, active4, 0x800000010L, active5, 0x2100000000000L, active6, 0x208000000000L, active7, 0x6000000000008040L, active8, 0x200002L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x800000000L, active4, 0x800000010L, active5, 0x2100000000000L, active6, 0x208000000000L, active7, 0xc000000000010080L, active8, 0x400004L, active9, 0L, active10, 0L, active11, 0L);
       case 78:
       case 110:
          if ((active2 & 0x4000000000L) != 0L)
@@ -2412,16 +2412,16 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 210, 77);
          else if ((active3 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(4, 214, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0xa0800100000000L, active4, 0x40000000000102L, active5, 0x1002000c00000L, active6, 0x10000000000L, active7, 0x10000L, active8, 0x6000L, active9, 0x5001000000000880L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0xa0800100000000L, active4, 0x40000000000102L, active5, 0x1002000c00000L, active6, 0x10000000000L, active7, 0x20000L, active8, 0xc000L, active9, 0xa002000000001100L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8400000000L, active4, 0x20000000002008L, active5, 0x400800880100000L, active6, 0x200000000046020L, active7, 0x49d010000000314L, active8, 0xd0000000f0190L, active9, 0x60011080400020L, active10, 0xc5200143206010L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8400000000L, active4, 0x20000000002008L, active5, 0x400800880100000L, active6, 0x400000000046020L, active7, 0x93a020000000628L, active8, 0x1a0000001e0320L, active9, 0xc0022100800040L, active10, 0x18a40028640c020L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x200000000000L, active4, 0x200000000000L, active5, 0x40000L, active6, 0L, active7, 0x800000000000L, active8, 0L, active9, 0x10000000000000L, active10, 0x806L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x200000000000L, active4, 0x200000000000L, active5, 0x40000L, active6, 0L, active7, 0x1000000000000L, active8, 0L, active9, 0x20000000000000L, active10, 0x100cL, active11, 0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x800000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
          if ((active2 & 0x200000000L) != 0L)
@@ -2446,7 +2446,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 204, 77);
          else if ((active3 & 0x800000L) != 0L)
             return jjStartNfaWithStates_0(4, 215, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x40000200000000L, active4, 0x88040000000000L, active5, 0x600040000520L, active6, 0x10000800000000L, active7, 0x2000a100002L, active8, 0x8c00011000000000L, active9, 0x2000L, active10, 0x1000L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x40000200000000L, active4, 0x88040000000000L, active5, 0x600040000520L, active6, 0x20000800000000L, active7, 0x40014200004L, active8, 0x1800022000000000L, active9, 0x4001L, active10, 0x2000L, active11, 0L);
       case 83:
       case 115:
          if ((active2 & 0x400000000000L) != 0L)
@@ -2455,7 +2455,7 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 200, 77);
          else if ((active3 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(4, 201, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0x80e0000022401c00L, active7, 0x200600000003400L, active8, 0x600100c00008L, active9, 0x8000000000000000L, active10, 0x80000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0x1c0000022401c00L, active7, 0x400c00000006801L, active8, 0xc00201800010L, active9, 0L, active10, 0x100000000001L, active11, 0L);
       case 84:
       case 116:
          if ((active2 & 0x200000000000L) != 0L)
@@ -2475,31 +2475,31 @@ private final int jjMoveStringLiteralDfa4_0(long old1, long active1, long old2,
             return jjStartNfaWithStates_0(4, 191, 77);
          else if ((active3 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(4, 206, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x506424000000000L, active4, 0x1000000020024080L, active5, 0xb8080020000007L, active6, 0x200000L, active7, 0x1c00080080L, active8, 0x80000000000L, active9, 0x1000L, active10, 0x800080000000L, active11, 0x40000000000000L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x506424000000000L, active4, 0x1000000020024080L, active5, 0xb8080020000007L, active6, 0x200000L, active7, 0x3800100100L, active8, 0x100000000000L, active9, 0x2000L, active10, 0x1000100000000L, active11, 0x80000000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x2000051000L, active5, 0L, active6, 0x100000000010004L, active7, 0x40000004000800L, active8, 0x80800000000000L, active9, 0x800000L, active10, 0x102050038100008L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x2000051000L, active5, 0L, active6, 0x200000000010004L, active7, 0x80000008001000L, active8, 0x101000000000000L, active9, 0x1000000L, active10, 0x2040a0070200010L, active11, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000001L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x10000002L, active9, 0L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x2000000000000000L, active6, 0L, active7, 0x80000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0L, active5, 0x2000000000000000L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 88:
       case 120:
          if ((active2 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 186, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x800000080000000L, active7, 0L, active8, 0x8000L, active9, 0x40000100000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x1000000080000000L, active7, 0L, active8, 0x10000L, active9, 0x80000200000L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active2 & 0x800000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 175, 77);
          else if ((active3 & 0x10L) != 0L)
             return jjStartNfaWithStates_0(4, 196, 77);
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x1000000L, active5, 0L, active6, 0x8000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x400000000020L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0L, active4, 0x1000000L, active5, 0L, active6, 0x8000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x800000000040L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa5_0(active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       default :
          break;
    }
@@ -2525,15 +2525,15 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             return jjStartNfaWithStates_0(5, 242, 77);
          break;
       case 95:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x1c000000000L, active6, 0xc0800000000L, active7, 0x8000000800100000L, active8, 0x4000080000000000L, active9, 0x400004000000004L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x1c000000000L, active6, 0xc0800000000L, active7, 0x1000200000L, active8, 0x8000100000000001L, active9, 0x800008000000008L, active10, 0L, active11, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x10a080800000000L, active5, 0x5000100009828080L, active6, 0x6000029080208L, active7, 0L, active8, 0xc00000100000002L, active9, 0x3800L, active10, 0x80000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x10a080800000000L, active5, 0x5000100009828080L, active6, 0xe000029080208L, active7, 0L, active8, 0x1800000200000004L, active9, 0x7000L, active10, 0x100000000000L, active11, 0L);
       case 66:
       case 98:
          if ((active3 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(5, 221, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x400000000L, active6, 0L, active7, 0L, active8, 0x40000008L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x400000000L, active6, 0L, active7, 0L, active8, 0x80000010L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
          if ((active4 & 0x4L) != 0L)
@@ -2541,14 +2541,14 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             jjmatchedKind = 258;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x8800010040000000L, active5, 0L, active6, 0x1000000600400000L, active7, 0x50000000L, active8, 0x400000L, active9, 0x100000000000000L, active10, 0xc1000000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x8800010040000000L, active5, 0L, active6, 0x2000000600400000L, active7, 0xa0000000L, active8, 0x800000L, active9, 0x200000000000000L, active10, 0x182000000000000L, active11, 0L);
       case 68:
       case 100:
          if ((active3 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(5, 220, 77);
          else if ((active4 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(5, 264, 905);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1000000000000L, active5, 0x804000000000000L, active6, 0x100000L, active7, 0L, active8, 0x2004L, active9, 0x18L, active10, 0x1000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1000000000000L, active5, 0x804000000000000L, active6, 0x100000L, active7, 0L, active8, 0x4008L, active9, 0x30L, active10, 0x2000L, active11, 0L);
       case 69:
       case 101:
          if ((active3 & 0x4000000000L) != 0L)
@@ -2580,12 +2580,12 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             return jjStartNfaWithStates_0(5, 272, 77);
          else if ((active4 & 0x20000L) != 0L)
             return jjStartNfaWithStates_0(5, 273, 903);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1004104022000000L, active5, 0x80080000000157L, active6, 0x70200080200000L, active7, 0x6800200008020000L, active8, 0x8000001L, active9, 0L, active10, 0x800080000000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1004104022000000L, active5, 0x80080000000157L, active6, 0xe0200080200000L, active7, 0xd000400010040000L, active8, 0x10000002L, active9, 0L, active10, 0x1000100000000L, active11, 0L);
       case 70:
       case 102:
          if ((active3 & 0x4000000000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 254, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x108000000000000L, active7, 0x400000100001240L, active8, 0x20000000000L, active9, 0x800000000004041L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x210000000000000L, active7, 0x800000200002480L, active8, 0x40000000000L, active9, 0x1000000000008082L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active3 & 0x20000000000000L) != 0L)
@@ -2594,7 +2594,7 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             return jjStartNfaWithStates_0(5, 247, 77);
          else if ((active4 & 0x200000L) != 0L)
             return jjStartNfaWithStates_0(5, 277, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x200L, active6, 0x400L, active7, 0L, active8, 0x200000000000L, active9, 0x400L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x200L, active6, 0x400L, active7, 0L, active8, 0x400000000000L, active9, 0x800L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active3 & 0x100000000000000L) != 0L)
@@ -2602,13 +2602,13 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             jjmatchedKind = 248;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x118000000000000L, active6, 0L, active7, 0L, active8, 0x400000000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x118000000000000L, active6, 0L, active7, 0L, active8, 0x800000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x80468000000000L, active5, 0x2212008f4000428L, active6, 0x40010080408601a0L, active7, 0x8c000000006L, active8, 0x8000801000000040L, active9, 0x2028000000200000L, active10, 0x30000040a011L, active11, 0x40000000000000L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x80468000000000L, active5, 0x2212008f4000428L, active6, 0x80010080408601a0L, active7, 0x11800000000cL, active8, 0x1002000000080L, active9, 0x4050000000400001L, active10, 0x600000814022L, active11, 0x80000000000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x800L, active7, 0L, active8, 0x40000000000000L, active9, 0x4000100000100L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x800L, active7, 0L, active8, 0x80000000000000L, active9, 0x8000200000200L, active10, 0L, active11, 0L);
       case 76:
       case 108:
          if ((active3 & 0x10000000000000L) != 0L)
@@ -2620,27 +2620,27 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             jjmatchedKind = 266;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x2000000000L, active5, 0L, active6, 0x10000L, active7, 0x1001010000002008L, active8, 0x100000200000L, active9, 0x40001000000000L, active10, 0x102050118204100L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x2000000000L, active5, 0L, active6, 0x10000L, active7, 0x2002020000004010L, active8, 0x200000400000L, active9, 0x80002000000000L, active10, 0x2040a0230408200L, active11, 0L);
       case 77:
       case 109:
          if ((active4 & 0x8L) != 0L)
             return jjStartNfaWithStates_0(5, 259, 77);
          else if ((active4 & 0x40000L) != 0L)
             return jjStartNfaWithStates_0(5, 274, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x600800000L, active5, 0x2000L, active6, 0L, active7, 0x40000204400800L, active8, 0x1082000024000000L, active9, 0x12000400200L, active10, 0x200400020910028L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x600800000L, active5, 0x2000L, active6, 0L, active7, 0x80000408801000L, active8, 0x2104000048000000L, active9, 0x24000800400L, active10, 0x400800041220050L, active11, 0L);
       case 78:
       case 110:
          if ((active3 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(5, 227, 77);
          else if ((active4 & 0x100000L) != 0L)
             return jjStartNfaWithStates_0(5, 276, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x2200800014000000L, active5, 0x400000300084000L, active6, 0x820014000000L, active7, 0x80004001L, active8, 0x2020000e030000a0L, active9, 0x2020000e1018020L, active10, 0x3802f001080480L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x2200800014000000L, active5, 0x400000300084000L, active6, 0x820014000000L, active7, 0x100008002L, active8, 0x4040001c06000140L, active9, 0x4040001c2030040L, active10, 0x7005e002100900L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x8000000L, active5, 0x2000001000640000L, active6, 0x40L, active7, 0x920400808000L, active8, 0x10000000100100L, active9, 0x90f8801e000002L, active10, 0x404040846L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x8000000L, active5, 0x2000001000640000L, active6, 0x40L, active7, 0x1240801010000L, active8, 0x20000000200200L, active9, 0x121f1003c000004L, active10, 0x80808108cL, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x2000000000000L, active6, 0x1000000000L, active7, 0x1000000000L, active8, 0L, active9, 0x100000L, active10, 0x200L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x2000000000000L, active6, 0x1000000000L, active7, 0x2000000000L, active8, 0L, active9, 0x200000L, active10, 0x400L, active11, 0L);
       case 82:
       case 114:
          if ((active3 & 0x400000000L) != 0L)
@@ -2654,7 +2654,7 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             jjmatchedKind = 270;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x4420001080000000L, active5, 0x40000000000000L, active6, 0x8000000100000004L, active7, 0x10c0180L, active8, 0x10c00c0000f0000L, active9, 0xc00800000L, active10, 0x2000000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x4420001080000000L, active5, 0x40000000000000L, active6, 0x100000004L, active7, 0x2180301L, active8, 0x2180180001e0000L, active9, 0x1801000000L, active10, 0x4000000L, active11, 0L);
       case 83:
       case 115:
          if ((active3 & 0x100000000000L) != 0L)
@@ -2665,9 +2665,9 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             return jjStartNfaWithStates_0(5, 253, 77);
          else if ((active4 & 0x2000L) != 0L)
             return jjStartNfaWithStates_0(5, 269, 77);
-         else if ((active11 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 759, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x10000000000000L, active5, 0x8000800002100000L, active6, 0x2000010000001003L, active7, 0x300002022000000L, active8, 0x10000801800L, active9, 0xa0000L, active10, 0x4000240020000L, active11, 0L);
+         else if ((active11 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 760, 77);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x10000000000000L, active5, 0x8000800002100000L, active6, 0x4000010000001003L, active7, 0x600004044000000L, active8, 0x20001003000L, active9, 0x140000L, active10, 0x8000480040000L, active11, 0L);
       case 84:
       case 116:
          if ((active3 & 0x40000000L) != 0L)
@@ -2704,10 +2704,10 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             return jjStartNfaWithStates_0(5, 268, 77);
          else if ((active4 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(5, 275, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x40200100400000L, active5, 0x22000011000L, active6, 0x880500002008000L, active7, 0x3c000000210430L, active8, 0x200002090008200L, active9, 0x5001040000040080L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x40200100400000L, active5, 0x22000011000L, active6, 0x1100500002008000L, active7, 0x78000000420860L, active8, 0x400004120010400L, active9, 0xa002080000080100L, active10, 0L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000000000L, active7, 0x80000000000000L, active8, 0x10L, active9, 0x20000000000L, active10, 0x800000000L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x800000000000000L, active7, 0x100000000000000L, active8, 0x20L, active9, 0x40000000000L, active10, 0x1000000000L, active11, 0L);
       case 86:
       case 118:
          if ((active3 & 0x8000000L) != 0L)
@@ -2717,7 +2717,7 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
             jjmatchedKind = 267;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x400000000000L, active6, 0x200000000000000L, active7, 0x2440000000000L, active8, 0x1040000004400L, active9, 0x8000000000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x400000000000L, active6, 0x400000000000000L, active7, 0x4880000000000L, active8, 0x2080000008800L, active9, 0L, active10, 0x1L, active11, 0L);
       case 87:
       case 119:
          return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0L, active6, 0x2000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -2725,7 +2725,7 @@ private final int jjMoveStringLiteralDfa5_0(long old2, long active2, long old3,
       case 120:
          if ((active4 & 0x8000L) != 0L)
             return jjStartNfaWithStates_0(5, 271, 77);
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x800L, active6, 0x6000L, active7, 0L, active8, 0L, active9, 0x200000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0L, active5, 0x800L, active6, 0x6000L, active7, 0L, active8, 0L, active9, 0x400000000L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active3 & 0x200000000L) != 0L)
@@ -2767,7 +2767,7 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
       case 52:
          return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x10000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 95:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0x40000000000L, active8, 0x4000400L, active9, 0x180000L, active10, 0x800080000000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0x80000000000L, active8, 0x8000800L, active9, 0x300000L, active10, 0x1000100000000L, active11, 0L);
       case 65:
       case 97:
          if ((active5 & 0x100L) != 0L)
@@ -2775,15 +2775,15 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             jjmatchedKind = 328;
             jjmatchedPos = 6;
          }
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0xd44400000000000L, active6, 0x2410801200000000L, active7, 0x1c400040086518L, active8, 0x40000000200L, active9, 0x8000000000000008L, active10, 0xc1000000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0xd44400000000000L, active6, 0x4820801200000000L, active7, 0x3880008010ca30L, active8, 0x80000000400L, active9, 0x10L, active10, 0x182000000000001L, active11, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x40000000L, active6, 0L, active7, 0x800L, active8, 0x4000000000000000L, active9, 0x10000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x40000000L, active6, 0L, active7, 0x1000L, active8, 0x8000000000000000L, active9, 0x20000000000L, active10, 0L, active11, 0L);
       case 67:
       case 99:
          if ((active4 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 311, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x302000000L, active6, 0x100001000000cL, active7, 0x280000000800000L, active8, 0x200c0001000f0000L, active9, 0x400000000008200L, active10, 0x80002000000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x302000000L, active6, 0x100001000000cL, active7, 0x500000001000000L, active8, 0x40180002001e0000L, active9, 0x800000000010400L, active10, 0x100004000000L, active11, 0L);
       case 68:
       case 100:
          if ((active4 & 0x4000000L) != 0L)
@@ -2796,7 +2796,7 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 325, 77);
          else if ((active5 & 0x400L) != 0L)
             return jjStartNfaWithStates_0(6, 330, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x400000L, active6, 0L, active7, 0x200L, active8, 0L, active9, 0x201000000L, active10, 0x20L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x400000L, active6, 0L, active7, 0x400L, active8, 0L, active9, 0x402000000L, active10, 0x40L, active11, 0L);
       case 69:
       case 101:
          if ((active4 & 0x400000L) != 0L)
@@ -2827,10 +2827,10 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 336, 77);
          else if ((active5 & 0x100000L) != 0L)
             return jjStartNfaWithStates_0(6, 340, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x800000000000L, active6, 0xa80006006008000L, active7, 0x1002000003010000L, active8, 0x106361000000c000L, active9, 0x5007040160000180L, active10, 0x2802c000809400L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x800000000000L, active6, 0x1500006006008000L, active7, 0x2004000006020000L, active8, 0x20c6c20000018000L, active9, 0xa00e0802c0000300L, active10, 0x50058001012800L, active11, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x10000000L, active6, 0x100000000000080L, active7, 0L, active8, 0x200000000000000L, active9, 0x4040L, active10, 0x400000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x10000000L, active6, 0x200000000000080L, active7, 0L, active8, 0x400000000000000L, active9, 0x8080L, active10, 0x800000L, active11, 0L);
       case 71:
       case 103:
          if ((active4 & 0x10000000L) != 0L)
@@ -2841,16 +2841,16 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 313, 77);
          else if ((active5 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(6, 339, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x4000000000000000L, active7, 0x400000001L, active8, 0x3000000L, active9, 0x80082000000L, active10, 0x3400080008L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x8000000000000000L, active7, 0x800000002L, active8, 0x6000000L, active9, 0x100104000000L, active10, 0x6800100010L, active11, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0x100000000020L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0x200000000040L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x8008410100400000L, active7, 0x8000800000000080L, active8, 0x100100000800008L, active9, 0xc00040000L, active10, 0x10000020100802L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x10410100400000L, active7, 0x1000000000101L, active8, 0x200200001000011L, active9, 0x1800080000L, active10, 0x20000040201004L, active11, 0L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x800L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000L, active9, 0L, active10, 0L, active11, 0L);
       case 75:
       case 107:
          if ((active4 & 0x10000000000000L) != 0L)
@@ -2866,10 +2866,10 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 307, 77);
          else if ((active5 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(6, 327, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x2000000000000L, active6, 0x40080000L, active7, 0x10120000040L, active8, 0x880000400000L, active9, 0x10020000000004L, active10, 0x100000004L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x2000000000000L, active6, 0x40080000L, active7, 0x20240000080L, active8, 0x1100000800000L, active9, 0x20040000000008L, active10, 0x200000008L, active11, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x20000000L, active6, 0x20020c00L, active7, 0x40204000000000L, active8, 0x10000000100000L, active9, 0xf0001c000412L, active10, 0x400004040040L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x20000000L, active6, 0x20020c00L, active7, 0x80408000000000L, active8, 0x20000000200000L, active9, 0x1e00038000824L, active10, 0x800008080080L, active11, 0L);
       case 78:
       case 110:
          if ((active4 & 0x2000000L) != 0L)
@@ -2880,17 +2880,17 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 306, 77);
          else if ((active5 & 0x200000L) != 0L)
             return jjStartNfaWithStates_0(6, 341, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x885000000L, active6, 0x840120L, active7, 0x8028006L, active8, 0xc00000000000010L, active9, 0x28000000202000L, active10, 0x300000002011L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x885000000L, active6, 0x2000000840120L, active7, 0x1005000cL, active8, 0x1800000000000020L, active9, 0x50000000404000L, active10, 0x600000004022L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x20000400000000L, active6, 0x20000000000L, active7, 0x1210401000L, active8, 0x800000d000000000L, active9, 0x2000000000L, active10, 0x300L, active11, 0x40000000000000L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x20000400000000L, active6, 0x20000000000L, active7, 0x2420802000L, active8, 0x1a000000000L, active9, 0x4000000001L, active10, 0x600L, active11, 0x80000000000000L);
       case 80:
       case 112:
          if ((active4 & 0x80000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 299, 77);
          else if ((active5 & 0x40000L) != 0L)
             return jjStartNfaWithStates_0(6, 338, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x1000001000000000L, active6, 0x800000000L, active7, 0x100008800000000L, active8, 0x80000030002045L, active9, 0x400800L, active10, 0x200000000010000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x1000001000000000L, active6, 0x800000000L, active7, 0x200011000000000L, active8, 0x10000006000408aL, active9, 0x801000L, active10, 0x400000000020000L, active11, 0L);
       case 82:
       case 114:
          if ((active4 & 0x8000000L) != 0L)
@@ -2912,7 +2912,7 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             jjmatchedKind = 337;
             jjmatchedPos = 6;
          }
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x2000020000800000L, active6, 0x300008000200L, active7, 0x200000L, active8, 0x2008000100L, active9, 0x80000000001000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x2000020000800000L, active6, 0x300008000200L, active7, 0x400000L, active8, 0x4010000200L, active9, 0x100000000002000L, active10, 0L, active11, 0L);
       case 83:
       case 115:
          if ((active4 & 0x4000000000L) != 0L)
@@ -2921,7 +2921,7 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 310, 77);
          else if ((active4 & 0x2000000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 317, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x4000180008000000L, active6, 0L, active7, 0x20020000100000L, active8, 0x2L, active9, 0x2000008000000000L, active10, 0x800000000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x4000180008000000L, active6, 0L, active7, 0x40040000200000L, active8, 0x4L, active9, 0x4000010000000000L, active10, 0x1000000000L, active11, 0L);
       case 84:
       case 116:
          if ((active4 & 0x40000000L) != 0L)
@@ -2945,23 +2945,23 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 331, 77);
          else if ((active5 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(6, 334, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x1240000000000L, active6, 0x1000008401110010L, active7, 0x6000082084000000L, active8, 0xec02010a0L, active9, 0x300004000010000L, active10, 0x106050259020080L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x1240000000000L, active6, 0x2000008401110010L, active7, 0xc000104108000000L, active8, 0x1d80402140L, active9, 0x600008000020000L, active10, 0x20c0a04b2040100L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x20000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000L, active10, 0L, active11, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x6000000001000L, active7, 0L, active8, 0L, active9, 0x800020L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0xc000000001000L, active7, 0L, active8, 0L, active9, 0x1000040L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x60000080000040L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0xc0000080000040L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 88:
       case 120:
          if ((active5 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(6, 320, 77);
          else if ((active5 & 0x40L) != 0L)
             return jjStartNfaWithStates_0(6, 326, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x8080000000000000L, active6, 0x200001L, active7, 0x800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0x8080000000000000L, active6, 0x200001L, active7, 0x1000000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active4 & 0x200000000000L) != 0L)
@@ -2970,7 +2970,7 @@ private final int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4,
             return jjStartNfaWithStates_0(6, 312, 77);
          else if ((active5 & 0x2L) != 0L)
             return jjStartNfaWithStates_0(6, 321, 77);
-         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x2L, active7, 0x401000000040000L, active8, 0x20000000000L, active9, 0x840001000000001L, active10, 0x204000L, active11, 0L);
+         return jjMoveStringLiteralDfa7_0(active4, 0L, active5, 0L, active6, 0x2L, active7, 0x802000000080000L, active8, 0x40000000000L, active9, 0x1080002000000002L, active10, 0x408000L, active11, 0L);
       case 90:
       case 122:
          if ((active5 & 0x4L) != 0L)
@@ -2997,20 +2997,20 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
       case 50:
          if ((active6 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(7, 411, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x10000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x20000000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 95:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x8000000000L, active8, 0x20e00000040L, active9, 0x2a00000001010001L, active10, 0x20004000000480L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x10000000000L, active8, 0x41c00000080L, active9, 0x5400000002020002L, active10, 0x40008000000900L, active11, 0L);
       case 65:
       case 97:
          if ((active6 & 0x8000L) != 0L)
             return jjStartNfaWithStates_0(7, 399, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x4100000000L, active7, 0x340100800900240L, active8, 0x200000000001080L, active9, 0L, active10, 0x281020000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x4100000000L, active7, 0x680201001200480L, active8, 0x400000000002100L, active9, 0L, active10, 0x502040000L, active11, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa0000L, active10, 0x800000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x140000L, active10, 0x1000000000000L, active11, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0xa000000L, active8, 0x10000000000L, active9, 0L, active10, 0x8000004040100L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x2000000000000L, active7, 0x14000000L, active8, 0x20000000000L, active9, 0L, active10, 0x10000008080200L, active11, 0L);
       case 68:
       case 100:
          if ((active5 & 0x1000000L) != 0L)
@@ -3042,7 +3042,7 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 398, 77);
          else if ((active6 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_0(7, 410, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xe0000000000L, active7, 0x8000000000000000L, active8, 0x800000000110L, active9, 0L, active10, 0x800000000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xe0000000000L, active7, 0L, active8, 0x1000000000221L, active9, 0L, active10, 0x1000000000L, active11, 0L);
       case 69:
       case 101:
          if ((active5 & 0x400000L) != 0L)
@@ -3080,24 +3080,24 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             jjmatchedKind = 412;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x10000a400000000L, active7, 0x6400010004000800L, active8, 0x201c0800001f0000L, active9, 0x10c10808080c472L, active10, 0x400102000049L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x20000a400000000L, active7, 0xc800020008001000L, active8, 0x40381000003e0000L, active9, 0x2182101010188e4L, active10, 0x800204000092L, active11, 0L);
       case 70:
       case 102:
          if ((active5 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(7, 348, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x42e8103e000000L, active10, 0x20000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x85d0207c000000L, active10, 0x40000000000L, active11, 0L);
       case 71:
       case 103:
          if ((active6 & 0x1000L) != 0L)
             return jjStartNfaWithStates_0(7, 396, 77);
          else if ((active6 & 0x800000L) != 0L)
             return jjStartNfaWithStates_0(7, 407, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x6200000000000L, active7, 0x1000000030002L, active8, 0L, active9, 0L, active10, 0x4000040204000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xc200000000000L, active7, 0x2000000060004L, active8, 0L, active9, 0L, active10, 0x8000080408000L, active11, 0L);
       case 72:
       case 104:
          if ((active6 & 0x100000L) != 0L)
             return jjStartNfaWithStates_0(7, 404, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x4000000000000000L, active7, 0x80080000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x8000000000000000L, active7, 0x100100000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
          if ((active6 & 0x10000L) != 0L)
@@ -3107,14 +3107,14 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
          }
          else if ((active6 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(7, 406, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x30800c0020L, active8, 0L, active9, 0x14200000004L, active10, 0x102050018000020L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x6100180040L, active8, 0L, active9, 0x28400000008L, active10, 0x2040a0030000040L, active11, 0L);
       case 75:
       case 107:
          if ((active5 & 0x100000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 364, 77);
          else if ((active6 & 0x8L) != 0L)
             return jjStartNfaWithStates_0(7, 387, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x60000080000000L, active7, 0L, active8, 0x2L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xc0000080000000L, active7, 0L, active8, 0x4L, active9, 0L, active10, 0L, active11, 0L);
       case 76:
       case 108:
          if ((active5 & 0x400000000000L) != 0L)
@@ -3127,10 +3127,10 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 395, 77);
          else if ((active6 & 0x40000000L) != 0L)
             return jjStartNfaWithStates_0(7, 414, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x400000000000000L, active7, 0x400000000000L, active8, 0x28004000L, active9, 0x8000020000000000L, active10, 0x200000000000200L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x800000000000000L, active7, 0x800000000000L, active8, 0x50008000L, active9, 0x40000000000L, active10, 0x400000000000401L, active11, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xc00000000000L, active7, 0x400L, active8, 0x12000c000800000L, active9, 0xc00040000L, active10, 0x10000000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0xc00000000000L, active7, 0x800L, active8, 0x240018001000000L, active9, 0x1800080000L, active10, 0x20000000000000L, active11, 0L);
       case 78:
       case 110:
          if ((active5 & 0x20000000000000L) != 0L)
@@ -3139,22 +3139,22 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 390, 77);
          else if ((active6 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(7, 409, 77);
-         else if ((active11 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 758, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x8808000000000000L, active7, 0x1000800201400080L, active8, 0x2000000008008L, active9, 0L, active10, 0x20908802L, active11, 0L);
+         else if ((active11 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 759, 77);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x1010000000000000L, active7, 0x2001000402800101L, active8, 0x4000000010010L, active9, 0L, active10, 0x41211004L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x1000010800000000L, active7, 0x120000000L, active8, 0x802000d0602805L, active9, 0x400000000000200L, active10, 0x10000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x2000010800000000L, active7, 0x240000000L, active8, 0x1004001a0c0500aL, active9, 0x800000000000400L, active10, 0x20000L, active11, 0L);
       case 80:
       case 112:
          if ((active6 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(7, 413, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x240000000000L, active8, 0x40000000000000L, active9, 0x100000100L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x480000000000L, active8, 0x80000000000000L, active9, 0x200000200L, active10, 0L, active11, 0L);
       case 82:
       case 114:
          if ((active5 & 0x100000000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 376, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x2200001000000000L, active7, 0x22000400005100L, active8, 0x8001041000000020L, active9, 0x5001040000500080L, active10, 0x400001000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x4400001000000000L, active7, 0x4400080000a200L, active8, 0x2082000000040L, active9, 0xa002080000a00101L, active10, 0x800002000L, active11, 0L);
       case 83:
       case 115:
          if ((active5 & 0x4000000L) != 0L)
@@ -3167,7 +3167,7 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 382, 77);
          else if ((active6 & 0x20000L) != 0L)
             return jjStartNfaWithStates_0(7, 401, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x200000000L, active7, 0x20000000000L, active8, 0x1c00000004000400L, active9, 0x2000L, active10, 0x8000000000L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x200000000L, active7, 0x40000000000L, active8, 0x3800000008000800L, active9, 0x4000L, active10, 0x10000000000L, active11, 0L);
       case 84:
       case 116:
          if ((active5 & 0x80000000L) != 0L)
@@ -3191,13 +3191,13 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
          }
          else if ((active6 & 0x200000L) != 0L)
             return jjStartNfaWithStates_0(7, 405, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x81c00004000a01dL, active8, 0x103000200L, active9, 0xa0000040201808L, active10, 0xc1383000482010L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x103800008001403aL, active8, 0x206000400L, active9, 0x140000080403010L, active10, 0x182706000904020L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x4010200000L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0x8020400000L, active8, 0x8000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2000000000L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x4000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
          if ((active5 & 0x40000000000000L) != 0L)
@@ -3209,7 +3209,7 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 354, 77);
          else if ((active5 & 0x8000000000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 383, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x80000000000000L, active7, 0L, active8, 0x400000000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x100000000000000L, active7, 0L, active8, 0x800000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active5 & 0x800000L) != 0L)
@@ -3229,10 +3229,10 @@ private final int jjMoveStringLiteralDfa7_0(long old4, long active4, long old5,
             return jjStartNfaWithStates_0(7, 385, 77);
          else if ((active6 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(7, 391, 77);
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x100000000000L, active7, 0L, active8, 0x2000000000L, active9, 0x10000000000000L, active10, 0x4L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0x100000000000L, active7, 0L, active8, 0x4000000000L, active9, 0x20000000000000L, active10, 0x8L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0x100000000000L, active9, 0L, active10, 0L, active11, 0L);
+         return jjMoveStringLiteralDfa8_0(active5, 0L, active6, 0L, active7, 0L, active8, 0x200000000000L, active9, 0L, active10, 0L, active11, 0L);
       default :
          break;
    }
@@ -3254,27 +3254,27 @@ private final int jjMoveStringLiteralDfa8_0(long old5, long active5, long old6,
             return jjStopAtPos(8, 432);
          break;
       case 95:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x200c000000070000L, active9, 0x8000L, active10, 0x200002400000L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x40180000000e0000L, active9, 0x10000L, active10, 0x400004800000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x400000100000000L, active8, 0x900008000418L, active9, 0x10L, active10, 0x400000100L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x800000200000000L, active8, 0x1200010000830L, active9, 0x20L, active10, 0x800000200L);
       case 66:
       case 98:
          if ((active6 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(8, 415, 77);
-         else if ((active6 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 437, 77);
+         else if ((active6 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 438, 77);
          break;
       case 67:
       case 99:
-         if ((active6 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 445, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x100012001000000L, active8, 0x4200040000000000L, active9, 0L, active10, 0x100000000L);
+         if ((active6 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 446, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x200024002000000L, active8, 0x8400080000000000L, active9, 0L, active10, 0x200000000L);
       case 68:
       case 100:
-         if ((active6 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 436, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x20200000100L, active9, 0x2200000000000000L, active10, 0L);
+         if ((active6 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 437, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x40400000200L, active9, 0x4400000000000000L, active10, 0L);
       case 69:
       case 101:
          if ((active6 & 0x20000000000L) != 0L)
@@ -3288,44 +3288,46 @@ private final int jjMoveStringLiteralDfa8_0(long old5, long active5, long old6,
          }
          else if ((active6 & 0x800000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 431, 77);
-         else if ((active6 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 435, 77);
-         else if ((active7 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(8, 451, 77);
+         else if ((active6 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 433, 77);
+         else if ((active6 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 436, 77);
          else if ((active7 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(8, 452, 77);
+         else if ((active7 & 0x20L) != 0L)
          {
-            jjmatchedKind = 452;
+            jjmatchedKind = 453;
             jjmatchedPos = 8;
          }
-         else if ((active7 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(8, 461, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x889c020248010000L, active8, 0x121404000000000L, active9, 0x80002c017c0008L, active10, 0xc1900000000000L);
+         else if ((active7 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(8, 462, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x1138040490020000L, active8, 0x242808000000001L, active9, 0x100005802f80010L, active10, 0x183200000000000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x400000000000000L, active9, 0x38000000000000L, active10, 0x35L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x800000000000000L, active9, 0x70000000000000L, active10, 0x6aL);
       case 71:
       case 103:
-         if ((active6 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 447, 77);
-         else if ((active7 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(8, 454, 77);
+         if ((active7 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(8, 448, 77);
          else if ((active7 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(8, 455, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x1000000000000000L, active8, 0L, active9, 0L, active10, 0L);
+         else if ((active7 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(8, 456, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x2000000000000000L, active8, 0L, active9, 0L, active10, 0L);
       case 72:
       case 104:
-         if ((active7 & 0x1L) != 0L)
+         if ((active7 & 0x2L) != 0L)
          {
-            jjmatchedKind = 448;
+            jjmatchedKind = 449;
             jjmatchedPos = 8;
          }
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x8000L, active8, 0x3000000L, active9, 0x1L, active10, 0x3000080000L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x10000L, active8, 0x6000000L, active9, 0x2L, active10, 0x6000100000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x20488400000000L, active8, 0x80000134002885L, active9, 0xd800040000000000L, active10, 0x224080041001000L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x40910800000000L, active8, 0x10000026800510aL, active9, 0xb000080000000000L, active10, 0x448100082002001L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x200000000000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x400000000000L, active9, 0L, active10, 0L);
       case 75:
       case 107:
          if ((active6 & 0x2000000000L) != 0L)
@@ -3335,35 +3337,35 @@ private final int jjMoveStringLiteralDfa8_0(long old5, long active5, long old6,
       case 108:
          if ((active6 & 0x100000000L) != 0L)
             return jjStartNfaWithStates_0(8, 416, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x200000000000000L, active8, 0x800000000000002L, active9, 0x400000000000200L, active10, 0x100004088010000L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x400000000000000L, active8, 0x1000000000000004L, active9, 0x800000000000400L, active10, 0x200008110020000L);
       case 77:
       case 109:
          if ((active6 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 426, 77);
-         else if ((active7 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(8, 460, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x100000L, active8, 0L, active9, 0x4000000000L, active10, 0L);
+         else if ((active7 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(8, 461, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x200000L, active8, 0L, active9, 0x8000000000L, active10, 0L);
       case 78:
       case 110:
          if ((active6 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 424, 77);
          else if ((active6 & 0x100000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 428, 77);
-         else if ((active7 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(8, 450, 77);
-         else if ((active7 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(8, 453, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x10102c0000L, active8, 0x80000001000L, active9, 0x4010000000400L, active10, 0x200020000L);
+         else if ((active7 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(8, 451, 77);
+         else if ((active7 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(8, 454, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x2020580000L, active8, 0x100000002000L, active9, 0x8020000000800L, active10, 0x400040000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x1040000000000L, active8, 0x40000000004060L, active9, 0x140000900L, active10, 0x804246008L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x2080000000000L, active8, 0x800000000080c0L, active9, 0x280001200L, active10, 0x100848c010L);
       case 80:
       case 112:
          if ((active6 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(8, 419, 77);
-         else if ((active7 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(8, 458, 911);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x20000000L, active8, 0x800000L, active9, 0x1000L, active10, 0x2050010000000L);
+         else if ((active7 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(8, 459, 911);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x40000000L, active8, 0x1000000L, active9, 0x2000L, active10, 0x40a0020000000L);
       case 82:
       case 114:
          if ((active6 & 0x400000000L) != 0L)
@@ -3375,64 +3377,64 @@ private final int jjMoveStringLiteralDfa8_0(long old5, long active5, long old6,
             return jjStartNfaWithStates_0(8, 422, 77);
          else if ((active6 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 423, 77);
-         else if ((active6 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 440, 77);
-         else if ((active6 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 444, 77);
-         else if ((active7 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(8, 459, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x6040000800000000L, active8, 0x8000001000080000L, active9, 0x142e8103e004040L, active10, 0x8020000000000L);
+         else if ((active6 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 441, 77);
+         else if ((active6 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 445, 77);
+         else if ((active7 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(8, 460, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0xc080001000000000L, active8, 0x2000100000L, active9, 0x285d0207c008081L, active10, 0x10040000000000L);
       case 83:
       case 115:
-         if ((active6 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 441, 77);
-         else if ((active6 & 0x400000000000000L) != 0L)
+         if ((active6 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 442, 77);
-         else if ((active7 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(8, 449, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x2100000000000L, active8, 0x20000c0600000L, active9, 0x1008280032080L, active10, 0x400L);
+         else if ((active6 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 443, 77);
+         else if ((active7 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(8, 450, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x4200000000000L, active8, 0x4000180c00000L, active9, 0x2010500064100L, active10, 0x800L);
       case 84:
       case 116:
          if ((active6 & 0x200000000L) != 0L)
             return jjStartNfaWithStates_0(8, 417, 77);
          else if ((active6 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 420, 77);
-         else if ((active6 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 438, 77);
          else if ((active6 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 439, 77);
-         else if ((active6 & 0x800000000000000L) != 0L)
+         else if ((active6 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 440, 77);
+         else if ((active6 & 0x1000000000000000L) != 0L)
          {
-            jjmatchedKind = 443;
+            jjmatchedKind = 444;
             jjmatchedPos = 8;
          }
-         else if ((active6 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 446, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0xa04002c20000L, active8, 0x101001a400108000L, active9, 0x100000800006L, active10, 0x4080209088c2L);
+         else if ((active6 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 447, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x1408005840000L, active8, 0x2020034800210000L, active9, 0x20000100000cL, active10, 0x810041211184L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x800000000L, active9, 0L, active10, 0x10000000000000L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x1000000000L, active9, 0L, active10, 0x20000000000000L);
       case 88:
       case 120:
-         if ((active6 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 433, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x4000000L, active8, 0L, active9, 0x20L, active10, 0L);
-      case 89:
-      case 121:
          if ((active6 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 434, 77);
-         else if ((active7 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(8, 456, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x8000000L, active8, 0L, active9, 0x40L, active10, 0L);
+      case 89:
+      case 121:
+         if ((active6 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 435, 77);
          else if ((active7 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(8, 457, 77);
-         else if ((active7 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(8, 462, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x200L, active9, 0x20000000000L, active10, 0x200L);
+         else if ((active7 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(8, 458, 77);
+         else if ((active7 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(8, 463, 77);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0L, active8, 0x400L, active9, 0x40000000000L, active10, 0x400L);
       case 90:
       case 122:
          if ((active6 & 0x80000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 427, 77);
-         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa9_0(active6, 0L, active7, 0x100000000L, active8, 0L, active9, 0L, active10, 0L);
       default :
          break;
    }
@@ -3450,185 +3452,185 @@ private final int jjMoveStringLiteralDfa9_0(long old6, long active6, long old7,
    switch(curChar)
    {
       case 50:
-         return jjMoveStringLiteralDfa10_0(active7, 0x2000000000000000L, active8, 0x1010000L, active9, 0L, active10, 0x1000000000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0x4000000000000000L, active8, 0x2020000L, active9, 0L, active10, 0x2000000000L);
       case 51:
-         return jjMoveStringLiteralDfa10_0(active7, 0x4000000000000000L, active8, 0xc000002028000L, active9, 0L, active10, 0x2000000000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0x8000000000000000L, active8, 0x18000004050000L, active9, 0L, active10, 0x4000000000L);
       case 52:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x40000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x80000L, active9, 0L, active10, 0L);
       case 95:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x100000000000000L, active10, 0x81000000888000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x200000000000000L, active10, 0x102000001110000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x1800020200000000L, active9, 0x200000000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x3000040400000000L, active9, 0x400000000000000L, active10, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x100000000000L, active9, 0L, active10, 0x40000000000000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x200000000000L, active9, 0L, active10, 0x80000000000000L);
       case 67:
       case 99:
-         if ((active7 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(9, 469, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x1000L, active9, 0x40012000L, active10, 0x202020000L);
+         if ((active7 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(9, 470, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x2000L, active9, 0x80024000L, active10, 0x404040000L);
       case 68:
       case 100:
-         if ((active7 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 478, 77);
-         else if ((active7 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 482, 77);
-         else if ((active7 & 0x400000000000L) != 0L)
+         if ((active7 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 479, 77);
+         else if ((active7 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 483, 77);
+         else if ((active7 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 494;
+            jjmatchedKind = 495;
             jjmatchedPos = 9;
          }
-         else if ((active7 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 501, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x1000000000000L, active9, 0x8000000000000000L, active10, 0L);
+         else if ((active7 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 502, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x2000000000000L, active9, 0L, active10, 0x1L);
       case 69:
       case 101:
-         if ((active7 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(9, 471, 77);
-         else if ((active7 & 0x1000000L) != 0L)
+         if ((active7 & 0x1000000L) != 0L)
             return jjStartNfaWithStates_0(9, 472, 77);
-         else if ((active7 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 477, 77);
-         else if ((active7 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 479, 77);
-         else if ((active7 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 497, 77);
-         else if ((active7 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 504, 77);
+         else if ((active7 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 473, 77);
+         else if ((active7 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 478, 77);
+         else if ((active7 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 480, 77);
+         else if ((active7 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 498, 77);
          else if ((active7 & 0x200000000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 505, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x8000400002L, active9, 0x10140000040c4L, active10, 0x20100000L);
+         else if ((active7 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 506, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x10000800004L, active9, 0x2028000008188L, active10, 0x40200000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x20000000L, active9, 0L, active10, 0x200000000000a22L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x40000000L, active9, 0L, active10, 0x400000000001444L);
       case 71:
       case 103:
-         if ((active7 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(9, 466, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x80000000000L, active9, 0x800L, active10, 0L);
+         if ((active7 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(9, 467, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x100000000000L, active9, 0x1000L, active10, 0L);
       case 72:
       case 104:
-         if ((active7 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(9, 465, 77);
-         else if ((active7 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(9, 470, 77);
-         else if ((active7 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 486, 77);
-         else if ((active7 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 492, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x40000080000L, active9, 0x20L, active10, 0L);
+         if ((active7 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(9, 466, 77);
+         else if ((active7 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(9, 471, 77);
+         else if ((active7 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 487, 77);
+         else if ((active7 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 493, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x80000100000L, active9, 0x40L, active10, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x8042011400000120L, active9, 0x100L, active10, 0x100200008000080L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x84022800000240L, active9, 0x201L, active10, 0x200400010000100L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x800000L, active9, 0x400000100000200L, active10, 0x4440000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x1000000L, active9, 0x800000200000400L, active10, 0x8880000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x400L, active9, 0L, active10, 0x10000000000008L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x800L, active9, 0L, active10, 0x20000000000010L);
       case 78:
       case 110:
-         if ((active7 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 487, 77);
-         else if ((active7 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 491, 77);
-         else if ((active7 & 0x1000000000000L) != 0L)
+         if ((active7 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 488, 77);
+         else if ((active7 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 492, 77);
+         else if ((active7 & 0x2000000000000L) != 0L)
          {
-            jjmatchedKind = 496;
+            jjmatchedKind = 497;
             jjmatchedPos = 9;
          }
-         return jjMoveStringLiteralDfa10_0(active7, 0x8800000000000000L, active8, 0x80000010002885L, active9, 0x800000000000000L, active10, 0x20000001207000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0x1000000000000000L, active8, 0x10000002000510bL, active9, 0x1000000000000000L, active10, 0x4000000240e000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x400000100000000L, active9, 0x5042ec103e801001L, active10, 0xa0f4090000000L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x800000200000000L, active9, 0xa085d8207d002002L, active10, 0x141e8120000000L);
       case 80:
       case 112:
-         if ((active7 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(9, 468, 77);
-         else if ((active7 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 490, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x2000000008004200L, active9, 0x2000100000L, active10, 0x400000000L);
+         if ((active7 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(9, 469, 77);
+         else if ((active7 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 491, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x4000000010008400L, active9, 0x4000200000L, active10, 0x800000000L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0xc0200000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x180400000L, active9, 0L, active10, 0L);
       case 82:
       case 114:
-         if ((active7 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(9, 464, 77);
-         else if ((active7 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 506, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x30800000100018L, active9, 0x2038100000200002L, active10, 0x508800000055L);
+         if ((active7 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(9, 465, 77);
+         else if ((active7 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 507, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x61000000200030L, active9, 0x4070200000400004L, active10, 0xa110000000aaL);
       case 83:
       case 115:
-         if ((active7 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(9, 463, 77);
-         else if ((active7 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 473, 77);
-         else if ((active7 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 475, 77);
-         else if ((active7 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 485, 77);
-         else if ((active7 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 489, 77);
-         else if ((active7 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 495, 77);
-         else if ((active7 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 503, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x200800000000L, active9, 0x80000000448010L, active10, 0x4000040000000L);
-      case 84:
-      case 116:
-         if ((active7 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(9, 467, 77);
+         if ((active7 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(9, 464, 77);
          else if ((active7 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_0(9, 474, 77);
          else if ((active7 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(9, 476, 77);
-         else if ((active7 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 480, 77);
-         else if ((active7 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 483, 77);
+         else if ((active7 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 486, 77);
+         else if ((active7 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 490, 77);
+         else if ((active7 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 496, 77);
+         else if ((active7 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 504, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x401000000000L, active9, 0x100000000890020L, active10, 0x8000080000000L);
+      case 84:
+      case 116:
+         if ((active7 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(9, 468, 77);
+         else if ((active7 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 475, 77);
+         else if ((active7 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 477, 77);
+         else if ((active7 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 481, 77);
          else if ((active7 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 484, 77);
-         else if ((active7 & 0x10000000000L) != 0L)
+         else if ((active7 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 485, 77);
+         else if ((active7 & 0x20000000000L) != 0L)
          {
-            jjmatchedKind = 488;
+            jjmatchedKind = 489;
             jjmatchedPos = 9;
          }
-         return jjMoveStringLiteralDfa10_0(active7, 0x1000000000000000L, active8, 0x300000000000000L, active9, 0x8e800a0408L, active10, 0x800100000100L);
+         return jjMoveStringLiteralDfa10_0(active7, 0x2000000000000000L, active8, 0x600000000000000L, active9, 0x11d00140810L, active10, 0x1000200000200L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x40L, active9, 0L, active10, 0x400L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x80L, active9, 0L, active10, 0x800L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x4000000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x8000000000000L, active10, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x404000000000L, active9, 0x20000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x808000000000L, active9, 0x40000000000L, active10, 0L);
       case 88:
       case 120:
-         if ((active7 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 498, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x1000000L, active10, 0L);
+         if ((active7 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 499, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0L, active9, 0x2000000L, active10, 0L);
       case 89:
       case 121:
-         if ((active7 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 481, 77);
-         else if ((active7 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 493, 77);
-         else if ((active7 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 499, 77);
-         else if ((active7 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 502, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0x10000L);
+         if ((active7 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 482, 77);
+         else if ((active7 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 494, 77);
+         else if ((active7 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 500, 77);
+         else if ((active7 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 503, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x4000000000L, active9, 0L, active10, 0x20000L);
       case 90:
       case 122:
-         if ((active7 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 500, 77);
-         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x4000000L, active9, 0L, active10, 0L);
+         if ((active7 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 501, 77);
+         return jjMoveStringLiteralDfa10_0(active7, 0L, active8, 0x8000000L, active9, 0L, active10, 0L);
       default :
          break;
    }
@@ -3646,173 +3648,173 @@ private final int jjMoveStringLiteralDfa10_0(long old7, long active7, long old8,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x10000000000L, active10, 0x4000040000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x20000000000L, active10, 0x8000080000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x40000000000L, active9, 0x20000a000L, active10, 0x1000000000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x80000000000L, active9, 0x400014000L, active10, 0x2000000000000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x1000000000000L, active9, 0L, active10, 0x90000000000400L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x2000000000000L, active9, 0L, active10, 0x120000000000800L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x1000000200080L, active10, 0x4000000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x2000000400100L, active10, 0x8000000000L);
       case 68:
       case 100:
-         if ((active7 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 509, 77);
-         else if ((active7 & 0x4000000000000000L) != 0L)
+         if ((active7 & 0x4000000000000000L) != 0L)
             return jjStartNfaWithStates_0(10, 510, 77);
-         else if ((active8 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(10, 517, 77);
-         else if ((active8 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(10, 527, 77);
+         else if ((active7 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 511, 77);
+         else if ((active8 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(10, 518, 77);
          else if ((active8 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(10, 528, 77);
          else if ((active8 & 0x20000L) != 0L)
-         {
-            jjmatchedKind = 529;
-            jjmatchedPos = 10;
-         }
+            return jjStartNfaWithStates_0(10, 529, 77);
          else if ((active8 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(10, 530, 77);
-         else if ((active8 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(10, 534, 77);
-         else if ((active8 & 0x1000000L) != 0L)
          {
-            jjmatchedKind = 536;
+            jjmatchedKind = 530;
             jjmatchedPos = 10;
          }
+         else if ((active8 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(10, 531, 77);
+         else if ((active8 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(10, 535, 77);
          else if ((active8 & 0x2000000L) != 0L)
          {
             jjmatchedKind = 537;
             jjmatchedPos = 10;
          }
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0xc000000000000L, active9, 0L, active10, 0x3000000000L);
+         else if ((active8 & 0x4000000L) != 0L)
+         {
+            jjmatchedKind = 538;
+            jjmatchedPos = 10;
+         }
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x18000000000000L, active9, 0L, active10, 0x6000000000L);
       case 69:
       case 101:
-         if ((active8 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(10, 521, 77);
-         else if ((active8 & 0x1000L) != 0L)
+         if ((active8 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(10, 522, 77);
+         else if ((active8 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 524;
+            jjmatchedKind = 525;
             jjmatchedPos = 10;
          }
-         else if ((active8 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(10, 526, 77);
-         else if ((active8 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(10, 535, 77);
-         else if ((active8 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 538, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x4100800800000000L, active9, 0x404000c00000200L, active10, 0x40000200028128L);
+         else if ((active8 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(10, 527, 77);
+         else if ((active8 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 536, 77);
+         else if ((active8 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 539, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x8201001000000000L, active9, 0x808001800000400L, active10, 0x80000400050250L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0L, active10, 0x800214000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0L, active10, 0x1000428000L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x20000000000000L, active9, 0L, active10, 0x1000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x40000000000000L, active9, 0L, active10, 0x2000L);
       case 72:
       case 104:
-         if ((active7 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 508, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x10000L, active10, 0x400000000L);
+         if ((active7 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 509, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x20000L, active10, 0x800000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x2000000140aL, active10, 0x458100000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x40000002814L, active10, 0x8b0200000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x404000000000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x808000000000L, active9, 0L, active10, 0L);
       case 76:
       case 108:
-         if ((active8 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(10, 533, 77);
-         else if ((active8 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 542, 77);
+         if ((active8 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(10, 534, 77);
          else if ((active8 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(10, 543, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x100000000000L, active9, 0x100000080900000L, active10, 0x2000014040000L);
+         else if ((active8 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 544, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x200000000000L, active9, 0x200000101200000L, active10, 0x4000028080000L);
       case 77:
       case 109:
-         if ((active8 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(10, 520, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x1000000400000000L, active9, 0x42e8103e000000L, active10, 0x20000000080L);
+         if ((active8 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(10, 521, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x2000000800000000L, active9, 0x85d0207c000000L, active10, 0x40000000100L);
       case 78:
       case 110:
-         if ((active8 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(10, 513, 77);
-         else if ((active8 & 0x100000000L) != 0L)
+         if ((active8 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(10, 514, 77);
+         else if ((active8 & 0x200000000L) != 0L)
          {
-            jjmatchedKind = 544;
+            jjmatchedKind = 545;
             jjmatchedPos = 10;
          }
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x8040001000000000L, active9, 0x4140L, active10, 0x100280088000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x80002000000000L, active9, 0x8281L, active10, 0x200500110000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x2202210000000000L, active9, 0x2038002000000000L, active10, 0x2400015L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x4404420000000000L, active9, 0x4070004000000000L, active10, 0x480002aL);
       case 80:
       case 112:
-         if ((active8 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(10, 522, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x2000000000L, active9, 0x8000000000L, active10, 0x100000000000L);
+         if ((active8 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(10, 523, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x4000000000L, active9, 0x10000000000L, active10, 0x200000000000L);
       case 82:
       case 114:
-         if ((active8 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(10, 531, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x400000000000000L, active9, 0xd000040000020804L, active10, 0x20100a02L);
+         if ((active8 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(10, 532, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x800000000000000L, active9, 0xa000080000041008L, active10, 0x40201405L);
       case 83:
       case 115:
-         if ((active8 & 0x80L) != 0L)
+         if ((active8 & 0x100L) != 0L)
          {
-            jjmatchedKind = 519;
+            jjmatchedKind = 520;
             jjmatchedPos = 10;
          }
-         else if ((active8 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 539, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x4000400000L, active10, 0x8000001082000L);
+         else if ((active8 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 540, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x8000800000L, active10, 0x10000002104000L);
       case 84:
       case 116:
-         if ((active7 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 507, 77);
-         else if ((active7 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 511, 77);
+         if ((active7 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 508, 77);
          else if ((active8 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(10, 512, 77);
-         else if ((active8 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(10, 514, 77);
-         else if ((active8 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(10, 518, 77);
-         else if ((active8 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(10, 523, 77);
-         else if ((active8 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(10, 525, 77);
-         else if ((active8 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 540, 77);
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x880080200000000L, active9, 0xa80000001040000L, active10, 0x20000000800000L);
+         else if ((active8 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(10, 513, 77);
+         else if ((active8 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(10, 515, 77);
+         else if ((active8 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(10, 519, 77);
+         else if ((active8 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(10, 524, 77);
+         else if ((active8 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(10, 526, 77);
+         else if ((active8 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 541, 77);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x1100100400000000L, active9, 0x1500000002080000L, active10, 0x40000001000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x40000031L, active10, 0L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x80000062L, active10, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x80000L, active10, 0x800000000000L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0L, active9, 0x100000L, active10, 0x1000000000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x8000000000L, active9, 0L, active10, 0L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x10000000000L, active9, 0L, active10, 0L);
       case 89:
       case 121:
-         if ((active8 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(10, 515, 77);
-         else if ((active8 & 0x10L) != 0L)
+         if ((active8 & 0x10L) != 0L)
             return jjStartNfaWithStates_0(10, 516, 77);
-         else if ((active8 & 0x100000L) != 0L)
+         else if ((active8 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(10, 517, 77);
+         else if ((active8 & 0x200000L) != 0L)
          {
-            jjmatchedKind = 532;
+            jjmatchedKind = 533;
             jjmatchedPos = 10;
          }
-         else if ((active8 & 0x20000000L) != 0L)
+         else if ((active8 & 0x40000000L) != 0L)
          {
-            jjmatchedKind = 541;
+            jjmatchedKind = 542;
             jjmatchedPos = 10;
          }
-         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x10020000000000L, active9, 0x100100000000L, active10, 0x200000000000040L);
+         return jjMoveStringLiteralDfa11_0(active7, 0L, active8, 0x20040000000000L, active9, 0x200200000000L, active10, 0x400000000000080L);
       default :
          break;
    }
@@ -3830,139 +3832,139 @@ private final int jjMoveStringLiteralDfa11_0(long old7, long active7, long old8,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x83200020100L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x106400040200L);
       case 65:
       case 97:
-         if ((active8 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 559, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x200000000140004L, active10, 0x4000000000L);
+         if ((active8 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 560, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x400000000280008L, active10, 0x8000000000L);
       case 66:
       case 98:
-         if ((active8 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 558, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x10000000000L, active10, 0L);
+         if ((active8 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 559, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x20000000000L, active10, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x400000000004240L, active10, 0x400000000040L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x800000000008480L, active10, 0x800000000080L);
       case 69:
       case 101:
-         if ((active8 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 545, 77);
-         else if ((active8 & 0x400000000L) != 0L)
+         if ((active8 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 546, 77);
+         else if ((active8 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 546;
+            jjmatchedKind = 547;
             jjmatchedPos = 11;
          }
-         else if ((active8 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 549, 77);
-         else if ((active8 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 556, 77);
-         else if ((active8 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 565, 77);
-         else if ((active8 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 571, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x8900600001290002L, active10, 0x1a0800008001080L);
+         else if ((active8 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 550, 77);
+         else if ((active8 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 557, 77);
+         else if ((active8 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 566, 77);
+         else if ((active8 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 572, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x1200c00002520004L, active10, 0x341000010002101L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x804040000L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x1008080000L);
       case 71:
       case 103:
-         if ((active8 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 548, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0x8000000000000000L, active9, 0x104000000L, active10, 0x40000c0000000L);
+         if ((active8 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 549, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x208000001L, active10, 0x8000180000000L);
       case 72:
       case 104:
-         if ((active8 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 555, 77);
+         if ((active8 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 556, 77);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x2080c20800L, active10, 0x20900000L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x4101841000L, active10, 0x41200000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x8000000L, active10, 0L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x10000000L, active10, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x84000000002020L, active10, 0x1000002000000L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x108000000004040L, active10, 0x2000004000000L);
       case 77:
       case 109:
-         if ((active8 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 562, 77);
-         else if ((active8 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 570, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x38000000008008L, active10, 0x20000000015L);
+         if ((active8 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 563, 77);
+         else if ((active8 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 571, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x70000000010010L, active10, 0x4000000002aL);
       case 78:
       case 110:
-         if ((active8 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 552, 77);
-         else if ((active8 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 557, 77);
-         else if ((active8 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 561, 77);
-         else if ((active8 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 564, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x200001000L, active10, 0x58000408000L);
+         if ((active8 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 553, 77);
+         else if ((active8 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 558, 77);
+         else if ((active8 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 562, 77);
+         else if ((active8 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 565, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x400002000L, active10, 0xb0000810000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x8000000000L, active10, 0x10100100000a02L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x10000000000L, active10, 0x20200200001404L);
       case 80:
       case 112:
-         if ((active8 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 572, 77);
-         else if ((active8 & 0x2000000000000000L) != 0L)
+         if ((active8 & 0x2000000000000000L) != 0L)
             return jjStartNfaWithStates_0(11, 573, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x2000000000000000L, active10, 0x200000001080000L);
+         else if ((active8 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 574, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x4000000000000000L, active10, 0x400000002100000L);
       case 82:
       case 114:
-         if ((active8 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 547, 77);
-         else if ((active8 & 0x40000000000L) != 0L)
-            return jjStopAtPos(11, 554);
-         else if ((active8 & 0x100000000000000L) != 0L)
+         if ((active8 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 548, 77);
+         else if ((active8 & 0x80000000000L) != 0L)
+            return jjStopAtPos(11, 555);
+         else if ((active8 & 0x200000000000000L) != 0L)
          {
-            jjmatchedKind = 568;
+            jjmatchedKind = 569;
             jjmatchedPos = 11;
          }
-         else if ((active8 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 569, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x5000040c40000011L, active10, 0x214020L);
+         else if ((active8 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 570, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0xa000081880000022L, active10, 0x428040L);
       case 83:
       case 115:
-         if ((active8 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 553, 77);
-         else if ((active8 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 567, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x8200000000400L);
+         if ((active8 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 554, 77);
+         else if ((active8 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 568, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x10400000000800L);
       case 84:
       case 116:
-         if ((active8 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 550, 77);
-         else if ((active8 & 0x8000000000L) != 0L)
+         if ((active8 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_0(11, 551, 77);
-         else if ((active8 & 0x40000000000000L) != 0L)
+         else if ((active8 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 552, 77);
+         else if ((active8 & 0x80000000000000L) != 0L)
          {
-            jjmatchedKind = 566;
+            jjmatchedKind = 567;
             jjmatchedPos = 11;
          }
-         else if ((active8 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 574, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x439a4000000180L, active10, 0x40000000000008L);
+         else if ((active8 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 575, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x87348000000300L, active10, 0x80000000000010L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x2000L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x4000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x1032000000L, active10, 0L);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x2064000000L, active10, 0L);
       case 89:
       case 121:
-         if ((active8 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 560, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x2000410000000L);
+         if ((active8 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 561, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0L, active10, 0x4000820000000L);
       case 90:
       case 122:
-         if ((active8 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 563, 77);
-         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x400L, active10, 0L);
+         if ((active8 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 564, 77);
+         return jjMoveStringLiteralDfa12_0(active8, 0L, active9, 0x800L, active10, 0L);
       default :
          break;
    }
@@ -3974,129 +3976,129 @@ private final int jjMoveStringLiteralDfa12_0(long old8, long active8, long old9,
       return jjStartNfa_0(10, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, old8, old9, old10, 0L, 0L);
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, active8, active9, active10, 0L, 0L);
+      jjStopStringLiteralDfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, active9, active10, 0L, 0L);
       return 12;
    }
    switch(curChar)
    {
       case 50:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x400000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x800000000L, active10, 0L);
       case 51:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x800000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x1000000000L, active10, 0L);
       case 95:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x80000000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x8000004000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x8000000000L, active10, 0x1L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x2200010000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x4400020000000000L, active10, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x200100000L, active10, 0x8000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x400200000L, active10, 0x10000L);
       case 68:
       case 100:
-         if ((active9 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(12, 587, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x400800000000L);
+         if ((active9 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(12, 588, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x801000000000L);
       case 69:
       case 101:
-         if ((active9 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(12, 579, 77);
-         else if ((active9 & 0x10L) != 0L)
+         if ((active9 & 0x10L) != 0L)
             return jjStartNfaWithStates_0(12, 580, 77);
-         else if ((active9 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(12, 582, 77);
-         else if ((active9 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(12, 586, 77);
-         else if ((active9 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(12, 589, 77);
+         else if ((active9 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(12, 581, 77);
+         else if ((active9 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(12, 583, 77);
+         else if ((active9 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(12, 587, 77);
          else if ((active9 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(12, 590, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x42880000080000L, active10, 0x800000000020L);
+         else if ((active9 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(12, 591, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0x85100000100000L, active10, 0x1000000000040L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x418000000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x830000000L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x2008000400000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x4010000800000L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x20000000000L, active10, 0x80000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x40000000000L, active10, 0x100000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x5081048000000000L, active10, 0xc200040000000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0xa102090000000000L, active10, 0x18400080000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x1032000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x2064000000L, active10, 0L);
       case 76:
       case 108:
-         if ((active9 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(12, 578, 77);
-         else if ((active9 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(12, 581, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x100002000000L);
+         if ((active9 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(12, 579, 77);
+         else if ((active9 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(12, 582, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x200004000000L);
       case 77:
       case 109:
-         if ((active9 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(12, 584, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0xc050000L, active10, 0x800a02L);
+         if ((active9 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(12, 585, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0x180a0000L, active10, 0x1001404L);
       case 78:
       case 110:
-         if ((active8 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(12, 575, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x100002081820000L, active10, 0x100000000L);
+         if ((active9 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(12, 576, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0x200004103040000L, active10, 0x200000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x4000100400000L, active10, 0x1000020314040L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x8000200800000L, active10, 0x2000040628080L);
       case 80:
       case 112:
-         if ((active9 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(12, 591, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x200000L, active10, 0x100L);
+         if ((active9 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(12, 592, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0x400000L, active10, 0x200L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x1000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x2000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x800000000000000L, active10, 0x220000005042008L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x1000000000000000L, active10, 0x44000000a084010L);
       case 83:
       case 115:
-         if ((active9 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(12, 576, 77);
-         else if ((active9 & 0x2L) != 0L)
+         if ((active9 & 0x2L) != 0L)
             return jjStartNfaWithStates_0(12, 577, 77);
-         else if ((active9 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(12, 583, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x100003200020080L);
+         else if ((active9 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(12, 578, 77);
+         else if ((active9 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(12, 584, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x200006400040100L);
       case 84:
       case 116:
-         if ((active9 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(12, 585, 77);
-         else if ((active9 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(12, 588, 77);
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x400000000000000L, active10, 0x800d4000000415L);
+         if ((active9 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(12, 586, 77);
+         else if ((active9 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(12, 589, 77);
+         return jjMoveStringLiteralDfa13_0(active9, 0x800000000000000L, active10, 0x1001a800000082aL);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0L, active10, 0x10020000000000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0L, active10, 0x20040000000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x40000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x80000000L, active10, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x38600000000000L, active10, 0x40000000000000L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x70c00000000000L, active10, 0x80000000000000L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa13_0(active8, 0L, active9, 0x100000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa13_0(active9, 0x200000000000L, active10, 0L);
       default :
          break;
    }
-   return jjStartNfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, active8, active9, active10, 0L, 0L);
+   return jjStartNfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, active9, active10, 0L, 0L);
 }
-private final int jjMoveStringLiteralDfa13_0(long old8, long active8, long old9, long active9, long old10, long active10)
+private final int jjMoveStringLiteralDfa13_0(long old9, long active9, long old10, long active10)
 {
-   if (((active8 &= old8) | (active9 &= old9) | (active10 &= old10)) == 0L)
-      return jjStartNfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, old8, old9, old10, 0L, 0L);
+   if (((active9 &= old9) | (active10 &= old10)) == 0L)
+      return jjStartNfa_0(11, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, old9, old10, 0L, 0L);
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
       jjStopStringLiteralDfa_0(12, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, active9, active10, 0L, 0L);
@@ -4106,108 +4108,108 @@ private final int jjMoveStringLiteralDfa13_0(long old8, long active8, long old9,
    {
       case 65:
       case 97:
-         if ((active9 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(13, 592, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0x200000000000000L, active10, 0x100000000000L);
+         if ((active9 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(13, 593, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0x400000000000000L, active10, 0x200000000000L);
       case 66:
       case 98:
-         if ((active9 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 601, 77);
-         else if ((active9 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 604, 77);
+         if ((active9 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 602, 77);
          else if ((active9 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(13, 605, 77);
-         else if ((active9 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 612, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0x2000000000000000L, active10, 0L);
+         else if ((active9 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 606, 77);
+         else if ((active9 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 613, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0x4000000000000000L, active10, 0L);
       case 68:
       case 100:
-         if ((active9 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 610, 77);
-         else if ((active9 & 0x800000000L) != 0L)
+         if ((active9 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(13, 611, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x200000000000L);
+         else if ((active9 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 612, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x400000000000L);
       case 69:
       case 101:
-         if ((active9 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(13, 596, 77);
-         else if ((active9 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(13, 599, 77);
-         else if ((active9 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 606, 77);
+         if ((active9 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(13, 597, 77);
+         else if ((active9 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 600, 77);
          else if ((active9 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(13, 607, 77);
-         else if ((active9 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 609, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x240004102880015L);
+         else if ((active9 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 608, 77);
+         else if ((active9 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 610, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x48000820510002aL);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x58000002000L);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0xb0000004000L);
       case 71:
       case 103:
-         if ((active9 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(13, 593, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0x100000000000000L, active10, 0L);
+         if ((active9 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(13, 594, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0x200000000000000L, active10, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa14_0(active9, 0x400020000000000L, active10, 0x480800400008L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x800040000000000L, active10, 0x901000800010L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa14_0(active9, 0x38600000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x70c00000000000L, active10, 0L);
       case 76:
       case 108:
-         if ((active9 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 602, 77);
-         else if ((active9 & 0x8000000L) != 0L)
+         if ((active9 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(13, 603, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x20000000040L);
+         else if ((active9 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 604, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x40000000080L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa14_0(active9, 0x4000000000L, active10, 0x80214000L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x8000000000L, active10, 0x100428000L);
       case 78:
       case 110:
-         if ((active9 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(13, 595, 77);
-         else if ((active9 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(13, 598, 77);
-         else if ((active9 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 608, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0x5080048000000000L, active10, 0x19800000000020L);
+         if ((active9 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(13, 596, 77);
+         else if ((active9 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(13, 599, 77);
+         else if ((active9 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 609, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0xa100090000000000L, active10, 0x33000000000040L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa14_0(active9, 0x1010000000000L, active10, 0x2000005048100L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x2020000000000L, active10, 0x400000a090200L);
       case 80:
       case 112:
-         if ((active9 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(13, 594, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0x4100000000000L, active10, 0x20003200020000L);
+         if ((active9 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(13, 595, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0x8200000000000L, active10, 0x40006400040000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x438100400L);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x870200800L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa14_0(active9, 0x8000000000000000L, active10, 0x4000040000000L);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x8000080000001L);
       case 84:
       case 116:
-         if ((active9 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(13, 597, 77);
-         else if ((active9 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 600, 77);
-         else if ((active9 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 613, 77);
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x100000000000a80L);
+         if ((active9 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(13, 598, 77);
+         else if ((active9 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 601, 77);
+         else if ((active9 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 614, 77);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x200000000001500L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x1000L);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x2000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa14_0(active9, 0x800000000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x1000000000000000L, active10, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x80000000000002L);
+         return jjMoveStringLiteralDfa14_0(active9, 0L, active10, 0x100000000000004L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa14_0(active9, 0x42880000000000L, active10, 0L);
+         return jjMoveStringLiteralDfa14_0(active9, 0x85100000000000L, active10, 0L);
       default :
          break;
    }
@@ -4225,103 +4227,103 @@ private final int jjMoveStringLiteralDfa14_0(long old9, long active9, long old10
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x804000000000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x1008000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa15_0(active9, 0x800000000000000L, active10, 0x3080L);
+         return jjMoveStringLiteralDfa15_0(active9, 0x1000000000000000L, active10, 0x6100L);
       case 66:
       case 98:
-         if ((active9 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 621, 77);
-         else if ((active9 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 627, 77);
+         if ((active9 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 622, 77);
          else if ((active9 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_0(14, 628, 77);
          else if ((active9 & 0x20000000000000L) != 0L)
             return jjStartNfaWithStates_0(14, 629, 77);
+         else if ((active9 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 630, 77);
          break;
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x2000020L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x4000040L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x10000000008000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x20000000010000L);
       case 69:
       case 101:
-         if ((active9 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 620, 77);
-         else if ((active9 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 626, 77);
-         else if ((active9 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 631, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0xc0200080000a08L);
+         if ((active9 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 621, 77);
+         else if ((active9 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 627, 77);
+         else if ((active9 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 632, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x180400100001410L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x400000000000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x800000000000L);
       case 71:
       case 103:
-         if ((active9 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 618, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0x5000000000000000L, active10, 0x9000000000000L);
+         if ((active9 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 619, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0xa000000000000000L, active10, 0x12000000000000L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x3200020000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x6400040000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x500L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0xa00L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x2L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x4L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x80004040000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x100008080000L);
       case 78:
       case 110:
-         if ((active9 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 617, 77);
-         else if ((active9 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 624, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x2000000000000L);
+         if ((active9 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 618, 77);
+         else if ((active9 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 625, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x4000000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa15_0(active9, 0xa400000000000000L, active10, 0x20000418000000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0x4800000000000000L, active10, 0x40000830000001L);
       case 80:
       case 112:
-         if ((active9 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 614, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x1000000L);
+         if ((active9 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 615, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x2000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x100058020180000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x2000b0040300000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa15_0(active9, 0x200000000000000L, active10, 0x200000800800000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0x400000000000000L, active10, 0x400001001000000L);
       case 84:
       case 116:
-         if ((active9 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 615, 77);
-         else if ((active9 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 619, 77);
-         else if ((active9 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 622, 77);
+         if ((active9 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 616, 77);
+         else if ((active9 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 620, 77);
          else if ((active9 & 0x800000000000L) != 0L)
             return jjStartNfaWithStates_0(14, 623, 77);
-         else if ((active9 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 625, 77);
-         else if ((active9 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 630, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0x100000000000000L, active10, 0x4120040610000L);
+         else if ((active9 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 624, 77);
+         else if ((active9 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 626, 77);
+         else if ((active9 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 631, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0x200000000000000L, active10, 0x8240080c20000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x40L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x80L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x4000L);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x8000L);
       case 88:
       case 120:
-         if ((active9 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 616, 77);
-         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x100000015L);
+         if ((active9 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 617, 77);
+         return jjMoveStringLiteralDfa15_0(active9, 0L, active10, 0x20000002aL);
       default :
          break;
    }
@@ -4339,92 +4341,92 @@ private final int jjMoveStringLiteralDfa15_0(long old9, long active9, long old10
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x5200040000000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0xa400080000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x80000000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x100000000L);
       case 66:
       case 98:
-         if ((active10 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(15, 641, 77);
+         if ((active10 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(15, 642, 77);
          break;
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x2000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x4000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x8000000000000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x10000000000000L);
       case 69:
       case 101:
-         if ((active9 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 633, 77);
-         else if ((active10 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(15, 645, 77);
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x280183201230000L);
+         if ((active9 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 634, 77);
+         else if ((active10 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(15, 646, 77);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x500306402460000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x2400000000000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x4800000000000L);
       case 72:
       case 104:
-         if ((active9 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 632, 77);
+         if ((active9 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 633, 77);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x110020020108000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x220040040210000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x4000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x8000L);
       case 76:
       case 108:
-         if ((active9 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 635, 77);
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x20000000001000L);
+         if ((active9 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 636, 77);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x40000000002000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x8004180000c0L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x1000830000180L);
       case 78:
       case 110:
-         if ((active9 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 634, 77);
-         else if ((active9 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 638, 77);
+         if ((active9 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 635, 77);
          else if ((active9 & 0x8000000000000000L) != 0L)
             return jjStartNfaWithStates_0(15, 639, 77);
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x40000000000500L);
+         else if ((active10 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(15, 640, 77);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x80000000000a00L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x58000080000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0xb0000100000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x4000000000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x8000000000L);
       case 83:
       case 115:
-         if ((active9 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 636, 77);
-         else if ((active10 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(15, 643, 77);
+         if ((active9 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 637, 77);
+         else if ((active10 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(15, 644, 77);
          break;
       case 84:
       case 116:
-         if ((active10 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(15, 640, 77);
-         else if ((active10 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(15, 642, 77);
-         else if ((active10 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(15, 644, 77);
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x906800000L);
+         if ((active10 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(15, 641, 77);
+         else if ((active10 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(15, 643, 77);
+         else if ((active10 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(15, 645, 77);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x120d000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x400000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x800000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x40000L);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x80000L);
       case 88:
       case 120:
-         if ((active9 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(15, 637, 77);
-         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0xa00L);
+         if ((active9 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(15, 638, 77);
+         return jjMoveStringLiteralDfa16_0(active9, 0L, active10, 0x1400L);
       default :
          break;
    }
@@ -4442,79 +4444,79 @@ private final int jjMoveStringLiteralDfa16_0(long old9, long active9, long old10
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa17_0(active10, 0x100000000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x200000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa17_0(active10, 0x20000800800000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x40001001000000L);
       case 66:
       case 98:
-         if ((active10 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(16, 654, 77);
+         if ((active10 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(16, 655, 77);
          break;
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa17_0(active10, 0x200000000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x400000000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa17_0(active10, 0x400000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x800000L);
       case 69:
       case 101:
-         if ((active10 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(16, 653, 77);
-         return jjMoveStringLiteralDfa17_0(active10, 0x40c00004000000L);
+         if ((active10 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(16, 654, 77);
+         return jjMoveStringLiteralDfa17_0(active10, 0x81800008000000L);
       case 71:
       case 103:
-         if ((active10 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(16, 650, 77);
+         if ((active10 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(16, 651, 77);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_0(active10, 0x8000002080000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x10000004100000L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa17_0(active10, 0x4000000000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x8000000000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa17_0(active10, 0x40000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x80000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa17_0(active10, 0x1058000000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x20b0000000000L);
       case 78:
       case 110:
-         if ((active10 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(16, 646, 77);
-         return jjMoveStringLiteralDfa17_0(active10, 0x190000020108000L);
+         if ((active10 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(16, 647, 77);
+         return jjMoveStringLiteralDfa17_0(active10, 0x320000040210000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa17_0(active10, 0x4000000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x8000000000L);
       case 80:
       case 112:
-         if ((active10 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(16, 647, 77);
-         return jjMoveStringLiteralDfa17_0(active10, 0x20000000000L);
+         if ((active10 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(16, 648, 77);
+         return jjMoveStringLiteralDfa17_0(active10, 0x40000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa17_0(active10, 0x202003301020000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x404006602040000L);
       case 83:
       case 115:
-         if ((active10 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(16, 652, 77);
-         return jjMoveStringLiteralDfa17_0(active10, 0x800c0000000L);
+         if ((active10 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(16, 653, 77);
+         return jjMoveStringLiteralDfa17_0(active10, 0x100180000000L);
       case 84:
       case 116:
-         if ((active10 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(16, 648, 77);
-         else if ((active10 & 0x200L) != 0L)
+         if ((active10 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(16, 649, 77);
-         else if ((active10 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(16, 651, 77);
-         return jjMoveStringLiteralDfa17_0(active10, 0x400000000L);
+         else if ((active10 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(16, 650, 77);
+         else if ((active10 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(16, 652, 77);
+         return jjMoveStringLiteralDfa17_0(active10, 0x800000000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa17_0(active10, 0x18000000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x30000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa17_0(active10, 0x210000L);
+         return jjMoveStringLiteralDfa17_0(active10, 0x420000L);
       default :
          break;
    }
@@ -4532,80 +4534,80 @@ private final int jjMoveStringLiteralDfa17_0(long old10, long active10)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa18_0(active10, 0x80000000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x100000000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa18_0(active10, 0x800100000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x1000200000000L);
       case 66:
       case 98:
-         if ((active10 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(17, 658, 77);
+         if ((active10 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(17, 659, 77);
          break;
       case 68:
       case 100:
-         if ((active10 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(17, 659, 77);
+         if ((active10 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(17, 660, 77);
          break;
       case 69:
       case 101:
-         if ((active10 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(17, 657, 77);
-         else if ((active10 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(17, 662, 77);
-         return jjMoveStringLiteralDfa18_0(active10, 0x1000440000000L);
+         if ((active10 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(17, 658, 77);
+         else if ((active10 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(17, 663, 77);
+         return jjMoveStringLiteralDfa18_0(active10, 0x2000880000000L);
       case 71:
       case 103:
-         if ((active10 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(17, 655, 77);
-         else if ((active10 & 0x100000L) != 0L)
+         if ((active10 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(17, 656, 77);
+         else if ((active10 & 0x200000L) != 0L)
          {
-            jjmatchedKind = 660;
+            jjmatchedKind = 661;
             jjmatchedPos = 17;
          }
-         return jjMoveStringLiteralDfa18_0(active10, 0x110000020000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x220000040000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa18_0(active10, 0x204000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x408000000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa18_0(active10, 0x18000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x30000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa18_0(active10, 0x40000001000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x80000002000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa18_0(active10, 0x800000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x1000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa18_0(active10, 0x800000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x1000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa18_0(active10, 0x6023202000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0xc046404000000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa18_0(active10, 0x100000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x200000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa18_0(active10, 0x8400000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x10800000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(17, 656, 77);
-         else if ((active10 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(17, 661, 77);
-         return jjMoveStringLiteralDfa18_0(active10, 0x200c0000000000L);
+         if ((active10 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(17, 657, 77);
+         else if ((active10 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(17, 662, 77);
+         return jjMoveStringLiteralDfa18_0(active10, 0x40180000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa18_0(active10, 0x80000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x100000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa18_0(active10, 0x200000000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x400000000000000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa18_0(active10, 0x18000000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x30000000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa18_0(active10, 0x4000000L);
+         return jjMoveStringLiteralDfa18_0(active10, 0x8000000L);
       default :
          break;
    }
@@ -4624,70 +4626,70 @@ private final int jjMoveStringLiteralDfa18_0(long old10, long active10)
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa19_0(active10, 0x1080000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x2100000000000L);
       case 66:
       case 98:
-         if ((active10 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 667, 77);
-         else if ((active10 & 0x10000000L) != 0L)
+         if ((active10 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(18, 668, 77);
+         else if ((active10 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 669, 77);
          break;
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa19_0(active10, 0x10000900000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x20001200000000L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa19_0(active10, 0x268440000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x4d0880000000000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa19_0(active10, 0x100000000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x200000000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_0(active10, 0x4023200000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x8046400000000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa19_0(active10, 0x18000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x30000000000L);
       case 76:
       case 108:
-         if ((active10 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 670, 77);
+         if ((active10 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 671, 77);
          break;
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa19_0(active10, 0x82000000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x104000000000000L);
       case 78:
       case 110:
-         if ((active10 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 665, 77);
-         return jjMoveStringLiteralDfa19_0(active10, 0x4000000000L);
+         if ((active10 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 666, 77);
+         return jjMoveStringLiteralDfa19_0(active10, 0x8000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa19_0(active10, 0x100000000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x200000000000L);
       case 80:
       case 112:
-         if ((active10 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(18, 663, 77);
+         if ((active10 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 664, 77);
          break;
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa19_0(active10, 0x200080000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x400100000000L);
       case 83:
       case 115:
-         if ((active10 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 669, 77);
-         return jjMoveStringLiteralDfa19_0(active10, 0x800000000000L);
+         if ((active10 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 670, 77);
+         return jjMoveStringLiteralDfa19_0(active10, 0x1000000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 666, 77);
+         if ((active10 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 667, 77);
          break;
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa19_0(active10, 0x400000000L);
+         return jjMoveStringLiteralDfa19_0(active10, 0x800000000L);
       case 89:
       case 121:
-         if ((active10 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(18, 664, 77);
+         if ((active10 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(18, 665, 77);
          break;
       default :
          break;
@@ -4706,66 +4708,66 @@ private final int jjMoveStringLiteralDfa19_0(long old10, long active10)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa20_0(active10, 0x20000000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x40000000000000L);
       case 66:
       case 98:
-         if ((active10 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 679, 77);
-         else if ((active10 & 0x10000000000L) != 0L)
+         if ((active10 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(19, 680, 77);
+         else if ((active10 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 681, 77);
          break;
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa20_0(active10, 0x8200000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x10400000000000L);
       case 68:
       case 100:
-         if ((active10 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 673, 77);
-         else if ((active10 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 676, 77);
+         if ((active10 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 674, 77);
          else if ((active10 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_0(19, 677, 77);
+         else if ((active10 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 678, 77);
          break;
       case 69:
       case 101:
-         if ((active10 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 671, 77);
-         else if ((active10 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 675, 77);
-         return jjMoveStringLiteralDfa20_0(active10, 0x80000000000000L);
+         if ((active10 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 672, 77);
+         else if ((active10 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 676, 77);
+         return jjMoveStringLiteralDfa20_0(active10, 0x100000000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa20_0(active10, 0x10100000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x20200000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa20_0(active10, 0x80000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x100000000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa20_0(active10, 0x4420000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x8840000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa20_0(active10, 0x100000000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x200000000000000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa20_0(active10, 0x1000000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x2000000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 672, 77);
-         else if ((active10 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 674, 77);
-         else if ((active10 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 678, 77);
-         return jjMoveStringLiteralDfa20_0(active10, 0x202000000000000L);
+         if ((active10 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 673, 77);
+         else if ((active10 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 675, 77);
+         else if ((active10 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 679, 77);
+         return jjMoveStringLiteralDfa20_0(active10, 0x404000000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa20_0(active10, 0x800000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x1000000000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa20_0(active10, 0x40000000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x80000000000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa20_0(active10, 0x40000000000L);
+         return jjMoveStringLiteralDfa20_0(active10, 0x80000000000L);
       default :
          break;
    }
@@ -4784,43 +4786,43 @@ private final int jjMoveStringLiteralDfa20_0(long old10, long active10)
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa21_0(active10, 0xc0000000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x180000000000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa21_0(active10, 0x400000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x800000000000L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa21_0(active10, 0x2000000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x4000000000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa21_0(active10, 0x200000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x400000000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_0(active10, 0x100000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x200000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa21_0(active10, 0x300000000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x600000000000000L);
       case 80:
       case 112:
-         if ((active10 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(20, 683, 77);
-         return jjMoveStringLiteralDfa21_0(active10, 0x20000000000000L);
+         if ((active10 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(20, 684, 77);
+         return jjMoveStringLiteralDfa21_0(active10, 0x40000000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa21_0(active10, 0x10800000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x21000000000000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa21_0(active10, 0x4000000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x8000000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(20, 681, 77);
-         else if ((active10 & 0x40000000000L) != 0L)
+         if ((active10 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(20, 682, 77);
-         return jjMoveStringLiteralDfa21_0(active10, 0x8000000000000L);
+         else if ((active10 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(20, 683, 77);
+         return jjMoveStringLiteralDfa21_0(active10, 0x10000000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa21_0(active10, 0x1000000000000L);
+         return jjMoveStringLiteralDfa21_0(active10, 0x2000000000000L);
       default :
          break;
    }
@@ -4839,40 +4841,40 @@ private final int jjMoveStringLiteralDfa21_0(long old10, long active10)
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa22_0(active10, 0x10000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x20000000000000L);
       case 69:
       case 101:
-         if ((active10 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(21, 685, 77);
-         else if ((active10 & 0x400000000000L) != 0L)
+         if ((active10 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_0(21, 686, 77);
-         return jjMoveStringLiteralDfa22_0(active10, 0x4800000000000L);
+         else if ((active10 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(21, 687, 77);
+         return jjMoveStringLiteralDfa22_0(active10, 0x9000000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa22_0(active10, 0x8000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x10000000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa22_0(active10, 0x100000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x200000000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa22_0(active10, 0x20000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x40000000000000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa22_0(active10, 0x200000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x400000000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa22_0(active10, 0x1000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x2000000000000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa22_0(active10, 0x80000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x100000000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(21, 684, 77);
-         return jjMoveStringLiteralDfa22_0(active10, 0x40000000000000L);
+         if ((active10 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(21, 685, 77);
+         return jjMoveStringLiteralDfa22_0(active10, 0x80000000000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa22_0(active10, 0x2000000000000L);
+         return jjMoveStringLiteralDfa22_0(active10, 0x4000000000000L);
       default :
          break;
    }
@@ -4891,33 +4893,33 @@ private final int jjMoveStringLiteralDfa22_0(long old10, long active10)
    {
       case 69:
       case 101:
-         if ((active10 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(22, 688, 77);
+         if ((active10 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(22, 689, 77);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa23_0(active10, 0x60000000000000L);
+         return jjMoveStringLiteralDfa23_0(active10, 0xc0000000000000L);
       case 76:
       case 108:
-         if ((active10 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(22, 690, 77);
-         return jjMoveStringLiteralDfa23_0(active10, 0x10000000000000L);
+         if ((active10 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(22, 691, 77);
+         return jjMoveStringLiteralDfa23_0(active10, 0x20000000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa23_0(active10, 0x208000000000000L);
+         return jjMoveStringLiteralDfa23_0(active10, 0x410000000000000L);
       case 83:
       case 115:
-         if ((active10 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(22, 687, 77);
+         if ((active10 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(22, 688, 77);
          break;
       case 84:
       case 116:
-         if ((active10 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(22, 689, 77);
-         return jjMoveStringLiteralDfa23_0(active10, 0x100000000000000L);
+         if ((active10 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(22, 690, 77);
+         return jjMoveStringLiteralDfa23_0(active10, 0x200000000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa23_0(active10, 0x80000000000000L);
+         return jjMoveStringLiteralDfa23_0(active10, 0x100000000000000L);
       default :
          break;
    }
@@ -4936,23 +4938,23 @@ private final int jjMoveStringLiteralDfa23_0(long old10, long active10)
    {
       case 69:
       case 101:
-         if ((active10 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(23, 692, 77);
-         return jjMoveStringLiteralDfa24_0(active10, 0x100000000000000L);
+         if ((active10 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(23, 693, 77);
+         return jjMoveStringLiteralDfa24_0(active10, 0x200000000000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa24_0(active10, 0x200000000000000L);
+         return jjMoveStringLiteralDfa24_0(active10, 0x400000000000000L);
       case 78:
       case 110:
-         if ((active10 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(23, 691, 77);
-         return jjMoveStringLiteralDfa24_0(active10, 0x20000000000000L);
+         if ((active10 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(23, 692, 77);
+         return jjMoveStringLiteralDfa24_0(active10, 0x40000000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_0(active10, 0x40000000000000L);
+         return jjMoveStringLiteralDfa24_0(active10, 0x80000000000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa24_0(active10, 0x80000000000000L);
+         return jjMoveStringLiteralDfa24_0(active10, 0x100000000000000L);
       default :
          break;
    }
@@ -4971,21 +4973,21 @@ private final int jjMoveStringLiteralDfa24_0(long old10, long active10)
    {
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa25_0(active10, 0x80000000000000L);
+         return jjMoveStringLiteralDfa25_0(active10, 0x100000000000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa25_0(active10, 0x40000000000000L);
+         return jjMoveStringLiteralDfa25_0(active10, 0x80000000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa25_0(active10, 0x200000000000000L);
+         return jjMoveStringLiteralDfa25_0(active10, 0x400000000000000L);
       case 84:
       case 116:
-         if ((active10 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(24, 693, 77);
+         if ((active10 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(24, 694, 77);
          break;
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa25_0(active10, 0x100000000000000L);
+         return jjMoveStringLiteralDfa25_0(active10, 0x200000000000000L);
       default :
          break;
    }
@@ -5004,18 +5006,18 @@ private final int jjMoveStringLiteralDfa25_0(long old10, long active10)
    {
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa26_0(active10, 0x200000000000000L);
+         return jjMoveStringLiteralDfa26_0(active10, 0x400000000000000L);
       case 83:
       case 115:
-         if ((active10 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(25, 694, 77);
-         else if ((active10 & 0x80000000000000L) != 0L)
+         if ((active10 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(25, 695, 77);
+         else if ((active10 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(25, 696, 77);
          break;
       case 84:
       case 116:
-         if ((active10 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(25, 696, 77);
+         if ((active10 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(25, 697, 77);
          break;
       default :
          break;
@@ -5035,8 +5037,8 @@ private final int jjMoveStringLiteralDfa26_0(long old10, long active10)
    {
       case 89:
       case 121:
-         if ((active10 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(26, 697, 77);
+         if ((active10 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(26, 698, 77);
          break;
       default :
          break;
@@ -5102,99 +5104,99 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 77:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 697:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 803:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 29:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 55:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 742:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 559:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 827:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 255:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 97:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 668:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 694:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 888:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5205,15 +5207,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 735:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 908:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5222,36 +5224,36 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 744:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 62:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 568:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 502:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 895:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5260,50 +5262,50 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 639:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 30:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 881:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 818:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 720:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 254:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 72:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5312,22 +5314,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 733:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 49:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 894:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5356,15 +5358,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 736:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 887:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5373,78 +5375,78 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 649:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 14:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 40:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 331:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 498:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
-               case 43:
+               case 512:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
-               case 512:
+               case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 215:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 868:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 246:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 898:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5455,15 +5457,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 717:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 899:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5472,8 +5474,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 743:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 557:
@@ -5484,8 +5486,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 910:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5496,8 +5498,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 265:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5508,8 +5510,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 891:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5520,29 +5522,29 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 212:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 566:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 217:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 869:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5553,106 +5555,106 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 315:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 50:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 131:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 801:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 351:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 318:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 685:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 698:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 650:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 560:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 193:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 537:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 92:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 886:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5661,15 +5663,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 640:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 905:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5678,8 +5680,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 695:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 883:
@@ -5687,8 +5689,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(12, 14);
                   else if (curChar == 34)
                   {
-                     if (kind > 780)
-                        kind = 780;
+                     if (kind > 781)
+                        kind = 781;
                   }
                   if (curChar == 34)
                      jjstateSet[jjnewStateCnt++] = 80;
@@ -5696,15 +5698,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 328:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 885:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5713,8 +5715,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 329:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 884:
@@ -5722,134 +5724,134 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(812, 813);
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 762)
-                        kind = 762;
+                     if (kind > 763)
+                        kind = 763;
                      jjCheckNAdd(809);
                   }
                   break;
                case 727:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 663:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 652:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 31:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 169:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 792:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 34:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 499:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 706:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 721:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 343:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 200:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 116:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 734:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 330:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 117:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 5:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 761)
-                        kind = 761;
+                     if (kind > 762)
+                        kind = 762;
                      jjCheckNAddStates(15, 21);
                   }
                   else if ((0x280000000000L & l) != 0L)
                   {
-                     if (kind > 698)
-                        kind = 698;
+                     if (kind > 699)
+                        kind = 699;
                   }
                   else if (curChar == 46)
                      jjCheckNAddTwoStates(809, 812);
@@ -5867,8 +5869,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 903:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -5877,99 +5879,99 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 41:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
-               case 686:
+               case 866:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
-               case 866:
+               case 686:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 130:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 309:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 155:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 705:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 641:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 585:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 166:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 213:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 567:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 653:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 911:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -5980,29 +5982,29 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 51:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 802:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 202:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 897:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6011,15 +6013,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 535:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 901:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6028,15 +6030,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 515:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 900:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6045,8 +6047,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 896:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6055,15 +6057,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 651:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 906:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6074,8 +6076,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 889:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6084,29 +6086,29 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 477:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 96:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 873:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 893:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6117,43 +6119,43 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 514:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 696:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 167:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 61:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 91:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 907:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6164,36 +6166,36 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 90:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 545:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 548:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 828:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 909:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6204,22 +6206,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 32:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 201:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 902:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6230,8 +6232,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 892:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6242,22 +6244,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 558:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 168:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 722:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 39)
@@ -6266,29 +6268,29 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 497:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 867:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 613:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 904:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6297,8 +6299,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 890:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   else if (curChar == 32)
@@ -6307,64 +6309,64 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 616:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 211:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 491:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 655:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 214:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 478:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 684:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 826:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 800:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 0:
@@ -6416,8 +6418,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 6;
                   break;
                case 13:
-                  if ((0x280000000000L & l) != 0L && kind > 698)
-                     kind = 698;
+                  if ((0x280000000000L & l) != 0L && kind > 699)
+                     kind = 699;
                   break;
                case 15:
                   if (curChar == 32)
@@ -6456,8 +6458,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(52, 54);
                   break;
                case 69:
-                  if (curChar == 39 && kind > 764)
-                     kind = 764;
+                  if (curChar == 39 && kind > 765)
+                     kind = 765;
                   break;
                case 70:
                   if (curChar == 36)
@@ -6466,8 +6468,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 71:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 765)
-                     kind = 765;
+                  if (kind > 766)
+                     kind = 766;
                   jjCheckNAdd(71);
                   break;
                case 73:
@@ -6475,8 +6477,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(73, 74);
                   break;
                case 74:
-                  if (curChar == 39 && kind > 777)
-                     kind = 777;
+                  if (curChar == 39 && kind > 778)
+                     kind = 778;
                   break;
                case 78:
                   if (curChar == 34)
@@ -6499,8 +6501,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(55, 57);
                   break;
                case 83:
-                  if (curChar == 34 && kind > 780)
-                     kind = 780;
+                  if (curChar == 34 && kind > 781)
+                     kind = 781;
                   break;
                case 86:
                   if (curChar == 32)
@@ -6573,8 +6575,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 270:
                   if (curChar != 32)
                      break;
-                  if (kind > 709)
-                     kind = 709;
+                  if (kind > 710)
+                     kind = 710;
                   jjstateSet[jjnewStateCnt++] = 270;
                   break;
                case 281:
@@ -6702,8 +6704,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(96, 98);
                   break;
                case 544:
-                  if (curChar == 39 && kind > 773)
-                     kind = 773;
+                  if (curChar == 39 && kind > 774)
+                     kind = 774;
                   break;
                case 561:
                   if (curChar == 32)
@@ -6754,8 +6756,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(107, 109);
                   break;
                case 623:
-                  if (curChar == 39 && kind > 767)
-                     kind = 767;
+                  if (curChar == 39 && kind > 768)
+                     kind = 768;
                   break;
                case 628:
                   if (curChar == 32)
@@ -6786,8 +6788,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(112, 114);
                   break;
                case 648:
-                  if (curChar == 39 && kind > 766)
-                     kind = 766;
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
                   break;
                case 656:
                   if (curChar == 32)
@@ -6814,8 +6816,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(115, 117);
                   break;
                case 662:
-                  if (curChar == 39 && kind > 771)
-                     kind = 771;
+                  if (curChar == 39 && kind > 772)
+                     kind = 772;
                   break;
                case 669:
                   if (curChar == 32)
@@ -6842,8 +6844,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(118, 120);
                   break;
                case 675:
-                  if (curChar == 39 && kind > 774)
-                     kind = 774;
+                  if (curChar == 39 && kind > 775)
+                     kind = 775;
                   break;
                case 680:
                   if (curChar == 32)
@@ -6874,8 +6876,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(123, 125);
                   break;
                case 693:
-                  if (curChar == 39 && kind > 775)
-                     kind = 775;
+                  if (curChar == 39 && kind > 776)
+                     kind = 776;
                   break;
                case 708:
                   if (curChar == 32)
@@ -6890,8 +6892,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(724, 725);
                   break;
                case 725:
-                  if (curChar == 39 && kind > 776)
-                     kind = 776;
+                  if (curChar == 39 && kind > 777)
+                     kind = 777;
                   break;
                case 728:
                   if (curChar == 32)
@@ -6938,21 +6940,21 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(134, 136);
                   break;
                case 799:
-                  if (curChar == 39 && kind > 772)
-                     kind = 772;
+                  if (curChar == 39 && kind > 773)
+                     kind = 773;
                   break;
                case 805:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 761)
-                     kind = 761;
+                  if (kind > 762)
+                     kind = 762;
                   jjCheckNAddStates(15, 21);
                   break;
                case 806:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 761)
-                     kind = 761;
+                  if (kind > 762)
+                     kind = 762;
                   jjCheckNAdd(806);
                   break;
                case 807:
@@ -6966,8 +6968,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 809:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 762)
-                     kind = 762;
+                  if (kind > 763)
+                     kind = 763;
                   jjCheckNAdd(809);
                   break;
                case 810:
@@ -6989,8 +6991,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 815:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 763)
-                     kind = 763;
+                  if (kind > 764)
+                     kind = 764;
                   jjCheckNAdd(815);
                   break;
                case 816:
@@ -7022,8 +7024,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(137, 139);
                   break;
                case 825:
-                  if (curChar == 39 && kind > 768)
-                     kind = 768;
+                  if (curChar == 39 && kind > 769)
+                     kind = 769;
                   break;
                case 829:
                   if (curChar == 32)
@@ -7050,8 +7052,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(140, 142);
                   break;
                case 835:
-                  if (curChar == 39 && kind > 769)
-                     kind = 769;
+                  if (curChar == 39 && kind > 770)
+                     kind = 770;
                   break;
                case 838:
                   if (curChar == 32)
@@ -7098,8 +7100,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(151, 153);
                   break;
                case 880:
-                  if (curChar == 39 && kind > 770)
-                     kind = 770;
+                  if (curChar == 39 && kind > 771)
+                     kind = 771;
                   break;
                default : break;
             }
@@ -7115,8 +7117,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 513:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7127,8 +7129,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 52:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7137,8 +7139,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 697:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002000L & l) != 0L)
@@ -7147,8 +7149,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 803:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008L & l) != 0L)
@@ -7157,8 +7159,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 29:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7167,8 +7169,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 55:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7177,8 +7179,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 742:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7187,8 +7189,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 559:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7211,8 +7213,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 827:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7225,8 +7227,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 255:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7245,8 +7247,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 97:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -7255,8 +7257,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 668:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7265,8 +7267,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 694:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7276,15 +7278,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 77:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 735:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7303,8 +7305,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 908:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -7313,8 +7315,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 744:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008L & l) != 0L)
@@ -7329,8 +7331,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 62:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7339,8 +7341,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 568:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008L & l) != 0L)
@@ -7351,8 +7353,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 502:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7363,15 +7365,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 895:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 639:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7380,8 +7382,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 30:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7390,8 +7392,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 881:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x100000001000000L & l) != 0L)
@@ -7400,8 +7402,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 818:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7412,8 +7414,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 720:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7422,8 +7424,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 254:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7438,15 +7440,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 72:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 733:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7455,8 +7457,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 49:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7465,15 +7467,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 894:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 736:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7482,8 +7484,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 887:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -7492,8 +7494,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 649:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7502,8 +7504,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 14:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7512,8 +7514,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 40:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7522,8 +7524,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 331:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010000L & l) != 0L)
@@ -7532,28 +7534,18 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 498:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 497;
                   break;
-               case 43:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 779)
-                        kind = 779;
-                     jjCheckNAdd(77);
-                  }
-                  if ((0x4000000040000L & l) != 0L)
-                     jjAddStates(162, 163);
-                  break;
                case 512:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7561,11 +7553,21 @@ private final int jjMoveNfa_0(int startState, int curPos)
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 502;
                   break;
+               case 43:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 780)
+                        kind = 780;
+                     jjCheckNAdd(77);
+                  }
+                  if ((0x4000000040000L & l) != 0L)
+                     jjAddStates(162, 163);
+                  break;
                case 215:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -7578,8 +7580,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 868:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7588,8 +7590,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 246:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100L & l) != 0L)
@@ -7604,29 +7606,29 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 898:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 717:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x100000001000L & l) != 0L)
                   {
-                     if (kind > 741)
-                        kind = 741;
+                     if (kind > 742)
+                        kind = 742;
                      jjstateSet[jjnewStateCnt++] = 720;
                   }
                   break;
                case 899:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -7635,8 +7637,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 743:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -7649,15 +7651,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 910:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 265:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7668,15 +7670,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 891:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 212:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7685,8 +7687,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 566:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7695,8 +7697,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 217:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -7707,8 +7709,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 869:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x8000000080000L & l) != 0L)
@@ -7717,8 +7719,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 315:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7727,8 +7729,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 50:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7737,8 +7739,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 131:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7749,8 +7751,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 801:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -7759,8 +7761,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 351:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7789,8 +7791,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 318:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7799,8 +7801,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 685:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7811,8 +7813,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 53:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -7821,8 +7823,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 698:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7831,8 +7833,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 650:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x40000000400000L & l) != 0L)
@@ -7841,8 +7843,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 560:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7851,8 +7853,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 193:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -7861,8 +7863,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 537:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7871,8 +7873,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 92:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7881,8 +7883,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 886:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -7891,8 +7893,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 640:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -7907,8 +7909,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 905:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -7917,8 +7919,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 695:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -7931,8 +7933,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 328:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -7941,15 +7943,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 885:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 329:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -7960,8 +7962,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 727:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100L & l) != 0L)
@@ -7970,8 +7972,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 663:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7980,8 +7982,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 652:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -7992,8 +7994,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 31:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -8002,8 +8004,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 169:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8014,8 +8016,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 792:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8024,8 +8026,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 34:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8034,8 +8036,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 499:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008L & l) != 0L)
@@ -8044,8 +8046,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 706:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010000L & l) != 0L)
@@ -8056,8 +8058,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 721:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -8066,8 +8068,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 343:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x80000000800000L & l) != 0L)
@@ -8096,8 +8098,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 200:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -8106,8 +8108,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 116:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8118,8 +8120,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 734:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -8128,8 +8130,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 330:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8166,8 +8168,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 117:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8182,8 +8184,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 5:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -8228,45 +8230,45 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 903:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 41:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 40;
                   break;
-               case 686:
+               case 866:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
-                  if ((0x200000002000000L & l) != 0L)
-                     jjAddStates(238, 239);
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 828;
                   break;
-               case 866:
+               case 686:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
-                  if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 828;
+                  if ((0x200000002000000L & l) != 0L)
+                     jjAddStates(238, 239);
                   break;
                case 130:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -8277,8 +8279,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 309:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x80000000800L & l) != 0L)
@@ -8287,8 +8289,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 155:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x8000000080000L & l) != 0L)
@@ -8297,8 +8299,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 705:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8307,8 +8309,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 641:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x100000001000L & l) != 0L)
@@ -8317,8 +8319,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 585:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -8329,8 +8331,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 166:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008L & l) != 0L)
@@ -8343,8 +8345,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 213:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -8353,8 +8355,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 567:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8363,8 +8365,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 653:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8377,8 +8379,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 911:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x80000000800000L & l) != 0L)
@@ -8387,8 +8389,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 51:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8397,8 +8399,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 802:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -8407,8 +8409,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 202:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8423,15 +8425,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 897:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 535:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -8440,15 +8442,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 901:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 515:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200L & l) != 0L)
@@ -8463,22 +8465,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 900:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 896:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 651:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x8000000080L & l) != 0L)
@@ -8489,15 +8491,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 906:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 889:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -8506,8 +8508,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 477:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200L & l) != 0L)
@@ -8516,8 +8518,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 96:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8526,8 +8528,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 873:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x10000000100000L & l) != 0L)
@@ -8536,15 +8538,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 893:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 514:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8555,8 +8557,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 696:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8565,8 +8567,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 167:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8579,8 +8581,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 61:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -8589,8 +8591,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 91:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -8603,15 +8605,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 907:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 90:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -8620,8 +8622,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 545:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -8630,8 +8632,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 548:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010000L & l) != 0L)
@@ -8640,8 +8642,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 828:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010000L & l) != 0L)
@@ -8650,15 +8652,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 909:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 32:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010000L & l) != 0L)
@@ -8667,8 +8669,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 201:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -8677,22 +8679,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 902:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 892:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 558:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -8701,8 +8703,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 168:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -8715,8 +8717,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 722:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -8725,8 +8727,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 497:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x400000004000L & l) != 0L)
@@ -8735,8 +8737,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 867:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -8745,8 +8747,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 613:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -8755,8 +8757,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 904:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -8765,8 +8767,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 890:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040L & l) != 0L)
@@ -8775,8 +8777,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 616:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8785,8 +8787,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 211:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002L & l) != 0L)
@@ -8795,8 +8797,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 491:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -8805,8 +8807,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 655:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x4000000040000L & l) != 0L)
@@ -8815,8 +8817,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 214:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x2000000020L & l) != 0L)
@@ -8825,8 +8827,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 478:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002000L & l) != 0L)
@@ -8835,8 +8837,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 684:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x800000008000L & l) != 0L)
@@ -8845,8 +8847,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 826:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x200000002000L & l) != 0L)
@@ -8857,8 +8859,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 800:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 779)
-                        kind = 779;
+                     if (kind > 780)
+                        kind = 780;
                      jjCheckNAdd(77);
                   }
                   if ((0x1000000010L & l) != 0L)
@@ -8879,8 +8881,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(256, 257);
                   break;
                case 17:
-                  if ((0x10000000100000L & l) != 0L && kind > 700)
-                     kind = 700;
+                  if ((0x10000000100000L & l) != 0L && kind > 701)
+                     kind = 701;
                   break;
                case 18:
                   if ((0x200000002L & l) != 0L)
@@ -8891,8 +8893,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 18;
                   break;
                case 20:
-                  if ((0x8000000080000L & l) != 0L && kind > 700)
-                     kind = 700;
+                  if ((0x8000000080000L & l) != 0L && kind > 701)
+                     kind = 701;
                   break;
                case 21:
                   if ((0x800000008L & l) != 0L)
@@ -8931,8 +8933,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 32;
                   break;
                case 36:
-                  if ((0x200000002000L & l) != 0L && kind > 742)
-                     kind = 742;
+                  if ((0x200000002000L & l) != 0L && kind > 743)
+                     kind = 743;
                   break;
                case 37:
                   if ((0x800000008000L & l) != 0L)
@@ -8951,8 +8953,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 45:
-                  if ((0x200000002000L & l) != 0L && kind > 743)
-                     kind = 743;
+                  if ((0x200000002000L & l) != 0L && kind > 744)
+                     kind = 744;
                   break;
                case 46:
                   if ((0x800000008000L & l) != 0L)
@@ -8971,8 +8973,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 53;
                   break;
                case 57:
-                  if ((0x200000002000L & l) != 0L && kind > 751)
-                     kind = 751;
+                  if ((0x200000002000L & l) != 0L && kind > 752)
+                     kind = 752;
                   break;
                case 58:
                   if ((0x800000008000L & l) != 0L)
@@ -9007,8 +9009,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 76:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 779)
-                     kind = 779;
+                  if (kind > 780)
+                     kind = 780;
                   jjCheckNAdd(77);
                   break;
                case 82:
@@ -9023,8 +9025,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 86;
                   break;
                case 87:
-                  if ((0x200000002000000L & l) != 0L && kind > 699)
-                     kind = 699;
+                  if ((0x200000002000000L & l) != 0L && kind > 700)
+                     kind = 700;
                   break;
                case 88:
                   if ((0x400000004L & l) != 0L)
@@ -9035,8 +9037,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 85;
                   break;
                case 94:
-                  if ((0x800000008000L & l) != 0L && kind > 724)
-                     kind = 724;
+                  if ((0x800000008000L & l) != 0L && kind > 725)
+                     kind = 725;
                   break;
                case 95:
                   if ((0x10000000100000L & l) != 0L)
@@ -9051,8 +9053,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 100;
                   break;
                case 101:
-                  if ((0x10000000100000L & l) != 0L && kind > 731)
-                     kind = 731;
+                  if ((0x10000000100000L & l) != 0L && kind > 732)
+                     kind = 732;
                   break;
                case 102:
                   if ((0x20000000200L & l) != 0L)
@@ -9083,8 +9085,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 109;
                   break;
                case 110:
-                  if ((0x200000002000000L & l) != 0L && kind > 701)
-                     kind = 701;
+                  if ((0x200000002000000L & l) != 0L && kind > 702)
+                     kind = 702;
                   break;
                case 111:
                   if ((0x2000000020L & l) != 0L)
@@ -9111,8 +9113,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 119;
                   break;
                case 120:
-                  if ((0x200000002000000L & l) != 0L && kind > 703)
-                     kind = 703;
+                  if ((0x200000002000000L & l) != 0L && kind > 704)
+                     kind = 704;
                   break;
                case 121:
                   if ((0x2000000020L & l) != 0L)
@@ -9159,8 +9161,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 134;
                   break;
                case 135:
-                  if ((0x10000000100L & l) != 0L && kind > 707)
-                     kind = 707;
+                  if ((0x10000000100L & l) != 0L && kind > 708)
+                     kind = 708;
                   break;
                case 136:
                   if ((0x10000000100000L & l) != 0L)
@@ -9207,8 +9209,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 147;
                   break;
                case 148:
-                  if ((0x8000000080000L & l) != 0L && kind > 732)
-                     kind = 732;
+                  if ((0x8000000080000L & l) != 0L && kind > 733)
+                     kind = 733;
                   break;
                case 149:
                   if ((0x80000000800000L & l) != 0L)
@@ -9251,8 +9253,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 160;
                   break;
                case 161:
-                  if ((0x200000002000000L & l) != 0L && kind > 702)
-                     kind = 702;
+                  if ((0x200000002000000L & l) != 0L && kind > 703)
+                     kind = 703;
                   break;
                case 162:
                   if ((0x2000000020L & l) != 0L)
@@ -9275,8 +9277,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 172;
                   break;
                case 173:
-                  if ((0x100000001000L & l) != 0L && kind > 729)
-                     kind = 729;
+                  if ((0x100000001000L & l) != 0L && kind > 730)
+                     kind = 730;
                   break;
                case 174:
                   if ((0x100000001000L & l) != 0L)
@@ -9315,8 +9317,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 183;
                   break;
                case 184:
-                  if ((0x2000000020L & l) != 0L && kind > 730)
-                     kind = 730;
+                  if ((0x2000000020L & l) != 0L && kind > 731)
+                     kind = 731;
                   break;
                case 185:
                   if ((0x10000000100000L & l) != 0L)
@@ -9351,8 +9353,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(224, 227);
                   break;
                case 195:
-                  if ((0x400000004000L & l) != 0L && kind > 704)
-                     kind = 704;
+                  if ((0x400000004000L & l) != 0L && kind > 705)
+                     kind = 705;
                   break;
                case 196:
                   if ((0x20000000200L & l) != 0L)
@@ -9375,8 +9377,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 204;
                   break;
                case 205:
-                  if ((0x1000000010L & l) != 0L && kind > 719)
-                     kind = 719;
+                  if ((0x1000000010L & l) != 0L && kind > 720)
+                     kind = 720;
                   break;
                case 206:
                   if ((0x200000002L & l) != 0L)
@@ -9403,8 +9405,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 215;
                   break;
                case 219:
-                  if ((0x1000000010L & l) != 0L && kind > 720)
-                     kind = 720;
+                  if ((0x1000000010L & l) != 0L && kind > 721)
+                     kind = 721;
                   break;
                case 220:
                   if ((0x2000000020L & l) != 0L)
@@ -9451,8 +9453,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 231;
                   break;
                case 232:
-                  if ((0x1000000010L & l) != 0L && kind > 721)
-                     kind = 721;
+                  if ((0x1000000010L & l) != 0L && kind > 722)
+                     kind = 722;
                   break;
                case 233:
                   if ((0x2000000020L & l) != 0L)
@@ -9507,8 +9509,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(218, 223);
                   break;
                case 248:
-                  if ((0x1000000010L & l) != 0L && kind > 705)
-                     kind = 705;
+                  if ((0x1000000010L & l) != 0L && kind > 706)
+                     kind = 706;
                   break;
                case 249:
                   if ((0x20000000200L & l) != 0L)
@@ -9535,8 +9537,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 257;
                   break;
                case 258:
-                  if ((0x1000000010L & l) != 0L && kind > 706)
-                     kind = 706;
+                  if ((0x1000000010L & l) != 0L && kind > 707)
+                     kind = 707;
                   break;
                case 259:
                   if ((0x20000000200L & l) != 0L)
@@ -9623,8 +9625,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 283;
                   break;
                case 284:
-                  if ((0x2000000020L & l) != 0L && kind > 738)
-                     kind = 738;
+                  if ((0x2000000020L & l) != 0L && kind > 739)
+                     kind = 739;
                   break;
                case 285:
                   if ((0x400000004000L & l) != 0L)
@@ -9667,8 +9669,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 296;
                   break;
                case 297:
-                  if ((0x2000000020L & l) != 0L && kind > 739)
-                     kind = 739;
+                  if ((0x2000000020L & l) != 0L && kind > 740)
+                     kind = 740;
                   break;
                case 298:
                   if ((0x400000004000L & l) != 0L)
@@ -9715,8 +9717,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 307;
                   break;
                case 311:
-                  if ((0x200000002000L & l) != 0L && kind > 745)
-                     kind = 745;
+                  if ((0x200000002000L & l) != 0L && kind > 746)
+                     kind = 746;
                   break;
                case 312:
                   if ((0x800000008000L & l) != 0L)
@@ -9739,8 +9741,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(203, 217);
                   break;
                case 320:
-                  if ((0x2000000020L & l) != 0L && kind > 708)
-                     kind = 708;
+                  if ((0x2000000020L & l) != 0L && kind > 709)
+                     kind = 709;
                   break;
                case 321:
                   if ((0x8000000080000L & l) != 0L)
@@ -9771,8 +9773,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 326;
                   break;
                case 333:
-                  if ((0x2000000020L & l) != 0L && kind > 710)
-                     kind = 710;
+                  if ((0x2000000020L & l) != 0L && kind > 711)
+                     kind = 711;
                   break;
                case 334:
                   if ((0x8000000080000L & l) != 0L)
@@ -9811,8 +9813,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 341;
                   break;
                case 345:
-                  if ((0x8000000080000L & l) != 0L && kind > 714)
-                     kind = 714;
+                  if ((0x8000000080000L & l) != 0L && kind > 715)
+                     kind = 715;
                   break;
                case 346:
                   if ((0x10000000100000L & l) != 0L)
@@ -9843,8 +9845,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 354;
                   break;
                case 355:
-                  if ((0x8000000080000L & l) != 0L && kind > 715)
-                     kind = 715;
+                  if ((0x8000000080000L & l) != 0L && kind > 716)
+                     kind = 716;
                   break;
                case 356:
                   if ((0x10000000100000L & l) != 0L)
@@ -9895,8 +9897,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 368;
                   break;
                case 369:
-                  if ((0x8000000080000L & l) != 0L && kind > 716)
-                     kind = 716;
+                  if ((0x8000000080000L & l) != 0L && kind > 717)
+                     kind = 717;
                   break;
                case 370:
                   if ((0x2000000020L & l) != 0L)
@@ -9943,8 +9945,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 381;
                   break;
                case 382:
-                  if ((0x8000000080000L & l) != 0L && kind > 717)
-                     kind = 717;
+                  if ((0x8000000080000L & l) != 0L && kind > 718)
+                     kind = 718;
                   break;
                case 383:
                   if ((0x2000000020L & l) != 0L)
@@ -9987,8 +9989,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 395;
                   break;
                case 396:
-                  if ((0x100000001000L & l) != 0L && kind > 718)
-                     kind = 718;
+                  if ((0x100000001000L & l) != 0L && kind > 719)
+                     kind = 719;
                   break;
                case 397:
                   if ((0x2000000020L & l) != 0L)
@@ -10091,8 +10093,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 422;
                   break;
                case 423:
-                  if ((0x8000000080000L & l) != 0L && kind > 723)
-                     kind = 723;
+                  if ((0x8000000080000L & l) != 0L && kind > 724)
+                     kind = 724;
                   break;
                case 424:
                   if ((0x10000000100000L & l) != 0L)
@@ -10147,8 +10149,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 437;
                   break;
                case 438:
-                  if ((0x2000000020L & l) != 0L && kind > 725)
-                     kind = 725;
+                  if ((0x2000000020L & l) != 0L && kind > 726)
+                     kind = 726;
                   break;
                case 439:
                   if ((0x100000001000L & l) != 0L)
@@ -10179,8 +10181,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 446;
                   break;
                case 447:
-                  if ((0x80000000800000L & l) != 0L && kind > 726)
-                     kind = 726;
+                  if ((0x80000000800000L & l) != 0L && kind > 727)
+                     kind = 727;
                   break;
                case 448:
                   if ((0x2000000020L & l) != 0L)
@@ -10207,8 +10209,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 454;
                   break;
                case 455:
-                  if ((0x8000000080000L & l) != 0L && kind > 727)
-                     kind = 727;
+                  if ((0x8000000080000L & l) != 0L && kind > 728)
+                     kind = 728;
                   break;
                case 456:
                   if ((0x80000000800000L & l) != 0L)
@@ -10239,8 +10241,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 463;
                   break;
                case 464:
-                  if ((0x8000000080000L & l) != 0L && kind > 728)
-                     kind = 728;
+                  if ((0x8000000080000L & l) != 0L && kind > 729)
+                     kind = 729;
                   break;
                case 465:
                   if ((0x4000000040000L & l) != 0L)
@@ -10271,8 +10273,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 472;
                   break;
                case 473:
-                  if ((0x800000008000L & l) != 0L && kind > 736)
-                     kind = 736;
+                  if ((0x800000008000L & l) != 0L && kind > 737)
+                     kind = 737;
                   break;
                case 474:
                   if ((0x10000000100000L & l) != 0L)
@@ -10295,8 +10297,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 481;
                   break;
                case 482:
-                  if ((0x8000000080000L & l) != 0L && kind > 737)
-                     kind = 737;
+                  if ((0x8000000080000L & l) != 0L && kind > 738)
+                     kind = 738;
                   break;
                case 483:
                   if ((0x2000000020L & l) != 0L)
@@ -10331,8 +10333,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 489;
                   break;
                case 493:
-                  if ((0x200000002000L & l) != 0L && kind > 753)
-                     kind = 753;
+                  if ((0x200000002000L & l) != 0L && kind > 754)
+                     kind = 754;
                   break;
                case 494:
                   if ((0x800000008000L & l) != 0L)
@@ -10355,8 +10357,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(199, 202);
                   break;
                case 504:
-                  if ((0x2000000020L & l) != 0L && kind > 711)
-                     kind = 711;
+                  if ((0x2000000020L & l) != 0L && kind > 712)
+                     kind = 712;
                   break;
                case 505:
                   if ((0x8000000080000L & l) != 0L)
@@ -10391,8 +10393,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 517;
                   break;
                case 518:
-                  if ((0x2000000020L & l) != 0L && kind > 712)
-                     kind = 712;
+                  if ((0x2000000020L & l) != 0L && kind > 713)
+                     kind = 713;
                   break;
                case 519:
                   if ((0x1000000010L & l) != 0L)
@@ -10427,8 +10429,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(94, 95);
                   break;
                case 528:
-                  if ((0x200000002000L & l) != 0L && kind > 750)
-                     kind = 750;
+                  if ((0x200000002000L & l) != 0L && kind > 751)
+                     kind = 751;
                   break;
                case 529:
                   if ((0x800000008000L & l) != 0L)
@@ -10473,8 +10475,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(191, 198);
                   break;
                case 550:
-                  if ((0x2000000020L & l) != 0L && kind > 713)
-                     kind = 713;
+                  if ((0x2000000020L & l) != 0L && kind > 714)
+                     kind = 714;
                   break;
                case 551:
                   if ((0x8000000080000L & l) != 0L)
@@ -10501,8 +10503,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 555;
                   break;
                case 562:
-                  if ((0x8000000080000L & l) != 0L && kind > 733)
-                     kind = 733;
+                  if ((0x8000000080000L & l) != 0L && kind > 734)
+                     kind = 734;
                   break;
                case 563:
                   if ((0x80000000800000L & l) != 0L)
@@ -10525,8 +10527,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 571;
                   break;
                case 572:
-                  if ((0x400000004000L & l) != 0L && kind > 740)
-                     kind = 740;
+                  if ((0x400000004000L & l) != 0L && kind > 741)
+                     kind = 741;
                   break;
                case 573:
                   if ((0x800000008000L & l) != 0L)
@@ -10577,8 +10579,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 583;
                   break;
                case 587:
-                  if ((0x200000002000L & l) != 0L && kind > 746)
-                     kind = 746;
+                  if ((0x200000002000L & l) != 0L && kind > 747)
+                     kind = 747;
                   break;
                case 588:
                   if ((0x800000008000L & l) != 0L)
@@ -10601,8 +10603,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(101, 102);
                   break;
                case 594:
-                  if ((0x200000002000L & l) != 0L && kind > 747)
-                     kind = 747;
+                  if ((0x200000002000L & l) != 0L && kind > 748)
+                     kind = 748;
                   break;
                case 595:
                   if ((0x800000008000L & l) != 0L)
@@ -10625,8 +10627,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(103, 104);
                   break;
                case 601:
-                  if ((0x200000002000L & l) != 0L && kind > 748)
-                     kind = 748;
+                  if ((0x200000002000L & l) != 0L && kind > 749)
+                     kind = 749;
                   break;
                case 602:
                   if ((0x800000008000L & l) != 0L)
@@ -10649,8 +10651,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(105, 106);
                   break;
                case 608:
-                  if ((0x200000002000L & l) != 0L && kind > 749)
-                     kind = 749;
+                  if ((0x200000002000L & l) != 0L && kind > 750)
+                     kind = 750;
                   break;
                case 609:
                   if ((0x800000008000L & l) != 0L)
@@ -10699,8 +10701,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 628;
                   break;
                case 629:
-                  if ((0x100000001000L & l) != 0L && kind > 722)
-                     kind = 722;
+                  if ((0x100000001000L & l) != 0L && kind > 723)
+                     kind = 723;
                   break;
                case 630:
                   if ((0x2000000020L & l) != 0L)
@@ -10793,8 +10795,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 680;
                   break;
                case 681:
-                  if ((0x200000002000000L & l) != 0L && kind > 734)
-                     kind = 734;
+                  if ((0x200000002000000L & l) != 0L && kind > 735)
+                     kind = 735;
                   break;
                case 682:
                   if ((0x400000004L & l) != 0L)
@@ -10821,13 +10823,13 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 701:
                   if ((0x800000008L & l) == 0L)
                      break;
-                  if (kind > 735)
-                     kind = 735;
+                  if (kind > 736)
+                     kind = 736;
                   jjstateSet[jjnewStateCnt++] = 704;
                   break;
                case 702:
-                  if ((0x2000000020L & l) != 0L && kind > 735)
-                     kind = 735;
+                  if ((0x2000000020L & l) != 0L && kind > 736)
+                     kind = 736;
                   break;
                case 703:
                   if ((0x10000000100000L & l) != 0L)
@@ -10842,8 +10844,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(126, 127);
                   break;
                case 709:
-                  if ((0x200000002000L & l) != 0L && kind > 757)
-                     kind = 757;
+                  if ((0x200000002000L & l) != 0L && kind > 758)
+                     kind = 758;
                   break;
                case 710:
                   if ((0x800000008000L & l) != 0L)
@@ -10874,8 +10876,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(181, 182);
                   break;
                case 718:
-                  if ((0x400000004000L & l) != 0L && kind > 741)
-                     kind = 741;
+                  if ((0x400000004000L & l) != 0L && kind > 742)
+                     kind = 742;
                   break;
                case 719:
                   if ((0x200000002L & l) != 0L)
@@ -10886,8 +10888,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(175, 180);
                   break;
                case 729:
-                  if ((0x200000002000L & l) != 0L && kind > 744)
-                     kind = 744;
+                  if ((0x200000002000L & l) != 0L && kind > 745)
+                     kind = 745;
                   break;
                case 730:
                   if ((0x800000008000L & l) != 0L)
@@ -10902,8 +10904,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 731;
                   break;
                case 738:
-                  if ((0x200000002000L & l) != 0L && kind > 752)
-                     kind = 752;
+                  if ((0x200000002000L & l) != 0L && kind > 753)
+                     kind = 753;
                   break;
                case 739:
                   if ((0x800000008000L & l) != 0L)
@@ -10926,8 +10928,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(128, 129);
                   break;
                case 748:
-                  if ((0x200000002000L & l) != 0L && kind > 754)
-                     kind = 754;
+                  if ((0x200000002000L & l) != 0L && kind > 755)
+                     kind = 755;
                   break;
                case 749:
                   if ((0x800000008000L & l) != 0L)
@@ -10986,8 +10988,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(130, 131);
                   break;
                case 764:
-                  if ((0x200000002000L & l) != 0L && kind > 755)
-                     kind = 755;
+                  if ((0x200000002000L & l) != 0L && kind > 756)
+                     kind = 756;
                   break;
                case 765:
                   if ((0x800000008000L & l) != 0L)
@@ -11038,8 +11040,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(132, 133);
                   break;
                case 778:
-                  if ((0x200000002000L & l) != 0L && kind > 756)
-                     kind = 756;
+                  if ((0x200000002000L & l) != 0L && kind > 757)
+                     kind = 757;
                   break;
                case 779:
                   if ((0x800000008000L & l) != 0L)
@@ -11473,15 +11475,15 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, null, "\54", "\56", "\72\72", };
+null, null, null, null, null, null, null, null, null, null, "\54", "\56", "\72\72", };
 public static final String[] lexStateNames = {
    "DEFAULT", 
 };
 static final long[] jjtoToken = {
    0xffffffffffffff81L, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
    0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
-   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xfeffffffffffffffL, 
-   0xfbffL, 
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xfdffffffffffffffL, 
+   0x1f7ffL, 
 };
 static final long[] jjtoSkip = {
    0x7eL, 0x0L, 0x0L, 0x0L, 
@@ -11625,7 +11627,7 @@ void TokenLexicalActions(Token matchedToken)
 {
    switch(jjmatchedKind)
    {
-      case 759 :
+      case 760 :
         if (image == null)
             image = new StringBuffer();
             image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
@@ -0,0 +1,33 @@
+//
+// Generated by JTB 1.2.2
+//
+
+package org.postgresql.stado.parser.core.syntaxtree;
+
+/**
+ * Grammar production:
+ * f0 -> <REBALANCE_>
+ * f1 -> [ TableName(prn) ]
+ */
+public class Rebalance implements Node {
+   public NodeToken f0;
+   public NodeOptional f1;
+
+   public Rebalance(NodeToken n0, NodeOptional n1) {
+      f0 = n0;
+      f1 = n1;
+   }
+
+   public Rebalance(NodeOptional n0) {
+      f0 = new NodeToken("REBALANCE");
+      f1 = n0;
+   }
+
+   public void accept(org.postgresql.stado.parser.core.visitor.Visitor v) {
+      v.visit(this);
+   }
+   public Object accept(org.postgresql.stado.parser.core.visitor.ObjectVisitor v, Object argu) {
+      return v.visit(this,argu);
+   }
+}
+
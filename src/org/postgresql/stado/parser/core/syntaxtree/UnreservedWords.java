@@ -518,6 +518,7 @@ package org.postgresql.stado.parser.core.syntaxtree;
  *       | <Z_>
  *       | <SPATIAL_>
  *       | <PORT_>
+ *       | <REBALANCE_>
  */
 public class UnreservedWords implements Node {
    public NodeChoice f0;
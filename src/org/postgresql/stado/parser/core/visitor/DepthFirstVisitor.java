@@ -568,6 +568,7 @@ public class DepthFirstVisitor implements Visitor {
     *       | <Z_>
     *       | <SPATIAL_>
     *       | <PORT_>
+    *       | <REBALANCE_>
     */
    public void visit(UnreservedWords n) {
       n.f0.accept(this);
@@ -583,7 +584,7 @@ public class DepthFirstVisitor implements Visitor {
    }
 
    /**
-    * f0 -> ( VacuumDatabase(prn) [ <SEMICOLON_> ] | AnalyzeDatabase(prn) [ <SEMICOLON_> ] | createTable(prn) [ <SEMICOLON_> ] | CreateTablespace(prn) [ <SEMICOLON_> ] | createIndex(prn) [ <SEMICOLON_> ] | dropTable(prn) [ <SEMICOLON_> ] | DropTablespace(prn) [ <SEMICOLON_> ] | SelectAddGeometryColumn(prn) [ <SEMICOLON_> ] | SelectWithParenthesis(prn) [ <SEMICOLON_> ] | InsertTable(prn) [ <SEMICOLON_> ] | UpdateTable(prn) [ <SEMICOLON_> ] | Delete(prn) [ <SEMICOLON_> ] | Alter(prn) [ <SEMICOLON_> ] | DropIndex(prn) [ <SEMICOLON_> ] | RenameTable(prn) [ <SEMICOLON_> ] | UpdateStats(prn) [ <SEMICOLON_> ] | ShowAgents() [ <SEMICOLON_> ] | ShowDatabases() [ <SEMICOLON_> ] | ShowStatements() [ <SEMICOLON_> ] | ShowTables() [ <SEMICOLON_> ] | ShowTranIsolation() [ <SEMICOLON_> ] | BeginTransaction() [ <SEMICOLON_> ] | CommitTransaction() [ <SEMICOLON_> ] | RollbackTransaction() [ <SEMICOLON_> ] | DescribeTable(prn) [ <SEMICOLON_> ] | ShowConstraints(prn) [ <SEMICOLON_> ] | ShowIndexes(prn) [ <SEMICOLON_> ] | Deallocate(prn) [ <SEMICOLON_> ] | CreateUser(prn) [ <SEMICOLON_> ] | DropUser(prn) [ <SEMICOLON_> ] | AlterUser(prn) [ <SEMICOLON_> ] | Grant(prn) [ <SEMICOLON_> ] | Revoke(prn) [ <SEMICOLON_> ] | createView(prn) [ <SEMICOLON_> ] | DropView(prn) [ <SEMICOLON_> ] | ShowUsers(prn) [ <SEMICOLON_> ] | ShowViews(prn) [ <SEMICOLON_> ] | Cluster(prn) [ <SEMICOLON_> ] | Truncate(prn) [ <SEMICOLON_> ] | ExecDirect(prn) [ <SEMICOLON_> ] | Explain(prn) [ <SEMICOLON_> ] | SetProperty(prn) [ <SEMICOLON_> ] | ShowProperty(prn) [ <SEMICOLON_> ] | AddNodeToDB(prn) [ <SEMICOLON_> ] | DropNodeFromDB(prn) [ <SEMICOLON_> ] | StartDatabase(prn) [ <SEMICOLON_> ] | StopDatabase(prn) [ <SEMICOLON_> ] | ShutdownXDB(prn) [ <SEMICOLON_> ] | CreateDatabase(prn) [ <SEMICOLON_> ] | DropDatabase(prn) [ <SEMICOLON_> ] | CopyData(prn) [ <SEMICOLON_> ] | Kill(prn) [ <SEMICOLON_> ] | Unlisten(prn) [ <SEMICOLON_> ] | DeclareCursor(prn) [ <SEMICOLON_> ] | CloseCursor(prn) [ <SEMICOLON_> ] | FetchCursor(prn) [ <SEMICOLON_> ] )
+    * f0 -> ( VacuumDatabase(prn) [ <SEMICOLON_> ] | AnalyzeDatabase(prn) [ <SEMICOLON_> ] | createTable(prn) [ <SEMICOLON_> ] | CreateTablespace(prn) [ <SEMICOLON_> ] | createIndex(prn) [ <SEMICOLON_> ] | dropTable(prn) [ <SEMICOLON_> ] | DropTablespace(prn) [ <SEMICOLON_> ] | SelectAddGeometryColumn(prn) [ <SEMICOLON_> ] | SelectWithParenthesis(prn) [ <SEMICOLON_> ] | InsertTable(prn) [ <SEMICOLON_> ] | UpdateTable(prn) [ <SEMICOLON_> ] | Delete(prn) [ <SEMICOLON_> ] | Alter(prn) [ <SEMICOLON_> ] | DropIndex(prn) [ <SEMICOLON_> ] | RenameTable(prn) [ <SEMICOLON_> ] | UpdateStats(prn) [ <SEMICOLON_> ] | ShowAgents() [ <SEMICOLON_> ] | ShowDatabases() [ <SEMICOLON_> ] | ShowStatements() [ <SEMICOLON_> ] | ShowTables() [ <SEMICOLON_> ] | ShowTranIsolation() [ <SEMICOLON_> ] | BeginTransaction() [ <SEMICOLON_> ] | CommitTransaction() [ <SEMICOLON_> ] | RollbackTransaction() [ <SEMICOLON_> ] | DescribeTable(prn) [ <SEMICOLON_> ] | ShowConstraints(prn) [ <SEMICOLON_> ] | ShowIndexes(prn) [ <SEMICOLON_> ] | Deallocate(prn) [ <SEMICOLON_> ] | CreateUser(prn) [ <SEMICOLON_> ] | DropUser(prn) [ <SEMICOLON_> ] | AlterUser(prn) [ <SEMICOLON_> ] | Grant(prn) [ <SEMICOLON_> ] | Revoke(prn) [ <SEMICOLON_> ] | createView(prn) [ <SEMICOLON_> ] | DropView(prn) [ <SEMICOLON_> ] | ShowUsers(prn) [ <SEMICOLON_> ] | ShowViews(prn) [ <SEMICOLON_> ] | Cluster(prn) [ <SEMICOLON_> ] | Truncate(prn) [ <SEMICOLON_> ] | ExecDirect(prn) [ <SEMICOLON_> ] | Explain(prn) [ <SEMICOLON_> ] | SetProperty(prn) [ <SEMICOLON_> ] | ShowProperty(prn) [ <SEMICOLON_> ] | AddNodeToDB(prn) [ <SEMICOLON_> ] | DropNodeFromDB(prn) [ <SEMICOLON_> ] | StartDatabase(prn) [ <SEMICOLON_> ] | StopDatabase(prn) [ <SEMICOLON_> ] | ShutdownXDB(prn) [ <SEMICOLON_> ] | CreateDatabase(prn) [ <SEMICOLON_> ] | DropDatabase(prn) [ <SEMICOLON_> ] | CopyData(prn) [ <SEMICOLON_> ] | Kill(prn) [ <SEMICOLON_> ] | Rebalance(prn) [ <SEMICOLON_> ] | Unlisten(prn) [ <SEMICOLON_> ] | DeclareCursor(prn) [ <SEMICOLON_> ] | CloseCursor(prn) [ <SEMICOLON_> ] | FetchCursor(prn) [ <SEMICOLON_> ] )
     * f1 -> <EOF>
     */
    public void visit(process n) {
@@ -8321,6 +8322,15 @@ public class DepthFirstVisitor implements Visitor {
       n.f1.accept(this);
    }
 
+   /**
+    * f0 -> <REBALANCE_>
+    * f1 -> [ TableName(prn) ]
+    */
+   public void visit(Rebalance n) {
+      n.f0.accept(this);
+      n.f1.accept(this);
+   }
+
    /**
     * f0 -> <UNLISTEN_>
     * f1 -> [ Identifier(prn) | <STAR_> ]
@@ -114,6 +114,9 @@ public class ExecutionPlan {
     /** helper for PreparedStatements */
     protected ExecutionPlanPreparedHandler anEPParameterHelper;
 
+    /** if set, input of the final step may be aggregated by coordinator */
+    private HashAggregation finalHashAggregation = null;
+
 
     /**
      * Creates a new instance of ExecutionPlan
@@ -264,13 +267,64 @@ public class ExecutionPlan {
                     anExecutionStep.coordStepDetail.targetSchema = "";
                     anExecutionStep.coordStepDetail.targetTable = "";
                     coordTempTableDropList = anExecutionStep.coordStepDetail.dropList;
+                    String combinerSelect = anExecutionStep.coordStepDetail.queryString;
                     modifyFinalSelectOnCoordinator(anExecutionStep, aQueryPlan,
                             TRANSFORM_PROJECTIONS);
+                    if (currentLeaf.isCombinerStep()
+                            && aQueryPlan.getIntoTable() == null) {
+                        setHashAggregation(previousLeaf, combinerSelect);
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Checks if rows the previous step sends to the combiner table may be
+     * aggregated by the coordinator, the step is changed after destinations
+     * are corrected.
+     *
+     * @param previousLeaf
+     *            leaf producing rows for the final step
+     * @param combinerSelect
+     *            query of the final step against the combiner table
+     */
+    private void setHashAggregation(Leaf previousLeaf, String combinerSelect) {
+        if (previousLeaf == null || stepList.size() < 2) {
+            return;
+        }
+        finalHashAggregation = HashAggregation.create(combinerSelect,
+                previousLeaf.getTargetTableName(),
+                previousLeaf.getCreateTableColumns());
+    }
+
+    /**
+     * Change the step producing rows for the final step to return rows to the
+     * coordinator, which aggregates them. The combiner table is created only
+     * if the coordinator runs out of memory.
+     */
+    private void applyHashAggregation() {
+        ExecutionStep producerStep = stepList.get(stepList.size() - 2);
+        StepDetail producer = producerStep.aStepDetail;
+        if (producer == null || !producer.isProducer || producer.isConsumer
+                || producer.getDestType() != StepDetail.DEST_TYPE_COORD
+                || producer.combineOnCoordFirst
+                || producer.getSerialColumnPosition() > 0
+                || producer.getOuterNodeIdColumn() != null
+                || producer.suppressSendingNodeId
+                || producerStep.isExtraStep
+                || producerStep.correlatedSendDownStep != null
+                || producerStep.coordStepDetail == null
+                || producerStep.coordStepDetail.isProducer
+                || !finalHashAggregation.getTableName().equals(
+                        producer.targetTable)) {
+            return;
+        }
+        producer.hashAggregation = finalHashAggregation;
+        producer.setDestTypeCoordinatorFinal();
+        producerStep.coordStepDetail = null;
+    }
+
     /**
      * Changes projections for final step when no group by is present.
      *
@@ -651,6 +705,9 @@ public class ExecutionPlan {
      */
     public void correctDestinations() {
         correctStepDestinations();
+        if (finalHashAggregation != null) {
+            applyHashAggregation();
+        }
     }
 
     /**
@@ -0,0 +1,470 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.planner;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+
+
+/**
+ * Describes how rows of the step feeding the final aggregation step may be
+ * aggregated by the coordinator in memory instead of being loaded into the
+ * combiner temp table.
+ * <p>
+ * Final aggregation step combines partial results of the nodes, mostly with
+ * SUM, MIN and MAX. These aggregates give the same result if they are applied
+ * to partially aggregated rows, so the coordinator folds incoming rows having
+ * the same values of other columns, and the final query runs against the
+ * folded rows. Column is folded only if all its references in the final step
+ * are SUM, MIN or MAX of the column, other columns form the hash key. Step is
+ * not eligible if it contains aggregates depending on number of rows, like
+ * COUNT or AVG, applied to anything else.
+ */
+public class HashAggregation {
+    private static final XLogger logger = XLogger
+            .getLogger(HashAggregation.class);
+
+    /** Column is a part of the hash key */
+    public static final int ROLE_KEY = 0;
+
+    /** Column values are summed up */
+    public static final int ROLE_SUM = 1;
+
+    /** Least column value is kept */
+    public static final int ROLE_MIN = 2;
+
+    /** Greatest column value is kept */
+    public static final int ROLE_MAX = 3;
+
+    private static final int TYPE_OTHER = 0;
+
+    private static final int TYPE_INTEGER = 1;
+
+    private static final int TYPE_FLOAT = 2;
+
+    private static final int TYPE_KEY = 3;
+
+    private static final Pattern FOLDABLE = Pattern.compile(
+            "\\b(SUM|MIN|MAX)\\s*\\(\\s*$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Aggregates, which results depend on number of rows, unless they are
+     * DISTINCT
+     */
+    private static final Pattern ROW_COUNTING = Pattern.compile(
+            "\\b(SUM|COUNT|AVG|STDDEV\\w*|VARIANCE|VAR_\\w+|REGR_\\w+|CORR|COVAR_\\w+|ARRAY_AGG|STRING_AGG|XMLAGG)\\s*\\((?!\\s*DISTINCT\\b)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern SELECT = Pattern.compile("\\bSELECT\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern JOIN = Pattern.compile("\\bJOIN\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * What may follow the combiner table in the FROM clause
+     */
+    private static final Pattern FROM_END = Pattern.compile(
+            "(\\s+(WHERE|GROUP|HAVING)\\b.*)?\\s*", Pattern.CASE_INSENSITIVE
+                    | Pattern.DOTALL);
+
+    private static final BigDecimal[] INTEGER_LIMITS = {
+        BigDecimal.valueOf(Short.MIN_VALUE), BigDecimal.valueOf(Short.MAX_VALUE),
+        BigDecimal.valueOf(Integer.MIN_VALUE), BigDecimal.valueOf(Integer.MAX_VALUE),
+        BigDecimal.valueOf(Long.MIN_VALUE), BigDecimal.valueOf(Long.MAX_VALUE) };
+
+    private final String tableName;
+
+    private final String[] columnNames;
+
+    private final String[] columnTypes;
+
+    private final int[] roles;
+
+    private final BigDecimal[] minValues;
+
+    private final BigDecimal[] maxValues;
+
+    private final int[] maxIntegerDigits;
+
+    private HashAggregation(String tableName, String[] columnNames,
+            String[] columnTypes, int[] roles) {
+        this.tableName = tableName;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.roles = roles;
+        minValues = new BigDecimal[roles.length];
+        maxValues = new BigDecimal[roles.length];
+        maxIntegerDigits = new int[roles.length];
+        for (int i = 0; i < roles.length; i++) {
+            maxIntegerDigits[i] = -1;
+            if (roles[i] != ROLE_SUM) {
+                continue;
+            }
+            String type = columnTypes[i].toUpperCase();
+            if (type.equals("SMALLINT") || type.equals("INT2")) {
+                minValues[i] = INTEGER_LIMITS[0];
+                maxValues[i] = INTEGER_LIMITS[1];
+            } else if (type.equals("INT") || type.equals("INTEGER")
+                    || type.equals("INT4")) {
+                minValues[i] = INTEGER_LIMITS[2];
+                maxValues[i] = INTEGER_LIMITS[3];
+            } else if (type.equals("BIGINT") || type.equals("INT8")) {
+                minValues[i] = INTEGER_LIMITS[4];
+                maxValues[i] = INTEGER_LIMITS[5];
+            } else {
+                // NUMERIC(p,s)
+                int open = type.indexOf('(');
+                if (open > 0) {
+                    String[] args = type.substring(open + 1, type.indexOf(')'))
+                            .split(",");
+                    int precision = Integer.parseInt(args[0].trim());
+                    int scale = args.length > 1 ? Integer.parseInt(args[1]
+                            .trim()) : 0;
+                    maxIntegerDigits[i] = precision - scale;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if input of the final aggregation step can be aggregated by the
+     * coordinator.
+     *
+     * @param combinerSelect
+     *            query of the final step, run against the combiner table
+     * @param tableName
+     *            name of the combiner table
+     * @param createColumns
+     *            column definitions of the combiner table
+     * @return the description, or null if the step is not eligible
+     */
+    public static HashAggregation create(String combinerSelect,
+            String tableName, String createColumns) {
+        if (Props.XDB_COMBINER_HASH_AGGREGATE_MEMORY <= 0
+                || combinerSelect == null || createColumns == null) {
+            return null;
+        }
+        // Exactly one plain reference to the combiner table, no subqueries
+        String quotedTable = IdentifierHandler.quote(tableName);
+        String from = "FROM " + quotedTable;
+        int fromPos = combinerSelect.indexOf(from);
+        if (fromPos < 0 || combinerSelect.indexOf(from, fromPos + 1) >= 0) {
+            return null;
+        }
+        if (!FROM_END.matcher(
+                combinerSelect.substring(fromPos + from.length())).matches()) {
+            return null;
+        }
+        Matcher m = SELECT.matcher(combinerSelect);
+        if (!m.find() || m.find() || JOIN.matcher(combinerSelect).find()) {
+            return null;
+        }
+
+        List<String> definitions = splitColumns(createColumns);
+        String[] columnNames = new String[definitions.size()];
+        String[] columnTypes = new String[definitions.size()];
+        int[] roles = new int[definitions.size()];
+        for (int i = 0; i < columnNames.length; i++) {
+            String definition = definitions.get(i).trim();
+            int nameEnd = findNameEnd(definition);
+            if (nameEnd < 0) {
+                return null;
+            }
+            columnNames[i] = IdentifierHandler.stripQuotes(definition
+                    .substring(0, nameEnd));
+            columnTypes[i] = definition.substring(nameEnd).trim();
+            if (getTypeClass(columnTypes[i]) == TYPE_OTHER) {
+                return null;
+            }
+        }
+
+        // Find out column roles, replace references to folded columns
+        StringBuilder rest = new StringBuilder(combinerSelect);
+        String qualifier = quotedTable + ".";
+        for (int i = 0; i < columnNames.length; i++) {
+            String quotedColumn = IdentifierHandler.quote(columnNames[i]);
+            roles[i] = getRole(rest.toString(), quotedColumn, qualifier,
+                    getTypeClass(columnTypes[i]));
+            if (roles[i] != ROLE_KEY) {
+                replaceReferences(rest, quotedColumn, qualifier);
+            }
+        }
+        if (ROW_COUNTING.matcher(rest).find()) {
+            return null;
+        }
+        HashAggregation aggregation = new HashAggregation(tableName,
+                columnNames, columnTypes, roles);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Final step will be aggregated on coordinator: "
+                    + aggregation);
+        }
+        return aggregation;
+    }
+
+    /**
+     * Split column definitions at commas which are not inside of parentheses
+     * or quotes
+     */
+    private static List<String> splitColumns(String createColumns) {
+        List<String> result = new ArrayList<String>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < createColumns.length(); i++) {
+            char ch = createColumns.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                if (ch == '(') {
+                    depth++;
+                } else if (ch == ')') {
+                    depth--;
+                } else if (ch == ',' && depth == 0) {
+                    result.add(createColumns.substring(start, i));
+                    start = i + 1;
+                }
+            }
+        }
+        result.add(createColumns.substring(start));
+        return result;
+    }
+
+    /**
+     * @return position after the quoted column name, -1 if definition does
+     *         not start with quoted name
+     */
+    private static int findNameEnd(String definition) {
+        if (!definition.startsWith("\"")) {
+            return -1;
+        }
+        for (int i = 1; i < definition.length(); i++) {
+            if (definition.charAt(i) == '"') {
+                if (i + 1 < definition.length()
+                        && definition.charAt(i + 1) == '"') {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int getTypeClass(String type) {
+        String upper = type.toUpperCase();
+        if (upper.equals("SMALLINT") || upper.equals("INT2")
+                || upper.equals("INT") || upper.equals("INTEGER")
+                || upper.equals("INT4") || upper.equals("BIGINT")
+                || upper.equals("INT8") || upper.startsWith("NUMERIC")
+                || upper.startsWith("DECIMAL")) {
+            return TYPE_INTEGER;
+        }
+        if (upper.startsWith("REAL") || upper.startsWith("FLOAT")
+                || upper.startsWith("DOUBLE")) {
+            return TYPE_FLOAT;
+        }
+        if (upper.startsWith("CHAR") || upper.startsWith("VARCHAR")
+                || upper.startsWith("CHARACTER") || upper.equals("TEXT")
+                || upper.equals("DATE") || upper.startsWith("TIME")
+                || upper.startsWith("BOOL")) {
+            return TYPE_KEY;
+        }
+        return TYPE_OTHER;
+    }
+
+    /**
+     * Column is folded if it is exact numeric and every reference to it is
+     * an argument of the same SUM, MIN or MAX
+     */
+    private static int getRole(String text, String quotedColumn,
+            String qualifier, int typeClass) {
+        if (typeClass != TYPE_INTEGER) {
+            return ROLE_KEY;
+        }
+        String function = null;
+        int pos = text.indexOf(quotedColumn);
+        if (pos < 0) {
+            return ROLE_KEY;
+        }
+        for (; pos >= 0; pos = text.indexOf(quotedColumn, pos + 1)) {
+            if (isAlias(text, pos)) {
+                continue;
+            }
+            int start = pos;
+            if (start >= qualifier.length()
+                    && text.startsWith(qualifier, start - qualifier.length())) {
+                start -= qualifier.length();
+            }
+            Matcher m = FOLDABLE.matcher(text.substring(0, start));
+            if (!m.find()) {
+                return ROLE_KEY;
+            }
+            int end = pos + quotedColumn.length();
+            while (end < text.length()
+                    && Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            if (end == text.length() || text.charAt(end) != ')') {
+                return ROLE_KEY;
+            }
+            String current = m.group(1).toUpperCase();
+            if (function == null) {
+                function = current;
+            } else if (!function.equals(current)) {
+                return ROLE_KEY;
+            }
+        }
+        if (function == null) {
+            // Only found as alias of the projection
+            return ROLE_KEY;
+        }
+        if (function.equals("SUM")) {
+            return ROLE_SUM;
+        }
+        return function.equals("MIN") ? ROLE_MIN : ROLE_MAX;
+    }
+
+    /**
+     * @return true if identifier at the position is an alias of the
+     *         projection rather than a column reference
+     */
+    private static boolean isAlias(CharSequence text, int pos) {
+        int end = pos;
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end >= 3 && end < pos
+                && Character.toUpperCase(text.charAt(end - 1)) == 'S'
+                && Character.toUpperCase(text.charAt(end - 2)) == 'A'
+                && Character.isWhitespace(text.charAt(end - 3));
+    }
+
+    /**
+     * Replace references to folded column, so aggregates on them are not
+     * considered when checking for row counting aggregates
+     */
+    private static void replaceReferences(StringBuilder text,
+            String quotedColumn, String qualifier) {
+        for (int pos = text.indexOf(quotedColumn); pos >= 0; pos = text
+                .indexOf(quotedColumn, pos)) {
+            if (isAlias(text, pos)) {
+                pos++;
+                continue;
+            }
+            int start = pos;
+            if (start >= qualifier.length()
+                    && text.substring(start - qualifier.length(), start)
+                            .equals(qualifier)) {
+                start -= qualifier.length();
+            }
+            Matcher m = FOLDABLE.matcher(text.substring(0, start));
+            m.find();
+            int end = text.indexOf(")", pos) + 1;
+            text.replace(m.start(), end, "0");
+            pos = m.start() + 1;
+        }
+    }
+
+    /**
+     * @return name of the combiner table
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * @return number of columns of the combiner table
+     */
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    /**
+     * @param index
+     *            zero based column index
+     * @return the column name
+     */
+    public String getColumnName(int index) {
+        return columnNames[index];
+    }
+
+    /**
+     * @param index
+     *            zero based column index
+     * @return SQL type of the column
+     */
+    public String getColumnType(int index) {
+        return columnTypes[index];
+    }
+
+    /**
+     * @param index
+     *            zero based column index
+     * @return one of ROLE_ constants
+     */
+    public int getRole(int index) {
+        return roles[index];
+    }
+
+    /**
+     * Checks if folded value may be stored in the combiner table column
+     *
+     * @param index
+     *            zero based column index
+     * @param value
+     * @return false if value is out of the column's range
+     */
+    public boolean fits(int index, BigDecimal value) {
+        if (minValues[index] != null) {
+            return value.compareTo(minValues[index]) >= 0
+                    && value.compareTo(maxValues[index]) <= 0;
+        }
+        if (maxIntegerDigits[index] >= 0) {
+            return value.precision() - value.scale() <= maxIntegerDigits[index];
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(tableName).append(" (");
+        for (int i = 0; i < columnNames.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(columnNames[i]).append(' ');
+            sb.append(roles[i] == ROLE_SUM ? "SUM"
+                    : roles[i] == ROLE_MIN ? "MIN"
+                            : roles[i] == ROLE_MAX ? "MAX" : "KEY");
+        }
+        return sb.append(")").toString();
+    }
+}
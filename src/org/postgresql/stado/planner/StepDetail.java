@@ -204,6 +204,10 @@ public class StepDetail implements Serializable {
     /** For CREATE TABLE AS support */
     private Map<Integer, String> createTablespaceMap;
 
+    /** If set, coordinator aggregates results of this step instead of
+     * loading them into the combiner temp table */
+    public transient HashAggregation hashAggregation = null;
+
     /**
      * Parameterless constructor is required for serialization
      */
@@ -301,6 +305,7 @@ public class StepDetail implements Serializable {
         newStepDetail.serialColumnPosition = this.serialColumnPosition;
         // it is ok to just refer to the same Map for our purposes here.
         newStepDetail.createTablespaceMap = this.createTablespaceMap;
+        newStepDetail.hashAggregation = this.hashAggregation;
 
         return newStepDetail;
     }
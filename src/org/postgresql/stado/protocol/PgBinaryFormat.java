@@ -0,0 +1,491 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.protocol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.postgresql.stado.engine.datatypes.TimeType;
+import org.postgresql.stado.engine.datatypes.TimestampType;
+import org.postgresql.stado.exception.XDBServerException;
+
+
+/**
+ * Conversions between Java values and PostgreSQL binary transfer format.
+ * Date and time values use integer representation, microseconds since
+ * 2000-01-01, like PostgreSQL compiled with integer datetimes.
+ */
+final class PgBinaryFormat {
+    static final int FORMAT_TEXT = 0;
+
+    static final int FORMAT_BINARY = 1;
+
+    /** PostgreSQL epoch (2000-01-01 00:00:00 UTC) in Java milliseconds */
+    private static final long PG_EPOCH_MILLIS = 946684800000L;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private static final long MICROS_PER_DAY = 86400000000L;
+
+    private static final int NUMERIC_POS = 0x0000;
+
+    private static final int NUMERIC_NEG = 0x4000;
+
+    private static final int NUMERIC_NAN = 0xC000;
+
+    private static final BigInteger NBASE = BigInteger.valueOf(10000);
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private PgBinaryFormat() {
+    }
+
+    /**
+     * @param oid
+     * @return true if values of the type can be sent in binary format
+     */
+    static boolean isSupported(int oid) {
+        switch (oid) {
+        case PgProtocolSession.OID_BOOL:
+        case PgProtocolSession.OID_BYTEA:
+        case PgProtocolSession.OID_INT2:
+        case PgProtocolSession.OID_INT4:
+        case PgProtocolSession.OID_INT8:
+        case PgProtocolSession.OID_FLOAT4:
+        case PgProtocolSession.OID_FLOAT8:
+        case PgProtocolSession.OID_NUMERIC:
+        case PgProtocolSession.OID_TEXT:
+        case PgProtocolSession.OID_VARCHAR:
+        case PgProtocolSession.OID_BPCHAR:
+        case PgProtocolSession.OID_NAME:
+        case PgProtocolSession.OID_DATE:
+        case PgProtocolSession.OID_TIME:
+        case PgProtocolSession.OID_TIMESTAMP:
+        case PgProtocolSession.OID_TIMESTAMPTZ:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Resolve format of every column from the format codes requested in the
+     * Bind message. Zero codes means all text, one code applies to all
+     * columns. Binary is used only for the types supported here, other
+     * columns fall back to text and the client learns it from the
+     * RowDescription.
+     *
+     * @param requested
+     *                format codes from the Bind message
+     * @param oids
+     *                column types
+     * @return the format codes, or null if all columns are text
+     */
+    static int[] resolveFormats(int[] requested, int[] oids) {
+        if (requested == null || requested.length == 0 || oids == null) {
+            return null;
+        }
+        if (requested.length != 1 && requested.length != oids.length) {
+            throw new XDBServerException("Bind message has "
+                    + requested.length + " result formats but query has "
+                    + oids.length + " columns");
+        }
+        int[] formats = null;
+        for (int i = 0; i < oids.length; i++) {
+            int format = requested[requested.length == 1 ? 0 : i];
+            if (format == FORMAT_BINARY && isSupported(oids[i])) {
+                if (formats == null) {
+                    formats = new int[oids.length];
+                }
+                formats[i] = FORMAT_BINARY;
+            } else if (format != FORMAT_TEXT && format != FORMAT_BINARY) {
+                throw new XDBServerException("Unsupported format code: "
+                        + format);
+            }
+        }
+        return formats;
+    }
+
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
+    private static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+
+    /**
+     * @return the wall clock value of the date in default time zone, as
+     *         milliseconds of UTC
+     */
+    private static long toLocalMillis(java.util.Date date) {
+        long millis = date.getTime();
+        return millis + TimeZone.getDefault().getOffset(millis);
+    }
+
+    /**
+     * Parse time zone suffix like +02, -05:30, +05:45:00
+     *
+     * @return the offset from UTC in milliseconds, or null if the suffix is
+     *         empty or can not be parsed
+     */
+    private static Integer parseTimezone(String tz) {
+        if (tz == null) {
+            return null;
+        }
+        tz = tz.trim();
+        if (tz.length() < 2 || (tz.charAt(0) != '+' && tz.charAt(0) != '-')) {
+            return null;
+        }
+        int offset = 0;
+        int multiplier = 3600;
+        try {
+            for (String part : tz.substring(1).split(":")) {
+                if (multiplier == 0) {
+                    return null;
+                }
+                offset += Integer.parseInt(part) * multiplier;
+                multiplier /= 60;
+            }
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+        return tz.charAt(0) == '-' ? -offset * 1000 : offset * 1000;
+    }
+
+    /**
+     * @param value
+     *                java.sql.Date, java.util.Date or string yyyy-mm-dd
+     * @return days since 2000-01-01
+     */
+    static int encodeDate(Object value) {
+        java.util.Date date;
+        if (value instanceof java.util.Date) {
+            date = (java.util.Date) value;
+        } else {
+            date = java.sql.Date.valueOf(value.toString().trim());
+        }
+        return (int) floorDiv(toLocalMillis(date) - PG_EPOCH_MILLIS,
+                MILLIS_PER_DAY);
+    }
+
+    /**
+     * @param value
+     *                java.sql.Time, TimeType or string hh:mm:ss
+     * @return microseconds since midnight
+     */
+    static long encodeTime(Object value) {
+        java.util.Date time;
+        if (value instanceof TimeType) {
+            time = ((TimeType) value).getTime();
+        } else if (value instanceof java.util.Date) {
+            time = (java.util.Date) value;
+        } else {
+            time = Time.valueOf(value.toString().trim());
+        }
+        return floorMod(toLocalMillis(time), MILLIS_PER_DAY) * 1000;
+    }
+
+    /**
+     * @param value
+     *                java.sql.Timestamp, TimestampType or string
+     * @param withZone
+     *                true if the value is sent as timestamptz
+     * @return microseconds since 2000-01-01 00:00:00, UTC for timestamptz,
+     *         wall clock for timestamp
+     */
+    static long encodeTimestamp(Object value, boolean withZone) {
+        java.util.Date ts;
+        Integer offset = null;
+        if (value instanceof TimestampType) {
+            ts = ((TimestampType) value).getTimestamp();
+            offset = parseTimezone(((TimestampType) value).getTimezone());
+        } else if (value instanceof java.util.Date) {
+            ts = (java.util.Date) value;
+        } else {
+            ts = Timestamp.valueOf(value.toString().trim());
+        }
+        long millis;
+        if (!withZone) {
+            // Same wall clock value as the text output
+            millis = toLocalMillis(ts);
+        } else if (offset == null) {
+            // Wall clock of the text output is in the server time zone
+            millis = ts.getTime();
+        } else {
+            millis = toLocalMillis(ts) - offset;
+        }
+        long micros = floorDiv(millis, 1000) * 1000000;
+        if (ts instanceof Timestamp) {
+            micros += ((Timestamp) ts).getNanos() / 1000;
+        } else {
+            micros += floorMod(millis, 1000) * 1000;
+        }
+        return micros - PG_EPOCH_MILLIS * 1000;
+    }
+
+    /**
+     * Convert value to PostgreSQL numeric: number of digits, weight, sign,
+     * display scale, followed by base 10000 digits.
+     *
+     * @param value
+     * @return the numeric as array of 16-bit words
+     */
+    static short[] encodeNumeric(Object value) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d)) {
+                return new short[] { 0, 0, (short) NUMERIC_NAN, 0 };
+            }
+            decimal = BigDecimal.valueOf(d);
+        } else {
+            String str = value.toString().trim();
+            if ("NaN".equalsIgnoreCase(str)) {
+                return new short[] { 0, 0, (short) NUMERIC_NAN, 0 };
+            }
+            decimal = new BigDecimal(str);
+        }
+        if (decimal.scale() < 0) {
+            decimal = decimal.setScale(0);
+        }
+        int scale = decimal.scale();
+        StringBuilder digits = new StringBuilder(decimal.unscaledValue().abs()
+                .toString());
+        while (digits.length() <= scale) {
+            digits.insert(0, '0');
+        }
+        // Align the decimal point on base 10000 digit boundary
+        int intLength = digits.length() - scale;
+        for (int i = (4 - intLength % 4) % 4; i > 0; i--) {
+            digits.insert(0, '0');
+            intLength++;
+        }
+        for (int i = (4 - scale % 4) % 4; i > 0; i--) {
+            digits.append('0');
+        }
+        int first = 0;
+        int last = digits.length() / 4;
+        int weight = intLength / 4 - 1;
+        short[] groups = new short[last];
+        for (int i = 0; i < last; i++) {
+            groups[i] = Short.parseShort(digits.substring(i * 4, i * 4 + 4));
+        }
+        while (first < last && groups[first] == 0) {
+            first++;
+            weight--;
+        }
+        while (last > first && groups[last - 1] == 0) {
+            last--;
+        }
+        if (first == last) {
+            weight = 0;
+        }
+        short[] result = new short[4 + last - first];
+        result[0] = (short) (last - first);
+        result[1] = (short) weight;
+        result[2] = (short) (decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+        result[3] = (short) scale;
+        System.arraycopy(groups, first, result, 4, last - first);
+        return result;
+    }
+
+    private static Calendar toUTCCalendar(long millis) {
+        Calendar cal = new GregorianCalendar(UTC);
+        cal.setTimeInMillis(millis);
+        return cal;
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        String str = Long.toString(value);
+        for (int i = str.length(); i < width; i++) {
+            sb.append('0');
+        }
+        sb.append(str);
+    }
+
+    private static void appendDate(StringBuilder sb, Calendar cal) {
+        appendPadded(sb, cal.get(Calendar.YEAR), 4);
+        sb.append('-');
+        appendPadded(sb, cal.get(Calendar.MONTH) + 1, 2);
+        sb.append('-');
+        appendPadded(sb, cal.get(Calendar.DAY_OF_MONTH), 2);
+        if (cal.get(Calendar.ERA) == GregorianCalendar.BC) {
+            sb.append(" BC");
+        }
+    }
+
+    private static void appendTime(StringBuilder sb, long micros) {
+        appendPadded(sb, micros / 3600000000L, 2);
+        sb.append(':');
+        appendPadded(sb, micros / 60000000L % 60, 2);
+        sb.append(':');
+        appendPadded(sb, micros / 1000000L % 60, 2);
+        if (micros % 1000000L != 0) {
+            sb.append('.');
+            appendPadded(sb, micros % 1000000L, 6);
+        }
+    }
+
+    private static void appendOffset(StringBuilder sb, int offsetSeconds) {
+        sb.append(offsetSeconds < 0 ? '-' : '+');
+        offsetSeconds = Math.abs(offsetSeconds);
+        appendPadded(sb, offsetSeconds / 3600, 2);
+        sb.append(':');
+        appendPadded(sb, offsetSeconds / 60 % 60, 2);
+        if (offsetSeconds % 60 != 0) {
+            sb.append(':');
+            appendPadded(sb, offsetSeconds % 60, 2);
+        }
+    }
+
+    private static String decodeNumeric(ByteBuffer buf) {
+        int ndigits = buf.getShort();
+        int weight = buf.getShort();
+        int sign = buf.getShort() & 0xFFFF;
+        int dscale = buf.getShort();
+        if (sign == NUMERIC_NAN) {
+            return "NaN";
+        }
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int i = 0; i < ndigits; i++) {
+            unscaled = unscaled.multiply(NBASE).add(
+                    BigInteger.valueOf(buf.getShort()));
+        }
+        BigDecimal decimal = new BigDecimal(unscaled,
+                (ndigits - 1 - weight) * 4);
+        if (decimal.scale() > dscale) {
+            decimal = decimal.setScale(dscale, RoundingMode.DOWN);
+        } else {
+            decimal = decimal.setScale(dscale);
+        }
+        return sign == NUMERIC_NEG ? decimal.negate().toPlainString()
+                : decimal.toPlainString();
+    }
+
+    /**
+     * Convert parameter value received in binary format to the text
+     * representation understood by the backend.
+     *
+     * @param value
+     *                raw parameter value, may be null
+     * @param oid
+     *                parameter type specified in Parse message
+     * @return the value as text, or null
+     */
+    static String decode(byte[] value, int oid) {
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(value);
+        try {
+            switch (oid) {
+            case PgProtocolSession.OID_BOOL:
+                return buf.get() == 0 ? "f" : "t";
+            case PgProtocolSession.OID_INT2:
+                return Short.toString(buf.getShort());
+            case PgProtocolSession.OID_INT4:
+                return Integer.toString(buf.getInt());
+            case PgProtocolSession.OID_INT8:
+                return Long.toString(buf.getLong());
+            case PgProtocolSession.OID_OID:
+                return Long.toString(buf.getInt() & 0xFFFFFFFFL);
+            case PgProtocolSession.OID_FLOAT4:
+                return Float.toString(buf.getFloat());
+            case PgProtocolSession.OID_FLOAT8:
+                return Double.toString(buf.getDouble());
+            case PgProtocolSession.OID_NUMERIC:
+                return decodeNumeric(buf);
+            case PgProtocolSession.OID_TEXT:
+            case PgProtocolSession.OID_VARCHAR:
+            case PgProtocolSession.OID_BPCHAR:
+            case PgProtocolSession.OID_NAME:
+                return PgProtocolMessage.decodeString(value);
+            case PgProtocolSession.OID_BYTEA:
+                StringBuilder hex = new StringBuilder(2 + value.length * 2);
+                hex.append("\\x");
+                for (byte b : value) {
+                    hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                    hex.append(Character.forDigit(b & 0xF, 16));
+                }
+                return hex.toString();
+            case PgProtocolSession.OID_DATE:
+                int days = buf.getInt();
+                if (days == Integer.MAX_VALUE) {
+                    return "infinity";
+                } else if (days == Integer.MIN_VALUE) {
+                    return "-infinity";
+                }
+                StringBuilder sb = new StringBuilder(10);
+                appendDate(sb, toUTCCalendar(PG_EPOCH_MILLIS + days
+                        * MILLIS_PER_DAY));
+                return sb.toString();
+            case PgProtocolSession.OID_TIME:
+                sb = new StringBuilder(15);
+                appendTime(sb, buf.getLong());
+                return sb.toString();
+            case PgProtocolSession.OID_TIMETZ:
+                sb = new StringBuilder(21);
+                appendTime(sb, buf.getLong());
+                // PostgreSQL stores zone as seconds west of UTC
+                appendOffset(sb, -buf.getInt());
+                return sb.toString();
+            case PgProtocolSession.OID_TIMESTAMP:
+            case PgProtocolSession.OID_TIMESTAMPTZ:
+                long micros = buf.getLong();
+                if (micros == Long.MAX_VALUE) {
+                    return "infinity";
+                } else if (micros == Long.MIN_VALUE) {
+                    return "-infinity";
+                }
+                long day = floorDiv(micros, MICROS_PER_DAY);
+                sb = new StringBuilder(32);
+                appendDate(sb, toUTCCalendar(PG_EPOCH_MILLIS + day
+                        * MILLIS_PER_DAY));
+                sb.append(' ');
+                appendTime(sb, micros - day * MICROS_PER_DAY);
+                if (oid == PgProtocolSession.OID_TIMESTAMPTZ) {
+                    sb.append("+00");
+                }
+                return sb.toString();
+            default:
+                throw new XDBServerException(
+                        "Binary format is not supported for parameter type, OID="
+                                + oid);
+            }
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new XDBServerException(
+                    "Invalid binary parameter value for type, OID=" + oid);
+        }
+    }
+}
@@ -29,14 +29,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
-import java.math.BigDecimal;
-import java.math.MathContext;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
@@ -96,6 +95,21 @@ public class PgProtocolSession implements Runnable {
 
     private int backendKey = 0;
 
+    /**
+     * Buffers result rows sent to the client
+     */
+    private PgResponseWriter writer;
+
+    /**
+     * Parameter type OIDs specified in Parse message, by statement name
+     */
+    private Map<String, int[]> statementParamOIDs = new HashMap<String, int[]>();
+
+    /**
+     * Result format codes requested in Bind message, by portal name
+     */
+    private Map<String, int[]> portalResultFormats = new HashMap<String, int[]>();
+
     private String FormatPgErrorMsg(String msg) {
     	String m = "";
     	
@@ -133,51 +147,6 @@ public class PgProtocolSession implements Runnable {
     	return f;
     }
 
-    private String FormatPgValue(Object o) {
-    	if (o == null) 
-    		return null;
-    	
-    	// PostgreSQL returns a t or f over the wire for booleans not the 
-    	// Java Boolean values of true or false
-    	if (o instanceof Boolean) {
-    		if ((Boolean)o == true) 
-    			return "t";
-    		else if ((Boolean)o == false)
-    			return "f";
-    	}
-    	
-    	// PostgreSQL returns the integer value over the wire if a float
-    	// is really an integer ie 1.0 returns 1
-    	if (o instanceof Double) { 
-    		if (((Double)o).intValue() == ((Double)o).doubleValue())
-    			return ((Integer)((Double)o).intValue()).toString();
-    		else {
-    			// format the result because PostgreSQL will only return 15 digits of precision
-    			BigDecimal bd = BigDecimal.valueOf(((Double)o));
-    			return removeTrailingZeros(bd.round(new MathContext(15)).toString()); 
-    		}
-    	}
-    	
-    	if (o instanceof byte[]) {
-    		return new String(((byte[])o));
-    	}
-    	
-    	return o.toString();
-    }
-
-    private String removeTrailingZeros(String str) {
-    	if (str == null)
-    		return null;
-    	
-    	char[] chars = str.toCharArray();int length,index ;length = str.length();
-    	index = length -1;
-    	for (; index >=0;index--) {
-    		if (chars[index] != '0') {
-    			break;
-    		}
-    	}
-    	return (index == length-1) ? str :str.substring(0,index+1);
-    }
     
 
     private PgProtocolMessage readRequest() throws IOException {
@@ -256,21 +225,7 @@ public class PgProtocolSession implements Runnable {
         logger.log(Level.DEBUG, "Writing response: %0%", new Object[] {msg.getMessageType()});
         ByteBuffer aByteBuffer = msg.getAsByteBuffer(null);
         synchronized (channel) {
-            do {
-                channel.write(aByteBuffer);
-
-                // Make sure we wrote everything. If not, wait and try again.
-                // On next write, it will only write the part of the buffer
-                // not yet written.
-                if (aByteBuffer.remaining() > 0) {
-                    try {
-                        Thread.sleep(1);
-                    } catch (InterruptedException e) {
-                    }
-                    continue;
-                }
-                break;
-            } while (true);
+            PgResponseWriter.writeFully(aByteBuffer, channel);
         }
     }
 
@@ -280,6 +235,7 @@ public class PgProtocolSession implements Runnable {
         this.channel = channel;
         this.client = client;
         channel.configureBlocking(true);
+        writer = new PgResponseWriter(channel);
     }
 
     void close() {
@@ -316,6 +272,20 @@ public class PgProtocolSession implements Runnable {
      * @throws IOException
      */
     private boolean writeResponse(ExecutionResult response) throws IOException {
+        return writeResponse(response, null);
+    }
+
+    /**
+     * Convert response to protocol message(s) and send them back to client
+     * @param response
+     * @param binaryTypes
+     *            type OIDs of result columns to be sent in binary format,
+     *            0 for columns in text format. Null if all are text
+     * @return true if response is completely sent, false if it is suspended
+     * @throws IOException
+     */
+    private boolean writeResponse(ExecutionResult response, int[] binaryTypes)
+            throws IOException {
         switch (response.getContentType()) {
         case ExecutionResult.CONTENT_TYPE_EXCEPTION:
             Exception ex = response.getException();
@@ -396,41 +366,32 @@ public class PgProtocolSession implements Runnable {
         case ExecutionResult.CONTENT_TYPE_RESULTSET:
             ResultSet rs = response.getResultSet();
             int rowCount = 0;
+            boolean success = false;
             try {
                 int count = rs.getMetaData().getColumnCount();
                 while (rs.next()) {
-                    PgProtocolMessage msg = new PgProtocolMessage(
-                            PgProtocolMessage.MESSAGE_TYPE_DATA_ROW,
-                            new byte[] {});
-                    msg.putInt16(count);
+                    // DataRows are accumulated by the writer and sent
+                    // when its buffer is full
+                    writer.beginDataRow(count);
                     for (int i = 1; i <= count; i++) {
-                    	if (!(rs.getObject(i) instanceof byte[])) {	                    		
-	                        String value =  FormatPgValue(rs.getObject(i));
-	                        if (value == null) {
-	                            msg.putInt32(-1);
-	                        } else {
-	                            byte[] encoded = value.getBytes(CHARSET_NAME);
-	                            msg.putInt32(encoded.length);
-	                            msg.putBytes(encoded);
-	                        }
-                    	} else {
-                    		byte[] b = (byte[]) rs.getObject(i);
-	                        if (b == null) {
-	                            msg.putInt32(-1);
-	                        } else {
-	                            msg.putInt32(b.length);
-	                            msg.putBytes(b);
-	                        }
-                    	}
+                        if (binaryTypes == null || binaryTypes[i - 1] == 0) {
+                            writer.putValue(rs.getObject(i));
+                        } else {
+                            writer.putBinary(rs.getObject(i),
+                                    binaryTypes[i - 1]);
+                        }
                     }
-                    writeToChannel(msg, channel);
+                    writer.endMessage();
                     if (++rowCount == fetchSize && fetchSize > 0) {
-                        writeToChannel(PgProtocolMessage.MSG_PORTAL_SUSPENDED,
-                                channel);
+                        writer.write(PgProtocolMessage.MSG_PORTAL_SUSPENDED);
+                        writer.flush();
+                        success = true;
                         return false;
                     }
                 }
+                success = true;
             } catch (SQLException e) {
+                writer.abortMessage();
                 error = new PgProtocolMessage(
                         PgProtocolMessage.MESSAGE_TYPE_ERROR_RESPONSE, null);
                 // Severity - error
@@ -444,13 +405,19 @@ public class PgProtocolSession implements Runnable {
                 error.putString(response.getException().getMessage());
                 // End of parameter list marker
                 error.putInt8(0);
-                writeToChannel(error, channel);
+                writer.write(error);
+                success = true;
+            } finally {
+                if (!success) {
+                    writer.clear();
+                }
             }
             m1 = new PgProtocolMessage(
                     PgProtocolMessage.MESSAGE_TYPE_COMMAND_COMPLETE,
                     new byte[] {});
             m1.putString("FETCH " + rowCount);
-            writeToChannel(m1, channel);
+            writer.write(m1);
+            writer.flush();
             break;
         }
         return true;
@@ -468,89 +435,77 @@ public class PgProtocolSession implements Runnable {
         boolean first = true;
         int rowCount = 0;
         ResultSet rs = null;
-        for (Map.Entry<Integer,ExecutionResult> subResult : response.getSubResults().entrySet()) {
-            try {
-                // Validate
-                if (first) {
-                    first = false;
-                    if (subResult.getValue().getContentType() == ExecutionResult.CONTENT_TYPE_RESULTSET) {
-                        rs = subResult.getValue().getResultSet();
-                    }
-                } else {
-                    if (subResult.getValue().getContentType() == ExecutionResult.CONTENT_TYPE_RESULTSET) {
-                        if (rs == null) {
-                            throw new SQLException("Results on different nodes do not match");
+        boolean success = false;
+        try {
+            for (Map.Entry<Integer,ExecutionResult> subResult : response.getSubResults().entrySet()) {
+                try {
+                    // Validate
+                    if (first) {
+                        first = false;
+                        if (subResult.getValue().getContentType() == ExecutionResult.CONTENT_TYPE_RESULTSET) {
+                            rs = subResult.getValue().getResultSet();
                         }
                     } else {
-                        if (rs != null) {
-                            throw new SQLException("Results on different nodes do not match");
+                        if (subResult.getValue().getContentType() == ExecutionResult.CONTENT_TYPE_RESULTSET) {
+                            if (rs == null) {
+                                throw new SQLException("Results on different nodes do not match");
+                            }
+                        } else {
+                            if (rs != null) {
+                                throw new SQLException("Results on different nodes do not match");
+                            }
                         }
                     }
-                }
-                // Encode
-                if (rs == null) {
-                    PgProtocolMessage msg = new PgProtocolMessage(
-                            PgProtocolMessage.MESSAGE_TYPE_DATA_ROW,
-                            new byte[] {});
-                    msg.putInt16(2);
-                    String value = "" + subResult.getValue().getRowCount();
-                    byte[] encoded = value.getBytes(CHARSET_NAME);
-                    msg.putInt32(encoded.length);
-                    msg.putBytes(encoded);
-                    value = "" + subResult.getKey();
-                    encoded = value.getBytes(CHARSET_NAME);
-                    msg.putInt32(encoded.length);
-                    msg.putBytes(encoded);
-                    writeToChannel(msg, channel);
-                    rowCount++;
-                } else {
-                    rs = subResult.getValue().getResultSet();
-                    int count = rs.getMetaData().getColumnCount();
-                    while (rs.next()) {
-                        PgProtocolMessage msg = new PgProtocolMessage(
-                                PgProtocolMessage.MESSAGE_TYPE_DATA_ROW,
-                                new byte[] {});
-                        msg.putInt16(count + 1);
-                        for (int i = 1; i <= count; i++) {
-                            String value = rs.getString(i);
-                            if (value == null) {
-                                msg.putInt32(-1);
-                            } else {
-                                byte[] encoded = value.getBytes(CHARSET_NAME);
-                                msg.putInt32(encoded.length);
-                                msg.putBytes(encoded);
+                    // Encode
+                    if (rs == null) {
+                        writer.beginDataRow(2);
+                        writer.putText(subResult.getValue().getRowCount());
+                        writer.putText(subResult.getKey());
+                        writer.endMessage();
+                        rowCount++;
+                    } else {
+                        rs = subResult.getValue().getResultSet();
+                        int count = rs.getMetaData().getColumnCount();
+                        while (rs.next()) {
+                            writer.beginDataRow(count + 1);
+                            for (int i = 1; i <= count; i++) {
+                                writer.putText(rs.getString(i));
                             }
+                            writer.putText(subResult.getKey());
+                            writer.endMessage();
+                            rowCount++;
                         }
-                        String value = "" + subResult.getKey();
-                        byte[] encoded = value.getBytes(CHARSET_NAME);
-                        msg.putInt32(encoded.length);
-                        msg.putBytes(encoded);
-                        writeToChannel(msg, channel);
-                        rowCount++;
                     }
+                } catch (SQLException e) {
+                    writer.abortMessage();
+                    error = new PgProtocolMessage(
+                            PgProtocolMessage.MESSAGE_TYPE_ERROR_RESPONSE, null);
+                    // Severity - error
+                    error.putInt8('S');
+                    error.putString(e.getMessage());
+                    // SQLSTATE - internal error
+                    error.putInt8('C');
+                    error.putString("XX000");
+                    // Message
+                    error.putInt8('M');
+                    error.putString(response.getException().getMessage());
+                    // End of parameter list marker
+                    error.putInt8(0);
+                    writer.write(error);
                 }
-            } catch (SQLException e) {
-                error = new PgProtocolMessage(
-                        PgProtocolMessage.MESSAGE_TYPE_ERROR_RESPONSE, null);
-                // Severity - error
-                error.putInt8('S');
-                error.putString(e.getMessage());
-                // SQLSTATE - internal error
-                error.putInt8('C');
-                error.putString("XX000");
-                // Message
-                error.putInt8('M');
-                error.putString(response.getException().getMessage());
-                // End of parameter list marker
-                error.putInt8(0);
-                writeToChannel(error, channel);
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                writer.clear();
             }
         }
         m1 = new PgProtocolMessage(
                 PgProtocolMessage.MESSAGE_TYPE_COMMAND_COMPLETE,
                 new byte[] {});
         m1.putString("FETCH " + rowCount);
-        writeToChannel(m1, channel);
+        writer.write(m1);
+        writer.flush();
     }
 
     private boolean cancelRequest(int sessionID, int secretKey) {
@@ -731,18 +686,28 @@ public class PgProtocolSession implements Runnable {
                         } else {
                             CommandLog.queryLogger.info(client.getSessionID()
                                     + " - " + statement);
-                            client.createStatement(statementID,
-                                    RequestAnalyzer.getExecutableRequest(
-                                            MessageTypes.REQ_EXECUTE,
-                                            statement, client));
                             int paramCount = request.getInt16();
+                            int[] paramOIDs = null;
+                            int[] paramTypes = null;
                             if (paramCount > 0) {
-                                int[] paramTypes = new int[paramCount];
+                                paramOIDs = new int[paramCount];
+                                paramTypes = new int[paramCount];
                                 for (int i = 0; i < paramCount; i++) {
-                                    paramTypes[i] = getJavaType(request.getInt32());
+                                    paramOIDs[i] = request.getInt32();
+                                    paramTypes[i] = getJavaType(paramOIDs[i]);
                                 }
+                            }
+                            // Release previous statement, it may be reused
+                            client.closeStatement(statementID);
+                            client.createStatement(statementID,
+                                    RequestAnalyzer.getPreparedRequest(
+                                            statement, paramTypes, client));
+                            if (paramCount > 0) {
                                 client.setParameterTypes(statementID,
                                         paramTypes);
+                                statementParamOIDs.put(statementID, paramOIDs);
+                            } else {
+                                statementParamOIDs.remove(statementID);
                             }
                             writeToChannel(
                                     PgProtocolMessage.MSG_PARSE_COMPLETE,
@@ -759,10 +724,16 @@ public class PgProtocolSession implements Runnable {
                             for (int i = 0; i < argCount; i++) {
                                 args[i] = request.getBytes(request.getInt32());
                             }
-                            // TODO support for return values
+                            int[] resultCodes = request.getInt16Array(request.getInt16());
+                            if (resultCodes.length > 0) {
+                                portalResultFormats.put(cursorName, resultCodes);
+                            } else {
+                                portalResultFormats.remove(cursorName);
+                            }
 
                             client.bindStatement(statementID, cursorName,
-                                    decodeParameters(args, paramCodes));
+                                    decodeParameters(args, paramCodes,
+                                            statementParamOIDs.get(statementID)));
                             writeToChannel(PgProtocolMessage.MSG_BIND_COMPLETE,
                                     channel);
                         }
@@ -781,6 +752,7 @@ public class PgProtocolSession implements Runnable {
                                     code == 'S' ? name : null,
                                     code == 'P' ? name : null);
                             sendRowDescription(rm instanceof ResultSetResponse ? (ResultSetResponse) rm
+                                    : null, code == 'P' ? portalResultFormats.get(name)
                                     : null);
                         }
                         break;
@@ -799,7 +771,13 @@ public class PgProtocolSession implements Runnable {
                                 }
                             }
                             ExecutionResult result = client.executeRequest(cursorName);
-                            if (writeResponse(result)) {
+                            int[] binaryTypes = null;
+                            if (rm instanceof ResultSetResponse) {
+                                binaryTypes = getBinaryTypes(
+                                        ((ResultSetResponse) rm).getColumnMetaData(),
+                                        portalResultFormats.get(cursorName));
+                            }
+                            if (writeResponse(result, binaryTypes)) {
                                 client.closeCursor(cursorName);
                             }
                         }
@@ -809,8 +787,10 @@ public class PgProtocolSession implements Runnable {
                         String name = request.getString();
                         if (code == 'S') {
                             client.closeStatement(name);
+                            statementParamOIDs.remove(name);
                         } else {
                             client.closeCursor(name);
+                            portalResultFormats.remove(name);
                         }
                         writeToChannel(PgProtocolMessage.MSG_CLOSE_COMPLETE,
                                 channel);
@@ -827,7 +807,7 @@ public class PgProtocolSession implements Runnable {
                         for (int i = 0; i < argCount; i++) {
                             args[i] = request.getBytes(request.getInt32());
                         }
-                        decodeParameters(args, paramCodes);
+                        decodeParameters(args, paramCodes, null);
                         switch (functionOID) {
                         default:
                             throw new XDBServerException(
@@ -879,17 +859,57 @@ public class PgProtocolSession implements Runnable {
      * @throws IOException
      */
     private void sendRowDescription(ResultSetResponse rsr) throws IOException {
+        sendRowDescription(rsr, null);
+    }
+
+    /**
+     * @param meta
+     * @param resultFormats
+     *            format codes requested in Bind message
+     * @return type OIDs of columns to be sent in binary format, 0 for columns
+     *         to be sent as text, or null if all columns are text
+     */
+    private int[] getBinaryTypes(ColumnMetaData[] meta, int[] resultFormats) {
+        if (meta == null || resultFormats == null) {
+            return null;
+        }
+        int[] oids = new int[meta.length];
+        for (int i = 0; i < meta.length; i++) {
+            oids[i] = getOID(meta[i].javaSqlType);
+        }
+        int[] formats = PgBinaryFormat.resolveFormats(resultFormats, oids);
+        if (formats == null) {
+            return null;
+        }
+        for (int i = 0; i < oids.length; i++) {
+            if (formats[i] != PgBinaryFormat.FORMAT_BINARY) {
+                oids[i] = 0;
+            }
+        }
+        return oids;
+    }
+
+    /**
+     * @param rsr
+     * @param resultFormats
+     *            format codes requested in Bind message, null if text
+     * @throws IOException
+     */
+    private void sendRowDescription(ResultSetResponse rsr, int[] resultFormats)
+            throws IOException {
         ColumnMetaData[] meta = null;
         if (rsr != null) {
             meta = rsr.getColumnMetaData();
         }
+        int[] binaryTypes = getBinaryTypes(meta, resultFormats);
         if (meta == null) {
             writeToChannel(PgProtocolMessage.MSG_NO_DATA, channel);
         } else {
             PgProtocolMessage response = new PgProtocolMessage(
                     PgProtocolMessage.MESSAGE_TYPE_ROW_DESCRIPTION, new byte[0]);
             response.putInt16(meta.length);
-            for (ColumnMetaData column : meta) {
+            for (int i = 0; i < meta.length; i++) {
+                ColumnMetaData column = meta[i];
                 // Field name
                 response.putString(column.alias);
                 // table OID
@@ -902,8 +922,9 @@ public class PgProtocolSession implements Runnable {
                 response.putInt16(column.maxLength);
                 // The data type modifier
                 response.putInt32(0);
-                // Format code (text)
-                response.putInt16(0);
+                // Format code
+                response.putInt16(binaryTypes == null || binaryTypes[i] == 0 ? PgBinaryFormat.FORMAT_TEXT
+                        : PgBinaryFormat.FORMAT_BINARY);
             }
             writeToChannel(response, channel);
         }
@@ -965,7 +986,17 @@ public class PgProtocolSession implements Runnable {
         copyResponse.setOutputStream(new CopyOutStream());
     }
 
-    private String[] decodeParameters(byte[][] paramData, int[] paramFormat) {
+    /**
+     * Convert parameters received in Bind message to text
+     * @param paramData
+     * @param paramFormat
+     * @param paramOIDs
+     *            types specified in Parse message, needed to decode binary
+     *            parameters
+     * @return the parameter values
+     */
+    private String[] decodeParameters(byte[][] paramData, int[] paramFormat,
+            int[] paramOIDs) {
         String[] result = new String[paramData.length];
         int[] paramFormatNormalized;
         if (paramFormat == null || paramFormat.length == 0) {
@@ -978,10 +1009,15 @@ public class PgProtocolSession implements Runnable {
             paramFormatNormalized = paramFormat;
         }
         for (int i = 0; i < paramData.length; i++) {
-            if (paramFormatNormalized[i] == 0) {
+            if (paramFormatNormalized[i] == PgBinaryFormat.FORMAT_TEXT) {
                 result[i] = PgProtocolMessage.decodeString(paramData[i]);
+            } else if (paramFormatNormalized[i] == PgBinaryFormat.FORMAT_BINARY) {
+                result[i] = PgBinaryFormat.decode(paramData[i],
+                        paramOIDs == null || i >= paramOIDs.length ? OID_INVALID
+                                : paramOIDs[i]);
             } else {
-                throw new XDBServerException("Only text format is supported");
+                throw new XDBServerException("Unsupported format code: "
+                        + paramFormatNormalized[i]);
             }
         }
         return result;
@@ -1018,49 +1054,49 @@ public class PgProtocolSession implements Runnable {
      * Constants for well-known OIDs for the types we commonly use. Copy/paste
      * from org.postgresql.driver.core.Oid then edit
      */
-    private static final int OID_INVALID = 0;
+    static final int OID_INVALID = 0;
 
-    private static final int OID_INT2 = 21;
+    static final int OID_INT2 = 21;
 
-    private static final int OID_INT4 = 23;
+    static final int OID_INT4 = 23;
 
-    private static final int OID_INT8 = 20;
+    static final int OID_INT8 = 20;
 
-    private static final int OID_TEXT = 25;
+    static final int OID_TEXT = 25;
 
-    private static final int OID_NUMERIC = 1700;
+    static final int OID_NUMERIC = 1700;
 
-    private static final int OID_FLOAT4 = 700;
+    static final int OID_FLOAT4 = 700;
 
-    private static final int OID_FLOAT8 = 701;
+    static final int OID_FLOAT8 = 701;
 
-    private static final int OID_BOOL = 16;
+    static final int OID_BOOL = 16;
 
-    private static final int OID_DATE = 1082;
+    static final int OID_DATE = 1082;
 
-    private static final int OID_TIME = 1083;
+    static final int OID_TIME = 1083;
 
-    private static final int OID_TIMETZ = 1266;
+    static final int OID_TIMETZ = 1266;
 
-    private static final int OID_TIMESTAMP = 1114;
+    static final int OID_TIMESTAMP = 1114;
 
-    private static final int OID_TIMESTAMPTZ = 1184;
+    static final int OID_TIMESTAMPTZ = 1184;
 
-    private static final int OID_BYTEA = 17;
+    static final int OID_BYTEA = 17;
 
-    private static final int OID_VARCHAR = 1043;
+    static final int OID_VARCHAR = 1043;
 
-    private static final int OID_OID = 26;
+    static final int OID_OID = 26;
 
-    private static final int OID_BPCHAR = 1042;
+    static final int OID_BPCHAR = 1042;
 
-    private static final int OID_MONEY = 790;
+    static final int OID_MONEY = 790;
 
-    private static final int OID_NAME = 19;
+    static final int OID_NAME = 19;
 
-    private static final int OID_BIT = 1560;
+    static final int OID_BIT = 1560;
 
-    private static final int OID_VOID = 2278;
+    static final int OID_VOID = 2278;
 
     private static int getOID(int javaType) {
         switch (javaType) {
@@ -0,0 +1,479 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.protocol;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import org.postgresql.stado.common.util.Property;
+
+
+/**
+ * Accumulates protocol messages in a reusable direct buffer and writes them to
+ * the client channel when the buffer is full or flush() is called. Intended to
+ * send large number of DataRow messages with few system calls. Values are
+ * encoded directly into the buffer, without intermediate strings where
+ * possible. The writer is not thread-safe, it is owned by the session.
+ */
+class PgResponseWriter {
+    private static final int BUFFER_SIZE = Property.getInt(
+            "xdb.protocol.buffer.size", 65536);
+
+    private static final String CHARSET_NAME = Property.get("xdb.charset",
+            "ISO-8859-1");
+
+    private static final int CHARSET_LATIN1 = 1;
+
+    private static final int CHARSET_UTF8 = 2;
+
+    private static final int CHARSET_OTHER = 3;
+
+    private static final int charset;
+
+    static {
+        if ("ISO-8859-1".equalsIgnoreCase(CHARSET_NAME)
+                || "ISO8859_1".equalsIgnoreCase(CHARSET_NAME)
+                || "LATIN1".equalsIgnoreCase(CHARSET_NAME)) {
+            charset = CHARSET_LATIN1;
+        } else if ("UTF-8".equalsIgnoreCase(CHARSET_NAME)
+                || "UTF8".equalsIgnoreCase(CHARSET_NAME)) {
+            charset = CHARSET_UTF8;
+        } else {
+            charset = CHARSET_OTHER;
+        }
+    }
+
+    private SocketChannel channel;
+
+    private ByteBuffer buffer;
+
+    /**
+     * Position of the message being written, -1 if none
+     */
+    private int messageStart = -1;
+
+    /**
+     * Position of the length of the value being written
+     */
+    private int valueStart;
+
+    /**
+     * Scratch space to format numbers
+     */
+    private final byte[] digits = new byte[20];
+
+    PgResponseWriter(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Write the buffer to the channel. If channel is non-blocking wait until
+     * it is ready for writing rather than spinning.
+     *
+     * @param bbuf
+     * @param channel
+     * @throws IOException
+     */
+    static void writeFully(ByteBuffer bbuf, SocketChannel channel)
+            throws IOException {
+        channel.write(bbuf);
+        if (!bbuf.hasRemaining()) {
+            return;
+        }
+        if (channel.isBlocking()) {
+            while (bbuf.hasRemaining()) {
+                channel.write(bbuf);
+            }
+            return;
+        }
+        Selector selector = Selector.open();
+        try {
+            SelectionKey key = channel.register(selector,
+                    SelectionKey.OP_WRITE);
+            try {
+                while (bbuf.hasRemaining()) {
+                    selector.select();
+                    selector.selectedKeys().clear();
+                    channel.write(bbuf);
+                }
+            } finally {
+                key.cancel();
+            }
+        } finally {
+            selector.close();
+        }
+    }
+
+    private void ensureCapacity(int size) throws IOException {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, size));
+        }
+        if (buffer.remaining() >= size) {
+            return;
+        }
+        // Send complete messages, keep the one being written
+        int end = buffer.position();
+        int start = messageStart < 0 ? end : messageStart;
+        if (start > 0) {
+            buffer.position(0);
+            buffer.limit(start);
+            synchronized (channel) {
+                writeFully(buffer, channel);
+            }
+            buffer.limit(end);
+            buffer.position(start);
+            buffer.compact();
+            if (messageStart >= 0) {
+                valueStart -= messageStart;
+                messageStart = 0;
+            }
+        }
+        if (buffer.remaining() < size) {
+            // Single message does not fit, grow the buffer
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect(Math.max(
+                    buffer.capacity() * 2, buffer.position() + size));
+            buffer.flip();
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+    }
+
+    /**
+     * Append complete message
+     *
+     * @param msg
+     * @throws IOException
+     */
+    void write(PgProtocolMessage msg) throws IOException {
+        ensureCapacity(5 + Math.max(msg.getLength(), 0));
+        msg.getAsByteBuffer(buffer);
+        // getAsByteBuffer() flips the buffer, revert
+        buffer.position(buffer.limit());
+        buffer.limit(buffer.capacity());
+    }
+
+    /**
+     * Start new DataRow message
+     *
+     * @param columnCount
+     * @throws IOException
+     */
+    void beginDataRow(int columnCount) throws IOException {
+        ensureCapacity(7);
+        messageStart = buffer.position();
+        buffer.put(PgProtocolMessage.MESSAGE_TYPE_DATA_ROW);
+        buffer.putInt(0);
+        buffer.putShort((short) columnCount);
+    }
+
+    /**
+     * Complete the message started by beginDataRow()
+     */
+    void endMessage() {
+        buffer.putInt(messageStart + 1, buffer.position() - messageStart - 1);
+        messageStart = -1;
+    }
+
+    /**
+     * Discard the message started by beginDataRow(), if any. Used if error
+     * occurs while the row is being encoded.
+     */
+    void abortMessage() {
+        if (messageStart >= 0) {
+            buffer.position(messageStart);
+            messageStart = -1;
+        }
+    }
+
+    /**
+     * Discard all accumulated messages
+     */
+    void clear() {
+        if (buffer != null) {
+            buffer.clear();
+        }
+        messageStart = -1;
+    }
+
+    void putNull() throws IOException {
+        ensureCapacity(4);
+        buffer.putInt(-1);
+    }
+
+    void putBytes(byte[] value) throws IOException {
+        if (value == null) {
+            putNull();
+        } else {
+            ensureCapacity(4 + value.length);
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    /**
+     * Write value in text format
+     *
+     * @param value
+     * @throws IOException
+     */
+    void putText(String value) throws IOException {
+        if (value == null) {
+            putNull();
+            return;
+        }
+        int len = value.length();
+        switch (charset) {
+        case CHARSET_LATIN1:
+            ensureCapacity(4 + len);
+            buffer.putInt(len);
+            for (int i = 0; i < len; i++) {
+                char c = value.charAt(i);
+                buffer.put(c < 256 ? (byte) c : (byte) '?');
+            }
+            break;
+        case CHARSET_UTF8:
+            ensureCapacity(4 + len * 3);
+            valueStart = buffer.position();
+            buffer.putInt(0);
+            for (int i = 0; i < len; i++) {
+                int c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate((char) c) && i + 1 < len
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    c = Character.toCodePoint((char) c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (c >> 18)));
+                    buffer.put((byte) (0x80 | ((c >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            buffer.putInt(valueStart, buffer.position() - valueStart - 4);
+            break;
+        default:
+            try {
+                putBytes(value.getBytes(CHARSET_NAME));
+            } catch (UnsupportedEncodingException e) {
+                throw new IOException(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write integer value in text format
+     *
+     * @param value
+     * @throws IOException
+     */
+    void putText(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            putText(Long.toString(value));
+            return;
+        }
+        boolean negative = value < 0;
+        if (negative) {
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        if (negative) {
+            digits[--pos] = '-';
+        }
+        ensureCapacity(4 + digits.length - pos);
+        buffer.putInt(digits.length - pos);
+        buffer.put(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * Write value of any supported type in text format, formatted the way
+     * PostgreSQL does.
+     *
+     * @param o
+     * @throws IOException
+     */
+    void putValue(Object o) throws IOException {
+        if (o == null) {
+            putNull();
+        } else if (o instanceof String) {
+            putText((String) o);
+        } else if (o instanceof Integer || o instanceof Long
+                || o instanceof Short || o instanceof Byte) {
+            putText(((Number) o).longValue());
+        } else if (o instanceof Boolean) {
+            // PostgreSQL returns a t or f over the wire for booleans
+            ensureCapacity(5);
+            buffer.putInt(1);
+            buffer.put(((Boolean) o).booleanValue() ? (byte) 't' : (byte) 'f');
+        } else if (o instanceof Double) {
+            double d = ((Double) o).doubleValue();
+            // PostgreSQL returns the integer value over the wire if a float
+            // is really an integer ie 1.0 returns 1
+            if ((int) d == d) {
+                putText((int) d);
+            } else {
+                // PostgreSQL will only return 15 digits of precision
+                BigDecimal bd = BigDecimal.valueOf(d);
+                putText(removeTrailingZeros(bd.round(new MathContext(15))
+                        .toString()));
+            }
+        } else if (o instanceof byte[]) {
+            putBytes((byte[]) o);
+        } else {
+            putText(o.toString());
+        }
+    }
+
+    private static Number toNumber(Object o) {
+        if (o instanceof Number) {
+            return (Number) o;
+        }
+        return new BigDecimal(o.toString().trim());
+    }
+
+    /**
+     * Write value in binary format of the specified type. Caller must check
+     * the type with PgBinaryFormat.isSupported()
+     *
+     * @param o
+     * @param oid
+     * @throws IOException
+     */
+    void putBinary(Object o, int oid) throws IOException {
+        if (o == null) {
+            putNull();
+            return;
+        }
+        switch (oid) {
+        case PgProtocolSession.OID_BOOL:
+            boolean b;
+            if (o instanceof Boolean) {
+                b = ((Boolean) o).booleanValue();
+            } else {
+                String str = o.toString().trim();
+                b = "t".equalsIgnoreCase(str) || "true".equalsIgnoreCase(str)
+                        || "1".equals(str);
+            }
+            ensureCapacity(5);
+            buffer.putInt(1);
+            buffer.put(b ? (byte) 1 : (byte) 0);
+            break;
+        case PgProtocolSession.OID_INT2:
+            ensureCapacity(6);
+            buffer.putInt(2);
+            buffer.putShort(toNumber(o).shortValue());
+            break;
+        case PgProtocolSession.OID_INT4:
+            ensureCapacity(8);
+            buffer.putInt(4);
+            buffer.putInt(toNumber(o).intValue());
+            break;
+        case PgProtocolSession.OID_INT8:
+            ensureCapacity(12);
+            buffer.putInt(8);
+            buffer.putLong(toNumber(o).longValue());
+            break;
+        case PgProtocolSession.OID_FLOAT4:
+            ensureCapacity(8);
+            buffer.putInt(4);
+            buffer.putFloat(toNumber(o).floatValue());
+            break;
+        case PgProtocolSession.OID_FLOAT8:
+            ensureCapacity(12);
+            buffer.putInt(8);
+            buffer.putDouble(toNumber(o).doubleValue());
+            break;
+        case PgProtocolSession.OID_NUMERIC:
+            short[] numeric = PgBinaryFormat.encodeNumeric(o);
+            ensureCapacity(4 + numeric.length * 2);
+            buffer.putInt(numeric.length * 2);
+            for (short word : numeric) {
+                buffer.putShort(word);
+            }
+            break;
+        case PgProtocolSession.OID_DATE:
+            ensureCapacity(8);
+            buffer.putInt(4);
+            buffer.putInt(PgBinaryFormat.encodeDate(o));
+            break;
+        case PgProtocolSession.OID_TIME:
+            ensureCapacity(12);
+            buffer.putInt(8);
+            buffer.putLong(PgBinaryFormat.encodeTime(o));
+            break;
+        case PgProtocolSession.OID_TIMESTAMP:
+        case PgProtocolSession.OID_TIMESTAMPTZ:
+            ensureCapacity(12);
+            buffer.putInt(8);
+            buffer.putLong(PgBinaryFormat.encodeTimestamp(o,
+                    oid == PgProtocolSession.OID_TIMESTAMPTZ));
+            break;
+        default:
+            // Binary representation of text and bytea is the same as text
+            putValue(o);
+        }
+    }
+
+    private static String removeTrailingZeros(String str) {
+        int index = str.length() - 1;
+        while (index >= 0 && str.charAt(index) == '0') {
+            index--;
+        }
+        return index == str.length() - 1 ? str : str.substring(0, index + 1);
+    }
+
+    /**
+     * Send all accumulated messages to the client
+     *
+     * @throws IOException
+     */
+    void flush() throws IOException {
+        if (buffer == null || buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            synchronized (channel) {
+                writeFully(buffer, channel);
+            }
+        } finally {
+            buffer.clear();
+            messageStart = -1;
+        }
+    }
+}
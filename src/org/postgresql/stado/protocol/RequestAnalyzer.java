@@ -31,6 +31,7 @@ import java.util.LinkedList;
 
 import org.postgresql.stado.common.util.XLogger;
 import org.postgresql.stado.engine.ExecutableRequest;
+import org.postgresql.stado.engine.PlanCache;
 import org.postgresql.stado.engine.XDBSessionContext;
 import org.postgresql.stado.engine.io.MessageTypes;
 import org.postgresql.stado.engine.io.XMessage;
@@ -70,6 +71,34 @@ public class RequestAnalyzer {
         return getExecutableRequest(messageType, null, client);
     }
 
+    /**
+     * Convert statement to ExecutableRequest, reusing previously parsed and
+     * planned request from the PlanCache if possible. Request taken from the
+     * cache or eligible for caching has the plan cache key set, and it is
+     * returned to the cache when the statement is closed.
+     *
+     * @return the ExecutableRequest
+     * @param cmd the command
+     * @param paramTypes types of the parameters, may be null
+     * @param client associated session
+     * @throws ParseException failed to parse command
+     */
+    public static ExecutableRequest getPreparedRequest(String cmd,
+            int[] paramTypes, XDBSessionContext client) throws ParseException {
+        PlanCache planCache = PlanCache.getPlanCache();
+        String key = planCache.getKey(client, cmd, paramTypes);
+        if (key != null) {
+            ExecutableRequest request = planCache.take(key);
+            if (request != null) {
+                return request;
+            }
+        }
+        ExecutableRequest request = getExecutableRequest(
+                MessageTypes.REQ_EXECUTE, cmd, client);
+        request.setPlanCacheKey(key);
+        return request;
+    }
+
     /**
      * Convert protocol request (request type and command) to
      * ExecutableRequest.
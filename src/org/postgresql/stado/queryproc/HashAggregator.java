@@ -0,0 +1,664 @@
+/*****************************************************************************
+ * Copyright (C) 2008 EnterpriseDB Corporation.
+ * Copyright (C) 2011 Stado Global Development Group.
+ *
+ * This file is part of Stado.
+ *
+ * Stado is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Stado is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Stado.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * You can find Stado at http://www.stado.us
+ *
+ ****************************************************************************/
+package org.postgresql.stado.queryproc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.postgresql.stado.common.ColumnMetaData;
+import org.postgresql.stado.common.ResultSetImpl;
+import org.postgresql.stado.common.util.Props;
+import org.postgresql.stado.common.util.XLogger;
+import org.postgresql.stado.engine.datatypes.BigDecimalType;
+import org.postgresql.stado.engine.datatypes.VarcharType;
+import org.postgresql.stado.engine.datatypes.XData;
+import org.postgresql.stado.parser.handler.IdentifierHandler;
+import org.postgresql.stado.planner.HashAggregation;
+
+
+/**
+ * Aggregates rows sent to the coordinator for the final aggregation step in
+ * a hash table. Rows with the same key are folded into one, so the combiner
+ * temp table is not created and loaded.
+ * <p>
+ * If the final query just returns the key columns and the SUM, MIN or MAX of
+ * the folded columns grouped by the keys, the folded rows are returned as the
+ * final result set. Otherwise the final query is run on the coordinator
+ * against the folded rows passed in as VALUES list.
+ * <p>
+ * If the hash table grows over xdb.combiner.hashaggregate.memory the
+ * aggregator falls back to the combiner table: it is created, folded rows
+ * and the rest of the input are inserted there, and the final query runs
+ * against the table as usual.
+ */
+public class HashAggregator {
+    private static final XLogger logger = XLogger
+            .getLogger(HashAggregator.class);
+
+    /** Estimated size of a row in the hash table without values */
+    private static final int ROW_OVERHEAD = 96;
+
+    /** Estimated size of a value reference and the value object */
+    private static final int VALUE_OVERHEAD = 48;
+
+    private static final Pattern ALIAS = Pattern.compile(
+            "(.*?)\\s+AS\\s+(\"(?:[^\"]|\"\")*\"|\\w+)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern AGGREGATE = Pattern.compile(
+            "(SUM|MIN|MAX)\\s*\\(\\s*(.*?)\\s*\\)", Pattern.CASE_INSENSITIVE
+                    | Pattern.DOTALL);
+
+    private static final Pattern GROUP_BY = Pattern.compile(
+            "GROUP\\s+BY\\s+(.*)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    // Server wide statistics
+    private static long aggregatedCount = 0;
+
+    private static long fallbackCount = 0;
+
+    private static long inputRowCount = 0;
+
+    private static long foldedRowCount = 0;
+
+    private final HashAggregation aggregation;
+
+    private final QueryCombiner combiner;
+
+    private final long memoryLimit;
+
+    private final int[] keyColumns;
+
+    private final Map<List<String>, Object[]> groups = new HashMap<List<String>, Object[]>();
+
+    /**
+     * Rows removed from the hash table because folded value would not fit
+     * into the column
+     */
+    private final List<Object[]> flushed = new ArrayList<Object[]>();
+
+    private long memory = 0;
+
+    private long rowCount = 0;
+
+    private boolean spilled = false;
+
+    private String baseInsert;
+
+    /**
+     * @param aggregation
+     *            description of the combiner table
+     * @param combiner
+     *            combiner to fall back to, should be set up to create the
+     *            combiner table
+     */
+    public HashAggregator(HashAggregation aggregation, QueryCombiner combiner) {
+        this(aggregation, combiner, Props.XDB_COMBINER_HASH_AGGREGATE_MEMORY);
+    }
+
+    /**
+     * @param aggregation
+     *            description of the combiner table
+     * @param combiner
+     *            combiner to fall back to, should be set up to create the
+     *            combiner table
+     * @param memoryLimit
+     *            estimated size of the hash table to fall back at
+     */
+    HashAggregator(HashAggregation aggregation, QueryCombiner combiner,
+            long memoryLimit) {
+        this.aggregation = aggregation;
+        this.combiner = combiner;
+        this.memoryLimit = memoryLimit;
+        int keyCount = 0;
+        for (int i = 0; i < aggregation.getColumnCount(); i++) {
+            if (aggregation.getRole(i) == HashAggregation.ROLE_KEY) {
+                keyCount++;
+            }
+        }
+        keyColumns = new int[keyCount];
+        keyCount = 0;
+        for (int i = 0; i < aggregation.getColumnCount(); i++) {
+            if (aggregation.getRole(i) == HashAggregation.ROLE_KEY) {
+                keyColumns[keyCount++] = i;
+            }
+        }
+    }
+
+    /**
+     * Read and aggregate all the rows of the result sets. Result sets are
+     * closed when done.
+     *
+     * @param resultSets
+     * @throws SQLException
+     */
+    public void aggregate(Collection<? extends ResultSet> resultSets)
+            throws SQLException {
+        final String method = "aggregate";
+        logger.entering(method);
+        try {
+            if (resultSets != null) {
+                for (ResultSet rs : resultSets) {
+                    try {
+                        while (rs.next()) {
+                            rowCount++;
+                            if (spilled) {
+                                insert(read(rs));
+                            } else {
+                                add(rs);
+                            }
+                        }
+                    } finally {
+                        rs.close();
+                    }
+                }
+            }
+            if (spilled) {
+                combiner.finishInserts();
+            }
+            synchronized (HashAggregator.class) {
+                if (spilled) {
+                    fallbackCount++;
+                } else {
+                    aggregatedCount++;
+                    foldedRowCount += groups.size() + flushed.size();
+                }
+                inputRowCount += rowCount;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Aggregated " + rowCount + " rows into "
+                        + (groups.size() + flushed.size()) + " rows"
+                        + (spilled ? ", fell back to combiner table" : ""));
+            }
+        } finally {
+            logger.exiting(method);
+        }
+    }
+
+    /**
+     * Read the row into array of column values, key values are Strings,
+     * folded values are BigDecimals
+     */
+    private Object[] read(ResultSet rs) throws SQLException {
+        Object[] row = new Object[aggregation.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = aggregation.getRole(i) == HashAggregation.ROLE_KEY ? rs
+                    .getString(i + 1) : rs.getBigDecimal(i + 1);
+        }
+        return row;
+    }
+
+    private void add(ResultSet rs) throws SQLException {
+        Object[] row = read(rs);
+        List<String> keyList = getKey(row);
+        Object[] group = groups.get(keyList);
+        if (group == null) {
+            groups.put(keyList, row);
+            memory += estimateSize(row);
+        } else if (!fold(group, row, true)) {
+            // Keep the group as it is and start over
+            flushed.add(group);
+            groups.put(keyList, row);
+            memory += estimateSize(row);
+        }
+        if (memory > memoryLimit) {
+            spill();
+        }
+    }
+
+    /**
+     * Fold the row into the group
+     *
+     * @param checkFit
+     *            whether folded sums should fit into the combiner column
+     * @return false if folded value would not fit into the column, the group
+     *         is not changed then
+     */
+    private boolean fold(Object[] group, Object[] row, boolean checkFit) {
+        Object[] folded = null;
+        for (int i = 0; i < group.length; i++) {
+            BigDecimal value = (BigDecimal) row[i];
+            int role = aggregation.getRole(i);
+            if (role == HashAggregation.ROLE_KEY || value == null) {
+                continue;
+            }
+            BigDecimal current = (BigDecimal) group[i];
+            if (current == null) {
+                current = value;
+            } else if (role == HashAggregation.ROLE_SUM) {
+                current = current.add(value);
+                if (checkFit && !aggregation.fits(i, current)) {
+                    return false;
+                }
+            } else if (role == HashAggregation.ROLE_MIN) {
+                current = current.compareTo(value) <= 0 ? current : value;
+            } else {
+                current = current.compareTo(value) >= 0 ? current : value;
+            }
+            if (folded == null) {
+                folded = new Object[group.length];
+            }
+            folded[i] = current;
+        }
+        if (folded != null) {
+            for (int i = 0; i < group.length; i++) {
+                if (folded[i] != null) {
+                    group[i] = folded[i];
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long estimateSize(Object[] row) {
+        long size = ROW_OVERHEAD;
+        for (Object value : row) {
+            size += VALUE_OVERHEAD;
+            if (value instanceof String) {
+                size += 2 * ((String) value).length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Fall back to the combiner table, and move there rows aggregated so far
+     */
+    private void spill() {
+        logger.debug("Hash aggregation is out of memory, falling back to "
+                + aggregation.getTableName());
+        spilled = true;
+        combiner.createTempTable();
+        StringBuilder sb = new StringBuilder();
+        if (!Props.XDB_JUST_DATA_VALUES) {
+            sb.append("INSERT INTO ").append(
+                    IdentifierHandler.quote(aggregation.getTableName()))
+                    .append(" VALUES ");
+        }
+        baseInsert = sb.toString();
+        for (Object[] row : flushed) {
+            insert(row);
+        }
+        for (Object[] row : groups.values()) {
+            insert(row);
+        }
+        flushed.clear();
+        groups.clear();
+        memory = 0;
+    }
+
+    private void insert(Object[] row) {
+        StringBuilder sb = new StringBuilder(baseInsert);
+        appendValues(sb, row, false);
+        combiner.insertFromStatementOnCombiner(sb.toString());
+    }
+
+    private void appendValues(StringBuilder sb, Object[] row, boolean cast) {
+        sb.append('(');
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            if (cast) {
+                sb.append("CAST(");
+            }
+            if (row[i] == null) {
+                sb.append("NULL");
+            } else if (row[i] instanceof BigDecimal) {
+                sb.append(((BigDecimal) row[i]).toPlainString());
+            } else {
+                String value = (String) row[i];
+                if (value.indexOf('\'') >= 0) {
+                    value = value.replaceAll("'", "''");
+                }
+                sb.append('\'').append(value).append('\'');
+            }
+            if (cast) {
+                sb.append(" AS ").append(aggregation.getColumnType(i)).append(
+                        ')');
+            }
+        }
+        sb.append(')');
+    }
+
+    /**
+     * @return true if aggregator fell back to the combiner table
+     */
+    public boolean isSpilled() {
+        return spilled;
+    }
+
+    /**
+     * Returns the folded rows as the final result set, if the final query
+     * returns only key columns and SUM, MIN or MAX of the folded columns, and
+     * groups by exactly the key columns. Key columns of types which text
+     * representation may differ from the server's are not supported.
+     *
+     * @param queryString
+     *            the final query
+     * @return the result set, or null if the final query should be run on the
+     *         coordinator
+     */
+    public ResultSet getFinalResultSet(String queryString) {
+        if (spilled) {
+            return null;
+        }
+        String query = queryString.trim();
+        String quotedTable = IdentifierHandler.quote(aggregation.getTableName());
+        String from = "FROM " + quotedTable;
+        int pos = query.indexOf(from);
+        if (pos < 0 || !query.regionMatches(true, 0, "SELECT ", 0, 7)) {
+            return null;
+        }
+
+        // GROUP BY should list all the key columns and nothing else
+        boolean[] grouped = new boolean[aggregation.getColumnCount()];
+        String rest = query.substring(pos + from.length()).trim();
+        if (rest.length() > 0) {
+            Matcher m = GROUP_BY.matcher(rest);
+            if (!m.matches()) {
+                return null;
+            }
+            for (String item : splitList(m.group(1))) {
+                int column = findColumn(item.trim(), quotedTable);
+                if (column < 0
+                        || aggregation.getRole(column) != HashAggregation.ROLE_KEY) {
+                    return null;
+                }
+                grouped[column] = true;
+            }
+        }
+        for (int column : keyColumns) {
+            if (!grouped[column] || !isSupportedKey(column)) {
+                return null;
+            }
+        }
+
+        List<String> items = splitList(query.substring(7, pos));
+        int[] sources = new int[items.size()];
+        ColumnMetaData[] columnMeta = new ColumnMetaData[items.size()];
+        for (int i = 0; i < sources.length; i++) {
+            String expression = items.get(i).trim();
+            String alias = expression;
+            Matcher m = ALIAS.matcher(expression);
+            if (m.matches()) {
+                expression = m.group(1).trim();
+                alias = IdentifierHandler.stripQuotes(m.group(2));
+            }
+            int column = findColumn(expression, quotedTable);
+            if (column < 0) {
+                m = AGGREGATE.matcher(expression);
+                if (!m.matches()) {
+                    return null;
+                }
+                column = findColumn(m.group(2), quotedTable);
+                if (column < 0
+                        || aggregation.getRole(column) != getRole(m.group(1))) {
+                    return null;
+                }
+            } else if (aggregation.getRole(column) != HashAggregation.ROLE_KEY) {
+                return null;
+            }
+            sources[i] = column;
+            columnMeta[i] = new ColumnMetaData(alias, alias, 0, aggregation
+                    .getRole(column) == HashAggregation.ROLE_KEY ? Types.VARCHAR
+                    : Types.NUMERIC, 0, 0, aggregation.getTableName(),
+                    (short) 0, false);
+        }
+
+        // Rows were flushed to keep sums in range of the combiner table,
+        // the final result is not limited by that
+        for (Object[] row : flushed) {
+            List<String> keyList = getKey(row);
+            Object[] group = groups.get(keyList);
+            if (group == null) {
+                groups.put(keyList, row);
+            } else {
+                fold(group, row, false);
+            }
+        }
+        flushed.clear();
+
+        List<XData[]> rows = new ArrayList<XData[]>(groups.size() + 1);
+        if (groups.isEmpty() && keyColumns.length == 0) {
+            // Aggregates without GROUP BY return a row even if there is no
+            // input
+            rows.add(new XData[sources.length]);
+        }
+        for (Object[] group : groups.values()) {
+            XData[] row = new XData[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                Object value = group[sources[i]];
+                if (value instanceof BigDecimal) {
+                    row[i] = new BigDecimalType(((BigDecimal) value)
+                            .toPlainString());
+                } else if (value != null) {
+                    row[i] = new VarcharType((String) value);
+                }
+            }
+            rows.add(row);
+        }
+        return new ResultSetImpl(columnMeta, rows);
+    }
+
+    private List<String> getKey(Object[] row) {
+        String[] key = new String[keyColumns.length];
+        for (int i = 0; i < keyColumns.length; i++) {
+            key[i] = (String) row[keyColumns[i]];
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * @return index of the combiner table column referenced by the
+     *         expression, -1 if expression is not a column reference
+     */
+    private int findColumn(String expression, String quotedTable) {
+        String column = expression;
+        if (column.startsWith(quotedTable + ".")) {
+            column = column.substring(quotedTable.length() + 1);
+        }
+        for (int i = 0; i < aggregation.getColumnCount(); i++) {
+            if (column.equals(IdentifierHandler.quote(aggregation
+                    .getColumnName(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int getRole(String function) {
+        if (function.equalsIgnoreCase("SUM")) {
+            return HashAggregation.ROLE_SUM;
+        }
+        return function.equalsIgnoreCase("MIN") ? HashAggregation.ROLE_MIN
+                : HashAggregation.ROLE_MAX;
+    }
+
+    /**
+     * Key values are returned as they were received from the nodes, that is
+     * done for the types they are sent in the server's text format
+     */
+    private boolean isSupportedKey(int column) {
+        String type = aggregation.getColumnType(column).toUpperCase();
+        return type.startsWith("CHAR") || type.startsWith("VARCHAR")
+                || type.startsWith("CHARACTER") || type.equals("TEXT")
+                || type.equals("SMALLINT") || type.equals("INT2")
+                || type.equals("INT") || type.equals("INTEGER")
+                || type.equals("INT4") || type.equals("BIGINT")
+                || type.equals("INT8") || type.equals("DATE");
+    }
+
+    /**
+     * Split the list at commas which are not inside of parentheses or quotes
+     */
+    private static List<String> splitList(String list) {
+        List<String> result = new ArrayList<String>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < list.length(); i++) {
+            char ch = list.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '"' || ch == '\'') {
+                quote = ch;
+            } else if (ch == '(') {
+                depth++;
+            } else if (ch == ')') {
+                depth--;
+            } else if (ch == ',' && depth == 0) {
+                result.add(list.substring(start, i));
+                start = i + 1;
+            }
+        }
+        result.add(list.substring(start));
+        return result;
+    }
+
+    /**
+     * Make the final query read aggregated rows instead of the combiner
+     * table. If aggregator fell back to the combiner table, the query is
+     * returned as is.
+     *
+     * @param queryString
+     *            the final query
+     * @return the query to run on the coordinator
+     */
+    public String getFinalQuery(String queryString) {
+        if (spilled) {
+            return queryString;
+        }
+        String quotedTable = IdentifierHandler.quote(aggregation.getTableName());
+        String from = "FROM " + quotedTable;
+        int pos = queryString.indexOf(from);
+        if (pos < 0) {
+            // Should not happen, HashAggregation has checked the query
+            throw new IllegalStateException("Combiner table "
+                    + aggregation.getTableName() + " is not found in query "
+                    + queryString);
+        }
+        StringBuilder sb = new StringBuilder(queryString.length() + 64
+                * (groups.size() + flushed.size() + 1));
+        sb.append(queryString, 0, pos).append("FROM (");
+        if (groups.isEmpty() && flushed.isEmpty()) {
+            sb.append("SELECT ");
+            for (int i = 0; i < aggregation.getColumnCount(); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append("CAST(NULL AS ").append(aggregation.getColumnType(i))
+                        .append(')');
+            }
+            sb.append(" WHERE 1 = 0");
+        } else {
+            sb.append("VALUES ");
+            boolean first = true;
+            for (Object[] row : flushed) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                appendValues(sb, row, true);
+            }
+            for (Object[] row : groups.values()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                appendValues(sb, row, true);
+            }
+        }
+        sb.append(") AS ").append(quotedTable).append(" (");
+        for (int i = 0; i < aggregation.getColumnCount(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(IdentifierHandler.quote(aggregation.getColumnName(i)));
+        }
+        sb.append(')');
+        sb.append(queryString, pos + from.length(), queryString.length());
+        return sb.toString();
+    }
+
+    /**
+     * Returns coordinator tables to drop after the final query. Combiner
+     * table is excluded if it has not been created.
+     *
+     * @param dropList
+     *            tables to drop after the final query
+     * @return the list of tables to drop
+     */
+    public Collection<String> getCoordinatorDropList(
+            Collection<String> dropList) {
+        if (spilled || dropList == null) {
+            return dropList;
+        }
+        List<String> result = new ArrayList<String>(dropList);
+        result.remove(aggregation.getTableName());
+        return result;
+    }
+
+    /**
+     * @return number of final steps aggregated on coordinator since server
+     *         start
+     */
+    public static synchronized long getAggregatedCount() {
+        return aggregatedCount;
+    }
+
+    /**
+     * @return number of final steps fallen back to the combiner table since
+     *         server start
+     */
+    public static synchronized long getFallbackCount() {
+        return fallbackCount;
+    }
+
+    /**
+     * @return number of rows aggregated on coordinator since server start
+     */
+    public static synchronized long getInputRowCount() {
+        return inputRowCount;
+    }
+
+    /**
+     * @return number of rows passed to final queries after aggregation since
+     *         server start
+     */
+    public static synchronized long getFoldedRowCount() {
+        return foldedRowCount;
+    }
+}
@@ -117,6 +117,9 @@ public class QueryProcessor implements IPreparable, IXDBSql {
 
     private ServerResultSetImpl finalResultSet;
 
+    // Rows of the last step aggregated on coordinator, if any
+    private HashAggregator hashAggregator;
+
     // UNION'ed ResultSets
     private List<ServerResultSetImpl> unionGroup1;
 
@@ -568,6 +571,20 @@ public class QueryProcessor implements IPreparable, IXDBSql {
 
             QueryTimer.stopTimer();
 
+            if (aStepDetail.hashAggregation != null) {
+                HashAggregator aggregator = new HashAggregator(
+                        aStepDetail.hashAggregation, qc);
+                try {
+                    aggregator.aggregate(aMultinodeExecutor
+                            .getFinalResultSets());
+                } catch (SQLException se) {
+                    throw new XDBServerException(
+                            se.getMessage() + "\nQUERY: " + aStepDetail.queryString,
+                            se, ErrorMessageRepository.SQL_EXEC_FAILURE_CODE);
+                }
+                hashAggregator = aggregator;
+            }
+
             logger.debug("+++++ Combiner Row Count = " + qc.getRowCount());
 
             // See if this was combined on coordinator and we need to send it
@@ -615,14 +632,25 @@ public class QueryProcessor implements IPreparable, IXDBSql {
         logger.entering(method);
 
         try {
+            Collection<String> dropList = coordStepDetail.dropList;
+            ResultSet coordResultSet = null;
+            if (hashAggregator != null) {
+                coordResultSet = hashAggregator.getFinalResultSet(queryString);
+                if (coordResultSet == null) {
+                    queryString = hashAggregator.getFinalQuery(queryString);
+                }
+                dropList = hashAggregator.getCoordinatorDropList(dropList);
+                hashAggregator = null;
+            }
             logger.debug("Query = " + queryString);
 
             QueryCombiner qc = new QueryCombiner(client, null);
-            ResultSet coordResultSet = null;
             try {
-                coordResultSet = qc.queryOnCoord(queryString);
+                if (coordResultSet == null) {
+                    coordResultSet = qc.queryOnCoord(queryString);
+                }
             } catch (XDBServerException xe) {
-                qc.dropTempTables(coordStepDetail.dropList);
+                qc.dropTempTables(dropList);
                 throw xe;
             }
             // Use ServerResultSetImpl so that we can drop temp tables later
@@ -631,7 +659,7 @@ public class QueryProcessor implements IPreparable, IXDBSql {
                     aQueryPlan.getLimit(), aQueryPlan.getOffset(),
                     new XDBResultSetMetaData(aQueryPlan.getMetaData()));
 
-            finalResultSet.setFinalCoordTempTableList(coordStepDetail.dropList);
+            finalResultSet.setFinalCoordTempTableList(dropList);
             finalResultSet.setFinalNodeTempTableList(null);
 
             if (unionResultGroup > 0) {
@@ -707,6 +735,7 @@ public class QueryProcessor implements IPreparable, IXDBSql {
             }
             finalResultSet = null;
         }
+        hashAggregator = null;
     }
 
     /**
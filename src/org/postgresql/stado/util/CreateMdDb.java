@@ -55,8 +55,10 @@ import org.postgresql.stado.common.util.ParseCmdLine;
 import org.postgresql.stado.common.util.Property;
 import org.postgresql.stado.common.util.Props;
 import org.postgresql.stado.exception.XDBServerException;
+import org.postgresql.stado.metadata.CatalogLoader;
 import org.postgresql.stado.metadata.MetaData;
 import org.postgresql.stado.metadata.NodeDBConnectionInfo;
+import org.postgresql.stado.metadata.SysColumnStats;
 import org.postgresql.stado.metadata.SysLogin;
 
 
@@ -158,6 +160,8 @@ public class CreateMdDb {
                     + " primary key (colid)" + ")",
             "alter table xsyscolumns"
                     + " add foreign key (tableid) references xsystables (tableid)",
+            SysColumnStats.CREATE_TABLE,
+            CatalogLoader.CREATE_VERSION_TABLE,
             "create unique index idx_xsyscolumns_1"
                     + " on xsyscolumns (tableid, colseq)",
             "create table xsysindexes (" + " idxid int not null,"